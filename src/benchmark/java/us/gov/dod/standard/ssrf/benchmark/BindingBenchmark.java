@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFProperties;
+import us.gov.dod.standard.ssrf.SSRFUtility;
+import us.gov.dod.standard.ssrf._3_1.Contact;
+import us.gov.dod.standard.ssrf._3_1.Role;
+
+/**
+ * Marshal and unmarshal throughput of the cached binding runtime on one and on
+ * four threads. All threads share the binding context; each uses its own
+ * pooled Marshaller or Unmarshaller, so the four thread throughput should
+ * scale with the number of cores (up to four). Run with "-t N" to measure
+ * other thread counts.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BindingBenchmark {
+
+  /**
+   * The number of Role data sets in the message.
+   */
+  @Param({"100", "10000"})
+  public int roles;
+
+  private SSRF ssrf;
+  private String xml;
+
+  /**
+   * Build and prepare the message once. The marshal benchmarks then only read
+   * the message, so that it can be shared by all threads.
+   */
+  @Setup
+  public void setUp() throws Exception {
+    ssrf = new SSRF().withProperties(SSRFProperties.getDefault());
+    Role owner = null;
+    for (int i = 0; i < roles; i++) {
+      owner = new Role().withName("Role " + i);
+      ssrf.withRole(owner);
+    }
+    ssrf.withContact(new Contact().withFirstName("John").withLastName("Doe").withOwnerRole(owner));
+    xml = ssrf.toXML();
+  }
+
+  @Benchmark
+  public String marshal() throws Exception {
+    return SSRFUtility.marshal(ssrf);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String marshalThreads4() throws Exception {
+    return SSRFUtility.marshal(ssrf);
+  }
+
+  @Benchmark
+  public SSRF fromXml() throws Exception {
+    return SSRF.fromXml(xml);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public SSRF fromXmlThreads4() throws Exception {
+    return SSRF.fromXml(xml);
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import us.gov.dod.standard.ssrf.IncrementalValidator;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFProperties;
+import us.gov.dod.standard.ssrf.SSRFUtility;
+import us.gov.dod.standard.ssrf._3_1.Contact;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+
+/**
+ * Full and incremental evaluation of a message in which every
+ * Location and Contact references one shared Role and the Role references
+ * every Contact.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncrementalValidationBenchmark {
+
+  /**
+   * The number of Location and of Contact data sets in the message.
+   */
+  @Param({"1000"})
+  public int count;
+
+  private SSRF ssrf;
+  private Point point;
+  private IncrementalValidator validator;
+  private int edit;
+
+  @Setup
+  public void setUp() {
+    ssrf = new SSRF();
+    Role role = new Role().withName("Boss");
+    ssrf.withRole(role);
+    for (int i = 0; i < count; i++) {
+      point = new Point().withIdx(ssrf.nextIdx()).withLat(38.5).withLon(-77.25);
+      ssrf.withLocation(new Location().withName("HQ" + i).withPoint(point).withOwnerRole(role));
+      Contact contact = new Contact().withFirstName("John").withLastName("Doe " + i).withOwnerRole(role);
+      role.withContact(contact);
+      ssrf.withContact(contact);
+    }
+    SSRFUtility.prepare(ssrf);
+    SSRFUtility.setProperties(SSRFProperties.getDefault(), ssrf);
+    validator = new IncrementalValidator(ssrf);
+    validator.evaluate();
+  }
+
+  @TearDown
+  public void tearDown() {
+    validator.close();
+  }
+
+  @Benchmark
+  public Set<String> evaluate() {
+    return SSRFUtility.evaluate(ssrf);
+  }
+
+  /**
+   * Edit one Point, then evaluate only what the edit invalidated.
+   */
+  @Benchmark
+  public Set<String> evaluateIncremental() {
+    point.withLat(edit++ % 2 == 0 ? 38.25 : 38.5);
+    return validator.evaluate();
+  }
+}
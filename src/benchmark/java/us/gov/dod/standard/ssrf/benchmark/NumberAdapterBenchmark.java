@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.benchmark;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterALTITUDE;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterAZ;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterDBW;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterELEV;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterFREQH;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterFREQM;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterPERCENT;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterSN9_8;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterUN6;
+
+/**
+ * Marshal and unmarshal time of the number adapters. The adapters cover
+ * unbounded, bounded and signed ranges with zero to eight fraction digits.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberAdapterBenchmark {
+
+  private final XmlAdapterFREQM freqm = new XmlAdapterFREQM();
+  private final XmlAdapterDBW dbw = new XmlAdapterDBW();
+  private final XmlAdapterAZ az = new XmlAdapterAZ();
+  private final XmlAdapterUN6 un6 = new XmlAdapterUN6();
+  private final XmlAdapterFREQH freqh = new XmlAdapterFREQH();
+  private final XmlAdapterALTITUDE altitude = new XmlAdapterALTITUDE();
+  private final XmlAdapterPERCENT percent = new XmlAdapterPERCENT();
+  private final XmlAdapterELEV elev = new XmlAdapterELEV();
+  private final XmlAdapterSN9_8 sn98 = new XmlAdapterSN9_8();
+
+  private final BigDecimal frequency = new BigDecimal("225.123456789");
+  private final BigDecimal power = new BigDecimal("-120.5");
+  private final BigDecimal azimuth = new BigDecimal("359.99");
+  private final BigInteger count = new BigInteger("123456");
+  private final BigDecimal hertz = new BigDecimal("225000000.5");
+  private final BigDecimal height = new BigDecimal("12345.67");
+  private final BigDecimal share = new BigDecimal("99.5");
+  private final BigDecimal elevation = new BigDecimal("-45.25");
+  private final BigDecimal ratio = new BigDecimal("-3.14159265");
+
+  @Benchmark
+  public String marshalFREQM() throws Exception {
+    return freqm.marshal(frequency);
+  }
+
+  @Benchmark
+  public String marshalDBW() throws Exception {
+    return dbw.marshal(power);
+  }
+
+  @Benchmark
+  public String marshalAZ() throws Exception {
+    return az.marshal(azimuth);
+  }
+
+  @Benchmark
+  public String marshalUN6() throws Exception {
+    return un6.marshal(count);
+  }
+
+  @Benchmark
+  public String marshalFREQH() throws Exception {
+    return freqh.marshal(hertz);
+  }
+
+  @Benchmark
+  public String marshalALTITUDE() throws Exception {
+    return altitude.marshal(height);
+  }
+
+  @Benchmark
+  public String marshalPERCENT() throws Exception {
+    return percent.marshal(share);
+  }
+
+  @Benchmark
+  public String marshalELEV() throws Exception {
+    return elev.marshal(elevation);
+  }
+
+  @Benchmark
+  public String marshalSN9_8() throws Exception {
+    return sn98.marshal(ratio);
+  }
+
+  @Benchmark
+  public Number unmarshalFREQM() throws Exception {
+    return freqm.unmarshal("225.123456789");
+  }
+
+  @Benchmark
+  public Number unmarshalDBW() throws Exception {
+    return dbw.unmarshal("-120.5");
+  }
+
+  @Benchmark
+  public Number unmarshalAZ() throws Exception {
+    return az.unmarshal("359.99");
+  }
+
+  @Benchmark
+  public Number unmarshalUN6() throws Exception {
+    return un6.unmarshal("123456");
+  }
+
+  @Benchmark
+  public Number unmarshalFREQH() throws Exception {
+    return freqh.unmarshal("225000000.5");
+  }
+
+  @Benchmark
+  public Number unmarshalALTITUDE() throws Exception {
+    return altitude.unmarshal("12345.67");
+  }
+
+  @Benchmark
+  public Number unmarshalPERCENT() throws Exception {
+    return percent.unmarshal("99.5");
+  }
+
+  @Benchmark
+  public Number unmarshalELEV() throws Exception {
+    return elev.unmarshal("-45.25");
+  }
+
+  @Benchmark
+  public Number unmarshalSN9_8() throws Exception {
+    return sn98.unmarshal("-3.14159265");
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFProperties;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+
+/**
+ * Read time of a multi-megabyte message with the parallel unmarshal mode at
+ * several degrees of parallelism. A parallelism of one is the single-threaded
+ * {@link SSRF#fromXml(ByteBuffer)}.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelUnmarshalBenchmark {
+
+  /**
+   * The number of Location data sets in the message. Each Location references
+   * one of a hundred Roles.
+   */
+  @Param({"10000"})
+  public int locations;
+
+  /**
+   * The degree of parallelism. A value of one reads the buffer on the calling
+   * thread.
+   */
+  @Param({"1", "2", "4"})
+  public int parallelism;
+
+  private byte[] bytes;
+
+  @Setup
+  public void setUp() throws Exception {
+    SSRF ssrf = new SSRF().withProperties(SSRFProperties.getDefault());
+    Role[] roles = new Role[100];
+    for (int i = 0; i < roles.length; i++) {
+      roles[i] = new Role().withName("Role " + i);
+      ssrf.withRole(roles[i]);
+    }
+    for (int i = 0; i < locations; i++) {
+      Point point = new Point().withIdx(ssrf.nextIdx()).withLat(38.5 + i * 0.0001).withLon(-77.25);
+      ssrf.withLocation(new Location().withName("HQ " + i).withPoint(point).withOwnerRole(roles[i % roles.length]));
+    }
+    bytes = ssrf.toXML().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public SSRF fromXml() throws Exception {
+    return SSRF.fromXml(ByteBuffer.wrap(bytes), parallelism);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFProperties;
+import us.gov.dod.standard.ssrf.SSRFUtility;
+import us.gov.dod.standard.ssrf._3_1.Contact;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+
+/**
+ * Evaluation time of a message with the top-level data sets evaluated on one
+ * thread and fanned out to a ForkJoinPool of several threads.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelValidationBenchmark {
+
+  /**
+   * The number of Location and of Contact data sets in the message.
+   */
+  @Param({"10000"})
+  public int count;
+
+  /**
+   * The number of threads. A value of one evaluates on the calling thread.
+   */
+  @Param({"1", "2", "4"})
+  public int parallelism;
+
+  private SSRF ssrf;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setUp() {
+    ssrf = new SSRF();
+    for (int i = 0; i < count; i++) {
+      Role role = new Role().withName("Role " + i);
+      ssrf.withRole(role);
+      Point point = new Point().withIdx(ssrf.nextIdx()).withLat(38.5).withLon(-77.25);
+      ssrf.withLocation(new Location().withName("HQ " + i).withPoint(point).withOwnerRole(role));
+      ssrf.withContact(new Contact().withFirstName("John").withLastName("Doe " + i).withOwnerRole(role));
+    }
+    SSRFUtility.prepare(ssrf);
+    SSRFUtility.setProperties(SSRFProperties.getDefault(), ssrf);
+    pool = new ForkJoinPool(parallelism);
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public Set<String> evaluate() {
+    return parallelism <= 1
+           ? SSRFUtility.evaluate(ssrf)
+           : SSRFUtility.evaluateParallel(ssrf, pool);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.*;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterLAT;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterLON;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterSERIAL;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlPatterns;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterDAYSOFWEEK;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterEMSDES;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterHOURS;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+
+/**
+ * The hand-written SERIAL, EMSDES and LAT matchers compared with the regular
+ * expressions they replace, and the unmarshal time of each adapter whose
+ * patterns are now compiled once (SERIAL, EMSDES, LAT, LON, HOURS and
+ * DAYSOFWEEK). The "Recompiled" benchmarks compile the HOURS pattern for each
+ * value, as the adapters did before the pattern registry.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternBenchmark {
+
+  private static final Pattern SERIAL = Pattern.compile(XmlPatterns.SERIAL);
+  private static final Pattern EMSDES = Pattern.compile("(A|B|C|D|F|G|H|J|K|L|M|N|P|Q|R|V|W|X|-)(0|1|2|3|7|8|9|X|-)(A|B|C|D|E|F|N|W|X|-)(A|B|C|D|E|F|G|H|J|K|L|M|N|W|X)?(C|F|N|T|W|X)?");
+
+  private static final String HOURS_REGEX = "(([12]?\\d(-[12]?\\d(/\\d+)?)?)|(\\*/\\d+))(,([12]?\\d(-[12]?\\d(/\\d+)?)?)|(,\\*/\\d+))*";
+
+  private final XmlAdapterLAT lat = new XmlAdapterLAT();
+  private final XmlAdapterLON lon = new XmlAdapterLON();
+  private final XmlAdapterSERIAL serialAdapter = new XmlAdapterSERIAL();
+  private final XmlAdapterEMSDES emsdesAdapter = new XmlAdapterEMSDES();
+  private final XmlAdapterHOURS hours = new XmlAdapterHOURS();
+  private final XmlAdapterDAYSOFWEEK daysOfWeek = new XmlAdapterDAYSOFWEEK();
+
+  private final String serial = "USA:AF:LO:KBG79SJ00000005";
+  private final String emsdes = "F3EJN";
+
+  @Benchmark
+  public String[] splitSerial() {
+    return XmlPatterns.splitSerial(serial);
+  }
+
+  @Benchmark
+  public String[] splitSerialRegex() {
+    Matcher m = SERIAL.matcher(serial);
+    return m.find() ? new String[]{m.group(1), m.group(2), m.group(3), m.group(4)} : null;
+  }
+
+  @Benchmark
+  public boolean findEMSDES() {
+    return XmlPatterns.findEMSDES(emsdes);
+  }
+
+  @Benchmark
+  public boolean findEMSDESRegex() {
+    return EMSDES.matcher(emsdes).find();
+  }
+
+  @Benchmark
+  public Number unmarshalLAT() throws Exception {
+    return lat.unmarshal("385030N");
+  }
+
+  @Benchmark
+  public Number unmarshalLON() throws Exception {
+    return lon.unmarshal("0771500W");
+  }
+
+  @Benchmark
+  public String unmarshalSERIAL() throws Exception {
+    return serialAdapter.unmarshal(serial);
+  }
+
+  @Benchmark
+  public Serial parseSerial() {
+    return new Serial(serial);
+  }
+
+  @Benchmark
+  public String unmarshalEMSDES() throws Exception {
+    return emsdesAdapter.unmarshal(emsdes);
+  }
+
+  @Benchmark
+  public String unmarshalHOURS() throws Exception {
+    return hours.unmarshal("8-17,20");
+  }
+
+  @Benchmark
+  public boolean matchHOURSRecompiled() {
+    return Pattern.compile(HOURS_REGEX).matcher("8-17,20").matches();
+  }
+
+  @Benchmark
+  public String unmarshalDAYSOFWEEK() throws Exception {
+    return daysOfWeek.unmarshal("1-5");
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFProperties;
+import us.gov.dod.standard.ssrf.SSRFSnapshot;
+import us.gov.dod.standard.ssrf._3_1.Contact;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+
+/**
+ * Read and write time of a binary snapshot compared with the SSRF XML document
+ * of the same message. Every Location references a shared Role so that reads
+ * include the reference resolution of the post-load.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+  /**
+   * The number of Location data sets in the message.
+   */
+  @Param({"100", "2000"})
+  public int locations;
+
+  private SSRF ssrf;
+  private String xml;
+  private byte[] snapshot;
+
+  @Setup
+  public void setUp() throws Exception {
+    ssrf = new SSRF().withProperties(SSRFProperties.getDefault());
+    Role role = new Role().withName("Boss");
+    ssrf.withRole(role);
+    ssrf.withContact(new Contact().withFirstName("John").withLastName("Doe").withOwnerRole(role));
+    for (int i = 0; i < locations; i++) {
+      Point point = new Point().withIdx(ssrf.nextIdx()).withLat(38.5 + i * 0.001).withLon(-77.25);
+      ssrf.withLocation(new Location().withName("HQ " + i).withPoint(point).withOwnerRole(role));
+    }
+    xml = ssrf.toXML();
+    snapshot = SSRFSnapshot.toBytes(ssrf);
+  }
+
+  @Benchmark
+  public SSRF fromXml() throws Exception {
+    return SSRF.fromXml(xml);
+  }
+
+  @Benchmark
+  public SSRF fromBytes() throws Exception {
+    return SSRFSnapshot.fromBytes(snapshot);
+  }
+
+  @Benchmark
+  public String toXML() throws Exception {
+    return ssrf.toXML();
+  }
+
+  @Benchmark
+  public byte[] toBytes() {
+    return SSRFSnapshot.toBytes(ssrf);
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import us.gov.dod.standard.ssrf._3_1.Common;
+
+/**
+ * Change notification for SSRF data set components.
+ * <p>
+ * The setter and unset methods of complex SSRF data set components call
+ * {@link #touch(Common)} with the data set that owns the component. The owner
+ * is recorded on each component by the {@link IncrementalValidator} tracking
+ * its message, so change tracking is scoped to that message: components of
+ * untracked data sets have no owner and {@link #touch(Common)} returns
+ * immediately. Data sets mark themselves dirty directly (see
+ * {@link us.gov.dod.standard.ssrf._3_1.Common#markDirty()}).
+ * <p>
+ * Data item (AMetadata) values do not record an owner, so that the most
+ * numerous objects in a message carry no tracking state. Edits are tracked at
+ * the level of the data set or component field holding the data item value.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public final class ChangeTracker {
+
+  private ChangeTracker() {
+  }
+
+  /**
+   * Record that a data set component was changed.
+   *
+   * @param dataset the data set owning the changed component, or null if the
+   *                component is not tracked
+   */
+  public static void touch(Common<?> dataset) {
+    if (dataset != null) {
+      dataset.markDirty();
+    }
+  }
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.metadata.MetadataAttributes;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
+
+/**
+ * Precomputed reflection plan for a SSRF class.
+ * <p>
+ * The SSRFUtility validate and evaluate methods walk every field of every
+ * object in a SSRF object graph. Inspecting a class (finding its declared and
+ * inherited fields, enabling access and scanning field annotations) is far
+ * more expensive than reading the field values, so each class is inspected
+ * once and the result is cached here for the life of the class.
+ * <p>
+ * Fields are recorded in the same order as returned by
+ * {@link SSRFUtility#findDeclaredAndInheritedFields(Class)} so that the
+ * validation order, and therefore the first reported error, is unchanged.
+ * Static and transient fields are not recorded. The fields of the optional
+ * metadata attribute side-car ({@link MetadataAttributes}) are recorded as
+ * fields of the owning class. The transient owning data set reference used
+ * for change tracking (see {@link ChangeTracker}) is recorded separately.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+final class ClassPlan {
+
+  /**
+   * The plan for each class, computed on first use.
+   */
+  private static final ClassValue<ClassPlan> PLANS = new ClassValue<ClassPlan>() {
+
+    @Override
+    protected ClassPlan computeValue(Class<?> type) {
+      return new ClassPlan(type);
+    }
+  };
+
+  /**
+   * One shared XmlJavaTypeAdapter instance per adapter class. The SSRF
+   * adapters are stateless (or internally synchronized) and may be shared.
+   */
+  private static final ConcurrentMap<Class<?>, XmlAdapter<?, ?>> ADAPTERS = new ConcurrentHashMap<>();
+
+  /**
+   * Indicator that instances of the class should be inspected. FALSE for
+   * enumerated classes and for classes outside the SSRF package.
+   */
+  private final boolean inspected;
+  /**
+   * All instance fields, in inspection order.
+   */
+  private final FieldPlan[] fields;
+  /**
+   * The subset of fields holding a classification (ListCCL) value.
+   */
+  private final FieldPlan[] classificationFields;
+  /**
+   * The transient field referencing the data set owning an instance, with
+   * access enabled. Null if the class does not record its owner.
+   */
+  private final Field ownerField;
+
+  /**
+   * Inspect a class and build its plan.
+   *
+   * @param clazz the class type to inspect
+   */
+  private ClassPlan(Class<?> clazz) {
+    this.inspected = !clazz.isEnum() && clazz.getName().startsWith(SSRFUtility.SSRF_PACKAGE);
+    List<FieldPlan> fieldList = new ArrayList<>();
+    List<FieldPlan> classificationList = new ArrayList<>();
+    Field owner = null;
+    if (inspected) {
+      for (Field field : SSRFUtility.findDeclaredAndInheritedFields(clazz)) {
+        if (Modifier.isStatic(field.getModifiers())) {
+          continue;
+        }
+        if (Modifier.isTransient(field.getModifiers())) {
+          if (Common.class.equals(field.getType())) {
+            field.setAccessible(true);
+            owner = field;
+          }
+          continue;
+        }
+        if (MetadataAttributes.class.equals(field.getType())) {
+          /**
+           * Inspect the optional metadata attributes as if they were declared
+           * in the class. The side-car instance is an implementation detail.
+           */
+          field.setAccessible(true);
+          for (Field attribute : MetadataAttributes.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(attribute.getModifiers()) && !Modifier.isTransient(attribute.getModifiers())) {
+              fieldList.add(new FieldPlan(field, attribute));
+            }
+          }
+          continue;
+        }
+        FieldPlan fieldPlan = new FieldPlan(field);
+        fieldList.add(fieldPlan);
+        if (field.getType().equals(ListCCL.class)) {
+          classificationList.add(fieldPlan);
+        }
+      }
+    }
+    this.fields = fieldList.toArray(new FieldPlan[fieldList.size()]);
+    this.classificationFields = classificationList.toArray(new FieldPlan[classificationList.size()]);
+    this.ownerField = owner;
+  }
+
+  /**
+   * Get the plan for a class.
+   *
+   * @param clazz the class type
+   * @return the class plan
+   */
+  static ClassPlan get(Class<?> clazz) {
+    return PLANS.get(clazz);
+  }
+
+  /**
+   * Determine if instances of the class should be inspected.
+   *
+   * @return FALSE for enumerated classes and for classes outside the SSRF
+   *         package
+   */
+  boolean isInspected() {
+    return inspected;
+  }
+
+  /**
+   * Get all instance fields, in inspection order.
+   *
+   * @return the field plans. Do not modify.
+   */
+  FieldPlan[] getFields() {
+    return fields;
+  }
+
+  /**
+   * Get the fields holding a classification (ListCCL) value.
+   *
+   * @return the field plans. Do not modify.
+   */
+  FieldPlan[] getClassificationFields() {
+    return classificationFields;
+  }
+
+  /**
+   * Determine if instances of the class record the data set owning them.
+   * Complex data set components do; data item (AMetadata) values do not.
+   *
+   * @return TRUE if the class declares or inherits an owner field
+   */
+  boolean recordsOwner() {
+    return ownerField != null;
+  }
+
+  /**
+   * Get the data set owning an instance of the class.
+   *
+   * @param instance the object instance
+   * @return the owning data set. Null if none is recorded or the class does
+   *         not record its owner.
+   */
+  Common<?> getOwner(Object instance) {
+    if (ownerField == null) {
+      return null;
+    }
+    try {
+      return (Common<?>) ownerField.get(instance);
+    } catch (IllegalAccessException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Set the data set owning an instance of the class. Does nothing if the
+   * class does not record its owner.
+   *
+   * @param instance the object instance
+   * @param owner    the owning data set. May be null.
+   */
+  void setOwner(Object instance, Common<?> owner) {
+    if (ownerField == null) {
+      return;
+    }
+    try {
+      ownerField.set(instance, owner);
+    } catch (IllegalAccessException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * Get the shared instance of an XmlJavaTypeAdapter class, creating it on
+   * first use.
+   *
+   * @param adapterClass the adapter class
+   * @return the shared adapter instance
+   * @throws ReflectiveOperationException if the adapter cannot be
+   *                                      instantiated
+   */
+  @SuppressWarnings("rawtypes")
+  private static XmlAdapter<?, ?> getSharedAdapter(Class<? extends XmlAdapter> adapterClass) throws ReflectiveOperationException {
+    XmlAdapter<?, ?> adapter = ADAPTERS.get(adapterClass);
+    if (adapter == null) {
+      adapter = adapterClass.getConstructor().newInstance();
+      XmlAdapter<?, ?> existing = ADAPTERS.putIfAbsent(adapterClass, adapter);
+      if (existing != null) {
+        adapter = existing;
+      }
+    }
+    return adapter;
+  }
+
+  /**
+   * Precomputed reflection plan for a single field.
+   */
+  static final class FieldPlan {
+
+    /**
+     * The field holding the object that declares the field, with access
+     * enabled. Null if the field is declared by the inspected class (the usual
+     * case). See {@link MetadataAttributes}.
+     */
+    private final Field holder;
+    /**
+     * The field, with access enabled.
+     */
+    private final Field field;
+    /**
+     * The getter through which the field is bound to XML. Null if the field
+     * itself is bound (the usual case). See
+     * {@link SSRFUtility#findBoundGetter(Field)}.
+     */
+    private final Method getter;
+    /**
+     * Indicator that the field is marked REQUIRED.
+     */
+    private final boolean required;
+    /**
+     * Indicator that the field type is a Collection.
+     */
+    private final boolean collection;
+    /**
+     * The shared field XmlJavaTypeAdapter instance. Null if the field has no
+     * adapter or the adapter cannot be instantiated.
+     */
+    private final XmlAdapter<Object, Object> adapter;
+    /**
+     * The error raised when the adapter was instantiated. Null if none.
+     */
+    private final Exception adapterError;
+
+    /**
+     * Inspect a field and build its plan.
+     *
+     * @param field the field to inspect
+     */
+    private FieldPlan(Field field) {
+      this(null, field);
+    }
+
+    /**
+     * Inspect a field of an object held in another field and build its plan.
+     *
+     * @param holder the field holding the object declaring the field. May be
+     *               null.
+     * @param field  the field to inspect
+     */
+    @SuppressWarnings("unchecked")
+    private FieldPlan(Field holder, Field field) {
+      field.setAccessible(true);
+      this.holder = holder;
+      this.field = field;
+      this.getter = SSRFUtility.findBoundGetter(field);
+      /**
+       * A field bound through a getter is annotated on the getter.
+       */
+      AnnotatedElement annotated = getter != null ? getter : field;
+      this.required = SSRFUtility.isRequired(annotated);
+      this.collection = Collection.class.isAssignableFrom(field.getType());
+      XmlAdapter<?, ?> instance = null;
+      Exception error = null;
+      for (Annotation annotation : annotated.getAnnotations()) {
+        if (annotation instanceof XmlJavaTypeAdapter) {
+          try {
+            instance = getSharedAdapter(((XmlJavaTypeAdapter) annotation).value());
+          } catch (ReflectiveOperationException | SecurityException ex) {
+            error = ex;
+          }
+        }
+      }
+      this.adapter = (XmlAdapter<Object, Object>) instance;
+      this.adapterError = error;
+    }
+
+    /**
+     * Get the field.
+     *
+     * @return the field, with access enabled
+     */
+    Field getField() {
+      return field;
+    }
+
+    /**
+     * Get the field value from an object instance. A field bound through a
+     * getter is read through the getter (i.e. in its XML form).
+     *
+     * @param instance the object instance
+     * @return the field value
+     * @throws IllegalAccessException if the field cannot be read
+     */
+    Object get(Object instance) throws IllegalAccessException {
+      if (holder != null) {
+        instance = holder.get(instance);
+        if (instance == null) {
+          return null;
+        }
+      }
+      if (getter == null) {
+        return field.get(instance);
+      }
+      try {
+        return getter.invoke(instance);
+      } catch (InvocationTargetException ex) {
+        throw new IllegalStateException(ex.getCause());
+      }
+    }
+
+    /**
+     * Determine if the field is marked REQUIRED.
+     *
+     * @return TRUE if the field is required
+     */
+    boolean isRequired() {
+      return required;
+    }
+
+    /**
+     * Determine if the field type is a Collection.
+     *
+     * @return TRUE if the field type is a Collection
+     */
+    boolean isCollection() {
+      return collection;
+    }
+
+    /**
+     * Determine if the field has (or declares) an XmlJavaTypeAdapter.
+     *
+     * @return TRUE if the field is annotated with an XmlJavaTypeAdapter
+     */
+    boolean hasAdapter() {
+      return adapter != null || adapterError != null;
+    }
+
+    /**
+     * Get the shared instance of the field XmlJavaTypeAdapter.
+     *
+     * @return the shared adapter instance
+     * @throws ReflectiveOperationException if the adapter cannot be
+     *                                      instantiated
+     * @throws SecurityException            if the adapter constructor is not
+     *                                      accessible
+     */
+    XmlAdapter<Object, Object> getAdapter() throws ReflectiveOperationException {
+      if (adapterError instanceof RuntimeException) {
+        throw (RuntimeException) adapterError;
+      } else if (adapterError != null) {
+        throw (ReflectiveOperationException) adapterError;
+      }
+      return adapter;
+    }
+  }
+}
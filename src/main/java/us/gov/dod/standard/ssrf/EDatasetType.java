@@ -132,6 +132,23 @@ public enum EDatasetType {
    */
   TX(Transmitter.class);
 
+  /**
+   * The serial number data type of each class type, computed on first use.
+   * This lookup is made by every {@link Common} constructor.
+   */
+  private static final ClassValue<EDatasetType> TYPES = new ClassValue<EDatasetType>() {
+
+    @Override
+    protected EDatasetType computeValue(Class<?> type) {
+      for (EDatasetType eSerialType : EDatasetType.values()) {
+        if (eSerialType.getClazz().equals(type)) {
+          return eSerialType;
+        }
+      }
+      return null;
+    }
+  };
+
   /**
    * The class type.
    */
@@ -150,6 +167,23 @@ public enum EDatasetType {
     return clazz;
   }
 
+  /**
+   * Get a serial number data type from the class simple name. The class simple
+   * name is also the XML element name of the data type within the SSRF root
+   * element (e.g. "Assignment").
+   *
+   * @param classSimpleName the class simple name
+   * @return the serial number data type code, null if no match is found
+   */
+  public static EDatasetType fromClassSimpleName(String classSimpleName) {
+    for (EDatasetType eSerialType : EDatasetType.values()) {
+      if (eSerialType.getClassSimpleName().equals(classSimpleName)) {
+        return eSerialType;
+      }
+    }
+    return null;
+  }
+
   /**
    * Get a serial number data type from an object instance. This method is used
    * within the {@link Common} constructor to automatically build a serial
@@ -171,12 +205,7 @@ public enum EDatasetType {
    * @return the serial number data type code
    */
   public static EDatasetType fromInstance(Class<?> clazz) {
-    for (EDatasetType eSerialType : EDatasetType.values()) {
-      if (eSerialType.getClazz().equals(clazz)) {
-        return eSerialType;
-      }
-    }
-    return null;
+    return TYPES.get(clazz);
   }
 
   /**
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.PropertyException;
+
+/**
+ * Enumerated list of XML output profiles.
+ * <p>
+ * Each profile describes one {@link Marshaller} configuration. The
+ * {@link SSRFBinding} runtime keeps one pre-configured marshaller per profile
+ * (per thread) so that marshaller properties are set only once.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public enum EMarshalProfile {
+
+  /**
+   * Pretty-print. Newlines and indentation are added to the output. This helps
+   * visually inspect the output and is the historical default.
+   */
+  PRETTY(true, false),
+  /**
+   * Compact. No whitespace is added to the output. This produces the smallest
+   * document and is preferred for machine-to-machine exchange.
+   */
+  COMPACT(false, false),
+  /**
+   * Fragment. Compact output with no XML declaration. Used to write individual
+   * data sets into an enclosing SSRF document (e.g. by
+   * {@link SSRFStreamWriter}).
+   */
+  FRAGMENT(false, true);
+
+  /**
+   * Indicator that the marshaller should format (indent) the output.
+   */
+  private final boolean formatted;
+  /**
+   * Indicator that the marshaller should omit the XML declaration and
+   * document events.
+   */
+  private final boolean fragment;
+
+  private EMarshalProfile(boolean formatted, boolean fragment) {
+    this.formatted = formatted;
+    this.fragment = fragment;
+  }
+
+  /**
+   * Determine if this profile produces formatted (indented) output.
+   *
+   * @return TRUE if the output is formatted
+   */
+  public boolean isFormatted() {
+    return formatted;
+  }
+
+  /**
+   * Determine if this profile produces a document fragment.
+   *
+   * @return TRUE if the output is a fragment
+   */
+  public boolean isFragment() {
+    return fragment;
+  }
+
+  /**
+   * Apply this profile configuration to a marshaller instance.
+   *
+   * @param marshaller the marshaller to configure
+   * @throws PropertyException if the marshaller does not support a property
+   */
+  void configure(Marshaller marshaller) throws PropertyException {
+    marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formatted);
+    marshaller.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
+    marshaller.setProperty(Marshaller.JAXB_FRAGMENT, fragment);
+  }
+}
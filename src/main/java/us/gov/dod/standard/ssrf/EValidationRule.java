@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import us.gov.dod.standard.ssrf._3_1.adapter.EXmlViolation;
+
+/**
+ * Enumerated list of SSRF validation rules.
+ * <p>
+ * Each {@link ValidationIssue} identifies the rule that was broken. Issues may
+ * be counted by rule to summarize a validation (see
+ * {@link ValidationReport#getIssueCount(EValidationRule)}).
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public enum EValidationRule {
+
+  /**
+   * A required field is not configured.
+   */
+  REQUIRED,
+  /**
+   * A classification is less restrictive than its parent classification.
+   */
+  CLASSIFICATION,
+  /**
+   * A string value is shorter than the minimum length.
+   */
+  MIN_LENGTH,
+  /**
+   * A string value is longer than the maximum length.
+   */
+  MAX_LENGTH,
+  /**
+   * A string value does not match the required pattern.
+   */
+  PATTERN,
+  /**
+   * A number value is less than the minimum value.
+   */
+  MIN_VALUE,
+  /**
+   * A number value is greater than the maximum value.
+   */
+  MAX_VALUE,
+  /**
+   * A number value has more significant digits than allowed.
+   */
+  MAX_DIGITS,
+  /**
+   * A value was rejected by its XmlJavaTypeAdapter for another reason.
+   */
+  FORMAT,
+  /**
+   * A value or element could not be read from the XML document.
+   */
+  PARSE;
+
+  /**
+   * Get the validation rule corresponding to an XmlAdapter violation.
+   *
+   * @param violation the XmlAdapter violation
+   * @return the corresponding validation rule
+   */
+  public static EValidationRule fromViolation(EXmlViolation violation) {
+    switch (violation) {
+      case MIN_LENGTH:
+        return MIN_LENGTH;
+      case MAX_LENGTH:
+        return MAX_LENGTH;
+      case PATTERN:
+        return PATTERN;
+      case MIN_VALUE:
+        return MIN_VALUE;
+      case MAX_VALUE:
+        return MAX_VALUE;
+      case MAX_DIGITS:
+        return MAX_DIGITS;
+      default:
+        return FORMAT;
+    }
+  }
+}
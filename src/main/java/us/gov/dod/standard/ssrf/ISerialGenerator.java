@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+/**
+ * Interface describing a SSRF SERIAL number generator.
+ * <p>
+ * A generator produces the Serial Identifier (part 4) of each SERIAL number
+ * assigned to a new data set. The country, organisation and data set type
+ * parts are set by the Serial itself.
+ * <p>
+ * Implementations must be thread safe. Each identifier must contain one to
+ * fifteen non-whitespace characters and should be unique for the data set
+ * type within the domain.
+ * <p>
+ * Use {@link SerialGenerator#setDefault(ISerialGenerator)} to configure the
+ * generator globally or
+ * {@link SSRF#withSerialGenerator(ISerialGenerator)} to configure the
+ * generator for the data sets created by a SSRF message.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public interface ISerialGenerator {
+
+  /**
+   * Generate a new Serial Identifier.
+   *
+   * @param datasetType the data set type. May be null if the type is not
+   *                    known.
+   * @return a one to fifteen character Serial Identifier
+   */
+  public String next(EDatasetType datasetType);
+}
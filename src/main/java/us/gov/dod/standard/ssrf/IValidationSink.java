@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+/**
+ * Interface describing a receiver of SSRF validation issues.
+ * <p>
+ * Issues are delivered one at a time, as they are found, by
+ * {@link SSRFUtility#evaluate(Object, IValidationSink)}. A sink may stream the
+ * issues elsewhere (e.g. to a log or a file) without holding them in memory.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public interface IValidationSink {
+
+  /**
+   * Receive a validation issue.
+   *
+   * @param issue the validation issue
+   * @return TRUE to continue the validation, FALSE to stop it
+   */
+  boolean accept(ValidationIssue issue);
+}
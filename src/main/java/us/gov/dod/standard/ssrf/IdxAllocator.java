@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Document-scoped allocator of SSRF "idx" values.
+ * <p>
+ * Index values are UN6 and are allocated from one (1) up to 999,999. They are
+ * unique within the document and are never reused: the allocator does not wrap
+ * around. Values found in the document when it is loaded are reserved (see
+ * {@link #reserve(int)}) so that new values do not collide with them.
+ * <p>
+ * Values are leased to each thread in small blocks so that concurrent builders
+ * do not contend for the shared counter. Values are therefore only ordered
+ * within each thread.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+final class IdxAllocator {
+
+  /**
+   * 999,999. The maximum UN6 index value.
+   */
+  static final int MAX_IDX = 999999;
+  /**
+   * 64. The number of index values leased to a thread at a time.
+   */
+  private static final int BLOCK_SIZE = 64;
+
+  /**
+   * The highest index value leased to any thread or reserved.
+   */
+  private final AtomicInteger sequence = new AtomicInteger();
+  /**
+   * The highest reserved index value.
+   */
+  private final AtomicInteger reserved = new AtomicInteger();
+  /**
+   * The index values leased to each thread: the next value and the (exclusive)
+   * limit.
+   */
+  private final ThreadLocal<int[]> leases = new ThreadLocal<int[]>() {
+
+    @Override
+    protected int[] initialValue() {
+      return new int[2];
+    }
+  };
+
+  /**
+   * Allocate the next index value.
+   *
+   * @return a unique index value between 1 and 999,999
+   * @throws IllegalStateException if all index values are allocated
+   */
+  int next() {
+    int[] lease = leases.get();
+    /**
+     * Skip any leased values that have since been reserved.
+     */
+    int floor = reserved.get();
+    if (lease[0] <= floor) {
+      lease[0] = floor + 1;
+    }
+    if (lease[0] >= lease[1]) {
+      int current;
+      int limit;
+      do {
+        current = sequence.get();
+        if (current >= MAX_IDX) {
+          throw new IllegalStateException("SSRF idx values exhausted. Maximum " + MAX_IDX + " per document.");
+        }
+        limit = Math.min(current + BLOCK_SIZE, MAX_IDX);
+      } while (!sequence.compareAndSet(current, limit));
+      lease[0] = current + 1;
+      lease[1] = limit + 1;
+    }
+    return lease[0]++;
+  }
+
+  /**
+   * Reserve an index value already in use in the document. Subsequent
+   * allocations return values above the highest reserved value.
+   * <p>
+   * Developer note: Reservation is intended to complete before allocation
+   * starts (i.e. when the document is loaded). A value reserved concurrently
+   * with an allocation on another thread may be allocated.
+   *
+   * @param idx the index value in use
+   */
+  void reserve(int idx) {
+    raise(reserved, idx);
+    raise(sequence, idx);
+  }
+
+  /**
+   * Internal helper method to raise a counter to at least the indicated
+   * value.
+   *
+   * @param counter the counter
+   * @param value   the minimum counter value
+   */
+  private static void raise(AtomicInteger counter, int value) {
+    int current = counter.get();
+    while (current < value && !counter.compareAndSet(current, value)) {
+      current = counter.get();
+    }
+  }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.Closeable;
+import java.lang.reflect.Field;
+import java.util.*;
+import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
+
+/**
+ * Incremental SSRF validator for editing sessions.
+ * <p>
+ * The validator evaluates a SSRF message exactly as
+ * {@link SSRFUtility#evaluate(Object)} but caches the error messages of each
+ * top-level data set. On subsequent evaluations only the data sets changed
+ * since the previous evaluation (see {@link Common#markDirty()}), plus the data
+ * sets that reference a changed data set, are evaluated again. Data sets added
+ * to or removed from the SSRF message are detected automatically.
+ * <p>
+ * The validator records the owning data set on each complex component of a
+ * tracked data set, so changes made through the setter and fluent (with)
+ * methods of a data set or component are attributed to the owning data set
+ * (see {@link ChangeTracker}). Tracking is scoped to the SSRF message: open at
+ * most one validator per message at a time. Changes made by other means are
+ * not tracked: e.g. by modifying a collection returned by a getter, or by
+ * modifying a data item value (such as an S50 or a FreqM) in place rather than
+ * setting a new value on its data set or component. Call
+ * {@link Common#markDirty()} on the data set or {@link #invalidate()} after
+ * such a change.
+ * <p>
+ * Unlike {@link SSRF#isValid()} the validator does not assemble (prepare) the
+ * SSRF message. Assemble the message first if required.
+ * <p>
+ * Example use:
+ * <pre>
+ * try (IncrementalValidator validator = new IncrementalValidator(ssrf)) {
+ *   validator.evaluate();             // full evaluation
+ *   location.withName("New name");    // single-field edit
+ *   validator.evaluate();             // evaluates only the edited Location
+ * }
+ * </pre>
+ * <p>
+ * Developer note: This class is not thread safe. Edits and evaluations of a
+ * message must be made on the same thread (or be otherwise synchronized).
+ * Validators of different messages are independent.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class IncrementalValidator implements Closeable {
+
+  /**
+   * The SSRF message under validation.
+   */
+  private final SSRF ssrf;
+  /**
+   * The tracking record of each tracked data set; top-level data sets and the
+   * data sets they reference.
+   */
+  private final Map<Common<?>, Tracking> tracked = new IdentityHashMap<>();
+  /**
+   * The data sets referencing each tracked data set.
+   */
+  private final Map<Common<?>, Set<Common<?>>> referrers = new IdentityHashMap<>();
+  /**
+   * The cached evaluation of each top-level data set.
+   */
+  private final Map<Common<?>, Result> results = new IdentityHashMap<>();
+  /**
+   * The number of top-level subtrees evaluated by the last evaluation.
+   */
+  private int evaluatedCount;
+
+  /**
+   * Construct a new incremental validator. Changes to the message are tracked
+   * from the first evaluation until the validator is closed.
+   *
+   * @param ssrf the SSRF message to validate
+   */
+  public IncrementalValidator(SSRF ssrf) {
+    this.ssrf = ssrf;
+  }
+
+  /**
+   * Evaluate the SSRF message; record and report any configuration errors.
+   *
+   * @return a non-null Collection of error messages, identical to those
+   *         returned by {@link SSRFUtility#evaluate(Object)}. The collection is
+   *         EMPTY if the SSRF message validates OK.
+   */
+  public Set<String> evaluate() {
+    /**
+     * Evaluate the top-level instance and collect its field values.
+     */
+    Set<String> messages = new TreeSet<>();
+    List<ParallelValidationTask.Subtree> subtrees = new ArrayList<>();
+    SSRFUtility.evaluate(ssrf, messages, subtrees);
+    /**
+     * Find the changed data sets, then every data set referencing a changed
+     * data set (directly or indirectly).
+     */
+    Set<Common<?>> stale = Collections.newSetFromMap(new IdentityHashMap<Common<?>, Boolean>());
+    for (Map.Entry<Common<?>, Tracking> entry : tracked.entrySet()) {
+      if (entry.getKey().getModificationCount() != entry.getValue().modificationCount) {
+        stale.add(entry.getKey());
+      }
+    }
+    for (Common<?> dataset : new ArrayList<>(stale)) {
+      adopt(dataset);
+    }
+    Deque<Common<?>> queue = new ArrayDeque<>(stale);
+    while (!queue.isEmpty()) {
+      Set<Common<?>> datasetReferrers = referrers.get(queue.poll());
+      if (datasetReferrers != null) {
+        for (Common<?> referrer : datasetReferrers) {
+          if (stale.add(referrer)) {
+            queue.add(referrer);
+          }
+        }
+      }
+    }
+    /**
+     * Evaluate each stale or new top-level data set. Reuse the cached messages
+     * of the others.
+     */
+    evaluatedCount = 0;
+    Set<Common<?>> present = Collections.newSetFromMap(new IdentityHashMap<Common<?>, Boolean>());
+    for (ParallelValidationTask.Subtree subtree : subtrees) {
+      if (!(subtree.getInstance() instanceof Common)) {
+        SSRFUtility.evaluate(subtree.getInstance(), subtree.getCls(), subtree.getParentInstance(), subtree.getParentField(), messages);
+        evaluatedCount++;
+        continue;
+      }
+      Common<?> dataset = (Common<?>) subtree.getInstance();
+      present.add(dataset);
+      Result result = results.get(dataset);
+      if (result == null
+          || stale.contains(dataset)
+          || result.cls != subtree.getCls()
+          || !result.parentField.equals(subtree.getParentField())) {
+        if (!tracked.containsKey(dataset)) {
+          adopt(dataset);
+        }
+        Set<String> datasetMessages = new TreeSet<>();
+        SSRFUtility.evaluate(dataset, subtree.getCls(), subtree.getParentInstance(), subtree.getParentField(), datasetMessages);
+        result = new Result(subtree.getCls(), subtree.getParentField(), datasetMessages.isEmpty() ? Collections.<String>emptySet() : datasetMessages);
+        results.put(dataset, result);
+        evaluatedCount++;
+      }
+      messages.addAll(result.messages);
+    }
+    /**
+     * Forget the data sets removed from the SSRF message.
+     */
+    for (Iterator<Common<?>> iterator = results.keySet().iterator(); iterator.hasNext();) {
+      Common<?> dataset = iterator.next();
+      if (!present.contains(dataset)) {
+        iterator.remove();
+        release(dataset);
+      }
+    }
+    return messages;
+  }
+
+  /**
+   * Determine if the SSRF message validates OK.
+   *
+   * @return TRUE if the SSRF message has no configuration errors
+   */
+  public boolean isValid() {
+    return evaluate().isEmpty();
+  }
+
+  /**
+   * Get the number of top-level subtrees (typically data sets) evaluated by the
+   * last evaluation. The others were taken from the cache.
+   *
+   * @return the number of evaluated subtrees
+   */
+  public int getEvaluatedCount() {
+    return evaluatedCount;
+  }
+
+  /**
+   * Clear all cached results. The next evaluation evaluates every data set.
+   */
+  public void invalidate() {
+    for (Common<?> dataset : new ArrayList<>(tracked.keySet())) {
+      release(dataset);
+    }
+    tracked.clear();
+    referrers.clear();
+    results.clear();
+  }
+
+  /**
+   * Stop tracking changes and clear all cached results.
+   */
+  @Override
+  public void close() {
+    invalidate();
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Tracking">
+  /**
+   * Track a data set: record the data set as the owner of each of its complex
+   * components, record the data sets it references and snapshot its
+   * modification count. Referenced data sets are tracked as well. Any previous
+   * tracking record is replaced.
+   *
+   * @param dataset the data set
+   */
+  private void adopt(Common<?> dataset) {
+    release(dataset);
+    Tracking tracking = new Tracking(dataset.getModificationCount());
+    tracked.put(dataset, tracking);
+    adopt(dataset, dataset, tracking);
+    for (Common<?> reference : tracking.references) {
+      Set<Common<?>> datasetReferrers = referrers.get(reference);
+      if (datasetReferrers == null) {
+        datasetReferrers = Collections.newSetFromMap(new IdentityHashMap<Common<?>, Boolean>());
+        referrers.put(reference, datasetReferrers);
+      }
+      datasetReferrers.add(dataset);
+      if (!tracked.containsKey(reference)) {
+        adopt(reference);
+      }
+    }
+  }
+
+  /**
+   * Internal recursive method to track the components of a data set.
+   *
+   * @param instance the object instance to inspect
+   * @param dataset  the data set owning the object instance
+   * @param tracking the data set tracking record
+   */
+  private void adopt(Object instance, Common<?> dataset, Tracking tracking) {
+    ClassPlan plan = ClassPlan.get(instance.getClass());
+    if (!plan.isInspected()) {
+      return;
+    }
+    for (ClassPlan.FieldPlan field : plan.getFields()) {
+      Object fieldValue;
+      try {
+        fieldValue = field.get(instance);
+      } catch (IllegalArgumentException | IllegalAccessException ex) {
+        continue;
+      }
+      if (fieldValue == null) {
+        continue;
+      }
+      if (field.isCollection()) {
+        for (Object entry : (Iterable<? extends Object>) fieldValue) {
+          if (entry != null) {
+            adoptComponent(entry, dataset, tracking);
+          }
+        }
+      } else {
+        adoptComponent(fieldValue, dataset, tracking);
+      }
+    }
+  }
+
+  /**
+   * Internal method to track a single data set component.
+   *
+   * @param component the component object instance
+   * @param dataset   the data set owning the component
+   * @param tracking  the data set tracking record
+   */
+  private void adoptComponent(Object component, Common<?> dataset, Tracking tracking) {
+    if (component instanceof Common) {
+      if (component != dataset) {
+        tracking.references.add((Common<?>) component);
+      }
+      return;
+    }
+    ClassPlan plan = ClassPlan.get(component.getClass());
+    if (plan.isInspected()) {
+      if (plan.recordsOwner()) {
+        plan.setOwner(component, dataset);
+        tracking.components.add(component);
+      }
+      adopt(component, dataset, tracking);
+    }
+  }
+
+  /**
+   * Stop tracking a data set. Its data set references are also released.
+   *
+   * @param dataset the data set
+   */
+  private void release(Common<?> dataset) {
+    Tracking tracking = tracked.remove(dataset);
+    if (tracking == null) {
+      return;
+    }
+    for (Object component : tracking.components) {
+      ClassPlan plan = ClassPlan.get(component.getClass());
+      if (plan.getOwner(component) == dataset) {
+        plan.setOwner(component, null);
+      }
+    }
+    for (Common<?> reference : tracking.references) {
+      Set<Common<?>> datasetReferrers = referrers.get(reference);
+      if (datasetReferrers != null) {
+        datasetReferrers.remove(dataset);
+        if (datasetReferrers.isEmpty()) {
+          referrers.remove(reference);
+        }
+      }
+    }
+  }//</editor-fold>
+
+  /**
+   * Tracking record of a data set.
+   */
+  private static class Tracking {
+
+    /**
+     * The data set modification count when it was tracked.
+     */
+    private final long modificationCount;
+    /**
+     * The data set components (excluding referenced data sets).
+     */
+    private final List<Object> components = new ArrayList<>();
+    /**
+     * The data sets referenced by the data set.
+     */
+    private final Set<Common<?>> references = Collections.newSetFromMap(new IdentityHashMap<Common<?>, Boolean>());
+
+    Tracking(long modificationCount) {
+      this.modificationCount = modificationCount;
+    }
+  }
+
+  /**
+   * The cached evaluation of a top-level data set.
+   */
+  private static class Result {
+
+    /**
+     * The parent (maximum) classification used for the evaluation.
+     */
+    private final ListCCL cls;
+    /**
+     * The SSRF field holding the data set.
+     */
+    private final Field parentField;
+    /**
+     * The data set error messages.
+     */
+    private final Set<String> messages;
+
+    Result(ListCCL cls, Field parentField, Set<String> messages) {
+      this.cls = cls;
+      this.parentField = parentField;
+      this.messages = messages;
+    }
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.*;
+import us.gov.dod.standard.ssrf._3_1.Common;
+
+/**
+ * A set of SSRF data sets of one type that are unmarshalled on first access.
+ * <p>
+ * The set is backed by the data set positions recorded by a
+ * {@link SSRFScanner}. The size and membership (by SERIAL number) are answered
+ * from the scan results; data sets are only loaded when iterated. Data sets
+ * added to the set are held in memory. Data sets removed from the set are
+ * simply hidden.
+ * <p>
+ * Developer note: This class is not thread safe.
+ *
+ * @param <T> the data set type
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+class LazyDatasetSet<T extends Common<?>> extends AbstractSet<T> {
+
+  /**
+   * The lazy SSRF instance that loads the data sets.
+   */
+  private final LazySSRF owner;
+  /**
+   * The data set class type.
+   */
+  private final Class<T> clazz;
+  /**
+   * The scanned data set positions, in ascending (document) order.
+   */
+  private final int[] positions;
+  /**
+   * The indices (into positions) of scanned data sets that were removed.
+   */
+  private final BitSet removed = new BitSet();
+  /**
+   * Data sets added to this set.
+   */
+  private final Set<T> added = new LinkedHashSet<>();
+
+  /**
+   * Construct a new lazy data set set.
+   *
+   * @param owner     the lazy SSRF instance that loads the data sets
+   * @param clazz     the data set class type
+   * @param positions the scanned data set positions, in ascending order
+   */
+  LazyDatasetSet(LazySSRF owner, Class<T> clazz, int[] positions) {
+    this.owner = owner;
+    this.clazz = clazz;
+    this.positions = positions;
+  }
+
+  @Override
+  public int size() {
+    return positions.length - removed.cardinality() + added.size();
+  }
+
+  /**
+   * Determine if this set contains a data set. Scanned data sets are matched
+   * by SERIAL number without being loaded.
+   *
+   * @param o the data set
+   * @return TRUE if this set contains the data set
+   */
+  @Override
+  public boolean contains(Object o) {
+    if (!clazz.isInstance(o)) {
+      return false;
+    }
+    if (indexOf((Common<?>) o) >= 0) {
+      return true;
+    }
+    return added.contains(o);
+  }
+
+  /**
+   * Add a data set. If a data set with the same SERIAL number is already
+   * present this set is not changed.
+   *
+   * @param e the data set
+   * @return TRUE if this set changed
+   */
+  @Override
+  public boolean add(T e) {
+    if (indexOf(e) >= 0) {
+      return false;
+    }
+    return added.add(e);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (!clazz.isInstance(o)) {
+      return false;
+    }
+    int index = indexOf((Common<?>) o);
+    if (index >= 0) {
+      removed.set(index);
+      return true;
+    }
+    return added.remove(o);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<T>() {
+
+      /**
+       * The next scanned data set index (into positions).
+       */
+      private int next = removed.nextClearBit(0);
+      /**
+       * The last scanned data set index returned, -1 if none.
+       */
+      private int last = -1;
+      /**
+       * The added data set iterator, once all scanned data sets are returned.
+       */
+      private Iterator<T> addedIterator;
+
+      @Override
+      public boolean hasNext() {
+        return next < positions.length || (addedIterator == null ? !added.isEmpty() : addedIterator.hasNext());
+      }
+
+      @Override
+      public T next() {
+        if (next < positions.length) {
+          last = next;
+          next = removed.nextClearBit(next + 1);
+          return clazz.cast(owner.load(positions[last]));
+        }
+        if (addedIterator == null) {
+          addedIterator = added.iterator();
+        }
+        last = -1;
+        return addedIterator.next();
+      }
+
+      @Override
+      public void remove() {
+        if (addedIterator != null) {
+          addedIterator.remove();
+        } else if (last >= 0) {
+          removed.set(last);
+          last = -1;
+        } else {
+          throw new IllegalStateException();
+        }
+      }
+    };
+  }
+
+  /**
+   * Find a scanned data set by SERIAL number.
+   *
+   * @param dataset the data set
+   * @return the index (into positions) of the matching scanned data set, -1 if
+   *         not found or removed
+   */
+  private int indexOf(Common<?> dataset) {
+    if (dataset.getSerial() == null || !dataset.getSerial().isSetValue()) {
+      return -1;
+    }
+    int position = owner.getPosition(dataset.getSerial().getValue());
+    if (position < 0) {
+      return -1;
+    }
+    int index = Arrays.binarySearch(positions, position);
+    return index >= 0 && !removed.get(index) ? index : -1;
+  }
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import us.gov.dod.standard.ssrf._3_1.*;
+
+/**
+ * A SSRF message whose data sets are unmarshalled on first access.
+ * <p>
+ * The document is scanned once (see {@link SSRFScanner}) to record the byte
+ * offset, type and SERIAL number of each top-level data set. The data set
+ * accessors ({@link #getAssignment()}, {@link #getLocation()}, etc.) return
+ * views backed by the scan results: their size and membership are known
+ * without reading any data set, and each data set is unmarshalled and
+ * post-loaded only when it is iterated or looked up with
+ * {@link #getDataset(String)}. Data set references resolved during post-load
+ * are read through these same views and are therefore also loaded on demand.
+ * <p>
+ * Loaded data sets are held in a bounded, least-recently-used cache. A data set
+ * evicted from the cache is read again when next accessed and will then be a
+ * different (but equal) object instance.
+ * <p>
+ * This is useful for interactive lookups against large documents where only a
+ * few data sets are needed. To read an entire document use
+ * {@link SSRF#fromXml(Path)} instead.
+ * <p>
+ * Developer note: This class is not thread safe.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+@XmlTransient
+public class LazySSRF extends SSRF {
+
+  /**
+   * 1,024. The default maximum number of loaded data sets to retain.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 1024;
+
+  /**
+   * The buffer containing the complete SSRF document.
+   */
+  private final ByteBuffer buffer;
+  /**
+   * The document scan results.
+   */
+  private final SSRFScanner scanner;
+  /**
+   * The scanned data set positions, by SERIAL value.
+   */
+  private final Map<String, Integer> serialIndex;
+  /**
+   * Data sets currently being loaded, by position. A data set is registered
+   * here before it is post-loaded so that circular references resolve to the
+   * same instance.
+   */
+  private final Map<Integer, Common<?>> loading = new HashMap<>();
+  /**
+   * Loaded data sets, by position, in least-recently-used order.
+   * <p>
+   * Developer note: Eviction is managed explicitly in {@link #load(int)}
+   * rather than with an anonymous LinkedHashMap subclass. The SSRFUtility
+   * prepare, validate and post-load methods recurse into every field whose
+   * class is in the SSRF package, and an anonymous inner class would lead
+   * them back into this instance.
+   */
+  private final Map<Integer, Common<?>> cache;
+  /**
+   * The maximum number of loaded data sets to retain.
+   */
+  private final int cacheSize;
+  /**
+   * The StAX input factory used to read individual data sets.
+   */
+  private final XMLInputFactory inputFactory = SSRFStreamReader.newInputFactory();
+  /**
+   * The number of data sets unmarshalled.
+   */
+  private long loadCount;
+
+  /**
+   * Construct a new lazy SSRF message over a buffer.
+   *
+   * @param buffer    the buffer containing the complete SSRF document
+   * @param cacheSize the maximum number of loaded data sets to retain
+   * @throws IllegalArgumentException if the document is not well formed
+   */
+  private LazySSRF(ByteBuffer buffer, int cacheSize) {
+    this.buffer = buffer;
+    this.scanner = SSRFScanner.scan(buffer);
+    this.serialIndex = new HashMap<>(scanner.size() * 4 / 3 + 1);
+    this.cache = new LinkedHashMap<>(16, 0.75f, true);
+    this.cacheSize = cacheSize;
+    /**
+     * Group the scanned data set positions by type, then install a lazy view
+     * for each type present.
+     */
+    int[] counts = new int[EDatasetType.values().length];
+    for (int i = 0; i < scanner.size(); i++) {
+      counts[scanner.getDatasetType(i).ordinal()]++;
+      if (scanner.getSerial(i) != null) {
+        serialIndex.put(scanner.getSerial(i), i);
+      }
+    }
+    int[][] positions = new int[counts.length][];
+    for (int t = 0; t < counts.length; t++) {
+      positions[t] = new int[counts[t]];
+      counts[t] = 0;
+    }
+    for (int i = 0; i < scanner.size(); i++) {
+      int t = scanner.getDatasetType(i).ordinal();
+      positions[t][counts[t]++] = i;
+    }
+    for (EDatasetType datasetType : EDatasetType.values()) {
+      if (positions[datasetType.ordinal()].length > 0) {
+        install(datasetType, positions[datasetType.ordinal()]);
+      }
+    }
+  }
+
+  /**
+   * Open a SSRF XML document file for lazy access using the default cache
+   * size. The file is read as UTF-8 and is memory-mapped.
+   *
+   * @param path A SSRF XML document file path
+   * @return a lazy SSRF message
+   * @throws IOException if the file cannot be read or is larger than 2 GB
+   */
+  public static LazySSRF open(Path path) throws IOException {
+    return open(path, DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Open a SSRF XML document file for lazy access. The file is read as UTF-8
+   * and is memory-mapped.
+   *
+   * @param path      A SSRF XML document file path
+   * @param cacheSize the maximum number of loaded data sets to retain
+   * @return a lazy SSRF message
+   * @throws IOException if the file cannot be read or is larger than 2 GB
+   */
+  public static LazySSRF open(Path path, int cacheSize) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("SSRF document is too large for lazy access: " + path);
+      }
+      return open(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), cacheSize);
+    }
+  }
+
+  /**
+   * Open the remaining content of a buffer containing a SSRF XML document for
+   * lazy access. The content is read as UTF-8. The buffer must not be modified
+   * while the lazy SSRF message is in use.
+   *
+   * @param buffer    A SSRF XML document buffer
+   * @param cacheSize the maximum number of loaded data sets to retain
+   * @return a lazy SSRF message
+   * @throws IllegalArgumentException if the document is not well formed
+   */
+  public static LazySSRF open(ByteBuffer buffer, int cacheSize) {
+    if (cacheSize < 1) {
+      throw new IllegalArgumentException("Cache size must be at least 1.");
+    }
+    return new LazySSRF(buffer, cacheSize);
+  }
+
+  /**
+   * Get the number of data sets in the document.
+   *
+   * @return the number of data sets in the document
+   */
+  public int getDatasetCount() {
+    return scanner.size();
+  }
+
+  /**
+   * Get the number of data sets unmarshalled so far. Data sets read again
+   * after being evicted from the cache are counted again.
+   *
+   * @return the number of data sets unmarshalled
+   */
+  public long getLoadCount() {
+    return loadCount;
+  }
+
+  /**
+   * Get the type of a data set in the document. The data set is not loaded.
+   *
+   * @param serial the data set SERIAL value
+   * @return the data set type, null if the data set is not in the document
+   */
+  public EDatasetType getDatasetType(String serial) {
+    int position = getPosition(serial);
+    return position < 0 ? null : scanner.getDatasetType(position);
+  }
+
+  /**
+   * Get a data set in the document, loading it if necessary.
+   *
+   * @param serial the data set SERIAL value
+   * @return the data set, null if the data set is not in the document
+   * @throws IllegalStateException if the data set cannot be unmarshalled
+   */
+  public Common<?> getDataset(String serial) {
+    int position = getPosition(serial);
+    return position < 0 ? null : load(position);
+  }
+
+  /**
+   * Find a data set of the indicated type by its SERIAL number value. The
+   * data set is looked up in the scanner offset index and loaded if necessary;
+   * other data sets are not loaded.
+   *
+   * @param <T>    the data set class type
+   * @param serial the data set SERIAL number value
+   * @param type   the data set class type (e.g. Location)
+   * @return the matching data set, null if none is found
+   * @throws IllegalStateException if the data set cannot be unmarshalled
+   */
+  @Override
+  public <T extends Common<?>> T findBySerial(String serial, Class<T> type) {
+    int position = getPosition(serial);
+    if (position < 0 || !type.equals(scanner.getDatasetType(position).getClazz())) {
+      return null;
+    }
+    return type.cast(load(position));
+  }
+
+  /**
+   * Data sets are resolved through the scanner offset index. No SERIAL index
+   * is built.
+   */
+  @Override
+  void buildDatasetIndex() {
+  }
+
+  /**
+   * Get the position of a data set in the document.
+   *
+   * @param serial the data set SERIAL value
+   * @return the data set position, -1 if the data set is not in the document
+   */
+  int getPosition(String serial) {
+    Integer position = serialIndex.get(serial);
+    return position == null ? -1 : position;
+  }
+
+  /**
+   * Get a data set in the document, loading it if necessary. A newly loaded
+   * data set is post-loaded against this SSRF message.
+   *
+   * @param position the data set position, in document order
+   * @return the data set
+   * @throws IllegalStateException if the data set cannot be unmarshalled
+   */
+  Common<?> load(int position) {
+    Common<?> dataset = loading.get(position);
+    if (dataset == null) {
+      dataset = cache.get(position);
+    }
+    if (dataset != null) {
+      return dataset;
+    }
+    try {
+      XMLStreamReader xmlStreamReader = inputFactory.createXMLStreamReader(scanner.getInputStream(buffer, position, position + 1), "UTF-8");
+      try {
+        /**
+         * Move past the root element start tag to the data set start tag.
+         */
+        xmlStreamReader.nextTag();
+        xmlStreamReader.nextTag();
+        dataset = SSRFBinding.getUnmarshaller(SSRF.class)
+                .unmarshal(xmlStreamReader, scanner.getDatasetType(position).getClazz())
+                .getValue();
+      } finally {
+        xmlStreamReader.close();
+      }
+    } catch (XMLStreamException | JAXBException ex) {
+      throw new IllegalStateException("SSRF lazy read error for data set " + position + ": " + ex.getMessage(), ex);
+    }
+    loadCount++;
+    loading.put(position, dataset);
+    try {
+      SSRFUtility.postLoad(dataset, this);
+    } finally {
+      loading.remove(position);
+    }
+    cache.put(position, dataset);
+    if (cache.size() > cacheSize) {
+      Iterator<Integer> eldest = cache.keySet().iterator();
+      eldest.next();
+      eldest.remove();
+    }
+    return dataset;
+  }
+
+  /**
+   * Install a lazy data set view in the corresponding SchemaRoot field.
+   *
+   * @param datasetType the data set type
+   * @param positions   the scanned data set positions, in ascending order
+   */
+  private void install(EDatasetType datasetType, int[] positions) {
+    switch (datasetType) {
+      case AD:
+        administrative = new LazyDatasetSet<>(this, Administrative.class, positions);
+        break;
+      case AL:
+        allotment = new LazyDatasetSet<>(this, Allotment.class, positions);
+        break;
+      case AN:
+        antenna = new LazyDatasetSet<>(this, Antenna.class, positions);
+        break;
+      case AS:
+        assignment = new LazyDatasetSet<>(this, Assignment.class, positions);
+        break;
+      case CN:
+        contact = new LazyDatasetSet<>(this, Contact.class, positions);
+        break;
+      case CP:
+        channelPlan = new LazyDatasetSet<>(this, ChannelPlan.class, positions);
+        break;
+      case EX:
+        externalReference = new LazyDatasetSet<>(this, ExternalReference.class, positions);
+        break;
+      case FD:
+        feDeployment = new LazyDatasetSet<>(this, FEDeployment.class, positions);
+        break;
+      case FE:
+        forceElement = new LazyDatasetSet<>(this, ForceElement.class, positions);
+        break;
+      case HD:
+        ssReply = new LazyDatasetSet<>(this, SSReply.class, positions);
+        break;
+      case IF:
+        intfReport = new LazyDatasetSet<>(this, IntfReport.class, positions);
+        break;
+      case JA:
+        role = new LazyDatasetSet<>(this, Role.class, positions);
+        break;
+      case JR:
+        jrfl = new LazyDatasetSet<>(this, JRFL.class, positions);
+        break;
+      case LO:
+        location = new LazyDatasetSet<>(this, Location.class, positions);
+        break;
+      case LS:
+        loadset = new LazyDatasetSet<>(this, Loadset.class, positions);
+        break;
+      case MS:
+        message = new LazyDatasetSet<>(this, Message.class, positions);
+        break;
+      case NT:
+        note = new LazyDatasetSet<>(this, Note.class, positions);
+        break;
+      case OR:
+        organisation = new LazyDatasetSet<>(this, Organisation.class, positions);
+        break;
+      case RP:
+        radiationPlan = new LazyDatasetSet<>(this, RadiationPlan.class, positions);
+        break;
+      case RX:
+        receiver = new LazyDatasetSet<>(this, Receiver.class, positions);
+        break;
+      case SA:
+        satellite = new LazyDatasetSet<>(this, Satellite.class, positions);
+        break;
+      case SR:
+        ssRequest = new LazyDatasetSet<>(this, SSRequest.class, positions);
+        break;
+      case TA:
+        toa = new LazyDatasetSet<>(this, TOA.class, positions);
+        break;
+      case TR:
+        rfSystem = new LazyDatasetSet<>(this, RFSystem.class, positions);
+        break;
+      case TX:
+        transmitter = new LazyDatasetSet<>(this, Transmitter.class, positions);
+        break;
+    }
+  }
+}
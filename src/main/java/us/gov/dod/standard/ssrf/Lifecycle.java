@@ -0,0 +1,308 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precomputed lifecycle method dispatch for a SSRF class.
+ * <p>
+ * The SSRFUtility prepare and postLoad methods call the prepare(),
+ * postLoad(SSRF) and root "with" methods of every object in a SSRF object
+ * graph. Each class is inspected once to determine which lifecycle methods it
+ * implements and the methods are cached here as MethodHandles for the life of
+ * the class. Classes that do not implement a method are recorded as such, so
+ * that no exception is raised (and caught) when walking the object graph.
+ * <p>
+ * The classes eligible for each lifecycle method are identical to those
+ * previously tested by name: prepare() is only considered for SSRF classes
+ * outside the adapter and metadata packages; postLoad(SSRF) and postLoad() are
+ * only considered for SSRF classes outside the adapter and metadata lists
+ * packages.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+final class Lifecycle {
+
+  /**
+   * The lifecycle of each class, computed on first use.
+   */
+  private static final ClassValue<Lifecycle> LIFECYCLES = new ClassValue<Lifecycle>() {
+
+    @Override
+    protected Lifecycle computeValue(Class<?> type) {
+      return new Lifecycle(type);
+    }
+  };
+
+  /**
+   * The invocation type of a prepare handle.
+   */
+  private static final MethodType PREPARE_TYPE = MethodType.methodType(void.class, Object.class);
+  /**
+   * The invocation type of a postLoad handle.
+   */
+  private static final MethodType POSTLOAD_TYPE = MethodType.methodType(void.class, Object.class, SSRF.class);
+  /**
+   * The invocation type of a root "with" (insertion) handle.
+   */
+  private static final MethodType INSERT_TYPE = MethodType.methodType(Object.class, Object.class, Collection.class);
+  /**
+   * Marker recorded for a value class that has no root "with" method.
+   */
+  private static final MethodHandle NO_INSERT = MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class, Collection.class);
+
+  /**
+   * The class type.
+   */
+  private final Class<?> clazz;
+  /**
+   * Indicator that the class implements prepare().
+   */
+  private final boolean preparable;
+  /**
+   * The prepare() handle. Null if not implemented or not accessible.
+   */
+  private final MethodHandle prepare;
+  /**
+   * Indicator that the class implements postLoad(SSRF) or postLoad().
+   */
+  private final boolean loadable;
+  /**
+   * The postLoad handle. A postLoad() method is adapted to ignore the SSRF
+   * argument. Null if not implemented or not accessible.
+   */
+  private final MethodHandle postLoad;
+  /**
+   * Indicator that the class implements postLoad(SSRF).
+   */
+  private final boolean rootLoadable;
+  /**
+   * The no-argument postLoad() handle. Null if not implemented or not
+   * accessible.
+   */
+  private final MethodHandle postLoadNoArg;
+  /**
+   * When this class is a root instance: the "with" method accepting a
+   * Collection of each value class, computed on first use.
+   */
+  private final ConcurrentMap<Class<?>, MethodHandle> inserts = new ConcurrentHashMap<>();
+
+  /**
+   * Inspect a class and resolve its lifecycle methods.
+   *
+   * @param clazz the class type to inspect
+   */
+  private Lifecycle(Class<?> clazz) {
+    this.clazz = clazz;
+    String className = clazz.getName();
+    boolean ssrfClass = className.startsWith(SSRFUtility.SSRF_PACKAGE) && !className.contains(".adapter.");
+    Method prepareMethod = null;
+    Method postLoadMethod = null;
+    Method postLoadNoArgMethod = null;
+    if (ssrfClass) {
+      for (Method method : clazz.getMethods()) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if ("prepare".equals(method.getName()) && parameterTypes.length == 0) {
+          prepareMethod = method;
+        } else if ("postLoad".equals(method.getName())) {
+          if (parameterTypes.length == 1 && parameterTypes[0].equals(SSRF.class)) {
+            postLoadMethod = method;
+          } else if (parameterTypes.length == 0) {
+            postLoadNoArgMethod = method;
+          }
+        }
+      }
+    }
+    /**
+     * Ignore ADAPTER and METADATA helpers for prepare(); ignore ADAPTER and
+     * LIST helpers for postLoad().
+     */
+    if (className.contains(".metadata.")) {
+      prepareMethod = null;
+    }
+    if (className.contains(".metadata.lists")) {
+      postLoadMethod = null;
+      postLoadNoArgMethod = null;
+    }
+    this.preparable = prepareMethod != null;
+    this.prepare = prepareMethod != null ? asType(prepareMethod, PREPARE_TYPE) : null;
+    this.loadable = postLoadMethod != null || postLoadNoArgMethod != null;
+    this.rootLoadable = postLoadMethod != null;
+    this.postLoadNoArg = postLoadNoArgMethod != null ? asType(postLoadNoArgMethod, PREPARE_TYPE) : null;
+    if (postLoadMethod != null) {
+      this.postLoad = asType(postLoadMethod, POSTLOAD_TYPE);
+    } else if (postLoadNoArg != null) {
+      this.postLoad = MethodHandles.dropArguments(postLoadNoArg, 1, SSRF.class);
+    } else {
+      this.postLoad = null;
+    }
+  }
+
+  /**
+   * Get the lifecycle of a class.
+   *
+   * @param clazz the class type
+   * @return the class lifecycle
+   */
+  static Lifecycle get(Class<?> clazz) {
+    return LIFECYCLES.get(clazz);
+  }
+
+  /**
+   * Determine if the class implements prepare().
+   *
+   * @return TRUE if the class implements prepare()
+   */
+  boolean isPreparable() {
+    return preparable;
+  }
+
+  /**
+   * Determine if the class implements postLoad(SSRF) or postLoad().
+   *
+   * @return TRUE if the class implements a postLoad method
+   */
+  boolean isLoadable() {
+    return loadable;
+  }
+
+  /**
+   * Invoke prepare() on an instance of this class. Does nothing if the class
+   * does not implement prepare().
+   *
+   * @param instance the object instance
+   * @throws Throwable any exception raised by the prepare() method
+   */
+  void prepare(Object instance) throws Throwable {
+    if (prepare != null) {
+      prepare.invokeExact(instance);
+    }
+  }
+
+  /**
+   * Invoke postLoad(SSRF), or else postLoad(), on an instance of this class.
+   * Does nothing if the class implements neither.
+   *
+   * @param instance the object instance
+   * @param root     the SSRF root instance
+   * @throws Throwable any exception raised by the postLoad method
+   */
+  void postLoad(Object instance, SSRF root) throws Throwable {
+    if (postLoad != null) {
+      postLoad.invokeExact(instance, root);
+    }
+  }
+
+  /**
+   * Determine if the class implements postLoad(SSRF); that is, whether its
+   * post-load depends on the SSRF root instance (e.g. to resolve references).
+   *
+   * @return TRUE if the class implements postLoad(SSRF)
+   */
+  boolean isRootLoadable() {
+    return rootLoadable;
+  }
+
+  /**
+   * Invoke the no-argument postLoad() on an instance of this class, even if
+   * the class also implements postLoad(SSRF). Does nothing if the class does
+   * not implement postLoad().
+   *
+   * @param instance the object instance
+   * @throws Throwable any exception raised by the postLoad() method
+   */
+  void postLoadNoArg(Object instance) throws Throwable {
+    if (postLoadNoArg != null) {
+      postLoadNoArg.invokeExact(instance);
+    }
+  }
+
+  /**
+   * Add a value to a root instance of this class through the root "with"
+   * method accepting a Collection of the value class (e.g.
+   * withLocation(Collection) for a Location value).
+   *
+   * @param root  the root instance
+   * @param value the value to add
+   * @return TRUE if the value was added, FALSE if this class has no "with"
+   *         method for the value class
+   * @throws Throwable any exception raised by the "with" method
+   */
+  boolean insert(Object root, Object value) throws Throwable {
+    Class<?> valueClass = value.getClass();
+    MethodHandle insert = inserts.get(valueClass);
+    if (insert == null) {
+      insert = findInsert(valueClass);
+      inserts.put(valueClass, insert);
+    }
+    if (insert == NO_INSERT) {
+      return false;
+    }
+    Object unused = (Object) insert.invokeExact(root, (Collection) Collections.singletonList(value));
+    return true;
+  }
+
+  /**
+   * Internal method to find the "with" method accepting a Collection of a value
+   * class.
+   *
+   * @param valueClass the value class
+   * @return the method handle, or {@link #NO_INSERT} if none
+   */
+  private MethodHandle findInsert(Class<?> valueClass) {
+    String name = "with" + valueClass.getSimpleName();
+    for (Method method : clazz.getMethods()) {
+      if (name.equals(method.getName())
+          && method.getParameterTypes().length == 1
+          && method.getParameterTypes()[0].equals(Collection.class)) {
+        MethodHandle handle = asType(method, INSERT_TYPE);
+        return handle != null ? handle : NO_INSERT;
+      }
+    }
+    return NO_INSERT;
+  }
+
+  /**
+   * Internal method to convert a public method into a handle of the given
+   * invocation type.
+   *
+   * @param method the method
+   * @param type   the invocation type
+   * @return the method handle, or null if the method is not accessible (e.g.
+   *         declared in a non-public class)
+   */
+  private static MethodHandle asType(Method method, MethodType type) {
+    try {
+      if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+        method.setAccessible(true);
+      }
+      return MethodHandles.publicLookup().unreflect(method).asType(type);
+    } catch (IllegalAccessException | SecurityException ex) {
+      return null;
+    }
+  }
+}
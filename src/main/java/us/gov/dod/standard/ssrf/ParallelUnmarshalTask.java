@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.RecursiveTask;
+import javax.xml.bind.JAXBException;
+
+/**
+ * Fork/join task to unmarshal a range of pre-scanned SSRF data sets.
+ * <p>
+ * The task splits its range of data sets in two (by byte size) until each
+ * piece is smaller than the batch threshold. Each piece is then wrapped inside
+ * the SSRF root element and unmarshalled as a partial SSRF message. Partial
+ * messages are merged as the tasks are joined.
+ * <p>
+ * Partial messages are NOT post-loaded. The caller must post-load the merged
+ * SSRF message so that references between data sets are resolved against the
+ * complete document.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+class ParallelUnmarshalTask extends RecursiveTask<SSRF> {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The buffer containing the complete SSRF document.
+   */
+  private final ByteBuffer buffer;
+  /**
+   * The document scan results.
+   */
+  private final SSRFScanner scanner;
+  /**
+   * The first data set position (inclusive).
+   */
+  private final int from;
+  /**
+   * The last data set position (exclusive).
+   */
+  private final int to;
+  /**
+   * The maximum byte size of a range unmarshalled without further splitting.
+   */
+  private final long threshold;
+
+  /**
+   * Construct a new parallel unmarshal task.
+   *
+   * @param buffer    the buffer containing the complete SSRF document
+   * @param scanner   the document scan results
+   * @param from      the first data set position (inclusive)
+   * @param to        the last data set position (exclusive)
+   * @param threshold the maximum byte size of a range unmarshalled without
+   *                  further splitting
+   */
+  ParallelUnmarshalTask(ByteBuffer buffer, SSRFScanner scanner, int from, int to, long threshold) {
+    this.buffer = buffer;
+    this.scanner = scanner;
+    this.from = from;
+    this.to = to;
+    this.threshold = threshold;
+  }
+
+  @Override
+  protected SSRF compute() {
+    if (from >= to) {
+      return new SSRF();
+    }
+    long start = scanner.getOffset(from);
+    long end = scanner.getOffset(to - 1) + scanner.getLength(to - 1);
+    if (to - from == 1 || end - start <= threshold) {
+      try {
+        return SSRFUtility.unmarshal(scanner.getInputStream(buffer, from, to), SSRF.class);
+      } catch (JAXBException ex) {
+        throw new IllegalStateException(ex);
+      }
+    }
+    /**
+     * Split at the data set nearest the byte mid-point so that both halves
+     * carry a similar amount of work.
+     */
+    int split = split(start + (end - start) / 2);
+    ParallelUnmarshalTask left = new ParallelUnmarshalTask(buffer, scanner, from, split, threshold);
+    ParallelUnmarshalTask right = new ParallelUnmarshalTask(buffer, scanner, split, to, threshold);
+    left.fork();
+    SSRF ssrf = right.compute();
+    return ssrf.merge(left.join());
+  }
+
+  /**
+   * Find the first data set at or after a byte offset. The result is always
+   * within (from, to) so that neither half is empty.
+   *
+   * @param offset the byte offset
+   * @return the split position
+   */
+  private int split(long offset) {
+    int low = from + 1;
+    int high = to - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (scanner.getOffset(mid) < offset) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
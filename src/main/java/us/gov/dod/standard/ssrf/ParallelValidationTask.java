@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
+
+/**
+ * Fork/join task to validate or evaluate a range of SSRF object subtrees.
+ * <p>
+ * The subtrees are the field values (typically the data sets) of a top-level
+ * SSRF object instance. Each subtree is validated independently with the
+ * classification context inherited from the top-level instance. The task
+ * splits its range of subtrees in two until each piece is smaller than the
+ * batch threshold.
+ * <p>
+ * When evaluating, the error messages of each piece are merged into a sorted
+ * set as the tasks are joined; the result is identical to a sequential
+ * evaluation. When validating, the first error of each subtree is recorded by
+ * subtree index so that the caller can report the same (first) error as a
+ * sequential validation. Subtrees after a known error are skipped.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+class ParallelValidationTask extends RecursiveTask<Set<String>> {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The subtrees to inspect.
+   */
+  private final List<Subtree> subtrees;
+  /**
+   * The first subtree index (inclusive).
+   */
+  private final int from;
+  /**
+   * The last subtree index (exclusive).
+   */
+  private final int to;
+  /**
+   * The maximum number of subtrees inspected without further splitting.
+   */
+  private final int threshold;
+  /**
+   * The validation error of each subtree, indexed by subtree. Null when
+   * evaluating.
+   */
+  private final Exception[] errors;
+  /**
+   * The lowest subtree index with a validation error. Null when evaluating.
+   */
+  private final AtomicInteger firstError;
+
+  /**
+   * Construct a new parallel evaluate task.
+   *
+   * @param subtrees  the subtrees to evaluate
+   * @param threshold the maximum number of subtrees evaluated without further
+   *                  splitting
+   */
+  ParallelValidationTask(List<Subtree> subtrees, int threshold) {
+    this(subtrees, 0, subtrees.size(), threshold, null, null);
+  }
+
+  /**
+   * Construct a new parallel validate task.
+   *
+   * @param subtrees  the subtrees to validate
+   * @param threshold the maximum number of subtrees validated without further
+   *                  splitting
+   * @param errors    the validation error of each subtree, indexed by subtree.
+   *                  Must be the same size as the subtree list.
+   */
+  ParallelValidationTask(List<Subtree> subtrees, int threshold, Exception[] errors) {
+    this(subtrees, 0, subtrees.size(), threshold, errors, new AtomicInteger(Integer.MAX_VALUE));
+  }
+
+  private ParallelValidationTask(List<Subtree> subtrees, int from, int to, int threshold, Exception[] errors, AtomicInteger firstError) {
+    this.subtrees = subtrees;
+    this.from = from;
+    this.to = to;
+    this.threshold = threshold;
+    this.errors = errors;
+    this.firstError = firstError;
+  }
+
+  /**
+   * Inspect the subtrees.
+   *
+   * @return the sorted error messages when evaluating, null when validating
+   */
+  @Override
+  protected Set<String> compute() {
+    if (to - from > threshold) {
+      int split = (from + to) >>> 1;
+      ParallelValidationTask left = new ParallelValidationTask(subtrees, from, split, threshold, errors, firstError);
+      ParallelValidationTask right = new ParallelValidationTask(subtrees, split, to, threshold, errors, firstError);
+      right.fork();
+      Set<String> messages = left.compute();
+      Set<String> rightMessages = right.join();
+      if (messages != null) {
+        messages.addAll(rightMessages);
+      }
+      return messages;
+    }
+    if (errors == null) {
+      Set<String> messages = new TreeSet<>();
+      for (int i = from; i < to; i++) {
+        Subtree subtree = subtrees.get(i);
+        SSRFUtility.evaluate(subtree.instance, subtree.cls, subtree.parentInstance, subtree.parentField, messages);
+      }
+      return messages;
+    }
+    for (int i = from; i < to && i < firstError.get(); i++) {
+      try {
+        SSRFUtility.validate(subtrees.get(i).instance, subtrees.get(i).cls);
+      } catch (Exception exception) {
+        errors[i] = exception;
+        /**
+         * Record the lowest failed index so that later subtrees are skipped.
+         */
+        int first = firstError.get();
+        while (i < first && !firstError.compareAndSet(first, i)) {
+          first = firstError.get();
+        }
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A SSRF object subtree to inspect, with its inherited classification
+   * context and its position within the parent instance.
+   */
+  static final class Subtree {
+
+    /**
+     * The subtree root object instance.
+     */
+    private final Object instance;
+    /**
+     * The parent (maximum) classification. May be null.
+     */
+    private final ListCCL cls;
+    /**
+     * The parent object instance.
+     */
+    private final Object parentInstance;
+    /**
+     * The parent field where the subtree root object instance lives.
+     */
+    private final Field parentField;
+
+    /**
+     * Construct a new subtree.
+     *
+     * @param instance       the subtree root object instance
+     * @param cls            the parent (maximum) classification. May be null.
+     * @param parentInstance the parent object instance
+     * @param parentField    the parent field where the subtree root object
+     *                       instance lives
+     */
+    Subtree(Object instance, ListCCL cls, Object parentInstance, Field parentField) {
+      this.instance = instance;
+      this.cls = cls;
+      this.parentInstance = parentInstance;
+      this.parentField = parentField;
+    }
+
+    Object getInstance() {
+      return instance;
+    }
+
+    ListCCL getCls() {
+      return cls;
+    }
+
+    Object getParentInstance() {
+      return parentInstance;
+    }
+
+    Field getParentField() {
+      return parentField;
+    }
+  }
+}
@@ -15,9 +15,19 @@
  */
 package us.gov.dod.standard.ssrf;
 
-import java.util.Set;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.SchemaRoot;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlPatterns;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
 
 /**
  * Standard Spectrum Resource Format (SSRF).
@@ -62,6 +72,30 @@ public class SSRF extends SchemaRoot<SSRF> {
    */
   @XmlTransient
   private SSRFProperties ssrfProperties;
+  /**
+   * The data set SERIAL index: the data sets sharing each serial number
+   * component, in SchemaRoot order. Only set while this SSRF instance is being
+   * post-loaded.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private Map<String, List<Common<?>>> datasetIndex;
+  /**
+   * The SERIAL number generator for data sets created by this SSRF instance.
+   * If null the global default generator is used.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private ISerialGenerator serialGenerator;
+  /**
+   * The idx value allocator for items created in this SSRF instance.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private final IdxAllocator idxAllocator = new IdxAllocator();
 
   /**
    * Set the SSRF Properties for this SSRF instance.
@@ -201,10 +235,119 @@ public class SSRF extends SchemaRoot<SSRF> {
    * @since 3.1.0
    */
   public String toXML() throws Exception {
+    return toXML(EMarshalProfile.PRETTY);
+  }
+
+  /**
+   * Export this SSRF source instance as an XML document using the indicated
+   * output profile.
+   * <p>
+   * This method behaves identically to {@link #toXML()} but allows the caller
+   * to select the output format. Use {@link EMarshalProfile#COMPACT} for
+   * machine-to-machine exchange.
+   *
+   * @param profile the XML output profile
+   * @return This SSRF instance as an XML document
+   * @throws Exception If this SSRF configuration fails to validate
+   * @since 3.1.0
+   */
+  public String toXML(EMarshalProfile profile) throws Exception {
+    assembleForExport();
+    return SSRFUtility.marshal(this, profile);
+  }
+
+  /**
+   * Export this SSRF source instance as an XML document to an output stream.
+   * The output is encoded as UTF-8. The output stream is NOT closed.
+   *
+   * @param outputStream the output stream
+   * @throws Exception If this SSRF configuration fails to validate
+   * @since 3.1.0
+   */
+  public void toXML(OutputStream outputStream) throws Exception {
+    toXML(outputStream, EMarshalProfile.PRETTY);
+  }
+
+  /**
+   * Export this SSRF source instance as an XML document to an output stream
+   * using the indicated output profile. The output is encoded as UTF-8. The
+   * output stream is NOT closed.
+   *
+   * @param outputStream the output stream
+   * @param profile      the XML output profile
+   * @throws Exception If this SSRF configuration fails to validate
+   * @since 3.1.0
+   */
+  public void toXML(OutputStream outputStream, EMarshalProfile profile) throws Exception {
+    assembleForExport();
+    SSRFUtility.marshal(this, outputStream, profile);
+  }
+
+  /**
+   * Export this SSRF source instance as an XML document to a character stream.
+   * The writer is NOT closed.
+   *
+   * @param writer the character stream
+   * @throws Exception If this SSRF configuration fails to validate
+   * @since 3.1.0
+   */
+  public void toXML(Writer writer) throws Exception {
+    toXML(writer, EMarshalProfile.PRETTY);
+  }
+
+  /**
+   * Export this SSRF source instance as an XML document to a character stream
+   * using the indicated output profile. The writer is NOT closed.
+   *
+   * @param writer  the character stream
+   * @param profile the XML output profile
+   * @throws Exception If this SSRF configuration fails to validate
+   * @since 3.1.0
+   */
+  public void toXML(Writer writer, EMarshalProfile profile) throws Exception {
+    assembleForExport();
+    SSRFUtility.marshal(this, writer, profile);
+  }
+
+  /**
+   * Export this SSRF source instance as an XML document to a file. The output
+   * is encoded as UTF-8. The file is created or truncated.
+   *
+   * @param path the output file path
+   * @throws Exception If this SSRF configuration fails to validate or the file
+   *                   cannot be written
+   * @since 3.1.0
+   */
+  public void toXML(Path path) throws Exception {
+    toXML(path, EMarshalProfile.PRETTY);
+  }
+
+  /**
+   * Export this SSRF source instance as an XML document to a file using the
+   * indicated output profile. The output is encoded as UTF-8. The file is
+   * created or truncated.
+   *
+   * @param path    the output file path
+   * @param profile the XML output profile
+   * @throws Exception If this SSRF configuration fails to validate or the file
+   *                   cannot be written
+   * @since 3.1.0
+   */
+  public void toXML(Path path, EMarshalProfile profile) throws Exception {
+    assembleForExport();
+    SSRFUtility.marshal(this, path, profile);
+  }
+
+  /**
+   * Assemble and validate this SSRF instance for export. This method supports
+   * the various toXML() methods.
+   *
+   * @throws Exception If this SSRF configuration fails to validate
+   */
+  private void assembleForExport() throws Exception {
     if (isValid()) {
       assemble();
       SSRFUtility.validate(this);
-      return SSRFUtility.marshal(this);
     } else {
       throw new Exception("Invalid SSRF configuration. Evaluate for details.");
     }
@@ -264,6 +407,78 @@ public class SSRF extends SchemaRoot<SSRF> {
   public Set<String> evaluate() {
     assemble();
     return SSRFUtility.evaluate(this);
+  }
+
+  /**
+   * Evaluate a SSRF Object instance; deliver each configuration error to a
+   * validation sink as it is found.
+   * <p>
+   * This method behaves identically to {@link #evaluate()} but does not build
+   * or retain error messages. Use a {@link ValidationReport} to bound the
+   * number of issues retained, to stop at the first issue, or to count issues
+   * by rule.
+   *
+   * @param sink the validation sink to receive each issue
+   * @return TRUE if the evaluation completed, FALSE if it was stopped by the
+   *         sink
+   * @since 3.1.0
+   */
+  public boolean evaluate(IValidationSink sink) {
+    assemble();
+    return SSRFUtility.evaluate(this, sink);
+  }
+
+  /**
+   * Validate a SSRF Object instance using several threads.
+   * <p>
+   * This method behaves identically to {@link #isValid()} but validates the
+   * top-level data sets concurrently. This is useful for very large messages.
+   *
+   * @param parallelism the number of threads to use. A value of one (or less)
+   *                    validates on the calling thread.
+   * @return TRUE the object instance validates OK; otherwise FALSE.
+   * @since 3.1.0
+   */
+  public boolean isValid(int parallelism) {
+    if (parallelism <= 1) {
+      return isValid();
+    }
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      assemble();
+      SSRFUtility.validateParallel(this, pool);
+      return true;
+    } catch (Exception exception) {
+      return false;
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Evaluate a SSRF Object instance using several threads; record and report
+   * any configuration errors.
+   * <p>
+   * This method behaves identically to {@link #evaluate()} but evaluates the
+   * top-level data sets concurrently. The returned messages are identical.
+   *
+   * @param parallelism the number of threads to use. A value of one (or less)
+   *                    evaluates on the calling thread.
+   * @return a non-null Collection of error messages. The collection is EMPTY if
+   *         the object instance validates OK.
+   * @since 3.1.0
+   */
+  public Set<String> evaluate(int parallelism) {
+    if (parallelism <= 1) {
+      return evaluate();
+    }
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      assemble();
+      return SSRFUtility.evaluateParallel(this, pool);
+    } finally {
+      pool.shutdown();
+    }
   }//</editor-fold>
 
   //<editor-fold defaultstate="collapsed" desc="Import from XML">
@@ -301,6 +516,390 @@ public class SSRF extends SchemaRoot<SSRF> {
     SSRF ssrf = SSRFUtility.unmarshal(xml, SSRF.class);
     SSRFUtility.postLoad(ssrf);
     return ssrf;
+  }
+
+  /**
+   * Parse an import an XMl document into a SSRF object hierarchy from an input
+   * stream. The input is read as UTF-8. The input stream is NOT closed.
+   *
+   * @param inputStream A SSRF XML document input stream
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(InputStream inputStream) throws Exception {
+    return SSRFUtility.postLoad(SSRFUtility.unmarshal(inputStream, SSRF.class));
+  }
+
+  /**
+   * Parse an import an XMl document into a SSRF object hierarchy from a
+   * character stream. The reader is NOT closed.
+   *
+   * @param reader A SSRF XML document character stream
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(Reader reader) throws Exception {
+    return SSRFUtility.postLoad(SSRFUtility.unmarshal(reader, SSRF.class));
+  }
+
+  /**
+   * Parse an import an XMl document into a SSRF object hierarchy from a file.
+   * The file is read as UTF-8 and is memory-mapped when possible.
+   *
+   * @param path A SSRF XML document file path
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(Path path) throws Exception {
+    return SSRFUtility.postLoad(SSRFUtility.unmarshal(path, SSRF.class));
+  }
+
+  /**
+   * Parse an import an XMl document into a SSRF object hierarchy from the
+   * remaining content of a byte buffer. The content is read as UTF-8. The
+   * buffer position is not changed.
+   *
+   * @param buffer A SSRF XML document buffer
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(ByteBuffer buffer) throws Exception {
+    return SSRFUtility.postLoad(SSRFUtility.unmarshal(buffer, SSRF.class));
+  }
+
+  /**
+   * Parse an import an XMl document into a SSRF object hierarchy from a file
+   * using several threads. The file is read as UTF-8 and is memory-mapped.
+   * <p>
+   * Top-level data sets are unmarshalled concurrently then merged. The SSRF
+   * software instance is post-loaded once all data sets are merged. This is
+   * useful for very large documents.
+   *
+   * @param path        A SSRF XML document file path
+   * @param parallelism the number of threads to use. A value of one (or less)
+   *                    reads the document on the calling thread.
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(Path path, int parallelism) throws Exception {
+    if (parallelism <= 1) {
+      return fromXml(path);
+    }
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return SSRFUtility.postLoad(SSRFUtility.unmarshalParallel(path, pool));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Parse an import an XMl document into a SSRF object hierarchy from the
+   * remaining content of a byte buffer using several threads. The content is
+   * read as UTF-8. The buffer position is not changed.
+   *
+   * @param buffer      A SSRF XML document buffer
+   * @param parallelism the number of threads to use. A value of one (or less)
+   *                    reads the document on the calling thread.
+   * @return A SSRF software object instance
+   * @throws Exception If this SSRF XML document fails to unmarshal; typically
+   *                   because the document is invalid or incomplete
+   * @since 3.1.0
+   */
+  public static SSRF fromXml(ByteBuffer buffer, int parallelism) throws Exception {
+    if (parallelism <= 1) {
+      return fromXml(buffer);
+    }
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return SSRFUtility.postLoad(SSRFUtility.unmarshalParallel(buffer, pool));
+    } finally {
+      pool.shutdown();
+    }
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Data Set Lookup">
+  /**
+   * Find a data set of the indicated type by its SERIAL number.
+   * <p>
+   * A data set matches if its SERIAL value is equal to the indicated value or,
+   * failing that, if its serial number component is equal (see
+   * {@link Serial#equals(Object)}). Lookups made while this SSRF message is
+   * being post-loaded (see {@link SSRFUtility#postLoad(SSRF)}) are resolved
+   * through a SERIAL index in constant time; other lookups scan the data sets.
+   *
+   * @param <T>    the data set class type
+   * @param serial the data set SERIAL number
+   * @param type   the data set class type (e.g. Location)
+   * @return the matching data set, null if none is found
+   * @since 3.1.0
+   */
+  public <T extends Common<?>> T findBySerial(Serial serial, Class<T> type) {
+    return serial == null || !serial.isSetValue()
+           ? null
+           : findBySerial(serial.getValue(), getSerialComponent(serial), type);
+  }
+
+  /**
+   * Find a data set of the indicated type by its SERIAL number value.
+   *
+   * @param <T>    the data set class type
+   * @param serial the data set SERIAL number value
+   * @param type   the data set class type (e.g. Location)
+   * @return the matching data set, null if none is found
+   * @see #findBySerial(Serial, Class)
+   * @since 3.1.0
+   */
+  public <T extends Common<?>> T findBySerial(String serial, Class<T> type) {
+    return serial == null
+           ? null
+           : findBySerial(serial, getSerialComponent(serial), type);
+  }
+
+  /**
+   * Internal method to find a data set of the indicated type by its SERIAL
+   * number value and serial number component.
+   *
+   * @param <T>             the data set class type
+   * @param serial          the data set SERIAL number value
+   * @param serialComponent the serial number component of the SERIAL value.
+   *                        May be null.
+   * @param type            the data set class type
+   * @return the matching data set, null if none is found
+   */
+  private <T extends Common<?>> T findBySerial(String serial, String serialComponent, Class<T> type) {
+    if (datasetIndex != null) {
+      List<Common<?>> candidates = datasetIndex.get(serialComponent != null ? serialComponent : serial);
+      return candidates != null ? findBySerial(serial, serialComponent, type, candidates) : null;
+    }
+    T match = null;
+    for (Set<? extends Common<?>> datasets : getDatasetSets()) {
+      if (datasets == null) {
+        continue;
+      }
+      T found = findBySerial(serial, serialComponent, type, datasets);
+      if (found != null && serial.equals(found.getSerial().getValue())) {
+        return found;
+      } else if (match == null) {
+        match = found;
+      }
+    }
+    return match;
+  }
+
+  /**
+   * Internal method to find a data set of the indicated type in a collection.
+   * A data set with an equal SERIAL value wins over an earlier data set with
+   * an equal serial number component.
+   *
+   * @param <T>             the data set class type
+   * @param serial          the data set SERIAL number value
+   * @param serialComponent the serial number component of the SERIAL value.
+   *                        May be null.
+   * @param type            the data set class type
+   * @param datasets        the data sets to search
+   * @return the matching data set, null if none is found
+   */
+  private static <T extends Common<?>> T findBySerial(String serial, String serialComponent, Class<T> type, Collection<? extends Common<?>> datasets) {
+    T match = null;
+    for (Common<?> dataset : datasets) {
+      if (type.isInstance(dataset) && dataset.getSerial() != null) {
+        if (serial.equals(dataset.getSerial().getValue())) {
+          return type.cast(dataset);
+        } else if (match == null && serialComponent != null && serialComponent.equals(getSerialComponent(dataset.getSerial()))) {
+          match = type.cast(dataset);
+        }
+      }
+    }
+    return match;
+  }
+
+  /**
+   * Build the SERIAL index used to resolve data set references. The index is
+   * only valid while the data sets are not changed and must be cleared with
+   * {@link #clearDatasetIndex()}.
+   * <p>
+   * Each data set is indexed by its serial number component (or by its SERIAL
+   * value if the value is not a valid SERIAL). Lookups filter the data sets
+   * sharing a key by type, exactly as the data set scan, so that a lookup by a
+   * super type (e.g. Common) finds the same data set with or without the
+   * index.
+   */
+  void buildDatasetIndex() {
+    int size = 0;
+    for (Set<? extends Common<?>> datasets : getDatasetSets()) {
+      size += datasets != null ? datasets.size() : 0;
+    }
+    Map<String, List<Common<?>>> index = new HashMap<>(size * 4 / 3 + 1);
+    for (Set<? extends Common<?>> datasets : getDatasetSets()) {
+      if (datasets == null) {
+        continue;
+      }
+      for (Common<?> dataset : datasets) {
+        if (dataset.getSerial() == null || !dataset.getSerial().isSetValue()) {
+          continue;
+        }
+        String serialComponent = getSerialComponent(dataset.getSerial());
+        String key = serialComponent != null ? serialComponent : dataset.getSerial().getValue();
+        List<Common<?>> candidates = index.get(key);
+        if (candidates == null) {
+          candidates = new ArrayList<>(1);
+          index.put(key, candidates);
+        }
+        candidates.add(dataset);
+      }
+    }
+    this.datasetIndex = index;
+  }
+
+  /**
+   * Clear the SERIAL index. Subsequent lookups scan the data sets.
+   */
+  void clearDatasetIndex() {
+    this.datasetIndex = null;
+  }
+
+  /**
+   * Get the data set collections, in SchemaRoot element order. Unset
+   * collections are null.
+   */
+  private List<Set<? extends Common<?>>> getDatasetSets() {
+    return Arrays.<Set<? extends Common<?>>>asList(contact, role, organisation, externalReference, administrative,
+                                                   location, channelPlan, toa, transmitter, receiver, antenna,
+                                                   rfSystem, ssRequest, ssReply, allotment, assignment, satellite,
+                                                   intfReport, jrfl, forceElement, feDeployment, message, note,
+                                                   loadset, radiationPlan);
+  }
+
+  /**
+   * Get the serial number component of a SERIAL value.
+   *
+   * @return the serial number component, null if the value is not a SERIAL
+   */
+  private static String getSerialComponent(String serial) {
+    String[] parts = XmlPatterns.splitSerial(serial);
+    return parts != null ? parts[3] : null;
+  }
+
+  /**
+   * Get the serial number component of a SERIAL number. The component is kept
+   * with the value once the value is parsed or formatted; an unparsed value
+   * (e.g. one just read from XML) is split.
+   *
+   * @return the serial number component, null if the value is not a SERIAL
+   */
+  private static String getSerialComponent(Serial serial) {
+    return serial.getSerial() != null ? serial.getSerial() : getSerialComponent(serial.getValue());
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Serial Number Generation">
+  /**
+   * Get the SERIAL number generator for data sets created by this SSRF
+   * instance.
+   *
+   * @return the SERIAL number generator. If not configured this is the global
+   *         default generator.
+   * @since 3.1.0
+   */
+  public ISerialGenerator getSerialGenerator() {
+    return serialGenerator != null ? serialGenerator : SerialGenerator.getDefault();
+  }
+
+  /**
+   * Set the SERIAL number generator for data sets created by this SSRF
+   * instance with {@link #newDataset(Class)}.
+   *
+   * @param serialGenerator the SERIAL number generator. If null the global
+   *                        default generator is used.
+   * @return this SSRF instance
+   * @since 3.1.0
+   */
+  public SSRF withSerialGenerator(ISerialGenerator serialGenerator) {
+    this.serialGenerator = serialGenerator;
+    return this;
+  }
+
+  /**
+   * Create a new data set with a SERIAL number from this SSRF instance SERIAL
+   * number generator.
+   * <p>
+   * The data set is NOT added to this SSRF instance.
+   *
+   * @param <T>  the data set class type
+   * @param type the data set class type (e.g. Assignment.class)
+   * @return a new data set instance
+   * @throws IllegalArgumentException if the data set class cannot be
+   *                                  instantiated
+   * @since 3.1.0
+   */
+  public <T extends Common<?>> T newDataset(Class<T> type) {
+    ISerialGenerator previous = SerialGenerator.enter(getSerialGenerator());
+    try {
+      return type.getConstructor().newInstance();
+    } catch (ReflectiveOperationException exception) {
+      throw new IllegalArgumentException("Failed to create a " + type.getSimpleName() + " data set", exception);
+    } finally {
+      SerialGenerator.exit(previous);
+    }
+  }
+
+  /**
+   * Create a new SERIAL number from this SSRF instance SERIAL number
+   * generator.
+   *
+   * @param type the data set class type (e.g. Assignment.class)
+   * @return a new SERIAL number
+   * @since 3.1.0
+   */
+  public Serial newSerial(Class<? extends Common<?>> type) {
+    return Serial.getInstance(type, getSerialGenerator());
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Index Allocation">
+  /**
+   * Allocate a new "idx" value for an indexed item (e.g. a Remarks, Point or
+   * Footnote) in this SSRF instance.
+   * <p>
+   * Index values are unique within this SSRF instance and never reused. They
+   * do not collide with the index values present when this SSRF instance was
+   * loaded.
+   * <p>
+   * Example use: <code>new Point().withIdx(ssrf.nextIdx())</code>
+   *
+   * @return a new index value between 1 and 999,999
+   * @throws IllegalStateException if all UN6 index values are allocated
+   * @since 3.1.0
+   */
+  public int nextIdx() {
+    return idxAllocator.next();
+  }
+
+  /**
+   * Reserve an "idx" value already in use in this SSRF instance so that it is
+   * not allocated by {@link #nextIdx()}.
+   * <p>
+   * Index values present when this SSRF instance is loaded are reserved
+   * automatically. Call this method for index values set explicitly by the
+   * application.
+   *
+   * @param idx the index value in use. Values outside the UN6 range are
+   *            ignored.
+   * @since 3.1.0
+   */
+  public void reserveIdx(int idx) {
+    if (idx > 0 && idx <= IdxAllocator.MAX_IDX) {
+      idxAllocator.reserve(idx);
+    }
   }//</editor-fold>
 
 }
@@ -0,0 +1,506 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import javax.xml.bind.JAXBException;
+import javax.xml.transform.stream.StreamSource;
+import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+
+/**
+ * Seekable, compressed SSRF data set archive.
+ * <p>
+ * An archive stores SSRF data sets as independently compressed XML blocks,
+ * one block per data set, followed by an index mapping each data set SERIAL
+ * number and type to its block. Reading a single data set decompresses and
+ * parses only its own block.
+ * <p>
+ * The file layout is:
+ * <ul>
+ * <li>Header: magic number, archive format version, the offset and length of
+ * the current index and the SSRF schema version.</li>
+ * <li>Blocks: each a data set XML fragment (as written by
+ * {@link SSRFStreamWriter}) compressed with {@link Deflater}.</li>
+ * <li>Index: for each data set the SERIAL value, data set type, block offset,
+ * compressed length and uncompressed length.</li>
+ * <li>Trailer: the index offset and the magic number.</li>
+ * </ul>
+ * <p>
+ * New data sets are appended after the current index and trailer. When the
+ * archive is flushed a new index and trailer are appended after the new
+ * blocks and forced to the storage device, and only then is the header
+ * updated to reference the new index. Existing blocks and the current index
+ * are never rewritten, so the file always holds a complete, readable index:
+ * if the application fails before the archive is flushed the data sets added
+ * since the last flush are lost, but the archive opens with its last flushed
+ * content. Unreferenced bytes after the current index (e.g. blocks written
+ * before a failure) are reclaimed when the archive is next opened and
+ * appended to.
+ * <p>
+ * If a data set is added with a SERIAL number already in the archive the index
+ * is updated to the new block; the old block remains in the file but is no
+ * longer referenced. Likewise each superseded index remains in the file.
+ * <p>
+ * Developer note: This class is not thread safe.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class SSRFArchive implements Closeable {
+
+  /**
+   * "SSRA". The archive magic number.
+   */
+  private static final int MAGIC = 0x53535241;
+  /**
+   * The archive format version. Increment when the layout changes.
+   * <ul>
+   * <li>1: initial format.</li>
+   * <li>2: current index offset and length held in the header.</li>
+   * </ul>
+   */
+  private static final int FORMAT_VERSION = 2;
+  /**
+   * "3.1.0". The SSRF schema version.
+   */
+  private static final String SCHEMA_VERSION = "3.1.0";
+  /**
+   * 12 bytes. The trailer length: index offset (long) and magic (int).
+   */
+  private static final int TRAILER_LENGTH = 12;
+  /**
+   * 8 bytes. The header position of the current index offset (long) and
+   * length (int), following the magic number and format version.
+   */
+  private static final int INDEX_POINTER_POSITION = 8;
+
+  /**
+   * The archive file channel.
+   */
+  private final FileChannel channel;
+  /**
+   * The archive index, by data set SERIAL value, in the order added.
+   */
+  private final Map<String, Entry> index = new LinkedHashMap<>();
+  /**
+   * The file position at which the next block is to be written. This follows
+   * the current index and trailer, and any blocks added since.
+   */
+  private long end;
+  /**
+   * Indicator that data sets were added since the index was last written.
+   */
+  private boolean modified;
+  /**
+   * Optional SSRF Properties to apply to each data set before it is added.
+   */
+  private SSRFProperties ssrfProperties;
+
+  /**
+   * An archive index entry.
+   */
+  private static class Entry {
+
+    private final EDatasetType datasetType;
+    private final long offset;
+    private final int compressedLength;
+    private final int length;
+
+    private Entry(EDatasetType datasetType, long offset, int compressedLength, int length) {
+      this.datasetType = datasetType;
+      this.offset = offset;
+      this.compressedLength = compressedLength;
+      this.length = length;
+    }
+  }
+
+  /**
+   * Internal constructor. Use {@link #create(Path)} or {@link #open(Path)}.
+   *
+   * @param channel the archive file channel
+   */
+  private SSRFArchive(FileChannel channel) {
+    this.channel = channel;
+  }
+
+  /**
+   * Create a new, empty archive. An existing file is truncated.
+   *
+   * @param path the archive file path
+   * @return a new archive open for reading and appending
+   * @throws IOException if the file cannot be created
+   */
+  public static SSRFArchive create(Path path) throws IOException {
+    SSRFArchive archive = new SSRFArchive(FileChannel.open(path,
+                                                          StandardOpenOption.CREATE,
+                                                          StandardOpenOption.TRUNCATE_EXISTING,
+                                                          StandardOpenOption.READ,
+                                                          StandardOpenOption.WRITE));
+    ByteArrayOutputStream header = new ByteArrayOutputStream();
+    DataOutputStream dataOutputStream = new DataOutputStream(header);
+    dataOutputStream.writeInt(MAGIC);
+    dataOutputStream.writeInt(FORMAT_VERSION);
+    dataOutputStream.writeLong(0);
+    dataOutputStream.writeInt(0);
+    dataOutputStream.writeUTF(SCHEMA_VERSION);
+    archive.write(header.toByteArray(), 0);
+    archive.end = header.size();
+    archive.modified = true;
+    archive.flush();
+    return archive;
+  }
+
+  /**
+   * Open an existing archive for reading and appending.
+   *
+   * @param path the archive file path
+   * @return the archive
+   * @throws IOException if the file cannot be read or is not a SSRF archive
+   */
+  public static SSRFArchive open(Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      SSRFArchive archive = new SSRFArchive(channel);
+      archive.readIndex();
+      return archive;
+    } catch (IOException | RuntimeException ex) {
+      channel.close();
+      throw ex;
+    }
+  }
+
+  /**
+   * Set the SSRF Properties to apply to each data set before it is added.
+   *
+   * @param ssrfProperties a SSRFProperties instance
+   * @return the current archive instance
+   */
+  public SSRFArchive withProperties(SSRFProperties ssrfProperties) {
+    this.ssrfProperties = ssrfProperties;
+    return this;
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Read">
+  /**
+   * Get the number of data sets in this archive.
+   *
+   * @return the number of data sets
+   */
+  public int size() {
+    return index.size();
+  }
+
+  /**
+   * Determine if this archive contains a data set.
+   *
+   * @param serial the data set SERIAL value
+   * @return TRUE if the data set is in this archive
+   */
+  public boolean contains(String serial) {
+    return index.containsKey(serial);
+  }
+
+  /**
+   * Get the SERIAL values of all data sets in this archive, in the order
+   * added.
+   *
+   * @return a non-null, unmodifiable set of SERIAL values
+   */
+  public Set<String> getSerials() {
+    return Collections.unmodifiableSet(index.keySet());
+  }
+
+  /**
+   * Get the SERIAL values of all data sets of a given type in this archive, in
+   * the order added.
+   *
+   * @param datasetType the data set type
+   * @return a non-null list of SERIAL values
+   */
+  public List<String> getSerials(EDatasetType datasetType) {
+    List<String> serials = new ArrayList<>();
+    for (Map.Entry<String, Entry> entry : index.entrySet()) {
+      if (entry.getValue().datasetType == datasetType) {
+        serials.add(entry.getKey());
+      }
+    }
+    return serials;
+  }
+
+  /**
+   * Get the type of a data set in this archive.
+   *
+   * @param serial the data set SERIAL value
+   * @return the data set type, null if the data set is not in this archive
+   */
+  public EDatasetType getDatasetType(String serial) {
+    Entry entry = index.get(serial);
+    return entry != null ? entry.datasetType : null;
+  }
+
+  /**
+   * Read a data set from this archive. Only the data set block is read and
+   * decompressed.
+   * <p>
+   * The data set is post-loaded (see
+   * {@link SSRFUtility#postLoad(Common, SSRF)}). References to other data sets
+   * are NOT resolved.
+   *
+   * @param serial the data set SERIAL value
+   * @return the data set, null if the data set is not in this archive
+   * @throws IOException   if the block cannot be read or decompressed
+   * @throws JAXBException if the block cannot be unmarshalled
+   */
+  public Common<?> get(String serial) throws IOException, JAXBException {
+    Entry entry = index.get(serial);
+    if (entry == null) {
+      return null;
+    }
+    byte[] compressed = read(entry.offset, entry.compressedLength);
+    byte[] xml = new byte[entry.length];
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      if (inflater.inflate(xml) != entry.length || !inflater.finished()) {
+        throw new IOException("SSRF archive block for " + serial + " is corrupt.");
+      }
+    } catch (DataFormatException ex) {
+      throw new IOException("SSRF archive block for " + serial + " is corrupt.", ex);
+    } finally {
+      inflater.end();
+    }
+    Common<?> dataset = SSRFBinding.getUnmarshaller(SSRF.class)
+            .unmarshal(new StreamSource(new ByteArrayInputStream(xml)), entry.datasetType.getClazz())
+            .getValue();
+    return SSRFUtility.postLoad(dataset, new SSRF());
+  }
+
+  /**
+   * Read a data set from this archive.
+   *
+   * @param serial the data set SERIAL number
+   * @return the data set, null if the data set is not in this archive
+   * @throws IOException   if the block cannot be read or decompressed
+   * @throws JAXBException if the block cannot be unmarshalled
+   */
+  public Common<?> get(Serial serial) throws IOException, JAXBException {
+    return get(serial.getValue());
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Write">
+  /**
+   * Add a data set to this archive.
+   * <p>
+   * The data set is prepared and validated as described in
+   * {@link SSRFStreamWriter#write(Common)} then compressed and appended as a
+   * new block. The index is updated in memory and written when this archive is
+   * flushed or closed.
+   *
+   * @param dataset the SSRF data set instance
+   * @throws Exception If the data set fails to validate, cannot be marshalled
+   *                   or cannot be written
+   */
+  public void put(Common<?> dataset) throws Exception {
+    EDatasetType datasetType = EDatasetType.fromInstance(dataset);
+    if (datasetType == null) {
+      throw new IllegalArgumentException("Unrecognized SSRF data set type " + dataset.getClass().getName());
+    }
+    SSRFStreamWriter.prepare(dataset, ssrfProperties);
+    ByteArrayOutputStream xml = new ByteArrayOutputStream();
+    SSRFBinding.getMarshaller(SSRF.class, EMarshalProfile.FRAGMENT).marshal(SSRFStreamWriter.toElement(dataset), xml);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(xml.size() / 4 + 64);
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(compressed, deflater)) {
+      xml.writeTo(deflaterOutputStream);
+    } finally {
+      deflater.end();
+    }
+    byte[] block = compressed.toByteArray();
+    write(block, end);
+    index.put(dataset.getSerial().getValue(), new Entry(datasetType, end, block.length, xml.size()));
+    end += block.length;
+    modified = true;
+  }
+
+  /**
+   * Add several data sets to this archive.
+   *
+   * @param datasets the SSRF data set instances
+   * @throws Exception If a data set fails to validate, cannot be marshalled or
+   *                   cannot be written
+   */
+  public void put(Iterable<? extends Common<?>> datasets) throws Exception {
+    for (Common<?> dataset : datasets) {
+      put(dataset);
+    }
+  }
+
+  /**
+   * Write a new index and trailer if data sets were added since the index was
+   * last written, then force all changes to the storage device.
+   * <p>
+   * The new index and trailer are appended after the new blocks and forced to
+   * the storage device before the header is updated to reference them. A
+   * failure at any point leaves either the previous or the new index in
+   * effect.
+   *
+   * @throws IOException if the index cannot be written
+   */
+  public void flush() throws IOException {
+    if (!modified) {
+      return;
+    }
+    ByteArrayOutputStream footer = new ByteArrayOutputStream();
+    DataOutputStream dataOutputStream = new DataOutputStream(footer);
+    dataOutputStream.writeInt(index.size());
+    for (Map.Entry<String, Entry> entry : index.entrySet()) {
+      dataOutputStream.writeUTF(entry.getKey());
+      dataOutputStream.writeByte(entry.getValue().datasetType.ordinal());
+      dataOutputStream.writeLong(entry.getValue().offset);
+      dataOutputStream.writeInt(entry.getValue().compressedLength);
+      dataOutputStream.writeInt(entry.getValue().length);
+    }
+    dataOutputStream.writeLong(end);
+    dataOutputStream.writeInt(MAGIC);
+    long indexOffset = end;
+    write(footer.toByteArray(), indexOffset);
+    end += footer.size();
+    channel.truncate(end);
+    channel.force(false);
+    /**
+     * Commit: reference the new index from the header. The old index is no
+     * longer referenced.
+     */
+    ByteArrayOutputStream pointer = new ByteArrayOutputStream();
+    dataOutputStream = new DataOutputStream(pointer);
+    dataOutputStream.writeLong(indexOffset);
+    dataOutputStream.writeInt(footer.size());
+    write(pointer.toByteArray(), INDEX_POINTER_POSITION);
+    channel.force(false);
+    modified = false;
+  }
+
+  /**
+   * Flush and close this archive.
+   *
+   * @throws IOException if the index cannot be written
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      channel.close();
+    }
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="File Access">
+  /**
+   * Read and check the header, index and trailer of an existing archive.
+   * Blocks are subsequently appended after the index and trailer referenced
+   * by the header.
+   *
+   * @throws IOException if the file is not a SSRF archive
+   */
+  private void readIndex() throws IOException {
+    long size = channel.size();
+    if (size < INDEX_POINTER_POSITION + TRAILER_LENGTH) {
+      throw new IOException("Not a SSRF archive.");
+    }
+    DataInputStream header = new DataInputStream(new ByteArrayInputStream(read(0, (int) Math.min(size, 64))));
+    if (header.readInt() != MAGIC) {
+      throw new IOException("Not a SSRF archive.");
+    }
+    int formatVersion = header.readInt();
+    if (formatVersion != FORMAT_VERSION) {
+      throw new IOException("Unsupported SSRF archive version " + formatVersion);
+    }
+    long indexOffset = header.readLong();
+    int indexLength = header.readInt();
+    String schemaVersion = header.readUTF();
+    if (!SCHEMA_VERSION.equals(schemaVersion)) {
+      throw new IOException("Unsupported SSRF archive version " + formatVersion + " for schema " + schemaVersion);
+    }
+    if (indexOffset <= INDEX_POINTER_POSITION || indexLength < TRAILER_LENGTH || indexOffset > size - indexLength) {
+      throw new IOException("SSRF archive index is missing or corrupt.");
+    }
+    byte[] indexBytes = read(indexOffset, indexLength);
+    DataInputStream trailer = new DataInputStream(new ByteArrayInputStream(indexBytes, indexLength - TRAILER_LENGTH, TRAILER_LENGTH));
+    if (trailer.readLong() != indexOffset || trailer.readInt() != MAGIC) {
+      throw new IOException("SSRF archive index is missing or corrupt.");
+    }
+    DataInputStream footer = new DataInputStream(new ByteArrayInputStream(indexBytes, 0, indexLength - TRAILER_LENGTH));
+    EDatasetType[] datasetTypes = EDatasetType.values();
+    int count = footer.readInt();
+    for (int i = 0; i < count; i++) {
+      String serial = footer.readUTF();
+      int ordinal = footer.readUnsignedByte();
+      if (ordinal >= datasetTypes.length) {
+        throw new IOException("SSRF archive index is corrupt.");
+      }
+      index.put(serial, new Entry(datasetTypes[ordinal], footer.readLong(), footer.readInt(), footer.readInt()));
+    }
+    end = indexOffset + indexLength;
+  }
+
+  /**
+   * Read bytes from the archive file.
+   *
+   * @param position the file position
+   * @param length   the number of bytes to read
+   * @return the bytes read
+   * @throws IOException if the bytes cannot be read
+   */
+  private byte[] read(long position, int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("SSRF archive is truncated.");
+      }
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Write bytes to the archive file.
+   *
+   * @param bytes    the bytes to write
+   * @param position the file position
+   * @throws IOException if the bytes cannot be written
+   */
+  private void write(byte[] bytes, long position) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, position + buffer.position());
+    }
+  }//</editor-fold>
+}
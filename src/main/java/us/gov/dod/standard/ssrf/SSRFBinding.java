@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+
+/**
+ * Process-wide JAXB binding runtime.
+ * <p>
+ * Creating a {@link JAXBContext} for the SSRF class tree (several hundred
+ * annotated classes) is very expensive and must not be repeated for every
+ * document. This class builds one context per root class type, on first use,
+ * and shares it across all threads.
+ * <p>
+ * {@link Marshaller} and {@link Unmarshaller} instances are cheap compared to
+ * the context but are not thread safe. These are pooled per thread: each
+ * thread holds one unmarshaller per root class type and one marshaller per
+ * root class type and {@link EMarshalProfile}. Pooled instances are configured
+ * once, when created, and then reused.
+ * <p>
+ * Developer note: Pooled marshallers and unmarshallers are owned by this class.
+ * Callers should not change their configuration (properties, event handlers,
+ * listeners) as the change would leak into subsequent calls on the same
+ * thread.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public final class SSRFBinding {
+
+  /**
+   * The shared JAXB context cache, one per root class type.
+   */
+  private static final ConcurrentMap<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
+  /**
+   * The per-thread Marshaller pool, keyed by root class type then by output
+   * profile.
+   */
+  private static final ThreadLocal<Map<Class<?>, Map<EMarshalProfile, Marshaller>>> MARSHALLERS = new ThreadLocal<Map<Class<?>, Map<EMarshalProfile, Marshaller>>>() {
+    @Override
+    protected Map<Class<?>, Map<EMarshalProfile, Marshaller>> initialValue() {
+      return new HashMap<>();
+    }
+  };
+
+  /**
+   * The per-thread Unmarshaller pool, keyed by root class type.
+   */
+  private static final ThreadLocal<Map<Class<?>, Unmarshaller>> UNMARSHALLERS = new ThreadLocal<Map<Class<?>, Unmarshaller>>() {
+    @Override
+    protected Map<Class<?>, Unmarshaller> initialValue() {
+      return new HashMap<>();
+    }
+  };
+
+  /**
+   * Static utility class. Not instantiable.
+   */
+  private SSRFBinding() {
+  }
+
+  /**
+   * Get the shared JAXB context for the indicated root class type.
+   * <p>
+   * The context is created (using the EclipseLink MOXy JAXB implementation)
+   * the first time a root class type is requested and is then reused for the
+   * life of the class loader. JAXB contexts are thread safe.
+   *
+   * @param clazz the root class type (e.g. {@link SSRF})
+   * @return the shared JAXB context
+   * @throws JAXBException if the context cannot be created
+   */
+  public static JAXBContext getContext(Class<?> clazz) throws JAXBException {
+    JAXBContext context = CONTEXTS.get(clazz);
+    if (context == null) {
+      /**
+       * Synchronize creation so that concurrent first calls do not each build
+       * a (very expensive) context for the same class type.
+       */
+      synchronized (CONTEXTS) {
+        context = CONTEXTS.get(clazz);
+        if (context == null) {
+          context = JAXBContextFactory.createContext(new Class<?>[]{clazz}, null, null);
+          CONTEXTS.put(clazz, context);
+        }
+      }
+    }
+    return context;
+  }
+
+  /**
+   * Get a Marshaller for the indicated root class type and output profile.
+   * <p>
+   * The returned instance belongs to the current thread and must not be shared
+   * with or handed to another thread.
+   *
+   * @param clazz   the root class type
+   * @param profile the output profile
+   * @return a configured, thread-confined marshaller
+   * @throws JAXBException if the marshaller cannot be created or configured
+   */
+  public static Marshaller getMarshaller(Class<?> clazz, EMarshalProfile profile) throws JAXBException {
+    Map<EMarshalProfile, Marshaller> profiles = MARSHALLERS.get().get(clazz);
+    if (profiles == null) {
+      profiles = new EnumMap<>(EMarshalProfile.class);
+      MARSHALLERS.get().put(clazz, profiles);
+    }
+    Marshaller marshaller = profiles.get(profile);
+    if (marshaller == null) {
+      marshaller = getContext(clazz).createMarshaller();
+      profile.configure(marshaller);
+      profiles.put(profile, marshaller);
+    }
+    return marshaller;
+  }
+
+  /**
+   * Get an Unmarshaller for the indicated root class type.
+   * <p>
+   * The returned instance belongs to the current thread and must not be shared
+   * with or handed to another thread.
+   *
+   * @param clazz the root class type
+   * @return a thread-confined unmarshaller
+   * @throws JAXBException if the unmarshaller cannot be created
+   */
+  public static Unmarshaller getUnmarshaller(Class<?> clazz) throws JAXBException {
+    Unmarshaller unmarshaller = UNMARSHALLERS.get().get(clazz);
+    if (unmarshaller == null) {
+      unmarshaller = getContext(clazz).createUnmarshaller();
+      UNMARSHALLERS.get().put(clazz, unmarshaller);
+    }
+    return unmarshaller;
+  }
+
+  /**
+   * Pre-build the JAXB context for the indicated root class type.
+   * <p>
+   * Call this at application start-up to move the one-time context creation
+   * cost out of the first request.
+   *
+   * @param clazz the root class type
+   * @throws JAXBException if the context cannot be created
+   */
+  public static void warmUp(Class<?> clazz) throws JAXBException {
+    getContext(clazz);
+  }
+
+  /**
+   * Release the marshallers and unmarshallers pooled by the current thread.
+   * <p>
+   * Call this from long-lived pooled threads (e.g. in a container) before the
+   * thread is returned to the pool if the SSRF library is to be unloaded.
+   */
+  public static void releaseThread() {
+    MARSHALLERS.remove();
+    UNMARSHALLERS.remove();
+  }
+}
@@ -0,0 +1,625 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import javax.xml.bind.*;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.stream.*;
+import us.gov.dod.standard.ssrf._3_1.Common;
+
+/**
+ * Validating streaming SSRF document reader for bulk ingestion.
+ * <p>
+ * This class reads a SSRF XML document one data set at a time, as
+ * {@link SSRFStreamReader}, but checks each data set as soon as it is read:
+ * values rejected by their XmlJavaTypeAdapter while parsing are recorded
+ * instead of failing the import, then the data set is evaluated (see
+ * {@link SSRFUtility#evaluate(Object, IValidationSink)}) for required fields,
+ * classification order and value formats. Every issue found is delivered to
+ * the configured {@link IValidationSink}.
+ * <p>
+ * Data sets without issues are returned to the caller (or collected into a SSRF
+ * message by {@link #readAll()}). Data sets with issues are NOT returned: their
+ * original XML is copied to the (optional) quarantine output, which is itself a
+ * well formed SSRF document that may be corrected and ingested again. A single
+ * pass over the document therefore yields both the clean data sets and a full
+ * error report.
+ * <p>
+ * Example use:
+ * <pre>
+ * ValidationReport report = new ValidationReport();
+ * try (SSRFIngest ingest = new SSRFIngest(path).withSink(report).withQuarantine(quarantinePath)) {
+ *   SSRF ssrf = ingest.readAll();
+ * }
+ * </pre>
+ * <p>
+ * Issue paths are relative to the data set (e.g. "Location.name") and PARSE
+ * issues identify the data set element by its line and column in the
+ * document. References to other data sets are NOT resolved while reading; see
+ * {@link SSRFStreamReader}.
+ * <p>
+ * Developer note: Each data set element is copied into a memory buffer before
+ * it is unmarshalled so that a data set that cannot be read does not stop the
+ * import and can be quarantined verbatim. Memory use is bounded by the largest
+ * single data set. A document that is not well formed XML cannot be read past
+ * the error; read errors are reported as an {@link IllegalStateException}
+ * wrapping the underlying XML exception. This class is not thread safe.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class SSRFIngest implements Iterator<Common<?>>, Iterable<Common<?>>, Closeable {
+
+  /**
+   * The StAX input factory used to read buffered data sets.
+   */
+  private final XMLInputFactory xmlInputFactory;
+  /**
+   * The StAX output factory used to buffer data sets.
+   */
+  private final XMLOutputFactory xmlOutputFactory;
+  /**
+   * The StAX cursor over the SSRF XML document.
+   */
+  private final XMLStreamReader xmlStreamReader;
+  /**
+   * The underlying input stream. This is only set (and closed) if the input
+   * stream was opened by this reader.
+   */
+  private final InputStream ownedInputStream;
+  /**
+   * The unmarshaller, owned by this reader. A pooled unmarshaller is not used
+   * since the event handler is replaced.
+   */
+  private final Unmarshaller unmarshaller;
+  /**
+   * The unmarshal events raised while reading the current data set.
+   */
+  private final EventCollector events = new EventCollector();
+  /**
+   * An empty SSRF instance used as the post-load root for each data set.
+   */
+  private final SSRF root;
+  /**
+   * The current data set element, buffered.
+   */
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+  /**
+   * The namespace declarations of the SSRF root element. These are copied
+   * onto each buffered data set element.
+   */
+  private final List<String[]> rootNamespaces = new ArrayList<>();
+  /**
+   * The downstream validation sink. May be null.
+   */
+  private IValidationSink sink;
+  /**
+   * The quarantine output. May be null.
+   */
+  private OutputStream quarantine;
+  /**
+   * Indicator that the quarantine output was opened (and should be closed) by
+   * this reader.
+   */
+  private boolean quarantineOwned;
+  /**
+   * Indicator that the SSRF root element start tag has been read.
+   */
+  private boolean rootOpen;
+  /**
+   * Indicator that the end of the SSRF document has been reached, or that the
+   * ingest was stopped.
+   */
+  private boolean finished;
+  /**
+   * Indicator that the ingest was stopped by the validation sink.
+   */
+  private boolean stopped;
+  /**
+   * The next data set to return. Null if not yet read.
+   */
+  private Common<?> next;
+  /**
+   * The number of clean data sets returned so far.
+   */
+  private long count;
+  /**
+   * The number of data sets quarantined so far.
+   */
+  private long quarantinedCount;
+  /**
+   * The number of issues found so far.
+   */
+  private long issueCount;
+
+  /**
+   * Construct a new validating reader over an input stream. The input stream
+   * is NOT closed when this reader is closed.
+   *
+   * @param inputStream the SSRF XML document input stream
+   * @throws XMLStreamException if the StAX cursor cannot be created
+   * @throws JAXBException      if the unmarshaller cannot be created
+   */
+  public SSRFIngest(InputStream inputStream) throws XMLStreamException, JAXBException {
+    this(inputStream, false);
+  }
+
+  /**
+   * Construct a new validating reader over a file. The file is closed when this
+   * reader is closed.
+   *
+   * @param path the SSRF XML document file path
+   * @throws IOException        if the file cannot be opened
+   * @throws XMLStreamException if the StAX cursor cannot be created
+   * @throws JAXBException      if the unmarshaller cannot be created
+   */
+  public SSRFIngest(Path path) throws IOException, XMLStreamException, JAXBException {
+    this(new BufferedInputStream(Files.newInputStream(path)), true);
+  }
+
+  /**
+   * Internal constructor.
+   *
+   * @param inputStream the SSRF XML document input stream
+   * @param owned       TRUE if the input stream is owned (and should be
+   *                    closed) by this reader
+   * @throws XMLStreamException if the StAX cursor cannot be created
+   * @throws JAXBException      if the unmarshaller cannot be created
+   */
+  private SSRFIngest(InputStream inputStream, boolean owned) throws XMLStreamException, JAXBException {
+    this.ownedInputStream = owned ? inputStream : null;
+    this.xmlInputFactory = SSRFStreamReader.newInputFactory();
+    this.xmlStreamReader = xmlInputFactory.createXMLStreamReader(inputStream, "UTF-8");
+    this.xmlOutputFactory = XMLOutputFactory.newInstance();
+    this.xmlOutputFactory.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, true);
+    this.unmarshaller = SSRFBinding.getContext(SSRF.class).createUnmarshaller();
+    this.unmarshaller.setEventHandler(events);
+    this.root = new SSRF();
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Configuration">
+  /**
+   * Set the validation sink to receive every issue as it is found. The ingest
+   * stops if the sink returns FALSE.
+   *
+   * @param sink the validation sink
+   * @return this reader instance
+   */
+  public SSRFIngest withSink(IValidationSink sink) {
+    this.sink = sink;
+    return this;
+  }
+
+  /**
+   * Set the quarantine output. Data sets with issues are written to the output
+   * as a SSRF document. The output stream is NOT closed when this reader is
+   * closed.
+   *
+   * @param outputStream the quarantine output stream
+   * @return this reader instance
+   * @throws IOException if the SSRF root element cannot be written
+   */
+  public SSRFIngest withQuarantine(OutputStream outputStream) throws IOException {
+    return withQuarantine(outputStream, false);
+  }
+
+  /**
+   * Set the quarantine output file. Data sets with issues are written to the
+   * file as a SSRF document. The file is closed when this reader is closed.
+   *
+   * @param path the quarantine file path
+   * @return this reader instance
+   * @throws IOException if the file cannot be opened or written
+   */
+  public SSRFIngest withQuarantine(Path path) throws IOException {
+    return withQuarantine(new BufferedOutputStream(Files.newOutputStream(path)), true);
+  }
+
+  /**
+   * Internal method to set the quarantine output and write the SSRF root
+   * element start tag.
+   */
+  private SSRFIngest withQuarantine(OutputStream outputStream, boolean owned) throws IOException {
+    if (quarantine != null) {
+      throw new IllegalStateException("SSRF ingest quarantine is already set.");
+    }
+    outputStream.write(("<?xml version=\"1.0\" encoding=\"UTF-8\"?><"
+                        + SSRFStreamWriter.PREFIX + ":" + SSRF.class.getAnnotation(XmlRootElement.class).name()
+                        + " xmlns:" + SSRFStreamWriter.PREFIX + "=\"" + SSRFStreamWriter.NAMESPACE + "\">").getBytes(StandardCharsets.UTF_8));
+    this.quarantine = outputStream;
+    this.quarantineOwned = owned;
+    return this;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Status">
+  /**
+   * Get the number of clean data sets returned so far.
+   *
+   * @return the number of clean data sets
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Get the number of data sets with issues so far. These are written to the
+   * quarantine output, if configured.
+   *
+   * @return the number of quarantined data sets
+   */
+  public long getQuarantinedCount() {
+    return quarantinedCount;
+  }
+
+  /**
+   * Get the number of issues found so far.
+   *
+   * @return the number of issues
+   */
+  public long getIssueCount() {
+    return issueCount;
+  }
+
+  /**
+   * Determine if the ingest was stopped by the validation sink before the end
+   * of the document.
+   *
+   * @return TRUE if the ingest was stopped
+   */
+  public boolean isStopped() {
+    return stopped;
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Read">
+  /**
+   * Read all remaining data sets. Clean data sets are collected into a new SSRF
+   * message, which is post-loaded so that references between clean data sets
+   * are resolved.
+   *
+   * @return a SSRF message containing the clean data sets
+   * @throws IllegalStateException if the document cannot be read
+   */
+  public SSRF readAll() {
+    SSRF ssrf = new SSRF();
+    while (hasNext()) {
+      ssrf.withDataset(next());
+    }
+    return SSRFUtility.postLoad(ssrf);
+  }
+
+  /**
+   * Returns this reader. A reader may only be iterated once.
+   *
+   * @return this reader
+   */
+  @Override
+  public Iterator<Common<?>> iterator() {
+    return this;
+  }
+
+  /**
+   * Returns true if the document contains more clean data sets.
+   *
+   * @return TRUE if another clean data set is available
+   * @throws IllegalStateException if the document cannot be read
+   */
+  @Override
+  public boolean hasNext() {
+    while (next == null && !finished) {
+      try {
+        next = readNext();
+      } catch (XMLStreamException | IOException ex) {
+        finished = true;
+        throw new IllegalStateException("SSRF ingest read error after " + (count + quarantinedCount) + " data sets: " + ex.getMessage(), ex);
+      }
+    }
+    return next != null;
+  }
+
+  /**
+   * Returns the next clean data set in the document.
+   *
+   * @return the next clean data set
+   * @throws NoSuchElementException if the document has no more clean data sets
+   * @throws IllegalStateException  if the document cannot be read
+   */
+  @Override
+  public Common<?> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Common<?> dataset = next;
+    next = null;
+    count++;
+    return dataset;
+  }
+
+  /**
+   * Not supported.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("SSRF ingest is read only.");
+  }
+
+  /**
+   * Close this reader and release its StAX cursor. The quarantine document is
+   * completed. Files opened by this reader are closed.
+   *
+   * @throws IOException if the quarantine output cannot be written or a file
+   *                     cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    finished = true;
+    next = null;
+    try {
+      xmlStreamReader.close();
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    } finally {
+      try {
+        if (quarantine != null) {
+          quarantine.write(("</" + SSRFStreamWriter.PREFIX + ":" + SSRF.class.getAnnotation(XmlRootElement.class).name() + ">").getBytes(StandardCharsets.UTF_8));
+          if (quarantineOwned) {
+            quarantine.close();
+          } else {
+            quarantine.flush();
+          }
+          quarantine = null;
+        }
+      } finally {
+        if (ownedInputStream != null) {
+          ownedInputStream.close();
+        }
+      }
+    }
+  }
+
+  /**
+   * Move the cursor to the next top-level data set element, read and check
+   * it.
+   *
+   * @return the next data set if it is clean; null if it was quarantined, if
+   *         the end of the document is reached or if the ingest was stopped
+   * @throws XMLStreamException if the document cannot be read
+   * @throws IOException        if the quarantine output cannot be written
+   */
+  private Common<?> readNext() throws XMLStreamException, IOException {
+    /**
+     * Important: Inspect the CURRENT event before advancing. After copying a
+     * data set the cursor is positioned on the event immediately following
+     * its end tag, which may be the next start tag.
+     */
+    while (true) {
+      int event = xmlStreamReader.getEventType();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        if (!rootOpen) {
+          rootOpen = true;
+          for (int i = 0; i < xmlStreamReader.getNamespaceCount(); i++) {
+            rootNamespaces.add(new String[]{xmlStreamReader.getNamespacePrefix(i), xmlStreamReader.getNamespaceURI(i)});
+          }
+        } else {
+          EDatasetType datasetType = EDatasetType.fromClassSimpleName(xmlStreamReader.getLocalName());
+          if (datasetType != null) {
+            return readDataset(datasetType);
+          }
+          /**
+           * Not a SSRF data set. Skip the element and its content, consistent
+           * with the JAXB unmarshaller handling of unknown elements.
+           */
+          copyElement(null);
+          continue;
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) {
+        /**
+         * The only end tag seen at this level is the root element end tag.
+         */
+        finished = true;
+        return null;
+      }
+      xmlStreamReader.next();
+    }
+  }
+
+  /**
+   * Buffer, unmarshal and check the data set element at the cursor.
+   *
+   * @param datasetType the data set type
+   * @return the data set if it is clean, otherwise null
+   * @throws XMLStreamException if the document cannot be read
+   * @throws IOException        if the quarantine output cannot be written
+   */
+  private Common<?> readDataset(EDatasetType datasetType) throws XMLStreamException, IOException {
+    javax.xml.stream.Location location = xmlStreamReader.getLocation();
+    String element = datasetType.getClassSimpleName() + " at line " + location.getLineNumber() + ", column " + location.getColumnNumber();
+    /**
+     * Copy the data set element to the buffer then unmarshal the buffer.
+     * Values rejected while unmarshalling are collected as events.
+     */
+    buffer.reset();
+    XMLStreamWriter xmlStreamWriter = xmlOutputFactory.createXMLStreamWriter(buffer, "UTF-8");
+    copyElement(xmlStreamWriter);
+    xmlStreamWriter.close();
+    events.clear();
+    Common<?> dataset = null;
+    try {
+      XMLStreamReader datasetReader = xmlInputFactory.createXMLStreamReader(new ByteArrayInputStream(buffer.toByteArray()), "UTF-8");
+      dataset = unmarshaller.unmarshal(datasetReader, datasetType.getClazz()).getValue();
+    } catch (JAXBException | XMLStreamException | RuntimeException ex) {
+      events.add(ex);
+    }
+    /**
+     * Report the unmarshal events then evaluate the data set.
+     */
+    DatasetSink datasetSink = new DatasetSink();
+    for (Object cause : events) {
+      if (!datasetSink.accept(ValidationIssue.parse(dataset != null ? dataset.getSerial() : null, element, getDetail(cause)))) {
+        break;
+      }
+    }
+    if (dataset != null && !stopped) {
+      try {
+        SSRFUtility.postLoad(dataset, root);
+        SSRFUtility.evaluate(dataset, datasetSink);
+      } catch (RuntimeException ex) {
+        datasetSink.accept(ValidationIssue.parse(dataset.getSerial(), element, getDetail(ex)));
+      }
+    }
+    if (stopped) {
+      finished = true;
+    }
+    if (datasetSink.issues == 0 && dataset != null) {
+      return dataset;
+    }
+    quarantinedCount++;
+    if (quarantine != null) {
+      buffer.writeTo(quarantine);
+    }
+    return null;
+  }
+
+  /**
+   * Copy the element at the cursor and all of its content to a StAX writer.
+   * The namespace declarations of the SSRF root element are repeated on the
+   * copied element. On return the cursor is positioned on the event
+   * immediately following the element end tag.
+   *
+   * @param writer the destination writer. If null then the element is
+   *               skipped.
+   * @throws XMLStreamException if the document cannot be read or written
+   */
+  private void copyElement(XMLStreamWriter writer) throws XMLStreamException {
+    int depth = 0;
+    do {
+      int event = xmlStreamReader.getEventType();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        if (writer != null) {
+          writer.writeStartElement(nonNull(xmlStreamReader.getPrefix()), xmlStreamReader.getLocalName(), nonNull(xmlStreamReader.getNamespaceURI()));
+          if (depth == 0) {
+            for (String[] namespace : rootNamespaces) {
+              writer.writeNamespace(nonNull(namespace[0]), namespace[1]);
+            }
+          }
+          for (int i = 0; i < xmlStreamReader.getNamespaceCount(); i++) {
+            writer.writeNamespace(nonNull(xmlStreamReader.getNamespacePrefix(i)), xmlStreamReader.getNamespaceURI(i));
+          }
+          for (int i = 0; i < xmlStreamReader.getAttributeCount(); i++) {
+            writer.writeAttribute(nonNull(xmlStreamReader.getAttributePrefix(i)), nonNull(xmlStreamReader.getAttributeNamespace(i)), xmlStreamReader.getAttributeLocalName(i), xmlStreamReader.getAttributeValue(i));
+          }
+        }
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        if (writer != null) {
+          writer.writeEndElement();
+        }
+        depth--;
+      } else if (writer != null) {
+        switch (event) {
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.SPACE:
+          case XMLStreamConstants.ENTITY_REFERENCE:
+            writer.writeCharacters(xmlStreamReader.getText());
+            break;
+          case XMLStreamConstants.CDATA:
+            writer.writeCData(xmlStreamReader.getText());
+            break;
+          case XMLStreamConstants.COMMENT:
+            writer.writeComment(xmlStreamReader.getText());
+            break;
+          default:
+        }
+      }
+      xmlStreamReader.next();
+    } while (depth > 0);
+  }//</editor-fold>
+
+  /**
+   * Internal method to replace a null prefix or namespace URI with the empty
+   * string, as required by the StAX writer.
+   */
+  private static String nonNull(String value) {
+    return value != null ? value : "";
+  }
+
+  /**
+   * Get a one-line description of an unmarshal event or exception.
+   *
+   * @param cause a {@link ValidationEvent} or a {@link Throwable}
+   * @return the first non-empty line of the message
+   */
+  private static String getDetail(Object cause) {
+    String message = cause instanceof ValidationEvent
+                     ? ((ValidationEvent) cause).getMessage()
+                     : cause.toString();
+    if (message == null) {
+      return cause.toString();
+    }
+    for (String line : message.split("\n")) {
+      if (!line.trim().isEmpty()) {
+        return line.trim().replace("Exception Description: ", "");
+      }
+    }
+    return message;
+  }
+
+  /**
+   * Unmarshal event handler. Collects every event and continues.
+   */
+  private static class EventCollector extends ArrayList<Object> implements ValidationEventHandler {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public boolean handleEvent(ValidationEvent event) {
+      add(event);
+      return true;
+    }
+  }
+
+  /**
+   * Validation sink for a single data set. Counts the data set issues and
+   * forwards each to the downstream sink.
+   */
+  private class DatasetSink implements IValidationSink {
+
+    /**
+     * The number of issues found in the data set.
+     */
+    private int issues;
+
+    @Override
+    public boolean accept(ValidationIssue issue) {
+      issues++;
+      issueCount++;
+      if (sink != null && !sink.accept(issue)) {
+        stopped = true;
+      }
+      return !stopped;
+    }
+  }
+}
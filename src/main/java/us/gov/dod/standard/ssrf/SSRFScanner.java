@@ -0,0 +1,421 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Byte-level SSRF document pre-scanner.
+ * <p>
+ * This class makes a single fast pass over an encoded (UTF-8) SSRF XML
+ * document and records the byte range of each top-level data set element
+ * (Contact, Location, Assignment, etc.) together with the SSRF root element
+ * start tag. No XML objects are created and no character decoding is
+ * performed: all XML markup characters are ASCII and are therefore found by
+ * byte comparison.
+ * <p>
+ * The SERIAL value of each data set (the text of its direct Serial child
+ * element) is also recorded so that data sets may be located by SERIAL number
+ * without being unmarshalled.
+ * <p>
+ * The recorded ranges let a document be processed in pieces; for example read
+ * in parallel, or one data set at a time. Each range can be wrapped inside the
+ * SSRF root element (see {@link #getInputStream(ByteBuffer, int, int)}) so
+ * that namespace declarations made on the root element remain in scope.
+ * <p>
+ * Developer note: The scanner recognizes comments, CDATA sections, processing
+ * instructions and quoted attribute values. It does not support a DOCTYPE
+ * internal subset. Elements that are not SSRF data sets are not recorded.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public final class SSRFScanner {
+
+  /**
+   * The SSRF root element start tag, as written in the document.
+   */
+  private String rootStartTag;
+  /**
+   * The SSRF root element qualified name (e.g. "s:SSRF").
+   */
+  private String rootName;
+  /**
+   * The number of data sets found.
+   */
+  private int size;
+  /**
+   * The SERIAL value of the data set currently being scanned.
+   */
+  private String pendingSerial;
+  /**
+   * The data set types, indexed by data set position.
+   */
+  private EDatasetType[] datasetTypes = new EDatasetType[64];
+  /**
+   * The data set element byte offsets, indexed by data set position.
+   */
+  private int[] offsets = new int[64];
+  /**
+   * The data set element byte lengths, indexed by data set position.
+   */
+  private int[] lengths = new int[64];
+  /**
+   * The data set SERIAL values, indexed by data set position.
+   */
+  private String[] serials = new String[64];
+
+  /**
+   * Scanner instances are created by {@link #scan(ByteBuffer)}.
+   */
+  private SSRFScanner() {
+  }
+
+  /**
+   * Scan the remaining content of a buffer containing a SSRF XML document. The
+   * buffer position is not changed. Recorded offsets are absolute buffer
+   * positions.
+   *
+   * @param buffer a buffer containing a UTF-8 encoded SSRF XML document
+   * @return the scan results
+   * @throws IllegalArgumentException if the document is not well formed
+   */
+  public static SSRFScanner scan(ByteBuffer buffer) throws IllegalArgumentException {
+    SSRFScanner scanner = new SSRFScanner();
+    int limit = buffer.limit();
+    int depth = 0;
+    int datasetStart = -1;
+    EDatasetType datasetType = null;
+    int i = buffer.position();
+    while ((i = indexOf(buffer, (byte) '<', i, limit)) >= 0) {
+      if (i + 1 >= limit) {
+        break;
+      }
+      byte next = buffer.get(i + 1);
+      if (next == '?') {
+        /**
+         * Processing instruction or XML declaration.
+         */
+        i = skipPast(buffer, "?>", i + 2, limit);
+      } else if (next == '!') {
+        /**
+         * Comment, CDATA section or DOCTYPE declaration.
+         */
+        if (startsWith(buffer, "<!--", i, limit)) {
+          i = skipPast(buffer, "-->", i + 4, limit);
+        } else if (startsWith(buffer, "<![CDATA[", i, limit)) {
+          i = skipPast(buffer, "]]>", i + 9, limit);
+        } else {
+          i = skipTag(buffer, i + 2, limit);
+        }
+      } else if (next == '/') {
+        /**
+         * End tag.
+         */
+        int end = skipTag(buffer, i + 2, limit);
+        depth--;
+        if (depth == 0) {
+          return scanner;
+        } else if (depth == 1 && datasetType != null) {
+          scanner.add(datasetType, datasetStart, end - datasetStart);
+        }
+        i = end;
+      } else {
+        /**
+         * Start tag or empty element tag.
+         */
+        int end = skipTag(buffer, i + 1, limit);
+        boolean empty = buffer.get(end - 2) == '/';
+        if (depth == 0) {
+          scanner.rootStartTag = decode(buffer, i, end);
+          scanner.rootName = readName(buffer, i + 1, limit);
+          if (empty) {
+            return scanner;
+          }
+          depth = 1;
+        } else if (depth == 1) {
+          String name = readName(buffer, i + 1, limit);
+          datasetStart = i;
+          datasetType = EDatasetType.fromClassSimpleName(name.substring(name.indexOf(':') + 1));
+          if (empty) {
+            if (datasetType != null) {
+              scanner.add(datasetType, datasetStart, end - datasetStart);
+            }
+          } else {
+            depth = 2;
+          }
+        } else if (!empty) {
+          if (depth == 2 && datasetType != null && hasLocalName(buffer, i + 1, end, "Serial")) {
+            /**
+             * The data set SERIAL number. Record the element text.
+             */
+            int textEnd = indexOf(buffer, (byte) '<', end, limit);
+            if (textEnd > end) {
+              scanner.pendingSerial = decode(buffer, end, textEnd).trim();
+            }
+          }
+          depth++;
+        }
+        i = end;
+      }
+    }
+    throw new IllegalArgumentException("SSRF document is incomplete: missing "
+                                       + (scanner.rootName == null ? "root element." : "</" + scanner.rootName + "> end tag."));
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Scan Results">
+  /**
+   * Get the SSRF root element start tag, as written in the document. This
+   * includes all namespace declarations made on the root element.
+   *
+   * @return the SSRF root element start tag
+   */
+  public String getRootStartTag() {
+    return rootStartTag;
+  }
+
+  /**
+   * Get the SSRF root element end tag.
+   *
+   * @return the SSRF root element end tag
+   */
+  public String getRootEndTag() {
+    return "</" + rootName + ">";
+  }
+
+  /**
+   * Get the number of data sets found.
+   *
+   * @return the number of data sets found
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Get the type of a data set.
+   *
+   * @param index the data set position, in document order
+   * @return the data set type
+   */
+  public EDatasetType getDatasetType(int index) {
+    checkIndex(index);
+    return datasetTypes[index];
+  }
+
+  /**
+   * Get the byte offset of a data set element.
+   *
+   * @param index the data set position, in document order
+   * @return the absolute buffer position of the data set element start tag
+   */
+  public int getOffset(int index) {
+    checkIndex(index);
+    return offsets[index];
+  }
+
+  /**
+   * Get the byte length of a data set element.
+   *
+   * @param index the data set position, in document order
+   * @return the length of the data set element, including its start and end
+   *         tags
+   */
+  public int getLength(int index) {
+    checkIndex(index);
+    return lengths[index];
+  }
+
+  /**
+   * Get the SERIAL value of a data set.
+   *
+   * @param index the data set position, in document order
+   * @return the data set SERIAL value, null if the data set has no Serial
+   *         element
+   */
+  public String getSerial(int index) {
+    checkIndex(index);
+    return serials[index];
+  }
+
+  /**
+   * Get an input stream reading a range of consecutive data sets wrapped
+   * inside the SSRF root element. The resulting document may be unmarshalled
+   * as a partial SSRF message.
+   *
+   * @param buffer the buffer that was scanned
+   * @param from   the first data set position (inclusive)
+   * @param to     the last data set position (exclusive)
+   * @return an input stream reading a UTF-8 encoded partial SSRF document
+   */
+  public InputStream getInputStream(ByteBuffer buffer, int from, int to) {
+    if (from < 0 || to > size || from >= to) {
+      throw new IndexOutOfBoundsException("Invalid data set range [" + from + ", " + to + ") for size " + size);
+    }
+    ByteBuffer range = buffer.duplicate();
+    range.limit(offsets[to - 1] + lengths[to - 1]);
+    range.position(offsets[from]);
+    return new SequenceInputStream(new ByteArrayInputStream(rootStartTag.getBytes(StandardCharsets.UTF_8)),
+                                   new SequenceInputStream(new ByteBufferInputStream(range),
+                                                           new ByteArrayInputStream(getRootEndTag().getBytes(StandardCharsets.UTF_8))));
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Byte Scanning">
+  /**
+   * Record a data set.
+   */
+  private void add(EDatasetType datasetType, int offset, int length) {
+    if (size == offsets.length) {
+      datasetTypes = Arrays.copyOf(datasetTypes, size * 2);
+      offsets = Arrays.copyOf(offsets, size * 2);
+      lengths = Arrays.copyOf(lengths, size * 2);
+      serials = Arrays.copyOf(serials, size * 2);
+    }
+    datasetTypes[size] = datasetType;
+    serials[size] = pendingSerial;
+    pendingSerial = null;
+    offsets[size] = offset;
+    lengths[size] = length;
+    size++;
+  }
+
+  /**
+   * Check a data set position.
+   */
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " for size " + size);
+    }
+  }
+
+  /**
+   * Find the next occurrence of a byte.
+   *
+   * @return the position of the byte, -1 if not found
+   */
+  private static int indexOf(ByteBuffer buffer, byte value, int from, int limit) {
+    for (int i = from; i < limit; i++) {
+      if (buffer.get(i) == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Determine if the buffer content at a position matches an ASCII token.
+   */
+  private static boolean startsWith(ByteBuffer buffer, String token, int from, int limit) {
+    if (from + token.length() > limit) {
+      return false;
+    }
+    for (int j = 0; j < token.length(); j++) {
+      if (buffer.get(from + j) != token.charAt(j)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Skip past the next occurrence of an ASCII token.
+   *
+   * @return the position immediately after the token
+   */
+  private static int skipPast(ByteBuffer buffer, String token, int from, int limit) {
+    byte first = (byte) token.charAt(0);
+    for (int i = from; (i = indexOf(buffer, first, i, limit)) >= 0; i++) {
+      if (startsWith(buffer, token, i, limit)) {
+        return i + token.length();
+      }
+    }
+    throw new IllegalArgumentException("SSRF document is incomplete: missing \"" + token + "\" after byte " + from);
+  }
+
+  /**
+   * Skip past the end of a tag, ignoring any '&gt;' character within quoted
+   * attribute values.
+   *
+   * @return the position immediately after the tag closing '&gt;'
+   */
+  private static int skipTag(ByteBuffer buffer, int from, int limit) {
+    byte quote = 0;
+    for (int i = from; i < limit; i++) {
+      byte b = buffer.get(i);
+      if (quote != 0) {
+        if (b == quote) {
+          quote = 0;
+        }
+      } else if (b == '"' || b == '\'') {
+        quote = b;
+      } else if (b == '>') {
+        return i + 1;
+      }
+    }
+    throw new IllegalArgumentException("SSRF document is incomplete: unterminated tag after byte " + from);
+  }
+
+  /**
+   * Read an element qualified name starting at a position.
+   */
+  private static String readName(ByteBuffer buffer, int from, int limit) {
+    int i = from;
+    while (i < limit) {
+      byte b = buffer.get(i);
+      if (b == '>' || b == '/' || b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+        break;
+      }
+      i++;
+    }
+    return decode(buffer, from, i);
+  }
+
+  /**
+   * Determine if the element qualified name starting at a position has the
+   * indicated local name. This does not allocate.
+   */
+  private static boolean hasLocalName(ByteBuffer buffer, int from, int limit, String localName) {
+    int i = from;
+    int start = from;
+    while (i < limit) {
+      byte b = buffer.get(i);
+      if (b == '>' || b == '/' || b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+        break;
+      } else if (b == ':') {
+        start = i + 1;
+      }
+      i++;
+    }
+    return i - start == localName.length() && startsWith(buffer, localName, start, i);
+  }
+
+  /**
+   * Decode a UTF-8 byte range into a String.
+   */
+  private static String decode(ByteBuffer buffer, int from, int to) {
+    byte[] bytes = new byte[to - from];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = buffer.get(from + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }//</editor-fold>
+}
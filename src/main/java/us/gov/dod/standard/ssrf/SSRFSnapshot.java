@@ -0,0 +1,805 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import javax.xml.bind.annotation.XmlTransient;
+
+/**
+ * Compact binary snapshot codec for SSRF object graphs.
+ * <p>
+ * A snapshot captures the same information as the SSRF XML document (see
+ * {@link SSRF#toXML()}) in a compact binary form that is much faster to read
+ * than XML. Snapshots are intended to cache parsed SSRF messages (e.g. between
+ * service restarts) and to pass SSRF messages between applications that both
+ * use this library.
+ * <p>
+ * The encoding is driven by the same JAXB field configuration used to produce
+ * XML: static, transient and {@link XmlTransient} fields are not written, and
+ * are rebuilt by post-loading each object read from the snapshot (see
+ * {@link SSRFUtility#postLoad(SSRF)}).
+ * Within each class the fields are written in a fixed order (super class
+ * fields first, then by name).
+ * <p>
+ * The format is:
+ * <ul>
+ * <li>A header containing a magic number, the snapshot format version and the
+ * SSRF schema version.</li>
+ * <li>Numbers are written as variable length integers (varint), with signed
+ * values zig-zag encoded.</li>
+ * <li>Strings (including SERIAL values) and class names are written once and
+ * thereafter referenced by their position in a string table.</li>
+ * <li>Enumerated values (e.g. the List* pick lists) are written as ordinals.
+ * </li>
+ * <li>An object instance that appears more than once in the graph (e.g. a
+ * {@code Serial} shared by a data set and a reference to it) is written once
+ * and thereafter as a back-reference.</li>
+ * <li>Only non-null fields are written.</li>
+ * </ul>
+ * <p>
+ * Developer note: A snapshot can only be read by the same schema version of
+ * this library that wrote it. Snapshots are not a substitute for SSRF XML
+ * when exchanging data with other systems.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public final class SSRFSnapshot {
+
+  /**
+   * "SSRB". The snapshot magic number.
+   */
+  private static final int MAGIC = 0x53535242;
+  /**
+   * The snapshot format version. Increment when the encoding changes,
+   * including any change to the fields of a SSRF class (fields are written by
+   * their position in name order). Snapshots of a different version are
+   * rejected.
+   * <ul>
+   * <li>1: initial format.</li>
+   * <li>2: idx attributes held as int.</li>
+   * <li>3: decimal domain values held as fixed-point long.</li>
+   * <li>4: DT and D values held as epoch milliseconds.</li>
+   * <li>5: optional AMetadata attributes held in a side-car object.</li>
+   * </ul>
+   */
+  private static final int FORMAT_VERSION = 5;
+  /**
+   * "3.1.0". The SSRF schema version.
+   */
+  private static final String SCHEMA_VERSION = "3.1.0";
+  /**
+   * "us.gov.dod.standard.ssrf". The SSRF top level package. Only classes in
+   * this package are read as objects or enumerated values.
+   */
+  private static final String SSRF_PACKAGE = "us.gov.dod.standard.ssrf";
+
+  //<editor-fold defaultstate="collapsed" desc="Value Tags">
+  private static final int TAG_NULL = 0;
+  private static final int TAG_STRING = 1;
+  private static final int TAG_DECIMAL = 2;
+  private static final int TAG_DECIMAL_BIG = 3;
+  private static final int TAG_INTEGER = 4;
+  private static final int TAG_INTEGER_BIG = 5;
+  private static final int TAG_INT = 6;
+  private static final int TAG_LONG = 7;
+  private static final int TAG_DOUBLE = 8;
+  private static final int TAG_TRUE = 9;
+  private static final int TAG_FALSE = 10;
+  private static final int TAG_CALENDAR = 11;
+  private static final int TAG_ENUM = 12;
+  private static final int TAG_COLLECTION = 13;
+  private static final int TAG_OBJECT = 14;
+  private static final int TAG_BACKREFERENCE = 15;//</editor-fold>
+
+  /**
+   * The encoding of each class type, computed on first use.
+   */
+  private static final ClassValue<ClassCodec> CODECS = new ClassValue<ClassCodec>() {
+
+    @Override
+    protected ClassCodec computeValue(Class<?> type) {
+      return new ClassCodec(type);
+    }
+  };
+
+  /**
+   * Static utility class. Not instantiable.
+   */
+  private SSRFSnapshot() {
+  }
+
+  /**
+   * Write a binary snapshot of a SSRF message.
+   * <p>
+   * The SSRF message is prepared (see {@link SSRFUtility#prepare(SSRF)})
+   * before it is written so that the snapshot contains the same references as
+   * the SSRF XML document. The message is not validated. The output stream is
+   * NOT closed.
+   *
+   * @param ssrf         the SSRF message
+   * @param outputStream the output stream
+   * @throws IOException if the snapshot cannot be written
+   */
+  public static void write(SSRF ssrf, OutputStream outputStream) throws IOException {
+    SSRFUtility.prepare(ssrf);
+    Encoder encoder = new Encoder();
+    encoder.writeFixedInt(MAGIC);
+    encoder.writeVarint(FORMAT_VERSION);
+    encoder.writeRawString(SCHEMA_VERSION);
+    encoder.writeValue(ssrf);
+    encoder.writeTo(outputStream);
+  }
+
+  /**
+   * Write a binary snapshot of a SSRF message to a byte array.
+   *
+   * @param ssrf the SSRF message
+   * @return the snapshot
+   */
+  public static byte[] toBytes(SSRF ssrf) {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try {
+      write(ssrf, outputStream);
+    } catch (IOException ex) {
+      throw new IllegalStateException(ex);
+    }
+    return outputStream.toByteArray();
+  }
+
+  /**
+   * Read a SSRF message from a binary snapshot. The SSRF message is
+   * post-loaded (see {@link SSRFUtility#postLoad(SSRF)}) and ready for use.
+   * The input stream is read to the end but is NOT closed.
+   *
+   * @param inputStream the snapshot input stream
+   * @return the SSRF message
+   * @throws IOException if the snapshot cannot be read, is not a snapshot or
+   *                     was written by an incompatible version
+   */
+  public static SSRF read(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(inputStream.available(), 8192));
+    byte[] chunk = new byte[8192];
+    for (int count; (count = inputStream.read(chunk)) != -1;) {
+      buffer.write(chunk, 0, count);
+    }
+    return fromBytes(buffer.toByteArray());
+  }
+
+  /**
+   * Read a SSRF message from a binary snapshot byte array. The SSRF message is
+   * post-loaded (see {@link SSRFUtility#postLoad(SSRF)}) and ready for use.
+   *
+   * @param bytes the snapshot
+   * @return the SSRF message
+   * @throws IOException if the snapshot is not a snapshot or was written by an
+   *                     incompatible version
+   */
+  public static SSRF fromBytes(byte[] bytes) throws IOException {
+    Decoder decoder = new Decoder(bytes);
+    try {
+      if (decoder.readFixedInt() != MAGIC) {
+        throw new IOException("Not a SSRF snapshot.");
+      }
+      int formatVersion = decoder.readVarint();
+      String schemaVersion = decoder.readRawString();
+      if (formatVersion != FORMAT_VERSION || !SCHEMA_VERSION.equals(schemaVersion)) {
+        throw new IOException("Unsupported SSRF snapshot version " + formatVersion + " for schema " + schemaVersion);
+      }
+      Object value = decoder.readValue();
+      if (!(value instanceof SSRF)) {
+        throw new IOException("SSRF snapshot does not contain a SSRF message.");
+      }
+      return decoder.postLoad((SSRF) value);
+    } catch (IndexOutOfBoundsException ex) {
+      throw new IOException("SSRF snapshot is truncated.", ex);
+    }
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Class Configuration">
+  /**
+   * Get the ordered list of encoded fields for a class type.
+   *
+   * @param clazz the class type
+   * @return the encoded fields, accessible
+   */
+  private static Field[] getFields(Class<?> clazz) {
+    return CODECS.get(clazz).fields;
+  }
+
+  /**
+   * Determine if a collection class type can be recreated from its name.
+   *
+   * @param clazz the collection class type
+   * @return TRUE if the class is a public java.util collection with a public
+   *         no-argument constructor
+   */
+  private static boolean isRecreatable(Class<?> clazz) {
+    if (!clazz.getName().startsWith("java.util.") || !Modifier.isPublic(clazz.getModifiers())) {
+      return false;
+    }
+    try {
+      return Modifier.isPublic(clazz.getConstructor().getModifiers());
+    } catch (NoSuchMethodException ex) {
+      return false;
+    }
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Class Codec">
+  /**
+   * The encoding of a class type: its encoded fields, its no-argument
+   * constructor and its lifecycle methods. Each is resolved once per class so
+   * that an object is read with a single lookup.
+   */
+  private static final class ClassCodec {
+
+    /**
+     * The class type.
+     */
+    private final Class<?> clazz;
+    /**
+     * The encoded fields. Empty for classes outside the SSRF package (e.g.
+     * collections), which are not encoded field by field.
+     */
+    private final Field[] fields;
+    /**
+     * The no-argument constructor. Null if the class has none.
+     */
+    private final Constructor<?> constructor;
+    /**
+     * The class lifecycle methods.
+     */
+    private final Lifecycle lifecycle;
+
+    private ClassCodec(Class<?> clazz) {
+      this.clazz = clazz;
+      this.fields = clazz.getName().startsWith(SSRF_PACKAGE) ? findFields(clazz) : new Field[0];
+      Constructor<?> noArgConstructor;
+      try {
+        noArgConstructor = clazz.getDeclaredConstructor();
+        noArgConstructor.setAccessible(true);
+      } catch (NoSuchMethodException | SecurityException ex) {
+        noArgConstructor = null;
+      }
+      this.constructor = noArgConstructor;
+      this.lifecycle = Lifecycle.get(clazz);
+    }
+
+    /**
+     * Find the ordered list of encoded fields for a class type. Super class
+     * fields are listed first; fields declared in the same class are listed by
+     * name. Static, transient and {@link XmlTransient} fields are not encoded,
+     * except XmlTransient fields bound to XML through accessor methods (see
+     * {@link SSRFUtility#isBoundTransient(Field)}).
+     *
+     * @param clazz the class type
+     * @return the encoded fields, accessible
+     */
+    private static Field[] findFields(Class<?> clazz) {
+      List<Class<?>> hierarchy = new ArrayList<>();
+      for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+        hierarchy.add(0, type);
+      }
+      List<Field> fieldList = new ArrayList<>();
+      for (Class<?> type : hierarchy) {
+        List<Field> declared = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+          int modifiers = field.getModifiers();
+          if (Modifier.isStatic(modifiers)
+              || Modifier.isTransient(modifiers)
+              || (field.isAnnotationPresent(XmlTransient.class) && !SSRFUtility.isBoundTransient(field))
+              || field.isSynthetic()) {
+            continue;
+          }
+          field.setAccessible(true);
+          declared.add(field);
+        }
+        Collections.sort(declared, new Comparator<Field>() {
+          @Override
+          public int compare(Field o1, Field o2) {
+            return o1.getName().compareTo(o2.getName());
+          }
+        });
+        fieldList.addAll(declared);
+      }
+      return fieldList.toArray(new Field[fieldList.size()]);
+    }
+
+    /**
+     * Create a new instance of the class type using its no-argument
+     * constructor.
+     *
+     * @return a new instance
+     * @throws IOException if the class cannot be instantiated
+     */
+    private Object newInstance() throws IOException {
+      if (constructor == null) {
+        throw new IOException("Cannot instantiate " + clazz.getName());
+      }
+      try {
+        return constructor.newInstance();
+      } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
+        throw new IOException("Cannot instantiate " + clazz.getName(), ex);
+      }
+    }
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Encoder">
+  /**
+   * Snapshot encoder. Writes to a growable byte array.
+   */
+  private static final class Encoder {
+
+    private byte[] buffer = new byte[8192];
+    private int length;
+    /**
+     * The string table: each distinct string and its position.
+     */
+    private final Map<String, Integer> strings = new HashMap<>();
+    /**
+     * The class name table: each distinct class type and its position.
+     */
+    private final Map<Class<?>, Integer> classes = new HashMap<>();
+    /**
+     * The object table: each object instance (by identity) and its position.
+     */
+    private final Map<Object, Integer> objects = new IdentityHashMap<>();
+
+    private void ensure(int count) {
+      if (length + count > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + count));
+      }
+    }
+
+    private void writeByte(int value) {
+      ensure(1);
+      buffer[length++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] bytes) {
+      writeVarint(bytes.length);
+      ensure(bytes.length);
+      System.arraycopy(bytes, 0, buffer, length, bytes.length);
+      length += bytes.length;
+    }
+
+    private void writeFixedInt(int value) {
+      writeByte(value >>> 24);
+      writeByte(value >>> 16);
+      writeByte(value >>> 8);
+      writeByte(value);
+    }
+
+    private void writeVarint(int value) {
+      writeVarlong(value & 0xffffffffL);
+    }
+
+    private void writeVarlong(long value) {
+      ensure(10);
+      while ((value & ~0x7fL) != 0) {
+        buffer[length++] = (byte) ((value & 0x7f) | 0x80);
+        value >>>= 7;
+      }
+      buffer[length++] = (byte) value;
+    }
+
+    private void writeSignedVarlong(long value) {
+      writeVarlong((value << 1) ^ (value >> 63));
+    }
+
+    private void writeRawString(String value) {
+      writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write a string table reference: zero for a new string (followed by the
+     * string), otherwise the table position plus one.
+     */
+    private void writeString(String value) {
+      Integer position = strings.get(value);
+      if (position == null) {
+        strings.put(value, strings.size());
+        writeVarint(0);
+        writeRawString(value);
+      } else {
+        writeVarint(position + 1);
+      }
+    }
+
+    /**
+     * Write a class name table reference.
+     */
+    private void writeClass(Class<?> clazz) {
+      Integer position = classes.get(clazz);
+      if (position == null) {
+        classes.put(clazz, classes.size());
+        writeVarint(0);
+        writeRawString(clazz.getName());
+      } else {
+        writeVarint(position + 1);
+      }
+    }
+
+    private void writeValue(Object value) {
+      if (value == null) {
+        writeVarint(TAG_NULL);
+      } else if (value instanceof String) {
+        writeVarint(TAG_STRING);
+        writeString((String) value);
+      } else if (value instanceof BigDecimal) {
+        BigDecimal decimal = (BigDecimal) value;
+        BigInteger unscaled = decimal.unscaledValue();
+        if (unscaled.bitLength() < 64) {
+          writeVarint(TAG_DECIMAL);
+          writeSignedVarlong(decimal.scale());
+          writeSignedVarlong(unscaled.longValue());
+        } else {
+          writeVarint(TAG_DECIMAL_BIG);
+          writeSignedVarlong(decimal.scale());
+          writeBytes(unscaled.toByteArray());
+        }
+      } else if (value instanceof BigInteger) {
+        BigInteger integer = (BigInteger) value;
+        if (integer.bitLength() < 64) {
+          writeVarint(TAG_INTEGER);
+          writeSignedVarlong(integer.longValue());
+        } else {
+          writeVarint(TAG_INTEGER_BIG);
+          writeBytes(integer.toByteArray());
+        }
+      } else if (value instanceof Integer) {
+        writeVarint(TAG_INT);
+        writeSignedVarlong((Integer) value);
+      } else if (value instanceof Long) {
+        writeVarint(TAG_LONG);
+        writeSignedVarlong((Long) value);
+      } else if (value instanceof Double) {
+        writeVarint(TAG_DOUBLE);
+        long bits = Double.doubleToRawLongBits((Double) value);
+        writeFixedInt((int) (bits >>> 32));
+        writeFixedInt((int) bits);
+      } else if (value instanceof Boolean) {
+        writeVarint((Boolean) value ? TAG_TRUE : TAG_FALSE);
+      } else if (value instanceof Calendar) {
+        Calendar calendar = (Calendar) value;
+        writeVarint(TAG_CALENDAR);
+        writeSignedVarlong(calendar.getTimeInMillis());
+        writeString(calendar.getTimeZone().getID());
+      } else if (value instanceof Enum) {
+        Enum<?> enumValue = (Enum<?>) value;
+        writeVarint(TAG_ENUM);
+        writeClass(enumValue.getDeclaringClass());
+        writeVarint(enumValue.ordinal());
+      } else if (objects.containsKey(value)) {
+        writeVarint(TAG_BACKREFERENCE);
+        writeVarint(objects.get(value));
+      } else if (value instanceof Collection) {
+        Collection<?> collection = (Collection<?>) value;
+        objects.put(value, objects.size());
+        writeVarint(TAG_COLLECTION);
+        if (isRecreatable(value.getClass())) {
+          writeClass(value.getClass());
+        } else {
+          writeClass(value instanceof Set ? HashSet.class : ArrayList.class);
+        }
+        writeVarint(collection.size());
+        for (Object entry : collection) {
+          writeValue(entry);
+        }
+      } else if (value.getClass().getName().startsWith(SSRF_PACKAGE)) {
+        objects.put(value, objects.size());
+        writeVarint(TAG_OBJECT);
+        writeClass(value.getClass());
+        Field[] fields = getFields(value.getClass());
+        for (int i = 0; i < fields.length; i++) {
+          Object fieldValue;
+          try {
+            fieldValue = fields[i].get(value);
+          } catch (IllegalArgumentException | IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+          }
+          /**
+           * Only write non-null fields, each preceded by its position plus one.
+           * A zero terminates the field list.
+           */
+          if (fieldValue != null) {
+            writeVarint(i + 1);
+            writeValue(fieldValue);
+          }
+        }
+        writeVarint(0);
+      } else {
+        throw new IllegalArgumentException("Unsupported SSRF snapshot value type " + value.getClass().getName());
+      }
+    }
+
+    private void writeTo(OutputStream outputStream) throws IOException {
+      outputStream.write(buffer, 0, length);
+    }
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Decoder">
+  /**
+   * Snapshot decoder. Reads from a byte array.
+   */
+  private static final class Decoder {
+
+    private final byte[] buffer;
+    private int position;
+    private final List<String> strings = new ArrayList<>();
+    private final List<Class<?>> classes = new ArrayList<>();
+    private final List<Object> objects = new ArrayList<>();
+    /**
+     * The object instances implementing postLoad(SSRF), in the order read.
+     */
+    private final List<Object> loadable = new ArrayList<>();
+
+    private Decoder(byte[] buffer) {
+      this.buffer = buffer;
+    }
+
+    private int readByte() {
+      if (position >= buffer.length) {
+        throw new IndexOutOfBoundsException();
+      }
+      return buffer[position++] & 0xff;
+    }
+
+    private byte[] readBytes() {
+      int count = readVarint();
+      if (count < 0 || position + count > buffer.length) {
+        throw new IndexOutOfBoundsException();
+      }
+      byte[] bytes = Arrays.copyOfRange(buffer, position, position + count);
+      position += count;
+      return bytes;
+    }
+
+    private int readFixedInt() {
+      return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+    }
+
+    private int readVarint() {
+      return (int) readVarlong();
+    }
+
+    private long readVarlong() {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        int b = readByte();
+        value |= (long) (b & 0x7f) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IndexOutOfBoundsException("Malformed varint");
+    }
+
+    private long readSignedVarlong() {
+      long value = readVarlong();
+      return (value >>> 1) ^ -(value & 1);
+    }
+
+    private String readRawString() {
+      int count = readVarint();
+      if (count < 0 || position + count > buffer.length) {
+        throw new IndexOutOfBoundsException();
+      }
+      String value = new String(buffer, position, count, StandardCharsets.UTF_8);
+      position += count;
+      return value;
+    }
+
+    private String readString() {
+      int reference = readVarint();
+      if (reference == 0) {
+        String value = readRawString();
+        strings.add(value);
+        return value;
+      }
+      return strings.get(reference - 1);
+    }
+
+    /**
+     * Read a class name table reference. Only SSRF classes and public
+     * java.util collections are accepted.
+     */
+    private Class<?> readClass() throws IOException {
+      int reference = readVarint();
+      if (reference != 0) {
+        return classes.get(reference - 1);
+      }
+      String className = readRawString();
+      Class<?> clazz;
+      try {
+        clazz = Class.forName(className, false, SSRFSnapshot.class.getClassLoader());
+      } catch (ClassNotFoundException ex) {
+        throw new IOException("Unknown SSRF snapshot class " + className, ex);
+      }
+      if (!className.startsWith(SSRF_PACKAGE)
+          && !(Collection.class.isAssignableFrom(clazz) && isRecreatable(clazz))) {
+        throw new IOException("Illegal SSRF snapshot class " + className);
+      }
+      classes.add(clazz);
+      return clazz;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readValue() throws IOException {
+      int tag = readVarint();
+      switch (tag) {
+        case TAG_NULL:
+          return null;
+        case TAG_STRING:
+          return readString();
+        case TAG_DECIMAL: {
+          int scale = (int) readSignedVarlong();
+          return BigDecimal.valueOf(readSignedVarlong(), scale);
+        }
+        case TAG_DECIMAL_BIG: {
+          int scale = (int) readSignedVarlong();
+          return new BigDecimal(new BigInteger(readBytes()), scale);
+        }
+        case TAG_INTEGER:
+          return BigInteger.valueOf(readSignedVarlong());
+        case TAG_INTEGER_BIG:
+          return new BigInteger(readBytes());
+        case TAG_INT:
+          return (int) readSignedVarlong();
+        case TAG_LONG:
+          return readSignedVarlong();
+        case TAG_DOUBLE: {
+          long bits = ((long) readFixedInt() << 32) | (readFixedInt() & 0xffffffffL);
+          return Double.longBitsToDouble(bits);
+        }
+        case TAG_TRUE:
+          return Boolean.TRUE;
+        case TAG_FALSE:
+          return Boolean.FALSE;
+        case TAG_CALENDAR: {
+          long millis = readSignedVarlong();
+          Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(readString()));
+          calendar.setTimeInMillis(millis);
+          return calendar;
+        }
+        case TAG_ENUM: {
+          Class<?> clazz = readClass();
+          Object[] constants = clazz.getEnumConstants();
+          int ordinal = readVarint();
+          if (constants == null || ordinal < 0 || ordinal >= constants.length) {
+            throw new IOException("Illegal SSRF snapshot enumerated value " + clazz.getName() + "[" + ordinal + "]");
+          }
+          return constants[ordinal];
+        }
+        case TAG_BACKREFERENCE:
+          return objects.get(readVarint());
+        case TAG_COLLECTION: {
+          Class<?> clazz = readClass();
+          int size = readVarint();
+          Collection<Object> collection = newCollection(clazz, size);
+          objects.add(collection);
+          for (int i = 0; i < size; i++) {
+            collection.add(readValue());
+          }
+          return collection;
+        }
+        case TAG_OBJECT: {
+          Class<?> clazz = readClass();
+          ClassCodec codec = CODECS.get(clazz);
+          Object instance = codec.newInstance();
+          objects.add(instance);
+          if (codec.lifecycle.isRootLoadable()) {
+            loadable.add(instance);
+          }
+          Field[] fields = codec.fields;
+          for (int index = readVarint(); index != 0; index = readVarint()) {
+            if (index > fields.length) {
+              throw new IOException("Illegal SSRF snapshot field " + clazz.getName() + "[" + index + "]");
+            }
+            try {
+              fields[index - 1].set(instance, readValue());
+            } catch (IllegalArgumentException | IllegalAccessException ex) {
+              throw new IOException("Cannot set SSRF snapshot field " + fields[index - 1], ex);
+            }
+          }
+          afterRead(codec.lifecycle, instance);
+          return instance;
+        }
+        default:
+          throw new IOException("Illegal SSRF snapshot value tag " + tag + " at byte " + (position - 1));
+      }
+    }
+
+    /**
+     * Create a new collection sized for its entries. Hash sets and array lists
+     * (nearly all SSRF collections hold a single entry) are created with the
+     * capacity they need; other collections with their no-argument
+     * constructor. Each entry takes at least one byte, so a size larger than
+     * the bytes remaining is rejected before anything is allocated.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Object> newCollection(Class<?> clazz, int size) throws IOException {
+      if (size < 0 || size > buffer.length - position) {
+        throw new IOException("Illegal SSRF snapshot collection size " + size);
+      } else if (clazz == HashSet.class) {
+        return new HashSet<>(Math.max(size * 4 / 3 + 1, 2));
+      } else if (clazz == ArrayList.class) {
+        return new ArrayList<>(size);
+      }
+      return (Collection<Object>) CODECS.get(clazz).newInstance();
+    }
+
+    /**
+     * Invoke the no-argument postLoad() method of an instance, if present,
+     * immediately after its fields are read. This parses SERIAL values into
+     * their component parts before the instance is hashed (e.g. when added to
+     * a Set).
+     */
+    private void afterRead(Lifecycle lifecycle, Object instance) {
+      try {
+        lifecycle.postLoadNoArg(instance);
+      } catch (Throwable ex) {
+        /**
+         * Fail gracefully, as SSRFUtility does when post-loading XML.
+         */
+      }
+    }
+
+    /**
+     * Post-load the SSRF message once it is read. The postLoad(SSRF) method of
+     * each object instance read is invoked in the order the instances were
+     * read, which is the order in which {@link SSRFUtility#postLoad(SSRF)}
+     * reaches them. The instances are listed as they are read, once each, so
+     * the object graph is not walked again.
+     *
+     * @param ssrf the SSRF message read
+     * @return the SSRF message
+     */
+    private SSRF postLoad(SSRF ssrf) {
+      /**
+       * Index the data sets by SERIAL number to resolve each data set reference
+       * in constant time. The index is discarded afterwards.
+       */
+      ssrf.buildDatasetIndex();
+      try {
+        for (Object instance : loadable) {
+          try {
+            Lifecycle.get(instance.getClass()).postLoad(instance, ssrf);
+          } catch (Throwable ex) {
+            /**
+             * Fail gracefully, as SSRFUtility does when post-loading XML.
+             */
+          }
+        }
+      } finally {
+        ssrf.clearDatasetIndex();
+      }
+      return ssrf;
+    }
+  }//</editor-fold>
+}
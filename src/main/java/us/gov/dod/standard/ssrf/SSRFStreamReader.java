@@ -0,0 +1,300 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import us.gov.dod.standard.ssrf._3_1.Common;
+
+/**
+ * Streaming SSRF document reader.
+ * <p>
+ * This class reads a SSRF XML document one data set at a time. The StAX cursor
+ * is moved across the top-level children of the SSRF root element (Contact,
+ * Location, Assignment, etc.) and each child is unmarshalled on its own into
+ * its {@link Common} subclass, then handed to the caller. Only the current
+ * data set is held in memory, so memory use is bounded by the largest single
+ * data set and not by the size of the document.
+ * <p>
+ * Each data set is post-loaded (see
+ * {@link SSRFUtility#postLoad(Common, SSRF)}) before it is returned so that
+ * its serial numbers and other parsed values are ready to use. References to
+ * other data sets (e.g. a Contact owner Role) are NOT resolved since the
+ * referenced data set is generally not in memory. Callers that need resolved
+ * references should use {@link SSRF#fromXml(String)}.
+ * <p>
+ * Example use:
+ * <pre>
+ * try (SSRFStreamReader reader = new SSRFStreamReader(path)) {
+ *   for (Common&lt;?&gt; dataset : reader) {
+ *     ...
+ *   }
+ * }
+ * </pre>
+ * <p>
+ * Developer note: This class is not thread safe. A reader instance may only be
+ * iterated once. Read errors encountered while iterating are reported as an
+ * {@link IllegalStateException} wrapping the underlying XML or JAXB exception.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class SSRFStreamReader implements Iterator<Common<?>>, Iterable<Common<?>>, Closeable {
+
+  /**
+   * The StAX cursor over the SSRF XML document.
+   */
+  private final XMLStreamReader xmlStreamReader;
+  /**
+   * The underlying input stream. This is only set (and closed) if the input
+   * stream was opened by this reader.
+   */
+  private final InputStream ownedInputStream;
+  /**
+   * An empty SSRF instance used as the post-load root for each data set.
+   */
+  private final SSRF root;
+  /**
+   * Indicator that the SSRF root element start tag has been read.
+   */
+  private boolean rootOpen;
+  /**
+   * Indicator that the end of the SSRF document has been reached.
+   */
+  private boolean finished;
+  /**
+   * The next data set to return. Null if not yet read.
+   */
+  private Common<?> next;
+  /**
+   * The number of data sets read so far.
+   */
+  private long count;
+
+  /**
+   * Construct a new streaming reader over an input stream. The input stream is
+   * NOT closed when this reader is closed.
+   *
+   * @param inputStream the SSRF XML document input stream
+   * @throws XMLStreamException if the StAX cursor cannot be created
+   */
+  public SSRFStreamReader(InputStream inputStream) throws XMLStreamException {
+    this(inputStream, false);
+  }
+
+  /**
+   * Construct a new streaming reader over a file. The file is closed when this
+   * reader is closed.
+   *
+   * @param path the SSRF XML document file path
+   * @throws IOException        if the file cannot be opened
+   * @throws XMLStreamException if the StAX cursor cannot be created
+   */
+  public SSRFStreamReader(Path path) throws IOException, XMLStreamException {
+    this(new BufferedInputStream(Files.newInputStream(path)), true);
+  }
+
+  /**
+   * Internal constructor.
+   *
+   * @param inputStream the SSRF XML document input stream
+   * @param owned       TRUE if the input stream is owned (and should be
+   *                    closed) by this reader
+   * @throws XMLStreamException if the StAX cursor cannot be created
+   */
+  private SSRFStreamReader(InputStream inputStream, boolean owned) throws XMLStreamException {
+    this.ownedInputStream = owned ? inputStream : null;
+    this.xmlStreamReader = newInputFactory().createXMLStreamReader(inputStream, "UTF-8");
+    this.root = new SSRF();
+  }
+
+  /**
+   * Create a StAX input factory configured to read SSRF documents.
+   *
+   * @return a new StAX input factory
+   */
+  static XMLInputFactory newInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    /**
+     * SSRF documents do not use DTDs or external entities. Disable both.
+     */
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * Get the number of data sets read so far.
+   *
+   * @return the number of data sets returned by this reader
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns this reader. A reader may only be iterated once.
+   *
+   * @return this reader
+   */
+  @Override
+  public Iterator<Common<?>> iterator() {
+    return this;
+  }
+
+  /**
+   * Returns true if the document contains more data sets.
+   *
+   * @return TRUE if another data set is available
+   * @throws IllegalStateException if the document cannot be read
+   */
+  @Override
+  public boolean hasNext() {
+    if (next == null && !finished) {
+      try {
+        next = readNext();
+      } catch (XMLStreamException | JAXBException ex) {
+        finished = true;
+        throw new IllegalStateException("SSRF stream read error after " + count + " data sets: " + ex.getMessage(), ex);
+      }
+    }
+    return next != null;
+  }
+
+  /**
+   * Returns the next data set in the document.
+   *
+   * @return the next data set
+   * @throws NoSuchElementException if the document has no more data sets
+   * @throws IllegalStateException  if the document cannot be read
+   */
+  @Override
+  public Common<?> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Common<?> dataset = next;
+    next = null;
+    count++;
+    return dataset;
+  }
+
+  /**
+   * Not supported.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("SSRF stream reader is read only.");
+  }
+
+  /**
+   * Close this reader and release its StAX cursor. If this reader was opened
+   * on a file then the file is also closed.
+   *
+   * @throws IOException if the underlying file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    finished = true;
+    next = null;
+    try {
+      xmlStreamReader.close();
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    } finally {
+      if (ownedInputStream != null) {
+        ownedInputStream.close();
+      }
+    }
+  }
+
+  /**
+   * Move the cursor to the next top-level data set element and unmarshal it.
+   *
+   * @return the next data set, null if the end of the document is reached
+   * @throws XMLStreamException if the document cannot be read
+   * @throws JAXBException      if a data set cannot be unmarshalled
+   */
+  private Common<?> readNext() throws XMLStreamException, JAXBException {
+    /**
+     * Important: Inspect the CURRENT event before advancing. After
+     * unmarshalling a data set the cursor is positioned on the event
+     * immediately following its end tag, which may be the next start tag.
+     */
+    while (true) {
+      int event = xmlStreamReader.getEventType();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        if (!rootOpen) {
+          rootOpen = true;
+        } else {
+          EDatasetType datasetType = EDatasetType.fromClassSimpleName(xmlStreamReader.getLocalName());
+          if (datasetType != null) {
+            Common<?> dataset = SSRFBinding.getUnmarshaller(SSRF.class)
+                    .unmarshal(xmlStreamReader, datasetType.getClazz())
+                    .getValue();
+            return SSRFUtility.postLoad(dataset, root);
+          }
+          /**
+           * Not a SSRF data set. Skip the element and its content, consistent
+           * with the JAXB unmarshaller handling of unknown elements.
+           */
+          skipElement();
+          continue;
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) {
+        /**
+         * The only end tag seen at this level is the root element end tag.
+         */
+        finished = true;
+        return null;
+      }
+      xmlStreamReader.next();
+    }
+  }
+
+  /**
+   * Skip the current element and all of its content. On return the cursor is
+   * positioned on the event immediately following the element end tag.
+   *
+   * @throws XMLStreamException if the document cannot be read
+   */
+  private void skipElement() throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0) {
+      int event = xmlStreamReader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+    xmlStreamReader.next();
+  }
+}
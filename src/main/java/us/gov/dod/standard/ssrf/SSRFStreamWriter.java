@@ -0,0 +1,340 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchema;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.SchemaRoot;
+
+/**
+ * Streaming SSRF document writer.
+ * <p>
+ * This class writes a SSRF XML document one data set at a time. The SSRF root
+ * element is written when the writer is created, then each data set is
+ * prepared, validated and marshalled as a fragment directly to the output. The
+ * root element is closed when the writer is closed. Only the current data set
+ * is held in memory, so heap use is constant regardless of the number of data
+ * sets written.
+ * <p>
+ * The SSRF schema requires data sets to appear in {@link SchemaRoot} element
+ * order: all Contact entries, then all Role entries, then Organisation, etc.
+ * Data sets must therefore be written group by group in that sequence. Writing
+ * a data set out of sequence raises an {@link IllegalStateException}.
+ * <p>
+ * Unlike {@link SSRF#toXML()} this writer does NOT copy referenced data sets
+ * (e.g. a Contact owner Role) into the output; the caller must write every
+ * referenced data set in its proper group. The output is not indented.
+ * <p>
+ * Example use:
+ * <pre>
+ * try (SSRFStreamWriter writer = new SSRFStreamWriter(outputStream)) {
+ *   for (Role role : roles) {
+ *     writer.write(role);
+ *   }
+ *   for (Assignment assignment : assignments) {
+ *     writer.write(assignment);
+ *   }
+ * }
+ * </pre>
+ * <p>
+ * Developer note: This class is not thread safe.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class SSRFStreamWriter implements Closeable {
+
+  /**
+   * The SSRF XML namespace, read from the package XmlSchema annotation.
+   */
+  static final String NAMESPACE = SSRF.class.getPackage().getAnnotation(XmlSchema.class).namespace();
+  /**
+   * The SSRF XML namespace prefix.
+   */
+  static final String PREFIX = "s";
+  /**
+   * The SchemaRoot element sequence position of each data set type, indexed
+   * by the data set type ordinal.
+   */
+  private static final int[] SEQUENCE = buildSequence();
+
+  /**
+   * The StAX writer to the output.
+   */
+  private final XMLStreamWriter xmlStreamWriter;
+  /**
+   * The underlying output stream. This is flushed when this writer is closed
+   * but is only closed if it was opened by this writer.
+   */
+  private final OutputStream outputStream;
+  /**
+   * Indicator that the underlying output stream is owned (and should be
+   * closed) by this writer.
+   */
+  private final boolean owned;
+  /**
+   * Optional SSRF Properties to apply to each data set before it is written.
+   */
+  private SSRFProperties ssrfProperties;
+  /**
+   * The sequence position of the most recently written data set. Starts at
+   * zero.
+   */
+  private int position;
+  /**
+   * The number of data sets written so far.
+   */
+  private long count;
+  /**
+   * Indicator that this writer is closed.
+   */
+  private boolean closed;
+
+  /**
+   * Construct a new streaming writer to an output stream. The output stream is
+   * flushed but NOT closed when this writer is closed.
+   *
+   * @param outputStream the output stream
+   * @throws XMLStreamException if the SSRF root element cannot be written
+   */
+  public SSRFStreamWriter(OutputStream outputStream) throws XMLStreamException {
+    this(outputStream, false);
+  }
+
+  /**
+   * Construct a new streaming writer to a byte channel. The channel is NOT
+   * closed when this writer is closed.
+   *
+   * @param channel the output channel
+   * @throws XMLStreamException if the SSRF root element cannot be written
+   */
+  public SSRFStreamWriter(WritableByteChannel channel) throws XMLStreamException {
+    this(new BufferedOutputStream(Channels.newOutputStream(channel)), false);
+  }
+
+  /**
+   * Construct a new streaming writer to a file. The file is created or
+   * truncated, and is closed when this writer is closed.
+   *
+   * @param path the output file path
+   * @throws IOException        if the file cannot be opened
+   * @throws XMLStreamException if the SSRF root element cannot be written
+   */
+  public SSRFStreamWriter(Path path) throws IOException, XMLStreamException {
+    this(new BufferedOutputStream(Files.newOutputStream(path)), true);
+  }
+
+  /**
+   * Internal constructor. Writes the XML declaration and the SSRF root element
+   * start tag.
+   *
+   * @param outputStream the output stream
+   * @param owned        TRUE if the output stream is owned (and should be
+   *                     closed) by this writer
+   * @throws XMLStreamException if the SSRF root element cannot be written
+   */
+  private SSRFStreamWriter(OutputStream outputStream, boolean owned) throws XMLStreamException {
+    this.outputStream = outputStream;
+    this.owned = owned;
+    this.xmlStreamWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream, "UTF-8");
+    this.xmlStreamWriter.writeStartDocument("UTF-8", "1.0");
+    this.xmlStreamWriter.setPrefix(PREFIX, NAMESPACE);
+    this.xmlStreamWriter.writeStartElement(PREFIX, SSRF.class.getAnnotation(XmlRootElement.class).name(), NAMESPACE);
+    this.xmlStreamWriter.writeNamespace(PREFIX, NAMESPACE);
+  }
+
+  /**
+   * Build the SchemaRoot element sequence position of each data set type from
+   * the SchemaRoot propOrder and field annotations.
+   *
+   * @return an array of sequence positions indexed by data set type ordinal
+   */
+  private static int[] buildSequence() {
+    int[] sequence = new int[EDatasetType.values().length];
+    String[] propOrder = SchemaRoot.class.getAnnotation(XmlType.class).propOrder();
+    for (int i = 0; i < propOrder.length; i++) {
+      try {
+        String elementName = SchemaRoot.class.getDeclaredField(propOrder[i]).getAnnotation(XmlElement.class).name();
+        EDatasetType datasetType = EDatasetType.fromClassSimpleName(elementName);
+        if (datasetType != null) {
+          sequence[datasetType.ordinal()] = i + 1;
+        }
+      } catch (NoSuchFieldException | SecurityException ex) {
+        throw new ExceptionInInitializerError(ex);
+      }
+    }
+    return sequence;
+  }
+
+  /**
+   * Set the SSRF Properties to apply to each data set before it is written.
+   *
+   * @param ssrfProperties a SSRFProperties instance
+   * @return the current writer instance
+   */
+  public SSRFStreamWriter withProperties(SSRFProperties ssrfProperties) {
+    this.ssrfProperties = ssrfProperties;
+    return this;
+  }
+
+  /**
+   * Get the number of data sets written so far.
+   *
+   * @return the number of data sets written by this writer
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Write a data set to the output.
+   * <p>
+   * The data set is prepared (properties are applied and serial number
+   * references are copied) then validated before being marshalled. If the data
+   * set is NOT valid then call {@link SSRFUtility#evaluate(Object)} to
+   * re-inspect the data set and retrieve a list of specific validation errors.
+   *
+   * @param dataset the SSRF data set instance to write
+   * @throws IllegalStateException if this writer is closed or if the data set
+   *                               is out of SchemaRoot element sequence
+   * @throws Exception             If the data set fails to validate or cannot
+   *                               be marshalled
+   */
+  public void write(Common<?> dataset) throws Exception {
+    if (closed) {
+      throw new IllegalStateException("SSRF stream writer is closed.");
+    }
+    EDatasetType datasetType = EDatasetType.fromInstance(dataset);
+    if (datasetType == null) {
+      throw new IllegalArgumentException("Unrecognized SSRF data set type " + dataset.getClass().getName());
+    }
+    int datasetPosition = SEQUENCE[datasetType.ordinal()];
+    if (datasetPosition < position) {
+      throw new IllegalStateException("SSRF data set " + datasetType.getClassSimpleName() + " is out of sequence. Data sets must be written in SchemaRoot element order.");
+    }
+    prepare(dataset, ssrfProperties);
+    /**
+     * Marshal the data set as a fragment directly to the output.
+     */
+    SSRFBinding.getMarshaller(SSRF.class, EMarshalProfile.FRAGMENT).marshal(toElement(dataset), xmlStreamWriter);
+    position = datasetPosition;
+    count++;
+  }
+
+  /**
+   * Prepare a single data set for export then validate it.
+   * <p>
+   * Properties (if provided) are applied and serial number references are
+   * copied. Referenced data sets are copied into a throw-away root instance,
+   * which is discarded.
+   *
+   * @param dataset        the SSRF data set instance
+   * @param ssrfProperties optional SSRF Properties to apply. Ignored if null.
+   * @throws Exception If the data set fails to validate
+   */
+  static void prepare(Common<?> dataset, SSRFProperties ssrfProperties) throws Exception {
+    if (ssrfProperties != null) {
+      SSRFUtility.setProperties(ssrfProperties, dataset);
+    }
+    dataset.prepare();
+    SSRFUtility.prepare(dataset, new SSRF());
+    SSRFUtility.validate(dataset);
+  }
+
+  /**
+   * Wrap a single data set in a JAXB element named for its data set type (e.g.
+   * "s:Assignment") so that it may be marshalled on its own.
+   *
+   * @param <T>     the data set class type
+   * @param dataset the SSRF data set instance
+   * @return a JAXB element wrapping the data set
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends Common<?>> JAXBElement<T> toElement(T dataset) {
+    return new JAXBElement<>(new QName(NAMESPACE, dataset.getClass().getSimpleName(), PREFIX), (Class<T>) dataset.getClass(), dataset);
+  }
+
+  /**
+   * Write a collection of data sets to the output. The data sets are written
+   * in iteration order.
+   *
+   * @param datasets the SSRF data set instances to write
+   * @throws Exception If a data set is out of sequence, fails to validate or
+   *                   cannot be marshalled
+   */
+  public void write(Iterable<? extends Common<?>> datasets) throws Exception {
+    for (Common<?> dataset : datasets) {
+      write(dataset);
+    }
+  }
+
+  /**
+   * Flush buffered output to the underlying output stream.
+   *
+   * @throws IOException if the output cannot be flushed
+   */
+  public void flush() throws IOException {
+    try {
+      xmlStreamWriter.flush();
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    }
+    outputStream.flush();
+  }
+
+  /**
+   * Close the SSRF root element and flush the output. If this writer was
+   * opened on a file then the file is also closed.
+   *
+   * @throws IOException if the output cannot be written or closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      xmlStreamWriter.writeEndElement();
+      xmlStreamWriter.writeEndDocument();
+      xmlStreamWriter.close();
+      outputStream.flush();
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
+    } finally {
+      if (owned) {
+        outputStream.close();
+      }
+    }
+  }
+}
@@ -15,35 +15,45 @@
  */
 package us.gov.dod.standard.ssrf;
 
-import java.io.ByteArrayInputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
-import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import org.xml.sax.InputSource;
 import us.gov.dod.standard.ssrf._3_1.Common;
-import us.gov.dod.standard.ssrf._3_1.common.ExtReferenceRef;
-import us.gov.dod.standard.ssrf._3_1.common.Remarks;
-import us.gov.dod.standard.ssrf._3_1.location.Ellipse;
-import us.gov.dod.standard.ssrf._3_1.location.Point;
-import us.gov.dod.standard.ssrf._3_1.location.Polygon;
+import us.gov.dod.standard.ssrf._3_1.SchemaRoot;
+import us.gov.dod.standard.ssrf._3_1.adapter.EXmlViolation;
+import us.gov.dod.standard.ssrf._3_1.adapter.IXmlAdapterCheck;
+import us.gov.dod.standard.ssrf._3_1.metadata.MetadataAttributes;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
-import us.gov.dod.standard.ssrf._3_1.multiple.ConfigFreq;
-import us.gov.dod.standard.ssrf._3_1.receiver.Curve;
-import us.gov.dod.standard.ssrf._3_1.ssreply.Comment;
-import us.gov.dod.standard.ssrf._3_1.toa.Footnote;
 
 /**
  * A collection of useful SSRF and JAXB Utility classes.
@@ -71,43 +81,49 @@ public class SSRFUtility {
   /**
    * "us.gov.dod.standard.ssrf". The SSRF top level package.
    */
-  private static final String SSRF_PACKAGE = "us.gov.dod.standard.ssrf";
+  static final String SSRF_PACKAGE = "us.gov.dod.standard.ssrf";
 
   /**
-   * A randomly seeded AtomicInteger used to provide guaranteed unique index
-   * values for SSRF classes requiring an index.
+   * The AtomicInteger backing the deprecated {@link #nextIndex()} sequence.
    * <p>
-   * This implementation provides a unique sequence of Integer values
-   * incrementing from one (1).
+   * This implementation provides a sequence of Integer values incrementing from
+   * one (1) and wrapping around after 10,000.
    */
   private static final AtomicInteger atomicIndex = new AtomicInteger();
 
   /**
-   * Get the next guaranteed unique index compatible with SSRF "idx" fields. *
-   * The returned value is monotonically incremented by one from the previously
-   * provided value.
-   * <p>
-   * All values increment from a randomly selected start value unique to each
-   * SSRFUtility instantiation.
+   * 1 MB. The minimum size of a document byte range unmarshalled as a single
+   * task when reading in parallel. Smaller ranges are not worth the overhead of
+   * a separate task.
+   */
+  private static final long MIN_PARALLEL_BATCH_BYTES = 1 << 20;
+
+  /**
+   * Get the next index compatible with SSRF "idx" fields. The returned value is
+   * incremented by one from the previously provided value and wraps around to
+   * one (1) after 10,000.
    * <p>
-   * This method is required by the following 9 classes which set an index in
-   * their constructors:
-   * {@link Comment}, {@link ConfigFreq}, {@link Curve}, {@link Ellipse}, {@link ExtReferenceRef}, {@link Footnote}, {@link Point}, {@link Polygon}, {@link Remarks},
+   * The index sequence is shared by all documents in the JVM and wraps around;
+   * values are therefore NOT guaranteed to be unique within a document.
    *
-   * @return an {@link AtomicInteger}, wrapped inside a {@link BigInteger}
-   *         instance.
+   * @return the next index, wrapped inside a {@link BigInteger} instance.
+   * @deprecated Since 3.1.0. Use the document-scoped {@link SSRF#nextIdx()},
+   * which guarantees unique index values within the document.
    */
+  @Deprecated
   public static BigInteger nextIndex() {
     /**
-     * Index values are UN6 and must remain below 100,000. Reset the atomic
-     * index counter to zero if the index value climbs above 10,000. This is
-     * somewhat conservative, but we NEVER expect to see more than a few indices
-     * in any given SSRF document.
+     * Index values are UN6. Wrap the counter around to one if the index value
+     * climbs above 10,000. This is somewhat conservative, but we NEVER expect
+     * to see more than a few indices in any given SSRF document.
      */
-    if (atomicIndex.get() >= 1e4) {
-      atomicIndex.set(0);
-    }
-    return new BigInteger(String.valueOf(Math.abs(atomicIndex.incrementAndGet())));
+    int current;
+    int next;
+    do {
+      current = atomicIndex.get();
+      next = current >= 10000 || current < 0 ? 1 : current + 1;
+    } while (!atomicIndex.compareAndSet(current, next));
+    return BigInteger.valueOf(next);
   }
 
   /**
@@ -149,40 +165,98 @@ public class SSRFUtility {
    *                 equal to this value.
    * @throws java.lang.Exception if the SSRF instance fails to validate
    */
-  @SuppressWarnings({"AssignmentToMethodParameter"})
   public static void validate(Object instance, ListCCL cls) throws Exception {
+    validate(instance, cls, null, null, newVisitedSet());
+  }
+
+  /**
+   * Validate a SSRF object instance in parallel.
+   * <p>
+   * The field values (typically the data sets) of the object instance are
+   * validated concurrently on the fork/join pool, each with the classification
+   * context inherited from the object instance. If several field values are not
+   * valid then the error reported is the same as reported by
+   * {@link #validate(Object)}.
+   *
+   * @param instance the object instance to validate
+   * @param pool     the fork/join pool on which to validate the field values
+   * @throws java.lang.Exception if the SSRF instance fails to validate
+   * @since 3.1.0
+   */
+  public static void validateParallel(Object instance, ForkJoinPool pool) throws Exception {
     /**
-     * Assign the class type under study to a local variable for convenience.
+     * Validate the top-level instance on the calling thread and collect its
+     * field values. An error raised here comes after every subtree already
+     * collected, in sequential order.
      */
-    Class<?> clazz = instance.getClass();
+    List<ParallelValidationTask.Subtree> subtrees = new ArrayList<>();
+    Exception rootError = null;
+    try {
+      validate(instance, null, null, subtrees, newVisitedSet());
+    } catch (Exception exception) {
+      rootError = exception;
+    }
+    Exception[] errors = new Exception[subtrees.size()];
+    pool.invoke(new ParallelValidationTask(subtrees, getParallelThreshold(subtrees.size(), pool), errors));
+    for (Exception exception : errors) {
+      if (exception != null) {
+        throw exception;
+      }
+    }
+    if (rootError != null) {
+      throw rootError;
+    }
+  }
+
+  /**
+   * Validate a SSRF object instance. (internal, recursive)
+   *
+   * @param instance the object instance to validate
+   * @param cls      The parent (maximum) classification.
+   * @param dataset  the data set containing the object instance. May be null.
+   * @param subtrees if not null then the field values of this object instance
+   *                 are collected here, to be validated later, instead of
+   *                 being validated recursively
+   * @param visited  the object instances already validated
+   * @throws java.lang.Exception if the SSRF instance fails to validate
+   */
+  @SuppressWarnings({"AssignmentToMethodParameter"})
+  private static void validate(Object instance, ListCCL cls, Common<?> dataset, List<ParallelValidationTask.Subtree> subtrees, Set<Object> visited) throws Exception {
     /**
+     * Get the (cached) inspection plan for the class type under study.
      * Important: NO NOT inspect classes that are not within the SSRF package.
      * Also and equally important: DO NOT inspect or try to validate enumerated
      * classes.
      */
-    if (clazz.isEnum() || !clazz.getName().startsWith(SSRF_PACKAGE)) {
+    ClassPlan plan = ClassPlan.get(instance.getClass());
+    if (!plan.isInspected()) {
+      return;
+    }
+    /**
+     * Validate each object instance once. Do not validate a data set
+     * referenced from within another data set: SSRF messages are assembled
+     * before validation, so the referenced data set is validated in its own
+     * right. This also stops the recursion on circular data set references.
+     */
+    if (!visited.add(instance) || isReferencedDataset(instance, dataset)) {
       return;
     }
+    if (instance instanceof Common) {
+      dataset = (Common<?>) instance;
+    }
     /**
      * Test the classification order. SSRF requires that subordinate objects
      * have a classification less than or equal to their parents.
      */
-    Set<Field> fields = findDeclaredAndInheritedFields(clazz);
     if (cls != null) {
-      for (Field field : fields) {
-        if (field.getType().equals(ListCCL.class)) {
-          field.setAccessible(true);
-          if (cls.compareTo((ListCCL) field.get(instance)) < 0) {
-            throw new Exception("Field classification \"" + field.get(instance) + "\" is less than parent \"" + cls + "\"");
-          }
+      for (ClassPlan.FieldPlan field : plan.getClassificationFields()) {
+        if (cls.compareTo((ListCCL) field.get(instance)) < 0) {
+          throw new Exception("Field classification \"" + field.get(instance) + "\" is less than parent \"" + cls + "\"");
         }
       }
     } else {
-      for (Field field : fields) {
-        if (field.getType().equals(ListCCL.class)) {
-          field.setAccessible(true);
-          cls = (ListCCL) field.get(instance);
-        }
+      for (ClassPlan.FieldPlan field : plan.getClassificationFields()) {
+        cls = (ListCCL) field.get(instance);
       }
     }
 
@@ -191,12 +265,7 @@ public class SSRFUtility {
      * private) and inspect each according to its annotated configuration and
      * state.
      */
-    for (Field field : fields) {
-      /**
-       * Important: Enable access to the Object instance fields (public,
-       * protected and private).
-       */
-      field.setAccessible(true);
+    for (ClassPlan.FieldPlan field : plan.getFields()) {
       /**
        * Get the instance field value. Skip (do not check and fail gracefully)
        * if the field value is null (e.g. not configured) or (somehow) not
@@ -206,14 +275,13 @@ public class SSRFUtility {
       try {
         fieldValue = field.get(instance);
       } catch (IllegalArgumentException | IllegalAccessException ex) {
-//        Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
         continue;
       }
       /**
        * Report an ERROR if the field is required and not configured.
        */
-      if (isRequired(field) && fieldValue == null) {
-        throw new Exception(field.getName() + " is required.");
+      if (field.isRequired() && fieldValue == null) {
+        throw new Exception(field.getField().getName() + " is required.");
       }
       /**
        * If the field value is not required and NULL then DO NOT try to validate
@@ -227,14 +295,22 @@ public class SSRFUtility {
        * collection to recursively validate each entry object instance,
        * otherwise recurse to validate the field value object instance directly.
        */
-      if (fieldValue instanceof Collection) {
+      if (field.isCollection()) {
         for (Object entry : (Iterable<? extends Object>) fieldValue) {
           if (entry != null) {
-            validate(entry, cls);
+            if (subtrees != null) {
+              subtrees.add(new ParallelValidationTask.Subtree(entry, cls, instance, field.getField()));
+            } else {
+              validate(entry, cls, dataset, null, getSubtreeVisitedSet(instance, visited));
+            }
           }
         }
       } else {
-        validate(fieldValue, cls);
+        if (subtrees != null) {
+          subtrees.add(new ParallelValidationTask.Subtree(fieldValue, cls, instance, field.getField()));
+        } else {
+          validate(fieldValue, cls, dataset, null, getSubtreeVisitedSet(instance, visited));
+        }
         /**
          * After the field validation status is completed try to validate the
          * object instance configuration against an XmlTypeValidator, if
@@ -265,7 +341,151 @@ public class SSRFUtility {
    *         the object instance validates OK.
    */
   public static Set<String> evaluate(Object instance) {
-    return evaluate(instance, null, null, null, null);
+    Set<String> messages = new TreeSet<>();
+    evaluate(instance, null, null, null, null, new MessageSink(messages), null, newVisitedSet());
+    return messages;
+  }
+
+  /**
+   * Evaluate a SSRF Object instance; deliver each configuration error to a
+   * validation sink as it is found.
+   * <p>
+   * This method inspects the object instance exactly as
+   * {@link #evaluate(Object)} but does not build or retain error messages.
+   * Each issue identifies the data set, field and validation rule; its message
+   * is built only if requested. Use a {@link ValidationReport} to bound the
+   * number of issues retained, to stop at the first issue, or to count issues
+   * by rule.
+   *
+   * @param instance the object instance to validate
+   * @param sink     the validation sink to receive each issue
+   * @return TRUE if the evaluation completed, FALSE if it was stopped by the
+   *         sink
+   * @since 3.1.0
+   */
+  public static boolean evaluate(Object instance, IValidationSink sink) {
+    return evaluate(instance, null, null, null, null, sink, null, newVisitedSet());
+  }
+
+  /**
+   * Evaluate a SSRF Object instance in parallel; record and report any
+   * configuration errors.
+   * <p>
+   * The field values (typically the data sets) of the object instance are
+   * evaluated concurrently on the fork/join pool, each with the classification
+   * context inherited from the object instance. The error messages are merged
+   * into a sorted set and are identical to those returned by
+   * {@link #evaluate(Object)}.
+   *
+   * @param instance the object instance to validate
+   * @param pool     the fork/join pool on which to evaluate the field values
+   * @return a non-null Collection of error messages. The collection is EMPTY if
+   *         the object instance validates OK.
+   * @since 3.1.0
+   */
+  public static Set<String> evaluateParallel(Object instance, ForkJoinPool pool) {
+    List<ParallelValidationTask.Subtree> subtrees = new ArrayList<>();
+    Set<String> messages = new TreeSet<>();
+    evaluate(instance, null, null, null, null, new MessageSink(messages), subtrees, newVisitedSet());
+    messages.addAll(pool.invoke(new ParallelValidationTask(subtrees, getParallelThreshold(subtrees.size(), pool))));
+    return messages;
+  }
+
+  /**
+   * Get the maximum number of subtrees validated as a single task when
+   * validating in parallel. Each pool thread receives about eight tasks to
+   * balance the (uneven) subtree sizes.
+   *
+   * @param size the number of subtrees
+   * @param pool the fork/join pool
+   * @return the batch threshold
+   */
+  private static int getParallelThreshold(int size, ForkJoinPool pool) {
+    return Math.max(1, size / (pool.getParallelism() * 8));
+  }
+
+  /**
+   * Create an empty set to record the object instances visited by a graph
+   * traversal. Instances are compared by identity (not by equals) so that
+   * each instance is visited exactly once, even if it is shared or referenced
+   * in a cycle.
+   *
+   * @return a new identity set
+   */
+  private static Set<Object> newVisitedSet() {
+    return Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+  }
+
+  /**
+   * Get the visited set to use when validating (or evaluating) the field
+   * values of an object instance.
+   * <p>
+   * Each top-level subtree (typically a data set) of a SSRF message is
+   * inspected with its own visited set, so that the issues reported for a data
+   * set do not depend on the order in which the data sets are inspected. The
+   * results are therefore identical when validating sequentially, in parallel
+   * or incrementally.
+   *
+   * @param instance the object instance whose field values are inspected
+   * @param visited  the object instances already inspected
+   * @return a new visited set if the object instance is a SSRF message,
+   *         otherwise the visited set provided
+   */
+  private static Set<Object> getSubtreeVisitedSet(Object instance, Set<Object> visited) {
+    return instance instanceof SchemaRoot ? newVisitedSet() : visited;
+  }
+
+  /**
+   * Determine if an object instance is a data set referenced from within
+   * another data set (e.g. the transient Role of a Contact owner).
+   *
+   * @param instance the object instance
+   * @param dataset  the data set being inspected. May be null.
+   * @return TRUE if the object instance is a different data set
+   */
+  private static boolean isReferencedDataset(Object instance, Common<?> dataset) {
+    return dataset != null && instance != dataset && instance instanceof Common;
+  }
+
+  /**
+   * Record a visit to an object instance. Only SSRF class instances are
+   * recorded; other values (e.g. strings and enumerated values) are never
+   * inspected and need not be tracked.
+   *
+   * @param instance the object instance
+   * @param visited  the object instances already visited
+   * @return TRUE if the object instance should be visited, FALSE if it was
+   *         already visited
+   */
+  private static boolean visit(Object instance, Set<Object> visited) {
+    return !ClassPlan.get(instance.getClass()).isInspected() || visited.add(instance);
+  }
+
+  /**
+   * Internal method to recursively validate an object instance and collect
+   * the error messages.
+   *
+   * @param instance       the object instance to validate
+   * @param cls            the parent (maximum) classification
+   * @param parentInstance the parent object instance
+   * @param parentField    the parent field where the object instance lives
+   * @param messages       a collection of pretty-print error messages
+   */
+  static void evaluate(Object instance, ListCCL cls, Object parentInstance, Field parentField, Set<String> messages) {
+    evaluate(instance, cls, parentInstance, parentField, null, new MessageSink(messages), null, newVisitedSet());
+  }
+
+  /**
+   * Internal method to evaluate a top-level object instance without recursion.
+   * The error messages of the object instance are collected and its field
+   * values are collected as subtrees, to be evaluated later.
+   *
+   * @param instance the top-level object instance to validate
+   * @param messages a collection of pretty-print error messages
+   * @param subtrees the collection of field value subtrees
+   */
+  static void evaluate(Object instance, Set<String> messages, List<ParallelValidationTask.Subtree> subtrees) {
+    evaluate(instance, null, null, null, null, new MessageSink(messages), subtrees, newVisitedSet());
   }
 
   /**
@@ -282,62 +502,71 @@ public class SSRFUtility {
    * Reflection Tutorial</a>.
    *
    * @param instance       the object instance to validate
+   * @param cls            the parent (maximum) classification
    * @param parentInstance the parent object instance
    * @param parentField    the parent field where the object instance lives
-   * @param messages       a collection of pretty-print error messages
-   * @return a non-null Collection of error messages. The collection is EMPTY if
-   *         the object instance validates OK.
+   * @param dataset        the data set containing the object instance. May be
+   *                       null.
+   * @param sink           the validation sink to receive each issue
+   * @param subtrees       if not null then the field values of this object
+   *                       instance are collected here, to be evaluated later,
+   *                       instead of being evaluated recursively
+   * @param visited        the object instances already evaluated
+   * @return TRUE to continue, FALSE if the evaluation was stopped by the sink
    */
   @SuppressWarnings({"AssignmentToMethodParameter"})
-  private static Set<String> evaluate(Object instance, ListCCL cls, Object parentInstance, Field parentField, Set<String> messages) {
+  private static boolean evaluate(Object instance, ListCCL cls, Object parentInstance, Field parentField, Common<?> dataset, IValidationSink sink, List<ParallelValidationTask.Subtree> subtrees, Set<Object> visited) {
     /**
-     * Initialize the messages collection if required. Use a TreeSet to
-     * eliminate duplicates and provide a pretty-print output.
+     * Get the (cached) inspection plan for the class type under study.
+     * Important: NO NOT inspect classes that are not within the SSRF package.
+     * Also and equally important: DO NOT inspect or try to validate enumerated
+     * classes.
      */
-    if (messages == null) {
-      messages = new TreeSet<>();
+    ClassPlan plan = ClassPlan.get(instance.getClass());
+    if (!plan.isInspected()) {
+      return true;
     }
     /**
-     * Assign the class type under study to a local variable for convenience.
+     * Evaluate each object instance once. Do not evaluate a data set
+     * referenced from within another data set: SSRF messages are assembled
+     * before evaluation, so the referenced data set is evaluated in its own
+     * right. This also stops the recursion on circular data set references.
      */
-    Class<?> clazz = instance.getClass();
+    if (!visited.add(instance) || isReferencedDataset(instance, dataset)) {
+      return true;
+    }
     /**
-     * Important: NO NOT inspect classes that are not within the SSRF package.
-     * Also and equally important: DO NOT inspect or try to validate enumerated
-     * classes.
+     * Track the data set containing the issues.
      */
-    if (clazz.isEnum() || !clazz.getName().startsWith(SSRF_PACKAGE)) {
-      return messages;
+    if (instance instanceof Common) {
+      dataset = (Common<?>) instance;
     }
+    Serial serial = dataset != null ? dataset.getSerial() : null;
     /**
      * Test the classification order. SSRF requires that subordinate objects
      * have a classification less than or equal to their parents.
      */
-    Set<Field> fields = findDeclaredAndInheritedFields(clazz);
     if (cls != null) {
-      for (Field field : fields) {
-        if (field.getType().equals(ListCCL.class)) {
-          try {
-            field.setAccessible(true);
-            if (cls.compareTo((ListCCL) field.get(instance)) < 0) {
-              messages.add(parentInstance.getClass().getSimpleName() + "." + parentField.getName() + "." + field.getName() + " classification \"" + field.get(instance) + "\" is less restrictive than parent classification \"" + cls + "\"");
-            }
-          } catch (SecurityException | IllegalArgumentException | IllegalAccessException exception) {
-            logger.log(Level.WARNING, "CLS comparison failed for {0}", instance.getClass().getSimpleName());
-            logger.log(Level.SEVERE, null, exception);
+      for (ClassPlan.FieldPlan field : plan.getClassificationFields()) {
+        try {
+          Object fieldCls = field.get(instance);
+          if (fieldCls != null
+              && cls.compareTo((ListCCL) fieldCls) < 0
+              && !sink.accept(ValidationIssue.classification(serial, parentInstance, parentField, instance, field.getField(), fieldCls, cls))) {
+            return false;
           }
+        } catch (SecurityException | IllegalArgumentException | IllegalAccessException exception) {
+          logger.log(Level.WARNING, "CLS comparison failed for {0}", instance.getClass().getSimpleName());
+          logger.log(Level.SEVERE, null, exception);
         }
       }
     } else {
-      for (Field field : fields) {
-        if (field.getType().equals(ListCCL.class)) {
-          try {
-            field.setAccessible(true);
-            cls = (ListCCL) field.get(instance);
-          } catch (SecurityException | IllegalArgumentException | IllegalAccessException exception) {
-            logger.log(Level.WARNING, "CLS comparison failed for {0}", instance.getClass().getSimpleName());
-            logger.log(Level.SEVERE, null, exception);
-          }
+      for (ClassPlan.FieldPlan field : plan.getClassificationFields()) {
+        try {
+          cls = (ListCCL) field.get(instance);
+        } catch (SecurityException | IllegalArgumentException | IllegalAccessException exception) {
+          logger.log(Level.WARNING, "CLS comparison failed for {0}", instance.getClass().getSimpleName());
+          logger.log(Level.SEVERE, null, exception);
         }
       }
     }
@@ -346,12 +575,7 @@ public class SSRFUtility {
      * private) and inspect each according to its annotated configuration and
      * state.
      */
-    for (Field field : fields) {
-      /**
-       * Important: Enable access to the Object instance fields (public,
-       * protected and private).
-       */
-      field.setAccessible(true);
+    for (ClassPlan.FieldPlan field : plan.getFields()) {
       /**
        * Get the instance field value. Skip (do not check and fail gracefully)
        * if the field value is null (e.g. not configured) or (somehow) not
@@ -366,8 +590,9 @@ public class SSRFUtility {
       /**
        * Report an ERROR if the field is required and not configured.
        */
-      if (isRequired(field) && fieldValue == null) {
-        messages.add(parentInstance.getClass().getSimpleName() + "." + parentField.getName() + getErrorLabel(parentField, parentInstance) + " (" + field.getType().getSimpleName() + ") " + field.getName() + " is required");
+      if (field.isRequired() && fieldValue == null
+          && !sink.accept(ValidationIssue.required(serial, parentInstance, parentField, instance, field.getField()))) {
+        return false;
       }
       /**
        * If the field value is not required and NULL then DO NOT try to validate
@@ -381,35 +606,95 @@ public class SSRFUtility {
        * collection to recursively validate each entry object instance,
        * otherwise recurse to validate the field value object instance directly.
        */
-      if (fieldValue instanceof Collection) {
+      if (field.isCollection()) {
         for (Object entry : (Iterable<? extends Object>) fieldValue) {
           if (entry != null) {
-            evaluate(entry, cls, instance, field, messages);
+            if (subtrees != null) {
+              subtrees.add(new ParallelValidationTask.Subtree(entry, cls, instance, field.getField()));
+            } else if (!evaluate(entry, cls, instance, field.getField(), dataset, sink, null, getSubtreeVisitedSet(instance, visited))) {
+              return false;
+            }
           }
         }
       } else {
-        evaluate(fieldValue, cls, instance, field, messages);
+        if (subtrees != null) {
+          subtrees.add(new ParallelValidationTask.Subtree(fieldValue, cls, instance, field.getField()));
+        } else if (!evaluate(fieldValue, cls, instance, field.getField(), dataset, sink, null, getSubtreeVisitedSet(instance, visited))) {
+          return false;
+        }
         /**
          * After the field validation status is completed try to validate the
          * object instance configuration against an XmlTypeValidator, if
          * present.
          */
-        try {
-          validateField(field, fieldValue);
-        } catch (Exception exception) {
-          /**
-           * If there is a null pointer error then dump the output.
-           */
-          if (exception instanceof NullPointerException) {
-            logger.log(Level.SEVERE, null, exception);
-          }
-//          logger.log(Level.WARNING, "{0}.{1} failed XML type validation: {2}", new Object[]{instance.getClass().getSimpleName(), field.getName(), exception.getMessage()});
-//          messages.add(instance.getClass().getSimpleName() + "." + field.getName() + "  " + exception.getMessage());
-          messages.add(parentInstance.getClass().getSimpleName() + "." + parentField.getName() + "." + field.getName() + " (" + instance.getClass().getSimpleName() + ") :  " + exception.getMessage());
+        ValidationIssue issue = evaluateField(field, fieldValue, serial, parentInstance, parentField, instance);
+        if (issue != null && !sink.accept(issue)) {
+          return false;
         }
       }
     }
-    return messages;
+    return true;
+  }
+
+  /**
+   * Evaluate a field setting against its XmlTypeValidator, if present.
+   * <p>
+   * This method behaves like {@link #validateField(ClassPlan.FieldPlan, Object)}
+   * but returns the issue instead of throwing an exception. If the XmlAdapter
+   * supports the non-throwing check then no error message is built.
+   *
+   * @return the issue, null if the field value is valid
+   */
+  private static ValidationIssue evaluateField(ClassPlan.FieldPlan field, Object fieldValue, Serial serial, Object parentInstance, Field parentField, Object instance) {
+    if (!field.hasAdapter()) {
+      return null;
+    }
+    try {
+      XmlAdapter<Object, Object> adapterInstance = field.getAdapter();
+      if (adapterInstance instanceof IXmlAdapterCheck) {
+        IXmlAdapterCheck<Object> check = (IXmlAdapterCheck<Object>) adapterInstance;
+        EXmlViolation violation = check.check(fieldValue);
+        return violation != null
+               ? ValidationIssue.violation(serial, parentInstance, parentField, instance, field.getField(), fieldValue, check, violation)
+               : null;
+      }
+      validateField(field, fieldValue);
+    } catch (Exception exception) {
+      /**
+       * If there is a null pointer error then dump the output.
+       */
+      if (exception instanceof NullPointerException) {
+        logger.log(Level.SEVERE, null, exception);
+      }
+      if (exception instanceof ReflectiveOperationException || exception instanceof SecurityException) {
+        logger.log(Level.WARNING, "XmlJavaTypeAdapter failed to instantiate: {0}", exception.getMessage());
+        logger.log(Level.SEVERE, null, exception);
+        return null;
+      }
+      return ValidationIssue.format(serial, parentInstance, parentField, instance, field.getField(), fieldValue, exception.getMessage());
+    }
+    return null;
+  }
+
+  /**
+   * A validation sink that collects issue messages into a set.
+   */
+  private static class MessageSink implements IValidationSink {
+
+    /**
+     * The pretty-print error messages.
+     */
+    private final Set<String> messages;
+
+    MessageSink(Set<String> messages) {
+      this.messages = messages;
+    }
+
+    @Override
+    public boolean accept(ValidationIssue issue) {
+      messages.add(issue.getMessage());
+      return true;
+    }
   }
 
   /**
@@ -430,33 +715,47 @@ public class SSRFUtility {
    * @throws Exception the XmlTypeValidator marshal error, thrown ONLY if the
    *                   field value is not valid
    */
-  private static void validateField(Field field, Object fieldValue) throws Exception {
+  private static void validateField(ClassPlan.FieldPlan field, Object fieldValue) throws Exception {
     /**
-     * Do not validate fields with null values.
+     * Do not validate fields with null values or without an
+     * XmlJavaTypeAdapter annotation.
      */
-    if (fieldValue == null) {
+    if (fieldValue == null || !field.hasAdapter()) {
       return;
     }
     /**
-     * Scan the field annotations looking for an XmlJavaTypeAdapter instance.
+     * Get the shared instance of the XmlAdapter class referred to in the
+     * XmlJavaTypeAdapter "value" field.
      */
-    for (Annotation annotation : field.getAnnotations()) {
-      if (annotation instanceof XmlJavaTypeAdapter) {
-        /**
-         * If an XmlJavaTypeAdapter annotation is found then instantiate the
-         * XmlAdapter class referred to in the "value" field and attempt to
-         * marshal the field value. This action will complete silently if the
-         * field value is valid and throw an exception if the field value is not
-         * valid (as determined by the marshal method).
-         */
-        try {
-          XmlAdapter<Object, Object> adapterInstance = ((XmlJavaTypeAdapter) annotation).value().getConstructor().newInstance();
-          adapterInstance.marshal(fieldValue);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException ex) {
-          logger.log(Level.WARNING, "XmlJavaTypeAdapter failed to instantiate: {0}", ex.getMessage());
-          logger.log(Level.SEVERE, null, ex);
-        }
+    XmlAdapter<Object, Object> adapterInstance;
+    try {
+      adapterInstance = field.getAdapter();
+    } catch (ReflectiveOperationException | SecurityException ex) {
+      logger.log(Level.WARNING, "XmlJavaTypeAdapter failed to instantiate: {0}", ex.getMessage());
+      logger.log(Level.SEVERE, null, ex);
+      return;
+    }
+    /**
+     * If the adapter supports the non-throwing check then use it: no value is
+     * converted and an error message is built only if the value is not valid.
+     * Otherwise attempt to marshal the field value. Either action will complete
+     * silently if the field value is valid and throw an exception if the field
+     * value is not valid.
+     */
+    if (adapterInstance instanceof IXmlAdapterCheck) {
+      @SuppressWarnings("unchecked")
+      IXmlAdapterCheck<Object> check = (IXmlAdapterCheck<Object>) adapterInstance;
+      EXmlViolation violation = check.check(fieldValue);
+      if (violation != null) {
+        throw new Exception(check.getViolationMessage(violation, fieldValue));
       }
+      return;
+    }
+    try {
+      adapterInstance.marshal(fieldValue);
+    } catch (IllegalArgumentException ex) {
+      logger.log(Level.WARNING, "XmlJavaTypeAdapter failed to instantiate: {0}", ex.getMessage());
+      logger.log(Level.SEVERE, null, ex);
     }
   }
 
@@ -471,7 +770,7 @@ public class SSRFUtility {
    * @param instance the object instance to query
    * @return either the field value or the string "instance"
    */
-  private static String getErrorLabel(Field field, Object instance) {
+  static String getErrorLabel(Field field, Object instance) {
     try {
       field.setAccessible(true);
       Object fieldValue = field.get(instance);
@@ -536,10 +835,10 @@ public class SSRFUtility {
    * and {@link XmlElementRef} field annotation types marked as REQUIRED; also,
    * {@link XmlValue}.
    *
-   * @param field the field to inspect
+   * @param field the field (or bound getter method) to inspect
    * @return TRUE if and only if the XML annotation is marked "required = true"
    */
-  protected static boolean isRequired(Field field) {
+  protected static boolean isRequired(AnnotatedElement field) {
     for (Annotation annotation : field.getAnnotations()) {
       if (annotation instanceof XmlAttribute) {
         return ((XmlAttribute) annotation).required();
@@ -572,15 +871,64 @@ public class SSRFUtility {
     return false;
   }
 
+  /**
+   * Find the getter method through which a {@link XmlTransient} class field is
+   * bound to XML.
+   * <p>
+   * Some fields are stored in a compact internal form (e.g. the "idx" fields
+   * hold a primitive int and the decimal data type values hold a fixed-point
+   * long) and are bound to XML through an annotated public
+   * getter and setter of the same property name. These fields are part of the
+   * SSRF data and must be validated and copied through the getter.
+   *
+   * @param field the field to inspect
+   * @return the getter method annotated with {@link XmlAttribute},
+   *         {@link XmlElement} or {@link XmlValue}, null if the field is not
+   *         bound through a getter
+   */
+  protected static Method findBoundGetter(Field field) {
+    if (!isTransient(field)) {
+      return null;
+    }
+    String name = field.getName();
+    try {
+      Method getter = field.getDeclaringClass().getMethod("get" + Character.toUpperCase(name.charAt(0)) + name.substring(1));
+      if (getter.isAnnotationPresent(XmlAttribute.class)
+          || getter.isAnnotationPresent(XmlElement.class)
+          || getter.isAnnotationPresent(XmlValue.class)) {
+        return getter;
+      }
+    } catch (NoSuchMethodException | SecurityException ex) {
+      /**
+       * Not bound through a getter.
+       */
+    }
+    return null;
+  }
+
+  /**
+   * Determine if a {@link XmlTransient} class field holds SSRF data bound to
+   * XML through accessor methods: either a field bound through a getter (see
+   * {@link #findBoundGetter(Field)}) or the side-car holding the optional
+   * metadata attributes of a data item (see {@link MetadataAttributes}).
+   *
+   * @param field the field to inspect
+   * @return TRUE if the field holds SSRF data
+   */
+  protected static boolean isBoundTransient(Field field) {
+    return MetadataAttributes.class.equals(field.getType()) || findBoundGetter(field) != null;
+  }
+
   /**
    * Trim a string to the desired maximum length.
    *
-   * @param value     the {@link String} instance to trim.
+   * @param value     the {@link String} instance to trim. May be null (e.g. a
+   *                  data type whose value could not be parsed).
    * @param maxLength the maximum desired string length
    * @return the input value, trimmed to the desired length.
    */
   private static String trimString(String value, int maxLength) {
-    return value.length() <= maxLength
+    return value == null || value.length() <= maxLength
            ? value
            : value.substring(0, maxLength - 3) + "...";
   }
@@ -623,16 +971,31 @@ public class SSRFUtility {
     } else if (rootInstance == null) {
       rootInstance = sourceInstance;
     }
+    Set<Object> visited = newVisitedSet();
+    visited.add(sourceInstance);
+    prepare(sourceInstance, rootInstance, visited);
+  }
+
+  /**
+   * Process a SSRF instance object for export (recursive, internal).
+   * <p>
+   * Each object instance is prepared and inspected once, even if it is shared
+   * by several parents or referenced in a cycle.
+   *
+   * @param sourceInstance the current object instance to inspect
+   * @param rootInstance   the root SSRF/SMADEF object instance into which the
+   *                       source instance components are copied
+   * @param visited        the object instances already prepared
+   */
+  private static void prepare(Object sourceInstance, Object rootInstance, Set<Object> visited) {
     /**
-     * Assign the class type under study to a local variable for convenience.
-     */
-    Class<?> clazz = sourceInstance.getClass();
-    /**
+     * Get the (cached) inspection plan for the class type under study.
      * Important: NO NOT inspect classes that are not within the SSRF package.
      * Also and equally important: DO NOT inspect or try to validate enumerated
      * classes.
      */
-    if (clazz.isEnum() || !clazz.getName().startsWith(SSRF_PACKAGE)) {
+    ClassPlan plan = ClassPlan.get(sourceInstance.getClass());
+    if (!plan.isInspected()) {
       return;
     }
     /**
@@ -640,12 +1003,7 @@ public class SSRFUtility {
      * private) and inspect each according to its annotated configuration and
      * state.
      */
-    for (Field field : findDeclaredAndInheritedFields(clazz)) {
-      /**
-       * Important: Enable access to the Object instance fields (public,
-       * protected and private).
-       */
-      field.setAccessible(true);
+    for (ClassPlan.FieldPlan field : plan.getFields()) {
       /**
        * Get the instance field value. Skip (do not check and fail gracefully)
        * if the field value is null (e.g. not configured) or (somehow) not
@@ -684,7 +1042,7 @@ public class SSRFUtility {
            * The fluent "WITH" setters tend to add null entries to various
            * collections. Skip and ignore all null collection entries.
            */
-          if (entryCandidate == null) {
+          if (entryCandidate == null || !visit(entryCandidate, visited)) {
             continue;
           }
           /**
@@ -695,7 +1053,7 @@ public class SSRFUtility {
           if (implementsPrepare(entryCandidate)) {
             preparablObjects.add(entryCandidate);
           } else {
-            prepare(entryCandidate, rootInstance); // recurse
+            prepare(entryCandidate, rootInstance, visited); // recurse
             addValueToDestinationInstance(entryCandidate, rootInstance);
           }
         }
@@ -713,7 +1071,7 @@ public class SSRFUtility {
           /**
            * Recurse into the class instance.
            */
-          prepare(preparableObject, rootInstance); // recurse
+          prepare(preparableObject, rootInstance, visited); // recurse
           /**
            * After recursion try adding the value to the destination (root SSRF)
            * instance.
@@ -726,10 +1084,13 @@ public class SSRFUtility {
          * Collection entries. If the object instance implements prepare() then
          * invoke it.
          */
+        if (!visit(fieldValue, visited)) {
+          continue;
+        }
         if (implementsPrepare(fieldValue)) {
           invokePrepare(fieldValue);
         }
-        prepare(fieldValue, rootInstance); // recurse
+        prepare(fieldValue, rootInstance, visited); // recurse
         addValueToDestinationInstance(fieldValue, rootInstance);
       }
     }
@@ -757,19 +1118,17 @@ public class SSRFUtility {
      * Simplify and speed up processing by only trying to add SSRF object
      * instances to the ROOT instance (the SSRF message) that extend Common.
      * <p>
-     * Important - This method should fail gracefully and silently: Catch a
-     * NullPointerException here just in case the sourceInstance is null.
+     * Important - This method should fail gracefully and silently.
      */
+    if (commonInstance == null || !Common.class.equals(commonInstance.getClass().getSuperclass())) {
+      return;
+    }
     try {
-      if (Common.class.equals(commonInstance.getClass().getSuperclass())) {
-        Method method = rootInstance.getClass().getMethod("with" + commonInstance.getClass().getSimpleName(), Collection.class);
-        method.invoke(rootInstance, Arrays.asList(new Object[]{commonInstance}));
-//        System.out.println("SSRFUtility.addValueToDestinationInstance " + commonInstance.getClass().getSimpleName());
+      if (!Lifecycle.get(rootInstance.getClass()).insert(rootInstance, commonInstance)) {
+        logger.log(Level.WARNING, "Failed to add {0} value to SSRF root instance:  no with{0}(Collection) method", commonInstance.getClass().getSimpleName());
       }
-    } catch (NullPointerException | NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+    } catch (Throwable ex) {
       logger.log(Level.WARNING, "Failed to add {0} value to SSRF root instance:  {1}", new Object[]{commonInstance.getClass().getSimpleName(), ex.getMessage()});
-//      System.err.println("ERROR SSRFUtility.addValueToDestinationInstance " + commonInstance.getClass().getSimpleName() + "  " + ex.getMessage());
-//      Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
     }
   }
 
@@ -781,26 +1140,7 @@ public class SSRFUtility {
    * @return true if the object class implements the prepare() method.
    */
   private static boolean implementsPrepare(Object instance) {
-    if (instance == null) {
-      return false;
-    }
-    String className = instance.getClass().getName();
-    /**
-     * Only inspect SSRF classes, but ignore ADAPTER and METADATA helpers.
-     */
-    if (className.startsWith(SSRF_PACKAGE)
-        && !className.contains(".adapter.")
-        && !className.contains(".metadata.")) {
-      try {
-        return instance.getClass().getMethod("prepare") != null;
-      } catch (NoSuchMethodException | SecurityException ex) {
-        /**
-         * Does not implement prepare().
-         */
-//      Logger.getLogger(SSRFUtility.class.getName()).log(Level.SEVERE, null, ex);
-      }
-    }
-    return false;
+    return instance != null && Lifecycle.get(instance.getClass()).isPreparable();
   }
 
   /**
@@ -814,19 +1154,13 @@ public class SSRFUtility {
       return;
     }
     /**
-     * Try to invoke the prepare() method. Fail gracefully if the instance class
-     * does not implement the prepare() method.
+     * Invoke the (cached) prepare() method. Fail gracefully if the instance
+     * class does not implement the prepare() method or if it fails.
      */
     try {
-      instance.getClass().getMethod("prepare").invoke(instance);
-    } catch (NoSuchMethodException | SecurityException ex) {
-      /**
-       * Does not implement prepare().
-       */
-    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-      /**
-       * prepare() is not accessible (e.g. private).
-       */
+      Lifecycle.get(instance.getClass()).prepare(instance);
+    } catch (Throwable ex) {
+      logger.log(Level.FINE, "{0} prepare() failed:  {1}", new Object[]{instance.getClass().getSimpleName(), ex});
     }
   }
 
@@ -842,10 +1176,45 @@ public class SSRFUtility {
    *         returned to support method chaining.
    */
   public static SSRF postLoad(SSRF ssrf) {
-    postLoad(ssrf, ssrf);
+    /**
+     * Index the data sets by SERIAL number so that each data set reference is
+     * resolved in constant time. The index is discarded afterwards as it is
+     * not maintained when data sets are added or removed.
+     */
+    ssrf.buildDatasetIndex();
+    try {
+      Set<Object> visited = newVisitedSet();
+      visited.add(ssrf);
+      postLoad(ssrf, ssrf, visited);
+    } finally {
+      ssrf.clearDatasetIndex();
+    }
     return ssrf;
   }
 
+  /**
+   * Process a single SSRF data set instance after reading from XML.
+   * <p>
+   * This method is used when data sets are read individually (e.g. when
+   * streaming) rather than as part of a complete SSRF document. References to
+   * other data sets are resolved against the provided SSRF root instance only;
+   * references to data sets not contained in the root instance are left
+   * unresolved.
+   *
+   * @param <T>     the SSRF data set class type
+   * @param dataset a SSRF data set instance (e.g. Assignment)
+   * @param ssrf    the SSRF root instance against which references are resolved
+   * @return The input data set instance after post-load. The live object is
+   *         returned to support method chaining.
+   */
+  public static <T extends Common<?>> T postLoad(T dataset, SSRF ssrf) {
+    Set<Object> visited = newVisitedSet();
+    visited.add(dataset);
+    invokePostLoad(dataset, ssrf);
+    postLoad(dataset, ssrf, visited);
+    return dataset;
+  }
+
   /**
    * Process a SSRF instance object after reading from XML.
    * <p>
@@ -853,11 +1222,15 @@ public class SSRFUtility {
    * into their proper location and preparing the SSRF software class hierarchy
    * for working.
    *
+   * Each object instance is post-loaded and inspected once, even if it is
+   * shared by several parents or referenced in a cycle.
+   *
    * @param sourceInstance any of SSRF data type object instance
    * @param rootInstance   a {@link SSRF} instance
+   * @param visited        the object instances already post-loaded
    */
   @SuppressWarnings("AssignmentToMethodParameter")
-  private static void postLoad(Object sourceInstance, SSRF rootInstance) {
+  private static void postLoad(Object sourceInstance, SSRF rootInstance, Set<Object> visited) {
     /**
      * Return immediately if the source instance is null. Instantiate a new
      * destination instance if none is provided.
@@ -866,15 +1239,13 @@ public class SSRFUtility {
       return;
     }
     /**
-     * Assign the class type under study to a local variable for convenience.
-     */
-    Class<?> clazz = sourceInstance.getClass();
-    /**
+     * Get the (cached) inspection plan for the class type under study.
      * Important: NO NOT inspect classes that are not within the SSRF package.
      * Also and equally important: DO NOT inspect or try to validate enumerated
      * classes.
      */
-    if (clazz.isEnum() || !clazz.getName().startsWith(SSRF_PACKAGE)) {
+    ClassPlan plan = ClassPlan.get(sourceInstance.getClass());
+    if (!plan.isInspected()) {
       return;
     }
     /**
@@ -882,12 +1253,7 @@ public class SSRFUtility {
      * private) and inspect each according to its annotated configuration and
      * state.
      */
-    for (Field field : findDeclaredAndInheritedFields(clazz)) {
-      /**
-       * Important: Enable access to the Object instance fields (public,
-       * protected and private).
-       */
-      field.setAccessible(true);
+    for (ClassPlan.FieldPlan field : plan.getFields()) {
       /**
        * Get the instance field value. Skip (do not check and fail gracefully)
        * if the field value is null (e.g. not configured) or (somehow) not
@@ -918,7 +1284,7 @@ public class SSRFUtility {
          */
         Set<Object> loadableObjects = new HashSet<>();
         for (Object entryCandidate : (Iterable<? extends Object>) fieldValue) {
-          if (implementsPostLoad(entryCandidate)) {
+          if (implementsPostLoad(entryCandidate) && visit(entryCandidate, visited)) {
             loadableObjects.add(entryCandidate);
           }
         }
@@ -935,18 +1301,18 @@ public class SSRFUtility {
           /**
            * Recurse into the class instance.
            */
-          postLoad(loadable, rootInstance);
+          postLoad(loadable, rootInstance, visited);
           /**
            * After recursion try adding the value to the destination (root SSRF)
            * instance.
            */
         }
-      } else if (implementsPostLoad(fieldValue)) {
+      } else if (implementsPostLoad(fieldValue) && visit(fieldValue, visited)) {
         /**
          * Same process as above.
          */
         invokePostLoad(fieldValue, rootInstance);
-        postLoad(fieldValue, rootInstance);
+        postLoad(fieldValue, rootInstance, visited);
       }
     }
     /**
@@ -963,26 +1329,7 @@ public class SSRFUtility {
    *         postLoad() method.
    */
   private static boolean implementsPostLoad(Object instance) {
-    if (instance == null) {
-      return false;
-    }
-    String className = instance.getClass().getName();
-    /**
-     * Only inspect SSRF classes, but ignore ADAPTER and LIST helpers.
-     */
-    if (className.startsWith(SSRF_PACKAGE)
-        && !className.contains(".adapter.")
-        && !className.contains(".metadata.lists")) {
-      try {
-        return instance.getClass().getMethod("postLoad", SSRF.class) != null;
-      } catch (NoSuchMethodException | SecurityException ex) {
-        try {
-          return instance.getClass().getMethod("postLoad") != null;
-        } catch (NoSuchMethodException | SecurityException ex1) {
-        }
-      }
-    }
-    return false;
+    return instance != null && Lifecycle.get(instance.getClass()).isLoadable();
   }
 
   /**
@@ -996,18 +1343,14 @@ public class SSRFUtility {
       return;
     }
     /**
-     * Try to invoke the postLoad(SSRF) or postLoad() methods. Fail gracefully
-     * if the instance class does not implement the prepare() method.
+     * Invoke the (cached) postLoad(SSRF) or postLoad() method. Fail gracefully
+     * if the instance class does not implement a postLoad method or if it
+     * fails.
      */
     try {
-      instance.getClass().getMethod("postLoad", SSRF.class).invoke(instance, rootInstance);
-    } catch (NoSuchMethodException | SecurityException ex) {
-      try {
-        instance.getClass().getMethod("postLoad").invoke(instance);
-      } catch (NoSuchMethodException | SecurityException ex1) {
-      } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex1) {
-      }
-    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+      Lifecycle.get(instance.getClass()).postLoad(instance, rootInstance);
+    } catch (Throwable ex) {
+      logger.log(Level.FINE, "{0} postLoad() failed:  {1}", new Object[]{instance.getClass().getSimpleName(), ex});
     }
   }
 
@@ -1022,7 +1365,7 @@ public class SSRFUtility {
    *                   object as this method calls itself recursively.
    */
   public static void setProperties(SSRFProperties properties, Object instance) {
-    setProperties(properties, instance, "");
+    setProperties(properties, instance, "", newVisitedSet());
   }
 
   /**
@@ -1036,10 +1379,13 @@ public class SSRFUtility {
    *                   object as this method calls itself recursively.
    * @param classPath  the current dot-delimited classPath going into this
    *                   object instance
+   * @param visited    the object instances already configured. Each object
+   *                   instance is configured once, with the classPath by which
+   *                   it is first reached.
    */
   @SuppressWarnings("unchecked")
-  private static void setProperties(SSRFProperties properties, Object instance, String classPath) {
-    if (instance == null) {
+  private static void setProperties(SSRFProperties properties, Object instance, String classPath, Set<Object> visited) {
+    if (instance == null || !visit(instance, visited)) {
       return;
     }
     /**
@@ -1064,6 +1410,12 @@ public class SSRFUtility {
      * state.
      */
     for (Field field : findDeclaredAndInheritedFields(clazz)) {
+      /**
+       * Skip transient fields (e.g. the change tracking owner reference).
+       */
+      if (Modifier.isTransient(field.getModifiers())) {
+        continue;
+      }
       /**
        * Important: Enable access to the Object instance fields (public,
        * protected and private).
@@ -1143,10 +1495,10 @@ public class SSRFUtility {
        */
       if (fieldValue instanceof Collection) {
         for (Object entry : (Iterable<? extends Object>) fieldValue) {
-          setProperties(properties, entry, classPathInternal);
+          setProperties(properties, entry, classPathInternal, visited);
         }
       } else {
-        setProperties(properties, fieldValue, classPathInternal);
+        setProperties(properties, fieldValue, classPathInternal, visited);
       }
     }
   }
@@ -1280,7 +1632,8 @@ public class SSRFUtility {
    * Marshal an entity class into a XML String representation.
    * <p>
    * The output of this method is typically either written to a file or sent via
-   * a SOAP communication link.
+   * a SOAP communication link. Output is formatted using the
+   * {@link EMarshalProfile#PRETTY} profile.
    *
    * @param <T>   the entity class type
    * @param clazz the entity class to be written
@@ -1288,13 +1641,24 @@ public class SSRFUtility {
    * @throws JAXBException if the entity class cannot be marshaled (serialized)
    */
   public static <T> String marshal(T clazz) throws JAXBException {
-    JAXBContext jaxbContext = org.eclipse.persistence.jaxb.JAXBContextFactory.createContext(new Class<?>[]{clazz.getClass()}, null, null);
-//    JAXBContext jaxbContext = org.eclipse.persistence.jaxb.JAXBContext.newInstance(clazz.getClass());
-    Marshaller marshaller = jaxbContext.createMarshaller();
-    /**
-     * Add newlines to the output. This helps visually inspect the output.
-     */
-    marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+    return marshal(clazz, EMarshalProfile.PRETTY);
+  }
+
+  /**
+   * Marshal an entity class into a XML String representation using the
+   * indicated output profile.
+   * <p>
+   * The JAXB context is shared and the marshaller is pooled per thread by
+   * {@link SSRFBinding}, so repeated calls do not rebuild the binding runtime.
+   *
+   * @param <T>     the entity class type
+   * @param clazz   the entity class to be written
+   * @param profile the output profile
+   * @return the entity class serialized into XML form
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   */
+  public static <T> String marshal(T clazz, EMarshalProfile profile) throws JAXBException {
+    Marshaller marshaller = SSRFBinding.getMarshaller(clazz.getClass(), profile);
     StringWriter stringWriter = new StringWriter();
     marshaller.marshal(clazz, stringWriter);
     return stringWriter.toString();
@@ -1314,8 +1678,212 @@ public class SSRFUtility {
    *                       type
    */
   public static <T> T unmarshal(String xml, Class<T> clazz) throws JAXBException {
-    Unmarshaller unmarshaller = JAXBContext.newInstance(clazz).createUnmarshaller();
-    return clazz.cast(unmarshaller.unmarshal(new ByteArrayInputStream(xml.getBytes())));
+    Unmarshaller unmarshaller = SSRFBinding.getUnmarshaller(clazz);
+    return clazz.cast(unmarshaller.unmarshal(new StringReader(xml)));
+  }
+
+  /**
+   * Marshal an entity class as XML to an output stream using the indicated
+   * output profile. The output is encoded as UTF-8. The output stream is NOT
+   * closed.
+   *
+   * @param <T>          the entity class type
+   * @param clazz        the entity class to be written
+   * @param outputStream the output stream
+   * @param profile      the output profile
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   */
+  public static <T> void marshal(T clazz, OutputStream outputStream, EMarshalProfile profile) throws JAXBException {
+    SSRFBinding.getMarshaller(clazz.getClass(), profile).marshal(clazz, outputStream);
+  }
+
+  /**
+   * Marshal an entity class as XML to a character stream using the indicated
+   * output profile. The XML declaration indicates UTF-8; the caller is
+   * responsible for the character stream encoding. The writer is NOT closed.
+   *
+   * @param <T>     the entity class type
+   * @param clazz   the entity class to be written
+   * @param writer  the character stream
+   * @param profile the output profile
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   */
+  public static <T> void marshal(T clazz, Writer writer, EMarshalProfile profile) throws JAXBException {
+    SSRFBinding.getMarshaller(clazz.getClass(), profile).marshal(clazz, writer);
+  }
+
+  /**
+   * Marshal an entity class as XML to a file using the indicated output
+   * profile. The output is encoded as UTF-8. The file is created or truncated.
+   *
+   * @param <T>     the entity class type
+   * @param clazz   the entity class to be written
+   * @param path    the output file path
+   * @param profile the output profile
+   * @throws JAXBException if the entity class cannot be marshaled (serialized)
+   * @throws IOException   if the file cannot be written
+   */
+  public static <T> void marshal(T clazz, Path path, EMarshalProfile profile) throws JAXBException, IOException {
+    try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path))) {
+      marshal(clazz, outputStream, profile);
+    }
+  }
+
+  /**
+   * Parse an XML input stream into a container class. The input is read as
+   * UTF-8. The input stream is NOT closed.
+   *
+   * @param <T>         the class type to be returned
+   * @param inputStream the XML source content
+   * @param clazz       the parsed and populated class type
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source does not match the input class
+   *                       type
+   */
+  public static <T> T unmarshal(InputStream inputStream, Class<T> clazz) throws JAXBException {
+    InputSource inputSource = new InputSource(inputStream);
+    inputSource.setEncoding("UTF-8");
+    return clazz.cast(SSRFBinding.getUnmarshaller(clazz).unmarshal(inputSource));
+  }
+
+  /**
+   * Parse an XML character stream into a container class. The reader is NOT
+   * closed.
+   *
+   * @param <T>    the class type to be returned
+   * @param reader the XML source content
+   * @param clazz  the parsed and populated class type
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source does not match the input class
+   *                       type
+   */
+  public static <T> T unmarshal(Reader reader, Class<T> clazz) throws JAXBException {
+    return clazz.cast(SSRFBinding.getUnmarshaller(clazz).unmarshal(reader));
+  }
+
+  /**
+   * Parse the remaining content of a byte buffer into a container class. The
+   * content is read as UTF-8. The buffer position is not changed.
+   *
+   * @param <T>    the class type to be returned
+   * @param buffer the XML source content
+   * @param clazz  the parsed and populated class type
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source does not match the input class
+   *                       type
+   */
+  public static <T> T unmarshal(ByteBuffer buffer, Class<T> clazz) throws JAXBException {
+    return unmarshal(new ByteBufferInputStream(buffer), clazz);
+  }
+
+  /**
+   * Parse an XML file into a container class. The file is read as UTF-8.
+   * <p>
+   * The file is memory-mapped when possible so that its content is not copied
+   * onto the heap. Files too large to map are read through a buffered stream.
+   *
+   * @param <T>   the class type to be returned
+   * @param path  the XML source file path
+   * @param clazz the parsed and populated class type
+   * @return the XML source parsed into the identified class type
+   * @throws JAXBException if the XML source does not match the input class
+   *                       type
+   * @throws IOException   if the file cannot be read
+   */
+  public static <T> T unmarshal(Path path, Class<T> clazz) throws JAXBException, IOException {
+    ByteBuffer mapped = null;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() <= Integer.MAX_VALUE) {
+        /**
+         * The mapping remains valid after the channel is closed.
+         */
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+    } catch (UnsupportedOperationException ex) {
+      /**
+       * Mapping is not supported by the file system provider. Fall through to
+       * read the file as a stream.
+       */
+    }
+    if (mapped != null) {
+      return unmarshal(mapped, clazz);
+    }
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+      return unmarshal(inputStream, clazz);
+    }
+  }
+
+  /**
+   * Parse the remaining content of a byte buffer into a SSRF message using
+   * several threads. The content is read as UTF-8. The buffer position is not
+   * changed.
+   * <p>
+   * The buffer is first pre-scanned (see {@link SSRFScanner}) to find the byte
+   * range of each top-level data set. The data set ranges are then
+   * unmarshalled concurrently on the fork/join pool and the partial results
+   * are merged into a single SSRF message.
+   * <p>
+   * The returned SSRF message is NOT post-loaded. Call
+   * {@link #postLoad(SSRF)} after all data sets are merged.
+   *
+   * @param buffer the XML source content
+   * @param pool   the fork/join pool on which to unmarshal data sets
+   * @return the XML source parsed into a SSRF message
+   * @throws JAXBException if the XML source does not match the SSRF class type
+   */
+  public static SSRF unmarshalParallel(ByteBuffer buffer, ForkJoinPool pool) throws JAXBException {
+    SSRFScanner scanner = SSRFScanner.scan(buffer);
+    if (scanner.size() == 0) {
+      return new SSRF();
+    }
+    long bytes = scanner.getOffset(scanner.size() - 1) + scanner.getLength(scanner.size() - 1) - scanner.getOffset(0);
+    long threshold = Math.max(MIN_PARALLEL_BATCH_BYTES, bytes / (pool.getParallelism() * 4L));
+    try {
+      return pool.invoke(new ParallelUnmarshalTask(buffer, scanner, 0, scanner.size(), threshold));
+    } catch (RuntimeException ex) {
+      /**
+       * Unwrap and rethrow unmarshal errors raised within the pool.
+       */
+      for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+        if (cause instanceof JAXBException) {
+          throw (JAXBException) cause;
+        }
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * Parse an XML file into a SSRF message using several threads. The file is
+   * read as UTF-8.
+   * <p>
+   * The file is memory-mapped and read as described in
+   * {@link #unmarshalParallel(ByteBuffer, ForkJoinPool)}. Files too large to
+   * map are read by a single thread.
+   * <p>
+   * The returned SSRF message is NOT post-loaded. Call
+   * {@link #postLoad(SSRF)} after all data sets are merged.
+   *
+   * @param path the XML source file path
+   * @param pool the fork/join pool on which to unmarshal data sets
+   * @return the XML source parsed into a SSRF message
+   * @throws JAXBException if the XML source does not match the SSRF class type
+   * @throws IOException   if the file cannot be read
+   */
+  public static SSRF unmarshalParallel(Path path, ForkJoinPool pool) throws JAXBException, IOException {
+    ByteBuffer mapped = null;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() <= Integer.MAX_VALUE) {
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+    } catch (UnsupportedOperationException ex) {
+      /**
+       * Mapping is not supported by the file system provider.
+       */
+    }
+    return mapped != null
+           ? unmarshalParallel(mapped, pool)
+           : unmarshal(path, SSRF.class);
   }
 
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCY;
+
+/**
+ * SSRF SERIAL number generator registry.
+ * <p>
+ * Every new data set is assigned a SERIAL number when it is constructed. The
+ * Serial Identifier part is obtained from the current generator: the
+ * generator of the SSRF message creating the data set (see
+ * {@link SSRF#newDataset(Class)}), or else the global default generator. The
+ * default generator is a {@link SequenceSerialGenerator}.
+ * <p>
+ * Example use:
+ * <pre>
+ * SerialGenerator.setDefault(new UUIDSerialGenerator()); // global
+ * ssrf.withSerialGenerator(new SequenceSerialGenerator("BULK"));
+ * Assignment assignment = ssrf.newDataset(Assignment.class); // "USA::AS:BULK00000000000"
+ * </pre>
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public final class SerialGenerator {
+
+  /**
+   * The global default generator.
+   */
+  private static volatile ISerialGenerator defaultGenerator = new SequenceSerialGenerator();
+  /**
+   * The generator in effect for the current thread, if any. Set while a SSRF
+   * message creates a data set.
+   */
+  private static final ThreadLocal<ISerialGenerator> SCOPED = new ThreadLocal<>();
+  /**
+   * The SERIAL country code of each locale, computed on first use.
+   */
+  private static final ConcurrentMap<Locale, ListCCY> COUNTRIES = new ConcurrentHashMap<>();
+
+  private SerialGenerator() {
+  }
+
+  /**
+   * Get the global default generator.
+   *
+   * @return the default generator
+   */
+  public static ISerialGenerator getDefault() {
+    return defaultGenerator;
+  }
+
+  /**
+   * Set the global default generator.
+   *
+   * @param generator the default generator. If null the default is reset to a
+   *                  new {@link SequenceSerialGenerator}.
+   */
+  public static void setDefault(ISerialGenerator generator) {
+    defaultGenerator = generator != null ? generator : new SequenceSerialGenerator();
+  }
+
+  /**
+   * Get the generator in effect for the current thread.
+   *
+   * @return the generator of the SSRF message creating a data set on this
+   *         thread, or else the global default generator
+   */
+  public static ISerialGenerator get() {
+    ISerialGenerator generator = SCOPED.get();
+    return generator != null ? generator : defaultGenerator;
+  }
+
+  /**
+   * Generate a new Serial Identifier with a generator. The identifier is
+   * checked against the SERIAL Serial Identifier constraint.
+   *
+   * @param generator   the generator
+   * @param datasetType the data set type. May be null.
+   * @return a one to fifteen character Serial Identifier
+   * @throws IllegalStateException if the generator returns an invalid
+   *                               identifier
+   */
+  public static String next(ISerialGenerator generator, EDatasetType datasetType) {
+    String serial = generator.next(datasetType);
+    if (serial == null || serial.isEmpty() || serial.length() > 15) {
+      throw new IllegalStateException(generator.getClass().getSimpleName() + " Serial Identifier length violation S15 [1, 15] for \"" + serial + "\"");
+    }
+    return serial;
+  }
+
+  /**
+   * Get the SERIAL country code of a locale. The code is the ISO 3166 alpha-3
+   * country code of the locale.
+   *
+   * @param locale the locale
+   * @return the country code
+   * @throws IllegalArgumentException if the locale country is not a SERIAL
+   *                                  country code
+   */
+  public static ListCCY getCountry(Locale locale) {
+    ListCCY country = COUNTRIES.get(locale);
+    if (country == null) {
+      country = ListCCY.valueOf(locale.getISO3Country());
+      COUNTRIES.put(locale, country);
+    }
+    return country;
+  }
+
+  /**
+   * Set the generator in effect for the current thread.
+   *
+   * @param generator the generator. May be null.
+   * @return the generator previously in effect for the current thread, to be
+   *         restored with {@link #exit(ISerialGenerator)}
+   */
+  static ISerialGenerator enter(ISerialGenerator generator) {
+    ISerialGenerator previous = SCOPED.get();
+    SCOPED.set(generator);
+    return previous;
+  }
+
+  /**
+   * Restore the generator previously in effect for the current thread.
+   *
+   * @param previous the generator returned by
+   *                 {@link #enter(ISerialGenerator)}
+   */
+  static void exit(ISerialGenerator previous) {
+    if (previous != null) {
+      SCOPED.set(previous);
+    } else {
+      SCOPED.remove();
+    }
+  }
+}
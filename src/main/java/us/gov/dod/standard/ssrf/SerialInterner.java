@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Optional interning table for SSRF SERIAL number values.
+ * <p>
+ * A SSRF message typically references each data set SERIAL many times (e.g.
+ * the Role SERIAL in every EntryBy and Owner element). When interning is
+ * enabled the SERIAL values read from XML and the Serial Identifiers parsed
+ * from them are shared: equal values become the same String instance. This
+ * reduces the memory footprint of large messages and lets SERIAL comparisons
+ * succeed on identity.
+ * <p>
+ * Interning is disabled by default. The table holds its entries weakly: a
+ * value is released once no Serial refers to it.
+ * <p>
+ * Developer note: the String values are interned, not the Serial instances.
+ * Serial instances are mutable and carry their own metadata attributes and
+ * therefore cannot be shared between data items.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public final class SerialInterner {
+
+  /**
+   * Indicator that interning is enabled.
+   */
+  private static volatile boolean enabled;
+  /**
+   * The interned values. Guarded by synchronizing on the table.
+   */
+  private static final Map<String, WeakReference<String>> TABLE = new WeakHashMap<>();
+
+  private SerialInterner() {
+  }
+
+  /**
+   * Determine if SERIAL values are interned.
+   *
+   * @return TRUE if interning is enabled
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable or disable SERIAL value interning. Disabling interning clears the
+   * table.
+   *
+   * @param enabled TRUE to intern SERIAL values
+   */
+  public static void setEnabled(boolean enabled) {
+    SerialInterner.enabled = enabled;
+    if (!enabled) {
+      clear();
+    }
+  }
+
+  /**
+   * Get the shared instance of a SERIAL value. If interning is disabled the
+   * value is returned unchanged.
+   *
+   * @param value a SERIAL value or component. May be null.
+   * @return the shared instance equal to the value
+   */
+  public static String intern(String value) {
+    if (!enabled || value == null) {
+      return value;
+    }
+    synchronized (TABLE) {
+      WeakReference<String> reference = TABLE.get(value);
+      String shared = reference != null ? reference.get() : null;
+      if (shared == null) {
+        TABLE.put(value, new WeakReference<>(value));
+        shared = value;
+      }
+      return shared;
+    }
+  }
+
+  /**
+   * Get the number of values in the table.
+   *
+   * @return the number of interned values
+   */
+  public static int size() {
+    synchronized (TABLE) {
+      return TABLE.size();
+    }
+  }
+
+  /**
+   * Remove all values from the table.
+   */
+  public static void clear() {
+    synchronized (TABLE) {
+      TABLE.clear();
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.UUID;
+
+/**
+ * Random (UUID-based) SSRF SERIAL number generator.
+ * <p>
+ * Each Serial Identifier is a 14-character snippet of a random UUID. This was
+ * the only generator prior to the {@link ISerialGenerator} interface. Use it
+ * where identifiers must not reveal the order in which data sets were
+ * created.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class UUIDSerialGenerator implements ISerialGenerator {
+
+  /**
+   * Generate a new 14-character UUID-based Serial Identifier.
+   *
+   * @param datasetType the data set type (ignored)
+   * @return a 14-character UUID-based alphanumeric String
+   */
+  @Override
+  public String next(EDatasetType datasetType) {
+    return UUID.randomUUID().toString().replace("-", "").substring(0, 14);
+  }
+}
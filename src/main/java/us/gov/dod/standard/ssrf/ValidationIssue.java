@@ -0,0 +1,250 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import us.gov.dod.standard.ssrf._3_1.adapter.EXmlViolation;
+import us.gov.dod.standard.ssrf._3_1.adapter.IXmlAdapterCheck;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
+
+/**
+ * A single SSRF validation issue.
+ * <p>
+ * An issue identifies the data set (by SERIAL number) and the field where the
+ * issue was found plus the validation rule that was broken. The human readable
+ * message is only built when requested; it is identical to the message
+ * reported by {@link SSRFUtility#evaluate(Object)}.
+ * <p>
+ * Developer note: The message is built from the object instances where the
+ * issue was found. If those instances are changed before the message is
+ * requested then the message will reflect the changed configuration.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class ValidationIssue {
+
+  /**
+   * The validation rule that was broken.
+   */
+  private final EValidationRule rule;
+  /**
+   * The SERIAL number of the data set containing the issue. Null if the issue
+   * is not within a data set or the data set has no SERIAL number.
+   */
+  private final Serial serial;
+  /**
+   * The parent object instance. Null if the issue is in the top-level object
+   * instance.
+   */
+  private final Object parentInstance;
+  /**
+   * The parent field where the object instance lives.
+   */
+  private final Field parentField;
+  /**
+   * The object instance containing the field.
+   */
+  private final Object instance;
+  /**
+   * The field where the issue was found.
+   */
+  private final Field field;
+  /**
+   * The field value. For a CLASSIFICATION issue this is the field
+   * classification.
+   */
+  private final Object value;
+  /**
+   * The parent classification. CLASSIFICATION issues only.
+   */
+  private final ListCCL cls;
+  /**
+   * The XmlAdapter that rejected the value. Adapter violations only.
+   */
+  private final IXmlAdapterCheck<Object> check;
+  /**
+   * The XmlAdapter violation. Adapter violations only.
+   */
+  private final EXmlViolation violation;
+  /**
+   * The XmlAdapter or parser error message. FORMAT and PARSE issues only.
+   */
+  private final String detail;
+  /**
+   * The data set element name and document location. PARSE issues only.
+   */
+  private final String element;
+  /**
+   * The human readable message, built on first use.
+   */
+  private String message;
+
+  private ValidationIssue(EValidationRule rule, Serial serial, Object parentInstance, Field parentField, Object instance, Field field, Object value, ListCCL cls, IXmlAdapterCheck<Object> check, EXmlViolation violation, String detail, String element) {
+    this.rule = rule;
+    this.serial = serial;
+    this.parentInstance = parentInstance;
+    this.parentField = parentField;
+    this.instance = instance;
+    this.field = field;
+    this.value = value;
+    this.cls = cls;
+    this.check = check;
+    this.violation = violation;
+    this.detail = detail;
+    this.element = element;
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Factory methods">
+  /**
+   * Build a REQUIRED issue.
+   */
+  static ValidationIssue required(Serial serial, Object parentInstance, Field parentField, Object instance, Field field) {
+    return new ValidationIssue(EValidationRule.REQUIRED, serial, parentInstance, parentField, instance, field, null, null, null, null, null, null);
+  }
+
+  /**
+   * Build a CLASSIFICATION issue.
+   */
+  static ValidationIssue classification(Serial serial, Object parentInstance, Field parentField, Object instance, Field field, Object fieldCls, ListCCL cls) {
+    return new ValidationIssue(EValidationRule.CLASSIFICATION, serial, parentInstance, parentField, instance, field, fieldCls, cls, null, null, null, null);
+  }
+
+  /**
+   * Build an issue for a value rejected by an XmlAdapter check.
+   */
+  static ValidationIssue violation(Serial serial, Object parentInstance, Field parentField, Object instance, Field field, Object value, IXmlAdapterCheck<Object> check, EXmlViolation violation) {
+    return new ValidationIssue(EValidationRule.fromViolation(violation), serial, parentInstance, parentField, instance, field, value, null, check, violation, null, null);
+  }
+
+  /**
+   * Build a FORMAT issue for a value rejected by an XmlAdapter.
+   */
+  static ValidationIssue format(Serial serial, Object parentInstance, Field parentField, Object instance, Field field, Object value, String detail) {
+    return new ValidationIssue(EValidationRule.FORMAT, serial, parentInstance, parentField, instance, field, value, null, null, null, detail, null);
+  }
+
+  /**
+   * Build a PARSE issue for a data set element that could not be read.
+   */
+  static ValidationIssue parse(Serial serial, String element, String detail) {
+    return new ValidationIssue(EValidationRule.PARSE, serial, null, null, null, null, null, null, null, null, detail, element);
+  }//</editor-fold>
+
+  /**
+   * Get the validation rule that was broken.
+   *
+   * @return the validation rule
+   */
+  public EValidationRule getRule() {
+    return rule;
+  }
+
+  /**
+   * Get the SERIAL number of the data set containing the issue.
+   *
+   * @return the data set SERIAL number. Null if the issue is not within a data
+   *         set or the data set has no SERIAL number.
+   */
+  public Serial getSerial() {
+    return serial;
+  }
+
+  /**
+   * Get the path to the field where the issue was found. The path is composed
+   * of the parent class name, the parent field name and the field name; e.g.
+   * "Location.point.lat". For a PARSE issue the path is the data set element
+   * name and its location in the XML document.
+   *
+   * @return the field path
+   */
+  public String getPath() {
+    return field != null ? getPrefix() + "." + field.getName() : element;
+  }
+
+  /**
+   * Get the field where the issue was found.
+   *
+   * @return the field. Null for a PARSE issue.
+   */
+  public Field getField() {
+    return field;
+  }
+
+  /**
+   * Get the field value. For a CLASSIFICATION issue this is the field
+   * classification.
+   *
+   * @return the field value. Null for a REQUIRED issue.
+   */
+  public Object getValue() {
+    return value;
+  }
+
+  /**
+   * Get the human readable issue message.
+   *
+   * @return the issue message
+   */
+  public String getMessage() {
+    if (message == null) {
+      message = buildMessage();
+    }
+    return message;
+  }
+
+  /**
+   * Internal method to build the human readable issue message.
+   */
+  private String buildMessage() {
+    switch (rule) {
+      case REQUIRED:
+        return getPrefix() + (parentInstance != null ? SSRFUtility.getErrorLabel(parentField, parentInstance) : "") + " (" + getBoundType().getSimpleName() + ") " + field.getName() + " is required";
+      case PARSE:
+        return element + " :  " + detail;
+      case CLASSIFICATION:
+        return getPath() + " classification \"" + value + "\" is less restrictive than parent classification \"" + cls + "\"";
+      default:
+        return getPath() + " (" + instance.getClass().getSimpleName() + ") :  " + (check != null ? check.getViolationMessage(violation, value) : detail);
+    }
+  }
+
+  /**
+   * Internal method to get the XML type of the field: the type of the getter
+   * through which the field is bound, if any, otherwise the field type.
+   */
+  private Class<?> getBoundType() {
+    Method getter = SSRFUtility.findBoundGetter(field);
+    return getter != null ? getter.getReturnType() : field.getType();
+  }
+
+  /**
+   * Internal method to build the parent portion of the path.
+   */
+  private String getPrefix() {
+    return parentInstance != null
+           ? parentInstance.getClass().getSimpleName() + "." + parentField.getName()
+           : instance.getClass().getSimpleName();
+  }
+
+  @Override
+  public String toString() {
+    return rule + " " + getMessage();
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.*;
+
+/**
+ * A bounded SSRF validation report.
+ * <p>
+ * The report counts every issue by validation rule but retains at most a
+ * configured number of issues, so that validating a badly broken message does
+ * not exhaust memory. Issues may also be streamed to another sink as they are
+ * found.
+ * <p>
+ * Example use:
+ * <pre>
+ * ValidationReport report = new ValidationReport().withMaxIssues(1000);
+ * SSRFUtility.evaluate(ssrf, report);
+ * if (!report.isValid()) {
+ *   report.getIssueCounts(); // summary by rule
+ * }
+ * </pre>
+ * <p>
+ * Developer note: This class is not thread safe.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class ValidationReport implements IValidationSink {
+
+  /**
+   * 1,000. The default maximum number of issues retained.
+   */
+  public static final int DEFAULT_MAX_ISSUES = 1000;
+
+  /**
+   * The maximum number of issues retained.
+   */
+  private int maxIssues = DEFAULT_MAX_ISSUES;
+  /**
+   * Indicator that the validation should stop at the first issue. If FALSE
+   * then all issues are collected (and counted).
+   */
+  private boolean failFast;
+  /**
+   * An optional sink to receive every issue as it is found.
+   */
+  private IValidationSink sink;
+  /**
+   * The retained issues, in the order found.
+   */
+  private final List<ValidationIssue> issues = new ArrayList<>();
+  /**
+   * The number of issues found for each rule, indexed by rule ordinal.
+   */
+  private final int[] counts = new int[EValidationRule.values().length];
+  /**
+   * Indicator that the validation was stopped before it completed.
+   */
+  private boolean stopped;
+
+  /**
+   * Set the maximum number of issues retained. Further issues are counted but
+   * not retained. The default is {@link #DEFAULT_MAX_ISSUES}.
+   *
+   * @param maxIssues the maximum number of issues retained
+   * @return this report instance
+   */
+  public ValidationReport withMaxIssues(int maxIssues) {
+    this.maxIssues = maxIssues;
+    return this;
+  }
+
+  /**
+   * Set the validation to stop at the first issue (fail fast) or to collect all
+   * issues. The default is to collect all issues.
+   *
+   * @param failFast TRUE to stop at the first issue
+   * @return this report instance
+   */
+  public ValidationReport withFailFast(boolean failFast) {
+    this.failFast = failFast;
+    return this;
+  }
+
+  /**
+   * Set a sink to receive every issue as it is found. The validation stops if
+   * the sink returns FALSE.
+   *
+   * @param sink the downstream sink
+   * @return this report instance
+   */
+  public ValidationReport withSink(IValidationSink sink) {
+    this.sink = sink;
+    return this;
+  }
+
+  /**
+   * Receive a validation issue.
+   *
+   * @param issue the validation issue
+   * @return TRUE to continue the validation, FALSE to stop it
+   */
+  @Override
+  public boolean accept(ValidationIssue issue) {
+    counts[issue.getRule().ordinal()]++;
+    if (issues.size() < maxIssues) {
+      issues.add(issue);
+    }
+    if ((sink != null && !sink.accept(issue)) || failFast) {
+      stopped = true;
+    }
+    return !stopped;
+  }
+
+  /**
+   * Determine if no issues were found.
+   *
+   * @return TRUE if no issues were found
+   */
+  public boolean isValid() {
+    return getIssueCount() == 0;
+  }
+
+  /**
+   * Determine if the validation was stopped (by fail fast or by the sink)
+   * before it completed.
+   *
+   * @return TRUE if the validation did not complete
+   */
+  public boolean isStopped() {
+    return stopped;
+  }
+
+  /**
+   * Determine if issues were found but not retained.
+   *
+   * @return TRUE if more issues were found than retained
+   */
+  public boolean isTruncated() {
+    return getIssueCount() > issues.size();
+  }
+
+  /**
+   * Get the retained issues, in the order found.
+   *
+   * @return a non-null, unmodifiable list of issues
+   */
+  public List<ValidationIssue> getIssues() {
+    return Collections.unmodifiableList(issues);
+  }
+
+  /**
+   * Get the total number of issues found, including those not retained.
+   *
+   * @return the total number of issues
+   */
+  public int getIssueCount() {
+    int count = 0;
+    for (int ruleCount : counts) {
+      count += ruleCount;
+    }
+    return count;
+  }
+
+  /**
+   * Get the number of issues found for a validation rule, including those not
+   * retained.
+   *
+   * @param rule the validation rule
+   * @return the number of issues for the rule
+   */
+  public int getIssueCount(EValidationRule rule) {
+    return counts[rule.ordinal()];
+  }
+
+  /**
+   * Get the number of issues found for each validation rule, including those
+   * not retained. Rules without issues are not listed.
+   *
+   * @return a non-null map of validation rule to issue count
+   */
+  public Map<EValidationRule, Integer> getIssueCounts() {
+    Map<EValidationRule, Integer> map = new EnumMap<>(EValidationRule.class);
+    for (EValidationRule rule : EValidationRule.values()) {
+      if (counts[rule.ordinal()] > 0) {
+        map.put(rule, counts[rule.ordinal()]);
+      }
+    }
+    return map;
+  }
+
+  /**
+   * Get the messages of the retained issues. Messages are sorted and
+   * duplicates are removed, as returned by {@link SSRFUtility#evaluate(Object)}.
+   *
+   * @return a non-null set of messages
+   */
+  public Set<String> getMessages() {
+    Set<String> messages = new TreeSet<>();
+    for (ValidationIssue issue : issues) {
+      messages.add(issue.getMessage());
+    }
+    return messages;
+  }
+
+  @Override
+  public String toString() {
+    return "ValidationReport issues " + getIssueCount() + " " + getIssueCounts();
+  }
+}
@@ -137,6 +137,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public void setAction(TString value) {
+    markDirty();
     this.action = value;
   }
 
@@ -174,6 +175,7 @@ public class Administrative extends Common<Administrative> {
    */
   @Deprecated
   public void setMessageRef(Serial value) {
+    markDirty();
     this.messageRef = value;
   }
 
@@ -215,6 +217,7 @@ public class Administrative extends Common<Administrative> {
    * Clear the Dataset field. This sets the field to null.
    */
   public void unsetDataset() {
+    markDirty();
     this.dataset = null;
   }
 
@@ -247,6 +250,7 @@ public class Administrative extends Common<Administrative> {
    * Clear the CodeList field. This sets the field to null.
    */
   public void unsetCodeList() {
+    markDirty();
     this.codeList = null;
   }
 
@@ -289,6 +293,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public Administrative withDataset(Dataset... values) {
+    markDirty();
     if (values != null) {
       getDataset().addAll(Arrays.asList(values));
     }
@@ -306,6 +311,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public Administrative withDataset(Collection<Dataset> values) {
+    markDirty();
     if (values != null) {
       getDataset().addAll(values);
     }
@@ -323,6 +329,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public Administrative withCodeList(CodeList... values) {
+    markDirty();
     if (values != null) {
       getCodeList().addAll(Arrays.asList(values));
     }
@@ -340,6 +347,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public Administrative withCodeList(Collection<CodeList> values) {
+    markDirty();
     if (values != null) {
       getCodeList().addAll(values);
     }
@@ -418,6 +426,7 @@ public class Administrative extends Common<Administrative> {
    * @since 3.1.0
    */
   public Administrative withMessage(Message value) {
+    markDirty();
     this.message = value;
     return this;
   }
@@ -451,15 +460,8 @@ public class Administrative extends Common<Administrative> {
    */
   @Override
   public void postLoad(SSRF root) {
-    if (messageRef == null || !messageRef.isSetValue()) {
-      return;
-    }
-    for (Message instance : root.getMessage()) {
-      if (messageRef.equals(instance.getSerial())) {
-        message = instance;
-        return;
-      }
-    }
+    super.postLoad(root);
+    message = root.findBySerial(messageRef, Message.class);
   }//</editor-fold>
 
 }
@@ -247,6 +247,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setTitle(S100 value) {
+    markDirty();
     this.title = value;
   }
 
@@ -280,6 +281,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setUsageType(TString value) {
+    markDirty();
     this.usageType = value;
   }
 
@@ -315,6 +317,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setDateResponseRequired(D value) {
+    markDirty();
     this.dateResponseRequired = value;
   }
 
@@ -344,6 +347,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setEffectiveDate(D value) {
+    markDirty();
     this.effectiveDate = value;
   }
 
@@ -375,6 +379,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setExpirationDate(D value) {
+    markDirty();
     this.expirationDate = value;
   }
 
@@ -414,6 +419,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setReviewDate(D value) {
+    markDirty();
     this.reviewDate = value;
   }
 
@@ -443,6 +449,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public void setRequirement(MEMO value) {
+    markDirty();
     this.requirement = value;
   }
 
@@ -484,6 +491,7 @@ public class Allotment extends Common<Allotment> {
    * Clear the Project field. This sets the field to null.
    */
   public void unsetProject() {
+    markDirty();
     this.project = null;
   }
 
@@ -516,6 +524,7 @@ public class Allotment extends Common<Allotment> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    markDirty();
     this.pocInformation = null;
   }
 
@@ -550,6 +559,7 @@ public class Allotment extends Common<Allotment> {
    * Clear the LocationRef field. This sets the field to null.
    */
   public void unsetLocationRef() {
+    markDirty();
     this.locationRef = null;
   }
 
@@ -582,6 +592,7 @@ public class Allotment extends Common<Allotment> {
    * Clear the Emission field. This sets the field to null.
    */
   public void unsetEmission() {
+    markDirty();
     this.emission = null;
   }
 
@@ -614,6 +625,7 @@ public class Allotment extends Common<Allotment> {
    * Clear the AllotFreq field. This sets the field to null.
    */
   public void unsetAllotFreq() {
+    markDirty();
     this.allotFreq = null;
   }
 
@@ -778,6 +790,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withProject(Project... values) {
+    markDirty();
     if (values != null) {
       getProject().addAll(Arrays.asList(values));
     }
@@ -795,6 +808,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withProject(Collection<Project> values) {
+    markDirty();
     if (values != null) {
       getProject().addAll(values);
     }
@@ -812,6 +826,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withPOCInformation(POCInformation... values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -829,6 +844,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withPOCInformation(Collection<POCInformation> values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -848,6 +864,7 @@ public class Allotment extends Common<Allotment> {
    */
   @Deprecated
   public Allotment withLocationRef(Serial... values) {
+    markDirty();
     if (values != null) {
       getLocationRef().addAll(Arrays.asList(values));
     }
@@ -867,6 +884,7 @@ public class Allotment extends Common<Allotment> {
    */
   @Deprecated
   public Allotment withLocationRef(Collection<Serial> values) {
+    markDirty();
     if (values != null) {
       getLocationRef().addAll(values);
     }
@@ -884,6 +902,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withEmission(Emission... values) {
+    markDirty();
     if (values != null) {
       getEmission().addAll(Arrays.asList(values));
     }
@@ -901,6 +920,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withEmission(Collection<Emission> values) {
+    markDirty();
     if (values != null) {
       getEmission().addAll(values);
     }
@@ -918,6 +938,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withAllotFreq(AllotFreq... values) {
+    markDirty();
     if (values != null) {
       getAllotFreq().addAll(Arrays.asList(values));
     }
@@ -935,6 +956,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withAllotFreq(Collection<AllotFreq> values) {
+    markDirty();
     if (values != null) {
       getAllotFreq().addAll(values);
     }
@@ -1039,6 +1061,7 @@ public class Allotment extends Common<Allotment> {
    * @since 3.1.0
    */
   public Allotment withLocation(Collection<Location> values) {
+    markDirty();
     getLocation().addAll(values);
     return this;
   }
@@ -1077,12 +1100,14 @@ public class Allotment extends Common<Allotment> {
    */
   @Override
   public void postLoad(SSRF root) {
+    super.postLoad(root);
     if (locationRef == null || locationRef.isEmpty()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (locationRef.contains(instance.getSerial())) {
-        getLocation().add(instance);
+    for (Serial ref : locationRef) {
+      Location location = root.findBySerial(ref, Location.class);
+      if (location != null) {
+        getLocation().add(location);
       }
     }
   }//</editor-fold>
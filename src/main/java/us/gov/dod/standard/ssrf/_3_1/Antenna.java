@@ -395,6 +395,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setGeneric(TString value) {
+    markDirty();
     this.generic = value;
   }
 
@@ -426,6 +427,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setAntType(TString value) {
+    markDirty();
     this.antType = value;
   }
 
@@ -457,6 +459,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setPhArrayNumMainBeams(UN3 value) {
+    markDirty();
     this.phArrayNumMainBeams = value;
   }
 
@@ -486,6 +489,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setPhArrayNumElements(UN5 value) {
+    markDirty();
     this.phArrayNumElements = value;
   }
 
@@ -515,6 +519,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setShape(TString value) {
+    markDirty();
     this.shape = value;
   }
 
@@ -548,6 +553,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setDiameter(Dimension value) {
+    markDirty();
     this.diameter = value;
   }
 
@@ -577,6 +583,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setHorzDimension(Dimension value) {
+    markDirty();
     this.horzDimension = value;
   }
 
@@ -606,6 +613,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setVertDimension(Dimension value) {
+    markDirty();
     this.vertDimension = value;
   }
 
@@ -637,6 +645,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setApertureDiameter(Dimension value) {
+    markDirty();
     this.apertureDiameter = value;
   }
 
@@ -668,6 +677,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setHorzAperture(Dimension value) {
+    markDirty();
     this.horzAperture = value;
   }
 
@@ -699,6 +709,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setVertAperture(Dimension value) {
+    markDirty();
     this.vertAperture = value;
   }
 
@@ -731,6 +742,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setHorzSidelobeSuppressed(TString value) {
+    markDirty();
     this.horzSidelobeSuppressed = value;
   }
 
@@ -764,6 +776,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setHorzSidelobeAz(Az value) {
+    markDirty();
     this.horzSidelobeAz = value;
   }
 
@@ -795,6 +808,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setHorzSidelobeAttenuation(Unsigned_DB_5_2 value) {
+    markDirty();
     this.horzSidelobeAttenuation = value;
   }
 
@@ -827,6 +841,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setVertSidelobeSuppressed(TString value) {
+    markDirty();
     this.vertSidelobeSuppressed = value;
   }
 
@@ -862,6 +877,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setVertSidelobeElev(Elev180 value) {
+    markDirty();
     this.vertSidelobeElev = value;
   }
 
@@ -891,6 +907,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public void setVertSidelobeAttenuation(Unsigned_DB_5_2 value) {
+    markDirty();
     this.vertSidelobeAttenuation = value;
   }
 
@@ -932,6 +949,7 @@ public class Antenna extends Common<Antenna> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    markDirty();
     this.pocInformation = null;
   }
 
@@ -966,6 +984,7 @@ public class Antenna extends Common<Antenna> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    markDirty();
     this.nomenclature = null;
   }
 
@@ -998,6 +1017,7 @@ public class Antenna extends Common<Antenna> {
    * Clear the AntHardware field. This sets the field to null.
    */
   public void unsetAntHardware() {
+    markDirty();
     this.antHardware = null;
   }
 
@@ -1030,6 +1050,7 @@ public class Antenna extends Common<Antenna> {
    * Clear the AntMode field. This sets the field to null.
    */
   public void unsetAntMode() {
+    markDirty();
     this.antMode = null;
   }
 
@@ -1062,6 +1083,7 @@ public class Antenna extends Common<Antenna> {
    * Clear the UsingCountries field. This sets the field to null.
    */
   public void unsetUsingCountries() {
+    markDirty();
     this.usingCountries = null;
   }
 
@@ -1292,6 +1314,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withPOCInformation(POCInformation... values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -1309,6 +1332,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withPOCInformation(Collection<POCInformation> values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -1328,6 +1352,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withNomenclature(Nomenclature... values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -1347,6 +1372,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withNomenclature(Collection<Nomenclature> values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -1364,6 +1390,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withAntHardware(AntHardware... values) {
+    markDirty();
     if (values != null) {
       getAntHardware().addAll(Arrays.asList(values));
     }
@@ -1381,6 +1408,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withAntHardware(Collection<AntHardware> values) {
+    markDirty();
     if (values != null) {
       getAntHardware().addAll(values);
     }
@@ -1398,6 +1426,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withAntMode(AntMode... values) {
+    markDirty();
     if (values != null) {
       getAntMode().addAll(Arrays.asList(values));
     }
@@ -1415,6 +1444,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withAntMode(Collection<AntMode> values) {
+    markDirty();
     if (values != null) {
       getAntMode().addAll(values);
     }
@@ -1432,6 +1462,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withUsingCountries(UsingCountries... values) {
+    markDirty();
     if (values != null) {
       getUsingCountries().addAll(Arrays.asList(values));
     }
@@ -1449,6 +1480,7 @@ public class Antenna extends Common<Antenna> {
    * @since 3.1.0
    */
   public Antenna withUsingCountries(Collection<UsingCountries> values) {
+    markDirty();
     if (values != null) {
       getUsingCountries().addAll(values);
     }
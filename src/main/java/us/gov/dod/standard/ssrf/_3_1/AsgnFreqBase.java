@@ -16,6 +16,7 @@
 package us.gov.dod.standard.ssrf._3_1;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.assignment.Freq;
 import us.gov.dod.standard.ssrf._3_1.assignment.FreqOld;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
@@ -54,6 +55,15 @@ public abstract class AsgnFreqBase {
   @XmlElement(name = "FreqUse", required = false)
   protected TString freqUse;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  protected transient Common<?> owningDataset;
+
   /**
    * Get .
    *
@@ -71,6 +81,7 @@ public abstract class AsgnFreqBase {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -100,6 +111,7 @@ public abstract class AsgnFreqBase {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -129,6 +141,7 @@ public abstract class AsgnFreqBase {
    * @since 3.1.0
    */
   public void setRefFreq(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.refFreq = value;
   }
 
@@ -158,6 +171,7 @@ public abstract class AsgnFreqBase {
    * @since 3.1.0
    */
   public void setFreqUse(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.freqUse = value;
   }
 
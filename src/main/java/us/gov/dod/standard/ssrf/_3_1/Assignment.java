@@ -874,6 +874,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setTitle(S100 value) {
+    markDirty();
     this.title = value;
   }
 
@@ -907,6 +908,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setUsageType(TString value) {
+    markDirty();
     this.usageType = value;
   }
 
@@ -940,6 +942,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setDateResponseRequired(D value) {
+    markDirty();
     this.dateResponseRequired = value;
   }
 
@@ -969,6 +972,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setEffectiveDateTime(DT value) {
+    markDirty();
     this.effectiveDateTime = value;
   }
 
@@ -1000,6 +1004,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setExpirationDateTime(DT value) {
+    markDirty();
     this.expirationDateTime = value;
   }
 
@@ -1035,6 +1040,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setReviewDate(D value) {
+    markDirty();
     this.reviewDate = value;
   }
 
@@ -1066,6 +1072,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setPeriod(TString value) {
+    markDirty();
     this.period = value;
   }
 
@@ -1099,6 +1106,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setSeconds(MinSec value) {
+    markDirty();
     this.seconds = value;
   }
 
@@ -1130,6 +1138,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setMinutes(MinSec value) {
+    markDirty();
     this.minutes = value;
   }
 
@@ -1161,6 +1170,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setHours(Hours value) {
+    markDirty();
     this.hours = value;
   }
 
@@ -1192,6 +1202,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setDaysOfMonth(DaysOfMonth value) {
+    markDirty();
     this.daysOfMonth = value;
   }
 
@@ -1223,6 +1234,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setMonths(Months value) {
+    markDirty();
     this.months = value;
   }
 
@@ -1254,6 +1266,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setDaysOfWeek(DaysOfWeek value) {
+    markDirty();
     this.daysOfWeek = value;
   }
 
@@ -1285,6 +1298,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setYears(Years value) {
+    markDirty();
     this.years = value;
   }
 
@@ -1360,6 +1374,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setDuration(Duration_UN4 value) {
+    markDirty();
     this.duration = value;
   }
 
@@ -1391,6 +1406,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setProcessing(TString value) {
+    markDirty();
     this.processing = value;
   }
 
@@ -1422,6 +1438,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setEmergency(TString value) {
+    markDirty();
     this.emergency = value;
   }
 
@@ -1453,6 +1470,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setAssignmentAuthority(TString value) {
+    markDirty();
     this.assignmentAuthority = value;
   }
 
@@ -1494,6 +1512,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setRequirement(MEMO value) {
+    markDirty();
     this.requirement = value;
   }
 
@@ -1523,6 +1542,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setNumSystems(UN9 value) {
+    markDirty();
     this.numSystems = value;
   }
 
@@ -1552,6 +1572,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setAgencyActionNum(S12 value) {
+    markDirty();
     this.agencyActionNum = value;
   }
 
@@ -1585,6 +1606,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setAgencyComments(MEMO value) {
+    markDirty();
     this.agencyComments = value;
   }
 
@@ -1614,6 +1636,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setAgencySerialNum(S12 value) {
+    markDirty();
     this.agencySerialNum = value;
   }
 
@@ -1643,6 +1666,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setAssignmentDate(D value) {
+    markDirty();
     this.assignmentDate = value;
   }
 
@@ -1678,6 +1702,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setCOCOMGroup(S8 value) {
+    markDirty();
     this.cocomGroup = value;
   }
 
@@ -1709,6 +1734,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setControlRequestNum(S15 value) {
+    markDirty();
     this.controlRequestNum = value;
   }
 
@@ -1740,6 +1766,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setCoordinationComments(MEMO value) {
+    markDirty();
     this.coordinationComments = value;
   }
 
@@ -1769,6 +1796,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setDataSource(TString value) {
+    markDirty();
     this.dataSource = value;
   }
 
@@ -1806,6 +1834,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setFCCFileNum(S22 value) {
+    markDirty();
     this.fccFileNum = value;
   }
 
@@ -1837,6 +1866,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setFMSCNum(S14 value) {
+    markDirty();
     this.fmscNum = value;
   }
 
@@ -1868,6 +1898,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setFrequencyActionOfficer(S3 value) {
+    markDirty();
     this.frequencyActionOfficer = value;
   }
 
@@ -1903,6 +1934,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setListSerialNum(S12 value) {
+    markDirty();
     this.listSerialNum = value;
   }
 
@@ -1933,6 +1965,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setNATOPooledFrequencyCode(TString value) {
+    markDirty();
     this.natoPooledFrequencyCode = value;
   }
 
@@ -1966,6 +1999,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setNATOPooledFrequencyNum(UN4 value) {
+    markDirty();
     this.natoPooledFrequencyNum = value;
   }
 
@@ -1995,6 +2029,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setOriginalAssignmentDate(D value) {
+    markDirty();
     this.originalAssignmentDate = value;
   }
 
@@ -2032,6 +2067,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setRoutineAgendaItem(TString value) {
+    markDirty();
     this.routineAgendaItem = value;
   }
 
@@ -2075,6 +2111,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setSupplementaryDetails(MEMO value) {
+    markDirty();
     this.supplementaryDetails = value;
   }
 
@@ -2104,6 +2141,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setTypeOfService(TString value) {
+    markDirty();
     this.typeOfService = value;
   }
 
@@ -2135,6 +2173,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setUsageCode(TString value) {
+    markDirty();
     this.usageCode = value;
   }
 
@@ -2168,6 +2207,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setUsageFrequency(TString value) {
+    markDirty();
     this.usageFrequency = value;
   }
 
@@ -2201,6 +2241,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setUsagePercentage(US_Percent value) {
+    markDirty();
     this.usagePercentage = value;
   }
 
@@ -2232,6 +2273,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setUserNetCode(S6 value) {
+    markDirty();
     this.userNetCode = value;
   }
 
@@ -2261,6 +2303,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public void setPrimaryStation(TString value) {
+    markDirty();
     this.primaryStation = value;
   }
 
@@ -2304,6 +2347,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the Project field. This sets the field to null.
    */
   public void unsetProject() {
+    markDirty();
     this.project = null;
   }
 
@@ -2336,6 +2380,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    markDirty();
     this.pocInformation = null;
   }
 
@@ -2370,6 +2415,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the SysOfStation field. This sets the field to null.
    */
   public void unsetSysOfStation() {
+    markDirty();
     this.sysOfStation = null;
   }
 
@@ -2405,6 +2451,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the RelatedRef field. This sets the field to null.
    */
   public void unsetRelatedRef() {
+    markDirty();
     this.relatedRef = null;
   }
 
@@ -2438,6 +2485,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the Configuration field. This sets the field to null.
    */
   public void unsetConfiguration() {
+    markDirty();
     this.configuration = null;
   }
 
@@ -2470,6 +2518,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the Station field. This sets the field to null.
    */
   public void unsetStation() {
+    markDirty();
     this.station = null;
   }
 
@@ -2506,6 +2555,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the Link field. This sets the field to null.
    */
   public void unsetLink() {
+    markDirty();
     this.link = null;
   }
 
@@ -2538,6 +2588,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the StatusLog field. This sets the field to null.
    */
   public void unsetStatusLog() {
+    markDirty();
     this.statusLog = null;
   }
 
@@ -2570,6 +2621,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the AsgnAllotOwner field. This sets the field to null.
    */
   public void unsetAsgnAllotOwner() {
+    markDirty();
     this.asgnAllotOwner = null;
   }
 
@@ -2603,6 +2655,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the CircuitRemarks field. This sets the field to null.
    */
   public void unsetCircuitRemarks() {
+    markDirty();
     this.circuitRemarks = null;
   }
 
@@ -2635,6 +2688,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the CoordinationData field. This sets the field to null.
    */
   public void unsetCoordinationData() {
+    markDirty();
     this.coordinationData = null;
   }
 
@@ -2667,6 +2721,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the DocketNum field. This sets the field to null.
    */
   public void unsetDocketNum() {
+    markDirty();
     this.docketNum = null;
   }
 
@@ -2699,6 +2754,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the HostDocketNum field. This sets the field to null.
    */
   public void unsetHostDocketNum() {
+    markDirty();
     this.hostDocketNum = null;
   }
 
@@ -2732,6 +2788,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the OffTheShelfEquipment field. This sets the field to null.
    */
   public void unsetOffTheShelfEquipment() {
+    markDirty();
     this.offTheShelfEquipment = null;
   }
 
@@ -2765,6 +2822,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the PreviousAuthorization field. This sets the field to null.
    */
   public void unsetPreviousAuthorization() {
+    markDirty();
     this.previousAuthorization = null;
   }
 
@@ -2797,6 +2855,7 @@ public class Assignment extends Common<Assignment> {
    * Clear the RecordNote field. This sets the field to null.
    */
   public void unsetRecordNote() {
+    markDirty();
     this.recordNote = null;
   }
 
@@ -3477,6 +3536,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withProject(Project... values) {
+    markDirty();
     if (values != null) {
       getProject().addAll(Arrays.asList(values));
     }
@@ -3494,6 +3554,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withProject(Collection<Project> values) {
+    markDirty();
     if (values != null) {
       getProject().addAll(values);
     }
@@ -3511,6 +3572,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withPOCInformation(POCInformation... values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -3528,6 +3590,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withPOCInformation(Collection<POCInformation> values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -3547,6 +3610,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withSysOfStation(SysOfStation... values) {
+    markDirty();
     if (values != null) {
       getSysOfStation().addAll(Arrays.asList(values));
     }
@@ -3566,6 +3630,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withSysOfStation(Collection<SysOfStation> values) {
+    markDirty();
     if (values != null) {
       getSysOfStation().addAll(values);
     }
@@ -3586,6 +3651,7 @@ public class Assignment extends Common<Assignment> {
    */
   @Deprecated
   public Assignment withRelatedRef(Serial... values) {
+    markDirty();
     if (values != null) {
       getRelatedRef().addAll(Arrays.asList(values));
     }
@@ -3606,6 +3672,7 @@ public class Assignment extends Common<Assignment> {
    */
   @Deprecated
   public Assignment withRelatedRef(Collection<Serial> values) {
+    markDirty();
     if (values != null) {
       getRelatedRef().addAll(values);
     }
@@ -3624,6 +3691,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withConfiguration(Configuration... values) {
+    markDirty();
     if (values != null) {
       getConfiguration().addAll(Arrays.asList(values));
     }
@@ -3642,6 +3710,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withConfiguration(Collection<Configuration> values) {
+    markDirty();
     if (values != null) {
       getConfiguration().addAll(values);
     }
@@ -3659,6 +3728,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withStation(Station... values) {
+    markDirty();
     if (values != null) {
       getStation().addAll(Arrays.asList(values));
     }
@@ -3676,6 +3746,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withStation(Collection<Station> values) {
+    markDirty();
     if (values != null) {
       getStation().addAll(values);
     }
@@ -3697,6 +3768,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withLink(Link... values) {
+    markDirty();
     if (values != null) {
       getLink().addAll(Arrays.asList(values));
     }
@@ -3718,6 +3790,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withLink(Collection<Link> values) {
+    markDirty();
     if (values != null) {
       getLink().addAll(values);
     }
@@ -3735,6 +3808,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withStatusLog(StatusLog... values) {
+    markDirty();
     if (values != null) {
       getStatusLog().addAll(Arrays.asList(values));
     }
@@ -3752,6 +3826,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withStatusLog(Collection<StatusLog> values) {
+    markDirty();
     if (values != null) {
       getStatusLog().addAll(values);
     }
@@ -3769,6 +3844,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withAsgnAllotOwner(AsgnAllotOwner... values) {
+    markDirty();
     if (values != null) {
       getAsgnAllotOwner().addAll(Arrays.asList(values));
     }
@@ -3786,6 +3862,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withAsgnAllotOwner(Collection<AsgnAllotOwner> values) {
+    markDirty();
     if (values != null) {
       getAsgnAllotOwner().addAll(values);
     }
@@ -3804,6 +3881,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withCircuitRemarks(CircuitRemarks... values) {
+    markDirty();
     if (values != null) {
       getCircuitRemarks().addAll(Arrays.asList(values));
     }
@@ -3822,6 +3900,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withCircuitRemarks(Collection<CircuitRemarks> values) {
+    markDirty();
     if (values != null) {
       getCircuitRemarks().addAll(values);
     }
@@ -3839,6 +3918,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withCoordinationData(CoordinationData... values) {
+    markDirty();
     if (values != null) {
       getCoordinationData().addAll(Arrays.asList(values));
     }
@@ -3856,6 +3936,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withCoordinationData(Collection<CoordinationData> values) {
+    markDirty();
     if (values != null) {
       getCoordinationData().addAll(values);
     }
@@ -3873,6 +3954,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withDocketNum(DocketNum... values) {
+    markDirty();
     if (values != null) {
       getDocketNum().addAll(Arrays.asList(values));
     }
@@ -3890,6 +3972,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withDocketNum(Collection<DocketNum> values) {
+    markDirty();
     if (values != null) {
       getDocketNum().addAll(values);
     }
@@ -3907,6 +3990,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withHostDocketNum(HostDocketNum... values) {
+    markDirty();
     if (values != null) {
       getHostDocketNum().addAll(Arrays.asList(values));
     }
@@ -3924,6 +4008,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withHostDocketNum(Collection<HostDocketNum> values) {
+    markDirty();
     if (values != null) {
       getHostDocketNum().addAll(values);
     }
@@ -3943,6 +4028,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withOffTheShelfEquipment(OffTheShelfEquipment... values) {
+    markDirty();
     if (values != null) {
       getOffTheShelfEquipment().addAll(Arrays.asList(values));
     }
@@ -3961,6 +4047,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withOffTheShelfEquipment(Collection<OffTheShelfEquipment> values) {
+    markDirty();
     if (values != null) {
       getOffTheShelfEquipment().addAll(values);
     }
@@ -3980,6 +4067,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withPreviousAuthorization(PreviousAuthorization... values) {
+    markDirty();
     if (values != null) {
       getPreviousAuthorization().addAll(Arrays.asList(values));
     }
@@ -3998,6 +4086,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withPreviousAuthorization(Collection<PreviousAuthorization> values) {
+    markDirty();
     if (values != null) {
       getPreviousAuthorization().addAll(values);
     }
@@ -4015,6 +4104,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withRecordNote(RecordNote... values) {
+    markDirty();
     if (values != null) {
       getRecordNote().addAll(Arrays.asList(values));
     }
@@ -4032,6 +4122,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withRecordNote(Collection<RecordNote> values) {
+    markDirty();
     if (values != null) {
       getRecordNote().addAll(values);
     }
@@ -4189,6 +4280,7 @@ public class Assignment extends Common<Assignment> {
    * @since 3.1.0
    */
   public Assignment withRelated(Collection<Common<?>> values) {
+    markDirty();
     getRelated().addAll(values);
     return this;
   }
@@ -4225,32 +4317,30 @@ public class Assignment extends Common<Assignment> {
    */
   @Override
   public void postLoad(SSRF root) {
+    super.postLoad(root);
     if (relatedRef == null || relatedRef.isEmpty()) {
       return;
     }
-    for (Assignment instance : root.getAssignment()) {
-      if (relatedRef.contains(instance.getSerial())) {
-        getRelated().add(instance);
+    for (Serial ref : relatedRef) {
+      Assignment assignment = root.findBySerial(ref, Assignment.class);
+      if (assignment != null) {
+        getRelated().add(assignment);
       }
-    }
-    for (Allotment instance : root.getAllotment()) {
-      if (relatedRef.contains(instance.getSerial())) {
-        getRelated().add(instance);
+      Allotment allotment = root.findBySerial(ref, Allotment.class);
+      if (allotment != null) {
+        getRelated().add(allotment);
       }
-    }
-    for (SSReply instance : root.getSSReply()) {
-      if (relatedRef.contains(instance.getSerial())) {
-        getRelated().add(instance);
+      SSReply ssReply = root.findBySerial(ref, SSReply.class);
+      if (ssReply != null) {
+        getRelated().add(ssReply);
       }
-    }
-    for (ForceElement instance : root.getForceElement()) {
-      if (relatedRef.contains(instance.getSerial())) {
-        getRelated().add(instance);
+      ForceElement forceElement = root.findBySerial(ref, ForceElement.class);
+      if (forceElement != null) {
+        getRelated().add(forceElement);
       }
-    }
-    for (FEDeployment instance : root.getFEDeployment()) {
-      if (relatedRef.contains(instance.getSerial())) {
-        getRelated().add(instance);
+      FEDeployment feDeployment = root.findBySerial(ref, FEDeployment.class);
+      if (feDeployment != null) {
+        getRelated().add(feDeployment);
       }
     }
   }//</editor-fold>
@@ -109,6 +109,7 @@ public class ChannelPlan extends Common<ChannelPlan> {
    * @since 3.1.0
    */
   public void setName(S100 value) {
+    markDirty();
     this.name = value;
   }
 
@@ -147,6 +148,7 @@ public class ChannelPlan extends Common<ChannelPlan> {
    * Clear the Channel field. This sets the field to null.
    */
   public void unsetChannel() {
+    markDirty();
     this.channel = null;
   }
 
@@ -171,6 +173,7 @@ public class ChannelPlan extends Common<ChannelPlan> {
    * @since 3.1.0
    */
   public ChannelPlan withChannel(Channel... values) {
+    markDirty();
     if (values != null) {
       getChannel().addAll(Arrays.asList(values));
     }
@@ -185,6 +188,7 @@ public class ChannelPlan extends Common<ChannelPlan> {
    * @since 3.1.0
    */
   public ChannelPlan withChannel(Collection<Channel> values) {
+    markDirty();
     if (values != null) {
       getChannel().addAll(values);
     }
@@ -481,6 +481,16 @@ public abstract class Common<T> implements Comparable<T> {
   @XmlAttribute(name = "idref")
   protected String idref;//</editor-fold>
 
+  /**
+   * The number of changes made to this data set. Incremented by each setter
+   * and fluent (with) method and by {@link #markDirty()}. Used to detect
+   * changed data sets for incremental validation.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private long modificationCount;
+
   /**
    * Abstract constructor for the Common class type.
    * <p>
@@ -491,7 +501,7 @@ public abstract class Common<T> implements Comparable<T> {
   @SuppressWarnings("unchecked")
   public Common() {
     this.serial = Serial.getInstance((Class<? extends Common<?>>) this.getClass());
-    this.entryDateTime = new DT(Calendar.getInstance());
+    this.entryDateTime = new DT(System.currentTimeMillis());
   }
 
   //<editor-fold defaultstate="collapsed" desc="Getters and Setters">
@@ -512,6 +522,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setLastObservedBy(S50 value) {
+    markDirty();
     this.lastObservedBy = value;
   }
 
@@ -543,6 +554,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setObservedFirstDateTime(DT value) {
+    markDirty();
     this.observedFirstDateTime = value;
   }
 
@@ -574,6 +586,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setObservedLastDateTime(DT value) {
+    markDirty();
     this.observedLastDateTime = value;
   }
 
@@ -605,6 +618,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setApprovedBy(S50 value) {
+    markDirty();
     this.approvedBy = value;
   }
 
@@ -636,6 +650,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setApprovedDateTime(DT value) {
+    markDirty();
     this.approvedDateTime = value;
   }
 
@@ -669,6 +684,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setRedacted(TString value) {
+    markDirty();
     this.redacted = value;
   }
 
@@ -740,6 +756,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setSerial(Serial value) {
+    markDirty();
     this.serial = value;
   }
 
@@ -771,6 +788,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setEntryDateTime(DT value) {
+    markDirty();
     this.entryDateTime = value;
   }
 
@@ -806,6 +824,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   @Deprecated
   public void setEntryBy(Serial value) {
+    markDirty();
     this.entryBy = value;
   }
 
@@ -843,6 +862,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   @Deprecated
   public void setOwner(Serial value) {
+    markDirty();
     this.owner = value;
   }
 
@@ -872,6 +892,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setLastChangeDateTime(DT value) {
+    markDirty();
     this.lastChangeDateTime = value;
   }
 
@@ -907,6 +928,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   @Deprecated
   public void setLastChangeBy(Serial value) {
+    markDirty();
     this.lastChangeBy = value;
   }
 
@@ -936,6 +958,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setLastReviewDate(D value) {
+    markDirty();
     this.lastReviewDate = value;
   }
 
@@ -971,6 +994,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   @Deprecated
   public void setLastReviewBy(Serial value) {
+    markDirty();
     this.lastReviewBy = value;
   }
 
@@ -1008,6 +1032,7 @@ public abstract class Common<T> implements Comparable<T> {
    */
   @Deprecated
   public void setModAllowedBy(Serial value) {
+    markDirty();
     this.modAllowedBy = value;
   }
 
@@ -1037,6 +1062,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setState(TString value) {
+    markDirty();
     this.state = value;
   }
 
@@ -1068,6 +1094,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setDescription(S500 value) {
+    markDirty();
     this.description = value;
   }
 
@@ -1103,6 +1130,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setSecurityClass(SecurityClass value) {
+    markDirty();
     this.securityClass = value;
   }
 
@@ -1144,6 +1172,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the CaseNum field. This sets the field to null.
    */
   public void unsetCaseNum() {
+    markDirty();
     this.caseNum = null;
   }
 
@@ -1176,6 +1205,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the ExtReferenceRef field. This sets the field to null.
    */
   public void unsetExtReferenceRef() {
+    markDirty();
     this.extReferenceRef = null;
   }
 
@@ -1206,6 +1236,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    markDirty();
     this.remarks = null;
   }
 
@@ -1228,6 +1259,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    markDirty();
     this.cls = value;
   }
 
@@ -1270,6 +1302,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the Releasability field. This sets the field to null.
    */
   public void unsetReleasability() {
+    markDirty();
     this.releasability = null;
   }
 
@@ -1301,6 +1334,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the RemarkRef field. This sets the field to null.
    */
   public void unsetRemarkRef() {
+    markDirty();
     this.remarkRef = null;
   }
 
@@ -1331,6 +1365,7 @@ public abstract class Common<T> implements Comparable<T> {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    markDirty();
     this.extReferences = null;
   }
 
@@ -1357,6 +1392,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    markDirty();
     this.legacyReleasability = value;
   }
 
@@ -1390,6 +1426,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    markDirty();
     this.quality = value;
   }
 
@@ -1419,6 +1456,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    markDirty();
     this.recommendedValue = value;
   }
 
@@ -1458,6 +1496,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void setIdref(String value) {
+    markDirty();
     this.idref = value;
   }
 
@@ -1805,6 +1844,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withCaseNum(CaseNum... values) {
+    markDirty();
     if (values != null) {
       getCaseNum().addAll(Arrays.asList(values));
     }
@@ -1822,6 +1862,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withCaseNum(Collection<CaseNum> values) {
+    markDirty();
     if (values != null) {
       getCaseNum().addAll(values);
     }
@@ -1839,6 +1880,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withExtReferenceRef(ExtReferenceRef... values) {
+    markDirty();
     if (values != null) {
       getExtReferenceRef().addAll(Arrays.asList(values));
     }
@@ -1856,6 +1898,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withExtReferenceRef(Collection<ExtReferenceRef> values) {
+    markDirty();
     if (values != null) {
       getExtReferenceRef().addAll(values);
     }
@@ -1871,6 +1914,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withRemarks(Remarks... values) {
+    markDirty();
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -1886,6 +1930,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withRemarks(Collection<Remarks> values) {
+    markDirty();
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -1916,6 +1961,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withReleasability(ListCCY... values) {
+    markDirty();
     if (values != null) {
       getReleasability().addAll(Arrays.asList(values));
     }
@@ -1934,6 +1980,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withReleasability(Collection<ListCCY> values) {
+    markDirty();
     if (values != null) {
       getReleasability().addAll(values);
     }
@@ -1950,6 +1997,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withRemarkRef(BigInteger... values) {
+    markDirty();
     if (values != null) {
       getRemarkRef().addAll(Arrays.asList(values));
     }
@@ -1966,6 +2014,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withRemarkRef(Collection<BigInteger> values) {
+    markDirty();
     if (values != null) {
       getRemarkRef().addAll(values);
     }
@@ -1994,6 +2043,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withExtReferences(BigInteger... values) {
+    markDirty();
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -2009,6 +2059,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withExtReferences(Collection<BigInteger> values) {
+    markDirty();
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -2238,6 +2289,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withEntryByRole(Role value) {
+    markDirty();
     this.entryByRole = value;
     return (T) this;
   }
@@ -2271,6 +2323,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withOwnerRole(Role value) {
+    markDirty();
     this.ownerRole = value;
     return (T) this;
   }
@@ -2302,6 +2355,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withLastChangeByRole(Role value) {
+    markDirty();
     this.lastChangeByRole = value;
     return (T) this;
   }
@@ -2333,6 +2387,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withLastReviewByRole(Role value) {
+    markDirty();
     this.lastReviewByRole = value;
     return (T) this;
   }
@@ -2366,6 +2421,7 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public T withModAllowedByRole(Role value) {
+    markDirty();
     this.modAllowedByRole = value;
     return (T) this;
   }
@@ -2403,46 +2459,35 @@ public abstract class Common<T> implements Comparable<T> {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (entryBy != null && entryBy.isSetValue()) {
-      for (Role instance : root.getRole()) {
-        if (entryBy.equals(instance.getSerial())) {
-          entryByRole = instance;
-          return;
-        }
-      }
-    }
-    if (owner != null && owner.isSetValue()) {
-      for (Role instance : root.getRole()) {
-        if (owner.equals(instance.getSerial())) {
-          ownerRole = instance;
-          return;
-        }
-      }
-    }
-    if (lastChangeBy != null && lastChangeBy.isSetValue()) {
-      for (Role instance : root.getRole()) {
-        if (lastChangeBy.equals(instance.getSerial())) {
-          lastChangeByRole = instance;
-          return;
-        }
-      }
-    }
-    if (lastReviewBy != null && lastReviewBy.isSetValue()) {
-      for (Role instance : root.getRole()) {
-        if (lastReviewBy.equals(instance.getSerial())) {
-          lastReviewByRole = instance;
-          return;
-        }
-      }
-    }
-    if (modAllowedBy != null && modAllowedBy.isSetValue()) {
-      for (Role instance : root.getRole()) {
-        if (modAllowedBy.equals(instance.getSerial())) {
-          modAllowedByRole = instance;
-          return;
-        }
-      }
-    }
+    entryByRole = root.findBySerial(entryBy, Role.class);
+    ownerRole = root.findBySerial(owner, Role.class);
+    lastChangeByRole = root.findBySerial(lastChangeBy, Role.class);
+    lastReviewByRole = root.findBySerial(lastReviewBy, Role.class);
+    modAllowedByRole = root.findBySerial(modAllowedBy, Role.class);
+  }//</editor-fold>
+
+  //<editor-fold defaultstate="collapsed" desc="Change Tracking">
+  /**
+   * Mark this data set as changed. This method is called by each setter and
+   * fluent (with) method and should be called after any other change to the
+   * data set configuration (e.g. after modifying a collection returned by a
+   * getter).
+   *
+   * @since 3.1.0
+   */
+  public void markDirty() {
+    modificationCount++;
+  }
+
+  /**
+   * Get the number of changes made to this data set. The count has no meaning
+   * other than to detect that the data set was changed.
+   *
+   * @return the data set modification count
+   * @since 3.1.0
+   */
+  public long getModificationCount() {
+    return modificationCount;
   }//</editor-fold>
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -2490,17 +2535,18 @@ public abstract class Common<T> implements Comparable<T> {
       return 1;
     }
     if (this.getClass().equals(o.getClass())) {
-      if (this.getEntryDateTime().equals(((Common<T>) o).getEntryDateTime())) {
+      /**
+       * Sort reverse chronologically.
+       */
+      int order = this.getEntryDateTime().compareTo(((Common<T>) o).getEntryDateTime());
+      if (order == 0) {
         /**
          * If the classes are equal and have the same time stamp then sort by
          * serial number. Note that this is semi-random.
          */
         return this.serial.compareTo(((Common<T>) o).getSerial());
       }
-      /**
-       * Sort reverse chronologically.
-       */
-      return this.getEntryDateTime().compareTo(((Common<T>) o).getEntryDateTime());
+      return order;
     }
     /**
      * Sort based upon the class name.
@@ -193,6 +193,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setEffectiveDate(D value) {
+    markDirty();
     this.effectiveDate = value;
   }
 
@@ -224,6 +225,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setExpirationDate(D value) {
+    markDirty();
     this.expirationDate = value;
   }
 
@@ -263,6 +265,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setReviewDate(D value) {
+    markDirty();
     this.reviewDate = value;
   }
 
@@ -292,6 +295,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setTitleRank(S10 value) {
+    markDirty();
     this.titleRank = value;
   }
 
@@ -321,6 +325,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setFirstName(S30 value) {
+    markDirty();
     this.firstName = value;
   }
 
@@ -350,6 +355,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public void setLastName(S30 value) {
+    markDirty();
     this.lastName = value;
   }
 
@@ -391,6 +397,7 @@ public class Contact extends Common<Contact> {
    * Clear the Address field. This sets the field to null.
    */
   public void unsetAddress() {
+    markDirty();
     this.address = null;
   }
 
@@ -423,6 +430,7 @@ public class Contact extends Common<Contact> {
    * Clear the TelephoneFax field. This sets the field to null.
    */
   public void unsetTelephoneFax() {
+    markDirty();
     this.telephoneFax = null;
   }
 
@@ -454,6 +462,7 @@ public class Contact extends Common<Contact> {
    * Clear the EMail field. This sets the field to null.
    */
   public void unsetEMail() {
+    markDirty();
     this.eMail = null;
   }
 
@@ -588,6 +597,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withAddress(Address... values) {
+    markDirty();
     if (values != null) {
       getAddress().addAll(Arrays.asList(values));
     }
@@ -605,6 +615,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withAddress(Collection<Address> values) {
+    markDirty();
     if (values != null) {
       getAddress().addAll(values);
     }
@@ -622,6 +633,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withTelephoneFax(TelephoneFax... values) {
+    markDirty();
     if (values != null) {
       getTelephoneFax().addAll(Arrays.asList(values));
     }
@@ -639,6 +651,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withTelephoneFax(Collection<TelephoneFax> values) {
+    markDirty();
     if (values != null) {
       getTelephoneFax().addAll(values);
     }
@@ -655,6 +668,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withEMail(EMail... values) {
+    markDirty();
     if (values != null) {
       getEMail().addAll(Arrays.asList(values));
     }
@@ -671,6 +685,7 @@ public class Contact extends Common<Contact> {
    * @since 3.1.0
    */
   public Contact withEMail(Collection<EMail> values) {
+    markDirty();
     if (values != null) {
       getEMail().addAll(values);
     }
@@ -238,6 +238,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    markDirty();
     this.type = value;
   }
 
@@ -269,6 +270,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setDate(D value) {
+    markDirty();
     this.date = value;
   }
 
@@ -298,6 +300,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setIdentifier(S50 value) {
+    markDirty();
     this.identifier = value;
   }
 
@@ -327,6 +330,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setAlternateIdentifier(S50 value) {
+    markDirty();
     this.alternateIdentifier = value;
   }
 
@@ -356,6 +360,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setTitle(S255 value) {
+    markDirty();
     this.title = value;
   }
 
@@ -387,6 +392,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setAuthor(S255 value) {
+    markDirty();
     this.author = value;
   }
 
@@ -418,6 +424,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setOrganisation(S50 value) {
+    markDirty();
     this.organisation = value;
   }
 
@@ -447,6 +454,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setDocumentCls(TString value) {
+    markDirty();
     this.documentCls = value;
   }
 
@@ -482,6 +490,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setResourceLocator(S255 value) {
+    markDirty();
     this.resourceLocator = value;
   }
 
@@ -513,6 +522,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setIsAttached(TString value) {
+    markDirty();
     this.isAttached = value;
   }
 
@@ -544,6 +554,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setIsClassified(TString value) {
+    markDirty();
     this.isClassified = value;
   }
 
@@ -575,6 +586,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setReferencedStage(TString value) {
+    markDirty();
     this.referencedStage = value;
   }
 
@@ -608,6 +620,7 @@ public class ExternalReference extends Common<ExternalReference> {
    * @since 3.1.0
    */
   public void setRepeat(TString value) {
+    markDirty();
     this.repeat = value;
   }
 
@@ -285,6 +285,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setFERef(Serial value) {
+    markDirty();
     this.feRef = value;
   }
 
@@ -314,6 +315,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    markDirty();
     this.type = value;
   }
 
@@ -345,6 +347,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setNum(UN6 value) {
+    markDirty();
     this.num = value;
   }
 
@@ -376,6 +379,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setSeconds(MinSec value) {
+    markDirty();
     this.seconds = value;
   }
 
@@ -407,6 +411,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setMinutes(MinSec value) {
+    markDirty();
     this.minutes = value;
   }
 
@@ -438,6 +443,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setHours(Hours value) {
+    markDirty();
     this.hours = value;
   }
 
@@ -469,6 +475,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setDaysOfMonth(DaysOfMonth value) {
+    markDirty();
     this.daysOfMonth = value;
   }
 
@@ -500,6 +507,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setMonths(Months value) {
+    markDirty();
     this.months = value;
   }
 
@@ -531,6 +539,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setDaysOfWeek(DaysOfWeek value) {
+    markDirty();
     this.daysOfWeek = value;
   }
 
@@ -562,6 +571,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setYears(Years value) {
+    markDirty();
     this.years = value;
   }
 
@@ -637,6 +647,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setDuration(Duration_UN4 value) {
+    markDirty();
     this.duration = value;
   }
 
@@ -666,6 +677,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public void setLocationRef(Serial value) {
+    markDirty();
     this.locationRef = value;
   }
 
@@ -707,6 +719,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * Clear the Project field. This sets the field to null.
    */
   public void unsetProject() {
+    markDirty();
     this.project = null;
   }
 
@@ -739,6 +752,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * Clear the AtWaypoint field. This sets the field to null.
    */
   public void unsetAtWaypoint() {
+    markDirty();
     this.atWaypoint = null;
   }
 
@@ -927,6 +941,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withProject(Project... values) {
+    markDirty();
     if (values != null) {
       getProject().addAll(Arrays.asList(values));
     }
@@ -944,6 +959,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withProject(Collection<Project> values) {
+    markDirty();
     if (values != null) {
       getProject().addAll(values);
     }
@@ -961,6 +977,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withAtWaypoint(AtWaypoint... values) {
+    markDirty();
     if (values != null) {
       getAtWaypoint().addAll(Arrays.asList(values));
     }
@@ -978,6 +995,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withAtWaypoint(Collection<AtWaypoint> values) {
+    markDirty();
     if (values != null) {
       getAtWaypoint().addAll(values);
     }
@@ -1066,6 +1084,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withForceElement(ForceElement value) {
+    markDirty();
     this.forceElement = value;
     return this;
   }
@@ -1109,6 +1128,7 @@ public class FEDeployment extends Common<FEDeployment> {
    * @since 3.1.0
    */
   public FEDeployment withLocation(Location value) {
+    markDirty();
     this.location = value;
     return this;
   }
@@ -1143,24 +1163,9 @@ public class FEDeployment extends Common<FEDeployment> {
    */
   @Override
   public void postLoad(SSRF root) {
-    if (feRef == null || !feRef.isSetValue()) {
-      return;
-    }
-    for (ForceElement instance : root.getForceElement()) {
-      if (feRef.equals(instance.getSerial())) {
-        forceElement = instance;
-        return;
-      }
-    }
-    if (locationRef == null || !locationRef.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (locationRef.equals(instance.getSerial())) {
-        location = instance;
-        return;
-      }
-    }
+    super.postLoad(root);
+    forceElement = root.findBySerial(feRef, ForceElement.class);
+    location = root.findBySerial(locationRef, Location.class);
   }//</editor-fold>
 
 }
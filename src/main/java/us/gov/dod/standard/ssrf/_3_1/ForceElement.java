@@ -260,6 +260,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setReviewDate(D value) {
+    markDirty();
     this.reviewDate = value;
   }
 
@@ -289,6 +290,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    markDirty();
     this.type = value;
   }
 
@@ -324,6 +326,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setUIC(S20 value) {
+    markDirty();
     this.uic = value;
   }
 
@@ -353,6 +356,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setOwningCountry(TString value) {
+    markDirty();
     this.owningCountry = value;
   }
 
@@ -384,6 +388,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setOwningOrganisationRef(Serial value) {
+    markDirty();
     this.owningOrganisationRef = value;
   }
 
@@ -419,6 +424,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setRole(TString value) {
+    markDirty();
     this.role = value;
   }
 
@@ -450,6 +456,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setPlatform(TString value) {
+    markDirty();
     this.platform = value;
   }
 
@@ -483,6 +490,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setMissionCode(TString value) {
+    markDirty();
     this.missionCode = value;
   }
 
@@ -516,6 +524,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public void setCmdLevel(TString value) {
+    markDirty();
     this.cmdLevel = value;
   }
 
@@ -559,6 +568,7 @@ public class ForceElement extends Common<ForceElement> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    markDirty();
     this.pocInformation = null;
   }
 
@@ -592,6 +602,7 @@ public class ForceElement extends Common<ForceElement> {
    * Clear the Assets field. This sets the field to null.
    */
   public void unsetAssets() {
+    markDirty();
     this.assets = null;
   }
 
@@ -626,6 +637,7 @@ public class ForceElement extends Common<ForceElement> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    markDirty();
     this.nomenclature = null;
   }
 
@@ -658,6 +670,7 @@ public class ForceElement extends Common<ForceElement> {
    * Clear the StockNum field. This sets the field to null.
    */
   public void unsetStockNum() {
+    markDirty();
     this.stockNum = null;
   }
 
@@ -809,6 +822,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withPOCInformation(POCInformation... values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -826,6 +840,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withPOCInformation(Collection<POCInformation> values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -844,6 +859,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withAssets(Assets... values) {
+    markDirty();
     if (values != null) {
       getAssets().addAll(Arrays.asList(values));
     }
@@ -862,6 +878,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withAssets(Collection<Assets> values) {
+    markDirty();
     if (values != null) {
       getAssets().addAll(values);
     }
@@ -881,6 +898,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withNomenclature(Nomenclature... values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -900,6 +918,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withNomenclature(Collection<Nomenclature> values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -917,6 +936,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withStockNum(StockNum... values) {
+    markDirty();
     if (values != null) {
       getStockNum().addAll(Arrays.asList(values));
     }
@@ -934,6 +954,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withStockNum(Collection<StockNum> values) {
+    markDirty();
     if (values != null) {
       getStockNum().addAll(values);
     }
@@ -1012,6 +1033,7 @@ public class ForceElement extends Common<ForceElement> {
    * @since 3.1.0
    */
   public ForceElement withOwningOrganisation(Organisation value) {
+    markDirty();
     this.owningOrganisation = value;
     return this;
   }
@@ -1045,15 +1067,8 @@ public class ForceElement extends Common<ForceElement> {
    */
   @Override
   public void postLoad(SSRF root) {
-    if (owningOrganisationRef == null || !owningOrganisationRef.isSetValue()) {
-      return;
-    }
-    for (Organisation instance : root.getOrganisation()) {
-      if (owningOrganisationRef.equals(instance.getSerial())) {
-        owningOrganisation = instance;
-        return;
-      }
-    }
+    super.postLoad(root);
+    owningOrganisation = root.findBySerial(owningOrganisationRef, Organisation.class);
   }//</editor-fold>
 
 }
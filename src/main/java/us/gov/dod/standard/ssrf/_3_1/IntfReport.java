@@ -676,6 +676,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setHelpRequired(TString value) {
+    markDirty();
     this.helpRequired = value;
   }
 
@@ -707,6 +708,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setIntfPeriod(TString value) {
+    markDirty();
     this.intfPeriod = value;
   }
 
@@ -738,6 +740,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setIntfStartDateTime(DT value) {
+    markDirty();
     this.intfStartDateTime = value;
   }
 
@@ -767,6 +770,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setIntfStopDateTime(DT value) {
+    markDirty();
     this.intfStopDateTime = value;
   }
 
@@ -800,6 +804,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setIntfDescr(MEMO value) {
+    markDirty();
     this.intfDescr = value;
   }
 
@@ -831,6 +836,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setAffectedEquipment(S100 value) {
+    markDirty();
     this.affectedEquipment = value;
   }
 
@@ -860,6 +866,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceFieldStrength(FieldStrength value) {
+    markDirty();
     this.sourceFieldStrength = value;
   }
 
@@ -909,6 +916,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceLon(Lon value) {
+    markDirty();
     this.sourceLon = value;
   }
 
@@ -950,6 +958,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceLat(Lat value) {
+    markDirty();
     this.sourceLat = value;
   }
 
@@ -979,6 +988,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceAz(Az value) {
+    markDirty();
     this.sourceAz = value;
   }
 
@@ -1010,6 +1020,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceLocDescr(S255 value) {
+    markDirty();
     this.sourceLocDescr = value;
   }
 
@@ -1041,6 +1052,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceFreqMin(FreqM value) {
+    markDirty();
     this.sourceFreqMin = value;
   }
 
@@ -1070,6 +1082,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceFreqMax(FreqM value) {
+    markDirty();
     this.sourceFreqMax = value;
   }
 
@@ -1225,6 +1238,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceEmsClass(EmsDes value) {
+    markDirty();
     this.sourceEmsClass = value;
   }
 
@@ -1254,6 +1268,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSourceEmsBw(FreqM value) {
+    markDirty();
     this.sourceEmsBw = value;
   }
 
@@ -1299,6 +1314,7 @@ public class IntfReport extends Common<IntfReport> {
    */
   @Deprecated
   public void setVictimAsgnRef(Serial value) {
+    markDirty();
     this.victimAsgnRef = value;
   }
 
@@ -1330,6 +1346,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimSystem(S100 value) {
+    markDirty();
     this.victimSystem = value;
   }
 
@@ -1359,6 +1376,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimCountry(TString value) {
+    markDirty();
     this.victimCountry = value;
   }
 
@@ -1408,6 +1426,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimLon(Lon value) {
+    markDirty();
     this.victimLon = value;
   }
 
@@ -1449,6 +1468,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimLat(Lat value) {
+    markDirty();
     this.victimLat = value;
   }
 
@@ -1480,6 +1500,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimLocDescr(S255 value) {
+    markDirty();
     this.victimLocDescr = value;
   }
 
@@ -1509,6 +1530,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimFreqMin(FreqM value) {
+    markDirty();
     this.victimFreqMin = value;
   }
 
@@ -1540,6 +1562,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setVictimFreqMax(FreqM value) {
+    markDirty();
     this.victimFreqMax = value;
   }
 
@@ -1569,6 +1592,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteName(S50 value) {
+    markDirty();
     this.satelliteName = value;
   }
 
@@ -1598,6 +1622,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteChannel(S50 value) {
+    markDirty();
     this.satelliteChannel = value;
   }
 
@@ -1627,6 +1652,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteUplinkFreq(FreqM value) {
+    markDirty();
     this.satelliteUplinkFreq = value;
   }
 
@@ -1656,6 +1682,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setPerformanceEffects(MEMO value) {
+    markDirty();
     this.performanceEffects = value;
   }
 
@@ -1685,6 +1712,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setEvaluation(TString value) {
+    markDirty();
     this.evaluation = value;
   }
 
@@ -1716,6 +1744,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSolution(MEMO value) {
+    markDirty();
     this.solution = value;
   }
 
@@ -1747,6 +1776,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setAffectedCSA(TString value) {
+    markDirty();
     this.affectedCSA = value;
   }
 
@@ -1778,6 +1808,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setCharacteristics(TString value) {
+    markDirty();
     this.characteristics = value;
   }
 
@@ -1809,6 +1840,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setGPSAffected(TString value) {
+    markDirty();
     this.gpsAffected = value;
   }
 
@@ -1840,6 +1872,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setLocalEventID(S20 value) {
+    markDirty();
     this.localEventID = value;
   }
 
@@ -1869,6 +1902,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setNetCircuitsAffected(MEMO value) {
+    markDirty();
     this.netCircuitsAffected = value;
   }
 
@@ -1898,6 +1932,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setNetsAffected(MEMO value) {
+    markDirty();
     this.netsAffected = value;
   }
 
@@ -1927,6 +1962,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSATCOMPriority(TString value) {
+    markDirty();
     this.satcomPriority = value;
   }
 
@@ -1958,6 +1994,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteAffected(TString value) {
+    markDirty();
     this.satelliteAffected = value;
   }
 
@@ -1991,6 +2028,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteDownlinkPolarisation(TString value) {
+    markDirty();
     this.satelliteDownlinkPolarisation = value;
   }
 
@@ -2022,6 +2060,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteHemisphere(TString value) {
+    markDirty();
     this.satelliteHemisphere = value;
   }
 
@@ -2061,6 +2100,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteLongitude(Lon value) {
+    markDirty();
     this.satelliteLongitude = value;
   }
 
@@ -2090,6 +2130,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteTransponderID(S50 value) {
+    markDirty();
     this.satelliteTransponderID = value;
   }
 
@@ -2121,6 +2162,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public void setSatelliteUplinkPolarisation(TString value) {
+    markDirty();
     this.satelliteUplinkPolarisation = value;
   }
 
@@ -2164,6 +2206,7 @@ public class IntfReport extends Common<IntfReport> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    markDirty();
     this.pocInformation = null;
   }
 
@@ -2827,6 +2870,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public IntfReport withPOCInformation(POCInformation... values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -2844,6 +2888,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public IntfReport withPOCInformation(Collection<POCInformation> values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -2972,6 +3017,7 @@ public class IntfReport extends Common<IntfReport> {
    * @since 3.1.0
    */
   public IntfReport withVictimAssignment(Assignment value) {
+    markDirty();
     this.victimAssignment = value;
     return this;
   }
@@ -3005,15 +3051,8 @@ public class IntfReport extends Common<IntfReport> {
    */
   @Override
   public void postLoad(SSRF root) {
-    if (victimAsgnRef == null || !victimAsgnRef.isSetValue()) {
-      return;
-    }
-    for (Assignment instance : root.getAssignment()) {
-      if (victimAsgnRef.equals(instance.getSerial())) {
-        victimAssignment = instance;
-        return;
-      }
-    }
+    super.postLoad(root);
+    victimAssignment = root.findBySerial(victimAsgnRef, Assignment.class);
   }//</editor-fold>
 
 }
@@ -253,6 +253,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setEffectiveDateTime(DT value) {
+    markDirty();
     this.effectiveDateTime = value;
   }
 
@@ -292,6 +293,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setExpirationDateTime(DT value) {
+    markDirty();
     this.expirationDateTime = value;
   }
 
@@ -323,6 +325,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setReviewDate(D value) {
+    markDirty();
     this.reviewDate = value;
   }
 
@@ -352,6 +355,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setSeconds(MinSec value) {
+    markDirty();
     this.seconds = value;
   }
 
@@ -381,6 +385,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setMinutes(MinSec value) {
+    markDirty();
     this.minutes = value;
   }
 
@@ -410,6 +415,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setHours(Hours value) {
+    markDirty();
     this.hours = value;
   }
 
@@ -439,6 +445,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setDaysOfMonth(DaysOfMonth value) {
+    markDirty();
     this.daysOfMonth = value;
   }
 
@@ -468,6 +475,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setMonths(Months value) {
+    markDirty();
     this.months = value;
   }
 
@@ -497,6 +505,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setDaysOfWeek(DaysOfWeek value) {
+    markDirty();
     this.daysOfWeek = value;
   }
 
@@ -526,6 +535,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setYears(Years value) {
+    markDirty();
     this.years = value;
   }
 
@@ -597,6 +607,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public void setDuration(Duration_UN4 value) {
+    markDirty();
     this.duration = value;
   }
 
@@ -644,6 +655,7 @@ public class JRFL extends Common<JRFL> {
    * Clear the JRFLEntry field. This sets the field to null.
    */
   public void unsetJRFLEntry() {
+    markDirty();
     this.jrflEntry = null;
   }
 
@@ -865,6 +877,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public JRFL withJRFLEntry(JRFLEntry... values) {
+    markDirty();
     if (values != null) {
       getJRFLEntry().addAll(Arrays.asList(values));
     }
@@ -888,6 +901,7 @@ public class JRFL extends Common<JRFL> {
    * @since 3.1.0
    */
   public JRFL withJRFLEntry(Collection<JRFLEntry> values) {
+    markDirty();
     if (values != null) {
       getJRFLEntry().addAll(values);
     }
@@ -239,6 +239,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public void setKeyLoadProcedure(MEMO value) {
+    markDirty();
     this.keyLoadProcedure = value;
   }
 
@@ -270,6 +271,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public void setMaxActiveFrames(UN6 value) {
+    markDirty();
     this.maxActiveFrames = value;
   }
 
@@ -301,6 +303,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public void setMaxReactiveFrames(UN6 value) {
+    markDirty();
     this.maxReactiveFrames = value;
   }
 
@@ -330,6 +333,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public void setMission(S100 value) {
+    markDirty();
     this.mission = value;
   }
 
@@ -359,6 +363,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public void setName(S50 value) {
+    markDirty();
     this.name = value;
   }
 
@@ -390,6 +395,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public void setPrimaryFirmware(S50 value) {
+    markDirty();
     this.primaryFirmware = value;
   }
 
@@ -421,6 +427,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public void setResetProcedure(MEMO value) {
+    markDirty();
     this.resetProcedure = value;
   }
 
@@ -452,6 +459,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public void setSecondaryFirmware(S50 value) {
+    markDirty();
     this.secondaryFirmware = value;
   }
 
@@ -483,6 +491,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public void setSoftware(S50 value) {
+    markDirty();
     this.software = value;
   }
 
@@ -524,6 +533,7 @@ public class Loadset extends Common<Loadset> {
    * Clear the JammingChannelProfile field. This sets the field to null.
    */
   public void unsetJammingChannelProfile() {
+    markDirty();
     this.jammingChannelProfile = null;
   }
 
@@ -653,6 +663,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public Loadset withJammingChannelProfile(JammingChannelProfile... values) {
+    markDirty();
     if (values != null) {
       getJammingChannelProfile().addAll(Arrays.asList(values));
     }
@@ -670,6 +681,7 @@ public class Loadset extends Common<Loadset> {
    * @since 3.1.0
    */
   public Loadset withJammingChannelProfile(Collection<JammingChannelProfile> values) {
+    markDirty();
     if (values != null) {
       getJammingChannelProfile().addAll(values);
     }
@@ -309,6 +309,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setEffectiveDate(D value) {
+    markDirty();
     this.effectiveDate = value;
   }
 
@@ -340,6 +341,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setExpirationDate(D value) {
+    markDirty();
     this.expirationDate = value;
   }
 
@@ -379,6 +381,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setReviewDate(D value) {
+    markDirty();
     this.reviewDate = value;
   }
 
@@ -408,6 +411,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setName(S100 value) {
+    markDirty();
     this.name = value;
   }
 
@@ -437,6 +441,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setStreet(S255 value) {
+    markDirty();
     this.street = value;
   }
 
@@ -466,6 +471,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setCityArea(S50 value) {
+    markDirty();
     this.cityArea = value;
   }
 
@@ -495,6 +501,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setStateCounty(S50 value) {
+    markDirty();
     this.stateCounty = value;
   }
 
@@ -524,6 +531,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setPostCode(S15 value) {
+    markDirty();
     this.postCode = value;
   }
 
@@ -557,6 +565,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public void setCountry(TString value) {
+    markDirty();
     this.country = value;
   }
 
@@ -600,6 +609,7 @@ public class Location extends Common<Location> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    markDirty();
     this.pocInformation = null;
   }
 
@@ -633,6 +643,7 @@ public class Location extends Common<Location> {
    * Clear the Point field. This sets the field to null.
    */
   public void unsetPoint() {
+    markDirty();
     this.point = null;
   }
 
@@ -666,6 +677,7 @@ public class Location extends Common<Location> {
    * Clear the Polygon field. This sets the field to null.
    */
   public void unsetPolygon() {
+    markDirty();
     this.polygon = null;
   }
 
@@ -699,6 +711,7 @@ public class Location extends Common<Location> {
    * Clear the Ellipse field. This sets the field to null.
    */
   public void unsetEllipse() {
+    markDirty();
     this.ellipse = null;
   }
 
@@ -731,6 +744,7 @@ public class Location extends Common<Location> {
    * Clear the LocationRef field. This sets the field to null.
    */
   public void unsetLocationRef() {
+    markDirty();
     this.locationRef = null;
   }
 
@@ -903,6 +917,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPOCInformation(POCInformation... values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -920,6 +935,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPOCInformation(Collection<POCInformation> values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -938,6 +954,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPoint(Point... values) {
+    markDirty();
     if (values != null) {
       getPoint().addAll(Arrays.asList(values));
     }
@@ -956,6 +973,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPoint(Collection<Point> values) {
+    markDirty();
     if (values != null) {
       getPoint().addAll(values);
     }
@@ -974,6 +992,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPolygon(Polygon... values) {
+    markDirty();
     if (values != null) {
       getPolygon().addAll(Arrays.asList(values));
     }
@@ -992,6 +1011,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withPolygon(Collection<Polygon> values) {
+    markDirty();
     if (values != null) {
       getPolygon().addAll(values);
     }
@@ -1010,6 +1030,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withEllipse(Ellipse... values) {
+    markDirty();
     if (values != null) {
       getEllipse().addAll(Arrays.asList(values));
     }
@@ -1028,6 +1049,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withEllipse(Collection<Ellipse> values) {
+    markDirty();
     if (values != null) {
       getEllipse().addAll(values);
     }
@@ -1045,6 +1067,7 @@ public class Location extends Common<Location> {
    */
   @Deprecated
   public Location withLocationRef(Serial... values) {
+    markDirty();
     if (values != null) {
       getLocationRef().addAll(Arrays.asList(values));
     }
@@ -1062,6 +1085,7 @@ public class Location extends Common<Location> {
    */
   @Deprecated
   public Location withLocationRef(Collection<Serial> values) {
+    markDirty();
     if (values != null) {
       getLocationRef().addAll(values);
     }
@@ -1164,6 +1188,7 @@ public class Location extends Common<Location> {
    * @since 3.1.0
    */
   public Location withLocation(Collection<Location> values) {
+    markDirty();
     getLocation().addAll(values);
     return this;
   }
@@ -1200,12 +1225,14 @@ public class Location extends Common<Location> {
    */
   @Override
   public void postLoad(SSRF root) {
+    super.postLoad(root);
     if (locationRef == null || locationRef.isEmpty()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (locationRef.contains(instance.getSerial())) {
-        getLocation().add(instance);
+    for (Serial ref : locationRef) {
+      Location location = root.findBySerial(ref, Location.class);
+      if (location != null) {
+        getLocation().add(location);
       }
     }
   }//</editor-fold>
@@ -15,14 +15,12 @@
  */
 package us.gov.dod.standard.ssrf._3_1;
 
-import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
 import us.gov.dod.standard.ssrf.SSRF;
-import us.gov.dod.standard.ssrf.SSRFUtility;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S40;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -109,6 +107,7 @@ public class Message extends Common<Message> {
    * @since 3.1.0
    */
   public void setName(S40 value) {
+    markDirty();
     this.name = value;
   }
 
@@ -140,6 +139,7 @@ public class Message extends Common<Message> {
    * @since 3.1.0
    */
   public void setSecondaryDatasets(TString value) {
+    markDirty();
     this.secondaryDatasets = value;
   }
 
@@ -183,6 +183,7 @@ public class Message extends Common<Message> {
    * Clear the DatasetRef field. This sets the field to null.
    */
   public void unsetDatasetRef() {
+    markDirty();
     this.datasetRef = null;
   }
 
@@ -222,6 +223,7 @@ public class Message extends Common<Message> {
    */
   @Deprecated
   public Message withDatasetRef(Serial... values) {
+    markDirty();
     if (values != null) {
       getDatasetRef().addAll(Arrays.asList(values));
     }
@@ -239,6 +241,7 @@ public class Message extends Common<Message> {
    */
   @Deprecated
   public Message withDatasetRef(Collection<Serial> values) {
+    markDirty();
     if (values != null) {
       getDatasetRef().addAll(values);
     }
@@ -320,6 +323,7 @@ public class Message extends Common<Message> {
    * @since 3.1.0
    */
   public Message withData(Collection<Common<?>> values) {
+    markDirty();
     getData().addAll(values);
     return this;
   }
@@ -356,39 +360,14 @@ public class Message extends Common<Message> {
    */
   @Override
   public void postLoad(SSRF root) {
+    super.postLoad(root);
     if (datasetRef == null || datasetRef.isEmpty()) {
       return;
     }
-    /**
-     * Scan ALL the data lists in the SSRF (SchemaRoot) object.
-     */
-    for (Field field : SSRFUtility.findDeclaredAndInheritedFields(root.getClass())) {
-      try {
-        field.setAccessible(true);
-        /**
-         * Ignore fields that are NOT.
-         */
-        Object fieldValue = field.get(root);
-        if (fieldValue == null) {
-          continue;
-        }
-        System.out.println("field type " + field.getType().getSimpleName());
-        if (field.getType().getSuperclass().equals(Collection.class)) {
-          System.out.println("  superclass is a collection");
-        }
-        /**
-         * Only process field values that are instance of a collection.
-         */
-        if (fieldValue instanceof Collection) {
-          for (Object entry : (Iterable<? extends Object>) fieldValue) {
-            if (entry != null) {
-              if (datasetRef.contains(((Common<?>) entry).getSerial())) {
-                data.add((Common<?>) entry);
-              }
-            }
-          }
-        }
-      } catch (SecurityException | IllegalArgumentException | IllegalAccessException securityException) {
+    for (Serial ref : datasetRef) {
+      Common<?> dataset = root.findBySerial(ref, Common.class);
+      if (dataset != null) {
+        getData().add(dataset);
       }
     }
   }//</editor-fold>
@@ -134,6 +134,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setAdministration(TString value) {
+    markDirty();
     this.administration = value;
   }
 
@@ -165,6 +166,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setEffectiveDate(D value) {
+    markDirty();
     this.effectiveDate = value;
   }
 
@@ -194,6 +196,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setExpirationDate(D value) {
+    markDirty();
     this.expirationDate = value;
   }
 
@@ -223,6 +226,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setName(S100 value) {
+    markDirty();
     this.name = value;
   }
 
@@ -252,6 +256,7 @@ public class Note extends Common<Note> {
    * @since 3.1.0
    */
   public void setSource(S100 value) {
+    markDirty();
     this.source = value;
   }
 
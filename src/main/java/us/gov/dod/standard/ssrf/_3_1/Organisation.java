@@ -230,6 +230,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setEffectiveDate(D value) {
+    markDirty();
     this.effectiveDate = value;
   }
 
@@ -261,6 +262,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setExpirationDate(D value) {
+    markDirty();
     this.expirationDate = value;
   }
 
@@ -300,6 +302,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setReviewDate(D value) {
+    markDirty();
     this.reviewDate = value;
   }
 
@@ -329,6 +332,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setName(S100 value) {
+    markDirty();
     this.name = value;
   }
 
@@ -358,6 +362,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setAlternateName(S100 value) {
+    markDirty();
     this.alternateName = value;
   }
 
@@ -387,6 +392,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    markDirty();
     this.type = value;
   }
 
@@ -422,6 +428,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public void setUIC(S20 value) {
+    markDirty();
     this.uic = value;
   }
 
@@ -463,6 +470,7 @@ public class Organisation extends Common<Organisation> {
    * Clear the Address field. This sets the field to null.
    */
   public void unsetAddress() {
+    markDirty();
     this.address = null;
   }
 
@@ -495,6 +503,7 @@ public class Organisation extends Common<Organisation> {
    * Clear the TelephoneFax field. This sets the field to null.
    */
   public void unsetTelephoneFax() {
+    markDirty();
     this.telephoneFax = null;
   }
 
@@ -526,6 +535,7 @@ public class Organisation extends Common<Organisation> {
    * Clear the EMail field. This sets the field to null.
    */
   public void unsetEMail() {
+    markDirty();
     this.eMail = null;
   }
 
@@ -560,6 +570,7 @@ public class Organisation extends Common<Organisation> {
    * Clear the RoleRef field. This sets the field to null.
    */
   public void unsetRoleRef() {
+    markDirty();
     this.roleRef = null;
   }
 
@@ -593,6 +604,7 @@ public class Organisation extends Common<Organisation> {
    * Clear the RelatedOrganisation field. This sets the field to null.
    */
   public void unsetRelatedOrganisation() {
+    markDirty();
     this.relatedOrganisation = null;
   }
 
@@ -741,6 +753,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withAddress(Address... values) {
+    markDirty();
     if (values != null) {
       getAddress().addAll(Arrays.asList(values));
     }
@@ -758,6 +771,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withAddress(Collection<Address> values) {
+    markDirty();
     if (values != null) {
       getAddress().addAll(values);
     }
@@ -775,6 +789,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withTelephoneFax(TelephoneFax... values) {
+    markDirty();
     if (values != null) {
       getTelephoneFax().addAll(Arrays.asList(values));
     }
@@ -792,6 +807,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withTelephoneFax(Collection<TelephoneFax> values) {
+    markDirty();
     if (values != null) {
       getTelephoneFax().addAll(values);
     }
@@ -808,6 +824,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withEMail(EMail... values) {
+    markDirty();
     if (values != null) {
       getEMail().addAll(Arrays.asList(values));
     }
@@ -824,6 +841,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withEMail(Collection<EMail> values) {
+    markDirty();
     if (values != null) {
       getEMail().addAll(values);
     }
@@ -843,6 +861,7 @@ public class Organisation extends Common<Organisation> {
    */
   @Deprecated
   public Organisation withRoleRef(Serial... values) {
+    markDirty();
     if (values != null) {
       getRoleRef().addAll(Arrays.asList(values));
     }
@@ -862,6 +881,7 @@ public class Organisation extends Common<Organisation> {
    */
   @Deprecated
   public Organisation withRoleRef(Collection<Serial> values) {
+    markDirty();
     if (values != null) {
       getRoleRef().addAll(values);
     }
@@ -880,6 +900,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withRelatedOrganisation(RelatedOrganisation... values) {
+    markDirty();
     if (values != null) {
       getRelatedOrganisation().addAll(Arrays.asList(values));
     }
@@ -898,6 +919,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withRelatedOrganisation(Collection<RelatedOrganisation> values) {
+    markDirty();
     if (values != null) {
       getRelatedOrganisation().addAll(values);
     }
@@ -1001,6 +1023,7 @@ public class Organisation extends Common<Organisation> {
    * @since 3.1.0
    */
   public Organisation withRole(Collection<Role> values) {
+    markDirty();
     getRole().addAll(values);
     return this;
   }
@@ -1037,12 +1060,14 @@ public class Organisation extends Common<Organisation> {
    */
   @Override
   public void postLoad(SSRF root) {
+    super.postLoad(root);
     if (roleRef == null || roleRef.isEmpty()) {
       return;
     }
-    for (Role instance : root.getRole()) {
-      if (roleRef.contains(instance.getSerial())) {
-        getRole().add(instance);
+    for (Serial ref : roleRef) {
+      Role role = root.findBySerial(ref, Role.class);
+      if (role != null) {
+        getRole().add(role);
       }
     }
   }//</editor-fold>
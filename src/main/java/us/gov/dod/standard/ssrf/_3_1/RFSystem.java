@@ -227,6 +227,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public void setFieldedStatus(TString value) {
+    markDirty();
     this.fieldedStatus = value;
   }
 
@@ -258,6 +259,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public void setEmergency(TString value) {
+    markDirty();
     this.emergency = value;
   }
 
@@ -289,6 +291,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public void setInitialCost(S70 value) {
+    markDirty();
     this.initialCost = value;
   }
 
@@ -330,6 +333,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    markDirty();
     this.pocInformation = null;
   }
 
@@ -364,6 +368,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    markDirty();
     this.nomenclature = null;
   }
 
@@ -400,6 +405,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the Deployment field. This sets the field to null.
    */
   public void unsetDeployment() {
+    markDirty();
     this.deployment = null;
   }
 
@@ -438,6 +444,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the Configuration field. This sets the field to null.
    */
   public void unsetConfiguration() {
+    markDirty();
     this.configuration = null;
   }
 
@@ -470,6 +477,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the RelatedSystem field. This sets the field to null.
    */
   public void unsetRelatedSystem() {
+    markDirty();
     this.relatedSystem = null;
   }
 
@@ -502,6 +510,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the StockNum field. This sets the field to null.
    */
   public void unsetStockNum() {
+    markDirty();
     this.stockNum = null;
   }
 
@@ -534,6 +543,7 @@ public class RFSystem extends Common<RFSystem> {
    * Clear the UsingCountries field. This sets the field to null.
    */
   public void unsetUsingCountries() {
+    markDirty();
     this.usingCountries = null;
   }
 
@@ -584,6 +594,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withPOCInformation(POCInformation... values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -601,6 +612,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withPOCInformation(Collection<POCInformation> values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -620,6 +632,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withNomenclature(Nomenclature... values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -639,6 +652,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withNomenclature(Collection<Nomenclature> values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -660,6 +674,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withDeployment(Deployment... values) {
+    markDirty();
     if (values != null) {
       getDeployment().addAll(Arrays.asList(values));
     }
@@ -681,6 +696,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withDeployment(Collection<Deployment> values) {
+    markDirty();
     if (values != null) {
       getDeployment().addAll(values);
     }
@@ -704,6 +720,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withConfiguration(Configuration... values) {
+    markDirty();
     if (values != null) {
       getConfiguration().addAll(Arrays.asList(values));
     }
@@ -727,6 +744,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withConfiguration(Collection<Configuration> values) {
+    markDirty();
     if (values != null) {
       getConfiguration().addAll(values);
     }
@@ -744,6 +762,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withRelatedSystem(RelatedSystem... values) {
+    markDirty();
     if (values != null) {
       getRelatedSystem().addAll(Arrays.asList(values));
     }
@@ -761,6 +780,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withRelatedSystem(Collection<RelatedSystem> values) {
+    markDirty();
     if (values != null) {
       getRelatedSystem().addAll(values);
     }
@@ -778,6 +798,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withStockNum(StockNum... values) {
+    markDirty();
     if (values != null) {
       getStockNum().addAll(Arrays.asList(values));
     }
@@ -795,6 +816,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withStockNum(Collection<StockNum> values) {
+    markDirty();
     if (values != null) {
       getStockNum().addAll(values);
     }
@@ -812,6 +834,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withUsingCountries(UsingCountries... values) {
+    markDirty();
     if (values != null) {
       getUsingCountries().addAll(Arrays.asList(values));
     }
@@ -829,6 +852,7 @@ public class RFSystem extends Common<RFSystem> {
    * @since 3.1.0
    */
   public RFSystem withUsingCountries(Collection<UsingCountries> values) {
+    markDirty();
     if (values != null) {
       getUsingCountries().addAll(values);
     }
@@ -244,6 +244,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    markDirty();
     this.freqMax = value;
   }
 
@@ -273,6 +274,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    markDirty();
     this.freqMin = value;
   }
 
@@ -304,6 +306,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public void setJCALevel(UN2 value) {
+    markDirty();
     this.jcaLevel = value;
   }
 
@@ -339,6 +342,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    */
   @Deprecated
   public void setLocationRef(Serial value) {
+    markDirty();
     this.locationRef = value;
   }
 
@@ -370,6 +374,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public void setName(S100 value) {
+    markDirty();
     this.name = value;
   }
 
@@ -399,6 +404,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public void setStartDateTime(DT value) {
+    markDirty();
     this.startDateTime = value;
   }
 
@@ -428,6 +434,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public void setStopDateTime(DT value) {
+    markDirty();
     this.stopDateTime = value;
   }
 
@@ -457,6 +464,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public void setVersion(S10 value) {
+    markDirty();
     this.version = value;
   }
 
@@ -499,6 +507,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * Clear the JammingAuthority field. This sets the field to null.
    */
   public void unsetJammingAuthority() {
+    markDirty();
     this.jammingAuthority = null;
   }
 
@@ -531,6 +540,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * Clear the JammingPlan field. This sets the field to null.
    */
   public void unsetJammingPlan() {
+    markDirty();
     this.jammingPlan = null;
   }
 
@@ -673,6 +683,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public RadiationPlan withJammingAuthority(JammingAuthority... values) {
+    markDirty();
     if (values != null) {
       getJammingAuthority().addAll(Arrays.asList(values));
     }
@@ -691,6 +702,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public RadiationPlan withJammingAuthority(Collection<JammingAuthority> values) {
+    markDirty();
     if (values != null) {
       getJammingAuthority().addAll(values);
     }
@@ -708,6 +720,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public RadiationPlan withJammingPlan(JammingPlan... values) {
+    markDirty();
     if (values != null) {
       getJammingPlan().addAll(Arrays.asList(values));
     }
@@ -725,6 +738,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public RadiationPlan withJammingPlan(Collection<JammingPlan> values) {
+    markDirty();
     if (values != null) {
       getJammingPlan().addAll(values);
     }
@@ -809,6 +823,7 @@ public class RadiationPlan extends Common<RadiationPlan> {
    * @since 3.1.0
    */
   public RadiationPlan withLocation(Location value) {
+    markDirty();
     this.location = value;
     return this;
   }
@@ -842,15 +857,8 @@ public class RadiationPlan extends Common<RadiationPlan> {
    */
   @Override
   public void postLoad(SSRF root) {
-    if (locationRef == null || !locationRef.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (locationRef.equals(instance.getSerial())) {
-        location = instance;
-        return;
-      }
-    }
+    super.postLoad(root);
+    location = root.findBySerial(locationRef, Location.class);
   }//</editor-fold>
 
 }
@@ -264,6 +264,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setGeneric(TString value) {
+    markDirty();
     this.generic = value;
   }
 
@@ -295,6 +296,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setDuplexSep(FreqM value) {
+    markDirty();
     this.duplexSep = value;
   }
 
@@ -326,6 +328,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setDuplexSepType(TString value) {
+    markDirty();
     this.duplexSepType = value;
   }
 
@@ -357,6 +360,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setPreselectionType(S60 value) {
+    markDirty();
     this.preselectionType = value;
   }
 
@@ -388,6 +392,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setConductedEmissions(US_DBm value) {
+    markDirty();
     this.conductedEmissions = value;
   }
 
@@ -419,6 +424,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setFCCAcceptanceNum(S50 value) {
+    markDirty();
     this.fccAcceptanceNum = value;
   }
 
@@ -454,6 +460,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public void setTSPR(S10 value) {
+    markDirty();
     this.tspr = value;
   }
 
@@ -495,6 +502,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    markDirty();
     this.pocInformation = null;
   }
 
@@ -529,6 +537,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    markDirty();
     this.nomenclature = null;
   }
 
@@ -565,6 +574,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the Deployment field. This sets the field to null.
    */
   public void unsetDeployment() {
+    markDirty();
     this.deployment = null;
   }
 
@@ -600,6 +610,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the Curve field. This sets the field to null.
    */
   public void unsetCurve() {
+    markDirty();
     this.curve = null;
   }
 
@@ -632,6 +643,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the RxMode field. This sets the field to null.
    */
   public void unsetRxMode() {
+    markDirty();
     this.rxMode = null;
   }
 
@@ -664,6 +676,7 @@ public class Receiver extends Common<Receiver> {
    * Clear the UsingCountries field. This sets the field to null.
    */
   public void unsetUsingCountries() {
+    markDirty();
     this.usingCountries = null;
   }
 
@@ -770,6 +783,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withPOCInformation(POCInformation... values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -787,6 +801,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withPOCInformation(Collection<POCInformation> values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -806,6 +821,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withNomenclature(Nomenclature... values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -825,6 +841,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withNomenclature(Collection<Nomenclature> values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -846,6 +863,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withDeployment(Deployment... values) {
+    markDirty();
     if (values != null) {
       getDeployment().addAll(Arrays.asList(values));
     }
@@ -867,6 +885,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withDeployment(Collection<Deployment> values) {
+    markDirty();
     if (values != null) {
       getDeployment().addAll(values);
     }
@@ -887,6 +906,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withCurve(Curve... values) {
+    markDirty();
     if (values != null) {
       getCurve().addAll(Arrays.asList(values));
     }
@@ -907,6 +927,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withCurve(Collection<Curve> values) {
+    markDirty();
     if (values != null) {
       getCurve().addAll(values);
     }
@@ -924,6 +945,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withRxMode(RxMode... values) {
+    markDirty();
     if (values != null) {
       getRxMode().addAll(Arrays.asList(values));
     }
@@ -941,6 +963,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withRxMode(Collection<RxMode> values) {
+    markDirty();
     if (values != null) {
       getRxMode().addAll(values);
     }
@@ -958,6 +981,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withUsingCountries(UsingCountries... values) {
+    markDirty();
     if (values != null) {
       getUsingCountries().addAll(Arrays.asList(values));
     }
@@ -975,6 +999,7 @@ public class Receiver extends Common<Receiver> {
    * @since 3.1.0
    */
   public Receiver withUsingCountries(Collection<UsingCountries> values) {
+    markDirty();
     if (values != null) {
       getUsingCountries().addAll(values);
     }
@@ -195,6 +195,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public void setEffectiveDate(D value) {
+    markDirty();
     this.effectiveDate = value;
   }
 
@@ -226,6 +227,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public void setExpirationDate(D value) {
+    markDirty();
     this.expirationDate = value;
   }
 
@@ -265,6 +267,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public void setReviewDate(D value) {
+    markDirty();
     this.reviewDate = value;
   }
 
@@ -296,6 +299,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public void setName(S50 value) {
+    markDirty();
     this.name = value;
   }
 
@@ -333,6 +337,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public void setCountry(TString value) {
+    markDirty();
     this.country = value;
   }
 
@@ -376,6 +381,7 @@ public class Role extends Common<Role> {
    * Clear the Address field. This sets the field to null.
    */
   public void unsetAddress() {
+    markDirty();
     this.address = null;
   }
 
@@ -408,6 +414,7 @@ public class Role extends Common<Role> {
    * Clear the TelephoneFax field. This sets the field to null.
    */
   public void unsetTelephoneFax() {
+    markDirty();
     this.telephoneFax = null;
   }
 
@@ -439,6 +446,7 @@ public class Role extends Common<Role> {
    * Clear the EMail field. This sets the field to null.
    */
   public void unsetEMail() {
+    markDirty();
     this.eMail = null;
   }
 
@@ -473,6 +481,7 @@ public class Role extends Common<Role> {
    * Clear the ContactRef field. This sets the field to null.
    */
   public void unsetContactRef() {
+    markDirty();
     this.contactRef = null;
   }
 
@@ -600,6 +609,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withAddress(Address... values) {
+    markDirty();
     if (values != null) {
       getAddress().addAll(Arrays.asList(values));
     }
@@ -617,6 +627,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withAddress(Collection<Address> values) {
+    markDirty();
     if (values != null) {
       getAddress().addAll(values);
     }
@@ -634,6 +645,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withTelephoneFax(TelephoneFax... values) {
+    markDirty();
     if (values != null) {
       getTelephoneFax().addAll(Arrays.asList(values));
     }
@@ -651,6 +663,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withTelephoneFax(Collection<TelephoneFax> values) {
+    markDirty();
     if (values != null) {
       getTelephoneFax().addAll(values);
     }
@@ -667,6 +680,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withEMail(EMail... values) {
+    markDirty();
     if (values != null) {
       getEMail().addAll(Arrays.asList(values));
     }
@@ -683,6 +697,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withEMail(Collection<EMail> values) {
+    markDirty();
     if (values != null) {
       getEMail().addAll(values);
     }
@@ -702,6 +717,7 @@ public class Role extends Common<Role> {
    */
   @Deprecated
   public Role withContactRef(Serial... values) {
+    markDirty();
     if (values != null) {
       getContactRef().addAll(Arrays.asList(values));
     }
@@ -721,6 +737,7 @@ public class Role extends Common<Role> {
    */
   @Deprecated
   public Role withContactRef(Collection<Serial> values) {
+    markDirty();
     if (values != null) {
       getContactRef().addAll(values);
     }
@@ -822,6 +839,7 @@ public class Role extends Common<Role> {
    * @since 3.1.0
    */
   public Role withContact(Collection<Contact> values) {
+    markDirty();
     getContact().addAll(values);
     return this;
   }
@@ -858,12 +876,14 @@ public class Role extends Common<Role> {
    */
   @Override
   public void postLoad(SSRF root) {
+    super.postLoad(root);
     if (contactRef == null || contactRef.isEmpty()) {
       return;
     }
-    for (Contact instance : root.getContact()) {
-      if (contactRef.contains(instance.getSerial())) {
-        getContact().add(instance);
+    for (Serial ref : contactRef) {
+      Contact contact = root.findBySerial(ref, Contact.class);
+      if (contact != null) {
+        getContact().add(contact);
       }
     }
   }//</editor-fold>
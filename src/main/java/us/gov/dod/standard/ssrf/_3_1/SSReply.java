@@ -316,6 +316,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setSSRequestRef(Serial value) {
+    markDirty();
     this.ssRequestRef = value;
   }
 
@@ -345,6 +346,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setReplyingCountry(TString value) {
+    markDirty();
     this.replyingCountry = value;
   }
 
@@ -386,6 +388,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setSupportabilityCode(TString value) {
+    markDirty();
     this.supportabilityCode = value;
   }
 
@@ -417,6 +420,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setDateReceivedByCountry(D value) {
+    markDirty();
     this.dateReceivedByCountry = value;
   }
 
@@ -446,6 +450,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setEffectiveDate(D value) {
+    markDirty();
     this.effectiveDate = value;
   }
 
@@ -477,6 +482,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setExpirationDate(D value) {
+    markDirty();
     this.expirationDate = value;
   }
 
@@ -516,6 +522,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setReviewDate(D value) {
+    markDirty();
     this.reviewDate = value;
   }
 
@@ -549,6 +556,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setApprovalSPSNum(S11 value) {
+    markDirty();
     this.approvalSPSNum = value;
   }
 
@@ -584,6 +592,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setERPNumber(S50 value) {
+    markDirty();
     this.erpNumber = value;
   }
 
@@ -615,6 +624,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setFASNumber(S50 value) {
+    markDirty();
     this.fasNumber = value;
   }
 
@@ -648,6 +658,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setIRACNumber(S50 value) {
+    markDirty();
     this.iracNumber = value;
   }
 
@@ -677,6 +688,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setReplyingAuthority(S100 value) {
+    markDirty();
     this.replyingAuthority = value;
   }
 
@@ -708,6 +720,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setDistributionGroups(S20 value) {
+    markDirty();
     this.distributionGroups = value;
   }
 
@@ -747,6 +760,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public void setCoordinationNum(S15 value) {
+    markDirty();
     this.coordinationNum = value;
   }
 
@@ -788,6 +802,7 @@ public class SSReply extends Common<SSReply> {
    * Clear the CommentSource field. This sets the field to null.
    */
   public void unsetCommentSource() {
+    markDirty();
     this.commentSource = null;
   }
 
@@ -820,6 +835,7 @@ public class SSReply extends Common<SSReply> {
    * Clear the StageLocation field. This sets the field to null.
    */
   public void unsetStageLocation() {
+    markDirty();
     this.stageLocation = null;
   }
 
@@ -858,6 +874,7 @@ public class SSReply extends Common<SSReply> {
    * Clear the Configuration field. This sets the field to null.
    */
   public void unsetConfiguration() {
+    markDirty();
     this.configuration = null;
   }
 
@@ -1119,6 +1136,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withCommentSource(CommentSource... values) {
+    markDirty();
     if (values != null) {
       getCommentSource().addAll(Arrays.asList(values));
     }
@@ -1136,6 +1154,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withCommentSource(Collection<CommentSource> values) {
+    markDirty();
     if (values != null) {
       getCommentSource().addAll(values);
     }
@@ -1153,6 +1172,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withStageLocation(StageLocation... values) {
+    markDirty();
     if (values != null) {
       getStageLocation().addAll(Arrays.asList(values));
     }
@@ -1170,6 +1190,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withStageLocation(Collection<StageLocation> values) {
+    markDirty();
     if (values != null) {
       getStageLocation().addAll(values);
     }
@@ -1193,6 +1214,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withConfiguration(Configuration... values) {
+    markDirty();
     if (values != null) {
       getConfiguration().addAll(Arrays.asList(values));
     }
@@ -1216,6 +1238,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withConfiguration(Collection<Configuration> values) {
+    markDirty();
     if (values != null) {
       getConfiguration().addAll(values);
     }
@@ -1308,6 +1331,7 @@ public class SSReply extends Common<SSReply> {
    * @since 3.1.0
    */
   public SSReply withSsRequest(SSRequest value) {
+    markDirty();
     this.ssRequest = value;
     return this;
   }
@@ -1341,15 +1365,8 @@ public class SSReply extends Common<SSReply> {
    */
   @Override
   public void postLoad(SSRF root) {
-    if (ssRequestRef == null || !ssRequestRef.isSetValue()) {
-      return;
-    }
-    for (SSRequest instance : root.getSSRequest()) {
-      if (ssRequestRef.equals(instance.getSerial())) {
-        ssRequest = instance;
-        return;
-      }
-    }
+    super.postLoad(root);
+    ssRequest = root.findBySerial(ssRequestRef, SSRequest.class);
   }//</editor-fold>
 
 }
@@ -567,6 +567,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setTitle(S100 value) {
+    markDirty();
     this.title = value;
   }
 
@@ -596,6 +597,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setCurrentStage(TString value) {
+    markDirty();
     this.currentStage = value;
   }
 
@@ -639,6 +641,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setRequirement(MEMO value) {
+    markDirty();
     this.requirement = value;
   }
 
@@ -668,6 +671,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setEmergency(TString value) {
+    markDirty();
     this.emergency = value;
   }
 
@@ -701,6 +705,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setNumMobileUnits(UN9 value) {
+    markDirty();
     this.numMobileUnits = value;
   }
 
@@ -750,6 +755,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setNumAreaUnits(UN9 value) {
+    markDirty();
     this.numAreaUnits = value;
   }
 
@@ -783,6 +789,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setNumCositedUnits(UN9 value) {
+    markDirty();
     this.numCositedUnits = value;
   }
 
@@ -814,6 +821,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setApplicationDate(D value) {
+    markDirty();
     this.applicationDate = value;
   }
 
@@ -847,6 +855,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setDateResponseRequired(D value) {
+    markDirty();
     this.dateResponseRequired = value;
   }
 
@@ -876,6 +885,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setReplacementInfo(MEMO value) {
+    markDirty();
     this.replacementInfo = value;
   }
 
@@ -909,6 +919,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setApplicationSPSNumber(S11 value) {
+    markDirty();
     this.applicationSPSNumber = value;
   }
 
@@ -948,6 +959,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setCoordinationNum(S15 value) {
+    markDirty();
     this.coordinationNum = value;
   }
 
@@ -979,6 +991,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setInfoTransferRequirement(MEMO value) {
+    markDirty();
     this.infoTransferRequirement = value;
   }
 
@@ -1008,6 +1021,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setInitialCost(S70 value) {
+    markDirty();
     this.initialCost = value;
   }
 
@@ -1039,6 +1053,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setInitialCostDesc(MEMO value) {
+    markDirty();
     this.initialCostDesc = value;
   }
 
@@ -1070,6 +1085,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setITUWaiver(TString value) {
+    markDirty();
     this.ituWaiver = value;
   }
 
@@ -1108,6 +1124,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setNTIACoordinationRequired(TString value) {
+    markDirty();
     this.ntiaCoordinationRequired = value;
   }
 
@@ -1141,6 +1158,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setNTIASpaceData(MEMO value) {
+    markDirty();
     this.ntiaSpaceData = value;
   }
 
@@ -1170,6 +1188,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setOperInvIntent(TString value) {
+    markDirty();
     this.operInvIntent = value;
   }
 
@@ -1201,6 +1220,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setOriginatingAgency(S80 value) {
+    markDirty();
     this.originatingAgency = value;
   }
 
@@ -1232,6 +1252,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setRequestType(S50 value) {
+    markDirty();
     this.requestType = value;
   }
 
@@ -1267,6 +1288,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setRelatedAnalysisAndTestData(MEMO value) {
+    markDirty();
     this.relatedAnalysisAndTestData = value;
   }
 
@@ -1296,6 +1318,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setSysRelationEssential(MEMO value) {
+    markDirty();
     this.sysRelationEssential = value;
   }
 
@@ -1331,6 +1354,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setTSPR(S10 value) {
+    markDirty();
     this.tspr = value;
   }
 
@@ -1360,6 +1384,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setWartimeUse(TString value) {
+    markDirty();
     this.wartimeUse = value;
   }
 
@@ -1403,6 +1428,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the Project field. This sets the field to null.
    */
   public void unsetProject() {
+    markDirty();
     this.project = null;
   }
 
@@ -1432,6 +1458,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the Stage field. This sets the field to null.
    */
   public void unsetStage() {
+    markDirty();
     this.stage = null;
   }
 
@@ -1466,6 +1493,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    markDirty();
     this.nomenclature = null;
   }
 
@@ -1498,6 +1526,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    markDirty();
     this.pocInformation = null;
   }
 
@@ -1530,6 +1559,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the RelatedSupportability field. This sets the field to null.
    */
   public void unsetRelatedSupportability() {
+    markDirty();
     this.relatedSupportability = null;
   }
 
@@ -1564,6 +1594,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the HostNation field. This sets the field to null.
    */
   public void unsetHostNation() {
+    markDirty();
     this.hostNation = null;
   }
 
@@ -1593,6 +1624,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the Time field. This sets the field to null.
    */
   public void unsetTime() {
+    markDirty();
     this.time = null;
   }
 
@@ -1625,6 +1657,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the DiagramEndpoint field. This sets the field to null.
    */
   public void unsetDiagramEndpoint() {
+    markDirty();
     this.diagramEndpoint = null;
   }
 
@@ -1657,6 +1690,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the DiagramLine field. This sets the field to null.
    */
   public void unsetDiagramLine() {
+    markDirty();
     this.diagramLine = null;
   }
 
@@ -1692,6 +1726,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the Configuration field. This sets the field to null.
    */
   public void unsetConfiguration() {
+    markDirty();
     this.configuration = null;
   }
 
@@ -1724,6 +1759,7 @@ public class SSRequest extends Common<SSRequest> {
    * Clear the StatusLog field. This sets the field to null.
    */
   public void unsetStatusLog() {
+    markDirty();
     this.statusLog = null;
   }
 
@@ -1752,6 +1788,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public void setTrunking(Trunking value) {
+    markDirty();
     this.trunking = value;
   }
 
@@ -2148,6 +2185,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withProject(Project... values) {
+    markDirty();
     if (values != null) {
       getProject().addAll(Arrays.asList(values));
     }
@@ -2165,6 +2203,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withProject(Collection<Project> values) {
+    markDirty();
     if (values != null) {
       getProject().addAll(values);
     }
@@ -2179,6 +2218,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withStage(Stage... values) {
+    markDirty();
     if (values != null) {
       getStage().addAll(Arrays.asList(values));
     }
@@ -2193,6 +2233,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withStage(Collection<Stage> values) {
+    markDirty();
     if (values != null) {
       getStage().addAll(values);
     }
@@ -2212,6 +2253,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withNomenclature(Nomenclature... values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -2231,6 +2273,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withNomenclature(Collection<Nomenclature> values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -2248,6 +2291,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withPOCInformation(POCInformation... values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -2265,6 +2309,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withPOCInformation(Collection<POCInformation> values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -2283,6 +2328,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withRelatedSupportability(RelatedSupportability... values) {
+    markDirty();
     if (values != null) {
       getRelatedSupportability().addAll(Arrays.asList(values));
     }
@@ -2300,6 +2346,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withRelatedSupportability(Collection<RelatedSupportability> values) {
+    markDirty();
     if (values != null) {
       getRelatedSupportability().addAll(values);
     }
@@ -2319,6 +2366,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withHostNation(HostNation... values) {
+    markDirty();
     if (values != null) {
       getHostNation().addAll(Arrays.asList(values));
     }
@@ -2338,6 +2386,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withHostNation(Collection<HostNation> values) {
+    markDirty();
     if (values != null) {
       getHostNation().addAll(values);
     }
@@ -2352,6 +2401,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withTime(Time... values) {
+    markDirty();
     if (values != null) {
       getTime().addAll(Arrays.asList(values));
     }
@@ -2366,6 +2416,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withTime(Collection<Time> values) {
+    markDirty();
     if (values != null) {
       getTime().addAll(values);
     }
@@ -2383,6 +2434,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withDiagramEndpoint(DiagramEndpoint... values) {
+    markDirty();
     if (values != null) {
       getDiagramEndpoint().addAll(Arrays.asList(values));
     }
@@ -2400,6 +2452,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withDiagramEndpoint(Collection<DiagramEndpoint> values) {
+    markDirty();
     if (values != null) {
       getDiagramEndpoint().addAll(values);
     }
@@ -2417,6 +2470,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withDiagramLine(DiagramLine... values) {
+    markDirty();
     if (values != null) {
       getDiagramLine().addAll(Arrays.asList(values));
     }
@@ -2434,6 +2488,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withDiagramLine(Collection<DiagramLine> values) {
+    markDirty();
     if (values != null) {
       getDiagramLine().addAll(values);
     }
@@ -2454,6 +2509,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withConfiguration(Configuration... values) {
+    markDirty();
     if (values != null) {
       getConfiguration().addAll(Arrays.asList(values));
     }
@@ -2474,6 +2530,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withConfiguration(Collection<Configuration> values) {
+    markDirty();
     if (values != null) {
       getConfiguration().addAll(values);
     }
@@ -2491,6 +2548,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withStatusLog(StatusLog... values) {
+    markDirty();
     if (values != null) {
       getStatusLog().addAll(Arrays.asList(values));
     }
@@ -2508,6 +2566,7 @@ public class SSRequest extends Common<SSRequest> {
    * @since 3.1.0
    */
   public SSRequest withStatusLog(Collection<StatusLog> values) {
+    markDirty();
     if (values != null) {
       getStatusLog().addAll(values);
     }
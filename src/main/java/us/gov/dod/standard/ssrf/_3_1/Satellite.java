@@ -352,6 +352,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setReviewDate(D value) {
+    markDirty();
     this.reviewDate = value;
   }
 
@@ -387,6 +388,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setCallSign(S20 value) {
+    markDirty();
     this.callSign = value;
   }
 
@@ -416,6 +418,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setOrbitType(TString value) {
+    markDirty();
     this.orbitType = value;
   }
 
@@ -447,6 +450,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setLaunchStatus(TString value) {
+    markDirty();
     this.launchStatus = value;
   }
 
@@ -486,6 +490,7 @@ public class Satellite extends Common<Satellite> {
    */
   @Deprecated
   public void setLaunchLocRef(Serial value) {
+    markDirty();
     this.launchLocRef = value;
   }
 
@@ -515,6 +520,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setLaunchDate(D value) {
+    markDirty();
     this.launchDate = value;
   }
 
@@ -546,6 +552,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setGeoNominalLon(Lon value) {
+    markDirty();
     this.geoNominalLon = value;
   }
 
@@ -577,6 +584,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setGeoAltitude(DistSpace value) {
+    markDirty();
     this.geoAltitude = value;
   }
 
@@ -608,6 +616,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNonGeoPeriod(minutes value) {
+    markDirty();
     this.nonGeoPeriod = value;
   }
 
@@ -639,6 +648,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNonGeoNumSatellites(UN4 value) {
+    markDirty();
     this.nonGeoNumSatellites = value;
   }
 
@@ -670,6 +680,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNonGeoApogee(DistSpace value) {
+    markDirty();
     this.nonGeoApogee = value;
   }
 
@@ -701,6 +712,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNonGeoPerigee(DistSpace value) {
+    markDirty();
     this.nonGeoPerigee = value;
   }
 
@@ -732,6 +744,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNonGeoInclination(Elev value) {
+    markDirty();
     this.nonGeoInclination = value;
   }
 
@@ -761,6 +774,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setInternationalDesignator(S20 value) {
+    markDirty();
     this.internationalDesignator = value;
   }
 
@@ -790,6 +804,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setObjectNum(S20 value) {
+    markDirty();
     this.objectNum = value;
   }
 
@@ -819,6 +834,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setAdministration(S100 value) {
+    markDirty();
     this.administration = value;
   }
 
@@ -848,6 +864,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public void setNetworkName(S50 value) {
+    markDirty();
     this.networkName = value;
   }
 
@@ -889,6 +906,7 @@ public class Satellite extends Common<Satellite> {
    * Clear the RFSystemRef field. This sets the field to null.
    */
   public void unsetRFSystemRef() {
+    markDirty();
     this.rfSystemRef = null;
   }
 
@@ -921,6 +939,7 @@ public class Satellite extends Common<Satellite> {
    * Clear the EarthStation field. This sets the field to null.
    */
   public void unsetEarthStation() {
+    markDirty();
     this.earthStation = null;
   }
 
@@ -953,6 +972,7 @@ public class Satellite extends Common<Satellite> {
    * Clear the ServiceArea field. This sets the field to null.
    */
   public void unsetServiceArea() {
+    markDirty();
     this.serviceArea = null;
   }
 
@@ -987,6 +1007,7 @@ public class Satellite extends Common<Satellite> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    markDirty();
     this.nomenclature = null;
   }
 
@@ -1266,6 +1287,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withRFSystemRef(Serial... values) {
+    markDirty();
     if (values != null) {
       getRFSystemRef().addAll(Arrays.asList(values));
     }
@@ -1283,6 +1305,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withRFSystemRef(Collection<Serial> values) {
+    markDirty();
     if (values != null) {
       getRFSystemRef().addAll(values);
     }
@@ -1300,6 +1323,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withEarthStation(EarthStation... values) {
+    markDirty();
     if (values != null) {
       getEarthStation().addAll(Arrays.asList(values));
     }
@@ -1317,6 +1341,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withEarthStation(Collection<EarthStation> values) {
+    markDirty();
     if (values != null) {
       getEarthStation().addAll(values);
     }
@@ -1334,6 +1359,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withServiceArea(ServiceArea... values) {
+    markDirty();
     if (values != null) {
       getServiceArea().addAll(Arrays.asList(values));
     }
@@ -1351,6 +1377,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withServiceArea(Collection<ServiceArea> values) {
+    markDirty();
     if (values != null) {
       getServiceArea().addAll(values);
     }
@@ -1370,6 +1397,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withNomenclature(Nomenclature... values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -1389,6 +1417,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withNomenclature(Collection<Nomenclature> values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -1485,6 +1514,7 @@ public class Satellite extends Common<Satellite> {
    * @since 3.1.0
    */
   public Satellite withLaunchLoc(Location value) {
+    markDirty();
     this.launchLoc = value;
     return this;
   }
@@ -1518,15 +1548,8 @@ public class Satellite extends Common<Satellite> {
    */
   @Override
   public void postLoad(SSRF root) {
-    if (launchLocRef == null || !launchLocRef.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (launchLocRef.equals(instance.getSerial())) {
-        launchLoc = instance;
-        return;
-      }
-    }
+    super.postLoad(root);
+    launchLoc = root.findBySerial(launchLocRef, Location.class);
   }//</editor-fold>
 
 }
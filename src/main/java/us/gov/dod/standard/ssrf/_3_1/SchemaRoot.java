@@ -1549,6 +1549,168 @@ public abstract class SchemaRoot<T> {
     return (T) this;
   }
 
+  /**
+   * Add all of the data sets configured in another SchemaRoot instance to this
+   * instance.
+   * <p>
+   * This is used to assemble a single SSRF message from several partial
+   * messages (e.g. when a large document is read in parallel). The data set
+   * instances are shared, not copied.
+   *
+   * @param source the SchemaRoot instance from which to copy data sets
+   * @return The current SchemaRoot object instance
+   * @since 3.1.0
+   */
+  public T merge(SchemaRoot<?> source) {
+    if (source == null) {
+      return (T) this;
+    }
+    if (source.contact != null) {
+      getContact().addAll(source.contact);
+    }
+    if (source.role != null) {
+      getRole().addAll(source.role);
+    }
+    if (source.organisation != null) {
+      getOrganisation().addAll(source.organisation);
+    }
+    if (source.externalReference != null) {
+      getExternalReference().addAll(source.externalReference);
+    }
+    if (source.administrative != null) {
+      getAdministrative().addAll(source.administrative);
+    }
+    if (source.location != null) {
+      getLocation().addAll(source.location);
+    }
+    if (source.channelPlan != null) {
+      getChannelPlan().addAll(source.channelPlan);
+    }
+    if (source.toa != null) {
+      getTOA().addAll(source.toa);
+    }
+    if (source.transmitter != null) {
+      getTransmitter().addAll(source.transmitter);
+    }
+    if (source.receiver != null) {
+      getReceiver().addAll(source.receiver);
+    }
+    if (source.antenna != null) {
+      getAntenna().addAll(source.antenna);
+    }
+    if (source.rfSystem != null) {
+      getRFSystem().addAll(source.rfSystem);
+    }
+    if (source.ssRequest != null) {
+      getSSRequest().addAll(source.ssRequest);
+    }
+    if (source.ssReply != null) {
+      getSSReply().addAll(source.ssReply);
+    }
+    if (source.allotment != null) {
+      getAllotment().addAll(source.allotment);
+    }
+    if (source.assignment != null) {
+      getAssignment().addAll(source.assignment);
+    }
+    if (source.satellite != null) {
+      getSatellite().addAll(source.satellite);
+    }
+    if (source.intfReport != null) {
+      getIntfReport().addAll(source.intfReport);
+    }
+    if (source.jrfl != null) {
+      getJRFL().addAll(source.jrfl);
+    }
+    if (source.forceElement != null) {
+      getForceElement().addAll(source.forceElement);
+    }
+    if (source.feDeployment != null) {
+      getFEDeployment().addAll(source.feDeployment);
+    }
+    if (source.message != null) {
+      getMessage().addAll(source.message);
+    }
+    if (source.note != null) {
+      getNote().addAll(source.note);
+    }
+    if (source.loadset != null) {
+      getLoadset().addAll(source.loadset);
+    }
+    if (source.radiationPlan != null) {
+      getRadiationPlan().addAll(source.radiationPlan);
+    }
+    return (T) this;
+  }
+
+  /**
+   * Add a data set to the collection of its type.
+   * <p>
+   * This is used to assemble a SSRF message from data sets read individually
+   * (e.g. when streaming) without inspecting their type.
+   *
+   * @param dataset the SSRF data set instance (e.g. Assignment)
+   * @return The current SchemaRoot object instance
+   * @throws IllegalArgumentException if the data set type is not recognized
+   * @since 3.1.0
+   */
+  public T withDataset(Common<?> dataset) {
+    if (dataset instanceof Contact) {
+      getContact().add((Contact) dataset);
+    } else if (dataset instanceof Role) {
+      getRole().add((Role) dataset);
+    } else if (dataset instanceof Organisation) {
+      getOrganisation().add((Organisation) dataset);
+    } else if (dataset instanceof ExternalReference) {
+      getExternalReference().add((ExternalReference) dataset);
+    } else if (dataset instanceof Administrative) {
+      getAdministrative().add((Administrative) dataset);
+    } else if (dataset instanceof Location) {
+      getLocation().add((Location) dataset);
+    } else if (dataset instanceof ChannelPlan) {
+      getChannelPlan().add((ChannelPlan) dataset);
+    } else if (dataset instanceof TOA) {
+      getTOA().add((TOA) dataset);
+    } else if (dataset instanceof Transmitter) {
+      getTransmitter().add((Transmitter) dataset);
+    } else if (dataset instanceof Receiver) {
+      getReceiver().add((Receiver) dataset);
+    } else if (dataset instanceof Antenna) {
+      getAntenna().add((Antenna) dataset);
+    } else if (dataset instanceof RFSystem) {
+      getRFSystem().add((RFSystem) dataset);
+    } else if (dataset instanceof SSRequest) {
+      getSSRequest().add((SSRequest) dataset);
+    } else if (dataset instanceof SSReply) {
+      getSSReply().add((SSReply) dataset);
+    } else if (dataset instanceof Allotment) {
+      getAllotment().add((Allotment) dataset);
+    } else if (dataset instanceof Assignment) {
+      getAssignment().add((Assignment) dataset);
+    } else if (dataset instanceof Satellite) {
+      getSatellite().add((Satellite) dataset);
+    } else if (dataset instanceof IntfReport) {
+      getIntfReport().add((IntfReport) dataset);
+    } else if (dataset instanceof JRFL) {
+      getJRFL().add((JRFL) dataset);
+    } else if (dataset instanceof ForceElement) {
+      getForceElement().add((ForceElement) dataset);
+    } else if (dataset instanceof FEDeployment) {
+      getFEDeployment().add((FEDeployment) dataset);
+    } else if (dataset instanceof Message) {
+      getMessage().add((Message) dataset);
+    } else if (dataset instanceof Note) {
+      getNote().add((Note) dataset);
+    } else if (dataset instanceof Loadset) {
+      getLoadset().add((Loadset) dataset);
+    } else if (dataset instanceof RadiationPlan) {
+      getRadiationPlan().add((RadiationPlan) dataset);
+    } else {
+      throw new IllegalArgumentException("Unrecognized SSRF data set type " + dataset.getClass().getName());
+    }
+    return (T) this;
+  }
+
   /**
    * Get a string representation of this SchemaRoot instance configuration.
    *
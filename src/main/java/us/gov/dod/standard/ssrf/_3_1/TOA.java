@@ -176,6 +176,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public void setAdministration(S50 value) {
+    markDirty();
     this.administration = value;
   }
 
@@ -205,6 +206,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public void setEffectiveDate(D value) {
+    markDirty();
     this.effectiveDate = value;
   }
 
@@ -236,6 +238,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public void setExpirationDate(D value) {
+    markDirty();
     this.expirationDate = value;
   }
 
@@ -265,6 +268,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public void setTitle(S100 value) {
+    markDirty();
     this.title = value;
   }
 
@@ -307,6 +311,7 @@ public class TOA extends Common<TOA> {
    * Clear the Footnote field. This sets the field to null.
    */
   public void unsetFootnote() {
+    markDirty();
     this.footnote = null;
   }
 
@@ -341,6 +346,7 @@ public class TOA extends Common<TOA> {
    * Clear the ChannelPlanRef field. This sets the field to null.
    */
   public void unsetChannelPlanRef() {
+    markDirty();
     this.channelPlanRef = null;
   }
 
@@ -373,6 +379,7 @@ public class TOA extends Common<TOA> {
    * Clear the Country field. This sets the field to null.
    */
   public void unsetCountry() {
+    markDirty();
     this.country = null;
   }
 
@@ -407,6 +414,7 @@ public class TOA extends Common<TOA> {
    * Clear the FreqBand field. This sets the field to null.
    */
   public void unsetFreqBand() {
+    markDirty();
     this.freqBand = null;
   }
 
@@ -497,6 +505,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withFootnote(Footnote... values) {
+    markDirty();
     if (values != null) {
       getFootnote().addAll(Arrays.asList(values));
     }
@@ -515,6 +524,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withFootnote(Collection<Footnote> values) {
+    markDirty();
     if (values != null) {
       getFootnote().addAll(values);
     }
@@ -534,6 +544,7 @@ public class TOA extends Common<TOA> {
    */
   @Deprecated
   public TOA withChannelPlanRef(Serial... values) {
+    markDirty();
     if (values != null) {
       getChannelPlanRef().addAll(Arrays.asList(values));
     }
@@ -553,6 +564,7 @@ public class TOA extends Common<TOA> {
    */
   @Deprecated
   public TOA withChannelPlanRef(Collection<Serial> values) {
+    markDirty();
     if (values != null) {
       getChannelPlanRef().addAll(values);
     }
@@ -570,6 +582,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withCountry(Country... values) {
+    markDirty();
     if (values != null) {
       getCountry().addAll(Arrays.asList(values));
     }
@@ -587,6 +600,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withCountry(Collection<Country> values) {
+    markDirty();
     if (values != null) {
       getCountry().addAll(values);
     }
@@ -606,6 +620,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withFreqBand(FreqBand... values) {
+    markDirty();
     if (values != null) {
       getFreqBand().addAll(Arrays.asList(values));
     }
@@ -625,6 +640,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withFreqBand(Collection<FreqBand> values) {
+    markDirty();
     if (values != null) {
       getFreqBand().addAll(values);
     }
@@ -725,6 +741,7 @@ public class TOA extends Common<TOA> {
    * @since 3.1.0
    */
   public TOA withChannelPlan(Collection<ChannelPlan> values) {
+    markDirty();
     getChannelPlan().addAll(values);
     return this;
   }
@@ -761,12 +778,14 @@ public class TOA extends Common<TOA> {
    */
   @Override
   public void postLoad(SSRF root) {
+    super.postLoad(root);
     if (channelPlanRef == null || channelPlanRef.isEmpty()) {
       return;
     }
-    for (ChannelPlan instance : root.getChannelPlan()) {
-      if (channelPlanRef.contains(instance.getSerial())) {
-        getChannelPlan().add(instance);
+    for (Serial ref : channelPlanRef) {
+      ChannelPlan channelPlan = root.findBySerial(ref, ChannelPlan.class);
+      if (channelPlan != null) {
+        getChannelPlan().add(channelPlan);
       }
     }
   }//</editor-fold>
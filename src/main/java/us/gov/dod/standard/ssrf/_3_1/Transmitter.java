@@ -286,6 +286,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setGeneric(TString value) {
+    markDirty();
     this.generic = value;
   }
 
@@ -317,6 +318,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setDuplexSep(FreqM value) {
+    markDirty();
     this.duplexSep = value;
   }
 
@@ -348,6 +350,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setDuplexSepType(TString value) {
+    markDirty();
     this.duplexSepType = value;
   }
 
@@ -379,6 +382,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setOutputDeviceType(TString value) {
+    markDirty();
     this.outputDeviceType = value;
   }
 
@@ -412,6 +416,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setOutputDevice(S40 value) {
+    markDirty();
     this.outputDevice = value;
   }
 
@@ -441,6 +446,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setFilter(MEMO value) {
+    markDirty();
     this.filter = value;
   }
 
@@ -472,6 +478,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setFCCAcceptanceNum(S50 value) {
+    markDirty();
     this.fccAcceptanceNum = value;
   }
 
@@ -507,6 +514,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public void setTSPR(S10 value) {
+    markDirty();
     this.tspr = value;
   }
 
@@ -548,6 +556,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    markDirty();
     this.pocInformation = null;
   }
 
@@ -582,6 +591,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the Nomenclature field. This sets the field to null.
    */
   public void unsetNomenclature() {
+    markDirty();
     this.nomenclature = null;
   }
 
@@ -618,6 +628,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the Deployment field. This sets the field to null.
    */
   public void unsetDeployment() {
+    markDirty();
     this.deployment = null;
   }
 
@@ -653,6 +664,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the Curve field. This sets the field to null.
    */
   public void unsetCurve() {
+    markDirty();
     this.curve = null;
   }
 
@@ -685,6 +697,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the TxMode field. This sets the field to null.
    */
   public void unsetTxMode() {
+    markDirty();
     this.txMode = null;
   }
 
@@ -717,6 +730,7 @@ public class Transmitter extends Common<Transmitter> {
    * Clear the UsingCountries field. This sets the field to null.
    */
   public void unsetUsingCountries() {
+    markDirty();
     this.usingCountries = null;
   }
 
@@ -835,6 +849,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withPOCInformation(POCInformation... values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -852,6 +867,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withPOCInformation(Collection<POCInformation> values) {
+    markDirty();
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -871,6 +887,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withNomenclature(Nomenclature... values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(Arrays.asList(values));
     }
@@ -890,6 +907,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withNomenclature(Collection<Nomenclature> values) {
+    markDirty();
     if (values != null) {
       getNomenclature().addAll(values);
     }
@@ -911,6 +929,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withDeployment(Deployment... values) {
+    markDirty();
     if (values != null) {
       getDeployment().addAll(Arrays.asList(values));
     }
@@ -932,6 +951,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withDeployment(Collection<Deployment> values) {
+    markDirty();
     if (values != null) {
       getDeployment().addAll(values);
     }
@@ -952,6 +972,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withCurve(Curve... values) {
+    markDirty();
     if (values != null) {
       getCurve().addAll(Arrays.asList(values));
     }
@@ -972,6 +993,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withCurve(Collection<Curve> values) {
+    markDirty();
     if (values != null) {
       getCurve().addAll(values);
     }
@@ -989,6 +1011,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withTxMode(TxMode... values) {
+    markDirty();
     if (values != null) {
       getTxMode().addAll(Arrays.asList(values));
     }
@@ -1006,6 +1029,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withTxMode(Collection<TxMode> values) {
+    markDirty();
     if (values != null) {
       getTxMode().addAll(values);
     }
@@ -1023,6 +1047,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withUsingCountries(UsingCountries... values) {
+    markDirty();
     if (values != null) {
       getUsingCountries().addAll(Arrays.asList(values));
     }
@@ -1040,6 +1065,7 @@ public class Transmitter extends Common<Transmitter> {
    * @since 3.1.0
    */
   public Transmitter withUsingCountries(Collection<UsingCountries> values) {
+    markDirty();
     if (values != null) {
       getUsingCountries().addAll(values);
     }
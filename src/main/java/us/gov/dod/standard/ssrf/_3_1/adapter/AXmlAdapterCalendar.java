@@ -17,20 +17,63 @@ package us.gov.dod.standard.ssrf._3_1.adapter;
 
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
 import javax.xml.bind.annotation.adapters.XmlAdapter;
 
 /**
  * Abstract Calendar type XmlAdapter. This supports Date and DataTime string
  * conversion via a simple data formatter.
+ * <p>
+ * The SSRF Date and DateTime patterns are printed and parsed by hand (see
+ * {@link #printDateTime(long)} and {@link #parseDateTime(String)}) in UTC.
+ * A DateTime without a time zone is parsed by DatatypeConverter in the JVM
+ * default time zone.
+ * Other patterns use a SimpleDateFormat cached per thread. Adapter instances
+ * are therefore thread safe and may be shared.
  *
  * @author Jesse Caulfield
  */
-public abstract class AXmlAdapterCalendar extends XmlAdapter<String, Calendar> {
+public abstract class AXmlAdapterCalendar extends XmlAdapter<String, Calendar> implements IXmlAdapterCheck<Calendar> {
+
+  /**
+   * UTC. The SSRF time zone.
+   */
+  protected static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+  /**
+   * 86,400,000. The number of milliseconds in a day.
+   */
+  private static final long DAY = 86400000L;
+  /**
+   * "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'". The SSRF DateTime pattern.
+   */
+  private static final String DATETIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+  /**
+   * "yyyy-MM-dd". The SSRF Date pattern.
+   */
+  private static final String DATE_PATTERN = "yyyy-MM-dd";
+  /**
+   * The earliest (1583-01-01) and latest (9999-12-31) epoch days printed and
+   * parsed by hand. Other dates are outside the Gregorian calendar or the four
+   * digit year and are handled by the JDK.
+   */
+  private static final long MIN_DAY = -141349, MAX_DAY = 2932896;
 
   /**
    * The date or dateTime conversion pattern.
    */
   private final String PATTERN;
+  /**
+   * The pattern formatter, one per thread. SimpleDateFormat is not thread
+   * safe.
+   */
+  private final ThreadLocal<SimpleDateFormat> formats = new ThreadLocal<SimpleDateFormat>() {
+
+    @Override
+    protected SimpleDateFormat initialValue() {
+      return new SimpleDateFormat(PATTERN);
+    }
+  };
 
   public AXmlAdapterCalendar(String PATTERN) {
     this.PATTERN = PATTERN;
@@ -47,9 +90,21 @@ public abstract class AXmlAdapterCalendar extends XmlAdapter<String, Calendar> {
     if (v == null) {
       return null;
     }
-    SimpleDateFormat sdf = new SimpleDateFormat(PATTERN);
-    sdf.setTimeZone(v.getTimeZone());
-    return sdf.format(v.getTime());
+    long time = v.getTimeInMillis();
+    return format(time, v.getTimeZone());
+  }
+
+  /**
+   * Format a time in a time zone according to the pattern.
+   *
+   * @param time the time in milliseconds since the epoch
+   * @param zone the time zone
+   * @return the formatted time
+   */
+  protected String format(long time, TimeZone zone) {
+    SimpleDateFormat sdf = formats.get();
+    sdf.setTimeZone(zone);
+    return sdf.format(time);
   }
 
   /**
@@ -67,4 +122,339 @@ public abstract class AXmlAdapterCalendar extends XmlAdapter<String, Calendar> {
     return javax.xml.bind.DatatypeConverter.parseDate(v);
   }
 
+  /**
+   * Check a value. Any non-null Calendar value can be formatted and is
+   * therefore valid.
+   *
+   * @param v The value to check. Must not be null.
+   * @return null (always)
+   */
+  @Override
+  public EXmlViolation check(Calendar v) {
+    return null;
+  }
+
+  /**
+   * Build the error message for a violation. Not expected to be called since
+   * {@link #check(Calendar)} never reports a violation.
+   *
+   * @param violation the violation
+   * @param v         the value that was checked
+   * @return a human readable error message
+   */
+  @Override
+  public String getViolationMessage(EXmlViolation violation, Calendar v) {
+    return violation + " violation " + PATTERN + " for \"" + v + "\"";
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Static Date and DateTime Conversion">
+  /**
+   * Print a time as a SSRF DateTime in UTC; e.g. "2015-03-30T14:05:00.000Z".
+   *
+   * @param time the time in milliseconds since the epoch
+   * @return the DateTime string
+   */
+  public static String printDateTime(long time) {
+    long day = floorDiv(time, DAY);
+    if (day < MIN_DAY || day > MAX_DAY) {
+      return printPattern(DATETIME_PATTERN, time);
+    }
+    int millis = (int) (time - day * DAY);
+    char[] chars = new char[24];
+    printDay(chars, day);
+    chars[10] = 'T';
+    printDigits(chars, 11, 2, millis / 3600000);
+    chars[13] = ':';
+    printDigits(chars, 14, 2, millis / 60000 % 60);
+    chars[16] = ':';
+    printDigits(chars, 17, 2, millis / 1000 % 60);
+    chars[19] = '.';
+    printDigits(chars, 20, 3, millis % 1000);
+    chars[23] = 'Z';
+    return new String(chars);
+  }
+
+  /**
+   * Print the UTC date of a time as a SSRF Date; e.g. "2015-03-30".
+   *
+   * @param time the time in milliseconds since the epoch
+   * @return the Date string
+   */
+  public static String printDate(long time) {
+    long day = floorDiv(time, DAY);
+    if (day < MIN_DAY || day > MAX_DAY) {
+      return printPattern(DATE_PATTERN, time);
+    }
+    char[] chars = new char[10];
+    printDay(chars, day);
+    return new String(chars);
+  }
+
+  /**
+   * Parse a SSRF DateTime. Fraction of second digits beyond milliseconds are
+   * ignored.
+   * <p>
+   * A DateTime without a time zone (e.g. "2015-03-30T14:05:00") is read by
+   * DatatypeConverter in the JVM default time zone.
+   *
+   * @param v the DateTime string; e.g. "2015-03-30T14:05:00Z"
+   * @return the time in milliseconds since the epoch
+   * @throws IllegalArgumentException if the string is not a valid DateTime
+   */
+  public static long parseDateTime(String v) {
+    int length = v.length();
+    long day = parseDay(v);
+    if (day != Long.MIN_VALUE && length >= 19 && v.charAt(10) == 'T' && v.charAt(13) == ':' && v.charAt(16) == ':') {
+      int hour = parseDigits(v, 11, 2);
+      int minute = parseDigits(v, 14, 2);
+      int second = parseDigits(v, 17, 2);
+      int millis = 0;
+      int i = 19;
+      if (i < length && v.charAt(i) == '.') {
+        int start = ++i;
+        while (i < length && Character.isDigit(v.charAt(i))) {
+          if (i - start < 3) {
+            millis = millis * 10 + v.charAt(i) - '0';
+          }
+          i++;
+        }
+        for (int digits = i - start; digits < 3; digits++) {
+          millis *= 10;
+        }
+        if (i == start) {
+          hour = -1;
+        }
+      }
+      int offset = i < length ? parseOffset(v, i) : Integer.MIN_VALUE;
+      if (hour >= 0 && hour < 24 && minute >= 0 && minute < 60 && second >= 0 && second < 60 && offset != Integer.MIN_VALUE) {
+        return day * DAY + hour * 3600000L + minute * 60000L + second * 1000L + millis - offset;
+      }
+    }
+    /**
+     * Not in the canonical form (e.g. no time zone, a year beyond 9999 or
+     * 24:00:00).
+     */
+    return javax.xml.bind.DatatypeConverter.parseDateTime(v).getTimeInMillis();
+  }
+
+  /**
+   * Parse a SSRF Date. The time zone, if any, is ignored: the date is returned
+   * as the time at midnight UTC on that date.
+   *
+   * @param v the Date string; e.g. "2015-03-30"
+   * @return the time in milliseconds since the epoch at midnight UTC
+   * @throws IllegalArgumentException if the string is not a valid Date
+   */
+  public static long parseDate(String v) {
+    long day = parseDay(v);
+    if (day != Long.MIN_VALUE && parseOffset(v, 10) != Integer.MIN_VALUE) {
+      return day * DAY;
+    }
+    Calendar calendar = javax.xml.bind.DatatypeConverter.parseDate(v);
+    return toDate(calendar);
+  }
+
+  /**
+   * Get the date of a calendar, in the calendar time zone.
+   *
+   * @param calendar the calendar
+   * @return the time in milliseconds since the epoch at midnight UTC on the
+   *         calendar date
+   */
+  public static long toDate(Calendar calendar) {
+    long time = calendar.getTimeInMillis();
+    return toDate(time + calendar.getTimeZone().getOffset(time));
+  }
+
+  /**
+   * Get the UTC date of a time.
+   *
+   * @param time the time in milliseconds since the epoch
+   * @return the time in milliseconds since the epoch at midnight UTC on the
+   *         same date
+   */
+  public static long toDate(long time) {
+    return floorDiv(time, DAY) * DAY;
+  }
+
+  /**
+   * Build a new UTC calendar set to a time.
+   *
+   * @param time the time in milliseconds since the epoch
+   * @return a new calendar
+   */
+  public static Calendar toCalendar(long time) {
+    Calendar calendar = new GregorianCalendar(UTC);
+    calendar.setTimeInMillis(time);
+    return calendar;
+  }
+
+  /**
+   * Internal helper method to print a time with a pattern in UTC.
+   *
+   * @param pattern the SimpleDateFormat pattern
+   * @param time    the time in milliseconds since the epoch
+   * @return the formatted time
+   */
+  private static String printPattern(String pattern, long time) {
+    SimpleDateFormat sdf = new SimpleDateFormat(pattern);
+    sdf.setTimeZone(UTC);
+    return sdf.format(time);
+  }
+
+  /**
+   * Internal helper method to print an epoch day as "yyyy-MM-dd" in the first
+   * ten characters of an array.
+   *
+   * @param chars the character array
+   * @param day   the number of days since 1970-01-01, between MIN_DAY and
+   *              MAX_DAY
+   */
+  private static void printDay(char[] chars, long day) {
+    /**
+     * Convert to the (proleptic) Gregorian civil date. The computation uses
+     * 400-year eras starting on March 1 of year zero.
+     */
+    long z = day + 719468;
+    long era = z / 146097;
+    int doe = (int) (z - era * 146097);
+    int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+    int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+    int mp = (5 * doy + 2) / 153;
+    int dayOfMonth = doy - (153 * mp + 2) / 5 + 1;
+    int month = mp < 10 ? mp + 3 : mp - 9;
+    int year = (int) (yoe + era * 400) + (month <= 2 ? 1 : 0);
+    printDigits(chars, 0, 4, year);
+    chars[4] = '-';
+    printDigits(chars, 5, 2, month);
+    chars[7] = '-';
+    printDigits(chars, 8, 2, dayOfMonth);
+  }
+
+  /**
+   * Internal helper method to print a zero padded number.
+   *
+   * @param chars  the character array
+   * @param offset the index of the first digit
+   * @param count  the number of digits
+   * @param value  the (non-negative) number
+   */
+  private static void printDigits(char[] chars, int offset, int count, int value) {
+    for (int i = offset + count - 1; i >= offset; i--) {
+      chars[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+  }
+
+  /**
+   * Internal helper method to parse the "yyyy-MM-dd" date at the start of a
+   * string.
+   *
+   * @param v the string
+   * @return the number of days since 1970-01-01, Long.MIN_VALUE if the string
+   *         does not start with a valid date between 1583 and 9999
+   */
+  private static long parseDay(String v) {
+    if (v.length() < 10 || v.charAt(4) != '-' || v.charAt(7) != '-') {
+      return Long.MIN_VALUE;
+    }
+    int year = parseDigits(v, 0, 4);
+    int month = parseDigits(v, 5, 2);
+    int dayOfMonth = parseDigits(v, 8, 2);
+    if (year < 1583 || month < 1 || month > 12 || dayOfMonth < 1 || dayOfMonth > lengthOfMonth(year, month)) {
+      return Long.MIN_VALUE;
+    }
+    /**
+     * Convert from the (proleptic) Gregorian civil date; the inverse of
+     * printDay.
+     */
+    int y = month <= 2 ? year - 1 : year;
+    int era = y / 400;
+    int yoe = y - era * 400;
+    int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+    int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+    return era * 146097L + doe - 719468;
+  }
+
+  /**
+   * Internal helper method to parse a time zone offset: "Z", "+hh:mm",
+   * "-hh:mm" or nothing (zero).
+   *
+   * @param v     the string
+   * @param index the index of the offset
+   * @return the offset in milliseconds, Integer.MIN_VALUE if the string does
+   *         not end with a valid offset
+   */
+  private static int parseOffset(String v, int index) {
+    int remaining = v.length() - index;
+    if (remaining == 0) {
+      return 0;
+    }
+    if (remaining == 1 && v.charAt(index) == 'Z') {
+      return 0;
+    }
+    char sign = v.charAt(index);
+    if (remaining == 6 && (sign == '+' || sign == '-') && v.charAt(index + 3) == ':') {
+      int hours = parseDigits(v, index + 1, 2);
+      int minutes = parseDigits(v, index + 4, 2);
+      if (hours >= 0 && hours <= 14 && minutes >= 0 && minutes < 60) {
+        int offset = hours * 3600000 + minutes * 60000;
+        return sign == '+' ? offset : -offset;
+      }
+    }
+    return Integer.MIN_VALUE;
+  }
+
+  /**
+   * Internal helper method to parse an unsigned decimal number.
+   *
+   * @param v      the string
+   * @param offset the index of the first digit
+   * @param count  the number of digits
+   * @return the number, -1 if a character is not a digit
+   */
+  private static int parseDigits(String v, int offset, int count) {
+    int value = 0;
+    for (int i = offset; i < offset + count; i++) {
+      char c = v.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + c - '0';
+    }
+    return value;
+  }
+
+  /**
+   * Internal helper method to get the number of days in a month.
+   *
+   * @param year  the year
+   * @param month the month (1 to 12)
+   * @return the number of days in the month
+   */
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /**
+   * Internal helper method to divide rounding toward negative infinity.
+   *
+   * @param x the dividend
+   * @param y the (positive) divisor
+   * @return the largest value less than or equal to x / y
+   */
+  private static long floorDiv(long x, long y) {
+    long q = x / y;
+    return (x % y < 0) ? q - 1 : q;
+  }//</editor-fold>
 }
@@ -50,7 +50,7 @@ import javax.xml.bind.annotation.adapters.XmlAdapter;
  *
  * @author Jesse Caulfield
  */
-public class AXmlAdapterInteger extends XmlAdapter<String, Integer> {
+public class AXmlAdapterInteger extends XmlAdapter<String, Integer> implements IXmlAdapterCheck<Integer> {
 
   /**
    * "XmlAdapter". The standard adapter name prefix. This is used when
@@ -79,7 +79,7 @@ public class AXmlAdapterInteger extends XmlAdapter<String, Integer> {
   /**
    * The decimal format pattern defined by the total and fraction digit count.
    */
-  private DecimalFormat df;
+  private final DecimalFormat df;
 
   /**
    * Construct a new Number adapter. The minimum and maximum inclusive values
@@ -124,6 +124,8 @@ public class AXmlAdapterInteger extends XmlAdapter<String, Integer> {
        * Require zeros on either side of the decimal point.
        */
       this.df = new DecimalFormat(sb.toString());
+    } else {
+      this.df = null;
     }
   }
 
@@ -145,10 +147,29 @@ public class AXmlAdapterInteger extends XmlAdapter<String, Integer> {
      * scientific notation) number.
      */
     return v != null
-           ? df != null ? df.format(convert(v)) : new DecimalFormat("###").format(convert(v))
+           ? format(convert(v))
            : null;
   }
 
+  /**
+   * Internal method to format a number with the configured decimal format.
+   * <p>
+   * Developer note: DecimalFormat is not thread safe while adapter instances
+   * may be shared (e.g. by SSRFUtility validation). Access to the configured
+   * format is synchronized.
+   *
+   * @param v the number to format
+   * @return the formatted number
+   */
+  private String format(Number v) {
+    if (df == null) {
+      return new DecimalFormat("###").format(v);
+    }
+    synchronized (df) {
+      return df.format(v);
+    }
+  }
+
   /**
    * Convert a value type to a bound type.
    * <p>
@@ -181,16 +202,50 @@ public class AXmlAdapterInteger extends XmlAdapter<String, Integer> {
     if (v == null) {
       return null;
     }
+    EXmlViolation violation = check(v);
+    if (violation != null) {
+      throw new Exception(getViolationMessage(violation, v));
+    }
+    return v;
+  }
+
+  /**
+   * Check a value against the minimum and maximum values.
+   *
+   * @param v The value to check. Must not be null.
+   * @return the first violation found, null if the value is valid
+   */
+  @Override
+  public EXmlViolation check(Integer v) {
     /**
      * Validate the max/min values.
      */
     if (minInclusive != null && v.doubleValue() < minInclusive) {
-      throw new Exception("minimum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + minInclusive + "] for " + v + ".");
+      return EXmlViolation.MIN_VALUE;
     }
     if (maxInclusive != null && v.doubleValue() > maxInclusive) {
-      throw new Exception("maximum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + maxInclusive + "] for " + v + ".");
+      return EXmlViolation.MAX_VALUE;
+    }
+    return null;
+  }
+
+  /**
+   * Build the error message for a violation.
+   *
+   * @param violation the violation returned by {@link #check(Integer)}
+   * @param v         the value that was checked
+   * @return a human readable error message
+   */
+  @Override
+  public String getViolationMessage(EXmlViolation violation, Integer v) {
+    switch (violation) {
+      case MIN_VALUE:
+        return "minimum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + minInclusive + "] for " + v + ".";
+      case MAX_VALUE:
+        return "maximum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + maxInclusive + "] for " + v + ".";
+      default:
+        return violation + " violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " for " + v + ".";
     }
-    return v;
   }
 
   /**
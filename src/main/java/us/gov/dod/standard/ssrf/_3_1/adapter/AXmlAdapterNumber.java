@@ -51,16 +51,49 @@ import javax.xml.bind.annotation.adapters.XmlAdapter;
  * constraint in the form [a .. b] meaning that the value is restricted to be
  * between a and b inclusive. They may also be followed by an additional unit in
  * parenthesis. Example: Sensitivity value: SN(5.2) [-140.00 .. -30.00] (dBm)
+ * <p>
+ * Developer note: Adapters are shared by every value of their data type, so
+ * the value bounds and the output format of each integer digit count are
+ * computed once when the adapter is constructed. Values are printed by hand in
+ * fixed-point notation; the output is identical to the DecimalFormat pattern
+ * built by <code>buildDecimalFormat</code>, which is still used for
+ * the rare values that do not fit in a long when scaled.
  *
  * @author Jesse Caulfield
  */
-public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
+public class AXmlAdapterNumber extends XmlAdapter<String, Number> implements IXmlAdapterCheck<Number> {
 
   /**
    * "XmlAdapter". The standard adapter name prefix. This is used when
    * constructing an error message.
    */
   private static final String NAME_PREFIX = "XmlAdapter";
+  /**
+   * Powers of ten from 10^0 to 10^18.
+   */
+  private static final long[] POWERS = new long[19];
+  /**
+   * log(2) / log(10). The number of decimal digits per binary digit, used to
+   * estimate the digit count of a number from its bit length.
+   */
+  private static final double DIGITS_PER_BIT = Math.log(2) / Math.log(10);
+  /**
+   * 2^52. Doubles smaller than this in magnitude hold their fraction with at
+   * least one bit to spare, which is enough to round them to a long exactly.
+   */
+  private static final double EXACT_LIMIT = 4503599627370496.0;
+  /**
+   * Long.MIN_VALUE. Indicates that a value cannot be rounded in floating point
+   * and must be rounded with a BigDecimal.
+   */
+  private static final long INEXACT = Long.MIN_VALUE;
+
+  static {
+    POWERS[0] = 1;
+    for (int i = 1; i < POWERS.length; i++) {
+      POWERS[i] = POWERS[i - 1] * 10;
+    }
+  }
 
   /**
    * The maximum number of total digits in the number, inclusive of fraction
@@ -85,6 +118,42 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
    */
   private final Integer maxInclusive;
 
+  /**
+   * The number of fraction digits of a converted value. Zero if the fraction
+   * digits are not set.
+   */
+  private final int scale;
+  /**
+   * Ten to the power of the scale. NaN if the scale is too large to round
+   * values in floating point.
+   */
+  private final double scaleFactor;
+  /**
+   * The maximum allowed value. See {@link #getMaxInclusive()}.
+   */
+  private final Number upperBound;
+  /**
+   * The minimum allowed value. See {@link #getMinInclusive()}.
+   */
+  private final Number lowerBound;
+  /**
+   * The minimum value checked. Negative infinity if the minimum inclusive value
+   * is not set.
+   */
+  private final double minimum;
+  /**
+   * The maximum value checked.
+   */
+  private final double maximum;
+  /**
+   * The number of fraction digits printed for a value, indexed by the digit
+   * count of its (converted) integer part. Zero prints an integer; -1 indicates
+   * that the value must be printed with a DecimalFormat. Null if the total or
+   * fraction digits are not set, in which case all values are printed as
+   * integers.
+   */
+  private final int[] fractionCounts;
+
   /**
    * Construct a new Number adapter. The minimum and maximum inclusive values
    * are not set, supporting unsigned, unbound numbers within the digit count.
@@ -117,6 +186,32 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
     this.fractionDigits = fractionDigits;
     this.minInclusive = minInclusive;
     this.maxInclusive = maxInclusive;
+    this.scale = fractionDigits != null ? fractionDigits : 0;
+    this.scaleFactor = scale < POWERS.length ? POWERS[scale] : Double.NaN;
+    /**
+     * Calculate the maximum value from digits by calculating the exponent - 1 .
+     * For example: a three digit allowance will be calculated as 10 ^ 3 minus 1
+     * = 999.
+     */
+    if (maxInclusive != null) {
+      this.upperBound = maxInclusive;
+    } else if (totalDigits != null) {
+      this.upperBound = Math.pow(10, (totalDigits - scale)) - 1;
+    } else {
+      this.upperBound = Integer.MAX_VALUE;
+    }
+    if (minInclusive != null) {
+      this.lowerBound = minInclusive;
+    } else if (totalDigits != null) {
+      this.lowerBound = -Math.pow(10, (totalDigits - scale)) - 1;
+    } else {
+      this.lowerBound = Integer.MIN_VALUE;
+    }
+    this.minimum = minInclusive != null ? minInclusive : Double.NEGATIVE_INFINITY;
+    this.maximum = upperBound.doubleValue();
+    this.fractionCounts = totalDigits != null && fractionDigits != null
+                          ? buildFractionCounts(totalDigits, fractionDigits)
+                          : null;
   }
 
   /**
@@ -131,7 +226,7 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
     if (totalDigits == null || fractionDigits == null) {
       return new DecimalFormat("#");
     }
-    int digitCount = getDigitCount(new BigInteger(String.valueOf(v.intValue())));
+    int digitCount = getDigitCount(v.intValue());
     int totalCount = digitCount + fractionDigits > totalDigits
                      ? totalDigits
                      : digitCount + fractionDigits;
@@ -151,6 +246,40 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
     return new DecimalFormat(sb.toString().replace("#.#", "0.0"));
   }
 
+  /**
+   * Internal method to describe the pattern built by
+   * {@link #buildDecimalFormat(Number)} for each integer digit count.
+   * <p>
+   * A pattern with a decimal point inside the digits (e.g. "#0.0##") prints at
+   * least one integer and one fraction digit and at most the pattern fraction
+   * digits. A pattern without a decimal point (e.g. "###") prints an integer.
+   * Other patterns (a trailing or no digit) are left to the DecimalFormat.
+   *
+   * @param totalDigits    the total digits
+   * @param fractionDigits the fraction digits
+   * @return the number of fraction digits printed, indexed by digit count
+   */
+  private static int[] buildFractionCounts(int totalDigits, int fractionDigits) {
+    int[] counts = new int[POWERS.length + 1];
+    for (int digitCount = 0; digitCount < counts.length; digitCount++) {
+      int totalCount = digitCount + fractionDigits > totalDigits
+                       ? totalDigits
+                       : digitCount + fractionDigits;
+      int fractionCount = digitCount > (totalDigits - fractionDigits)
+                          ? totalDigits - digitCount
+                          : fractionDigits;
+      int decimalPosition = totalCount - fractionCount - 1;
+      if (decimalPosition >= 0 && decimalPosition < totalCount - 1) {
+        counts[digitCount] = fractionCount < POWERS.length ? fractionCount : -1;
+      } else if (totalCount > 0 && (decimalPosition < 0 || decimalPosition >= totalCount)) {
+        counts[digitCount] = 0;
+      } else {
+        counts[digitCount] = -1;
+      }
+    }
+    return counts;
+  }
+
   /**
    * Convert a bound type to a value type.
    * <p>
@@ -164,11 +293,16 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
    */
   @Override
   public String marshal(Number v) throws Exception {
+    validate(v);
     /**
-     * If there is no configured decimal format then print a plain, normal (non
-     * scientific notation) number.
+     * Print the value by hand in the format of the pattern. If the value
+     * cannot be printed by hand then fall back to the decimal format.
      */
-    return buildDecimalFormat(convert(v)).format(v);
+    int fractionCount = getFractionCount(v);
+    String formatted = fractionCount >= 0 ? format(v, fractionCount) : null;
+    return formatted != null
+           ? formatted
+           : buildDecimalFormat(convert(v)).format(v);
   }
 
   /**
@@ -199,42 +333,240 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
    *                   ValidationEventHandler.
    */
   protected Number convert(Number v) throws Exception {
+    validate(v);
+    if (v instanceof BigDecimal || v instanceof Double) {
+      /**
+       * Set the number precision to ensure it matches the required XML style
+       * pattern.
+       */
+      long unscaled = roundHalfUp(v.doubleValue());
+      return unscaled != INEXACT
+             ? BigDecimal.valueOf(unscaled, scale)
+             : new BigDecimal(v.doubleValue()).setScale(scale, RoundingMode.HALF_UP);
+    }
     /**
-     * Validate the max/min values.
+     * Default fall through with whatever Number type was presented.
      */
-    if (minInclusive != null && v.doubleValue() < minInclusive) {
-      throw new Exception("Minimum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + ": min " + minInclusive + " exceeded by " + v + ".");
+    return v;
+  }
+
+  /**
+   * Internal method to check a value and throw the violation message.
+   *
+   * @param v The value to check. Must not be null.
+   * @throws Exception if the value is not valid
+   */
+  private void validate(Number v) throws Exception {
+    EXmlViolation violation = check(v);
+    if (violation != null) {
+      throw new Exception(getViolationMessage(violation, v));
     }
-    if (maxInclusive != null && v.doubleValue() > maxInclusive) {
-      throw new Exception("Maximum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + ": max " + maxInclusive + " exceeded by " + v + ".");
+  }
+
+  /**
+   * Check a value against the minimum and maximum values, then against the
+   * digit count.
+   *
+   * @param v The value to check. Must not be null.
+   * @return the first violation found, null if the value is valid
+   */
+  @Override
+  public EXmlViolation check(Number v) {
+    /**
+     * Validate the max/min values.
+     */
+    double value = v.doubleValue();
+    if (value < minimum) {
+      return EXmlViolation.MIN_VALUE;
     }
-    if (maxInclusive == null && v.doubleValue() > getMaxInclusive().doubleValue()) {
-      throw new Exception("Maximum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "")
-                          + " pattern "
-                          + buildDecimalFormat(v).toPattern()
-                          + " exceeded.");
+    if (value > maximum) {
+      return EXmlViolation.MAX_VALUE;
     }
     /**
      * Validate the digit count.
      */
     if (v instanceof BigInteger) {
       if (totalDigits != null && totalDigits < getDigitCount((BigInteger) v)) {
-        throw new Exception("Maximum digits violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " " + totalDigits + " digits exceeded by \"" + v + "\".");
+        return EXmlViolation.MAX_DIGITS;
       }
     } else if (v instanceof BigDecimal || v instanceof Double) {
-      if (totalDigits != null && totalDigits < getDigitCount(BigInteger.valueOf(v.intValue()))) {
-        throw new Exception("Maximum digits violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " " + totalDigits + " digits exceeded by \"" + v + "\".");
+      if (totalDigits != null && totalDigits < getDigitCount(getIntValue(v, value))) {
+        return EXmlViolation.MAX_DIGITS;
       }
-      /**
-       * Set the number precision to ensure it matches the required XML style
-       * pattern.
-       */
-      return new BigDecimal(v.doubleValue()).setScale((fractionDigits != null ? fractionDigits : 0), RoundingMode.HALF_UP);
+    }
+    return null;
+  }
+
+  /**
+   * Build the error message for a violation.
+   *
+   * @param violation the violation returned by {@link #check(Number)}
+   * @param v         the value that was checked
+   * @return a human readable error message
+   */
+  @Override
+  public String getViolationMessage(EXmlViolation violation, Number v) {
+    switch (violation) {
+      case MIN_VALUE:
+        return "Minimum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + ": min " + minInclusive + " exceeded by " + v + ".";
+      case MAX_VALUE:
+        return maxInclusive != null
+               ? "Maximum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + ": max " + maxInclusive + " exceeded by " + v + "."
+               : "Maximum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "")
+                 + " pattern "
+                 + buildDecimalFormat(v).toPattern()
+                 + " exceeded.";
+      case MAX_DIGITS:
+        return "Maximum digits violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " " + totalDigits + " digits exceeded by \"" + v + "\".";
+      default:
+        return violation + " violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " for \"" + v + "\".";
+    }
+  }
+
+  /**
+   * Internal helper method to get the number of fraction digits printed for a
+   * (valid) value. The pattern depends upon the digit count of the converted
+   * value integer part.
+   *
+   * @param v the value
+   * @return the number of fraction digits printed. -1 if the value must be
+   *         printed with a DecimalFormat.
+   */
+  private int getFractionCount(Number v) {
+    if (fractionCounts == null) {
+      return 0;
+    }
+    int intValue;
+    if (v instanceof BigDecimal || v instanceof Double) {
+      long unscaled = roundHalfUp(v.doubleValue());
+      if (unscaled == INEXACT) {
+        return -1;
+      }
+      intValue = (int) (unscaled / POWERS[scale]);
+    } else {
+      intValue = v.intValue();
+    }
+    int digitCount = getDigitCount(intValue);
+    return digitCount < fractionCounts.length ? fractionCounts[digitCount] : -1;
+  }
+
+  /**
+   * Internal helper method to round a value HALF_UP to the scale, as
+   * <code>new BigDecimal(value).setScale(scale, HALF_UP)</code>.
+   *
+   * @param value the value
+   * @return the unscaled rounded value, {@link #INEXACT} if the value is not
+   *         finite, too large or too close to a rounding tie to be rounded in
+   *         floating point
+   */
+  private long roundHalfUp(double value) {
+    double product = value * scaleFactor;
+    double rounded = Math.rint(product);
+    return Math.abs(product) < EXACT_LIMIT && !isNearTie(product, rounded)
+           ? (long) rounded
+           : INEXACT;
+  }
+
+  /**
+   * Internal helper method to determine if a product is close to a rounding
+   * tie, where the binary representation error could decide the result.
+   *
+   * @param product the product
+   * @param rounded the product rounded to the nearest integer
+   * @return TRUE if the product is within one millionth of a tie
+   */
+  private static boolean isNearTie(double product, double rounded) {
+    return Math.abs(Math.abs(product - rounded) - 0.5) <= 1.0E-6;
+  }
+
+  /**
+   * Internal helper method to print a value with a number of fraction digits.
+   * The value is rounded HALF_EVEN; trailing fraction zeros are removed,
+   * leaving at least one fraction digit.
+   *
+   * @param v             the value
+   * @param fractionCount the number of fraction digits (zero for an integer)
+   * @return the formatted value, null if the value cannot be printed by hand
+   */
+  private static String format(Number v, int fractionCount) {
+    long unscaled;
+    boolean negative;
+    if (v instanceof BigDecimal) {
+      BigDecimal rounded = ((BigDecimal) v).setScale(fractionCount, RoundingMode.HALF_EVEN);
+      if (rounded.precision() >= POWERS.length) {
+        return null;
+      }
+      unscaled = rounded.scaleByPowerOfTen(fractionCount).longValue();
+      negative = ((BigDecimal) v).signum() < 0;
+    } else if (v instanceof Double) {
+      double value = v.doubleValue();
+      double product = value * POWERS[fractionCount];
+      double rounded = Math.rint(product);
+      if (!(Math.abs(product) < EXACT_LIMIT) || isNearTie(product, rounded)) {
+        return null;
+      }
+      unscaled = (long) rounded;
+      negative = value < 0 || (value == 0 && 1 / value < 0);
+    } else if (v instanceof Long || v instanceof Integer || v instanceof Short || v instanceof Byte
+               || (v instanceof BigInteger && ((BigInteger) v).bitLength() < 64)) {
+      long value = v.longValue();
+      long limit = Long.MAX_VALUE / POWERS[fractionCount];
+      if (value > limit || value < -limit) {
+        return null;
+      }
+      unscaled = value * POWERS[fractionCount];
+      negative = value < 0;
+    } else {
+      return null;
     }
     /**
-     * Default fall through with whatever Number type was presented.
+     * Print the digits from right to left.
      */
-    return v;
+    char[] chars = new char[POWERS.length + 3];
+    int index = chars.length;
+    long magnitude = Math.abs(unscaled);
+    if (fractionCount > 0) {
+      long fraction = magnitude % POWERS[fractionCount];
+      magnitude /= POWERS[fractionCount];
+      int fractionLength = fractionCount;
+      while (fractionLength > 1 && fraction % 10 == 0) {
+        fraction /= 10;
+        fractionLength--;
+      }
+      for (int i = 0; i < fractionLength; i++) {
+        chars[--index] = (char) ('0' + fraction % 10);
+        fraction /= 10;
+      }
+      chars[--index] = '.';
+    }
+    do {
+      chars[--index] = (char) ('0' + magnitude % 10);
+      magnitude /= 10;
+    } while (magnitude > 0);
+    if (negative) {
+      chars[--index] = '-';
+    }
+    return new String(chars, index, chars.length - index);
+  }
+
+  /**
+   * Internal helper method to get the integer part of a decimal value, as
+   * {@link Number#intValue()}, without inflating a BigDecimal.
+   * <p>
+   * A BigDecimal of up to fifteen significant digits is never closer to an
+   * integer than its double value error, so the double value truncates to the
+   * same integer.
+   *
+   * @param v     a BigDecimal or Double value
+   * @param value the double value
+   * @return the integer part of the value
+   */
+  private static int getIntValue(Number v, double value) {
+    if (v instanceof Double
+        || (((BigDecimal) v).precision() <= 15 && Math.abs(value) < Integer.MAX_VALUE)) {
+      return (int) value;
+    }
+    return v.intValue();
   }
 
   /**
@@ -244,15 +576,37 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
    * @param number a BigInteger number instance.
    * @return the total number of digits in the number.
    */
-  private int getDigitCount(BigInteger number) {
-    double factor = Math.log(2) / Math.log(10);
-    int digitCount = (int) (factor * number.bitLength() + 1);
+  private static int getDigitCount(BigInteger number) {
+    if (number.bitLength() < 64) {
+      return getDigitCount(number.longValue());
+    }
+    int digitCount = (int) (DIGITS_PER_BIT * number.bitLength() + 1);
     if (BigInteger.TEN.pow(digitCount - 1).compareTo(number) > 0) {
       return digitCount - 1;
     }
     return digitCount;
   }
 
+  /**
+   * Internal helper method to get the number of digits from a long value. The
+   * digit count is estimated from the bit length then corrected by comparing
+   * against the power of ten.
+   * <p>
+   * Developer note: zero has no digits and negative numbers keep the
+   * (uncorrected) estimate less one, as for a BigInteger.
+   *
+   * @param number a number
+   * @return the total number of digits in the number.
+   */
+  private static int getDigitCount(long number) {
+    int bitLength = Long.SIZE - Long.numberOfLeadingZeros(number < 0 ? ~number : number);
+    int digitCount = (int) (DIGITS_PER_BIT * bitLength + 1);
+    if (POWERS[digitCount - 1] > number) {
+      return digitCount - 1;
+    }
+    return digitCount;
+  }
+
   /**
    * Get the maximum (inclusive) value allowed by this adapter.
    * <p>
@@ -262,20 +616,7 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
    * @return the maximum allowed value. Integer.MAX_VALUE if not set.
    */
   public Number getMaxInclusive() {
-    /**
-     * Calculate the maximum value from digits by calculating the exponent - 1 .
-     * For example: a three digit allowance will be calculated as 10 ^ 3 minus 1
-     * = 999.
-     */
-    if (maxInclusive != null) {
-      return maxInclusive;
-    } else if (totalDigits != null) {
-      return maxInclusive != null
-             ? maxInclusive
-             : Math.pow(10, (totalDigits - (fractionDigits != null ? fractionDigits : 0))) - 1;
-    } else {
-      return Integer.MAX_VALUE;
-    }
+    return upperBound;
   }
 
   /**
@@ -287,14 +628,6 @@ public class AXmlAdapterNumber extends XmlAdapter<String, Number> {
    * @return the minimum allowed value. Integer.MIN_VALUE if not set.
    */
   public Number getMinInclusive() {
-    if (minInclusive != null) {
-      return minInclusive;
-    } else if (totalDigits != null) {
-      return minInclusive != null
-             ? minInclusive
-             : -Math.pow(10, (totalDigits - (fractionDigits != null ? fractionDigits : 0))) - 1;
-    } else {
-      return Integer.MIN_VALUE;
-    }
+    return lowerBound;
   }
 }
@@ -33,7 +33,7 @@ import javax.xml.bind.annotation.adapters.XmlAdapter;
  *
  * @author Jesse Caulfield
  */
-public abstract class AXmlAdapterString extends XmlAdapter<String, String> {
+public abstract class AXmlAdapterString extends XmlAdapter<String, String> implements IXmlAdapterCheck<String> {
 
   /**
    * "XmlAdapter". The standard adapter name prefix. This is used when
@@ -58,19 +58,18 @@ public abstract class AXmlAdapterString extends XmlAdapter<String, String> {
    * The REGEX pattern that the string must conform to.
    */
   private final String pattern;
+  /**
+   * The compiled REGEX pattern, shared by all instances of this type. Null if
+   * there is no pattern.
+   */
+  private final Pattern compiledPattern;
 
   public AXmlAdapterString(Integer minLength, Integer maxLength) {
-    this.minLength = minLength;
-    this.maxLength = maxLength;
-    this.upperCase = false;
-    this.pattern = null;
+    this(minLength, maxLength, false, null);
   }
 
   public AXmlAdapterString(Integer minLength, Integer maxLength, String pattern) {
-    this.minLength = minLength;
-    this.maxLength = maxLength;
-    this.upperCase = false;
-    this.pattern = pattern;
+    this(minLength, maxLength, false, pattern);
   }
 
   public AXmlAdapterString(Integer minLength, Integer maxLength, boolean upperCase, String pattern) {
@@ -78,6 +77,7 @@ public abstract class AXmlAdapterString extends XmlAdapter<String, String> {
     this.maxLength = maxLength;
     this.upperCase = upperCase;
     this.pattern = pattern;
+    this.compiledPattern = XmlPatterns.compile(pattern);
   }
 
   /**
@@ -122,24 +122,73 @@ public abstract class AXmlAdapterString extends XmlAdapter<String, String> {
    *                   ValidationEventHandler.
    */
   private String convert(String v) throws Exception {
+    EXmlViolation violation = check(v);
+    if (violation != null) {
+      throw new Exception(getViolationMessage(violation, v));
+    }
+    /**
+     * Convert to upper case if indicated.
+     */
+    return upperCase ? v.toUpperCase(Locale.getDefault()) : v;
+  }
+
+  /**
+   * Check a value against the minimum and maximum string length, then against
+   * the pattern (if applicable).
+   *
+   * @param v The value to check. Must not be null.
+   * @return the first violation found, null if the value is valid
+   */
+  @Override
+  public EXmlViolation check(String v) {
     if (minLength != null && v.length() < minLength) {
-      throw new Exception("Minimum length violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " min length " + minLength + " required.");
+      return EXmlViolation.MIN_LENGTH;
     }
     if (maxLength != null && v.length() > maxLength) {
-      throw new Exception("String length violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " max length " + maxLength + " exceeded.");
+      return EXmlViolation.MAX_LENGTH;
     }
     /**
      * If the string length is valid then validate the pattern if applicable.
      */
     if (pattern != null) {
-      if (!Pattern.compile(pattern).matcher(v).find()) {
-        throw new Exception("String pattern violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " requires " + pattern + " received \"" + v + "\"");
+      if (!find(v)) {
+        return EXmlViolation.PATTERN;
       }
     }
-    /**
-     * Convert to upper case if indicated.
-     */
-    return upperCase ? v.toUpperCase(Locale.getDefault()) : v;
+    return null;
+  }
+
+  /**
+   * Determine if a value contains a match for the pattern. Adapters with a
+   * hand-written matcher override this method; the result must be identical to
+   * <code>find()</code> with the compiled pattern.
+   *
+   * @param v The value to match. Must not be null.
+   * @return TRUE if the pattern is found in the value
+   */
+  protected boolean find(String v) {
+    return compiledPattern.matcher(v).find();
+  }
+
+  /**
+   * Build the error message for a violation.
+   *
+   * @param violation the violation returned by {@link #check(String)}
+   * @param v         the value that was checked
+   * @return a human readable error message
+   */
+  @Override
+  public String getViolationMessage(EXmlViolation violation, String v) {
+    switch (violation) {
+      case MIN_LENGTH:
+        return "Minimum length violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " min length " + minLength + " required.";
+      case MAX_LENGTH:
+        return "String length violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " max length " + maxLength + " exceeded.";
+      case PATTERN:
+        return "String pattern violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " requires " + pattern + " received \"" + v + "\"";
+      default:
+        return violation + " violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " for \"" + v + "\"";
+    }
   }
 
   /**
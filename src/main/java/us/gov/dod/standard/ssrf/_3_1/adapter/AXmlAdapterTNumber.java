@@ -54,7 +54,7 @@ import javax.xml.bind.annotation.adapters.XmlAdapter;
  * @deprecated Values and are converted by type-specific adapters. This generic
  * adapter may be used in the future.
  */
-public class AXmlAdapterTNumber extends XmlAdapter<String, Number> {
+public class AXmlAdapterTNumber extends XmlAdapter<String, Number> implements IXmlAdapterCheck<Number> {
 
   /**
    * "XmlAdapter". The standard adapter name prefix. This is used when
@@ -88,7 +88,7 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, Number> {
   /**
    * The decimal format pattern defined by the total and fraction digit count.
    */
-  private DecimalFormat df;
+  private final DecimalFormat df;
 
   /**
    * Construct a new Number adapter. The minimum and maximum inclusive values
@@ -137,6 +137,8 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, Number> {
        * Require zeros on either side of the decimal point.
        */
       this.df = new DecimalFormat(sb.toString().replace("#.#", "0.0"));
+    } else {
+      this.df = null;
     }
   }
 
@@ -157,9 +159,26 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, Number> {
      * If there is no configured decimal format then print a plain, normal (non
      * scientific notation) number.
      */
-    return df != null
-           ? df.format(convert(v))
-           : new DecimalFormat("###").format(convert(v));
+    return format(convert(v));
+  }
+
+  /**
+   * Internal method to format a number with the configured decimal format.
+   * <p>
+   * Developer note: DecimalFormat is not thread safe while adapter instances
+   * may be shared (e.g. by SSRFUtility validation). Access to the configured
+   * format is synchronized.
+   *
+   * @param v the number to format
+   * @return the formatted number
+   */
+  private String format(Number v) {
+    if (df == null) {
+      return new DecimalFormat("###").format(v);
+    }
+    synchronized (df) {
+      return df.format(v);
+    }
   }
 
   /**
@@ -188,34 +207,71 @@ public class AXmlAdapterTNumber extends XmlAdapter<String, Number> {
    *                   ValidationEventHandler.
    */
   private Number convert(Number v) throws Exception {
+    EXmlViolation violation = check(v);
+    if (violation != null) {
+      throw new Exception(getViolationMessage(violation, v));
+    }
+    if (v instanceof BigDecimal || v instanceof Double) {
+      /**
+       * Just convert the number precision to ensure it matches the required XML
+       * style pattern.
+       */
+      return new BigDecimal(v.doubleValue()).setScale(totalDigits - fractionDigits, RoundingMode.HALF_UP);
+    }
+    /**
+     * Default fall through is a BigInteger or Double type.
+     */
+    return v;
+  }
+
+  /**
+   * Check a value against the minimum and maximum values, then against the
+   * digit count.
+   *
+   * @param v The value to check. Must not be null.
+   * @return the first violation found, null if the value is valid
+   */
+  @Override
+  public EXmlViolation check(Number v) {
     /**
      * Validate the max/min values.
      */
     if (minInclusive != null && v.doubleValue() < minInclusive) {
-      throw new Exception("Minimum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + minInclusive + "] for \"" + v + "\".");
+      return EXmlViolation.MIN_VALUE;
     }
     if (maxInclusive != null && v.doubleValue() > maxInclusive) {
-      throw new Exception("Maximum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + maxInclusive + "] for \"" + v + "\".");
+      return EXmlViolation.MAX_VALUE;
     }
     /**
      * Validate the digit count.
      */
     if (v instanceof BigInteger) {
       if (totalDigits != null && totalDigits < getDigitCount((BigInteger) v)) {
-        throw new Exception("Maximum digits violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + totalDigits + "] for \"" + v + "\".");
+        return EXmlViolation.MAX_DIGITS;
       }
-      return v;
-    } else if (v instanceof BigDecimal || v instanceof Double) {
-      /**
-       * Just convert the number precision to ensure it matches the required XML
-       * style pattern.
-       */
-      return new BigDecimal(v.doubleValue()).setScale(totalDigits - fractionDigits, RoundingMode.HALF_UP);
     }
-    /**
-     * Default fall through is a Double type.
-     */
-    return v;
+    return null;
+  }
+
+  /**
+   * Build the error message for a violation.
+   *
+   * @param violation the violation returned by {@link #check(Number)}
+   * @param v         the value that was checked
+   * @return a human readable error message
+   */
+  @Override
+  public String getViolationMessage(EXmlViolation violation, Number v) {
+    switch (violation) {
+      case MIN_VALUE:
+        return "Minimum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + minInclusive + "] for \"" + v + "\".";
+      case MAX_VALUE:
+        return "Maximum value violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + maxInclusive + "] for \"" + v + "\".";
+      case MAX_DIGITS:
+        return "Maximum digits violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + totalDigits + "] for \"" + v + "\".";
+      default:
+        return violation + " violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " for \"" + v + "\".";
+    }
   }
 
   /**
@@ -34,7 +34,7 @@ import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
  *
  * @author Jesse Caulfield
  */
-public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
+public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> implements IXmlAdapterCheck<TString> {
 
   /**
    * "XmlAdapter". The standard adapter name prefix. This is used when
@@ -59,19 +59,18 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
    * The REGEX pattern that the string must conform to.
    */
   private final String pattern;
+  /**
+   * The compiled REGEX pattern, shared by all instances of this type. Null if
+   * there is no pattern.
+   */
+  private final Pattern compiledPattern;
 
   public AXmlAdapterTString(Integer minLength, Integer maxLength) {
-    this.minLength = minLength;
-    this.maxLength = maxLength;
-    this.upperCase = false;
-    this.pattern = null;
+    this(minLength, maxLength, false, null);
   }
 
   public AXmlAdapterTString(Integer minLength, Integer maxLength, String pattern) {
-    this.minLength = minLength;
-    this.maxLength = maxLength;
-    this.upperCase = false;
-    this.pattern = pattern;
+    this(minLength, maxLength, false, pattern);
   }
 
   public AXmlAdapterTString(Integer minLength, Integer maxLength, boolean upperCase, String pattern) {
@@ -79,6 +78,7 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
     this.maxLength = maxLength;
     this.upperCase = upperCase;
     this.pattern = pattern;
+    this.compiledPattern = XmlPatterns.compile(pattern);
   }
 
   /**
@@ -126,24 +126,77 @@ public abstract class AXmlAdapterTString extends XmlAdapter<String, TString> {
     if (v == null) {
       return null;
     }
+    EXmlViolation violation = check(v);
+    if (violation != null) {
+      throw new Exception(getViolationMessage(violation, v));
+    }
+    /**
+     * Convert to upper case if indicated.
+     */
+    return upperCase ? v.toUpperCase(Locale.getDefault()) : v;
+  }
+
+  /**
+   * Check a value against the minimum and maximum string length, then against
+   * the pattern (if applicable). A null string value is valid.
+   *
+   * @param v The value to check. Must not be null.
+   * @return the first violation found, null if the value is valid
+   */
+  @Override
+  public EXmlViolation check(TString v) {
+    return v.getValue() != null ? check(v.getValue()) : null;
+  }
+
+  /**
+   * Build the error message for a violation.
+   *
+   * @param violation the violation returned by {@link #check(TString)}
+   * @param v         the value that was checked
+   * @return a human readable error message
+   */
+  @Override
+  public String getViolationMessage(EXmlViolation violation, TString v) {
+    return getViolationMessage(violation, v.getValue());
+  }
+
+  /**
+   * Internal method to check a string value.
+   *
+   * @param v The value to check. Must not be null.
+   * @return the first violation found, null if the value is valid
+   */
+  private EXmlViolation check(String v) {
     if (minLength != null && v.length() < minLength) {
-      throw new Exception("String length violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + minLength + "-" + maxLength + "]" + " with length = " + v.length() + ".");
+      return EXmlViolation.MIN_LENGTH;
     }
     if (maxLength != null && v.length() > maxLength) {
-      throw new Exception("String length violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + minLength + "-" + maxLength + "]" + " with length = " + v.length() + ".");
+      return EXmlViolation.MAX_LENGTH;
     }
     /**
      * If the string length is valid then validate the pattern if applicable.
      */
     if (pattern != null) {
-      if (!Pattern.compile(pattern).matcher(v).find()) {
-        throw new Exception("String pattern violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + pattern + "] for \"" + v + "\".");
+      if (!compiledPattern.matcher(v).find()) {
+        return EXmlViolation.PATTERN;
       }
     }
-    /**
-     * Convert to upper case if indicated.
-     */
-    return upperCase ? v.toUpperCase(Locale.getDefault()) : v;
+    return null;
+  }
+
+  /**
+   * Internal method to build the error message for a string value.
+   */
+  private String getViolationMessage(EXmlViolation violation, String v) {
+    switch (violation) {
+      case MIN_LENGTH:
+      case MAX_LENGTH:
+        return "String length violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + minLength + "-" + maxLength + "]" + " with length = " + v.length() + ".";
+      case PATTERN:
+        return "String pattern violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " [" + pattern + "] for \"" + v + "\".";
+      default:
+        return violation + " violation " + this.getClass().getSimpleName().replace(NAME_PREFIX, "") + " for \"" + v + "\".";
+    }
   }
 
   /**
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+/**
+ * Enumerated list of XML data type violations reported by the SSRF XML
+ * adapters.
+ * <p>
+ * A violation code is returned by {@link IXmlAdapterCheck#check(Object)}. The
+ * corresponding (human readable) error message is only built on request by
+ * {@link IXmlAdapterCheck#getViolationMessage(EXmlViolation, Object)}.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public enum EXmlViolation {
+
+  /**
+   * The string is shorter than the minimum length.
+   */
+  MIN_LENGTH,
+  /**
+   * The string is longer than the maximum length.
+   */
+  MAX_LENGTH,
+  /**
+   * The string does not match the required pattern.
+   */
+  PATTERN,
+  /**
+   * The number is less than the minimum (inclusive) value.
+   */
+  MIN_VALUE,
+  /**
+   * The number is greater than the maximum (inclusive) value.
+   */
+  MAX_VALUE,
+  /**
+   * The number has more digits than allowed.
+   */
+  MAX_DIGITS;
+}
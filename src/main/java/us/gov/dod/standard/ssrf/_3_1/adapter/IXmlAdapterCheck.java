@@ -0,0 +1,52 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+/**
+ * Non-throwing validation interface for the SSRF XML adapters.
+ * <p>
+ * The XmlAdapter marshal method reports an invalid value by throwing an
+ * exception with a descriptive message. This interface performs the same
+ * checks without converting the value, without throwing and without building
+ * a message, so that validating mostly-valid data allocates almost nothing.
+ * <p>
+ * Implementations must be thread safe.
+ *
+ * @param <V> the bound (Java) type checked by the adapter
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public interface IXmlAdapterCheck<V> {
+
+  /**
+   * Check a value against the adapter data type rules.
+   *
+   * @param v The value to check. Must not be null.
+   * @return the first violation found, null if the value is valid
+   */
+  public EXmlViolation check(V v);
+
+  /**
+   * Build the error message for a violation. The message is identical to that
+   * thrown by the adapter marshal method for the same value.
+   *
+   * @param violation the violation returned by {@link #check(Object)}
+   * @param v         the value that was checked
+   * @return a human readable error message
+   */
+  public String getViolationMessage(EXmlViolation violation, V v);
+}
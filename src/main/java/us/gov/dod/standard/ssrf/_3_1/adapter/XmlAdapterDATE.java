@@ -15,6 +15,9 @@
  */
 package us.gov.dod.standard.ssrf._3_1.adapter;
 
+import java.util.Calendar;
+import java.util.TimeZone;
+
 /**
  * SSRF Date type adapter.
  *
@@ -35,4 +38,27 @@ public class XmlAdapterDATE extends AXmlAdapterCalendar {
     super(PATTERN);
   }
 
+  /**
+   * Format a time as a Date. The Date is printed in the time zone of the
+   * value.
+   *
+   * @param time the time in milliseconds since the epoch
+   * @param zone the time zone
+   * @return the formatted time
+   */
+  @Override
+  protected String format(long time, TimeZone zone) {
+    return printDate(time + zone.getOffset(time));
+  }
+
+  /**
+   * Convert a value type to a bound type.
+   *
+   * @param v The value to be converted. Must be non-null.
+   * @return a UTC calendar
+   */
+  @Override
+  public Calendar unmarshal(String v) {
+    return toCalendar(parseDate(v));
+  }
 }
@@ -15,6 +15,9 @@
  */
 package us.gov.dod.standard.ssrf._3_1.adapter;
 
+import java.util.Calendar;
+import java.util.TimeZone;
+
 /**
  * SSRF DateTime type adapter.
  *
@@ -37,4 +40,27 @@ public class XmlAdapterDATETIME extends AXmlAdapterCalendar {
     super(PATTERN);
   }
 
+  /**
+   * Format a time as a DateTime. The DateTime is printed in the time zone of the
+   * value, always with a "Z" (UTC) suffix.
+   *
+   * @param time the time in milliseconds since the epoch
+   * @param zone the time zone
+   * @return the formatted time
+   */
+  @Override
+  protected String format(long time, TimeZone zone) {
+    return printDateTime(time + zone.getOffset(time));
+  }
+
+  /**
+   * Convert a value type to a bound type.
+   *
+   * @param v The value to be converted. Must be non-null.
+   * @return a UTC calendar
+   */
+  @Override
+  public Calendar unmarshal(String v) {
+    return toCalendar(parseDateTime(v));
+  }
 }
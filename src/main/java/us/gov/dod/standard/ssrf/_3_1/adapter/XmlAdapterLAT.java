@@ -18,7 +18,6 @@ package us.gov.dod.standard.ssrf._3_1.adapter;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * XML data type adapter for the SSRF Latitude data type.
@@ -88,10 +87,15 @@ public class XmlAdapterLAT extends AXmlAdapterNumber {
       return null;
     }
     /**
-     * Extract the DMS-encoded value. If the REGEX matches then validate the
-     * number value.
+     * Parse the common DMS-encoded form by hand. If the value is not in the
+     * common form then extract the DMS-encoded value with the REGEX. If either
+     * matches then validate the number value.
      */
-    Matcher m = Pattern.compile(REGEX).matcher(v);
+    Double decimal = XmlPatterns.parseDMS(v, 2, '8', 'N', 'S');
+    if (decimal != null) {
+      return super.convert(decimal);
+    }
+    Matcher m = XmlPatterns.compile(REGEX).matcher(v);
     if (m.find()) {
       return super.convert(DMStoDEC(Integer.valueOf(m.group(1)),
                                     Integer.valueOf(m.group(2)),
@@ -15,6 +15,8 @@
  */
 package us.gov.dod.standard.ssrf._3_1.adapter;
 
+import us.gov.dod.standard.ssrf.SerialInterner;
+
 /**
  * XML data type adapter for the SSRF SERIAL data type.
  *
@@ -35,4 +37,29 @@ public class XmlAdapterSERIAL extends AXmlAdapterString {
     super(1, 29, false, "[A-Z0-9-]{1,5}:\\w{0,4}:[A-Z]{2}:\\S{1,15}");
   }
 
+  /**
+   * Match a well formed SERIAL number by hand. Anything else falls back to the
+   * compiled pattern.
+   *
+   * @param v The value to match. Must not be null.
+   * @return TRUE if the pattern is found in the value
+   */
+  @Override
+  protected boolean find(String v) {
+    return XmlPatterns.isSerial(v) || super.find(v);
+  }
+
+  /**
+   * Convert a value type to a bound type. The SERIAL value is shared through
+   * the {@link SerialInterner} if interning is enabled.
+   *
+   * @param v The value to be converted. Can be null.
+   * @return the converted value
+   * @throws Exception if the value does not conform to the SERIAL format
+   */
+  @Override
+  public String unmarshal(String v) throws Exception {
+    return SerialInterner.intern(super.unmarshal(v));
+  }
+
 }
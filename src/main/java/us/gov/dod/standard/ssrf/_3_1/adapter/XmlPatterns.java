@@ -0,0 +1,309 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shared registry of compiled XML validation patterns.
+ * <p>
+ * The SSRF adapters validate millions of values during a bulk load. Compiling
+ * a REGEX is far more expensive than matching it, so each distinct pattern is
+ * compiled once, on first use, and the compiled (thread safe) Pattern is shared
+ * by every adapter instance of the type.
+ * <p>
+ * This class also provides hand-written matchers for the hottest patterns
+ * (SERIAL, EMSDES and the LAT/LON DMS encoding). Each matcher gives exactly
+ * the same result as the REGEX it replaces.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public final class XmlPatterns {
+
+  /**
+   * The SERIAL number string pattern.
+   */
+  public static final String SERIAL = "^([A-Z0-9-]{1,5}):(\\w{0,4}):([A-Z]{2}):(\\S{1,15})$";
+
+  /**
+   * The compiled patterns, indexed by REGEX.
+   */
+  private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+  private XmlPatterns() {
+  }
+
+  /**
+   * Get the compiled instance of a REGEX pattern. The pattern is compiled on
+   * first use and shared thereafter.
+   *
+   * @param regex the REGEX pattern. May be null.
+   * @return the compiled pattern, null if the regex is null
+   * @throws java.util.regex.PatternSyntaxException if the regex is not valid
+   */
+  public static Pattern compile(String regex) {
+    if (regex == null) {
+      return null;
+    }
+    Pattern pattern = PATTERNS.get(regex);
+    if (pattern == null) {
+      pattern = Pattern.compile(regex);
+      Pattern existing = PATTERNS.putIfAbsent(regex, pattern);
+      if (existing != null) {
+        pattern = existing;
+      }
+    }
+    return pattern;
+  }
+
+  /**
+   * Split a SERIAL number value into its four components: country,
+   * organisation, data set type and serial identifier.
+   * <p>
+   * This is equivalent to matching the {@link #SERIAL} pattern and reading
+   * groups 1 through 4. The common case is matched by hand; anything unusual
+   * falls back to the compiled pattern.
+   *
+   * @param value the SERIAL number value
+   * @return the four components, null if the value does not conform to the
+   *         SERIAL format
+   */
+  public static String[] splitSerial(String value) {
+    String[] parts = splitWellFormedSerial(value);
+    if (parts != null) {
+      return parts;
+    }
+    /**
+     * Fall back to the compiled pattern. This handles the corner cases (e.g. a
+     * trailing line terminator) and confirms the rejection.
+     */
+    Matcher m = compile(SERIAL).matcher(value);
+    if (m.find()) {
+      return new String[]{m.group(1), m.group(2), m.group(3), m.group(4)};
+    }
+    return null;
+  }
+
+  /**
+   * Split a well formed SERIAL number value (see {@link #isSerial(String)})
+   * into its four components. This scans the value once where
+   * {@link #isSerial(String)} followed by {@link #splitSerial(String)} scans it
+   * twice.
+   *
+   * @param value the SERIAL number value
+   * @return the four components, null if the value is not a well formed SERIAL
+   *         number. Null does not guarantee that the SERIAL pattern would not
+   *         match.
+   */
+  public static String[] splitWellFormedSerial(String value) {
+    int colons = scanSerial(value);
+    if (colons < 0) {
+      return null;
+    }
+    int colon1 = colons & 0xff;
+    int colon2 = colons >> 8;
+    return new String[]{value.substring(0, colon1),
+                        value.substring(colon1 + 1, colon2),
+                        value.substring(colon2 + 1, colon2 + 3),
+                        value.substring(colon2 + 4)};
+  }
+
+  /**
+   * Determine if a whole value is a well formed SERIAL number. This is the
+   * common case of the {@link #SERIAL} pattern, matched by hand.
+   *
+   * @param value the SERIAL number value
+   * @return TRUE if the value is a well formed SERIAL number. FALSE does not
+   *         guarantee that the SERIAL pattern would not match.
+   */
+  public static boolean isSerial(String value) {
+    return scanSerial(value) >= 0;
+  }
+
+  /**
+   * Scan a SERIAL number value by hand.
+   *
+   * @param value the SERIAL number value
+   * @return the index of the first colon in the low byte and the index of the
+   *         second colon in the next byte, -1 if the value is not a well
+   *         formed SERIAL number
+   */
+  private static int scanSerial(String value) {
+    int length = value.length();
+    /**
+     * Part 1: [A-Z0-9-]{1,5} followed by a colon.
+     */
+    int i = 0;
+    while (i < length && i < 6 && isCountryChar(value.charAt(i))) {
+      i++;
+    }
+    int colon1 = i;
+    if (colon1 < 1 || colon1 > 5 || colon1 >= length || value.charAt(colon1) != ':') {
+      return -1;
+    }
+    /**
+     * Part 2: \w{0,4} followed by a colon.
+     */
+    i = colon1 + 1;
+    while (i < length && i - colon1 <= 5 && isWordChar(value.charAt(i))) {
+      i++;
+    }
+    int colon2 = i;
+    /**
+     * Part 3: [A-Z]{2} followed by a colon. Part 4: \S{1,15} to the end.
+     */
+    if (colon2 - colon1 - 1 > 4
+        || colon2 + 3 >= length
+        || value.charAt(colon2) != ':'
+        || !isUpperCase(value.charAt(colon2 + 1))
+        || !isUpperCase(value.charAt(colon2 + 2))
+        || value.charAt(colon2 + 3) != ':') {
+      return -1;
+    }
+    int count = length - colon2 - 4;
+    if (count < 1 || count > 15 || !isNonSpace(value, colon2 + 4, length)) {
+      return -1;
+    }
+    return colon1 | colon2 << 8;
+  }
+
+  /**
+   * Hand-written matcher for the EMSDES pattern. Equivalent to
+   * <code>find()</code> with the pattern
+   * "(A|B|C|D|F|G|H|J|K|L|M|N|P|Q|R|V|W|X|-)(0|1|2|3|7|8|9|X|-)(A|B|C|D|E|F|N|W|X|-)(A|B|C|D|E|F|G|H|J|K|L|M|N|W|X)?(C|F|N|T|W|X)?".
+   * The trailing groups are optional so a value matches if it contains any
+   * three consecutive characters matching the first three groups.
+   *
+   * @param value the EMSDES value
+   * @return TRUE if the value matches the pattern
+   */
+  public static boolean findEMSDES(CharSequence value) {
+    for (int i = 0; i + 3 <= value.length(); i++) {
+      if ("ABCDFGHJKLMNPQRVWX-".indexOf(value.charAt(i)) >= 0
+          && "0123789X-".indexOf(value.charAt(i + 1)) >= 0
+          && "ABCDEFNWX-".indexOf(value.charAt(i + 2)) >= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Hand-written parser for a DMS-encoded coordinate covering the whole value:
+   * <code>dd[d]mmss[.hh]H</code>. This is the common case of the LAT and LON
+   * adapter REGEX patterns.
+   *
+   * @param value         the DMS-encoded value
+   * @param degreeDigits  the number of degree digits: 2 for latitude, 3 for
+   *                      longitude
+   * @param maxFirstDigit the maximum first degree digit: '8' for latitude, '1'
+   *                      for longitude
+   * @param positive      the positive hemisphere character: 'N' or 'E'
+   * @param negative      the negative hemisphere character: 'S' or 'W'
+   * @return the coordinate in decimal degrees, null if the value is not in the
+   *         common form (the caller should fall back to the REGEX)
+   */
+  static Double parseDMS(String value, int degreeDigits, char maxFirstDigit, char positive, char negative) {
+    int length = value.length();
+    int minutes = degreeDigits;
+    int seconds = minutes + 2;
+    int end = seconds + 2;
+    if (length < end + 1
+        || !isInRange(value.charAt(0), '0', maxFirstDigit)
+        || !isInRange(value.charAt(minutes), '0', '5')
+        || !isInRange(value.charAt(seconds), '0', '5')) {
+      return null;
+    }
+    for (int i = 1; i < end; i++) {
+      if (i != minutes && i != seconds && !isInRange(value.charAt(i), '0', '9')) {
+        return null;
+      }
+    }
+    /**
+     * Optional decimal point followed by up to two fractional digits.
+     */
+    if (value.charAt(end) == '.') {
+      end++;
+    }
+    for (int digits = 0; digits < 2 && end < length && isInRange(value.charAt(end), '0', '9'); digits++) {
+      end++;
+    }
+    if (end != length - 1) {
+      return null;
+    }
+    char hemisphere = value.charAt(end);
+    if (hemisphere != positive && hemisphere != negative) {
+      return null;
+    }
+    int deg = 0;
+    for (int i = 0; i < minutes; i++) {
+      deg = deg * 10 + value.charAt(i) - '0';
+    }
+    int min = (value.charAt(minutes) - '0') * 10 + value.charAt(minutes + 1) - '0';
+    double sec = Double.valueOf(value.substring(seconds, end));
+    double decimalDegree = deg + (min + (sec / 60)) / 60;
+    return hemisphere == negative ? -1 * decimalDegree : decimalDegree;
+  }
+
+  //<editor-fold defaultstate="collapsed" desc="Character classes">
+  /**
+   * [A-Z0-9-]
+   */
+  private static boolean isCountryChar(char c) {
+    return isUpperCase(c) || isInRange(c, '0', '9') || c == '-';
+  }
+
+  /**
+   * \w: [a-zA-Z_0-9]
+   */
+  private static boolean isWordChar(char c) {
+    return isUpperCase(c) || isInRange(c, 'a', 'z') || isInRange(c, '0', '9') || c == '_';
+  }
+
+  /**
+   * [A-Z]
+   */
+  private static boolean isUpperCase(char c) {
+    return isInRange(c, 'A', 'Z');
+  }
+
+  /**
+   * \S: [^ \t\n\x0B\f\r] for every character in the range.
+   */
+  private static boolean isNonSpace(String value, int from, int to) {
+    for (int i = from; i < to; i++) {
+      switch (value.charAt(i)) {
+        case ' ':
+        case '\t':
+        case '\n':
+        case '\u000B':
+        case '\f':
+        case '\r':
+          return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isInRange(char c, char low, char high) {
+    return c >= low && c <= high;
+  }//</editor-fold>
+}
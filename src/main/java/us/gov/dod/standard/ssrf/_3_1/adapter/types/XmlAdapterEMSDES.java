@@ -16,6 +16,7 @@
 package us.gov.dod.standard.ssrf._3_1.adapter.types;
 
 import us.gov.dod.standard.ssrf._3_1.adapter.AXmlAdapterString;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlPatterns;
 
 /**
  * XML data type adapter for the SSRF EMSDES data type.
@@ -28,4 +29,15 @@ public class XmlAdapterEMSDES extends AXmlAdapterString {
   public XmlAdapterEMSDES() {
     super(1, 5, false, "(A|B|C|D|F|G|H|J|K|L|M|N|P|Q|R|V|W|X|-)(0|1|2|3|7|8|9|X|-)(A|B|C|D|E|F|N|W|X|-)(A|B|C|D|E|F|G|H|J|K|L|M|N|W|X)?(C|F|N|T|W|X)?");
   }
+
+  /**
+   * Match the EMSDES pattern with a hand-written matcher.
+   *
+   * @param v The value to match. Must not be null.
+   * @return TRUE if the pattern is found in the value
+   */
+  @Override
+  protected boolean find(String v) {
+    return XmlPatterns.findEMSDES(v);
+  }
 }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.administrative;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S255;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S50;
 
@@ -56,6 +59,15 @@ public class Code {
   @XmlElement(name = "Description", required = false)
   private S255 description;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the unique code entry within the code list..
    *
@@ -73,6 +85,7 @@ public class Code {
    * @since 3.1.0
    */
   public void setValue(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.value = value;
   }
 
@@ -104,6 +117,7 @@ public class Code {
    * @since 3.1.0
    */
   public void setDescription(S255 value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
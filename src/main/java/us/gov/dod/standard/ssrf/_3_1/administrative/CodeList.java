@@ -19,8 +19,11 @@ import java.util.*;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Administrative;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.MEMO;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -127,6 +130,15 @@ public class CodeList {
   @XmlElement(name = "Code")
   private Set<Code> code;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the intended type of modification to the given code list..
    *
@@ -144,6 +156,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public void setAction(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.action = value;
   }
 
@@ -177,6 +190,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public void setCodeListCode(US3 value) {
+    ChangeTracker.touch(owningDataset);
     this.codeListCode = value;
   }
 
@@ -206,6 +220,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public void setEffectiveDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.effectiveDate = value;
   }
 
@@ -237,6 +252,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public void setDescription(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
@@ -266,6 +282,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public void setOrigin(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.origin = value;
   }
 
@@ -307,6 +324,7 @@ public class CodeList {
    * Clear the Code field. This sets the field to null.
    */
   public void unsetCode() {
+    ChangeTracker.touch(owningDataset);
     this.code = null;
   }
 
@@ -393,6 +411,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public CodeList withCode(Code... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getCode().addAll(Arrays.asList(values));
     }
@@ -408,6 +427,7 @@ public class CodeList {
    * @since 3.1.0
    */
   public CodeList withCode(Collection<Code> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getCode().addAll(values);
     }
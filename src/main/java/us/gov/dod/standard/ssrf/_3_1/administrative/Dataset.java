@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1.administrative;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Administrative;
 import us.gov.dod.standard.ssrf._3_1.Common;
@@ -88,6 +89,15 @@ public class Dataset {
   @XmlElement(name = "MissingRef", nillable = true)
   private Set<Serial> missingRef;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the serial of the referenced Dataset..
    *
@@ -105,6 +115,7 @@ public class Dataset {
    * @since 3.1.0
    */
   public void setSerial(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.serial = value;
   }
 
@@ -134,6 +145,7 @@ public class Dataset {
    * @since 3.1.0
    */
   public void setRetireDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.retireDate = value;
   }
 
@@ -163,6 +175,7 @@ public class Dataset {
    * @since 3.1.0
    */
   public void setReason(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.reason = value;
   }
 
@@ -208,6 +221,7 @@ public class Dataset {
    * Clear the MissingRef field. This sets the field to null.
    */
   public void unsetMissingRef() {
+    ChangeTracker.touch(owningDataset);
     this.missingRef = null;
   }
 
@@ -274,6 +288,7 @@ public class Dataset {
    */
   @Deprecated
   public Dataset withMissingRef(Serial... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getMissingRef().addAll(Arrays.asList(values));
     }
@@ -295,6 +310,7 @@ public class Dataset {
    */
   @Deprecated
   public Dataset withMissingRef(Collection<Serial> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getMissingRef().addAll(values);
     }
@@ -395,6 +411,7 @@ public class Dataset {
    * @since 3.1.0
    */
   public Dataset withMissing(Collection<Common<?>> values) {
+    ChangeTracker.touch(owningDataset);
     getMissing().addAll(values);
     return this;
   }
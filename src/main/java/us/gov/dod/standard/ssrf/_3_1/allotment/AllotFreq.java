@@ -20,8 +20,10 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Allotment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Location;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S6;
@@ -125,6 +127,15 @@ public class AllotFreq {
   @XmlElement(name = "LocationRestriction", nillable = true)
   private Set<Serial> locationRestrictionRef;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the nominal frequency or minimum value of the frequency range..
    *
@@ -142,6 +153,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -175,6 +187,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -208,6 +221,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public void setPairedFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.pairedFreqMin = value;
   }
 
@@ -237,6 +251,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public void setTuningStep(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.tuningStep = value;
   }
 
@@ -266,6 +281,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public void setAllotChannel(S6 value) {
+    ChangeTracker.touch(owningDataset);
     this.allotChannel = value;
   }
 
@@ -307,6 +323,7 @@ public class AllotFreq {
    * Clear the LocationRestriction field. This sets the field to null.
    */
   public void unsetLocationRestrictionRef() {
+    ChangeTracker.touch(owningDataset);
     this.locationRestrictionRef = null;
   }
 
@@ -385,6 +402,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public AllotFreq withLocationRestrictionRef(Serial... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getLocationRestrictionRef().addAll(Arrays.asList(values));
     }
@@ -402,6 +420,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public AllotFreq withLocationRestrictionRef(Collection<Serial> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getLocationRestrictionRef().addAll(values);
     }
@@ -484,6 +503,7 @@ public class AllotFreq {
    * @since 3.1.0
    */
   public AllotFreq withLocationRestriction(Collection<Location> values) {
+    ChangeTracker.touch(owningDataset);
     getLocationRestriction().addAll(values);
     return this;
   }
@@ -520,9 +540,10 @@ public class AllotFreq {
     if (locationRestrictionRef == null || locationRestrictionRef.isEmpty()) {
       return;
     }
-    for (Location instance : root.getLocation()) {
-      if (locationRestrictionRef.contains(instance.getSerial())) {
-        getLocationRestriction().add(instance);
+    for (Serial ref : locationRestrictionRef) {
+      Location location = root.findBySerial(ref, Location.class);
+      if (location != null) {
+        getLocationRestriction().add(location);
       }
     }
   }//</editor-fold>
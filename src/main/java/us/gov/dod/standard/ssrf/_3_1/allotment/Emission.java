@@ -18,8 +18,11 @@ package us.gov.dod.standard.ssrf._3_1.allotment;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Allotment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.EmsDes;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.dBW;
@@ -135,6 +138,15 @@ public class Emission {
   @XmlElement(name = "Power", required = false)
   private dBW power;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a three to five characters code, derived from the table below,
    * representing the emission classification. If an "X" is used in any of the
@@ -268,6 +280,7 @@ public class Emission {
    * @since 3.1.0
    */
   public void setEmsClass(EmsDes value) {
+    ChangeTracker.touch(owningDataset);
     this.emsClass = value;
   }
 
@@ -305,6 +318,7 @@ public class Emission {
    * @since 3.1.0
    */
   public void setNecessaryBw(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.necessaryBw = value;
   }
 
@@ -334,6 +348,7 @@ public class Emission {
    * @since 3.1.0
    */
   public void setPower(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.power = value;
   }
 
@@ -16,6 +16,7 @@
 package us.gov.dod.standard.ssrf._3_1.allotment;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.*;
 import us.gov.dod.standard.ssrf._3_1.assignment.Station;
@@ -84,6 +85,15 @@ public class POCInformation {
   @XmlElement(name = "Description", required = false)
   private MEMO description;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the function of the referenced Contact or Organisation within the
    * current dataset..
@@ -103,6 +113,7 @@ public class POCInformation {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -140,6 +151,7 @@ public class POCInformation {
    */
   @Deprecated
   public void setSerial(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.serial = value;
   }
 
@@ -173,6 +185,7 @@ public class POCInformation {
    * @since 3.1.0
    */
   public void setDescription(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
@@ -294,6 +307,7 @@ public class POCInformation {
    * @since 3.1.0
    */
   public POCInformation withPoc(Common<?> value) {
+    ChangeTracker.touch(owningDataset);
     this.poc = value;
     return this;
   }
@@ -323,26 +337,12 @@ public class POCInformation {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (serial == null || !serial.isSetValue()) {
-      return;
-    }
-    for (Contact instance : root.getContact()) {
-      if (serial.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
-    }
-    for (Organisation instance : root.getOrganisation()) {
-      if (serial.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
+    poc = root.findBySerial(serial, Contact.class);
+    if (poc == null) {
+      poc = root.findBySerial(serial, Organisation.class);
     }
-    for (Role instance : root.getRole()) {
-      if (serial.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
+    if (poc == null) {
+      poc = root.findBySerial(serial, Role.class);
     }
   }//</editor-fold>
 
@@ -18,9 +18,12 @@ package us.gov.dod.standard.ssrf._3_1.allotment;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Allotment;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.FEDeployment;
 import us.gov.dod.standard.ssrf._3_1.SSRequest;
 import us.gov.dod.standard.ssrf._3_1.jrfl.JRFLEntry;
@@ -85,6 +88,15 @@ public class Project {
   @XmlElement(name = "Description", required = false)
   private MEMO description;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the type of project..
    *
@@ -102,6 +114,7 @@ public class Project {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -133,6 +146,7 @@ public class Project {
    * @since 3.1.0
    */
   public void setName(S30 value) {
+    ChangeTracker.touch(owningDataset);
     this.name = value;
   }
 
@@ -162,6 +176,7 @@ public class Project {
    * @since 3.1.0
    */
   public void setDescription(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
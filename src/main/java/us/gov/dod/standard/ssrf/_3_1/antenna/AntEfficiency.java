@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Percent;
 
@@ -85,6 +88,15 @@ public class AntEfficiency {
   @XmlElement(name = "Efficiency", required = true)
   private Percent efficiency;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the nominal frequency or minimum value of the frequency range..
    *
@@ -102,6 +114,7 @@ public class AntEfficiency {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -135,6 +148,7 @@ public class AntEfficiency {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -166,6 +180,7 @@ public class AntEfficiency {
    * @since 3.1.0
    */
   public void setEfficiency(Percent value) {
+    ChangeTracker.touch(owningDataset);
     this.efficiency = value;
   }
 
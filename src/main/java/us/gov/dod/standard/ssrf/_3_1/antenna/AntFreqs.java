@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAU;
@@ -98,6 +101,15 @@ public class AntFreqs {
   @XmlElement(name = "FreqUse", required = false)
   private TString freqUse;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the nominal frequency or minimum value of the frequency range..
    *
@@ -115,6 +127,7 @@ public class AntFreqs {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -148,6 +161,7 @@ public class AntFreqs {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -179,6 +193,7 @@ public class AntFreqs {
    * @since 3.1.0
    */
   public void setBandwidth(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.bandwidth = value;
   }
 
@@ -210,6 +225,7 @@ public class AntFreqs {
    * @since 3.1.0
    */
   public void setFreqUse(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.freqUse = value;
   }
 
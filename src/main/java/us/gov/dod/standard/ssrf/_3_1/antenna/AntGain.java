@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Unsigned_DB_5_2;
@@ -98,6 +101,15 @@ public class AntGain {
   @XmlElement(name = "FrontToBackRatio", required = false)
   private Unsigned_DB_5_2 frontToBackRatio;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get Yes to indicate that the data was calculated, or "No" if the data is
    * issued from measurement. Leave blank if the origin of the data is not
@@ -119,6 +131,7 @@ public class AntGain {
    * @since 3.1.0
    */
   public void setCalculated(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.calculated = value;
   }
 
@@ -154,6 +167,7 @@ public class AntGain {
    * @since 3.1.0
    */
   public void setGain(dBi value) {
+    ChangeTracker.touch(owningDataset);
     this.gain = value;
   }
 
@@ -183,6 +197,7 @@ public class AntGain {
    * @since 3.1.0
    */
   public void setFreq(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freq = value;
   }
 
@@ -212,6 +227,7 @@ public class AntGain {
    * @since 3.1.0
    */
   public void setFrontToBackRatio(Unsigned_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.frontToBackRatio = value;
   }
 
@@ -18,8 +18,11 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Antenna;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S10;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAF;
@@ -99,6 +102,15 @@ public class AntHardware {
   @XmlElement(name = "FeedOrientation", required = false)
   private S10 feedOrientation;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the element used to "illuminate" the reflector for an antenna unit..
    *
@@ -116,6 +128,7 @@ public class AntHardware {
    * @since 3.1.0
    */
   public void setFeedType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.feedType = value;
   }
 
@@ -151,6 +164,7 @@ public class AntHardware {
    * @since 3.1.0
    */
   public void setLeadType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.leadType = value;
   }
 
@@ -186,6 +200,7 @@ public class AntHardware {
    * @since 3.1.0
    */
   public void setConnectorType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.connectorType = value;
   }
 
@@ -221,6 +236,7 @@ public class AntHardware {
    * @since 3.1.0
    */
   public void setFeedOrientation(S10 value) {
+    ChangeTracker.touch(owningDataset);
     this.feedOrientation = value;
   }
 
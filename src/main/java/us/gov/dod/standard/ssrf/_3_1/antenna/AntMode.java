@@ -22,8 +22,11 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Antenna;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.*;
 
@@ -501,6 +504,15 @@ public class AntMode {
   @XmlElement(name = "ObservedScanAnalysis")
   private Set<ObservedScanAnalysis> observedScanAnalysis;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a short name for the mode; this name should be a meaningful
    * identification of the mode, but it can also be automatically generated in
@@ -524,6 +536,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setModeID(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.modeID = value;
   }
 
@@ -555,6 +568,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setDescription(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
@@ -586,6 +600,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setModeUse(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.modeUse = value;
   }
 
@@ -619,6 +634,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setMotionType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.motionType = value;
   }
 
@@ -650,6 +666,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setSectBlanking(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.sectBlanking = value;
   }
 
@@ -683,6 +700,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setPolarisationType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.polarisationType = value;
   }
 
@@ -718,6 +736,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setPolarisationAngle(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.polarisationAngle = value;
   }
 
@@ -755,6 +774,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzScanSpeed(ScanSpeed value) {
+    ChangeTracker.touch(owningDataset);
     this.horzScanSpeed = value;
   }
 
@@ -786,6 +806,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzScanRate(ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.horzScanRate = value;
   }
 
@@ -815,6 +836,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzScanType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.horzScanType = value;
   }
 
@@ -848,6 +870,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzScanSector(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.horzScanSector = value;
   }
 
@@ -885,6 +908,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertScanSpeed(ScanSpeed value) {
+    ChangeTracker.touch(owningDataset);
     this.vertScanSpeed = value;
   }
 
@@ -922,6 +946,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertScanRate(ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.vertScanRate = value;
   }
 
@@ -951,6 +976,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertScanType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.vertScanType = value;
   }
 
@@ -984,6 +1010,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertScanAngleMin(Elev value) {
+    ChangeTracker.touch(owningDataset);
     this.vertScanAngleMin = value;
   }
 
@@ -1021,6 +1048,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertScanAngleMax(Elev value) {
+    ChangeTracker.touch(owningDataset);
     this.vertScanAngleMax = value;
   }
 
@@ -1050,6 +1078,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setRotationDirection(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.rotationDirection = value;
   }
 
@@ -1081,6 +1110,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setRotationRateMin(RotationRate value) {
+    ChangeTracker.touch(owningDataset);
     this.rotationRateMin = value;
   }
 
@@ -1116,6 +1146,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setRotationRateMax(RotationRate value) {
+    ChangeTracker.touch(owningDataset);
     this.rotationRateMax = value;
   }
 
@@ -1145,6 +1176,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzBwMin(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.horzBwMin = value;
   }
 
@@ -1180,6 +1212,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setHorzBwMax(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.horzBwMax = value;
   }
 
@@ -1209,6 +1242,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertBwMin(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.vertBwMin = value;
   }
 
@@ -1244,6 +1278,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setVertBwMax(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.vertBwMax = value;
   }
 
@@ -1275,6 +1310,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setBeamType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.beamType = value;
   }
 
@@ -1306,6 +1342,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setMaxPower(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.maxPower = value;
   }
 
@@ -1337,6 +1374,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setPortIsolation(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.portIsolation = value;
   }
 
@@ -1366,6 +1404,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public void setModeName(S40 value) {
+    ChangeTracker.touch(owningDataset);
     this.modeName = value;
   }
 
@@ -1408,6 +1447,7 @@ public class AntMode {
    * Clear the AntGain field. This sets the field to null.
    */
   public void unsetAntGain() {
+    ChangeTracker.touch(owningDataset);
     this.antGain = null;
   }
 
@@ -1440,6 +1480,7 @@ public class AntMode {
    * Clear the AntFreqs field. This sets the field to null.
    */
   public void unsetAntFreqs() {
+    ChangeTracker.touch(owningDataset);
     this.antFreqs = null;
   }
 
@@ -1476,6 +1517,7 @@ public class AntMode {
    * Clear the AntPattern field. This sets the field to null.
    */
   public void unsetAntPattern() {
+    ChangeTracker.touch(owningDataset);
     this.antPattern = null;
   }
 
@@ -1508,6 +1550,7 @@ public class AntMode {
    * Clear the AntEfficiency field. This sets the field to null.
    */
   public void unsetAntEfficiency() {
+    ChangeTracker.touch(owningDataset);
     this.antEfficiency = null;
   }
 
@@ -1541,6 +1584,7 @@ public class AntMode {
    * Clear the VSWR field. This sets the field to null.
    */
   public void unsetVSWR() {
+    ChangeTracker.touch(owningDataset);
     this.vswr = null;
   }
 
@@ -1573,6 +1617,7 @@ public class AntMode {
    * Clear the ObservedLobeAnalysis field. This sets the field to null.
    */
   public void unsetObservedLobeAnalysis() {
+    ChangeTracker.touch(owningDataset);
     this.observedLobeAnalysis = null;
   }
 
@@ -1606,6 +1651,7 @@ public class AntMode {
    * Clear the ObservedPolarisationAnalysis field. This sets the field to null.
    */
   public void unsetObservedPolarisationAnalysis() {
+    ChangeTracker.touch(owningDataset);
     this.observedPolarisationAnalysis = null;
   }
 
@@ -1639,6 +1685,7 @@ public class AntMode {
    * Clear the ObservedScanAnalysis field. This sets the field to null.
    */
   public void unsetObservedScanAnalysis() {
+    ChangeTracker.touch(owningDataset);
     this.observedScanAnalysis = null;
   }
 
@@ -2017,6 +2064,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntGain(AntGain... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAntGain().addAll(Arrays.asList(values));
     }
@@ -2035,6 +2083,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntGain(Collection<AntGain> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAntGain().addAll(values);
     }
@@ -2052,6 +2101,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntFreqs(AntFreqs... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAntFreqs().addAll(Arrays.asList(values));
     }
@@ -2069,6 +2119,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntFreqs(Collection<AntFreqs> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAntFreqs().addAll(values);
     }
@@ -2090,6 +2141,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntPattern(AntPattern... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAntPattern().addAll(Arrays.asList(values));
     }
@@ -2111,6 +2163,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntPattern(Collection<AntPattern> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAntPattern().addAll(values);
     }
@@ -2128,6 +2181,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntEfficiency(AntEfficiency... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAntEfficiency().addAll(Arrays.asList(values));
     }
@@ -2145,6 +2199,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withAntEfficiency(Collection<AntEfficiency> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAntEfficiency().addAll(values);
     }
@@ -2163,6 +2218,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withVSWR(VSWR... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getVSWR().addAll(Arrays.asList(values));
     }
@@ -2181,6 +2237,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withVSWR(Collection<VSWR> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getVSWR().addAll(values);
     }
@@ -2199,6 +2256,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withObservedLobeAnalysis(ObservedLobeAnalysis... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedLobeAnalysis().addAll(Arrays.asList(values));
     }
@@ -2216,6 +2274,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withObservedLobeAnalysis(Collection<ObservedLobeAnalysis> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedLobeAnalysis().addAll(values);
     }
@@ -2234,6 +2293,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withObservedPolarisationAnalysis(ObservedPolarisationAnalysis... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedPolarisationAnalysis().addAll(Arrays.asList(values));
     }
@@ -2252,6 +2312,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withObservedPolarisationAnalysis(Collection<ObservedPolarisationAnalysis> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedPolarisationAnalysis().addAll(values);
     }
@@ -2271,6 +2332,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withObservedScanAnalysis(ObservedScanAnalysis... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedScanAnalysis().addAll(Arrays.asList(values));
     }
@@ -2289,6 +2351,7 @@ public class AntMode {
    * @since 3.1.0
    */
   public AntMode withObservedScanAnalysis(Collection<ObservedScanAnalysis> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedScanAnalysis().addAll(values);
     }
@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Az180;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAP;
@@ -128,6 +131,15 @@ public class AntPattern {
   @XmlElement(name = "AntPatternPoint", required = true)
   private Set<AntPatternPoint> antPatternPoint;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the type of the pattern cut. A Theta cut holds Phi constant while
    * varying Theta. A Phi cut holds Theta constant while varying Phi, where
@@ -151,6 +163,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -186,6 +199,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public void setCalculated(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.calculated = value;
   }
 
@@ -223,6 +237,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public void setCutType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.cutType = value;
   }
 
@@ -256,6 +271,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public void setCutAngle(Az180 value) {
+    ChangeTracker.touch(owningDataset);
     this.cutAngle = value;
   }
 
@@ -297,6 +313,7 @@ public class AntPattern {
    * Clear the AntPatternPoint field. This sets the field to null.
    */
   public void unsetAntPatternPoint() {
+    ChangeTracker.touch(owningDataset);
     this.antPatternPoint = null;
   }
 
@@ -368,6 +385,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public AntPattern withAntPatternPoint(AntPatternPoint... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAntPatternPoint().addAll(Arrays.asList(values));
     }
@@ -385,6 +403,7 @@ public class AntPattern {
    * @since 3.1.0
    */
   public AntPattern withAntPatternPoint(Collection<AntPatternPoint> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAntPatternPoint().addAll(values);
     }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Az;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Signed_DB_5_2;
 
@@ -62,6 +65,15 @@ public class AntPatternPoint {
   @XmlElement(name = "Gain", required = true)
   private Signed_DB_5_2 gain;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the direction in degrees in reference to the pointing angle of the
    * antenna set to zero..
@@ -81,6 +93,7 @@ public class AntPatternPoint {
    * @since 3.1.0
    */
   public void setDir(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.dir = value;
   }
 
@@ -110,6 +123,7 @@ public class AntPatternPoint {
    * @since 3.1.0
    */
   public void setGain(Signed_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.gain = value;
   }
 
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S100;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAO;
@@ -63,6 +66,15 @@ public class Manufacturer {
   @XmlElement(name = "Name", required = true)
   private S100 name;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the country or area in which the Manufacturer has its Headquarters..
    * <p>
@@ -80,6 +92,7 @@ public class Manufacturer {
    * @since 3.1.0
    */
   public void setCountry(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.country = value;
   }
 
@@ -111,6 +124,7 @@ public class Manufacturer {
    * @since 3.1.0
    */
   public void setName(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.name = value;
   }
 
@@ -22,7 +22,9 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S100;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -111,6 +113,15 @@ public class Nomenclature {
   @XmlElement(name = "Manufacturer")
   private Set<Manufacturer> manufacturer;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the type of nomenclature (commercial, military, etc)..
    * <p>
@@ -128,6 +139,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -159,6 +171,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public void setLevel(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.level = value;
   }
 
@@ -194,6 +207,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public void setName(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.name = value;
   }
 
@@ -225,6 +239,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public void setPhysicalUsage(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.physicalUsage = value;
   }
 
@@ -270,6 +285,7 @@ public class Nomenclature {
    * Clear the Manufacturer field. This sets the field to null.
    */
   public void unsetManufacturer() {
+    ChangeTracker.touch(owningDataset);
     this.manufacturer = null;
   }
 
@@ -337,6 +353,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public Nomenclature withManufacturer(Manufacturer... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getManufacturer().addAll(Arrays.asList(values));
     }
@@ -356,6 +373,7 @@ public class Nomenclature {
    * @since 3.1.0
    */
   public Nomenclature withManufacturer(Collection<Manufacturer> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getManufacturer().addAll(values);
     }
@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S10;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S25;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -129,6 +132,15 @@ public class ObservedLobeAnalysis {
   @XmlElement(name = "ObservedLobeValues")
   private Set<ObservedLobeValues> observedLobeValues;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item BeamType (US), indicate the pattern beam type that best
    * represents the general shape of the beam as it radiates from the antenna.
@@ -158,6 +170,7 @@ public class ObservedLobeAnalysis {
    * @since 3.1.0
    */
   public void setBeamType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.beamType = value;
   }
 
@@ -189,6 +202,7 @@ public class ObservedLobeAnalysis {
    * @since 3.1.0
    */
   public void setLobeID(S10 value) {
+    ChangeTracker.touch(owningDataset);
     this.lobeID = value;
   }
 
@@ -220,6 +234,7 @@ public class ObservedLobeAnalysis {
    * @since 3.1.0
    */
   public void setLobeName(S25 value) {
+    ChangeTracker.touch(owningDataset);
     this.lobeName = value;
   }
 
@@ -251,6 +266,7 @@ public class ObservedLobeAnalysis {
    * @since 3.1.0
    */
   public void setLobeSymmetric(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.lobeSymmetric = value;
   }
 
@@ -296,6 +312,7 @@ public class ObservedLobeAnalysis {
    * Clear the ObservedLobeValues field. This sets the field to null.
    */
   public void unsetObservedLobeValues() {
+    ChangeTracker.touch(owningDataset);
     this.observedLobeValues = null;
   }
 
@@ -367,6 +384,7 @@ public class ObservedLobeAnalysis {
    * @since 3.1.0
    */
   public ObservedLobeAnalysis withObservedLobeValues(ObservedLobeValues... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedLobeValues().addAll(Arrays.asList(values));
     }
@@ -386,6 +404,7 @@ public class ObservedLobeAnalysis {
    * @since 3.1.0
    */
   public ObservedLobeAnalysis withObservedLobeValues(Collection<ObservedLobeValues> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedLobeValues().addAll(values);
     }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 
 /**
@@ -187,6 +190,15 @@ public class ObservedLobeValues {
   @XmlElement(name = "VertBwMin", required = false)
   private US_Degrees vertBwMin;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the maximum angle of the horizontal component of the antenna mainbeam
    * measured at the half-power (-3 dB) point of its maximum horizontal width.
@@ -212,6 +224,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setHorzBwMax(US_Degrees value) {
+    ChangeTracker.touch(owningDataset);
     this.horzBwMax = value;
   }
 
@@ -243,6 +256,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setHorzBwMin(US_Degrees value) {
+    ChangeTracker.touch(owningDataset);
     this.horzBwMin = value;
   }
 
@@ -274,6 +288,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setLobeValueAngleAccuracy(US_Degrees90 value) {
+    ChangeTracker.touch(owningDataset);
     this.lobeValueAngleAccuracy = value;
   }
 
@@ -305,6 +320,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setLobeValueAngleHorz(Az180 value) {
+    ChangeTracker.touch(owningDataset);
     this.lobeValueAngleHorz = value;
   }
 
@@ -336,6 +352,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setLobeValueAngleVert(Az180 value) {
+    ChangeTracker.touch(owningDataset);
     this.lobeValueAngleVert = value;
   }
 
@@ -367,6 +384,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setLobeValueID(S10 value) {
+    ChangeTracker.touch(owningDataset);
     this.lobeValueID = value;
   }
 
@@ -398,6 +416,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setLobeValueLevel(US_DB150 value) {
+    ChangeTracker.touch(owningDataset);
     this.lobeValueLevel = value;
   }
 
@@ -429,6 +448,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setLobeValueLevelAccuracy(US_DB90 value) {
+    ChangeTracker.touch(owningDataset);
     this.lobeValueLevelAccuracy = value;
   }
 
@@ -458,6 +478,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setLobeValueName(S25 value) {
+    ChangeTracker.touch(owningDataset);
     this.lobeValueName = value;
   }
 
@@ -495,6 +516,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setVertBwMax(US_Degrees value) {
+    ChangeTracker.touch(owningDataset);
     this.vertBwMax = value;
   }
 
@@ -526,6 +548,7 @@ public class ObservedLobeValues {
    * @since 3.1.0
    */
   public void setVertBwMin(US_Degrees value) {
+    ChangeTracker.touch(owningDataset);
     this.vertBwMin = value;
   }
 
@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCPO;
@@ -400,6 +403,15 @@ public class ObservedPolarisationAnalysis {
   @XmlElement(name = "ObservedPolarisationValues")
   private Set<ObservedPolarisationValues> observedPolarisationValues;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the ratio of the polarisation ellipse major axis to its minor axis
    * expressed in decibels..
@@ -419,6 +431,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setAxialRatio(Unsigned_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.axialRatio = value;
   }
 
@@ -448,6 +461,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setNumTiltAngleElements(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numTiltAngleElements = value;
   }
 
@@ -479,6 +493,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setNumTiltAnglePositions(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numTiltAnglePositions = value;
   }
 
@@ -510,6 +525,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setPolarisationRotationRate(US_ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.polarisationRotationRate = value;
   }
 
@@ -541,6 +557,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setPolarisationType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.polarisationType = value;
   }
 
@@ -576,6 +593,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setPolarisationDirection(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.polarisationDirection = value;
   }
 
@@ -611,6 +629,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setPolarisationSense(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.polarisationSense = value;
   }
 
@@ -644,6 +663,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleAdaptiveDriverDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleAdaptiveDriverDesc = value;
   }
 
@@ -675,6 +695,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleAdaptiveRuleDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleAdaptiveRuleDesc = value;
   }
 
@@ -710,6 +731,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleContinuous(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleContinuous = value;
   }
 
@@ -745,6 +767,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleDuration(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleDuration = value;
   }
 
@@ -784,6 +807,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleExtremeMax(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleExtremeMax = value;
   }
 
@@ -817,6 +841,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleExtremeMin(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleExtremeMin = value;
   }
 
@@ -848,6 +873,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleMean(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleMean = value;
   }
 
@@ -879,6 +905,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleMedian(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleMedian = value;
   }
 
@@ -910,6 +937,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAnglePatternPeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAnglePatternPeriod = value;
   }
 
@@ -943,6 +971,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAnglePatternType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAnglePatternType = value;
   }
 
@@ -984,6 +1013,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleRangeMax(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleRangeMax = value;
   }
 
@@ -1017,6 +1047,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleRangeMin(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleRangeMin = value;
   }
 
@@ -1048,6 +1079,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleRate(US_TiltAngRate value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleRate = value;
   }
 
@@ -1079,6 +1111,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleSequenceDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleSequenceDesc = value;
   }
 
@@ -1110,6 +1143,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleStdDev(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleStdDev = value;
   }
 
@@ -1141,6 +1175,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public void setTiltAngleStep(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleStep = value;
   }
 
@@ -1183,6 +1218,7 @@ public class ObservedPolarisationAnalysis {
    * Clear the ObservedPolarisationValues field. This sets the field to null.
    */
   public void unsetObservedPolarisationValues() {
+    ChangeTracker.touch(owningDataset);
     this.observedPolarisationValues = null;
   }
 
@@ -1511,6 +1547,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public ObservedPolarisationAnalysis withObservedPolarisationValues(ObservedPolarisationValues... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedPolarisationValues().addAll(Arrays.asList(values));
     }
@@ -1528,6 +1565,7 @@ public class ObservedPolarisationAnalysis {
    * @since 3.1.0
    */
   public ObservedPolarisationAnalysis withObservedPolarisationValues(Collection<ObservedPolarisationValues> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedPolarisationValues().addAll(values);
     }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US_Deg_Signed;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US_Percent3;
 
@@ -62,6 +65,15 @@ public class ObservedPolarisationValues {
   @XmlElement(name = "TiltAngleValue", required = false)
   private US_Deg_Signed tiltAngleValue;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item StatisticalIndicator (US), indicate how this specific data
    * observation was collected (e.g., 95% of the observed values). If this
@@ -83,6 +95,7 @@ public class ObservedPolarisationValues {
    * @since 3.1.0
    */
   public void setStatisticalIndicator(US_Percent3 value) {
+    ChangeTracker.touch(owningDataset);
     this.statisticalIndicator = value;
   }
 
@@ -114,6 +127,7 @@ public class ObservedPolarisationValues {
    * @since 3.1.0
    */
   public void setTiltAngleValue(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.tiltAngleValue = value;
   }
 
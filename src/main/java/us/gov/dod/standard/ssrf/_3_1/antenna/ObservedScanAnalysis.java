@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListUS7;
@@ -550,6 +553,15 @@ public class ObservedScanAnalysis {
   @XmlElement(name = "ObservedScanValues")
   private Set<ObservedScanValues> observedScanValues;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item ScanHorzContinuous (US), indicate the if the scan azimuth
    * progression is a continuous sweep..
@@ -569,6 +581,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScansHorzContinuous(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.scansHorzContinuous = value;
   }
 
@@ -606,6 +619,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setAzBoresightAngle(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.azBoresightAngle = value;
   }
 
@@ -637,6 +651,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setAzScanChangeRate(US_PRIChgRate value) {
+    ChangeTracker.touch(owningDataset);
     this.azScanChangeRate = value;
   }
 
@@ -676,6 +691,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setAzScanRateExtremeMax(US_ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.azScanRateExtremeMax = value;
   }
 
@@ -709,6 +725,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setAzScanRateExtremeMin(US_ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.azScanRateExtremeMin = value;
   }
 
@@ -740,6 +757,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setAzScanRateMean(US_ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.azScanRateMean = value;
   }
 
@@ -771,6 +789,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setAzScanRateMedian(US_ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.azScanRateMedian = value;
   }
 
@@ -804,6 +823,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setAzScanSector(US_Degrees value) {
+    ChangeTracker.touch(owningDataset);
     this.azScanSector = value;
   }
 
@@ -835,6 +855,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setAzScanSectorMax(US_Degrees value) {
+    ChangeTracker.touch(owningDataset);
     this.azScanSectorMax = value;
   }
 
@@ -866,6 +887,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setAzScanVelocity(US_ScanSpeed value) {
+    ChangeTracker.touch(owningDataset);
     this.azScanVelocity = value;
   }
 
@@ -899,6 +921,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setElevScanChangeRate(US_PRIChgRate value) {
+    ChangeTracker.touch(owningDataset);
     this.elevScanChangeRate = value;
   }
 
@@ -938,6 +961,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setElevScanRateExtremeMax(US_ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.elevScanRateExtremeMax = value;
   }
 
@@ -971,6 +995,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setElevScanRateExtremeMin(US_ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.elevScanRateExtremeMin = value;
   }
 
@@ -1002,6 +1027,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setElevScanRateMean(US_ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.elevScanRateMean = value;
   }
 
@@ -1033,6 +1059,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setElevScanRateMedian(US_ScanRate value) {
+    ChangeTracker.touch(owningDataset);
     this.elevScanRateMedian = value;
   }
 
@@ -1066,6 +1093,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setElevScanSector(US_Degrees value) {
+    ChangeTracker.touch(owningDataset);
     this.elevScanSector = value;
   }
 
@@ -1097,6 +1125,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setElevScanSectorMax(US_Degrees value) {
+    ChangeTracker.touch(owningDataset);
     this.elevScanSectorMax = value;
   }
 
@@ -1128,6 +1157,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setElevScanVelocity(US_ScanSpeed value) {
+    ChangeTracker.touch(owningDataset);
     this.elevScanVelocity = value;
   }
 
@@ -1157,6 +1187,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setNumBeamPositionsPerScan(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numBeamPositionsPerScan = value;
   }
 
@@ -1190,6 +1221,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setNumBeamPositionsTotal(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numBeamPositionsTotal = value;
   }
 
@@ -1221,6 +1253,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setNumBeamsPerRaster(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numBeamsPerRaster = value;
   }
 
@@ -1252,6 +1285,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setNumRastersPerCycle(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numRastersPerCycle = value;
   }
 
@@ -1283,6 +1317,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setNumScanPositions(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numScanPositions = value;
   }
 
@@ -1314,6 +1349,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setNumScanValues(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numScanValues = value;
   }
 
@@ -1345,6 +1381,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanAdaptiveDriverDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.scanAdaptiveDriverDesc = value;
   }
 
@@ -1374,6 +1411,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanAdaptiveRuleDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.scanAdaptiveRuleDesc = value;
   }
 
@@ -1405,6 +1443,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanAngleAzStart(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.scanAngleAzStart = value;
   }
 
@@ -1436,6 +1475,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanAngleAzStop(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.scanAngleAzStop = value;
   }
 
@@ -1467,6 +1507,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanAngleElevStart(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.scanAngleElevStart = value;
   }
 
@@ -1498,6 +1539,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanAngleElevStop(US_Deg_Signed value) {
+    ChangeTracker.touch(owningDataset);
     this.scanAngleElevStop = value;
   }
 
@@ -1527,6 +1569,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanDwell(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.scanDwell = value;
   }
 
@@ -1558,6 +1601,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanDwellSequence(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.scanDwellSequence = value;
   }
 
@@ -1591,6 +1635,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanDwellTime(US_PRIChgRate value) {
+    ChangeTracker.touch(owningDataset);
     this.scanDwellTime = value;
   }
 
@@ -1622,6 +1667,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanElevContinuous(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.scanElevContinuous = value;
   }
 
@@ -1655,6 +1701,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanPatternType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.scanPatternType = value;
   }
 
@@ -1688,6 +1735,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public void setScanType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.scanType = value;
   }
 
@@ -1731,6 +1779,7 @@ public class ObservedScanAnalysis {
    * Clear the ObservedScanValues field. This sets the field to null.
    */
   public void unsetObservedScanValues() {
+    ChangeTracker.touch(owningDataset);
     this.observedScanValues = null;
   }
 
@@ -2226,6 +2275,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public ObservedScanAnalysis withObservedScanValues(ObservedScanValues... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedScanValues().addAll(Arrays.asList(values));
     }
@@ -2243,6 +2293,7 @@ public class ObservedScanAnalysis {
    * @since 3.1.0
    */
   public ObservedScanAnalysis withObservedScanValues(Collection<ObservedScanValues> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedScanValues().addAll(values);
     }
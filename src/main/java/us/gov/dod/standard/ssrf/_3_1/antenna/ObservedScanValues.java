@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Percent;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US_ScanSpeed;
 
@@ -61,6 +64,15 @@ public class ObservedScanValues {
   @XmlElement(name = "StatisticalIndicator", required = false)
   private Percent statisticalIndicator;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the observed scan rate values .
    * <p>
@@ -78,6 +90,7 @@ public class ObservedScanValues {
    * @since 3.1.0
    */
   public void setScanValue(US_ScanSpeed value) {
+    ChangeTracker.touch(owningDataset);
     this.scanValue = value;
   }
 
@@ -111,6 +124,7 @@ public class ObservedScanValues {
    * @since 3.1.0
    */
   public void setStatisticalIndicator(Percent value) {
+    ChangeTracker.touch(owningDataset);
     this.statisticalIndicator = value;
   }
 
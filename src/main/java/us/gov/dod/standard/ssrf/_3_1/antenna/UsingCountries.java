@@ -18,8 +18,11 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Antenna;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.RFSystem;
 import us.gov.dod.standard.ssrf._3_1.Receiver;
 import us.gov.dod.standard.ssrf._3_1.Transmitter;
@@ -79,6 +82,15 @@ public class UsingCountries {
   @XmlElement(name = "Role", required = false)
   private TString role;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the designator for a specific country associated with the emitter that
    * transmits the subject Notation/Signal. Emitters commonly have more than one
@@ -100,6 +112,7 @@ public class UsingCountries {
    * @since 3.1.0
    */
   public void setCountryName(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.countryName = value;
   }
 
@@ -133,6 +146,7 @@ public class UsingCountries {
    * @since 3.1.0
    */
   public void setRole(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.role = value;
   }
 
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.antenna;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.UN2_1;
 
@@ -72,6 +75,15 @@ public class VSWR {
   @XmlElement(name = "Ratio", required = true)
   private UN2_1 ratio;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the specific frequency at which the VSWR measurement was taken. If
    * multiple points are described, Freq MUST be filled in..
@@ -91,6 +103,7 @@ public class VSWR {
    * @since 3.1.0
    */
   public void setFreq(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freq = value;
   }
 
@@ -122,6 +135,7 @@ public class VSWR {
    * @since 3.1.0
    */
   public void setRatio(UN2_1 value) {
+    ChangeTracker.touch(owningDataset);
     this.ratio = value;
   }
 
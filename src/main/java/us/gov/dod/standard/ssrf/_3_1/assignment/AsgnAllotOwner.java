@@ -16,8 +16,10 @@
 package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Organisation;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S18;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
@@ -60,6 +62,15 @@ public class AsgnAllotOwner {
   @XmlElement(name = "OwnerOrgRef", required = false)
   private Serial ownerOrgRef;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the name of an individual or organization related to the frequency
    * assignment..
@@ -79,6 +90,7 @@ public class AsgnAllotOwner {
    * @since 3.1.0
    */
   public void setDescription(S18 value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
@@ -110,6 +122,7 @@ public class AsgnAllotOwner {
    * @since 3.1.0
    */
   public void setOwnerType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.ownerType = value;
   }
 
@@ -153,6 +166,7 @@ public class AsgnAllotOwner {
    */
   @Deprecated
   public void setOwnerOrgRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.ownerOrgRef = value;
   }
 
@@ -283,6 +297,7 @@ public class AsgnAllotOwner {
    * @since 3.1.0
    */
   public AsgnAllotOwner withOwnerOrg(Organisation value) {
+    ChangeTracker.touch(owningDataset);
     this.ownerOrg = value;
     return this;
   }
@@ -313,15 +328,7 @@ public class AsgnAllotOwner {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (ownerOrgRef == null || !ownerOrgRef.isSetValue()) {
-      return;
-    }
-    for (Organisation instance : root.getOrganisation()) {
-      if (ownerOrgRef.equals(instance.getSerial())) {
-        ownerOrg = instance;
-        return;
-      }
-    }
+    ownerOrg = root.findBySerial(ownerOrgRef, Organisation.class);
   }//</editor-fold>
 
 }
@@ -19,7 +19,10 @@ import java.util.*;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCIR;
 
@@ -216,6 +219,15 @@ public class Assigned {
   @XmlElement(name = "FreqOld", nillable = true)
   private Set<FreqOld> freqOld;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get an application-specific measure of the quality for the assigned
    * frequency. FOR UHF AMS assignments performed at NATO HQ via the NUFAS
@@ -241,6 +253,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setQuality(UN1 value) {
+    ChangeTracker.touch(owningDataset);
     this.quality = value;
   }
 
@@ -276,6 +289,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setColourWord(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.colourWord = value;
   }
 
@@ -309,6 +323,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setColourNum(UN2 value) {
+    ChangeTracker.touch(owningDataset);
     this.colourNum = value;
   }
 
@@ -338,6 +353,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setITURegStatus(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.ituRegStatus = value;
   }
 
@@ -371,6 +387,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setITURegDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.ituRegDate = value;
   }
 
@@ -402,6 +419,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setITURegNum(US10 value) {
+    ChangeTracker.touch(owningDataset);
     this.ituRegNum = value;
   }
 
@@ -439,6 +457,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setNavAidsChannel(NavAidChnl value) {
+    ChangeTracker.touch(owningDataset);
     this.navAidsChannel = value;
   }
 
@@ -476,6 +495,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setNetNum(NetNumber value) {
+    ChangeTracker.touch(owningDataset);
     this.netNum = value;
   }
 
@@ -509,6 +529,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public void setITURegComments(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.ituRegComments = value;
   }
 
@@ -550,6 +571,7 @@ public class Assigned {
    * Clear the Freq field. This sets the field to null.
    */
   public void unsetFreq() {
+    ChangeTracker.touch(owningDataset);
     this.freq = null;
   }
 
@@ -582,6 +604,7 @@ public class Assigned {
    * Clear the FreqOld field. This sets the field to null.
    */
   public void unsetFreqOld() {
+    ChangeTracker.touch(owningDataset);
     this.freqOld = null;
   }
 
@@ -737,6 +760,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public Assigned withFreq(Freq... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getFreq().addAll(Arrays.asList(values));
     }
@@ -754,6 +778,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public Assigned withFreq(Collection<Freq> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getFreq().addAll(values);
     }
@@ -771,6 +796,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public Assigned withFreqOld(FreqOld... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getFreqOld().addAll(Arrays.asList(values));
     }
@@ -788,6 +814,7 @@ public class Assigned {
    * @since 3.1.0
    */
   public Assigned withFreqOld(Collection<FreqOld> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getFreqOld().addAll(values);
     }
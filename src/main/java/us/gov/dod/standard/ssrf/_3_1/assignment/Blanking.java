@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Az;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Elev;
 
@@ -97,6 +100,15 @@ public class Blanking {
   @XmlElement(name = "ElevStop", required = false)
   private Elev elevStop;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the start azimuth angle for the blanked sector. Use "0" or "360" for
    * true north..
@@ -116,6 +128,7 @@ public class Blanking {
    * @since 3.1.0
    */
   public void setAzStart(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.azStart = value;
   }
 
@@ -147,6 +160,7 @@ public class Blanking {
    * @since 3.1.0
    */
   public void setAzStop(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.azStop = value;
   }
 
@@ -178,6 +192,7 @@ public class Blanking {
    * @since 3.1.0
    */
   public void setElevStart(Elev value) {
+    ChangeTracker.touch(owningDataset);
     this.elevStart = value;
   }
 
@@ -209,6 +224,7 @@ public class Blanking {
    * @since 3.1.0
    */
   public void setElevStop(Elev value) {
+    ChangeTracker.touch(owningDataset);
     this.elevStop = value;
   }
 
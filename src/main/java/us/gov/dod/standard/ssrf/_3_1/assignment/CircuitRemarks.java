@@ -21,7 +21,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.common.Remarks;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 
@@ -143,6 +145,15 @@ public class CircuitRemarks {
   @XmlAttribute(name = "availability")
   private String availability;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a value that is most probably correct..
    * <p>
@@ -160,6 +171,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.value = value;
   }
 
@@ -191,6 +203,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    ChangeTracker.touch(owningDataset);
     this.cls = value;
   }
 
@@ -231,6 +244,7 @@ public class CircuitRemarks {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    ChangeTracker.touch(owningDataset);
     this.remarks = null;
   }
 
@@ -261,6 +275,7 @@ public class CircuitRemarks {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    ChangeTracker.touch(owningDataset);
     this.extReferences = null;
   }
 
@@ -287,6 +302,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.legacyReleasability = value;
   }
 
@@ -320,6 +336,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    ChangeTracker.touch(owningDataset);
     this.quality = value;
   }
 
@@ -349,6 +366,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.recommendedValue = value;
   }
 
@@ -388,6 +406,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public void setIdref(String value) {
+    ChangeTracker.touch(owningDataset);
     this.idref = value;
   }
 
@@ -421,6 +440,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.availability = value;
   }
 
@@ -466,6 +486,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public CircuitRemarks withRemarks(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -482,6 +503,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public CircuitRemarks withRemarks(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -497,6 +519,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public CircuitRemarks withExtReferences(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -512,6 +535,7 @@ public class CircuitRemarks {
    * @since 3.1.0
    */
   public CircuitRemarks withExtReferences(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -17,6 +17,7 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.*;
 import us.gov.dod.standard.ssrf._3_1.common.CaseNum;
@@ -359,6 +360,15 @@ public class Configuration {
   @XmlElement(name = "ObservedERPAnalysis")
   private Set<ObservedERPAnalysis> observedERPAnalysis;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a short name for the configuration; this name should be a meaningful
    * identification of the configuration, but it can also be automatically
@@ -382,6 +392,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setConfigID(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.configID = value;
   }
 
@@ -413,6 +424,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setDescription(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
@@ -444,6 +456,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setRepeater(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.repeater = value;
   }
 
@@ -477,6 +490,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setNumUsers(UN9 value) {
+    ChangeTracker.touch(owningDataset);
     this.numUsers = value;
   }
 
@@ -510,6 +524,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setEIRPMin(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.eirpMin = value;
   }
 
@@ -547,6 +562,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setEIRPMax(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.eirpMax = value;
   }
 
@@ -576,6 +592,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setOOBJustification(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.oobJustification = value;
   }
 
@@ -605,6 +622,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setPowerLimit(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.powerLimit = value;
   }
 
@@ -638,6 +656,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setPowerType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.powerType = value;
   }
 
@@ -671,6 +690,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setSpectrumLink(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.spectrumLink = value;
   }
 
@@ -702,6 +722,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setConfigApprovedBy(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.configApprovedBy = value;
   }
 
@@ -731,6 +752,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setConfigApprovedDateTime(DT value) {
+    ChangeTracker.touch(owningDataset);
     this.configApprovedDateTime = value;
   }
 
@@ -762,6 +784,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setObservedFirstDateTime(DT value) {
+    ChangeTracker.touch(owningDataset);
     this.observedFirstDateTime = value;
   }
 
@@ -793,6 +816,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setObservedLastDateTime(DT value) {
+    ChangeTracker.touch(owningDataset);
     this.observedLastDateTime = value;
   }
 
@@ -824,6 +848,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setLastObservedBy(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.lastObservedBy = value;
   }
 
@@ -853,6 +878,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setLastReviewedBy(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.lastReviewedBy = value;
   }
 
@@ -884,6 +910,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public void setLastReviewedDateTime(DT value) {
+    ChangeTracker.touch(owningDataset);
     this.lastReviewedDateTime = value;
   }
 
@@ -927,6 +954,7 @@ public class Configuration {
    * Clear the Notation field. This sets the field to null.
    */
   public void unsetNotation() {
+    ChangeTracker.touch(owningDataset);
     this.notation = null;
   }
 
@@ -959,6 +987,7 @@ public class Configuration {
    * Clear the Usage field. This sets the field to null.
    */
   public void unsetUsage() {
+    ChangeTracker.touch(owningDataset);
     this.usage = null;
   }
 
@@ -992,6 +1021,7 @@ public class Configuration {
    * Clear the ConfigFreq field. This sets the field to null.
    */
   public void unsetConfigFreq() {
+    ChangeTracker.touch(owningDataset);
     this.configFreq = null;
   }
 
@@ -1024,6 +1054,7 @@ public class Configuration {
    * Clear the TxRef field. This sets the field to null.
    */
   public void unsetTxRef() {
+    ChangeTracker.touch(owningDataset);
     this.txRef = null;
   }
 
@@ -1056,6 +1087,7 @@ public class Configuration {
    * Clear the RxRef field. This sets the field to null.
    */
   public void unsetRxRef() {
+    ChangeTracker.touch(owningDataset);
     this.rxRef = null;
   }
 
@@ -1088,6 +1120,7 @@ public class Configuration {
    * Clear the CaseNum field. This sets the field to null.
    */
   public void unsetCaseNum() {
+    ChangeTracker.touch(owningDataset);
     this.caseNum = null;
   }
 
@@ -1121,6 +1154,7 @@ public class Configuration {
    * Clear the ConfigEmission field. This sets the field to null.
    */
   public void unsetConfigEmission() {
+    ChangeTracker.touch(owningDataset);
     this.configEmission = null;
   }
 
@@ -1156,6 +1190,7 @@ public class Configuration {
    * Clear the LoadsetRef field. This sets the field to null.
    */
   public void unsetLoadsetRef() {
+    ChangeTracker.touch(owningDataset);
     this.loadsetRef = null;
   }
 
@@ -1188,6 +1223,7 @@ public class Configuration {
    * Clear the ObservedERPAnalysis field. This sets the field to null.
    */
   public void unsetObservedERPAnalysis() {
+    ChangeTracker.touch(owningDataset);
     this.observedERPAnalysis = null;
   }
 
@@ -1478,6 +1514,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withNotation(Notation... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getNotation().addAll(Arrays.asList(values));
     }
@@ -1497,6 +1534,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withNotation(Collection<Notation> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getNotation().addAll(values);
     }
@@ -1514,6 +1552,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withUsage(Usage... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getUsage().addAll(Arrays.asList(values));
     }
@@ -1531,6 +1570,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withUsage(Collection<Usage> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getUsage().addAll(values);
     }
@@ -1549,6 +1589,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withConfigFreq(ConfigFreq... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getConfigFreq().addAll(Arrays.asList(values));
     }
@@ -1567,6 +1608,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withConfigFreq(Collection<ConfigFreq> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getConfigFreq().addAll(values);
     }
@@ -1584,6 +1626,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withTxRef(TxRef... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTxRef().addAll(Arrays.asList(values));
     }
@@ -1601,6 +1644,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withTxRef(Collection<TxRef> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTxRef().addAll(values);
     }
@@ -1618,6 +1662,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withRxRef(RxRef... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRxRef().addAll(Arrays.asList(values));
     }
@@ -1635,6 +1680,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withRxRef(Collection<RxRef> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRxRef().addAll(values);
     }
@@ -1652,6 +1698,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withCaseNum(CaseNum... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getCaseNum().addAll(Arrays.asList(values));
     }
@@ -1669,6 +1716,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withCaseNum(Collection<CaseNum> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getCaseNum().addAll(values);
     }
@@ -1687,6 +1735,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withConfigEmission(ConfigEmission... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getConfigEmission().addAll(Arrays.asList(values));
     }
@@ -1705,6 +1754,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withConfigEmission(Collection<ConfigEmission> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getConfigEmission().addAll(values);
     }
@@ -1725,6 +1775,7 @@ public class Configuration {
    */
   @Deprecated
   public Configuration withLoadsetRef(Serial... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getLoadsetRef().addAll(Arrays.asList(values));
     }
@@ -1745,6 +1796,7 @@ public class Configuration {
    */
   @Deprecated
   public Configuration withLoadsetRef(Collection<Serial> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getLoadsetRef().addAll(values);
     }
@@ -1762,6 +1814,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withObservedERPAnalysis(ObservedERPAnalysis... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedERPAnalysis().addAll(Arrays.asList(values));
     }
@@ -1779,6 +1832,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withObservedERPAnalysis(Collection<ObservedERPAnalysis> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedERPAnalysis().addAll(values);
     }
@@ -1898,6 +1952,7 @@ public class Configuration {
    * @since 3.1.0
    */
   public Configuration withLoadset(Collection<Loadset> values) {
+    ChangeTracker.touch(owningDataset);
     getLoadset().addAll(values);
     return this;
   }
@@ -1934,9 +1989,10 @@ public class Configuration {
     if (loadsetRef == null || loadsetRef.isEmpty()) {
       return;
     }
-    for (Loadset instance : root.getLoadset()) {
-      if (loadsetRef.contains(instance.getSerial())) {
-        getLoadset().add(instance);
+    for (Serial ref : loadsetRef) {
+      Loadset loadset = root.findBySerial(ref, Loadset.class);
+      if (loadset != null) {
+        getLoadset().add(loadset);
       }
     }
   }//</editor-fold>
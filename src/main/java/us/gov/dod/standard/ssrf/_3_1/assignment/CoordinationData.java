@@ -18,8 +18,11 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.MEMO;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListUCJ;
@@ -62,6 +65,15 @@ public class CoordinationData {
   @XmlElement(name = "HostComments", required = false)
   private MEMO hostComments;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the coordinating entity..
    * <p>
@@ -79,6 +91,7 @@ public class CoordinationData {
    * @since 3.1.0
    */
   public void setCoordIndicator(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.coordIndicator = value;
   }
 
@@ -110,6 +123,7 @@ public class CoordinationData {
    * @since 3.1.0
    */
   public void setHostComments(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.hostComments = value;
   }
 
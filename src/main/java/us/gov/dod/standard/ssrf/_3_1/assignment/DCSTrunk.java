@@ -22,6 +22,8 @@ import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterS6;
 import us.gov.dod.standard.ssrf._3_1.common.Remarks;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
@@ -155,6 +157,15 @@ public class DCSTrunk {
   @XmlAttribute(name = "availability")
   private String availability;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a value that is most probably correct..
    * <p>
@@ -172,6 +183,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.value = value;
   }
 
@@ -203,6 +215,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    ChangeTracker.touch(owningDataset);
     this.cls = value;
   }
 
@@ -242,6 +255,7 @@ public class DCSTrunk {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    ChangeTracker.touch(owningDataset);
     this.remarks = null;
   }
 
@@ -272,6 +286,7 @@ public class DCSTrunk {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    ChangeTracker.touch(owningDataset);
     this.extReferences = null;
   }
 
@@ -298,6 +313,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.legacyReleasability = value;
   }
 
@@ -331,6 +347,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    ChangeTracker.touch(owningDataset);
     this.quality = value;
   }
 
@@ -360,6 +377,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.recommendedValue = value;
   }
 
@@ -399,6 +417,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setIdref(String value) {
+    ChangeTracker.touch(owningDataset);
     this.idref = value;
   }
 
@@ -432,6 +451,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.availability = value;
   }
 
@@ -476,6 +496,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withRemarks(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -491,6 +512,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withRemarks(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -506,6 +528,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withExtReferences(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -521,6 +544,7 @@ public class DCSTrunk {
    * @since 3.1.0
    */
   public DCSTrunk withExtReferences(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -21,6 +21,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.common.Remarks;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListUFN;
@@ -138,6 +140,15 @@ public class DetailedFunction {
   @XmlAttribute(name = "availability")
   private String availability;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a value that is most probably correct..
    * <p>
@@ -155,6 +166,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setValue(ListUFN value) {
+    ChangeTracker.touch(owningDataset);
     this.value = value;
   }
 
@@ -186,6 +198,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    ChangeTracker.touch(owningDataset);
     this.cls = value;
   }
 
@@ -225,6 +238,7 @@ public class DetailedFunction {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    ChangeTracker.touch(owningDataset);
     this.remarks = null;
   }
 
@@ -255,6 +269,7 @@ public class DetailedFunction {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    ChangeTracker.touch(owningDataset);
     this.extReferences = null;
   }
 
@@ -281,6 +296,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.legacyReleasability = value;
   }
 
@@ -314,6 +330,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    ChangeTracker.touch(owningDataset);
     this.quality = value;
   }
 
@@ -343,6 +360,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.recommendedValue = value;
   }
 
@@ -382,6 +400,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setIdref(String value) {
+    ChangeTracker.touch(owningDataset);
     this.idref = value;
   }
 
@@ -415,6 +434,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.availability = value;
   }
 
@@ -459,6 +479,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withRemarks(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -474,6 +495,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withRemarks(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -489,6 +511,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withExtReferences(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -504,6 +527,7 @@ public class DetailedFunction {
    * @since 3.1.0
    */
   public DetailedFunction withExtReferences(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(values);
     }
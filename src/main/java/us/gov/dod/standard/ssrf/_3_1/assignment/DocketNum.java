@@ -21,7 +21,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.common.Remarks;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 
@@ -140,6 +142,15 @@ public class DocketNum {
   @XmlAttribute(name = "availability")
   private String availability;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a value that is most probably correct..
    * <p>
@@ -157,6 +168,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.value = value;
   }
 
@@ -188,6 +200,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    ChangeTracker.touch(owningDataset);
     this.cls = value;
   }
 
@@ -227,6 +240,7 @@ public class DocketNum {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    ChangeTracker.touch(owningDataset);
     this.remarks = null;
   }
 
@@ -257,6 +271,7 @@ public class DocketNum {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    ChangeTracker.touch(owningDataset);
     this.extReferences = null;
   }
 
@@ -283,6 +298,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.legacyReleasability = value;
   }
 
@@ -316,6 +332,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    ChangeTracker.touch(owningDataset);
     this.quality = value;
   }
 
@@ -345,6 +362,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.recommendedValue = value;
   }
 
@@ -384,6 +402,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public void setIdref(String value) {
+    ChangeTracker.touch(owningDataset);
     this.idref = value;
   }
 
@@ -417,6 +436,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.availability = value;
   }
 
@@ -461,6 +481,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public DocketNum withRemarks(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -476,6 +497,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public DocketNum withRemarks(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -491,6 +513,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public DocketNum withExtReferences(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -506,6 +529,7 @@ public class DocketNum {
    * @since 3.1.0
    */
   public DocketNum withExtReferences(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.AsgnFreqBase;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S20;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US5;
@@ -127,6 +128,7 @@ public class Freq extends AsgnFreqBase {
    * @since 3.1.0
    */
   public void setTAD(US5 value) {
+    ChangeTracker.touch(owningDataset);
     this.tad = value;
   }
 
@@ -156,6 +158,7 @@ public class Freq extends AsgnFreqBase {
    * @since 3.1.0
    */
   public void setLegacyNum(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.legacyNum = value;
   }
 
@@ -196,6 +199,7 @@ public class Freq extends AsgnFreqBase {
    * Clear the PairedFreq field. This sets the field to null.
    */
   public void unsetPairedFreq() {
+    ChangeTracker.touch(owningDataset);
     this.pairedFreq = null;
   }
 
@@ -228,6 +232,7 @@ public class Freq extends AsgnFreqBase {
    * Clear the NarrowBandPlanning field. This sets the field to null.
    */
   public void unsetNarrowBandPlanning() {
+    ChangeTracker.touch(owningDataset);
     this.narrowBandPlanning = null;
   }
 
@@ -268,6 +273,7 @@ public class Freq extends AsgnFreqBase {
    * @since 3.1.0
    */
   public Freq withPairedFreq(PairedFreq... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPairedFreq().addAll(Arrays.asList(values));
     }
@@ -284,6 +290,7 @@ public class Freq extends AsgnFreqBase {
    * @since 3.1.0
    */
   public Freq withPairedFreq(Collection<PairedFreq> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPairedFreq().addAll(values);
     }
@@ -301,6 +308,7 @@ public class Freq extends AsgnFreqBase {
    * @since 3.1.0
    */
   public Freq withNarrowBandPlanning(NarrowBandPlanning... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getNarrowBandPlanning().addAll(Arrays.asList(values));
     }
@@ -318,6 +326,7 @@ public class Freq extends AsgnFreqBase {
    * @since 3.1.0
    */
   public Freq withNarrowBandPlanning(Collection<NarrowBandPlanning> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getNarrowBandPlanning().addAll(values);
     }
@@ -21,7 +21,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.common.Remarks;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 
@@ -141,6 +143,15 @@ public class HostDocketNum {
   @XmlAttribute(name = "availability")
   private String availability;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a value that is most probably correct..
    * <p>
@@ -158,6 +169,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.value = value;
   }
 
@@ -189,6 +201,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    ChangeTracker.touch(owningDataset);
     this.cls = value;
   }
 
@@ -228,6 +241,7 @@ public class HostDocketNum {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    ChangeTracker.touch(owningDataset);
     this.remarks = null;
   }
 
@@ -258,6 +272,7 @@ public class HostDocketNum {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    ChangeTracker.touch(owningDataset);
     this.extReferences = null;
   }
 
@@ -284,6 +299,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.legacyReleasability = value;
   }
 
@@ -317,6 +333,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    ChangeTracker.touch(owningDataset);
     this.quality = value;
   }
 
@@ -346,6 +363,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.recommendedValue = value;
   }
 
@@ -385,6 +403,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public void setIdref(String value) {
+    ChangeTracker.touch(owningDataset);
     this.idref = value;
   }
 
@@ -418,6 +437,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.availability = value;
   }
 
@@ -462,6 +482,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public HostDocketNum withRemarks(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -477,6 +498,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public HostDocketNum withRemarks(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -492,6 +514,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public HostDocketNum withExtReferences(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -507,6 +530,7 @@ public class HostDocketNum {
    * @since 3.1.0
    */
   public HostDocketNum withExtReferences(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -22,8 +22,11 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S100;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S25;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -181,6 +184,15 @@ public class Link {
   @XmlElement(name = "DetailedFunction", nillable = true)
   private Set<DetailedFunction> detailedFunction;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a unique identifier for the link. This identifier should be a
    * meaningful identification of the link, but may also be automatically
@@ -204,6 +216,7 @@ public class Link {
    * @since 3.1.0
    */
   public void setLinkID(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.linkID = value;
   }
 
@@ -259,6 +272,7 @@ public class Link {
    * @since 3.1.0
    */
   public void setFunction(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.function = value;
   }
 
@@ -290,6 +304,7 @@ public class Link {
    * @since 3.1.0
    */
   public void setIntermediateFunction(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.intermediateFunction = value;
   }
 
@@ -321,6 +336,7 @@ public class Link {
    * @since 3.1.0
    */
   public void setMajorFunction(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.majorFunction = value;
   }
 
@@ -352,6 +368,7 @@ public class Link {
    * @since 3.1.0
    */
   public void setLinkName(S25 value) {
+    ChangeTracker.touch(owningDataset);
     this.linkName = value;
   }
 
@@ -394,6 +411,7 @@ public class Link {
    * Clear the Tuning field. This sets the field to null.
    */
   public void unsetTuning() {
+    ChangeTracker.touch(owningDataset);
     this.tuning = null;
   }
 
@@ -427,6 +445,7 @@ public class Link {
    * Clear the StationConfig field. This sets the field to null.
    */
   public void unsetStationConfig() {
+    ChangeTracker.touch(owningDataset);
     this.stationConfig = null;
   }
 
@@ -459,6 +478,7 @@ public class Link {
    * Clear the Assigned field. This sets the field to null.
    */
   public void unsetAssigned() {
+    ChangeTracker.touch(owningDataset);
     this.assigned = null;
   }
 
@@ -492,6 +512,7 @@ public class Link {
    * Clear the DCSTrunk field. This sets the field to null.
    */
   public void unsetDCSTrunk() {
+    ChangeTracker.touch(owningDataset);
     this.dcsTrunk = null;
   }
 
@@ -521,6 +542,7 @@ public class Link {
    * Clear the DetailedFunction field. This sets the field to null.
    */
   public void unsetDetailedFunction() {
+    ChangeTracker.touch(owningDataset);
     this.detailedFunction = null;
   }
 
@@ -612,6 +634,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withTuning(Tuning... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTuning().addAll(Arrays.asList(values));
     }
@@ -630,6 +653,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withTuning(Collection<Tuning> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTuning().addAll(values);
     }
@@ -648,6 +672,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withStationConfig(StationConfig... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getStationConfig().addAll(Arrays.asList(values));
     }
@@ -666,6 +691,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withStationConfig(Collection<StationConfig> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getStationConfig().addAll(values);
     }
@@ -683,6 +709,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withAssigned(Assigned... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAssigned().addAll(Arrays.asList(values));
     }
@@ -700,6 +727,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withAssigned(Collection<Assigned> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAssigned().addAll(values);
     }
@@ -718,6 +746,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withDCSTrunk(DCSTrunk... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getDCSTrunk().addAll(Arrays.asList(values));
     }
@@ -736,6 +765,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withDCSTrunk(Collection<DCSTrunk> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getDCSTrunk().addAll(values);
     }
@@ -750,6 +780,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withDetailedFunction(DetailedFunction... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getDetailedFunction().addAll(Arrays.asList(values));
     }
@@ -764,6 +795,7 @@ public class Link {
    * @since 3.1.0
    */
   public Link withDetailedFunction(Collection<DetailedFunction> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getDetailedFunction().addAll(values);
     }
@@ -20,7 +20,10 @@ import java.util.Date;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 
@@ -64,6 +67,15 @@ public class NarrowBandPlanning {
   @XmlElement(name = "NBFreq", required = false)
   private FreqM nbFreq;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the date this record is expected to be updated to comply with narrow
    * band transition plans..
@@ -83,6 +95,7 @@ public class NarrowBandPlanning {
    * @since 3.1.0
    */
   public void setChangeDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.changeDate = value;
   }
 
@@ -112,6 +125,7 @@ public class NarrowBandPlanning {
    * @since 3.1.0
    */
   public void setNBFreq(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.nbFreq = value;
   }
 
@@ -22,7 +22,9 @@ import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterS6;
 import us.gov.dod.standard.ssrf._3_1.common.Remarks;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
@@ -150,6 +152,15 @@ public class OffTheShelfEquipment {
   @XmlAttribute(name = "availability")
   private String availability;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a value that is most probably correct..
    * <p>
@@ -167,6 +178,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.value = value;
   }
 
@@ -198,6 +210,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    ChangeTracker.touch(owningDataset);
     this.cls = value;
   }
 
@@ -237,6 +250,7 @@ public class OffTheShelfEquipment {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    ChangeTracker.touch(owningDataset);
     this.remarks = null;
   }
 
@@ -267,6 +281,7 @@ public class OffTheShelfEquipment {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    ChangeTracker.touch(owningDataset);
     this.extReferences = null;
   }
 
@@ -293,6 +308,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.legacyReleasability = value;
   }
 
@@ -326,6 +342,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    ChangeTracker.touch(owningDataset);
     this.quality = value;
   }
 
@@ -355,6 +372,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.recommendedValue = value;
   }
 
@@ -394,6 +412,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public void setIdref(String value) {
+    ChangeTracker.touch(owningDataset);
     this.idref = value;
   }
 
@@ -427,6 +446,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.availability = value;
   }
 
@@ -471,6 +491,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public OffTheShelfEquipment withRemarks(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -486,6 +507,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public OffTheShelfEquipment withRemarks(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -501,6 +523,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public OffTheShelfEquipment withExtReferences(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -516,6 +539,7 @@ public class OffTheShelfEquipment {
    * @since 3.1.0
    */
   public OffTheShelfEquipment withExtReferences(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -16,8 +16,10 @@
 package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S20;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
@@ -91,6 +93,15 @@ public class PairedFreq {
   @XmlElement(name = "PairedType", required = false)
   private S20 pairedType;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the paired frequency for the repeater, duplex link or frequency
    * diversity capability..
@@ -110,6 +121,7 @@ public class PairedFreq {
    * @since 3.1.0
    */
   public void setFreq(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freq = value;
   }
 
@@ -147,6 +159,7 @@ public class PairedFreq {
    */
   @Deprecated
   public void setAssignmentRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.assignmentRef = value;
   }
 
@@ -178,6 +191,7 @@ public class PairedFreq {
    * @since 3.1.0
    */
   public void setPairedASN(US12 value) {
+    ChangeTracker.touch(owningDataset);
     this.pairedASN = value;
   }
 
@@ -211,6 +225,7 @@ public class PairedFreq {
    * @since 3.1.0
    */
   public void setPairedType(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.pairedType = value;
   }
 
@@ -351,6 +366,7 @@ public class PairedFreq {
    * @since 3.1.0
    */
   public PairedFreq withAssignment(Assignment value) {
+    ChangeTracker.touch(owningDataset);
     this.assignment = value;
     return this;
   }
@@ -381,15 +397,7 @@ public class PairedFreq {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (assignmentRef == null || !assignmentRef.isSetValue()) {
-      return;
-    }
-    for (Assignment instance : root.getAssignment()) {
-      if (assignmentRef.equals(instance.getSerial())) {
-        assignment = instance;
-        return;
-      }
-    }
+    assignment = root.findBySerial(assignmentRef, Assignment.class);
   }//</editor-fold>
 
 }
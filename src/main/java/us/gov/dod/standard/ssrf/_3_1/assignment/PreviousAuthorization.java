@@ -20,8 +20,11 @@ import java.util.Date;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S12;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S8;
@@ -69,6 +72,15 @@ public class PreviousAuthorization {
   @XmlElement(name = "AgencySerialNum", required = false)
   private S12 agencySerialNum;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the previous frequency assignment Government Master File (GMF)
    * authorization docket number..
@@ -88,6 +100,7 @@ public class PreviousAuthorization {
    * @since 3.1.0
    */
   public void setDocketNum(S8 value) {
+    ChangeTracker.touch(owningDataset);
     this.docketNum = value;
   }
 
@@ -119,6 +132,7 @@ public class PreviousAuthorization {
    * @since 3.1.0
    */
   public void setDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.date = value;
   }
 
@@ -148,6 +162,7 @@ public class PreviousAuthorization {
    * @since 3.1.0
    */
   public void setAgencySerialNum(S12 value) {
+    ChangeTracker.touch(owningDataset);
     this.agencySerialNum = value;
   }
 
@@ -16,8 +16,10 @@
 package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Note;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.MEMO;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
@@ -64,6 +66,15 @@ public class RecordNote {
   @XmlElement(name = "Comments", required = false)
   private MEMO comments;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a reference to the Note dataset that describes the note identified in
    * NoteCode..
@@ -89,6 +100,7 @@ public class RecordNote {
    */
   @Deprecated
   public void setNoteRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.noteRef = value;
   }
 
@@ -122,6 +134,7 @@ public class RecordNote {
    * @since 3.1.0
    */
   public void setComments(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.comments = value;
   }
 
@@ -234,6 +247,7 @@ public class RecordNote {
    * @since 3.1.0
    */
   public RecordNote withNote(Note value) {
+    ChangeTracker.touch(owningDataset);
     this.note = value;
     return this;
   }
@@ -264,15 +278,7 @@ public class RecordNote {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (noteRef == null || !noteRef.isSetValue()) {
-      return;
-    }
-    for (Note instance : root.getNote()) {
-      if (noteRef.equals(instance.getSerial())) {
-        note = instance;
-        return;
-      }
-    }
+    note = root.findBySerial(noteRef, Note.class);
   }//</editor-fold>
 
 }
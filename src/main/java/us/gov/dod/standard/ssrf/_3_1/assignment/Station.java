@@ -22,8 +22,11 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.allotment.POCInformation;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -296,6 +299,15 @@ public class Station {
   @XmlElement(name = "StationLoc", required = true)
   private Set<StationLoc> stationLoc;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the unique identifier of one of the stations used by this Assignment at
    * this specific Station. A Station dataset may have more than one discrete
@@ -317,6 +329,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setStationID(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.stationID = value;
   }
 
@@ -352,6 +365,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setCallSign(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.callSign = value;
   }
 
@@ -405,6 +419,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setCositeSep(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.cositeSep = value;
   }
 
@@ -438,6 +453,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setCositeSepDescription(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.cositeSepDescription = value;
   }
 
@@ -469,6 +485,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setNumMobileUnits(UN9 value) {
+    ChangeTracker.touch(owningDataset);
     this.numMobileUnits = value;
   }
 
@@ -518,6 +535,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setNumAreaUnits(UN9 value) {
+    ChangeTracker.touch(owningDataset);
     this.numAreaUnits = value;
   }
 
@@ -551,6 +569,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setNumCositedUnits(UN9 value) {
+    ChangeTracker.touch(owningDataset);
     this.numCositedUnits = value;
   }
 
@@ -580,6 +599,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setTSDF(TSDFValue value) {
+    ChangeTracker.touch(owningDataset);
     this.tsdf = value;
   }
 
@@ -612,6 +632,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setUserCode(S6 value) {
+    ChangeTracker.touch(owningDataset);
     this.userCode = value;
   }
 
@@ -643,6 +664,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setAntStructureHeight(AntHeight value) {
+    ChangeTracker.touch(owningDataset);
     this.antStructureHeight = value;
   }
 
@@ -674,6 +696,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setStationName(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.stationName = value;
   }
 
@@ -705,6 +728,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setStationControl(S18 value) {
+    ChangeTracker.touch(owningDataset);
     this.stationControl = value;
   }
 
@@ -734,6 +758,7 @@ public class Station {
    * @since 3.1.0
    */
   public void setPrimaryStation(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.primaryStation = value;
   }
 
@@ -777,6 +802,7 @@ public class Station {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    ChangeTracker.touch(owningDataset);
     this.pocInformation = null;
   }
 
@@ -811,6 +837,7 @@ public class Station {
    * Clear the StationLoc field. This sets the field to null.
    */
   public void unsetStationLoc() {
+    ChangeTracker.touch(owningDataset);
     this.stationLoc = null;
   }
 
@@ -1016,6 +1043,7 @@ public class Station {
    * @since 3.1.0
    */
   public Station withPOCInformation(POCInformation... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -1033,6 +1061,7 @@ public class Station {
    * @since 3.1.0
    */
   public Station withPOCInformation(Collection<POCInformation> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -1052,6 +1081,7 @@ public class Station {
    * @since 3.1.0
    */
   public Station withStationLoc(StationLoc... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getStationLoc().addAll(Arrays.asList(values));
     }
@@ -1071,6 +1101,7 @@ public class Station {
    * @since 3.1.0
    */
   public Station withStationLoc(Collection<StationLoc> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getStationLoc().addAll(values);
     }
@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAU;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCO;
@@ -265,6 +268,15 @@ public class StationConfig {
   @XmlElement(name = "Blanking")
   private Set<Blanking> blanking;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get whether the StationConfig is acting as a transmitter, receiver or
    * transceiver..
@@ -284,6 +296,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -317,6 +330,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setConfigID(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.configID = value;
   }
 
@@ -350,6 +364,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setStationID(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.stationID = value;
   }
 
@@ -383,6 +398,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setEIRPMin(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.eirpMin = value;
   }
 
@@ -420,6 +436,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setEIRPMax(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.eirpMax = value;
   }
 
@@ -457,6 +474,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setAntFeedpointHeight(Height_UN4 value) {
+    ChangeTracker.touch(owningDataset);
     this.antFeedpointHeight = value;
   }
 
@@ -486,6 +504,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setFeedlineLength(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.feedlineLength = value;
   }
 
@@ -515,6 +534,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setFeedlineLoss(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.feedlineLoss = value;
   }
 
@@ -544,6 +564,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setEarthCoverage(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.earthCoverage = value;
   }
 
@@ -579,6 +600,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setPointingAzMin(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.pointingAzMin = value;
   }
 
@@ -618,6 +640,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setPointingAzMax(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.pointingAzMax = value;
   }
 
@@ -651,6 +674,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setPointingElevMin(Elev value) {
+    ChangeTracker.touch(owningDataset);
     this.pointingElevMin = value;
   }
 
@@ -690,6 +714,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setPointingElevMax(Elev value) {
+    ChangeTracker.touch(owningDataset);
     this.pointingElevMax = value;
   }
 
@@ -721,6 +746,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public void setCoordinationNum(S15 value) {
+    ChangeTracker.touch(owningDataset);
     this.coordinationNum = value;
   }
 
@@ -762,6 +788,7 @@ public class StationConfig {
    * Clear the Blanking field. This sets the field to null.
    */
   public void unsetBlanking() {
+    ChangeTracker.touch(owningDataset);
     this.blanking = null;
   }
 
@@ -973,6 +1000,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public StationConfig withBlanking(Blanking... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getBlanking().addAll(Arrays.asList(values));
     }
@@ -990,6 +1018,7 @@ public class StationConfig {
    * @since 3.1.0
    */
   public StationConfig withBlanking(Collection<Blanking> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getBlanking().addAll(values);
     }
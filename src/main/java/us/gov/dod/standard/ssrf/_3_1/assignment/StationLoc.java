@@ -16,6 +16,7 @@
 package us.gov.dod.standard.ssrf._3_1.assignment;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Location;
@@ -141,6 +142,15 @@ public class StationLoc {
   @XmlElement(name = "ServiceVolumeHeight", required = false)
   private Altitude serviceVolumeHeight;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get "Yes" to indicate that the LocSatRef is to be excluded from the
    * location set for the current station. If omitted, "No" is assumed, meaning
@@ -162,6 +172,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void setLocationExcluded(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.locationExcluded = value;
   }
 
@@ -203,6 +214,7 @@ public class StationLoc {
    */
   @Deprecated
   public void setLocSatRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.locSatRef = value;
   }
 
@@ -236,6 +248,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void setLocationRadius(DistSpace value) {
+    ChangeTracker.touch(owningDataset);
     this.locationRadius = value;
   }
 
@@ -271,6 +284,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void setServiceVolumeLocRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.serviceVolumeLocRef = value;
   }
 
@@ -304,6 +318,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void setServiceVolumeRadius(DistEarth value) {
+    ChangeTracker.touch(owningDataset);
     this.serviceVolumeRadius = value;
   }
 
@@ -337,6 +352,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void setServiceVolumeHeight(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.serviceVolumeHeight = value;
   }
 
@@ -511,6 +527,7 @@ public class StationLoc {
    * @since 3.1.0
    */
   public StationLoc withLocSat(Common<?> value) {
+    ChangeTracker.touch(owningDataset);
     this.locSat = value;
     return this;
   }
@@ -541,20 +558,9 @@ public class StationLoc {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (locSatRef == null || !locSatRef.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
-    }
-    for (Satellite instance : root.getSatellite()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
+    locSat = root.findBySerial(locSatRef, Location.class);
+    if (locSat == null) {
+      locSat = root.findBySerial(locSatRef, Satellite.class);
     }
   }//</editor-fold>
 
@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 import java.util.Calendar;
 import java.util.Date;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
@@ -98,6 +99,15 @@ public class StatusLog {
   @XmlElement(name = "POCRef", required = false)
   private Serial pocRef;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the date and UTC time of this status log entry..
    * <p>
@@ -115,6 +125,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void setDateTime(DT value) {
+    ChangeTracker.touch(owningDataset);
     this.dateTime = value;
   }
 
@@ -144,6 +155,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void setState(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.state = value;
   }
 
@@ -173,6 +185,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void setAgencyCode(S80 value) {
+    ChangeTracker.touch(owningDataset);
     this.agencyCode = value;
   }
 
@@ -202,6 +215,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void setComment(S255 value) {
+    ChangeTracker.touch(owningDataset);
     this.comment = value;
   }
 
@@ -233,6 +247,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void setPOCRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.pocRef = value;
   }
 
@@ -391,6 +406,7 @@ public class StatusLog {
    * @since 3.1.0
    */
   public StatusLog withPoc(Common<?> value) {
+    ChangeTracker.touch(owningDataset);
     this.poc = value;
     return this;
   }
@@ -420,26 +436,12 @@ public class StatusLog {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (pocRef == null || !pocRef.isSetValue()) {
-      return;
-    }
-    for (Contact instance : root.getContact()) {
-      if (pocRef.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
-    }
-    for (Organisation instance : root.getOrganisation()) {
-      if (pocRef.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
+    poc = root.findBySerial(pocRef, Contact.class);
+    if (poc == null) {
+      poc = root.findBySerial(pocRef, Organisation.class);
     }
-    for (Role instance : root.getRole()) {
-      if (pocRef.equals(instance.getSerial())) {
-        poc = instance;
-        return;
-      }
+    if (poc == null) {
+      poc = root.findBySerial(pocRef, Role.class);
     }
   }//</editor-fold>
 
@@ -18,8 +18,11 @@ package us.gov.dod.standard.ssrf._3_1.assignment;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S30;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.UN9;
 
@@ -72,6 +75,15 @@ public class SysOfStation {
   @XmlElement(name = "NumStations", required = false)
   private UN9 numStations;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the name of the system to which the frequency assignment belongs. A
    * system is considered two or more equipment having a common property,
@@ -93,6 +105,7 @@ public class SysOfStation {
    * @since 3.1.0
    */
   public void setSysName(S30 value) {
+    ChangeTracker.touch(owningDataset);
     this.sysName = value;
   }
 
@@ -122,6 +135,7 @@ public class SysOfStation {
    * @since 3.1.0
    */
   public void setNumStations(UN9 value) {
+    ChangeTracker.touch(owningDataset);
     this.numStations = value;
   }
 
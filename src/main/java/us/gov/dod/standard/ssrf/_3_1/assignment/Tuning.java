@@ -22,8 +22,11 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.AsgnFreqBase;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.UN1;
@@ -139,6 +142,15 @@ public class Tuning {
   @XmlElement(name = "RequestedFreq")
   private Set<AsgnFreqBase> requestedFreq;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the tuning increment expressed of the requested frequency range. This
    * should be compatible with the tuning capability of the transmitters and/or
@@ -160,6 +172,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setTuningStep(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.tuningStep = value;
   }
 
@@ -189,6 +202,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setNumFreq(UN4 value) {
+    ChangeTracker.touch(owningDataset);
     this.numFreq = value;
   }
 
@@ -222,6 +236,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setPriority(UN1 value) {
+    ChangeTracker.touch(owningDataset);
     this.priority = value;
   }
 
@@ -253,6 +268,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setExclusive(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.exclusive = value;
   }
 
@@ -284,6 +300,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setFreqSep(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqSep = value;
   }
 
@@ -313,6 +330,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public void setFreqSepType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.freqSepType = value;
   }
 
@@ -356,6 +374,7 @@ public class Tuning {
    * Clear the RequestedFreq field. This sets the field to null.
    */
   public void unsetRequestedFreq() {
+    ChangeTracker.touch(owningDataset);
     this.requestedFreq = null;
   }
 
@@ -444,6 +463,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public Tuning withRequestedFreq(AsgnFreqBase... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRequestedFreq().addAll(Arrays.asList(values));
     }
@@ -458,6 +478,7 @@ public class Tuning {
    * @since 3.1.0
    */
   public Tuning withRequestedFreq(Collection<AsgnFreqBase> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRequestedFreq().addAll(values);
     }
@@ -19,8 +19,11 @@ import java.util.*;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.ChannelPlan;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S50;
 
 /**
@@ -77,6 +80,15 @@ public class Channel {
   @XmlElement(name = "ChannelFreq", required = true, nillable = true)
   private Set<ChannelFreq> channelFreq;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the name of this channel (e.g., "Video carrier, Sound carrier, Nicam
    * Sound carrier")..
@@ -96,6 +108,7 @@ public class Channel {
    * @since 3.1.0
    */
   public void setName(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.name = value;
   }
 
@@ -125,6 +138,7 @@ public class Channel {
    * @since 3.1.0
    */
   public void setUser(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.user = value;
   }
 
@@ -163,6 +177,7 @@ public class Channel {
    * Clear the ChannelFreq field. This sets the field to null.
    */
   public void unsetChannelFreq() {
+    ChangeTracker.touch(owningDataset);
     this.channelFreq = null;
   }
 
@@ -199,6 +214,7 @@ public class Channel {
    * @since 3.1.0
    */
   public Channel withChannelFreq(ChannelFreq... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getChannelFreq().addAll(Arrays.asList(values));
     }
@@ -213,6 +229,7 @@ public class Channel {
    * @since 3.1.0
    */
   public Channel withChannelFreq(Collection<ChannelFreq> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getChannelFreq().addAll(values);
     }
@@ -18,7 +18,9 @@ package us.gov.dod.standard.ssrf._3_1.common;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S20;
@@ -84,6 +86,15 @@ public class CaseNum {
   @XmlElement(name = "Identifier", required = true)
   private S20 identifier;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the nation or body who provided or assigned the case number..
    * <p>
@@ -101,6 +112,7 @@ public class CaseNum {
    * @since 3.1.0
    */
   public void setCountry(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.country = value;
   }
 
@@ -134,6 +146,7 @@ public class CaseNum {
    * @since 3.1.0
    */
   public void setType(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -163,6 +176,7 @@ public class CaseNum {
    * @since 3.1.0
    */
   public void setIdentifier(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.identifier = value;
   }
 
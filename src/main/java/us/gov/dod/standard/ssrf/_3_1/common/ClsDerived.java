@@ -20,7 +20,10 @@ import java.util.Date;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S30;
 
@@ -84,6 +87,15 @@ public class ClsDerived {
   @XmlElement(name = "Org", required = true)
   private S30 org;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the date of the source document..
    * <p>
@@ -101,6 +113,7 @@ public class ClsDerived {
    * @since 3.1.0
    */
   public void setDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.date = value;
   }
 
@@ -130,6 +143,7 @@ public class ClsDerived {
    * @since 3.1.0
    */
   public void setTitle(S30 value) {
+    ChangeTracker.touch(owningDataset);
     this.title = value;
   }
 
@@ -159,6 +173,7 @@ public class ClsDerived {
    * @since 3.1.0
    */
   public void setOrg(S30 value) {
+    ChangeTracker.touch(owningDataset);
     this.org = value;
   }
 
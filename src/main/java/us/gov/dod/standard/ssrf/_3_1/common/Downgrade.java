@@ -20,7 +20,10 @@ import java.util.Date;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S200;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -85,6 +88,15 @@ public class Downgrade {
   @XmlElement(name = "DowngradeInfo", required = false)
   private S200 downgradeInfo;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the classification level of the dataset after downgrading..
    * <p>
@@ -102,6 +114,7 @@ public class Downgrade {
    * @since 3.1.0
    */
   public void setDowncls(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.downcls = value;
   }
 
@@ -133,6 +146,7 @@ public class Downgrade {
    * @since 3.1.0
    */
   public void setDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.date = value;
   }
 
@@ -162,6 +176,7 @@ public class Downgrade {
    * @since 3.1.0
    */
   public void setDowngradeInfo(S200 value) {
+    ChangeTracker.touch(owningDataset);
     this.downgradeInfo = value;
   }
 
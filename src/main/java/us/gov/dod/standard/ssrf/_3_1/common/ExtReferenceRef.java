@@ -18,6 +18,7 @@ package us.gov.dod.standard.ssrf._3_1.common;
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.ExternalReference;
@@ -42,6 +43,11 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 @XmlType(name = "ExtReferenceRef", propOrder = {"value"})
 public class ExtReferenceRef {
 
+  /**
+   * -1. The idx field value when the index is not set.
+   */
+  private static final int NO_IDX = -1;
+
   @XmlValue
   @XmlJavaTypeAdapter(XmlAdapterSERIAL.class)
   private String value;
@@ -67,10 +73,22 @@ public class ExtReferenceRef {
    * <p>
    * Format is UN(6)
    * <p>
+   * Developer note: The index is stored as a primitive int and is bound to XML
+   * through the {@link #getIdx()} and {@link #setIdx(BigInteger)} methods.
+   * <p>
    * @since 3.1.0
    */
-  @XmlAttribute(name = "idx", required = true)
-  private BigInteger idx;
+  @XmlTransient
+  private int idx = NO_IDX;
+
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
 
   /**
    * Get a value that is most probably correct..
@@ -95,6 +113,7 @@ public class ExtReferenceRef {
    */
   @Deprecated
   public void setValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.value = value;
   }
 
@@ -126,6 +145,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    ChangeTracker.touch(owningDataset);
     this.cls = value;
   }
 
@@ -147,7 +167,18 @@ public class ExtReferenceRef {
    * @return a {@link BigInteger} instance
    * @since 3.1.0
    */
+  @XmlAttribute(name = "idx", required = true)
   public BigInteger getIdx() {
+    return idx != NO_IDX ? BigInteger.valueOf(idx) : null;
+  }
+
+  /**
+   * Get the index as a primitive int.
+   * <p>
+   * @return the index, -1 if not set
+   * @since 3.1.0
+   */
+  public int getIdxAsInt() {
     return idx;
   }
 
@@ -161,6 +192,24 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    if (value != null && (value.signum() < 0 || value.bitLength() > 31)) {
+      throw new IllegalArgumentException("Index value violation. Index must be an unsigned int for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
+    this.idx = value != null ? value.intValue() : NO_IDX;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @since 3.1.0
+   */
+  public void setIdx(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Index value violation. Index must be unsigned for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
     this.idx = value;
   }
 
@@ -170,7 +219,7 @@ public class ExtReferenceRef {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetIdx() {
-    return (this.idx != null);
+    return (this.idx != NO_IDX);
   }
 
   /**
@@ -207,12 +256,12 @@ public class ExtReferenceRef {
    * Dataset; e.g., an element with idx=2 will keep idx=2 even if the first
    * occurrence (idx=1) is deleted.
    * <p>
-   * @param value An instances of type {@link BigInteger}.
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
    * @return The current ExtReferenceRef object instance.
    * @since 3.1.0
    */
-  public ExtReferenceRef withIdx(Integer value) {
-    setIdx(BigInteger.valueOf(value));
+  public ExtReferenceRef withIdx(int value) {
+    setIdx(value);
     return this;
   }
 
@@ -225,7 +274,7 @@ public class ExtReferenceRef {
   public String toString() {
     return "\n  ExtReferenceRef {"
            + (cls != null ? " cls [" + cls + "]" : "")
-           + (idx != null ? " idx [" + idx + "]" : "")
+           + (idx != NO_IDX ? " idx [" + idx + "]" : "")
            + (value != null ? " value [" + value + "]" : " NULL VALUE ")
            + "}";
   }
@@ -285,6 +334,7 @@ public class ExtReferenceRef {
    * @since 3.1.0
    */
   public ExtReferenceRef withExternalReference(ExternalReference value) {
+    ChangeTracker.touch(owningDataset);
     this.externalReference = value;
     return this;
   }
@@ -309,20 +359,14 @@ public class ExtReferenceRef {
    * <p>
    * This method builds the transient {@link #externalReference} with values
    * from the imported {@link #value} field. This method should typically be
-   * called after the ExtReferenceRef is imported from XML. * @param root the
-   * SSRF root instance.
+   * called after the ExtReferenceRef is imported from XML. The index is
+   * reserved in the SSRF root instance.
    * <p>
+   * @param root the SSRF root instance.
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (value == null) {
-      return;
-    }
-    for (ExternalReference instance : root.getExternalReference()) {
-      if (value.equals(instance.getSerial().toString())) {
-        externalReference = instance;
-        return;
-      }
-    }
+    externalReference = root.findBySerial(value, ExternalReference.class);
+    root.reserveIdx(idx);
   }//</editor-fold>
 }
@@ -18,6 +18,8 @@ package us.gov.dod.standard.ssrf._3_1.common;
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterMEMO;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterUN6;
@@ -46,6 +48,11 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 @XmlType(name = "Remarks", propOrder = {"value"})
 public class Remarks {
 
+  /**
+   * -1. The idx field value when the index is not set.
+   */
+  private static final int NO_IDX = -1;
+
   /**
    * A free text field that provides a place to add additional additional
    * information applicable to a data item.
@@ -74,11 +81,22 @@ public class Remarks {
    * <p>
    * Format is UN(6)
    * <p>
+   * Developer note: The index is stored as a primitive int and is bound to XML
+   * through the {@link #getIdx()} and {@link #setIdx(BigInteger)} methods.
+   * <p>
    * @since 3.1.0
    */
-  @XmlAttribute(name = "idx", required = true)
-  @XmlJavaTypeAdapter(XmlAdapterUN6.class)
-  private BigInteger idx;
+  @XmlTransient
+  private int idx = NO_IDX;
+
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
 
   /**
    * Get a value that is most probably correct..
@@ -97,6 +115,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.value = value;
   }
 
@@ -128,6 +147,7 @@ public class Remarks {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    ChangeTracker.touch(owningDataset);
     this.cls = value;
   }
 
@@ -149,7 +169,19 @@ public class Remarks {
    * @return a {@link BigInteger} instance
    * @since 3.1.0
    */
+  @XmlAttribute(name = "idx", required = true)
+  @XmlJavaTypeAdapter(XmlAdapterUN6.class)
   public BigInteger getIdx() {
+    return idx != NO_IDX ? BigInteger.valueOf(idx) : null;
+  }
+
+  /**
+   * Get the index as a primitive int.
+   * <p>
+   * @return the index, -1 if not set
+   * @since 3.1.0
+   */
+  public int getIdxAsInt() {
     return idx;
   }
 
@@ -163,6 +195,24 @@ public class Remarks {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    if (value != null && (value.signum() < 0 || value.bitLength() > 31)) {
+      throw new IllegalArgumentException("Index value violation. Index must be an unsigned int for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
+    this.idx = value != null ? value.intValue() : NO_IDX;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @since 3.1.0
+   */
+  public void setIdx(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Index value violation. Index must be unsigned for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
     this.idx = value;
   }
 
@@ -172,7 +222,7 @@ public class Remarks {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetIdx() {
-    return (this.idx != null);
+    return (this.idx != NO_IDX);
   }
 
   /**
@@ -209,6 +259,19 @@ public class Remarks {
    * @since 3.1.0
    */
   public Remarks withIdx(BigInteger value) {
+    setIdx(value);
+    return this;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @return The current Remarks object instance.
+   * @since 3.1.0
+   */
+  public Remarks withIdx(int value) {
+    setIdx(value);
     return this;
   }
 
@@ -221,7 +284,7 @@ public class Remarks {
   public String toString() {
     return "\n  Remarks {"
            + (cls != null ? " cls [" + cls + "]" : "")
-           + (idx != null ? " idx [" + idx + "]" : "")
+           + (idx != NO_IDX ? " idx [" + idx + "]" : "")
            + (value != null ? " value [" + value + "]" : "")
            + "}";
   }
@@ -240,4 +303,14 @@ public class Remarks {
     return isSetCls() && isSetIdx();
   }
 
+  /**
+   * Reserve the index of this Remarks in the SSRF root instance after loading
+   * from XML so that it is not allocated to a new item.
+   * <p>
+   * @param root the SSRF root instance.
+   * @since 3.1.0
+   */
+  public void postLoad(SSRF root) {
+    root.reserveIdx(idx);
+  }
 }
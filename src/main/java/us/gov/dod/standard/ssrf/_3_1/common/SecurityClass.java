@@ -19,7 +19,9 @@ import java.util.*;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 
@@ -175,6 +177,15 @@ public class SecurityClass {
   @XmlElement(name = "ClsDerived")
   private Set<ClsDerived> clsDerived;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the identity, by name and position, or by personal identifier, of the
    * original classification authority..
@@ -194,6 +205,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setClsAuthority(S30 value) {
+    ChangeTracker.touch(owningDataset);
     this.clsAuthority = value;
   }
 
@@ -225,6 +237,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setSourceClsDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.sourceClsDate = value;
   }
 
@@ -254,6 +267,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setClsOrg(S30 value) {
+    ChangeTracker.touch(owningDataset);
     this.clsOrg = value;
   }
 
@@ -305,6 +319,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setClsReason(S15 value) {
+    ChangeTracker.touch(owningDataset);
     this.clsReason = value;
   }
 
@@ -338,6 +353,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setDeclsType(S10 value) {
+    ChangeTracker.touch(owningDataset);
     this.declsType = value;
   }
 
@@ -369,6 +385,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setDeclsDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.declsDate = value;
   }
 
@@ -400,6 +417,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public void setDeclsEvent(S200 value) {
+    ChangeTracker.touch(owningDataset);
     this.declsEvent = value;
   }
 
@@ -441,6 +459,7 @@ public class SecurityClass {
    * Clear the Downgrade field. This sets the field to null.
    */
   public void unsetDowngrade() {
+    ChangeTracker.touch(owningDataset);
     this.downgrade = null;
   }
 
@@ -473,6 +492,7 @@ public class SecurityClass {
    * Clear the ClsDerived field. This sets the field to null.
    */
   public void unsetClsDerived() {
+    ChangeTracker.touch(owningDataset);
     this.clsDerived = null;
   }
 
@@ -614,6 +634,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public SecurityClass withDowngrade(Downgrade... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getDowngrade().addAll(Arrays.asList(values));
     }
@@ -631,6 +652,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public SecurityClass withDowngrade(Collection<Downgrade> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getDowngrade().addAll(values);
     }
@@ -648,6 +670,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public SecurityClass withClsDerived(ClsDerived... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getClsDerived().addAll(Arrays.asList(values));
     }
@@ -665,6 +688,7 @@ public class SecurityClass {
    * @since 3.1.0
    */
   public SecurityClass withClsDerived(Collection<ClsDerived> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getClsDerived().addAll(values);
     }
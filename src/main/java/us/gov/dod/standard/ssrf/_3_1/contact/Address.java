@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.contact;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Contact;
 import us.gov.dod.standard.ssrf._3_1.Organisation;
 import us.gov.dod.standard.ssrf._3_1.Role;
@@ -137,6 +140,15 @@ public class Address {
   @XmlElement(name = "Country", required = true)
   private TString country;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the title for the address; for an Organisation, it can be the name of
    * the specific Branch or office; for a Contact or a Role, it can be the job
@@ -158,6 +170,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setDescription(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
@@ -187,6 +200,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setStreet(S255 value) {
+    ChangeTracker.touch(owningDataset);
     this.street = value;
   }
 
@@ -216,6 +230,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setCityArea(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.cityArea = value;
   }
 
@@ -245,6 +260,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setStateCounty(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.stateCounty = value;
   }
 
@@ -274,6 +290,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setPostCode(S15 value) {
+    ChangeTracker.touch(owningDataset);
     this.postCode = value;
   }
 
@@ -307,6 +324,7 @@ public class Address {
    * @since 3.1.0
    */
   public void setCountry(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.country = value;
   }
 
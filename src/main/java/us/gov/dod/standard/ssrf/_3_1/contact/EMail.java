@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.contact;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Contact;
 import us.gov.dod.standard.ssrf._3_1.Organisation;
 import us.gov.dod.standard.ssrf._3_1.Role;
@@ -102,6 +105,15 @@ public class EMail {
   @XmlElement(name = "Address", required = true)
   private S255 address;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a code "Yes" for the preferred address(es) and a code "No" for the
    * others. Automated tools SHOULD send all mails to this Contact to all its
@@ -123,6 +135,7 @@ public class EMail {
    * @since 3.1.0
    */
   public void setPreferred(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.preferred = value;
   }
 
@@ -154,6 +167,7 @@ public class EMail {
    * @since 3.1.0
    */
   public void setType(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -183,6 +197,7 @@ public class EMail {
    * @since 3.1.0
    */
   public void setMaxCls(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.maxCls = value;
   }
 
@@ -214,6 +229,7 @@ public class EMail {
    * @since 3.1.0
    */
   public void setAddress(S255 value) {
+    ChangeTracker.touch(owningDataset);
     this.address = value;
   }
 
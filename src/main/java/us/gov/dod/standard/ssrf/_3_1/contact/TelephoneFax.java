@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.contact;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Contact;
 import us.gov.dod.standard.ssrf._3_1.Organisation;
 import us.gov.dod.standard.ssrf._3_1.Role;
@@ -115,6 +118,15 @@ public class TelephoneFax {
   @XmlElement(name = "Number", required = true)
   private S50 number;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a code "Yes" for the preferred number(s) and a code "No" for the
    * others..
@@ -134,6 +146,7 @@ public class TelephoneFax {
    * @since 3.1.0
    */
   public void setPreferred(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.preferred = value;
   }
 
@@ -167,6 +180,7 @@ public class TelephoneFax {
    * @since 3.1.0
    */
   public void setType(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -198,6 +212,7 @@ public class TelephoneFax {
    * @since 3.1.0
    */
   public void setFax(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.fax = value;
   }
 
@@ -231,6 +246,7 @@ public class TelephoneFax {
    * @since 3.1.0
    */
   public void setMaxCls(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.maxCls = value;
   }
 
@@ -264,6 +280,7 @@ public class TelephoneFax {
    * @since 3.1.0
    */
   public void setNumber(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.number = value;
   }
 
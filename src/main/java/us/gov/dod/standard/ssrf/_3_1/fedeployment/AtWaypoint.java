@@ -20,7 +20,10 @@ import java.util.Date;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.FEDeployment;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.DT;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Speed;
@@ -90,6 +93,15 @@ public class AtWaypoint {
   @XmlElement(name = "Speed", required = false)
   private Speed speed;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the sequential index of a Point within the referenced Location. Some
    * points of the Location may be omitted, and are not necessarily visited in
@@ -115,6 +127,7 @@ public class AtWaypoint {
    * @since 3.1.0
    */
   public void setWaypointIdx(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.waypointIdx = value;
   }
 
@@ -144,6 +157,7 @@ public class AtWaypoint {
    * @since 3.1.0
    */
   public void setDateTime(DT value) {
+    ChangeTracker.touch(owningDataset);
     this.dateTime = value;
   }
 
@@ -175,6 +189,7 @@ public class AtWaypoint {
    * @since 3.1.0
    */
   public void setSpeed(Speed value) {
+    ChangeTracker.touch(owningDataset);
     this.speed = value;
   }
 
@@ -16,6 +16,7 @@
 package us.gov.dod.standard.ssrf._3_1.forceelement;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
@@ -83,6 +84,15 @@ public class Assets {
   @XmlElement(name = "Available", required = false)
   private UN9 available;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a reference to a Transmitter, Receiver, Antenna, RFSystem used by this
    * ForceElement, or to a ForceElement carried by or belonging to this
@@ -110,6 +120,7 @@ public class Assets {
    */
   @Deprecated
   public void setSerial(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.serial = value;
   }
 
@@ -139,6 +150,7 @@ public class Assets {
    * @since 3.1.0
    */
   public void setAuthorised(UN9 value) {
+    ChangeTracker.touch(owningDataset);
     this.authorised = value;
   }
 
@@ -168,6 +180,7 @@ public class Assets {
    * @since 3.1.0
    */
   public void setAvailable(UN9 value) {
+    ChangeTracker.touch(owningDataset);
     this.available = value;
   }
 
@@ -295,6 +308,7 @@ public class Assets {
    * @since 3.1.0
    */
   public Assets withAsset(Common<?> value) {
+    ChangeTracker.touch(owningDataset);
     this.asset = value;
     return this;
   }
@@ -325,32 +339,15 @@ public class Assets {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (serial == null || !serial.isSetValue()) {
-      return;
-    }
-    for (Transmitter instance : root.getTransmitter()) {
-      if (serial.equals(instance.getSerial())) {
-        asset = instance;
-        return;
-      }
-    }
-    for (Receiver instance : root.getReceiver()) {
-      if (serial.equals(instance.getSerial())) {
-        asset = instance;
-        return;
-      }
+    asset = root.findBySerial(serial, Transmitter.class);
+    if (asset == null) {
+      asset = root.findBySerial(serial, Receiver.class);
     }
-    for (Antenna instance : root.getAntenna()) {
-      if (serial.equals(instance.getSerial())) {
-        asset = instance;
-        return;
-      }
+    if (asset == null) {
+      asset = root.findBySerial(serial, Antenna.class);
     }
-    for (RFSystem instance : root.getRFSystem()) {
-      if (serial.equals(instance.getSerial())) {
-        asset = instance;
-        return;
-      }
+    if (asset == null) {
+      asset = root.findBySerial(serial, RFSystem.class);
     }
   }//</editor-fold>
 
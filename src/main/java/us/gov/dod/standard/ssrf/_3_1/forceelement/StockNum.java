@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.forceelement;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.ForceElement;
 import us.gov.dod.standard.ssrf._3_1.RFSystem;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S25;
@@ -71,6 +74,15 @@ public class StockNum {
   @XmlElement(name = "Type", required = false)
   private S25 type;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the stock number of the system/equipment..
    * <p>
@@ -88,6 +100,7 @@ public class StockNum {
    * @since 3.1.0
    */
   public void setStockNum(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.stockNum = value;
   }
 
@@ -117,6 +130,7 @@ public class StockNum {
    * @since 3.1.0
    */
   public void setType(S25 value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
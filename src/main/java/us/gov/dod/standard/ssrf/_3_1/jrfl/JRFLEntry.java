@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Allotment;
 import us.gov.dod.standard.ssrf._3_1.Assignment;
@@ -328,6 +329,15 @@ public class JRFLEntry {
   @XmlElement(name = "JRFLEntryLocation")
   private Set<JRFLEntryLocation> jrflEntryLocation;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item ProtectionCode, indicate the type of JRFL entry..
    * <p>
@@ -345,6 +355,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setProtectionCode(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.protectionCode = value;
   }
 
@@ -382,6 +393,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setPriority(US2 value) {
+    ChangeTracker.touch(owningDataset);
     this.priority = value;
   }
 
@@ -413,6 +425,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setJustification(S255 value) {
+    ChangeTracker.touch(owningDataset);
     this.justification = value;
   }
 
@@ -442,6 +455,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setApprovalLevel(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.approvalLevel = value;
   }
 
@@ -473,6 +487,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setSeconds(MinSec value) {
+    ChangeTracker.touch(owningDataset);
     this.seconds = value;
   }
 
@@ -502,6 +517,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setMinutes(MinSec value) {
+    ChangeTracker.touch(owningDataset);
     this.minutes = value;
   }
 
@@ -531,6 +547,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setHours(Hours value) {
+    ChangeTracker.touch(owningDataset);
     this.hours = value;
   }
 
@@ -560,6 +577,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setDaysOfMonth(DaysOfMonth value) {
+    ChangeTracker.touch(owningDataset);
     this.daysOfMonth = value;
   }
 
@@ -589,6 +607,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setMonths(Months value) {
+    ChangeTracker.touch(owningDataset);
     this.months = value;
   }
 
@@ -618,6 +637,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setDaysOfWeek(DaysOfWeek value) {
+    ChangeTracker.touch(owningDataset);
     this.daysOfWeek = value;
   }
 
@@ -647,6 +667,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setYears(Years value) {
+    ChangeTracker.touch(owningDataset);
     this.years = value;
   }
 
@@ -718,6 +739,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setDuration(Duration_UN4 value) {
+    ChangeTracker.touch(owningDataset);
     this.duration = value;
   }
 
@@ -761,6 +783,7 @@ public class JRFLEntry {
    */
   @Deprecated
   public void setAsgnAllotRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.asgnAllotRef = value;
   }
 
@@ -790,6 +813,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -823,6 +847,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -852,6 +877,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setBandwidth(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.bandwidth = value;
   }
 
@@ -881,6 +907,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void setFreqUse(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.freqUse = value;
   }
 
@@ -924,6 +951,7 @@ public class JRFLEntry {
    * Clear the Project field. This sets the field to null.
    */
   public void unsetProject() {
+    ChangeTracker.touch(owningDataset);
     this.project = null;
   }
 
@@ -956,6 +984,7 @@ public class JRFLEntry {
    * Clear the POCInformation field. This sets the field to null.
    */
   public void unsetPOCInformation() {
+    ChangeTracker.touch(owningDataset);
     this.pocInformation = null;
   }
 
@@ -988,6 +1017,7 @@ public class JRFLEntry {
    * Clear the JRFLEntryLocation field. This sets the field to null.
    */
   public void unsetJRFLEntryLocation() {
+    ChangeTracker.touch(owningDataset);
     this.jrflEntryLocation = null;
   }
 
@@ -1240,6 +1270,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withProject(Project... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getProject().addAll(Arrays.asList(values));
     }
@@ -1257,6 +1288,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withProject(Collection<Project> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getProject().addAll(values);
     }
@@ -1274,6 +1306,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withPOCInformation(POCInformation... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPOCInformation().addAll(Arrays.asList(values));
     }
@@ -1291,6 +1324,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withPOCInformation(Collection<POCInformation> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPOCInformation().addAll(values);
     }
@@ -1308,6 +1342,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withJRFLEntryLocation(JRFLEntryLocation... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getJRFLEntryLocation().addAll(Arrays.asList(values));
     }
@@ -1325,6 +1360,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withJRFLEntryLocation(Collection<JRFLEntryLocation> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getJRFLEntryLocation().addAll(values);
     }
@@ -1429,6 +1465,7 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public JRFLEntry withAssignmentAllotment(Common<?> value) {
+    ChangeTracker.touch(owningDataset);
     this.assignmentAllotment = value;
     return this;
   }
@@ -1459,20 +1496,9 @@ public class JRFLEntry {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (asgnAllotRef == null || !asgnAllotRef.isSetValue()) {
-      return;
-    }
-    for (Assignment instance : root.getAssignment()) {
-      if (asgnAllotRef.equals(instance.getSerial())) {
-        assignmentAllotment = instance;
-        return;
-      }
-    }
-    for (Allotment instance : root.getAllotment()) {
-      if (asgnAllotRef.equals(instance.getSerial())) {
-        assignmentAllotment = instance;
-        return;
-      }
+    assignmentAllotment = root.findBySerial(asgnAllotRef, Assignment.class);
+    if (assignmentAllotment == null) {
+      assignmentAllotment = root.findBySerial(asgnAllotRef, Allotment.class);
     }
   }//</editor-fold>
 
@@ -16,7 +16,9 @@
 package us.gov.dod.standard.ssrf._3_1.jrfl;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Location;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Height_UN4;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
@@ -68,6 +70,15 @@ public class JRFLEntryLocation {
   @XmlElement(name = "AntFeedpointHeight", required = false)
   private Height_UN4 antFeedpointHeight;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the serial of the referenced Location.
    * <p>
@@ -99,6 +110,7 @@ public class JRFLEntryLocation {
    */
   @Deprecated
   public void setSerial(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.serial = value;
   }
 
@@ -136,6 +148,7 @@ public class JRFLEntryLocation {
    * @since 3.1.0
    */
   public void setAntFeedpointHeight(Height_UN4 value) {
+    ChangeTracker.touch(owningDataset);
     this.antFeedpointHeight = value;
   }
 
@@ -263,6 +276,7 @@ public class JRFLEntryLocation {
    * @since 3.1.0
    */
   public JRFLEntryLocation withLocation(Location value) {
+    ChangeTracker.touch(owningDataset);
     this.location = value;
     return this;
   }
@@ -293,15 +307,7 @@ public class JRFLEntryLocation {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (serial == null || !serial.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (serial.equals(instance.getSerial())) {
-        location = instance;
-        return;
-      }
-    }
+    location = root.findBySerial(serial, Location.class);
   }//</editor-fold>
 
 }
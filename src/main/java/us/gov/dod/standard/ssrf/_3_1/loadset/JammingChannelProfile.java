@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Loadset;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -287,6 +290,15 @@ public class JammingChannelProfile {
   @XmlElement(name = "TimingDeconflictionProtocol")
   private Set<TimingDeconflictionProtocol> timingDeconflictionProtocol;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the signal level required to activate the loadset, for systems capable
    * of selecting multiple power thresholds by sub-band or other region of
@@ -308,6 +320,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setActivationPower(dBm value) {
+    ChangeTracker.touch(owningDataset);
     this.activationPower = value;
   }
 
@@ -339,6 +352,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setActivationTime(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.activationTime = value;
   }
 
@@ -368,6 +382,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setCarrierWaveform(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.carrierWaveform = value;
   }
 
@@ -397,6 +412,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setCenterFreq(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.centerFreq = value;
   }
 
@@ -426,6 +442,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setChannelSpacing(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.channelSpacing = value;
   }
 
@@ -455,6 +472,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setDirection(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.direction = value;
   }
 
@@ -488,6 +506,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setDwell(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.dwell = value;
   }
 
@@ -519,6 +538,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setExBlankingOn(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.exBlankingOn = value;
   }
 
@@ -552,6 +572,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setFFTType(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.fftType = value;
   }
 
@@ -587,6 +608,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -616,6 +638,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -651,6 +674,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setObserveTime(US_Duration value) {
+    ChangeTracker.touch(owningDataset);
     this.observeTime = value;
   }
 
@@ -680,6 +704,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setOffsetFreq(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.offsetFreq = value;
   }
 
@@ -715,6 +740,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setRxDuration(US_Duration value) {
+    ChangeTracker.touch(owningDataset);
     this.rxDuration = value;
   }
 
@@ -744,6 +770,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setSignal(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.signal = value;
   }
 
@@ -775,6 +802,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setTechniques(UN5 value) {
+    ChangeTracker.touch(owningDataset);
     this.techniques = value;
   }
 
@@ -804,6 +832,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setThreat(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.threat = value;
   }
 
@@ -839,6 +868,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public void setTxDuration(US_Duration value) {
+    ChangeTracker.touch(owningDataset);
     this.txDuration = value;
   }
 
@@ -880,6 +910,7 @@ public class JammingChannelProfile {
    * Clear the TimingDeconflictionProtocol field. This sets the field to null.
    */
   public void unsetTimingDeconflictionProtocol() {
+    ChangeTracker.touch(owningDataset);
     this.timingDeconflictionProtocol = null;
   }
 
@@ -1129,6 +1160,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public JammingChannelProfile withTimingDeconflictionProtocol(TimingDeconflictionProtocol... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTimingDeconflictionProtocol().addAll(Arrays.asList(values));
     }
@@ -1146,6 +1178,7 @@ public class JammingChannelProfile {
    * @since 3.1.0
    */
   public JammingChannelProfile withTimingDeconflictionProtocol(Collection<TimingDeconflictionProtocol> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTimingDeconflictionProtocol().addAll(values);
     }
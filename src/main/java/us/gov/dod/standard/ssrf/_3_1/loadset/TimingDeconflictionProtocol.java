@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.loadset;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Loadset;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.MEMO;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S50;
@@ -143,6 +146,15 @@ public class TimingDeconflictionProtocol {
   @XmlElement(name = "TriggerOn", required = false)
   private microsecs triggerOn;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a description of the timing deconfliction protocol..
    * <p>
@@ -160,6 +172,7 @@ public class TimingDeconflictionProtocol {
    * @since 3.1.0
    */
   public void setDescription(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
@@ -189,6 +202,7 @@ public class TimingDeconflictionProtocol {
    * @since 3.1.0
    */
   public void setName(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.name = value;
   }
 
@@ -220,6 +234,7 @@ public class TimingDeconflictionProtocol {
    * @since 3.1.0
    */
   public void setPeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.period = value;
   }
 
@@ -249,6 +264,7 @@ public class TimingDeconflictionProtocol {
    * @since 3.1.0
    */
   public void setRanking(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.ranking = value;
   }
 
@@ -284,6 +300,7 @@ public class TimingDeconflictionProtocol {
    * @since 3.1.0
    */
   public void setRequired(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.required = value;
   }
 
@@ -317,6 +334,7 @@ public class TimingDeconflictionProtocol {
    * @since 3.1.0
    */
   public void setSyncMethod(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.syncMethod = value;
   }
 
@@ -346,6 +364,7 @@ public class TimingDeconflictionProtocol {
    * @since 3.1.0
    */
   public void setTriggerOff(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.triggerOff = value;
   }
 
@@ -375,6 +394,7 @@ public class TimingDeconflictionProtocol {
    * @since 3.1.0
    */
   public void setTriggerOn(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.triggerOn = value;
   }
 
@@ -17,6 +17,9 @@ package us.gov.dod.standard.ssrf._3_1.location;
 
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Location;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -59,6 +62,11 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 })
 public class Ellipse {
 
+  /**
+   * -1. The idx field value when the index is not set.
+   */
+  private static final int NO_IDX = -1;
+
   /**
    * Excluded - Shape is Excluded (Optional)
    * <p>
@@ -183,10 +191,22 @@ public class Ellipse {
    * <p>
    * Format is UN(6)
    * <p>
+   * Developer note: The index is stored as a primitive int and is bound to XML
+   * through the {@link #getIdx()} and {@link #setIdx(BigInteger)} methods.
+   * <p>
    * @since 3.1.0
    */
-  @XmlAttribute(name = "idx", required = true)
-  private BigInteger idx;
+  @XmlTransient
+  private int idx = NO_IDX;
+
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
 
   /**
    * Get "Yes" to indicate that the shape is to be excluded from the set. If
@@ -209,6 +229,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setExcluded(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.excluded = value;
   }
 
@@ -254,6 +275,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setLon(Lon value) {
+    ChangeTracker.touch(owningDataset);
     this.lon = value;
   }
 
@@ -289,6 +311,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setLat(Lat value) {
+    ChangeTracker.touch(owningDataset);
     this.lat = value;
   }
 
@@ -324,6 +347,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setSemiMajorAxis(DistEarth value) {
+    ChangeTracker.touch(owningDataset);
     this.semiMajorAxis = value;
   }
 
@@ -353,6 +377,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setSemiMinorAxis(DistEarth value) {
+    ChangeTracker.touch(owningDataset);
     this.semiMinorAxis = value;
   }
 
@@ -384,6 +409,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setAzimuth(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.azimuth = value;
   }
 
@@ -415,6 +441,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setAltitudeMin(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.altitudeMin = value;
   }
 
@@ -452,6 +479,7 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setAltitudeMax(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.altitudeMax = value;
   }
 
@@ -471,7 +499,18 @@ public class Ellipse {
    * @return a {@link BigInteger} instance
    * @since 3.1.0
    */
+  @XmlAttribute(name = "idx", required = true)
   public BigInteger getIdx() {
+    return idx != NO_IDX ? BigInteger.valueOf(idx) : null;
+  }
+
+  /**
+   * Get the index as a primitive int.
+   * <p>
+   * @return the index, -1 if not set
+   * @since 3.1.0
+   */
+  public int getIdxAsInt() {
     return idx;
   }
 
@@ -483,6 +522,24 @@ public class Ellipse {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    if (value != null && (value.signum() < 0 || value.bitLength() > 31)) {
+      throw new IllegalArgumentException("Index value violation. Index must be an unsigned int for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
+    this.idx = value != null ? value.intValue() : NO_IDX;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @since 3.1.0
+   */
+  public void setIdx(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Index value violation. Index must be unsigned for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
     this.idx = value;
   }
 
@@ -492,7 +549,7 @@ public class Ellipse {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetIdx() {
-    return (this.idx != null);
+    return (this.idx != NO_IDX);
   }
 
   /**
@@ -645,6 +702,19 @@ public class Ellipse {
    * @since 3.1.0
    */
   public Ellipse withIdx(BigInteger value) {
+    setIdx(value);
+    return this;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @return The current Ellipse object instance.
+   * @since 3.1.0
+   */
+  public Ellipse withIdx(int value) {
+    setIdx(value);
     return this;
   }
 
@@ -660,7 +730,7 @@ public class Ellipse {
            + (altitudeMin != null ? " altitudeMin [" + altitudeMin + "]" : "")
            + (azimuth != null ? " azimuth [" + azimuth + "]" : "")
            + (excluded != null ? " excluded [" + excluded + "]" : "")
-           + (idx != null ? " idx [" + idx + "]" : "")
+           + (idx != NO_IDX ? " idx [" + idx + "]" : "")
            + (lat != null ? " lat [" + lat + "]" : "")
            + (lon != null ? " lon [" + lon + "]" : "")
            + (semiMajorAxis != null ? " semiMajorAxis [" + semiMajorAxis + "]" : "")
@@ -683,4 +753,14 @@ public class Ellipse {
     return isSetAzimuth() && isSetLat() && isSetLon() && isSetSemiMajorAxis() && isSetSemiMinorAxis() && isSetIdx();
   }
 
+  /**
+   * Reserve the index of this Ellipse in the SSRF root instance after loading
+   * from XML so that it is not allocated to a new item.
+   * <p>
+   * @param root the SSRF root instance.
+   * @since 3.1.0
+   */
+  public void postLoad(SSRF root) {
+    root.reserveIdx(idx);
+  }
 }
@@ -17,6 +17,9 @@ package us.gov.dod.standard.ssrf._3_1.location;
 
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Location;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Altitude;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Lat;
@@ -55,6 +58,11 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 })
 public class Point {
 
+  /**
+   * -1. The idx field value when the index is not set.
+   */
+  private static final int NO_IDX = -1;
+
   /**
    * Excluded - Shape is Excluded (Optional)
    * <p>
@@ -158,10 +166,22 @@ public class Point {
    * <p>
    * Format is UN(6)
    * <p>
+   * Developer note: The index is stored as a primitive int and is bound to XML
+   * through the {@link #getIdx()} and {@link #setIdx(BigInteger)} methods.
+   * <p>
    * @since 3.1.0
    */
-  @XmlAttribute(name = "idx", required = true)
-  private BigInteger idx;
+  @XmlTransient
+  private int idx = NO_IDX;
+
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
 
   /**
    * Get "Yes" to indicate that the shape is to be excluded from the set. If
@@ -184,6 +204,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setExcluded(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.excluded = value;
   }
 
@@ -229,6 +250,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setLon(Lon value) {
+    ChangeTracker.touch(owningDataset);
     this.lon = value;
   }
 
@@ -264,6 +286,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setLat(Lat value) {
+    ChangeTracker.touch(owningDataset);
     this.lat = value;
   }
 
@@ -295,6 +318,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setTerrainElevation(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.terrainElevation = value;
   }
 
@@ -326,6 +350,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setAltitudeMin(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.altitudeMin = value;
   }
 
@@ -363,6 +388,7 @@ public class Point {
    * @since 3.1.0
    */
   public void setAltitudeMax(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.altitudeMax = value;
   }
 
@@ -385,7 +411,18 @@ public class Point {
    * @return a {@link BigInteger} instance
    * @since 3.1.0
    */
+  @XmlAttribute(name = "idx", required = true)
   public BigInteger getIdx() {
+    return idx != NO_IDX ? BigInteger.valueOf(idx) : null;
+  }
+
+  /**
+   * Get the index as a primitive int.
+   * <p>
+   * @return the index, -1 if not set
+   * @since 3.1.0
+   */
+  public int getIdxAsInt() {
     return idx;
   }
 
@@ -400,6 +437,24 @@ public class Point {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    if (value != null && (value.signum() < 0 || value.bitLength() > 31)) {
+      throw new IllegalArgumentException("Index value violation. Index must be an unsigned int for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
+    this.idx = value != null ? value.intValue() : NO_IDX;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @since 3.1.0
+   */
+  public void setIdx(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Index value violation. Index must be unsigned for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
     this.idx = value;
   }
 
@@ -409,7 +464,7 @@ public class Point {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetIdx() {
-    return (this.idx != null);
+    return (this.idx != NO_IDX);
   }
 
   /**
@@ -538,6 +593,19 @@ public class Point {
    * @since 3.1.0
    */
   public Point withIdx(BigInteger value) {
+    setIdx(value);
+    return this;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @return The current Point object instance.
+   * @since 3.1.0
+   */
+  public Point withIdx(int value) {
+    setIdx(value);
     return this;
   }
 
@@ -552,7 +620,7 @@ public class Point {
            + (altitudeMax != null ? " altitudeMax [" + altitudeMax + "]" : "")
            + (altitudeMin != null ? " altitudeMin [" + altitudeMin + "]" : "")
            + (excluded != null ? " excluded [" + excluded + "]" : "")
-           + (idx != null ? " idx [" + idx + "]" : "")
+           + (idx != NO_IDX ? " idx [" + idx + "]" : "")
            + (lat != null ? " lat [" + lat + "]" : "")
            + (lon != null ? " lon [" + lon + "]" : "")
            + (terrainElevation != null ? " terrainElevation [" + terrainElevation + "]" : "")
@@ -574,4 +642,14 @@ public class Point {
     return isSetLat() && isSetLon() && isSetIdx();
   }
 
+  /**
+   * Reserve the index of this Point in the SSRF root instance after loading
+   * from XML so that it is not allocated to a new item.
+   * <p>
+   * @param root the SSRF root instance.
+   * @since 3.1.0
+   */
+  public void postLoad(SSRF root) {
+    root.reserveIdx(idx);
+  }
 }
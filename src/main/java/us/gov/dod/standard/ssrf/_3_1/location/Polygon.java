@@ -21,6 +21,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Location;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Altitude;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -47,6 +50,11 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 })
 public class Polygon {
 
+  /**
+   * -1. The idx field value when the index is not set.
+   */
+  private static final int NO_IDX = -1;
+
   /**
    * Excluded - Shape is Excluded (Optional)
    * <p>
@@ -85,10 +93,22 @@ public class Polygon {
    * <p>
    * Format is UN(6)
    * <p>
+   * Developer note: The index is stored as a primitive int and is bound to XML
+   * through the {@link #getIdx()} and {@link #setIdx(BigInteger)} methods.
+   * <p>
    * @since 3.1.0
    */
-  @XmlAttribute(name = "idx", required = true)
-  private BigInteger idx;
+  @XmlTransient
+  private int idx = NO_IDX;
+
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
 
   /**
    * Get "Yes" to indicate that the shape is to be excluded from the set. If
@@ -111,6 +131,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public void setExcluded(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.excluded = value;
   }
 
@@ -142,6 +163,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public void setAltitudeMin(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.altitudeMin = value;
   }
 
@@ -171,6 +193,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public void setAltitudeMax(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.altitudeMax = value;
   }
 
@@ -215,6 +238,7 @@ public class Polygon {
    * Clear the PolygonPoint field. This sets the field to null.
    */
   public void unsetPolygonPoint() {
+    ChangeTracker.touch(owningDataset);
     this.polygonPoint = null;
   }
 
@@ -224,7 +248,18 @@ public class Polygon {
    * @return a {@link BigInteger} instance
    * @since 3.1.0
    */
+  @XmlAttribute(name = "idx", required = true)
   public BigInteger getIdx() {
+    return idx != NO_IDX ? BigInteger.valueOf(idx) : null;
+  }
+
+  /**
+   * Get the index as a primitive int.
+   * <p>
+   * @return the index, -1 if not set
+   * @since 3.1.0
+   */
+  public int getIdxAsInt() {
     return idx;
   }
 
@@ -235,6 +270,24 @@ public class Polygon {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    if (value != null && (value.signum() < 0 || value.bitLength() > 31)) {
+      throw new IllegalArgumentException("Index value violation. Index must be an unsigned int for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
+    this.idx = value != null ? value.intValue() : NO_IDX;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @since 3.1.0
+   */
+  public void setIdx(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Index value violation. Index must be unsigned for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
     this.idx = value;
   }
 
@@ -244,7 +297,7 @@ public class Polygon {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetIdx() {
-    return (this.idx != null);
+    return (this.idx != NO_IDX);
   }
 
   /**
@@ -299,6 +352,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public Polygon withPolygonPoint(PolygonPoint... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPolygonPoint().addAll(Arrays.asList(values));
     }
@@ -319,6 +373,7 @@ public class Polygon {
    * @since 3.1.0
    */
   public Polygon withPolygonPoint(Collection<PolygonPoint> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPolygonPoint().addAll(values);
     }
@@ -333,6 +388,19 @@ public class Polygon {
    * @since 3.1.0
    */
   public Polygon withIdx(BigInteger value) {
+    setIdx(value);
+    return this;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @return The current Polygon object instance.
+   * @since 3.1.0
+   */
+  public Polygon withIdx(int value) {
+    setIdx(value);
     return this;
   }
 
@@ -347,7 +415,7 @@ public class Polygon {
            + (altitudeMax != null ? " altitudeMax [" + altitudeMax + "]" : "")
            + (altitudeMin != null ? " altitudeMin [" + altitudeMin + "]" : "")
            + (excluded != null ? " excluded [" + excluded + "]" : "")
-           + (idx != null ? " idx [" + idx + "]" : "")
+           + (idx != NO_IDX ? " idx [" + idx + "]" : "")
            + (polygonPoint != null ? " polygonPoint [" + polygonPoint + "]" : "")
            + "}";
   }
@@ -367,4 +435,14 @@ public class Polygon {
     return isSetPolygonPoint() && isSetIdx();
   }
 
+  /**
+   * Reserve the index of this Polygon in the SSRF root instance after loading
+   * from XML so that it is not allocated to a new item.
+   * <p>
+   * @param root the SSRF root instance.
+   * @since 3.1.0
+   */
+  public void postLoad(SSRF root) {
+    root.reserveIdx(idx);
+  }
 }
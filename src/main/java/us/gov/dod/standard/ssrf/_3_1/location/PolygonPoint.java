@@ -17,6 +17,8 @@ package us.gov.dod.standard.ssrf._3_1.location;
 
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Lat;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Lon;
 
@@ -86,6 +88,15 @@ public class PolygonPoint {
   @XmlAttribute(name = "sequence", required = true)
   private BigInteger sequence;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the geographical longitude (degrees, minutes, seconds, and hemisphere E
    * or W) of the Point or center of the Ellipse. If the seconds are not known,
@@ -117,6 +128,7 @@ public class PolygonPoint {
    * @since 3.1.0
    */
   public void setLon(Lon value) {
+    ChangeTracker.touch(owningDataset);
     this.lon = value;
   }
 
@@ -152,6 +164,7 @@ public class PolygonPoint {
    * @since 3.1.0
    */
   public void setLat(Lat value) {
+    ChangeTracker.touch(owningDataset);
     this.lat = value;
   }
 
@@ -183,6 +196,7 @@ public class PolygonPoint {
    * @since 3.1.0
    */
   public void setSequence(BigInteger value) {
+    ChangeTracker.touch(owningDataset);
     this.sequence = value;
   }
 
@@ -79,86 +79,16 @@ public abstract class AMetadata<T> {
   protected ListCCL cls;
 
   /**
-   * remark References - Links to Data Item Remarks (Optional)
+   * The optional metadata attributes (all attributes other than cls). Null
+   * until one of these attributes is set.
    * <p>
-   * A list of Common/Remarks idx values applicable to the current data item.
-   * <p>
-   * Format is List of UN6
-   */
-  @XmlList
-  @XmlAttribute(name = "remarks")
-  protected Set<BigInteger> remarkRef;
-  /**
-   * extReferences - Links to External References (Optional)
-   * <p>
-   * A list of Common/ExtReferenceRef idx values applicable to the current data
-   * item.
-   * <p>
-   * Format is List of UN6
-   */
-  @XmlList
-  @XmlAttribute(name = "extReferences")
-  protected Set<BigInteger> extReferences;
-  /**
-   * US:legacyReleasability - Legacy Releasability (Optional)
-   * <p>
-   * One or more special handling instructions in sentence format, not code
-   * format. For example, "Approved for public release; distribution is
-   * unlimited". Multiple special handling instructions are separated by "|”
-   * (i.e., ASCII character #124).
-   * <p>
-   * Format is Memo
-   */
-  @XmlAttribute(name = "legacyReleasability")
-  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
-  protected String legacyReleasability;
-  /**
-   * US:quality - Data Quality (Optional)
-   * <p>
-   * One or more data quality indicator(s), separated by "|” (i.e., ASCII
-   * character #124), for the contents of the associated Data Item For example,
-   * "Outlier" | "Non-CodeList".
-   * <p>
-   * Format is S255
-   */
-  @XmlAttribute(name = "quality")
-  @XmlJavaTypeAdapter(value = XmlAdapterS255.class)
-  protected String quality;
-  /**
-   * US:recommendedValue - Recommended Value (Optional)
-   * <p>
-   * A value that is most probably correct.
-   * <p>
-   * Format is Memo
+   * Developer note: Most data items carry only a classification. Holding the
+   * rarely used attributes in a lazily allocated side-car instance saves seven
+   * references in every data item. The attributes are bound to XML through the
+   * accessor methods.
    */
-  @XmlAttribute(name = "recommendedValue")
-  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
-  protected String recommendedValue;
-  /**
-   * idref - Data Item ID (Optional)
-   * <p>
-   * A unique identifier for each Data Item in the Dataset. Within each Dataset,
-   * the idref value must be unique for every occurrence. If a received Dataset
-   * uses idrefs and it is expected that the Dataset will be exchanged, the
-   * idrefs should be considered required. If the receiving system is the
-   * permanent end of the line for the Dataset, the idrefs may be considered
-   * optional.
-   * <p>
-   * Format is S10
-   */
-  @XmlAttribute(name = "idref")
-  @XmlJavaTypeAdapter(value = XmlAdapterS10.class)
-  protected String idref;
-  /**
-   * US:availability - data supporting legacy equipment certification business
-   * practice.
-   * <p>
-   * Values should be selected from one of "Unknown", "N/A", "Not Available" or
-   * "Not Applicable", when data is not available.
-   */
-  @XmlAttribute(name = "availability")
-  @XmlJavaTypeAdapter(value = XmlAdapterS30.class)
-  protected String availability;
+  @XmlTransient
+  protected MetadataAttributes attributes;
 
   /**
    * Metadata types require a zero argument constructor.
@@ -193,10 +123,11 @@ public abstract class AMetadata<T> {
    * @return a non-null list of {@link BigInteger} instances
    */
   public Set<BigInteger> getRemarkRef() {
-    if (remarkRef == null) {
-      remarkRef = new HashSet<>();
+    MetadataAttributes metadata = getAttributes();
+    if (metadata.remarkRef == null) {
+      metadata.remarkRef = new HashSet<>();
     }
-    return this.remarkRef;
+    return metadata.remarkRef;
   }
 
   /**
@@ -206,14 +137,16 @@ public abstract class AMetadata<T> {
    * @return a non-null list of {@link BigInteger} instances
    */
   public boolean isSetRemarkRef() {
-    return ((this.remarkRef != null) && (!this.remarkRef.isEmpty()));
+    return attributes != null && attributes.remarkRef != null && !attributes.remarkRef.isEmpty();
   }
 
   /**
    * Clear the RemarkIndex field. This sets the field to null.
    */
   public void unsetRemarkRef() {
-    this.remarkRef = null;
+    if (attributes != null) {
+      attributes.remarkRef = null;
+    }
   }
 
   /**
@@ -235,8 +168,10 @@ public abstract class AMetadata<T> {
    * <p>
    * @return a {@link String} instance
    */
+  @XmlAttribute(name = "idref")
+  @XmlJavaTypeAdapter(value = XmlAdapterS10.class)
   public String getIdref() {
-    return idref;
+    return attributes != null ? attributes.idref : null;
   }
 
   /**
@@ -250,7 +185,9 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setIdref(String value) {
-    this.idref = value;
+    if (value != null || attributes != null) {
+      getAttributes().idref = value;
+    }
   }
 
   /**
@@ -259,7 +196,7 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetIdref() {
-    return (this.idref != null);
+    return attributes != null && attributes.idref != null;
   }
 
   /**
@@ -269,8 +206,10 @@ public abstract class AMetadata<T> {
    * <p>
    * @return a {@link String} instance
    */
+  @XmlAttribute(name = "availability")
+  @XmlJavaTypeAdapter(value = XmlAdapterS30.class)
   public String getAvailability() {
-    return availability;
+    return attributes != null ? attributes.availability : null;
   }
 
   /**
@@ -281,7 +220,9 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setAvailability(String value) {
-    this.availability = value;
+    if (value != null || attributes != null) {
+      getAttributes().availability = value;
+    }
   }
 
   /**
@@ -290,7 +231,7 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetAvailability() {
-    return (this.availability != null);
+    return attributes != null && attributes.availability != null;
   }
 
   /**
@@ -300,10 +241,11 @@ public abstract class AMetadata<T> {
    * @return a non-null list of {@link BigInteger} instances
    */
   public Set<BigInteger> getExtReferences() {
-    if (extReferences == null) {
-      extReferences = new HashSet<>();
+    MetadataAttributes metadata = getAttributes();
+    if (metadata.extReferences == null) {
+      metadata.extReferences = new HashSet<>();
     }
-    return this.extReferences;
+    return metadata.extReferences;
   }
 
   /**
@@ -312,14 +254,16 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetExtReferences() {
-    return ((this.extReferences != null) && (!this.extReferences.isEmpty()));
+    return attributes != null && attributes.extReferences != null && !attributes.extReferences.isEmpty();
   }
 
   /**
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
-    this.extReferences = null;
+    if (attributes != null) {
+      attributes.extReferences = null;
+    }
   }
 
   /**
@@ -330,8 +274,10 @@ public abstract class AMetadata<T> {
    * <p>
    * @return a {@link String} instance
    */
+  @XmlAttribute(name = "legacyReleasability")
+  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
   public String getLegacyReleasability() {
-    return legacyReleasability;
+    return attributes != null ? attributes.legacyReleasability : null;
   }
 
   /**
@@ -343,7 +289,9 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setLegacyReleasability(String value) {
-    this.legacyReleasability = value;
+    if (value != null || attributes != null) {
+      getAttributes().legacyReleasability = value;
+    }
   }
 
   /**
@@ -352,7 +300,7 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetLegacyReleasability() {
-    return (this.legacyReleasability != null);
+    return attributes != null && attributes.legacyReleasability != null;
   }
 
   /**
@@ -362,8 +310,10 @@ public abstract class AMetadata<T> {
    * <p>
    * @return a {@link String} instance
    */
+  @XmlAttribute(name = "quality")
+  @XmlJavaTypeAdapter(value = XmlAdapterS255.class)
   public String getQuality() {
-    return quality;
+    return attributes != null ? attributes.quality : null;
   }
 
   /**
@@ -374,7 +324,9 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setQuality(String value) {
-    this.quality = value;
+    if (value != null || attributes != null) {
+      getAttributes().quality = value;
+    }
   }
 
   /**
@@ -383,7 +335,7 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetQuality() {
-    return (this.quality != null);
+    return attributes != null && attributes.quality != null;
   }
 
   /**
@@ -391,8 +343,10 @@ public abstract class AMetadata<T> {
    * <p>
    * @return a {@link String} instance
    */
+  @XmlAttribute(name = "recommendedValue")
+  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
   public String getRecommendedValue() {
-    return recommendedValue;
+    return attributes != null ? attributes.recommendedValue : null;
   }
 
   /**
@@ -401,7 +355,9 @@ public abstract class AMetadata<T> {
    * @param value a {@link String} instance
    */
   public void setRecommendedValue(String value) {
-    this.recommendedValue = value;
+    if (value != null || attributes != null) {
+      getAttributes().recommendedValue = value;
+    }
   }
 
   /**
@@ -410,7 +366,66 @@ public abstract class AMetadata<T> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetRecommendedValue() {
-    return (this.recommendedValue != null);
+    return attributes != null && attributes.recommendedValue != null;
+  }
+
+  /**
+   * Get the Common/Remarks idx values bound to XML. Unlike
+   * {@link #getRemarkRef()} this does not allocate an empty set.
+   *
+   * @return the remarks idx values, null if not set
+   */
+  @XmlList
+  @XmlAttribute(name = "remarks")
+  private Set<BigInteger> getRemarkRefAttribute() {
+    return attributes != null ? attributes.remarkRef : null;
+  }
+
+  /**
+   * Set the Common/Remarks idx values bound to XML.
+   *
+   * @param value the remarks idx values
+   */
+  private void setRemarkRefAttribute(Set<BigInteger> value) {
+    if (value != null || attributes != null) {
+      getAttributes().remarkRef = value;
+    }
+  }
+
+  /**
+   * Get the Common/ExtReferenceRef idx values bound to XML. Unlike
+   * {@link #getExtReferences()} this does not allocate an empty set.
+   *
+   * @return the external reference idx values, null if not set
+   */
+  @XmlList
+  @XmlAttribute(name = "extReferences")
+  private Set<BigInteger> getExtReferencesAttribute() {
+    return attributes != null ? attributes.extReferences : null;
+  }
+
+  /**
+   * Set the Common/ExtReferenceRef idx values bound to XML.
+   *
+   * @param value the external reference idx values
+   */
+  private void setExtReferencesAttribute(Set<BigInteger> value) {
+    if (value != null || attributes != null) {
+      getAttributes().extReferences = value;
+    }
+  }
+
+  /**
+   * Internal helper method to get the optional metadata attributes, allocating
+   * the side-car instance if required.
+   *
+   * @return the non-null metadata attributes
+   */
+  private MetadataAttributes getAttributes() {
+    if (attributes == null) {
+      attributes = new MetadataAttributes();
+    }
+    return attributes;
   }
 
   /**
@@ -420,12 +435,15 @@ public abstract class AMetadata<T> {
    */
   @Override
   public String toString() {
+    if (attributes == null) {
+      return cls != null ? "    cls [" + cls + "]" : "";
+    }
     return (cls != null ? "    cls [" + cls + "]" : "")
-           + (extReferences != null ? "    extReferences [" + extReferences + "]" : "")
-           + (legacyReleasability != null ? "    legacyReleasability [" + legacyReleasability + "]" : "")
-           + (quality != null ? "    quality [" + quality + "]" : "")
-           + (recommendedValue != null ? "    recommendedValue [" + recommendedValue + "]" : "")
-           + (remarkRef != null ? "    rem [" + remarkRef + "]" : "");
+           + (attributes.extReferences != null ? "    extReferences [" + attributes.extReferences + "]" : "")
+           + (attributes.legacyReleasability != null ? "    legacyReleasability [" + attributes.legacyReleasability + "]" : "")
+           + (attributes.quality != null ? "    quality [" + attributes.quality + "]" : "")
+           + (attributes.recommendedValue != null ? "    recommendedValue [" + attributes.recommendedValue + "]" : "")
+           + (attributes.remarkRef != null ? "    rem [" + attributes.remarkRef + "]" : "");
   }
 
   /**
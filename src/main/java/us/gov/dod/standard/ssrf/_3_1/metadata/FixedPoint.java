@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.metadata;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point number utilities for the SSRF numeric data types.
+ * <p>
+ * SSRF decimal values are defined by a total digit count and a fraction digit
+ * count (e.g. UN(16,9)). Since the total digit count never exceeds eighteen
+ * every valid value is stored exactly as a <code>long</code> unscaled value:
+ * the decimal value multiplied by ten to the power of the fraction digit count
+ * (the scale). For example the FreqM value 225.5 MHz at scale nine is stored as
+ * 225,500,000,000. Values that are out of range for the data type (but within
+ * the range of a long) are also held so that they can be reported when the
+ * data type is validated.
+ * <p>
+ * Values are rounded HALF_EVEN to the scale when set, so fraction digits
+ * beyond the scale are lost (e.g. an Az of 359.999 at scale two is held as
+ * 360.00). Values are returned without trailing zeros (e.g. 225.5, not
+ * 225.500000000) so that they compare equal to the decimal value as usually
+ * written. Values beyond the range of a long at the scale (about 9.2E18
+ * divided by ten to the power of the scale) cannot be held and are rejected.
+ * <p>
+ * {@link #NULL} (Long.MIN_VALUE) indicates that no value is set.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public final class FixedPoint {
+
+  /**
+   * Long.MIN_VALUE. The unscaled value indicating that no value is set.
+   */
+  public static final long NULL = Long.MIN_VALUE;
+  /**
+   * Powers of ten from 10^0 to 10^18.
+   */
+  private static final long[] POWERS = new long[19];
+  /**
+   * 2^52. Doubles smaller than this in magnitude hold their fraction with at
+   * least one bit to spare, which is enough to round them to a long exactly.
+   */
+  private static final double EXACT_LIMIT = 4503599627370496.0;
+
+  static {
+    POWERS[0] = 1;
+    for (int i = 1; i < POWERS.length; i++) {
+      POWERS[i] = POWERS[i - 1] * 10;
+    }
+  }
+
+  private FixedPoint() {
+  }
+
+  /**
+   * Convert a decimal value to an unscaled value. Excess fraction digits are
+   * rounded HALF_EVEN, as when the value is written to XML.
+   *
+   * @param value the decimal value. May be null.
+   * @param scale the number of fraction digits (0 to 18)
+   * @return the unscaled value, {@link #NULL} if the value is null
+   * @throws IllegalArgumentException if the value exceeds the fixed-point range
+   */
+  public static long valueOf(BigDecimal value, int scale) {
+    if (value == null) {
+      return NULL;
+    }
+    BigInteger unscaled = value.setScale(scale, RoundingMode.HALF_EVEN).unscaledValue();
+    if (unscaled.bitLength() > 63 || unscaled.longValue() == NULL) {
+      throw new IllegalArgumentException("Value " + value.toPlainString() + " exceeds the fixed-point range at " + scale + " fraction digits.");
+    }
+    return unscaled.longValue();
+  }
+
+  /**
+   * Convert a double value to an unscaled value. The value is first converted
+   * to its shortest decimal representation (see {@link BigDecimal#valueOf(double)})
+   * then rounded HALF_EVEN.
+   *
+   * @param value the double value. May be null.
+   * @param scale the number of fraction digits (0 to 18)
+   * @return the unscaled value, {@link #NULL} if the value is null
+   * @throws IllegalArgumentException if the value is not finite or exceeds the
+   *                                  fixed-point range
+   */
+  public static long valueOf(Double value, int scale) {
+    if (value == null) {
+      return NULL;
+    }
+    double product = value * POWERS[scale];
+    double rounded = Math.rint(product);
+    /**
+     * Use the product directly unless it is close to a rounding tie, where
+     * the binary representation error could decide the result.
+     */
+    if (Math.abs(product) < EXACT_LIMIT && Math.abs(Math.abs(product - rounded) - 0.5) > 1.0E-6) {
+      return (long) rounded;
+    }
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      throw new IllegalArgumentException("Value " + value + " is not a finite number.");
+    }
+    return valueOf(BigDecimal.valueOf(value), scale);
+  }
+
+  /**
+   * Convert an unscaled value to a decimal value. Trailing fraction zeros are
+   * removed; the returned scale is never negative (e.g. 360, not 3.6E+2).
+   *
+   * @param unscaled the unscaled value
+   * @param scale    the number of fraction digits
+   * @return the decimal value, null if the unscaled value is {@link #NULL}
+   */
+  public static BigDecimal toBigDecimal(long unscaled, int scale) {
+    if (unscaled == NULL) {
+      return null;
+    }
+    while (scale > 0 && unscaled % 10 == 0) {
+      unscaled /= 10;
+      scale--;
+    }
+    return BigDecimal.valueOf(unscaled, scale);
+  }
+
+  /**
+   * Convert an unscaled value to a double value.
+   *
+   * @param unscaled the unscaled value
+   * @param scale    the number of fraction digits
+   * @return the (nearest) double value, NaN if the unscaled value is
+   *         {@link #NULL}
+   */
+  public static double toDouble(long unscaled, int scale) {
+    return unscaled == NULL ? Double.NaN : (double) unscaled / POWERS[scale];
+  }
+
+  /**
+   * Compare two unscaled values of the same scale. An unset value sorts after
+   * a set value.
+   *
+   * @param x the first unscaled value
+   * @param y the second unscaled value
+   * @return the sorting order
+   */
+  public static int compare(long x, long y) {
+    if (x == y) {
+      return 0;
+    }
+    if (x == NULL) {
+      return 1;
+    }
+    if (y == NULL) {
+      return -1;
+    }
+    return x < y ? -1 : 1;
+  }
+
+  /**
+   * Get the hash code of an unscaled value.
+   *
+   * @param unscaled the unscaled value
+   * @return the hash code; zero if the unscaled value is {@link #NULL}
+   */
+  public static int hashCode(long unscaled) {
+    return unscaled == NULL ? 0 : (int) (unscaled ^ (unscaled >>> 32));
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.metadata;
+
+import java.math.BigInteger;
+import java.util.Set;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterMEMO;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterS10;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterS255;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterS30;
+
+/**
+ * The optional SSRF Standard Metadata Attributes of a data item: every
+ * attribute in the "metadata" attribute group except the classification.
+ * <p>
+ * These attributes are rarely set. {@link AMetadata} holds them in a separate
+ * (side-car) instance that is only allocated when one of them is set, which
+ * keeps the many small data item instances in a SSRF message compact.
+ * <p>
+ * Developer note: This class is not bound to XML. The attributes are bound to
+ * XML (and should be accessed) through the {@link AMetadata} accessor methods.
+ * The field adapters are used to validate the attribute values.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class MetadataAttributes {
+
+  /**
+   * remark References - Links to Data Item Remarks (Optional)
+   * <p>
+   * A list of Common/Remarks idx values applicable to the current data item.
+   * <p>
+   * Format is List of UN6
+   */
+  protected Set<BigInteger> remarkRef;
+  /**
+   * extReferences - Links to External References (Optional)
+   * <p>
+   * A list of Common/ExtReferenceRef idx values applicable to the current data
+   * item.
+   * <p>
+   * Format is List of UN6
+   */
+  protected Set<BigInteger> extReferences;
+  /**
+   * US:legacyReleasability - Legacy Releasability (Optional)
+   * <p>
+   * One or more special handling instructions in sentence format, not code
+   * format. For example, "Approved for public release; distribution is
+   * unlimited". Multiple special handling instructions are separated by "|”
+   * (i.e., ASCII character #124).
+   * <p>
+   * Format is Memo
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
+  protected String legacyReleasability;
+  /**
+   * US:quality - Data Quality (Optional)
+   * <p>
+   * One or more data quality indicator(s), separated by "|” (i.e., ASCII
+   * character #124), for the contents of the associated Data Item For example,
+   * "Outlier" | "Non-CodeList".
+   * <p>
+   * Format is S255
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterS255.class)
+  protected String quality;
+  /**
+   * US:recommendedValue - Recommended Value (Optional)
+   * <p>
+   * A value that is most probably correct.
+   * <p>
+   * Format is Memo
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterMEMO.class)
+  protected String recommendedValue;
+  /**
+   * idref - Data Item ID (Optional)
+   * <p>
+   * A unique identifier for each Data Item in the Dataset. Within each Dataset,
+   * the idref value must be unique for every occurrence. If a received Dataset
+   * uses idrefs and it is expected that the Dataset will be exchanged, the
+   * idrefs should be considered required. If the receiving system is the
+   * permanent end of the line for the Dataset, the idrefs may be considered
+   * optional.
+   * <p>
+   * Format is S10
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterS10.class)
+  protected String idref;
+  /**
+   * US:availability - data supporting legacy equipment certification business
+   * practice.
+   * <p>
+   * Values should be selected from one of "Unknown", "N/A", "Not Available" or
+   * "Not Applicable", when data is not available.
+   */
+  @XmlJavaTypeAdapter(value = XmlAdapterS30.class)
+  protected String availability;
+}
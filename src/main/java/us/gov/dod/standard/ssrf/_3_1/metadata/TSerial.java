@@ -18,12 +18,13 @@ package us.gov.dod.standard.ssrf._3_1.metadata;
 import java.math.BigInteger;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import javax.xml.bind.annotation.*;
 import us.gov.dod.standard.ssrf.EDatasetType;
+import us.gov.dod.standard.ssrf.ISerialGenerator;
+import us.gov.dod.standard.ssrf.SerialGenerator;
+import us.gov.dod.standard.ssrf.SerialInterner;
 import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.adapter.XmlPatterns;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCY;
 
 /**
@@ -69,7 +70,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
   /**
    * The SERIAL number string pattern.
    */
-  private static final String PATTERN = "^([A-Z0-9-]{1,5}):(\\w{0,4}):([A-Z]{2}):(\\S{1,15})$";
+  private static final String PATTERN = XmlPatterns.SERIAL;
 
   /**
    * The value to which the metadata attributes are associated.
@@ -127,6 +128,12 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    */
   @XmlTransient
   private String serial;
+  /**
+   * The cached hash code. Zero if not yet computed. Cleared whenever the value
+   * is formatted or parsed.
+   */
+  @XmlTransient
+  private int hash;
 
   /**
    * Construct a new data type instance with the indicated value.
@@ -152,8 +159,8 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    * Get a TSerial instance for the indicated class instance.
    * <p>
    * The local is set to the current system default. The serial is
-   * programmatically set to a time-sequenced, UUID-based 15-character snippet.
-   * The organisation is left blank and may be set by th user.
+   * programmatically set by the current {@link SerialGenerator}. The
+   * organisation is left blank and may be set by th user.
    * <p>
    * @param clazz a SSRF class type that extends Common
    * @return a TSerial instance
@@ -161,20 +168,29 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    *                                  Common
    */
   public static TSerial getInstance(Class<? extends Common<?>> clazz) {
-    return new TSerial()
-            .withLocale(Locale.getDefault())
-            .withDatasetType(clazz)
-            .withSerial(uuidSnippet());
+    return getInstance(clazz, SerialGenerator.get());
   }
 
   /**
-   * Internal helper method to generate a 15-character UUID-based alphanumeric
-   * snippet.
+   * Get a TSerial instance for the indicated class instance with a Serial
+   * Identifier from the indicated generator.
+   * <p>
+   * The local is set to the current system default. The organisation is left
+   * blank and may be set by the user. The SERIAL number value is formatted
+   * once.
    * <p>
-   * @return a 15-character UUID-based alphanumeric String
+   * @param clazz     a SSRF class type that extends Common
+   * @param generator the Serial Identifier generator
+   * @return a TSerial instance
+   * @since 3.1.0
    */
-  private static String uuidSnippet() {
-    return UUID.randomUUID().toString().replaceAll("-", "").substring(0, 14);
+  public static TSerial getInstance(Class<? extends Common<?>> clazz, ISerialGenerator generator) {
+    TSerial instance = new TSerial();
+    instance.country = SerialGenerator.getCountry(Locale.getDefault());
+    instance.datasetType = EDatasetType.fromInstance(clazz);
+    instance.serial = SerialGenerator.next(generator, instance.datasetType);
+    instance.format();
+    return instance;
   }
 
   /**
@@ -188,25 +204,40 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
             .append(":")
             .append(datasetType != null ? datasetType.name() : "")
             .append(":")
-            .append(serial != null ? serial : uuidSnippet());
+            .append(serial != null ? serial : SerialGenerator.next(SerialGenerator.get(), datasetType));
     this.value = sb.toString();
+    this.hash = 0;
   }
 
   /**
    * Internal method to parse a SERIAL number value and set the internal
    * components.
    * <p>
+   * The components are set directly (the value is parsed once). A well formed
+   * value is kept as is; any other value that contains a SERIAL number is
+   * re-formatted once from the components.
+   * <p>
    * @throws IllegalArgumentException if the value does not conform to the
    *                                  SERIAL format
    */
   private void parse() throws IllegalArgumentException {
     if (value != null && !value.isEmpty()) {
-      Matcher m = Pattern.compile(PATTERN).matcher(value);
-      if (m.find()) {
-        setCountry(ListCCY.valueOf(m.group(1)));
-        setOrganisation(m.group(2));
-        setDatasetType(EDatasetType.valueOf(m.group(3)));
-        setSerial(m.group(4));
+      String[] parts = XmlPatterns.splitWellFormedSerial(value);
+      boolean wellFormed = parts != null;
+      if (!wellFormed) {
+        parts = XmlPatterns.splitSerial(value);
+      }
+      if (parts != null) {
+        this.country = ListCCY.valueOf(parts[0]);
+        this.organisation = parts[1];
+        this.datasetType = EDatasetType.valueOf(parts[2]);
+        this.serial = SerialInterner.intern(parts[3]);
+        if (wellFormed) {
+          this.value = SerialInterner.intern(value);
+          this.hash = 0;
+        } else {
+          format();
+        }
       } else {
         throw new IllegalArgumentException("SERIAL format error " + PATTERN + " for \"" + value + "\"");
       }
@@ -219,10 +250,15 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    * This method should typically be called after the serial number fields are
    * configured and (optionally) before exporting an SSRF message.
    * <p>
+   * The value is formatted each time a serial component is set and is
+   * therefore only formatted here if no value is set.
+   * <p>
    * @since 3.1.0
    */
   public void prepare() {
-    format();
+    if (value == null) {
+      format();
+    }
   }
 
   /**
@@ -266,7 +302,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    * @param locale the data source country
    */
   public void setLocale(Locale locale) {
-    this.country = ListCCY.valueOf(locale.getISO3Country());
+    this.country = SerialGenerator.getCountry(locale);
     format();
   }
 
@@ -357,14 +393,20 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
   /**
    * Gets the SSRF SERIAL number value.
    * <p>
-   * Calls {@link #format()} first to ensure the returned value reflects the
-   * most recent changes to the serial components.
+   * The value is formatted when each serial component is set. It is only
+   * formatted here (with a generated serial number) if no value is set.
+   * <p>
+   * Developer note: The value must NOT be formatted if it is already set. After
+   * unmarshalling the value is set but the serial components are not (until
+   * {@link #postLoad()} is called); formatting would replace the value.
    * <p>
    * @return the value of the value property.
    */
   @Override
   public String getValue() {
-    format();
+    if (value == null) {
+      format();
+    }
     return value;
   }
 
@@ -382,6 +424,7 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    */
   public void setValue(String value) {
     this.value = value;
+    this.hash = 0;
     parse();
   }
 
@@ -521,12 +564,11 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
   /**
    * Gets the SSRF SERIAL number value.
    * <p>
-   * Calls {@link #format()} first to ensure the returned value reflects the
-   * most recent changes to the serial components.
+   * This is a shortcut to {@link #getValue()}. The value is formatted when
+   * each serial component is set; {@link #format()} is only called here if no
+   * value is set.
    * <p>
-   * This is a shortcut to {@link #getValue()}.
-   * <p>
-   * @return the formatted SSRF SERIAL number value.
+   * @return the SSRF SERIAL number value.
    */
   @Override
   public String toString() {
@@ -538,17 +580,21 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    * Hash code is based upon the user-configured serial number portion of the
    * value.
    * <p>
+   * The hash code is computed once and cached until the value changes.
+   * <p>
    * @return a hash code of the user-configured serial number portion
    */
   @Override
   public int hashCode() {
-    if (this.serial == null) {
-      return super.hashCode();
+    int h = hash;
+    if (h == 0) {
+      String serialComponent = getSerialComponent();
+      h = serialComponent != null
+          ? serialComponent.hashCode()
+          : Objects.hashCode(this.value);
+      hash = h;
     }
-    int hash = 5;
-    hash = 47 * hash + Objects.hashCode(this.value);
-    hash = 47 * hash + Objects.hashCode(this.serial);
-    return hash;
+    return h;
   }
 
   /**
@@ -560,25 +606,53 @@ public class TSerial extends AMetadata<TSerial> implements IMetadataType, Compar
    */
   @Override
   public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
     if (obj == null) {
       return false;
     }
     if (getClass() != obj.getClass()) {
       return false;
     }
+    /**
+     * Unequal (cached) hash codes cannot match.
+     */
+    int otherHash = ((TSerial) obj).hash;
+    if (hash != 0 && otherHash != 0 && hash != otherHash) {
+      return false;
+    }
     /**
      * If the whole value matches then confirm equality. This is triggered when
      * unmarshaling from XML.
      */
-    if (Objects.equals(this.value, ((TSerial) obj).getValue())) {
+    if (this.value != null && this.value.equals(((TSerial) obj).value)) {
       return true;
     }
     /**
      * If the serial-component matches then also confirm equality. This is
      * triggered when marshaling TO xml AND also accommodates resetting the
-     * country code.
+     * country code. Unset serial components do not match.
      */
-    return Objects.equals(this.serial, ((TSerial) obj).getSerial());
+    String serialComponent = getSerialComponent();
+    return serialComponent != null && serialComponent.equals(((TSerial) obj).getSerialComponent());
+  }
+
+  /**
+   * Get the serial number component. If the serial components are not yet set
+   * (e.g. after unmarshalling, before {@link #postLoad()}) then the serial
+   * number component is read from the value and retained.
+   *
+   * @return the serial number component, null if not set
+   */
+  private String getSerialComponent() {
+    if (serial == null && value != null) {
+      String[] parts = XmlPatterns.splitSerial(value);
+      if (parts != null) {
+        serial = SerialInterner.intern(parts[3]);
+      }
+    }
+    return serial;
   }
 
   /**
@@ -16,14 +16,15 @@
 package us.gov.dod.standard.ssrf._3_1.metadata.domains;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterBURSTRATE;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
+import us.gov.dod.standard.ssrf._3_1.metadata.FixedPoint;
 
 /**
  * The SSRF BurstRate data type.
@@ -35,12 +36,18 @@ import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
 @XmlType(name = "BurstRate", propOrder = {"value"})
 public class BurstRate extends AMetadata<BurstRate> implements Comparable<BurstRate> {
 
+  /**
+   * 3. The number of fraction digits in the value.
+   */
+  public static final int SCALE = 3;
+
   /**
    * The value property.
+   * <p>
+   * Stored as a {@link FixedPoint} long at {@link #SCALE} fraction digits.
    */
-  @XmlValue
-  @XmlJavaTypeAdapter(XmlAdapterBURSTRATE.class)
-  protected BigDecimal value;
+  @XmlTransient
+  protected long value = FixedPoint.NULL;
 
   /**
    * Construct a new, empty BurstRate instance.
@@ -54,7 +61,7 @@ public class BurstRate extends AMetadata<BurstRate> implements Comparable<BurstR
    * @param value The initial value.
    */
   public BurstRate(BigDecimal value) {
-    this.value = value;
+    this.value = FixedPoint.valueOf(value, SCALE);
   }
 
   /**
@@ -63,7 +70,7 @@ public class BurstRate extends AMetadata<BurstRate> implements Comparable<BurstR
    * @param value The initial value.
    */
   public BurstRate(Double value) {
-    this.value = BigDecimal.valueOf(value);
+    this.value = FixedPoint.valueOf(value, SCALE);
   }
 
   /**
@@ -71,8 +78,10 @@ public class BurstRate extends AMetadata<BurstRate> implements Comparable<BurstR
    * <p>
    * @return the value of the value property
    */
+  @XmlValue
+  @XmlJavaTypeAdapter(XmlAdapterBURSTRATE.class)
   public BigDecimal getValue() {
-    return value;
+    return FixedPoint.toBigDecimal(value, SCALE);
   }
 
   /**
@@ -81,16 +90,45 @@ public class BurstRate extends AMetadata<BurstRate> implements Comparable<BurstR
    * @param the value
    */
   public void setValue(BigDecimal value) {
+    this.value = FixedPoint.valueOf(value, SCALE);
+  }
+
+  /**
+   * Get the value as a fixed-point number: the value multiplied by ten to the
+   * power of {@link #SCALE}.
+   * <p>
+   * @return the unscaled value, {@link FixedPoint#NULL} if the value is not set
+   */
+  public long getValueAsLong() {
+    return value;
+  }
+
+  /**
+   * Set the value as a fixed-point number: the value multiplied by ten to the
+   * power of {@link #SCALE}.
+   * <p>
+   * @param value the unscaled value, {@link FixedPoint#NULL} to clear the value
+   */
+  public void setValueAsLong(long value) {
     this.value = value;
   }
 
+  /**
+   * Get the value as a double.
+   * <p>
+   * @return the (nearest) double value, NaN if the value is not set
+   */
+  public double getValueAsDouble() {
+    return FixedPoint.toDouble(value, SCALE);
+  }
+
   /**
    * Determine if the value property is configured.
    * <p>
    * @return TRUE if the value is set, FALSE if the value is null
    */
   public boolean isSetValue() {
-    return this.value != null;
+    return this.value != FixedPoint.NULL;
   }
 
   /**
@@ -113,7 +151,7 @@ public class BurstRate extends AMetadata<BurstRate> implements Comparable<BurstR
    */
   @Override
   public String toString() {
-    return this.value != null ? this.value.toString() : null;
+    return this.value != FixedPoint.NULL ? getValue().toString() : null;
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -125,7 +163,7 @@ public class BurstRate extends AMetadata<BurstRate> implements Comparable<BurstR
   @Override
   public int hashCode() {
     int hash = 7;
-    hash = 97 * hash + Objects.hashCode(this.value);
+    hash = 97 * hash + FixedPoint.hashCode(this.value);
     return hash;
   }
 
@@ -143,7 +181,7 @@ public class BurstRate extends AMetadata<BurstRate> implements Comparable<BurstR
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((BurstRate) obj).getValue());
+    return this.value == ((BurstRate) obj).value;
   }
 
   /**
@@ -157,9 +195,6 @@ public class BurstRate extends AMetadata<BurstRate> implements Comparable<BurstR
     if (obj == null) {
       return -1;
     }
-    if (this.value == null) {
-      return 1;
-    }
-    return this.value.compareTo(obj.getValue());
+    return FixedPoint.compare(this.value, obj.value);
   }//</editor-fold>
 }
@@ -15,16 +15,15 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.domains;
 
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Objects;
-import java.util.TimeZone;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf._3_1.adapter.AXmlAdapterCalendar;
 import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterDATE;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
 
@@ -39,24 +38,19 @@ import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
 public class D extends AMetadata<D> implements Comparable<D> {
 
   /**
-   * UTC. The default time zone.
+   * Long.MIN_VALUE. The value indicating that no value is set.
    */
-  private static final TimeZone TIMEZONE = TimeZone.getTimeZone("UTC");
-  /**
-   * "yyyy-MM-dd". The Date pattern.
-   * <p>
-   * D is a date value formatted in 10 characters as YYYY-MM-DD
-   * (year-month-day). This format is compliant with the W3C Recommendation on
-   * XML Schema.
-   */
-  private static final String PATTERN = "yyyy-MM-dd";
+  private static final long NO_VALUE = Long.MIN_VALUE;
 
   /**
    * The value property.
+   * <p>
+   * Developer note: The value is stored as the time in milliseconds since the
+   * epoch at midnight UTC on the date and is bound to XML through
+   * {@link #getValue()}.
    */
-  @XmlValue
-  @XmlJavaTypeAdapter(XmlAdapterDATE.class)
-  protected Calendar value;
+  @XmlTransient
+  protected long value = NO_VALUE;
 
   /**
    * Construct a new, empty D instance.
@@ -82,13 +76,24 @@ public class D extends AMetadata<D> implements Comparable<D> {
     setValue(value);
   }
 
+  /**
+   * Construct a new D instance with the given initial value.
+   * <p>
+   * @param value The initial value in milliseconds since the epoch.
+   */
+  public D(long value) {
+    setValueAsLong(value);
+  }
+
   /**
    * Gets the value of the value property.
    * <p>
    * @return the value of the value property.
    */
+  @XmlValue
+  @XmlJavaTypeAdapter(XmlAdapterDATE.class)
   public Calendar getValue() {
-    return (value != null ? (Calendar) value.clone() : null);
+    return value != NO_VALUE ? AXmlAdapterCalendar.toCalendar(value) : null;
   }
 
   /**
@@ -97,8 +102,7 @@ public class D extends AMetadata<D> implements Comparable<D> {
    * @param value
    */
   public final void setValue(Calendar value) {
-    this.value = (value != null ? (Calendar) value.clone() : null);
-    this.value.setTimeZone(TIMEZONE);
+    this.value = value != null ? AXmlAdapterCalendar.toDate(value) : NO_VALUE;
   }
 
   /**
@@ -107,12 +111,27 @@ public class D extends AMetadata<D> implements Comparable<D> {
    * @param value
    */
   public final void setValue(Date value) {
-    if (value != null) {
-      this.value = Calendar.getInstance(TIMEZONE);
-      this.value.setTime(value);
-    } else {
-      this.value = null;
-    }
+    this.value = value != null ? AXmlAdapterCalendar.toDate(value.getTime()) : NO_VALUE;
+  }
+
+  /**
+   * Get the value as the time in milliseconds since the epoch at midnight UTC
+   * on the date.
+   * <p>
+   * @return the time, Long.MIN_VALUE if the value is not set
+   */
+  public long getValueAsLong() {
+    return value;
+  }
+
+  /**
+   * Set the value as a time in milliseconds since the epoch. The value is the
+   * UTC date of the time.
+   * <p>
+   * @param value the time, Long.MIN_VALUE to clear the value
+   */
+  public final void setValueAsLong(long value) {
+    this.value = value != NO_VALUE ? AXmlAdapterCalendar.toDate(value) : NO_VALUE;
   }
 
   /**
@@ -121,7 +140,7 @@ public class D extends AMetadata<D> implements Comparable<D> {
    * @return TRUE if the value is set, FALSE if the value is null
    */
   public boolean isSetValue() {
-    return this.value != null;
+    return this.value != NO_VALUE;
   }
 
   /**
@@ -144,12 +163,7 @@ public class D extends AMetadata<D> implements Comparable<D> {
    */
   @Override
   public String toString() {
-    if (value != null) {
-      SimpleDateFormat sdf = new SimpleDateFormat(PATTERN);
-      sdf.setCalendar(value);
-      return sdf.format(value.getTime());
-    }
-    return null;
+    return value != NO_VALUE ? AXmlAdapterCalendar.printDate(value) : null;
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -161,7 +175,7 @@ public class D extends AMetadata<D> implements Comparable<D> {
   @Override
   public int hashCode() {
     int hash = 7;
-    hash = 97 * hash + Objects.hashCode(this.value);
+    hash = 97 * hash + (int) (this.value ^ (this.value >>> 32));
     return hash;
   }
 
@@ -179,7 +193,7 @@ public class D extends AMetadata<D> implements Comparable<D> {
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((D) obj).getValue());
+    return this.value == ((D) obj).value;
   }
 
   /**
@@ -193,9 +207,15 @@ public class D extends AMetadata<D> implements Comparable<D> {
     if (obj == null) {
       return 1;
     }
-    if (this.value == null) {
+    if (this.value == obj.value) {
+      return 0;
+    }
+    if (this.value == NO_VALUE) {
       return -1;
     }
-    return -1 * this.value.compareTo(obj.getValue());
+    if (obj.value == NO_VALUE) {
+      return 1;
+    }
+    return this.value > obj.value ? -1 : 1;
   }//</editor-fold>
 }
@@ -15,16 +15,15 @@
  */
 package us.gov.dod.standard.ssrf._3_1.metadata.domains;
 
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Objects;
-import java.util.TimeZone;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf._3_1.adapter.AXmlAdapterCalendar;
 import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterDATETIME;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
@@ -40,26 +39,19 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
 public class DT extends AMetadata<DT> implements Comparable<DT> {
 
   /**
-   * UTC. The default time zone.
+   * Long.MIN_VALUE. The value indicating that no value is set.
    */
-  private static final TimeZone TIMEZONE = TimeZone.getTimeZone("UTC");
-  /**
-   * "yyyy-MM-dd'T'HH:mm:ss.SSSZ". The DateTime pattern.
-   * <p>
-   * DT is a date / time value formatted in 20 to 24 characters as
-   * YYYY-MM-DDThh:mm:ss[.ddd]Z (year-
-   * month-day"T"hours:minutes:seconds.milliseconds"Z"), where the milliseconds
-   * part is optional. This format is compliant with the W3C Recommendation on
-   * XML Schema.
-   */
-  private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+  private static final long NO_VALUE = Long.MIN_VALUE;
 
   /**
    * The value property.
+   * <p>
+   * Developer note: The value is stored as a time in milliseconds since the
+   * epoch and is bound to XML through {@link #getValue()}. The time zone of a
+   * Calendar value is not kept: the value is always written in UTC.
    */
-  @XmlValue
-  @XmlJavaTypeAdapter(XmlAdapterDATETIME.class)
-  protected Calendar value;
+  @XmlTransient
+  protected long value = NO_VALUE;
 
   /**
    * Construct a new, empty DT instance.
@@ -85,23 +77,36 @@ public class DT extends AMetadata<DT> implements Comparable<DT> {
     setValue(value);
   }
 
+  /**
+   * Construct a new DT instance with the given initial value.
+   * <p>
+   * @param value The initial value in milliseconds since the epoch.
+   */
+  public DT(long value) {
+    setValueAsLong(value);
+  }
+
   /**
    * Gets the value of the value property.
    * <p>
    * @return the value of the value property.
    */
+  @XmlValue
+  @XmlJavaTypeAdapter(XmlAdapterDATETIME.class)
   public Calendar getValue() {
-    return (value != null ? (Calendar) value.clone() : null);
+    return value != NO_VALUE ? AXmlAdapterCalendar.toCalendar(value) : null;
   }
 
   /**
    * Sets the value of the value property.
    * <p>
+   * Only the instant is kept. A Calendar in another time zone is written as
+   * the same instant in UTC; e.g. 23:30+05:00 is written as 18:30Z.
+   * <p>
    * @param value
    */
   public final void setValue(Calendar value) {
-    this.value = (value != null ? (Calendar) value.clone() : null);
-    this.value.setTimeZone(TIMEZONE);
+    this.value = value != null ? value.getTimeInMillis() : NO_VALUE;
   }
 
   /**
@@ -110,12 +115,25 @@ public class DT extends AMetadata<DT> implements Comparable<DT> {
    * @param value
    */
   public final void setValue(Date value) {
-    if (value != null) {
-      this.value = Calendar.getInstance(TIMEZONE);
-      this.value.setTime(value);
-    } else {
-      this.value = null;
-    }
+    this.value = value != null ? value.getTime() : NO_VALUE;
+  }
+
+  /**
+   * Get the value as a time in milliseconds since the epoch.
+   * <p>
+   * @return the time, Long.MIN_VALUE if the value is not set
+   */
+  public long getValueAsLong() {
+    return value;
+  }
+
+  /**
+   * Set the value as a time in milliseconds since the epoch.
+   * <p>
+   * @param value the time, Long.MIN_VALUE to clear the value
+   */
+  public final void setValueAsLong(long value) {
+    this.value = value;
   }
 
   /**
@@ -124,7 +142,7 @@ public class DT extends AMetadata<DT> implements Comparable<DT> {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetValue() {
-    return (this.value != null);
+    return this.value != NO_VALUE;
   }
 
   /**
@@ -149,12 +167,7 @@ public class DT extends AMetadata<DT> implements Comparable<DT> {
    */
   @Override
   public String toString() {
-    if (value != null) {
-      SimpleDateFormat sdf = new SimpleDateFormat(PATTERN);
-      sdf.setCalendar(value);
-      return sdf.format(value.getTime());
-    }
-    return null;
+    return value != NO_VALUE ? AXmlAdapterCalendar.printDateTime(value) : null;
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -166,7 +179,7 @@ public class DT extends AMetadata<DT> implements Comparable<DT> {
   @Override
   public int hashCode() {
     int hash = 7;
-    hash = 97 * hash + Objects.hashCode(this.value);
+    hash = 97 * hash + (int) (this.value ^ (this.value >>> 32));
     return hash;
   }
 
@@ -184,7 +197,7 @@ public class DT extends AMetadata<DT> implements Comparable<DT> {
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((DT) obj).getValue());
+    return this.value == ((DT) obj).value;
   }
 
   /**
@@ -198,9 +211,15 @@ public class DT extends AMetadata<DT> implements Comparable<DT> {
     if (obj == null) {
       return 1;
     }
-    if (this.value == null) {
+    if (this.value == obj.value) {
+      return 0;
+    }
+    if (this.value == NO_VALUE) {
       return -1;
     }
-    return -1 * this.value.compareTo(obj.getValue());
+    if (obj.value == NO_VALUE) {
+      return 1;
+    }
+    return this.value > obj.value ? -1 : 1;
   }//</editor-fold>
 }
@@ -16,14 +16,15 @@
 package us.gov.dod.standard.ssrf._3_1.metadata.domains;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterLAT;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
+import us.gov.dod.standard.ssrf._3_1.metadata.FixedPoint;
 
 /**
  * The SSRF Latitude data type.
@@ -48,12 +49,18 @@ import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
 @XmlType(name = "Lat", propOrder = {"value"})
 public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
 
+  /**
+   * 9. The number of fraction digits in the value.
+   */
+  public static final int SCALE = 9;
+
   /**
    * The value property in decimal degrees.
+   * <p>
+   * Stored as a {@link FixedPoint} long at {@link #SCALE} fraction digits.
    */
-  @XmlValue
-  @XmlJavaTypeAdapter(XmlAdapterLAT.class)
-  protected BigDecimal value;
+  @XmlTransient
+  protected long value = FixedPoint.NULL;
 
   /**
    * Construct a new, empty Lat instance.
@@ -67,7 +74,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * @param value The initial value in decimal degrees.
    */
   public Lat(BigDecimal value) {
-    this.value = value;
+    this.value = FixedPoint.valueOf(value, SCALE);
   }
 
   /**
@@ -76,7 +83,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * @param value The initial value in decimal degrees.
    */
   public Lat(Double value) {
-    this.value = BigDecimal.valueOf(value);
+    this.value = FixedPoint.valueOf(value, SCALE);
   }
 
   /**
@@ -94,7 +101,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * @throws Exception if the value fails to parse
    */
   public Lat(String value) throws Exception {
-    this.value = (BigDecimal) new XmlAdapterLAT().unmarshal(value);
+    this.value = FixedPoint.valueOf((BigDecimal) new XmlAdapterLAT().unmarshal(value), SCALE);
   }
 
   /**
@@ -102,8 +109,10 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * <p>
    * @return the value of the value property in decimal degrees.
    */
+  @XmlValue
+  @XmlJavaTypeAdapter(XmlAdapterLAT.class)
   public BigDecimal getValue() {
-    return value;
+    return FixedPoint.toBigDecimal(value, SCALE);
   }
 
   /**
@@ -112,16 +121,45 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    * @param the value in decimal degrees.
    */
   public void setValue(BigDecimal value) {
+    this.value = FixedPoint.valueOf(value, SCALE);
+  }
+
+  /**
+   * Get the value as a fixed-point number: the value multiplied by ten to the
+   * power of {@link #SCALE}.
+   * <p>
+   * @return the unscaled value, {@link FixedPoint#NULL} if the value is not set
+   */
+  public long getValueAsLong() {
+    return value;
+  }
+
+  /**
+   * Set the value as a fixed-point number: the value multiplied by ten to the
+   * power of {@link #SCALE}.
+   * <p>
+   * @param value the unscaled value, {@link FixedPoint#NULL} to clear the value
+   */
+  public void setValueAsLong(long value) {
     this.value = value;
   }
 
+  /**
+   * Get the value as a double.
+   * <p>
+   * @return the (nearest) double value, NaN if the value is not set
+   */
+  public double getValueAsDouble() {
+    return FixedPoint.toDouble(value, SCALE);
+  }
+
   /**
    * Determine if the value property is configured.
    * <p>
    * @return TRUE if the value is set, FALSE if the value is null
    */
   public boolean isSetValue() {
-    return this.value != null;
+    return this.value != FixedPoint.NULL;
   }
 
   /**
@@ -144,7 +182,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
    */
   @Override
   public String toString() {
-    return this.value != null ? this.value.toString() : null;
+    return this.value != FixedPoint.NULL ? getValue().toString() : null;
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -156,7 +194,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
   @Override
   public int hashCode() {
     int hash = 7;
-    hash = 97 * hash + Objects.hashCode(this.value);
+    hash = 97 * hash + FixedPoint.hashCode(this.value);
     return hash;
   }
 
@@ -174,7 +212,7 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((Lat) obj).getValue());
+    return this.value == ((Lat) obj).value;
   }
 
   /**
@@ -188,9 +226,6 @@ public class Lat extends AMetadata<Lat> implements Comparable<Lat> {
     if (obj == null) {
       return -1;
     }
-    if (this.value == null) {
-      return 1;
-    }
-    return this.value.compareTo(obj.getValue());
+    return FixedPoint.compare(this.value, obj.value);
   }//</editor-fold>
 }
@@ -16,14 +16,15 @@
 package us.gov.dod.standard.ssrf._3_1.metadata.domains;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.XmlValue;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import us.gov.dod.standard.ssrf._3_1.adapter.XmlAdapterLON;
 import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
+import us.gov.dod.standard.ssrf._3_1.metadata.FixedPoint;
 
 /**
  * The SSRF Longitude data type.
@@ -53,12 +54,18 @@ import us.gov.dod.standard.ssrf._3_1.metadata.AMetadata;
 @XmlType(name = "Lon", propOrder = {"value"})
 public class Lon extends AMetadata<Lon> implements Comparable<Lon> {
 
+  /**
+   * 9. The number of fraction digits in the value.
+   */
+  public static final int SCALE = 9;
+
   /**
    * The value property in decimal degrees.
+   * <p>
+   * Stored as a {@link FixedPoint} long at {@link #SCALE} fraction digits.
    */
-  @XmlValue
-  @XmlJavaTypeAdapter(XmlAdapterLON.class)
-  protected BigDecimal value;
+  @XmlTransient
+  protected long value = FixedPoint.NULL;
 
   /**
    * Construct a new, empty Lon instance.
@@ -72,7 +79,7 @@ public class Lon extends AMetadata<Lon> implements Comparable<Lon> {
    * @param value The initial value in decimal degrees.
    */
   public Lon(BigDecimal value) {
-    this.value = value;
+    this.value = FixedPoint.valueOf(value, SCALE);
   }
 
   /**
@@ -81,7 +88,7 @@ public class Lon extends AMetadata<Lon> implements Comparable<Lon> {
    * @param value The initial value in decimal degrees.
    */
   public Lon(Double value) {
-    this.value = BigDecimal.valueOf(value);
+    this.value = FixedPoint.valueOf(value, SCALE);
   }
 
   /**
@@ -103,7 +110,7 @@ public class Lon extends AMetadata<Lon> implements Comparable<Lon> {
    * @throws Exception if the value fails to parse
    */
   public Lon(String value) throws Exception {
-    this.value = (BigDecimal) new XmlAdapterLON().unmarshal(value);
+    this.value = FixedPoint.valueOf((BigDecimal) new XmlAdapterLON().unmarshal(value), SCALE);
   }
 
   /**
@@ -111,8 +118,10 @@ public class Lon extends AMetadata<Lon> implements Comparable<Lon> {
    * <p>
    * @return the value of the value property in decimal degrees.
    */
+  @XmlValue
+  @XmlJavaTypeAdapter(XmlAdapterLON.class)
   public BigDecimal getValue() {
-    return value;
+    return FixedPoint.toBigDecimal(value, SCALE);
   }
 
   /**
@@ -121,16 +130,45 @@ public class Lon extends AMetadata<Lon> implements Comparable<Lon> {
    * @param the value in decimal degrees.
    */
   public void setValue(BigDecimal value) {
+    this.value = FixedPoint.valueOf(value, SCALE);
+  }
+
+  /**
+   * Get the value as a fixed-point number: the value multiplied by ten to the
+   * power of {@link #SCALE}.
+   * <p>
+   * @return the unscaled value, {@link FixedPoint#NULL} if the value is not set
+   */
+  public long getValueAsLong() {
+    return value;
+  }
+
+  /**
+   * Set the value as a fixed-point number: the value multiplied by ten to the
+   * power of {@link #SCALE}.
+   * <p>
+   * @param value the unscaled value, {@link FixedPoint#NULL} to clear the value
+   */
+  public void setValueAsLong(long value) {
     this.value = value;
   }
 
+  /**
+   * Get the value as a double.
+   * <p>
+   * @return the (nearest) double value, NaN if the value is not set
+   */
+  public double getValueAsDouble() {
+    return FixedPoint.toDouble(value, SCALE);
+  }
+
   /**
    * Determine if the value property is configured.
    * <p>
    * @return TRUE if the value is set, FALSE if the value is null
    */
   public boolean isSetValue() {
-    return this.value != null;
+    return this.value != FixedPoint.NULL;
   }
 
   /**
@@ -153,7 +191,7 @@ public class Lon extends AMetadata<Lon> implements Comparable<Lon> {
    */
   @Override
   public String toString() {
-    return this.value != null ? this.value.toString() : null;
+    return this.value != FixedPoint.NULL ? getValue().toString() : null;
   }
 
   //<editor-fold defaultstate="collapsed" desc="Hashcode Equals and Comparable">
@@ -165,7 +203,7 @@ public class Lon extends AMetadata<Lon> implements Comparable<Lon> {
   @Override
   public int hashCode() {
     int hash = 7;
-    hash = 97 * hash + Objects.hashCode(this.value);
+    hash = 97 * hash + FixedPoint.hashCode(this.value);
     return hash;
   }
 
@@ -183,7 +221,7 @@ public class Lon extends AMetadata<Lon> implements Comparable<Lon> {
     if (getClass() != obj.getClass()) {
       return false;
     }
-    return Objects.equals(this.value, ((Lon) obj).getValue());
+    return this.value == ((Lon) obj).value;
   }
 
   /**
@@ -197,9 +235,6 @@ public class Lon extends AMetadata<Lon> implements Comparable<Lon> {
     if (obj == null) {
       return -1;
     }
-    if (this.value == null) {
-      return 1;
-    }
-    return this.value.compareTo(obj.getValue());
+    return FixedPoint.compare(this.value, obj.value);
   }//</editor-fold>
 }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.EmsDes;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
@@ -141,6 +144,15 @@ public class ConfigEmission {
   @XmlElement(name = "NecessaryBwMin", required = false)
   private FreqM necessaryBwMin;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a three to five characters code, derived from the table below,
    * representing the emission classification. If an "X" is used in any of the
@@ -274,6 +286,7 @@ public class ConfigEmission {
    * @since 3.1.0
    */
   public void setEmsClass(EmsDes value) {
+    ChangeTracker.touch(owningDataset);
     this.emsClass = value;
   }
 
@@ -309,6 +322,7 @@ public class ConfigEmission {
    * @since 3.1.0
    */
   public void setNecessaryBwMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.necessaryBwMax = value;
   }
 
@@ -348,6 +362,7 @@ public class ConfigEmission {
    * @since 3.1.0
    */
   public void setNecessaryBwMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.necessaryBwMin = value;
   }
 
@@ -17,6 +17,9 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -65,6 +68,11 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListUFU;
 })
 public class ConfigFreq {
 
+  /**
+   * -1. The idx field value when the index is not set.
+   */
+  private static final int NO_IDX = -1;
+
   /**
    * FreqMin - Nominal or Minimum Frequency (Required)
    * <p>
@@ -162,8 +170,23 @@ public class ConfigFreq {
   @XmlElement(name = "PulseWidth", required = false)
   private microsecs pulseWidth;
 
-  @XmlAttribute(name = "idx", required = true)
-  private BigInteger idx;
+  /**
+   * The item index.
+   * <p>
+   * Developer note: The index is stored as a primitive int and is bound to XML
+   * through the {@link #getIdx()} and {@link #setIdx(BigInteger)} methods.
+   */
+  @XmlTransient
+  private int idx = NO_IDX;
+
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
 
   /**
    * Get the nominal frequency or minimum value of the frequency range..
@@ -182,6 +205,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -215,6 +239,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -248,6 +273,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setInBand(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.inBand = value;
   }
 
@@ -283,6 +309,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setPriority(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.priority = value;
   }
 
@@ -318,6 +345,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setChannelSpacing(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.channelSpacing = value;
   }
 
@@ -347,6 +375,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setDuration(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.duration = value;
   }
 
@@ -376,6 +405,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setConfigFreqUse(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.configFreqUse = value;
   }
 
@@ -409,6 +439,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setPeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.period = value;
   }
 
@@ -438,6 +469,7 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setPulseWidth(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pulseWidth = value;
   }
 
@@ -456,7 +488,18 @@ public class ConfigFreq {
    * @return a {@link BigInteger} instance
    * @since 3.1.0
    */
+  @XmlAttribute(name = "idx", required = true)
   public BigInteger getIdx() {
+    return idx != NO_IDX ? BigInteger.valueOf(idx) : null;
+  }
+
+  /**
+   * Get the index as a primitive int.
+   * <p>
+   * @return the index, -1 if not set
+   * @since 3.1.0
+   */
+  public int getIdxAsInt() {
     return idx;
   }
 
@@ -467,6 +510,24 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    if (value != null && (value.signum() < 0 || value.bitLength() > 31)) {
+      throw new IllegalArgumentException("Index value violation. Index must be an unsigned int for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
+    this.idx = value != null ? value.intValue() : NO_IDX;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @since 3.1.0
+   */
+  public void setIdx(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Index value violation. Index must be unsigned for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
     this.idx = value;
   }
 
@@ -476,7 +537,7 @@ public class ConfigFreq {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetIdx() {
-    return (this.idx != null);
+    return (this.idx != NO_IDX);
   }
 
   /**
@@ -604,6 +665,19 @@ public class ConfigFreq {
    * @since 3.1.0
    */
   public ConfigFreq withIdx(BigInteger value) {
+    setIdx(value);
+    return this;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @return The current ConfigFreq object instance.
+   * @since 3.1.0
+   */
+  public ConfigFreq withIdx(int value) {
+    setIdx(value);
     return this;
   }
 
@@ -620,7 +694,7 @@ public class ConfigFreq {
            + (duration != null ? " duration [" + duration + "]" : "")
            + (freqMax != null ? " freqMax [" + freqMax + "]" : "")
            + (freqMin != null ? " freqMin [" + freqMin + "]" : "")
-           + (idx != null ? " idx [" + idx + "]" : "")
+           + (idx != NO_IDX ? " idx [" + idx + "]" : "")
            + (inBand != null ? " inBand [" + inBand + "]" : "")
            + (period != null ? " period [" + period + "]" : "")
            + (priority != null ? " priority [" + priority + "]" : "")
@@ -642,4 +716,14 @@ public class ConfigFreq {
     return isSetFreqMin() && isSetIdx();
   }
 
+  /**
+   * Reserve the index of this ConfigFreq in the SSRF root instance after loading
+   * from XML so that it is not allocated to a new item.
+   * <p>
+   * @param root the SSRF root instance.
+   * @since 3.1.0
+   */
+  public void postLoad(SSRF root) {
+    root.reserveIdx(idx);
+  }
 }
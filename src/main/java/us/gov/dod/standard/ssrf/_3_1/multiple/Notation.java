@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.antenna.UsingCountries;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -143,6 +146,15 @@ public class Notation {
   @XmlElement(name = "UsingCountries")
   private Set<UsingCountries> usingCountries;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get an alphanumeric combination that is used to identify a particular
    * Notation/Signal..
@@ -162,6 +174,7 @@ public class Notation {
    * @since 3.1.0
    */
   public void setCode(US20 value) {
+    ChangeTracker.touch(owningDataset);
     this.code = value;
   }
 
@@ -191,6 +204,7 @@ public class Notation {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -222,6 +236,7 @@ public class Notation {
    * @since 3.1.0
    */
   public void setStatus(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.status = value;
   }
 
@@ -265,6 +280,7 @@ public class Notation {
    * Clear the NotationTimeline field. This sets the field to null.
    */
   public void unsetNotationTimeline() {
+    ChangeTracker.touch(owningDataset);
     this.notationTimeline = null;
   }
 
@@ -298,6 +314,7 @@ public class Notation {
    * Clear the PotentialVictims field. This sets the field to null.
    */
   public void unsetPotentialVictims() {
+    ChangeTracker.touch(owningDataset);
     this.potentialVictims = null;
   }
 
@@ -330,6 +347,7 @@ public class Notation {
    * Clear the UsingCountries field. This sets the field to null.
    */
   public void unsetUsingCountries() {
+    ChangeTracker.touch(owningDataset);
     this.usingCountries = null;
   }
 
@@ -381,6 +399,7 @@ public class Notation {
    * @since 3.1.0
    */
   public Notation withNotationTimeline(NotationTimeline... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getNotationTimeline().addAll(Arrays.asList(values));
     }
@@ -398,6 +417,7 @@ public class Notation {
    * @since 3.1.0
    */
   public Notation withNotationTimeline(Collection<NotationTimeline> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getNotationTimeline().addAll(values);
     }
@@ -415,6 +435,7 @@ public class Notation {
    * @since 3.1.0
    */
   public Notation withPotentialVictims(PotentialVictims... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPotentialVictims().addAll(Arrays.asList(values));
     }
@@ -432,6 +453,7 @@ public class Notation {
    * @since 3.1.0
    */
   public Notation withPotentialVictims(Collection<PotentialVictims> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPotentialVictims().addAll(values);
     }
@@ -449,6 +471,7 @@ public class Notation {
    * @since 3.1.0
    */
   public Notation withUsingCountries(UsingCountries... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getUsingCountries().addAll(Arrays.asList(values));
     }
@@ -466,6 +489,7 @@ public class Notation {
    * @since 3.1.0
    */
   public Notation withUsingCountries(Collection<UsingCountries> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getUsingCountries().addAll(values);
     }
@@ -20,7 +20,10 @@ import java.util.Date;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.DT;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US20;
@@ -93,6 +96,15 @@ public class NotationTimeline {
   @XmlElement(name = "Type", required = false)
   private TString type;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get an alphanumeric combination that is used to identify a particular
    * Notation/Signal..
@@ -112,6 +124,7 @@ public class NotationTimeline {
    * @since 3.1.0
    */
   public void setCode(US20 value) {
+    ChangeTracker.touch(owningDataset);
     this.code = value;
   }
 
@@ -141,6 +154,7 @@ public class NotationTimeline {
    * @since 3.1.0
    */
   public void setStatus(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.status = value;
   }
 
@@ -174,6 +188,7 @@ public class NotationTimeline {
    * @since 3.1.0
    */
   public void setStatusChangeDateTime(DT value) {
+    ChangeTracker.touch(owningDataset);
     this.statusChangeDateTime = value;
   }
 
@@ -203,6 +218,7 @@ public class NotationTimeline {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
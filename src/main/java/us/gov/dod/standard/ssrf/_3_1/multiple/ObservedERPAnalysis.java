@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -304,6 +307,15 @@ public class ObservedERPAnalysis {
   @XmlElement(name = "ObservedERPValues")
   private Set<ObservedERPValues> observedERPValues;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item Continuous (US), indicate whether pulse-to-pulse ERP
    * variations are Discrete or Continuous. Discrete uses a finite number of
@@ -327,6 +339,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setContinuous(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.continuous = value;
   }
 
@@ -360,6 +373,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPAdaptiveDriverDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.erpAdaptiveDriverDesc = value;
   }
 
@@ -389,6 +403,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPAdaptiveRuleDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.erpAdaptiveRuleDesc = value;
   }
 
@@ -418,6 +433,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPPatternPeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.erpPatternPeriod = value;
   }
 
@@ -449,6 +465,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPPatternType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.erpPatternType = value;
   }
 
@@ -490,6 +507,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPActualMax(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.erpActualMax = value;
   }
 
@@ -523,6 +541,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPActualMin(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.erpActualMin = value;
   }
 
@@ -554,6 +573,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPChangeRate(US_DBWS value) {
+    ChangeTracker.touch(owningDataset);
     this.erpChangeRate = value;
   }
 
@@ -591,6 +611,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPExtremeMax(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.erpExtremeMax = value;
   }
 
@@ -622,6 +643,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPExtremeMin(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.erpExtremeMin = value;
   }
 
@@ -653,6 +675,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPMean(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.erpMean = value;
   }
 
@@ -686,6 +709,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPMedian(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.erpMedian = value;
   }
 
@@ -717,6 +741,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPSequenceDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.erpSequenceDesc = value;
   }
 
@@ -748,6 +773,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPStdDev(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.erpStdDev = value;
   }
 
@@ -779,6 +805,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setERPStep(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.erpStep = value;
   }
 
@@ -814,6 +841,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setNumObsPositions(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numObsPositions = value;
   }
 
@@ -845,6 +873,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public void setNumObsValues(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numObsValues = value;
   }
 
@@ -887,6 +916,7 @@ public class ObservedERPAnalysis {
    * Clear the ObservedERPValues field. This sets the field to null.
    */
   public void unsetObservedERPValues() {
+    ChangeTracker.touch(owningDataset);
     this.observedERPValues = null;
   }
 
@@ -1134,6 +1164,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public ObservedERPAnalysis withObservedERPValues(ObservedERPValues... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedERPValues().addAll(Arrays.asList(values));
     }
@@ -1152,6 +1183,7 @@ public class ObservedERPAnalysis {
    * @since 3.1.0
    */
   public ObservedERPAnalysis withObservedERPValues(Collection<ObservedERPValues> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedERPValues().addAll(values);
     }
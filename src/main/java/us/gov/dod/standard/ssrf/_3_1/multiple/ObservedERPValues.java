@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US_Percent3;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.dBW;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.microsecs;
@@ -77,6 +80,15 @@ public class ObservedERPValues {
   @XmlElement(name = "StatisticalIndicator", required = false)
   private US_Percent3 statisticalIndicator;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the time duration for a complete dwell/group of pulses which all have
    * the same discrete ERP value, or for a continuous wave at a constant ERP
@@ -98,6 +110,7 @@ public class ObservedERPValues {
    * @since 3.1.0
    */
   public void setERPDwell(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.erpDwell = value;
   }
 
@@ -131,6 +144,7 @@ public class ObservedERPValues {
    * @since 3.1.0
    */
   public void setERPValue(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.erpValue = value;
   }
 
@@ -164,6 +178,7 @@ public class ObservedERPValues {
    * @since 3.1.0
    */
   public void setStatisticalIndicator(US_Percent3 value) {
+    ChangeTracker.touch(owningDataset);
     this.statisticalIndicator = value;
   }
 
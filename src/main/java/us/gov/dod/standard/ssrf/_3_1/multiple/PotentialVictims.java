@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S50;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US20;
@@ -79,6 +82,15 @@ public class PotentialVictims {
   @XmlElement(name = "VictimNotation", required = false)
   private US20 victimNotation;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the type of Notation. .
    * <p>
@@ -96,6 +108,7 @@ public class PotentialVictims {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -129,6 +142,7 @@ public class PotentialVictims {
    * @since 3.1.0
    */
   public void setVictimName(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.victimName = value;
   }
 
@@ -160,6 +174,7 @@ public class PotentialVictims {
    * @since 3.1.0
    */
   public void setVictimNotation(US20 value) {
+    ChangeTracker.touch(owningDataset);
     this.victimNotation = value;
   }
 
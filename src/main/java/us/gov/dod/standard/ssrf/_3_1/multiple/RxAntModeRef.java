@@ -16,8 +16,10 @@
 package us.gov.dod.standard.ssrf._3_1.multiple;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Antenna;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S20;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.dB;
@@ -89,6 +91,15 @@ public class RxAntModeRef {
   @XmlElement(name = "CouplingLoss", required = false)
   private dB couplingLoss;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the reference to an Antenna in this configuration. This antenna is
    * associated with the receiver specified in the Serial field of the parent
@@ -116,6 +127,7 @@ public class RxAntModeRef {
    */
   @Deprecated
   public void setSerial(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.serial = value;
   }
 
@@ -149,6 +161,7 @@ public class RxAntModeRef {
    * @since 3.1.0
    */
   public void setModeID(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.modeID = value;
   }
 
@@ -180,6 +193,7 @@ public class RxAntModeRef {
    * @since 3.1.0
    */
   public void setCouplingLoss(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.couplingLoss = value;
   }
 
@@ -310,6 +324,7 @@ public class RxAntModeRef {
    * @since 3.1.0
    */
   public RxAntModeRef withAntenna(Antenna value) {
+    ChangeTracker.touch(owningDataset);
     this.antenna = value;
     return this;
   }
@@ -340,15 +355,7 @@ public class RxAntModeRef {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (serial == null || !serial.isSetValue()) {
-      return;
-    }
-    for (Antenna instance : root.getAntenna()) {
-      if (serial.equals(instance.getSerial())) {
-        antenna = instance;
-        return;
-      }
-    }
+    antenna = root.findBySerial(serial, Antenna.class);
   }//</editor-fold>
 
 }
@@ -20,7 +20,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Receiver;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
@@ -78,6 +80,15 @@ public class RxRef {
   @XmlElement(name = "RxAntModeRef")
   private Set<RxAntModeRef> rxAntModeRef;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the identifier of the related Receiver used in this configuration. The
    * same receiver can be referenced in different RxRef elements in order to
@@ -105,6 +116,7 @@ public class RxRef {
    */
   @Deprecated
   public void setSerial(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.serial = value;
   }
 
@@ -146,6 +158,7 @@ public class RxRef {
    * Clear the RxModeRef field. This sets the field to null.
    */
   public void unsetRxModeRef() {
+    ChangeTracker.touch(owningDataset);
     this.rxModeRef = null;
   }
 
@@ -178,6 +191,7 @@ public class RxRef {
    * Clear the RxAntModeRef field. This sets the field to null.
    */
   public void unsetRxAntModeRef() {
+    ChangeTracker.touch(owningDataset);
     this.rxAntModeRef = null;
   }
 
@@ -209,6 +223,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public RxRef withRxModeRef(RxModeRef... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRxModeRef().addAll(Arrays.asList(values));
     }
@@ -226,6 +241,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public RxRef withRxModeRef(Collection<RxModeRef> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRxModeRef().addAll(values);
     }
@@ -243,6 +259,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public RxRef withRxAntModeRef(RxAntModeRef... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRxAntModeRef().addAll(Arrays.asList(values));
     }
@@ -260,6 +277,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public RxRef withRxAntModeRef(Collection<RxAntModeRef> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRxAntModeRef().addAll(values);
     }
@@ -340,6 +358,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public RxRef withReceiver(Receiver value) {
+    ChangeTracker.touch(owningDataset);
     this.receiver = value;
     return this;
   }
@@ -369,15 +388,7 @@ public class RxRef {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (serial == null || !serial.isSetValue()) {
-      return;
-    }
-    for (Receiver instance : root.getReceiver()) {
-      if (serial.equals(instance.getSerial())) {
-        receiver = instance;
-        return;
-      }
-    }
+    receiver = root.findBySerial(serial, Receiver.class);
   }//</editor-fold>
 
 }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S20;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.dB;
@@ -61,6 +64,15 @@ public class TxAntModeRef
   @XmlElement(name = "SpectralPowerDensity", required = false)
   private dBWHz spectralPowerDensity;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the maximum spectral power density supplied to the input of the
    * antenna..
@@ -80,6 +92,7 @@ public class TxAntModeRef
    * @since 3.1.0
    */
   public void setSpectralPowerDensity(dBWHz value) {
+    ChangeTracker.touch(owningDataset);
     this.spectralPowerDensity = value;
   }
 
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S20;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.dBW;
 
@@ -71,6 +74,15 @@ public class TxModeRef {
   @XmlElement(name = "PowerLimit", required = false)
   private dBW powerLimit;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the unique identifier of a TxMode of the transmitter in this
    * configuration. This mode is from the transmitter specified in the Serial
@@ -92,6 +104,7 @@ public class TxModeRef {
    * @since 3.1.0
    */
   public void setModeID(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.modeID = value;
   }
 
@@ -121,6 +134,7 @@ public class TxModeRef {
    * @since 3.1.0
    */
   public void setPowerLimit(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.powerLimit = value;
   }
 
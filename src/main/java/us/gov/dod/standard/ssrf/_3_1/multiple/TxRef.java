@@ -20,7 +20,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Transmitter;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
@@ -82,6 +84,15 @@ public class TxRef {
   @XmlElement(name = "TxAntModeRef")
   private Set<TxAntModeRef> txAntModeRef;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the serial of a Transmitter in this configuration. The same transmitter
    * can be referenced in different TxRef elements in order to properly group
@@ -109,6 +120,7 @@ public class TxRef {
    */
   @Deprecated
   public void setSerial(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.serial = value;
   }
 
@@ -150,6 +162,7 @@ public class TxRef {
    * Clear the TxModeRef field. This sets the field to null.
    */
   public void unsetTxModeRef() {
+    ChangeTracker.touch(owningDataset);
     this.txModeRef = null;
   }
 
@@ -182,6 +195,7 @@ public class TxRef {
    * Clear the TxAntModeRef field. This sets the field to null.
    */
   public void unsetTxAntModeRef() {
+    ChangeTracker.touch(owningDataset);
     this.txAntModeRef = null;
   }
 
@@ -213,6 +227,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public TxRef withTxModeRef(TxModeRef... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTxModeRef().addAll(Arrays.asList(values));
     }
@@ -230,6 +245,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public TxRef withTxModeRef(Collection<TxModeRef> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTxModeRef().addAll(values);
     }
@@ -247,6 +263,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public TxRef withTxAntModeRef(TxAntModeRef... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTxAntModeRef().addAll(Arrays.asList(values));
     }
@@ -264,6 +281,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public TxRef withTxAntModeRef(Collection<TxAntModeRef> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTxAntModeRef().addAll(values);
     }
@@ -344,6 +362,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public TxRef withTransmitter(Transmitter value) {
+    ChangeTracker.touch(owningDataset);
     this.transmitter = value;
     return this;
   }
@@ -373,15 +392,7 @@ public class TxRef {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (serial == null || !serial.isSetValue()) {
-      return;
-    }
-    for (Transmitter instance : root.getTransmitter()) {
-      if (serial.equals(instance.getSerial())) {
-        transmitter = instance;
-        return;
-      }
-    }
+    transmitter = root.findBySerial(serial, Transmitter.class);
   }//</editor-fold>
 
 }
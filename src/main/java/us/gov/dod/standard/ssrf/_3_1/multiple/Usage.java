@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.multiple;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.assignment.Configuration;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCEF;
@@ -90,6 +93,15 @@ public class Usage {
   @XmlElement(name = "RadioService", required = false)
   private TString radioService;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the equipment function..
    * <p>
@@ -107,6 +119,7 @@ public class Usage {
    * @since 3.1.0
    */
   public void setEqpFnct(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.eqpFnct = value;
   }
 
@@ -138,6 +151,7 @@ public class Usage {
    * @since 3.1.0
    */
   public void setStnClass(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.stnClass = value;
   }
 
@@ -173,6 +187,7 @@ public class Usage {
    * @since 3.1.0
    */
   public void setRadioService(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.radioService = value;
   }
 
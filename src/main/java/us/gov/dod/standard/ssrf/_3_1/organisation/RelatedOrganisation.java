@@ -16,7 +16,9 @@
 package us.gov.dod.standard.ssrf._3_1.organisation;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Organisation;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -85,6 +87,15 @@ public class RelatedOrganisation {
   @XmlElement(name = "Serial", required = true)
   private Serial serial;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the type of relationship..
    * <p>
@@ -102,6 +113,7 @@ public class RelatedOrganisation {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -133,6 +145,7 @@ public class RelatedOrganisation {
    * @since 3.1.0
    */
   public void setRelation(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.relation = value;
   }
 
@@ -172,6 +185,7 @@ public class RelatedOrganisation {
    */
   @Deprecated
   public void setSerial(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.serial = value;
   }
 
@@ -297,6 +311,7 @@ public class RelatedOrganisation {
    * @since 3.1.0
    */
   public RelatedOrganisation withOrganisation(Organisation value) {
+    ChangeTracker.touch(owningDataset);
     this.organisation = value;
     return this;
   }
@@ -327,15 +342,7 @@ public class RelatedOrganisation {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (serial == null || !serial.isSetValue()) {
-      return;
-    }
-    for (Organisation instance : root.getOrganisation()) {
-      if (serial.equals(instance.getSerial())) {
-        organisation = instance;
-        return;
-      }
-    }
+    organisation = root.findBySerial(serial, Organisation.class);
   }//</editor-fold>
 
 }
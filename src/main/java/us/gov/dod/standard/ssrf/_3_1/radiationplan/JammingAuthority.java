@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.radiationplan;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.RadiationPlan;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S10;
@@ -84,6 +87,15 @@ public class JammingAuthority {
   @XmlElement(name = "JCAState", required = true)
   private TString jcaState;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item JCACallSign (US), enter the unique net identifier for the
    * JCA. If an active JCEOI is in effect, it SHOULD take precedence..
@@ -103,6 +115,7 @@ public class JammingAuthority {
    * @since 3.1.0
    */
   public void setJCACallSign(S10 value) {
+    ChangeTracker.touch(owningDataset);
     this.jcaCallSign = value;
   }
 
@@ -134,6 +147,7 @@ public class JammingAuthority {
    * @since 3.1.0
    */
   public void setJCAFreq(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.jcaFreq = value;
   }
 
@@ -165,6 +179,7 @@ public class JammingAuthority {
    * @since 3.1.0
    */
   public void setJCALevel(UN2 value) {
+    ChangeTracker.touch(owningDataset);
     this.jcaLevel = value;
   }
 
@@ -196,6 +211,7 @@ public class JammingAuthority {
    * @since 3.1.0
    */
   public void setJCAState(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.jcaState = value;
   }
 
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.radiationplan;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.RadiationPlan;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -102,6 +105,15 @@ public class JammingPerformance {
   @XmlElement(name = "DesiredPerformance", required = false)
   private TString desiredPerformance;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the actual impact a jamming mission had on a specific target area..
    * <p>
@@ -119,6 +131,7 @@ public class JammingPerformance {
    * @since 3.1.0
    */
   public void setActualEffect(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.actualEffect = value;
   }
 
@@ -152,6 +165,7 @@ public class JammingPerformance {
    * @since 3.1.0
    */
   public void setActualPerformance(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.actualPerformance = value;
   }
 
@@ -183,6 +197,7 @@ public class JammingPerformance {
    * @since 3.1.0
    */
   public void setContinuousUpdate(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.continuousUpdate = value;
   }
 
@@ -216,6 +231,7 @@ public class JammingPerformance {
    * @since 3.1.0
    */
   public void setDesiredEffect(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.desiredEffect = value;
   }
 
@@ -251,6 +267,7 @@ public class JammingPerformance {
    * @since 3.1.0
    */
   public void setDesiredPerformance(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.desiredPerformance = value;
   }
 
@@ -17,7 +17,9 @@ package us.gov.dod.standard.ssrf._3_1.radiationplan;
 
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Location;
 import us.gov.dod.standard.ssrf._3_1.RadiationPlan;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
@@ -226,6 +228,15 @@ public class JammingPlan {
   @XmlElement(name = "JammingTarget", required = true)
   private Set<JammingTarget> jammingTarget;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item Name (US), enter a unique name (within the parent
    * RadiationPlan) for the Jamming Plan..
@@ -245,6 +256,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setName(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.name = value;
   }
 
@@ -278,6 +290,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setNumFreqs(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numFreqs = value;
   }
 
@@ -307,6 +320,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setPriority(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.priority = value;
   }
 
@@ -338,6 +352,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setRequiredEffect(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.requiredEffect = value;
   }
 
@@ -373,6 +388,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setRequiredPerformance(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.requiredPerformance = value;
   }
 
@@ -408,6 +424,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setStartDateTime(DT value) {
+    ChangeTracker.touch(owningDataset);
     this.startDateTime = value;
   }
 
@@ -445,6 +462,7 @@ public class JammingPlan {
    */
   @Deprecated
   public void setStartLocationRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.startLocationRef = value;
   }
 
@@ -474,6 +492,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setStartTrigger(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.startTrigger = value;
   }
 
@@ -509,6 +528,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setStopDateTime(DT value) {
+    ChangeTracker.touch(owningDataset);
     this.stopDateTime = value;
   }
 
@@ -544,6 +564,7 @@ public class JammingPlan {
    */
   @Deprecated
   public void setStopLocationRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.stopLocationRef = value;
   }
 
@@ -573,6 +594,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setStopTrigger(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.stopTrigger = value;
   }
 
@@ -604,6 +626,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setVersion(S10 value) {
+    ChangeTracker.touch(owningDataset);
     this.version = value;
   }
 
@@ -637,6 +660,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setLevel3Auth(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.level3Auth = value;
   }
 
@@ -668,6 +692,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void setStandOffDist(DistSpace value) {
+    ChangeTracker.touch(owningDataset);
     this.standOffDist = value;
   }
 
@@ -709,6 +734,7 @@ public class JammingPlan {
    * Clear the JammingTarget field. This sets the field to null.
    */
   public void unsetJammingTarget() {
+    ChangeTracker.touch(owningDataset);
     this.jammingTarget = null;
   }
 
@@ -937,6 +963,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public JammingPlan withJammingTarget(JammingTarget... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getJammingTarget().addAll(Arrays.asList(values));
     }
@@ -954,6 +981,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public JammingPlan withJammingTarget(Collection<JammingTarget> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getJammingTarget().addAll(values);
     }
@@ -1044,6 +1072,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public JammingPlan withStartLocation(Location value) {
+    ChangeTracker.touch(owningDataset);
     this.startLocation = value;
     return this;
   }
@@ -1090,6 +1119,7 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public JammingPlan withStopLocation(Location value) {
+    ChangeTracker.touch(owningDataset);
     this.stopLocation = value;
     return this;
   }
@@ -1121,24 +1151,8 @@ public class JammingPlan {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (startLocationRef == null || !startLocationRef.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (startLocationRef.equals(instance.getSerial())) {
-        startLocation = instance;
-        return;
-      }
-    }
-    if (stopLocationRef == null || !stopLocationRef.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (stopLocationRef.equals(instance.getSerial())) {
-        stopLocation = instance;
-        return;
-      }
-    }
+    startLocation = root.findBySerial(startLocationRef, Location.class);
+    stopLocation = root.findBySerial(stopLocationRef, Location.class);
   }//</editor-fold>
 
 }
@@ -20,7 +20,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Loadset;
 import us.gov.dod.standard.ssrf._3_1.Location;
 import us.gov.dod.standard.ssrf._3_1.RadiationPlan;
@@ -206,6 +208,15 @@ public class JammingTarget {
   @XmlElement(name = "JammingPerformance")
   private Set<JammingPerformance> jammingPerformance;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the method by which the jamming antenna beam is focused..
    * <p>
@@ -223,6 +234,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void setAntStabilisation(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.antStabilisation = value;
   }
 
@@ -258,6 +270,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void setBearing(Az value) {
+    ChangeTracker.touch(owningDataset);
     this.bearing = value;
   }
 
@@ -293,6 +306,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -324,6 +338,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -365,6 +380,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void setLat(Lat value) {
+    ChangeTracker.touch(owningDataset);
     this.lat = value;
   }
 
@@ -402,6 +418,7 @@ public class JammingTarget {
    */
   @Deprecated
   public void setLoadsetRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.loadsetRef = value;
   }
 
@@ -433,6 +450,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void setLocationRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.locationRef = value;
   }
 
@@ -474,6 +492,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void setLon(Lon value) {
+    ChangeTracker.touch(owningDataset);
     this.lon = value;
   }
 
@@ -503,6 +522,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void setPolarisationType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.polarisationType = value;
   }
 
@@ -534,6 +554,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void setPower(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.power = value;
   }
 
@@ -565,6 +586,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void setTargetID(UN5 value) {
+    ChangeTracker.touch(owningDataset);
     this.targetID = value;
   }
 
@@ -608,6 +630,7 @@ public class JammingTarget {
    * Clear the JammingPerformance field. This sets the field to null.
    */
   public void unsetJammingPerformance() {
+    ChangeTracker.touch(owningDataset);
     this.jammingPerformance = null;
   }
 
@@ -803,6 +826,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public JammingTarget withJammingPerformance(JammingPerformance... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getJammingPerformance().addAll(Arrays.asList(values));
     }
@@ -822,6 +846,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public JammingTarget withJammingPerformance(Collection<JammingPerformance> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getJammingPerformance().addAll(values);
     }
@@ -904,6 +929,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public JammingTarget withLoadset(Loadset value) {
+    ChangeTracker.touch(owningDataset);
     this.loadset = value;
     return this;
   }
@@ -947,6 +973,7 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public JammingTarget withLocation(Location value) {
+    ChangeTracker.touch(owningDataset);
     this.location = value;
     return this;
   }
@@ -978,24 +1005,8 @@ public class JammingTarget {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (loadsetRef == null || !loadsetRef.isSetValue()) {
-      return;
-    }
-    for (Loadset instance : root.getLoadset()) {
-      if (loadsetRef.equals(instance.getSerial())) {
-        loadset = instance;
-        return;
-      }
-    }
-    if (locationRef == null || !locationRef.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (locationRef.equals(instance.getSerial())) {
-        location = instance;
-        return;
-      }
-    }
+    loadset = root.findBySerial(loadsetRef, Loadset.class);
+    location = root.findBySerial(locationRef, Location.class);
   }//</editor-fold>
 
 }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.receiver;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S100;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -175,6 +178,15 @@ public class Baseband {
   @XmlElement(name = "SignalShape", required = false)
   private TString signalShape;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the minimum modulating frequency measured: - for a transmitter, on the
    * low side of the spectrum signature at the -3 dB point before the baseband
@@ -200,6 +212,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setModFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.modFreqMin = value;
   }
 
@@ -245,6 +258,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setModFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.modFreqMax = value;
   }
 
@@ -274,6 +288,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setSignalType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.signalType = value;
   }
 
@@ -305,6 +320,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setBitDuration(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.bitDuration = value;
   }
 
@@ -336,6 +352,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setOOKPattern(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.ookPattern = value;
   }
 
@@ -371,6 +388,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setSignalDurationMax(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.signalDurationMax = value;
   }
 
@@ -400,6 +418,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setSignalDurationMin(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.signalDurationMin = value;
   }
 
@@ -433,6 +452,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setSignalSequenceDesc(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.signalSequenceDesc = value;
   }
 
@@ -462,6 +482,7 @@ public class Baseband {
    * @since 3.1.0
    */
   public void setSignalShape(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.signalShape = value;
   }
 
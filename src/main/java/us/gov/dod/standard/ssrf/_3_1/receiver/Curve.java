@@ -21,6 +21,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Receiver;
 import us.gov.dod.standard.ssrf._3_1.Transmitter;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
@@ -84,6 +87,11 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCT;
 })
 public class Curve {
 
+  /**
+   * -1. The idx field value when the index is not set.
+   */
+  private static final int NO_IDX = -1;
+
   /**
    * Type - Curve Type (Required)
    * <p>
@@ -187,10 +195,22 @@ public class Curve {
    * <p>
    * Format is UN(6)
    * <p>
+   * Developer note: The index is stored as a primitive int and is bound to XML
+   * through the {@link #getIdx()} and {@link #setIdx(BigInteger)} methods.
+   * <p>
    * @since 3.1.0
    */
-  @XmlAttribute(name = "idx", required = true)
-  private BigInteger idx;
+  @XmlTransient
+  private int idx = NO_IDX;
+
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
 
   /**
    * Get a code defining the type of curve..
@@ -209,6 +229,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -244,6 +265,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setCalculated(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.calculated = value;
   }
 
@@ -279,6 +301,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setFreqFactor(UN3_1 value) {
+    ChangeTracker.touch(owningDataset);
     this.freqFactor = value;
   }
 
@@ -308,6 +331,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setFreqConst(FreqOffset value) {
+    ChangeTracker.touch(owningDataset);
     this.freqConst = value;
   }
 
@@ -337,6 +361,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setBw(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.bw = value;
   }
 
@@ -366,6 +391,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -399,6 +425,7 @@ public class Curve {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -442,6 +469,7 @@ public class Curve {
    * Clear the CurvePoint field. This sets the field to null.
    */
   public void unsetCurvePoint() {
+    ChangeTracker.touch(owningDataset);
     this.curvePoint = null;
   }
 
@@ -454,7 +482,18 @@ public class Curve {
    * @return a {@link BigInteger} instance
    * @since 3.1.0
    */
+  @XmlAttribute(name = "idx", required = true)
   public BigInteger getIdx() {
+    return idx != NO_IDX ? BigInteger.valueOf(idx) : null;
+  }
+
+  /**
+   * Get the index as a primitive int.
+   * <p>
+   * @return the index, -1 if not set
+   * @since 3.1.0
+   */
+  public int getIdxAsInt() {
     return idx;
   }
 
@@ -468,6 +507,24 @@ public class Curve {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    if (value != null && (value.signum() < 0 || value.bitLength() > 31)) {
+      throw new IllegalArgumentException("Index value violation. Index must be an unsigned int for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
+    this.idx = value != null ? value.intValue() : NO_IDX;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @since 3.1.0
+   */
+  public void setIdx(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Index value violation. Index must be unsigned for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
     this.idx = value;
   }
 
@@ -477,7 +534,7 @@ public class Curve {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetIdx() {
-    return (this.idx != null);
+    return (this.idx != NO_IDX);
   }
 
   /**
@@ -583,6 +640,7 @@ public class Curve {
    * @since 3.1.0
    */
   public Curve withCurvePoint(CurvePoint... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getCurvePoint().addAll(Arrays.asList(values));
     }
@@ -602,6 +660,7 @@ public class Curve {
    * @since 3.1.0
    */
   public Curve withCurvePoint(Collection<CurvePoint> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getCurvePoint().addAll(values);
     }
@@ -619,6 +678,19 @@ public class Curve {
    * @since 3.1.0
    */
   public Curve withIdx(BigInteger value) {
+    setIdx(value);
+    return this;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @return The current Curve object instance.
+   * @since 3.1.0
+   */
+  public Curve withIdx(int value) {
+    setIdx(value);
     return this;
   }
 
@@ -637,7 +709,7 @@ public class Curve {
            + (freqFactor != null ? " freqFactor [" + freqFactor + "]" : "")
            + (freqMax != null ? " freqMax [" + freqMax + "]" : "")
            + (freqMin != null ? " freqMin [" + freqMin + "]" : "")
-           + (idx != null ? " idx [" + idx + "]" : "")
+           + (idx != NO_IDX ? " idx [" + idx + "]" : "")
            + (type != null ? " type [" + type + "]" : "")
            + "}";
   }
@@ -657,4 +729,14 @@ public class Curve {
     return isSetCurvePoint() && isSetFreqConst() && isSetFreqFactor() && isSetType() && isSetIdx();
   }
 
+  /**
+   * Reserve the index of this Curve in the SSRF root instance after loading
+   * from XML so that it is not allocated to a new item.
+   * <p>
+   * @param root the SSRF root instance.
+   * @since 3.1.0
+   */
+  public void postLoad(SSRF root) {
+    root.reserveIdx(idx);
+  }
 }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.receiver;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.CurvePointLevel;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqOffset;
 
@@ -69,6 +72,15 @@ public class CurvePoint {
   @XmlElement(name = "Level", required = true)
   private CurvePointLevel level;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a frequency difference (refer to data element Curve for use
    * instructions). If the curve being defined is symmetric, then enter only
@@ -98,6 +110,7 @@ public class CurvePoint {
    * @since 3.1.0
    */
   public void setOffset(FreqOffset value) {
+    ChangeTracker.touch(owningDataset);
     this.offset = value;
   }
 
@@ -127,6 +140,7 @@ public class CurvePoint {
    * @since 3.1.0
    */
   public void setLevel(CurvePointLevel value) {
+    ChangeTracker.touch(owningDataset);
     this.level = value;
   }
 
@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.RFSystem;
 import us.gov.dod.standard.ssrf._3_1.Receiver;
 import us.gov.dod.standard.ssrf._3_1.Transmitter;
@@ -93,6 +96,15 @@ public class Deployment {
   @XmlElement(name = "Installation", nillable = true)
   private Set<Installation> installation;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the type of deployment..
    * <p>
@@ -110,6 +122,7 @@ public class Deployment {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -141,6 +154,7 @@ public class Deployment {
    * @since 3.1.0
    */
   public void setStatus(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.status = value;
   }
 
@@ -185,6 +199,7 @@ public class Deployment {
    * Clear the Installation field. This sets the field to null.
    */
   public void unsetInstallation() {
+    ChangeTracker.touch(owningDataset);
     this.installation = null;
   }
 
@@ -224,6 +239,7 @@ public class Deployment {
    * @since 3.1.0
    */
   public Deployment withInstallation(Installation... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getInstallation().addAll(Arrays.asList(values));
     }
@@ -242,6 +258,7 @@ public class Deployment {
    * @since 3.1.0
    */
   public Deployment withInstallation(Collection<Installation> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getInstallation().addAll(values);
     }
@@ -22,6 +22,8 @@ import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterEMSDES;
 import us.gov.dod.standard.ssrf._3_1.common.Remarks;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCCL;
@@ -205,6 +207,15 @@ public class EmsClass {
   @XmlAttribute(name = "availability")
   private String availability;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a value that is most probably correct..
    * <p>
@@ -222,6 +233,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.value = value;
   }
 
@@ -253,6 +265,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setExplainInformationTypeX(String value) {
+    ChangeTracker.touch(owningDataset);
     this.explainInformationTypeX = value;
   }
 
@@ -284,6 +297,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setExplainModulationTypeX(String value) {
+    ChangeTracker.touch(owningDataset);
     this.explainModulationTypeX = value;
   }
 
@@ -315,6 +329,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setExplainNatureOfSignalX(String value) {
+    ChangeTracker.touch(owningDataset);
     this.explainNatureOfSignalX = value;
   }
 
@@ -346,6 +361,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setCls(ListCCL value) {
+    ChangeTracker.touch(owningDataset);
     this.cls = value;
   }
 
@@ -385,6 +401,7 @@ public class EmsClass {
    * Clear the Remarks field. This sets the field to null.
    */
   public void unsetRemarks() {
+    ChangeTracker.touch(owningDataset);
     this.remarks = null;
   }
 
@@ -415,6 +432,7 @@ public class EmsClass {
    * Clear the ExtReferences field. This sets the field to null.
    */
   public void unsetExtReferences() {
+    ChangeTracker.touch(owningDataset);
     this.extReferences = null;
   }
 
@@ -441,6 +459,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setLegacyReleasability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.legacyReleasability = value;
   }
 
@@ -474,6 +493,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setQuality(String value) {
+    ChangeTracker.touch(owningDataset);
     this.quality = value;
   }
 
@@ -503,6 +523,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setRecommendedValue(String value) {
+    ChangeTracker.touch(owningDataset);
     this.recommendedValue = value;
   }
 
@@ -542,6 +563,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setIdref(String value) {
+    ChangeTracker.touch(owningDataset);
     this.idref = value;
   }
 
@@ -575,6 +597,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public void setAvailability(String value) {
+    ChangeTracker.touch(owningDataset);
     this.availability = value;
   }
 
@@ -655,6 +678,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withRemarks(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(Arrays.asList(values));
     }
@@ -670,6 +694,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withRemarks(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRemarks().addAll(values);
     }
@@ -685,6 +710,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withExtReferences(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(Arrays.asList(values));
     }
@@ -700,6 +726,7 @@ public class EmsClass {
    * @since 3.1.0
    */
   public EmsClass withExtReferences(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getExtReferences().addAll(values);
     }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.receiver;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.IFNum;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -128,6 +131,15 @@ public class FreqConversion {
   @XmlElement(name = "IFMax", required = false)
   private FreqM ifMax;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the position of the IF stage being described..
    * <p>
@@ -145,6 +157,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setStageNum(IFNum value) {
+    ChangeTracker.touch(owningDataset);
     this.stageNum = value;
   }
 
@@ -176,6 +189,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setOscillatorTuning(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.oscillatorTuning = value;
   }
 
@@ -207,6 +221,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setLOFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.loFreqMin = value;
   }
 
@@ -240,6 +255,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setLOFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.loFreqMax = value;
   }
 
@@ -271,6 +287,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setIFMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.ifMin = value;
   }
 
@@ -304,6 +321,7 @@ public class FreqConversion {
    * @since 3.1.0
    */
   public void setIFMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.ifMax = value;
   }
 
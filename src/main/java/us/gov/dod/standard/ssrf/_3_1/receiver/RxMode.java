@@ -21,6 +21,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Receiver;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.*;
@@ -479,6 +481,15 @@ public class RxMode {
   @XmlAttribute(name = "curves")
   private Set<BigInteger> curves;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a short name for the mode; this name should be a meaningful
    * identification of the mode, but it can also be automatically generated. The
@@ -502,6 +513,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setModeID(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.modeID = value;
   }
 
@@ -533,6 +545,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setDescription(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
@@ -564,6 +577,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setRxType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.rxType = value;
   }
 
@@ -601,6 +615,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setNecessaryBw(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.necessaryBw = value;
   }
 
@@ -630,6 +645,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setTunability(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.tunability = value;
   }
 
@@ -663,6 +679,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setTuningMethod(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.tuningMethod = value;
   }
 
@@ -694,6 +711,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setIntermodPct(Percent value) {
+    ChangeTracker.touch(owningDataset);
     this.intermodPct = value;
   }
 
@@ -723,6 +741,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setIntermodEffect(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.intermodEffect = value;
   }
 
@@ -758,6 +777,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSensitivityLevel(dBm value) {
+    ChangeTracker.touch(owningDataset);
     this.sensitivityLevel = value;
   }
 
@@ -793,6 +813,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setNoiseFigure(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.noiseFigure = value;
   }
 
@@ -830,6 +851,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setNoiseTemp(Kelvins value) {
+    ChangeTracker.touch(owningDataset);
     this.noiseTemp = value;
   }
 
@@ -864,6 +886,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSensitivityCriteriaType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.sensitivityCriteriaType = value;
   }
 
@@ -897,6 +920,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSensitivityCriteriaLevel(SCLevel value) {
+    ChangeTracker.touch(owningDataset);
     this.sensitivityCriteriaLevel = value;
   }
 
@@ -926,6 +950,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSensitivityCriteriaText(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.sensitivityCriteriaText = value;
   }
 
@@ -955,6 +980,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setPostDetectionFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.postDetectionFreqMin = value;
   }
 
@@ -990,6 +1016,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setPostDetectionFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.postDetectionFreqMax = value;
   }
 
@@ -1021,6 +1048,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setProcessingGainMin(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.processingGainMin = value;
   }
 
@@ -1058,6 +1086,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setProcessingGainMax(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.processingGainMax = value;
   }
 
@@ -1097,6 +1126,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSpuriousRejection(Rejection_DB1 value) {
+    ChangeTracker.touch(owningDataset);
     this.spuriousRejection = value;
   }
 
@@ -1136,6 +1166,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setImageRejection(Rejection_DB1 value) {
+    ChangeTracker.touch(owningDataset);
     this.imageRejection = value;
   }
 
@@ -1171,6 +1202,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setIntermodRejection(Rejection_DB2 value) {
+    ChangeTracker.touch(owningDataset);
     this.intermodRejection = value;
   }
 
@@ -1204,6 +1236,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setAdjacentChannelSelectivity(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.adjacentChannelSelectivity = value;
   }
 
@@ -1237,6 +1270,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setFreqTolerance(UN18_6 value) {
+    ChangeTracker.touch(owningDataset);
     this.freqTolerance = value;
   }
 
@@ -1266,6 +1300,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setFreqToleranceUnit(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.freqToleranceUnit = value;
   }
 
@@ -1297,6 +1332,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setModeName(S40 value) {
+    ChangeTracker.touch(owningDataset);
     this.modeName = value;
   }
 
@@ -1340,6 +1376,7 @@ public class RxMode {
    * Clear the EmsClass field. This sets the field to null.
    */
   public void unsetEmsClass() {
+    ChangeTracker.touch(owningDataset);
     this.emsClass = null;
   }
 
@@ -1373,6 +1410,7 @@ public class RxMode {
    * Clear the RxSignalTuning field. This sets the field to null.
    */
   public void unsetRxSignalTuning() {
+    ChangeTracker.touch(owningDataset);
     this.rxSignalTuning = null;
   }
 
@@ -1405,6 +1443,7 @@ public class RxMode {
    * Clear the RxModulation field. This sets the field to null.
    */
   public void unsetRxModulation() {
+    ChangeTracker.touch(owningDataset);
     this.rxModulation = null;
   }
 
@@ -1437,6 +1476,7 @@ public class RxMode {
    * Clear the Baseband field. This sets the field to null.
    */
   public void unsetBaseband() {
+    ChangeTracker.touch(owningDataset);
     this.baseband = null;
   }
 
@@ -1470,6 +1510,7 @@ public class RxMode {
    * Clear the FreqConversion field. This sets the field to null.
    */
   public void unsetFreqConversion() {
+    ChangeTracker.touch(owningDataset);
     this.freqConversion = null;
   }
 
@@ -1496,6 +1537,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public void setSpreadSpectrum(SpreadSpectrum value) {
+    ChangeTracker.touch(owningDataset);
     this.spreadSpectrum = value;
   }
 
@@ -1534,6 +1576,7 @@ public class RxMode {
    * Clear the Curves field. This sets the field to null.
    */
   public void unsetCurves() {
+    ChangeTracker.touch(owningDataset);
     this.curves = null;
   }
 
@@ -1897,6 +1940,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withEmsClass(EmsClass... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getEmsClass().addAll(Arrays.asList(values));
     }
@@ -1916,6 +1960,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withEmsClass(Collection<EmsClass> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getEmsClass().addAll(values);
     }
@@ -1934,6 +1979,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withRxSignalTuning(RxSignalTuning... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRxSignalTuning().addAll(Arrays.asList(values));
     }
@@ -1952,6 +1998,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withRxSignalTuning(Collection<RxSignalTuning> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRxSignalTuning().addAll(values);
     }
@@ -1969,6 +2016,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withRxModulation(RxModulation... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRxModulation().addAll(Arrays.asList(values));
     }
@@ -1986,6 +2034,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withRxModulation(Collection<RxModulation> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getRxModulation().addAll(values);
     }
@@ -2003,6 +2052,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withBaseband(Baseband... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getBaseband().addAll(Arrays.asList(values));
     }
@@ -2020,6 +2070,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withBaseband(Collection<Baseband> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getBaseband().addAll(values);
     }
@@ -2038,6 +2089,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withFreqConversion(FreqConversion... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getFreqConversion().addAll(Arrays.asList(values));
     }
@@ -2056,6 +2108,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withFreqConversion(Collection<FreqConversion> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getFreqConversion().addAll(values);
     }
@@ -2084,6 +2137,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withCurves(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getCurves().addAll(Arrays.asList(values));
     }
@@ -2098,6 +2152,7 @@ public class RxMode {
    * @since 3.1.0
    */
   public RxMode withCurves(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getCurves().addAll(values);
     }
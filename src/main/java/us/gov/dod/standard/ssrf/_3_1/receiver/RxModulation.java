@@ -16,6 +16,8 @@
 package us.gov.dod.standard.ssrf._3_1.receiver;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.BitRate;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.UN5;
@@ -135,6 +137,15 @@ public class RxModulation {
   @XmlElement(name = "CodePeriod", required = false)
   private microsecs codePeriod;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  protected transient Common<?> owningDataset;
+
   /**
    * Get the type of digital modulation..
    * <p>
@@ -152,6 +163,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setDigitalModType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.digitalModType = value;
   }
 
@@ -189,6 +201,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setMaxBitRate(BitRate value) {
+    ChangeTracker.touch(owningDataset);
     this.maxBitRate = value;
   }
 
@@ -220,6 +233,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setNumStates(UN5 value) {
+    ChangeTracker.touch(owningDataset);
     this.numStates = value;
   }
 
@@ -251,6 +265,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setLineCoding(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.lineCoding = value;
   }
 
@@ -282,6 +297,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setCodeRate(BitRate value) {
+    ChangeTracker.touch(owningDataset);
     this.codeRate = value;
   }
 
@@ -311,6 +327,7 @@ public class RxModulation {
    * @since 3.1.0
    */
   public void setCodePeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.codePeriod = value;
   }
 
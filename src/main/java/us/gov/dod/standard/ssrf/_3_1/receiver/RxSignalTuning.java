@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.receiver;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.UN8;
 
@@ -102,6 +105,15 @@ public class RxSignalTuning {
   @XmlElement(name = "NumPresetChannels", required = false)
   private UN8 numPresetChannels;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the nominal frequency or minimum value of the frequency range..
    * <p>
@@ -119,6 +131,7 @@ public class RxSignalTuning {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -152,6 +165,7 @@ public class RxSignalTuning {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -181,6 +195,7 @@ public class RxSignalTuning {
    * @since 3.1.0
    */
   public void setTuningStep(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.tuningStep = value;
   }
 
@@ -210,6 +225,7 @@ public class RxSignalTuning {
    * @since 3.1.0
    */
   public void setNumPresetChannels(UN8 value) {
+    ChangeTracker.touch(owningDataset);
     this.numPresetChannels = value;
   }
 
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.receiver;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCSS;
@@ -338,6 +341,15 @@ public class SpreadSpectrum {
   @XmlElement(name = "FreqBlocking", required = false)
   private TString freqBlocking;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the type of spread spectrum system being used..
    * <p>
@@ -355,6 +367,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -386,6 +399,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -419,6 +433,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -448,6 +463,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setMaxGain(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.maxGain = value;
   }
 
@@ -479,6 +495,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setPulseFreqDev(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.pulseFreqDev = value;
   }
 
@@ -508,6 +525,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setInfoDataRate(InfoDataRate value) {
+    ChangeTracker.touch(owningDataset);
     this.infoDataRate = value;
   }
 
@@ -539,6 +557,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setChipRate(MChips value) {
+    ChangeTracker.touch(owningDataset);
     this.chipRate = value;
   }
 
@@ -572,6 +591,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setCodeRate(CodeRate value) {
+    ChangeTracker.touch(owningDataset);
     this.codeRate = value;
   }
 
@@ -603,6 +623,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setPulseChirpRate(RFChgRate value) {
+    ChangeTracker.touch(owningDataset);
     this.pulseChirpRate = value;
   }
 
@@ -634,6 +655,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setPulseChirpFreqShift(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.pulseChirpFreqShift = value;
   }
 
@@ -663,6 +685,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setPulseChirpDurationMin(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pulseChirpDurationMin = value;
   }
 
@@ -698,6 +721,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setPulseChirpDurationMax(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pulseChirpDurationMax = value;
   }
 
@@ -727,6 +751,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setTimeHopNumSlots(UN5 value) {
+    ChangeTracker.touch(owningDataset);
     this.timeHopNumSlots = value;
   }
 
@@ -756,6 +781,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setTimeHopPulsesPerDwell(UN12 value) {
+    ChangeTracker.touch(owningDataset);
     this.timeHopPulsesPerDwell = value;
   }
 
@@ -787,6 +813,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setHopRate(hops value) {
+    ChangeTracker.touch(owningDataset);
     this.hopRate = value;
   }
 
@@ -816,6 +843,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setHopDwell(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.hopDwell = value;
   }
 
@@ -845,6 +873,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setNumFreqsPerHopset(UN4 value) {
+    ChangeTracker.touch(owningDataset);
     this.numFreqsPerHopset = value;
   }
 
@@ -878,6 +907,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setNumHopsets(UN4 value) {
+    ChangeTracker.touch(owningDataset);
     this.numHopsets = value;
   }
 
@@ -909,6 +939,7 @@ public class SpreadSpectrum {
    * @since 3.1.0
    */
   public void setFreqBlocking(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.freqBlocking = value;
   }
 
@@ -16,7 +16,9 @@
 package us.gov.dod.standard.ssrf._3_1.rfsystem;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.RFSystem;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -69,6 +71,15 @@ public class RelatedSystem {
   @XmlElement(name = "Serial", required = true)
   private Serial serial;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the relationship between the two systems..
    * <p>
@@ -86,6 +97,7 @@ public class RelatedSystem {
    * @since 3.1.0
    */
   public void setRelation(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.relation = value;
   }
 
@@ -123,6 +135,7 @@ public class RelatedSystem {
    */
   @Deprecated
   public void setSerial(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.serial = value;
   }
 
@@ -230,6 +243,7 @@ public class RelatedSystem {
    * @since 3.1.0
    */
   public RelatedSystem withRfSystem(RFSystem value) {
+    ChangeTracker.touch(owningDataset);
     this.rfSystem = value;
     return this;
   }
@@ -260,15 +274,7 @@ public class RelatedSystem {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (serial == null || !serial.isSetValue()) {
-      return;
-    }
-    for (RFSystem instance : root.getRFSystem()) {
-      if (serial.equals(instance.getSerial())) {
-        rfSystem = instance;
-        return;
-      }
-    }
+    rfSystem = root.findBySerial(serial, RFSystem.class);
   }//</editor-fold>
 
 }
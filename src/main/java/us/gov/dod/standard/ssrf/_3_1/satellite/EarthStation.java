@@ -16,7 +16,9 @@
 package us.gov.dod.standard.ssrf._3_1.satellite;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Location;
 import us.gov.dod.standard.ssrf._3_1.Satellite;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S50;
@@ -83,6 +85,15 @@ public class EarthStation {
   @XmlElement(name = "LocationRef", required = false)
   private Serial locationRef;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the name of an associated earth station..
    * <p>
@@ -100,6 +111,7 @@ public class EarthStation {
    * @since 3.1.0
    */
   public void setName(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.name = value;
   }
 
@@ -129,6 +141,7 @@ public class EarthStation {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -166,6 +179,7 @@ public class EarthStation {
    */
   @Deprecated
   public void setLocationRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.locationRef = value;
   }
 
@@ -282,6 +296,7 @@ public class EarthStation {
    * @since 3.1.0
    */
   public EarthStation withLocation(Location value) {
+    ChangeTracker.touch(owningDataset);
     this.location = value;
     return this;
   }
@@ -312,15 +327,7 @@ public class EarthStation {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (locationRef == null || !locationRef.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (locationRef.equals(instance.getSerial())) {
-        location = instance;
-        return;
-      }
-    }
+    location = root.findBySerial(locationRef, Location.class);
   }//</editor-fold>
 
 }
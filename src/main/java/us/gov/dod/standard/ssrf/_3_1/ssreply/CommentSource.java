@@ -19,7 +19,10 @@ import java.util.*;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.SSReply;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S100;
@@ -113,6 +116,15 @@ public class CommentSource {
   @XmlElement(name = "Comment", nillable = true)
   private Set<Comment> comment;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the name of the organisation or authority that is the source of the
    * comment. For example, MCEB, SPS or NTIA..
@@ -132,6 +144,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public void setSource(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.source = value;
   }
 
@@ -163,6 +176,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public void setAuthor(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.author = value;
   }
 
@@ -192,6 +206,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public void setJobTitle(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.jobTitle = value;
   }
 
@@ -221,6 +236,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public void setDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.date = value;
   }
 
@@ -262,6 +278,7 @@ public class CommentSource {
    * Clear the Comment field. This sets the field to null.
    */
   public void unsetComment() {
+    ChangeTracker.touch(owningDataset);
     this.comment = null;
   }
 
@@ -338,6 +355,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public CommentSource withComment(Comment... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getComment().addAll(Arrays.asList(values));
     }
@@ -355,6 +373,7 @@ public class CommentSource {
    * @since 3.1.0
    */
   public CommentSource withComment(Collection<Comment> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getComment().addAll(values);
     }
@@ -16,6 +16,7 @@
 package us.gov.dod.standard.ssrf._3_1.ssreply;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Location;
@@ -67,6 +68,15 @@ public class StageLocation {
   @XmlElement(name = "Excluded", required = false)
   private TString excluded;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the serial of a Location or satellite..
    * <p>
@@ -90,6 +100,7 @@ public class StageLocation {
    */
   @Deprecated
   public void setLocSatRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.locSatRef = value;
   }
 
@@ -123,6 +134,7 @@ public class StageLocation {
    * @since 3.1.0
    */
   public void setExcluded(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.excluded = value;
   }
 
@@ -233,6 +245,7 @@ public class StageLocation {
    * @since 3.1.0
    */
   public StageLocation withLocSat(Common<?> value) {
+    ChangeTracker.touch(owningDataset);
     this.locSat = value;
     return this;
   }
@@ -263,20 +276,9 @@ public class StageLocation {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (locSatRef == null || !locSatRef.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
-    }
-    for (Satellite instance : root.getSatellite()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
+    locSat = root.findBySerial(locSatRef, Location.class);
+    if (locSat == null) {
+      locSat = root.findBySerial(locSatRef, Satellite.class);
     }
   }//</editor-fold>
 
@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.SSRequest;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -115,6 +118,15 @@ public class DiagramEndpoint {
   @XmlElement(name = "EndpointLocation")
   private Set<EndpointLocation> endpointLocation;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the type of icon for the diagram endpoint..
    * <p>
@@ -132,6 +144,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setIconType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.iconType = value;
   }
 
@@ -165,6 +178,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setEndpointID(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.endpointID = value;
   }
 
@@ -194,6 +208,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setDescription(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
@@ -223,6 +238,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setName(S15 value) {
+    ChangeTracker.touch(owningDataset);
     this.name = value;
   }
 
@@ -258,6 +274,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setIconPosLeft(US_Twips value) {
+    ChangeTracker.touch(owningDataset);
     this.iconPosLeft = value;
   }
 
@@ -295,6 +312,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setIconPosTop(US_Twips value) {
+    ChangeTracker.touch(owningDataset);
     this.iconPosTop = value;
   }
 
@@ -328,6 +346,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public void setPointToMultiPoint(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.pointToMultiPoint = value;
   }
 
@@ -371,6 +390,7 @@ public class DiagramEndpoint {
    * Clear the EndpointLocation field. This sets the field to null.
    */
   public void unsetEndpointLocation() {
+    ChangeTracker.touch(owningDataset);
     this.endpointLocation = null;
   }
 
@@ -478,6 +498,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public DiagramEndpoint withEndpointLocation(EndpointLocation... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getEndpointLocation().addAll(Arrays.asList(values));
     }
@@ -495,6 +516,7 @@ public class DiagramEndpoint {
    * @since 3.1.0
    */
   public DiagramEndpoint withEndpointLocation(Collection<EndpointLocation> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getEndpointLocation().addAll(values);
     }
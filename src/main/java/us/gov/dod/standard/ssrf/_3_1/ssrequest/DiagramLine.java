@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.ssrequest;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.SSRequest;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S100;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S20;
@@ -79,6 +82,15 @@ public class DiagramLine {
   @XmlElement(name = "ConfigID", required = false)
   private S100 configID;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the Endpoint ID at the originating (transmitting) endpoint of a line on
    * the diagram. There must be a corresponding DiagramEndpoint element with
@@ -104,6 +116,7 @@ public class DiagramLine {
    * @since 3.1.0
    */
   public void setTxEndpointID(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.txEndpointID = value;
   }
 
@@ -141,6 +154,7 @@ public class DiagramLine {
    * @since 3.1.0
    */
   public void setRxEndpointID(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.rxEndpointID = value;
   }
 
@@ -172,6 +186,7 @@ public class DiagramLine {
    * @since 3.1.0
    */
   public void setConfigID(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.configID = value;
   }
 
@@ -16,6 +16,7 @@
 package us.gov.dod.standard.ssrf._3_1.ssrequest;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Location;
@@ -106,6 +107,15 @@ public class EndpointLocation {
   @XmlElement(name = "SiteElevation", required = false)
   private Altitude siteElevation;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the antenna height above the ground level. .
    * <p>
@@ -123,6 +133,7 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public void setAntennaHeight(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.antennaHeight = value;
   }
 
@@ -154,6 +165,7 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public void setExcluded(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.excluded = value;
   }
 
@@ -199,6 +211,7 @@ public class EndpointLocation {
    */
   @Deprecated
   public void setLocSatRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.locSatRef = value;
   }
 
@@ -230,6 +243,7 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public void setMinPointAngle(Az180 value) {
+    ChangeTracker.touch(owningDataset);
     this.minPointAngle = value;
   }
 
@@ -261,6 +275,7 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public void setSiteElevation(Altitude value) {
+    ChangeTracker.touch(owningDataset);
     this.siteElevation = value;
   }
 
@@ -423,6 +438,7 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public EndpointLocation withLocSat(Common<?> value) {
+    ChangeTracker.touch(owningDataset);
     this.locSat = value;
     return this;
   }
@@ -453,20 +469,9 @@ public class EndpointLocation {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (locSatRef == null || !locSatRef.isSetValue()) {
-      return;
-    }
-    for (Location instance : root.getLocation()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
-    }
-    for (Satellite instance : root.getSatellite()) {
-      if (locSatRef.equals(instance.getSerial())) {
-        locSat = instance;
-        return;
-      }
+    locSat = root.findBySerial(locSatRef, Location.class);
+    if (locSat == null) {
+      locSat = root.findBySerial(locSatRef, Satellite.class);
     }
   }//</editor-fold>
 
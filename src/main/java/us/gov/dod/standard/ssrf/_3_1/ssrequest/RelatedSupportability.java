@@ -16,7 +16,9 @@
 package us.gov.dod.standard.ssrf._3_1.ssrequest;
 
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.SSRequest;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S15;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
@@ -84,6 +86,15 @@ public class RelatedSupportability {
   @XmlElement(name = "J12Number", required = false)
   private S15 j12Number;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the type of dependency between the current dataset and the referred
    * application..
@@ -103,6 +114,7 @@ public class RelatedSupportability {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -134,6 +146,7 @@ public class RelatedSupportability {
    * @since 3.1.0
    */
   public void setSSRequestRef(Serial value) {
+    ChangeTracker.touch(owningDataset);
     this.ssRequestRef = value;
   }
 
@@ -165,6 +178,7 @@ public class RelatedSupportability {
    * @since 3.1.0
    */
   public void setJ12Number(S15 value) {
+    ChangeTracker.touch(owningDataset);
     this.j12Number = value;
   }
 
@@ -284,6 +298,7 @@ public class RelatedSupportability {
    * @since 3.1.0
    */
   public RelatedSupportability withSsRequest(SSRequest value) {
+    ChangeTracker.touch(owningDataset);
     this.ssRequest = value;
     return this;
   }
@@ -314,15 +329,7 @@ public class RelatedSupportability {
    * @since 3.1.0
    */
   public void postLoad(SSRF root) {
-    if (ssRequestRef == null || !ssRequestRef.isSetValue()) {
-      return;
-    }
-    for (SSRequest instance : root.getSSRequest()) {
-      if (ssRequestRef.equals(instance.getSerial())) {
-        ssRequest = instance;
-        return;
-      }
-    }
+    ssRequest = root.findBySerial(ssRequestRef, SSRequest.class);
   }//</editor-fold>
 
 }
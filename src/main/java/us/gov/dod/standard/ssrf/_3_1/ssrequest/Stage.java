@@ -19,7 +19,10 @@ import java.util.*;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.SSRequest;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.MEMO;
@@ -155,6 +158,15 @@ public class Stage {
   @XmlElement(name = "StageLocation")
   private Set<StageLocation> stageLocation;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the stage..
    * <p>
@@ -172,6 +184,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -203,6 +216,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setStartDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.startDate = value;
   }
 
@@ -234,6 +248,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setTargetDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.targetDate = value;
   }
 
@@ -263,6 +278,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setDateApprovalRequired(D value) {
+    ChangeTracker.touch(owningDataset);
     this.dateApprovalRequired = value;
   }
 
@@ -296,6 +312,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setTerminationDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.terminationDate = value;
   }
 
@@ -327,6 +344,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setNumEquip(UN9 value) {
+    ChangeTracker.touch(owningDataset);
     this.numEquip = value;
   }
 
@@ -358,6 +376,7 @@ public class Stage {
    * @since 3.1.0
    */
   public void setGeoDescription(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.geoDescription = value;
   }
 
@@ -399,6 +418,7 @@ public class Stage {
    * Clear the StageLocation field. This sets the field to null.
    */
   public void unsetStageLocation() {
+    ChangeTracker.touch(owningDataset);
     this.stageLocation = null;
   }
 
@@ -553,6 +573,7 @@ public class Stage {
    * @since 3.1.0
    */
   public Stage withStageLocation(StageLocation... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getStageLocation().addAll(Arrays.asList(values));
     }
@@ -570,6 +591,7 @@ public class Stage {
    * @since 3.1.0
    */
   public Stage withStageLocation(Collection<StageLocation> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getStageLocation().addAll(values);
     }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.ssrequest;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.SSRequest;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.MEMO;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -53,6 +56,15 @@ public class Time {
   @XmlElement(name = "UsageDescription", required = false)
   private MEMO usageDescription;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the period of usage..
    * <p>
@@ -70,6 +82,7 @@ public class Time {
    * @since 3.1.0
    */
   public void setPeriod(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.period = value;
   }
 
@@ -103,6 +116,7 @@ public class Time {
    * @since 3.1.0
    */
   public void setUsageDescription(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.usageDescription = value;
   }
 
@@ -19,7 +19,10 @@ import java.util.*;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.SSRequest;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -265,6 +268,15 @@ public class Trunking {
   @XmlElement(name = "TrunkingAssignment")
   private Set<TrunkingAssignment> trunkingAssignment;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a rationale for the additional channels (e.g., channel loading, queuing
    * times, or new users)..
@@ -284,6 +296,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setAdditionalChannelsRationale(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.additionalChannelsRationale = value;
   }
 
@@ -315,6 +328,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setDispatcher(S1 value) {
+    ChangeTracker.touch(owningDataset);
     this.dispatcher = value;
   }
 
@@ -344,6 +358,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setDispatcherExplanation(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.dispatcherExplanation = value;
   }
 
@@ -373,6 +388,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setEstimatedExpansionCost(S70 value) {
+    ChangeTracker.touch(owningDataset);
     this.estimatedExpansionCost = value;
   }
 
@@ -404,6 +420,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setExpansionTargetDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.expansionTargetDate = value;
   }
 
@@ -439,6 +456,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -476,6 +494,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setNSEPUse(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.nsepUse = value;
   }
 
@@ -505,6 +524,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setNumFreqsRequired(UN10 value) {
+    ChangeTracker.touch(owningDataset);
     this.numFreqsRequired = value;
   }
 
@@ -534,6 +554,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setNumRepeaters(UN7 value) {
+    ChangeTracker.touch(owningDataset);
     this.numRepeaters = value;
   }
 
@@ -563,6 +584,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setNumUsers(UN10 value) {
+    ChangeTracker.touch(owningDataset);
     this.numUsers = value;
   }
 
@@ -594,6 +616,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setPreviousSPSDocketNum(S12 value) {
+    ChangeTracker.touch(owningDataset);
     this.previousSPSDocketNum = value;
   }
 
@@ -623,6 +646,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setRequestForExpansion(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.requestForExpansion = value;
   }
 
@@ -662,6 +686,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setSeparateSystemJustification(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.separateSystemJustification = value;
   }
 
@@ -691,6 +716,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -733,6 +759,7 @@ public class Trunking {
    * Clear the TrunkingAssignment field. This sets the field to null.
    */
   public void unsetTrunkingAssignment() {
+    ChangeTracker.touch(owningDataset);
     this.trunkingAssignment = null;
   }
 
@@ -942,6 +969,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public Trunking withTrunkingAssignment(TrunkingAssignment... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTrunkingAssignment().addAll(Arrays.asList(values));
     }
@@ -960,6 +988,7 @@ public class Trunking {
    * @since 3.1.0
    */
   public Trunking withTrunkingAssignment(Collection<TrunkingAssignment> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTrunkingAssignment().addAll(values);
     }
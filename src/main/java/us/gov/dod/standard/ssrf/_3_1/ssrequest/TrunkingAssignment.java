@@ -20,7 +20,10 @@ import java.util.Date;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S12;
@@ -118,6 +121,15 @@ public class TrunkingAssignment {
   @XmlElement(name = "RelinquishmentDate", required = false)
   private D relinquishmentDate;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the Yes if this is an existing assignment to be relinquished by the
    * trunked land mobile system. If No, the existing assignment will be used by
@@ -139,6 +151,7 @@ public class TrunkingAssignment {
    * @since 3.1.0
    */
   public void setIsRelinquished(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.isRelinquished = value;
   }
 
@@ -170,6 +183,7 @@ public class TrunkingAssignment {
    * @since 3.1.0
    */
   public void setAgencySerialNum(S12 value) {
+    ChangeTracker.touch(owningDataset);
     this.agencySerialNum = value;
   }
 
@@ -205,6 +219,7 @@ public class TrunkingAssignment {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -234,6 +249,7 @@ public class TrunkingAssignment {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -265,6 +281,7 @@ public class TrunkingAssignment {
    * @since 3.1.0
    */
   public void setRelinquishmentDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.relinquishmentDate = value;
   }
 
@@ -18,8 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.toa;
 import java.math.BigInteger;
 import java.util.*;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf.SSRF;
 import us.gov.dod.standard.ssrf._3_1.ChannelPlan;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
@@ -154,6 +156,15 @@ public class Allocation {
   @XmlAttribute(name = "footnotes")
   private Set<BigInteger> footnotes;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get a radiocommunication service recognized by an administration that is
    * allocated to this frequency band (e.g., "Fixed Service")..
@@ -173,6 +184,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public void setAllocatedService(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.allocatedService = value;
   }
 
@@ -206,6 +218,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public void setPriority(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.priority = value;
   }
 
@@ -237,6 +250,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public void setEffectiveDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.effectiveDate = value;
   }
 
@@ -268,6 +282,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public void setExpirationDate(D value) {
+    ChangeTracker.touch(owningDataset);
     this.expirationDate = value;
   }
 
@@ -301,6 +316,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public void setAllocatedByFootnote(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.allocatedByFootnote = value;
   }
 
@@ -345,6 +361,7 @@ public class Allocation {
    * Clear the Variance field. This sets the field to null.
    */
   public void unsetVariance() {
+    ChangeTracker.touch(owningDataset);
     this.variance = null;
   }
 
@@ -377,6 +394,7 @@ public class Allocation {
    * Clear the StnClass field. This sets the field to null.
    */
   public void unsetStnClass() {
+    ChangeTracker.touch(owningDataset);
     this.stnClass = null;
   }
 
@@ -411,6 +429,7 @@ public class Allocation {
    * Clear the ChannelPlanRef field. This sets the field to null.
    */
   public void unsetChannelPlanRef() {
+    ChangeTracker.touch(owningDataset);
     this.channelPlanRef = null;
   }
 
@@ -442,6 +461,7 @@ public class Allocation {
    * Clear the Footnotes field. This sets the field to null.
    */
   public void unsetFootnotes() {
+    ChangeTracker.touch(owningDataset);
     this.footnotes = null;
   }
 
@@ -547,6 +567,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withVariance(Variance... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getVariance().addAll(Arrays.asList(values));
     }
@@ -565,6 +586,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withVariance(Collection<Variance> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getVariance().addAll(values);
     }
@@ -582,6 +604,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withStnClass(StnClass... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getStnClass().addAll(Arrays.asList(values));
     }
@@ -599,6 +622,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withStnClass(Collection<StnClass> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getStnClass().addAll(values);
     }
@@ -618,6 +642,7 @@ public class Allocation {
    */
   @Deprecated
   public Allocation withChannelPlanRef(Serial... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getChannelPlanRef().addAll(Arrays.asList(values));
     }
@@ -637,6 +662,7 @@ public class Allocation {
    */
   @Deprecated
   public Allocation withChannelPlanRef(Collection<Serial> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getChannelPlanRef().addAll(values);
     }
@@ -653,6 +679,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withFootnotes(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getFootnotes().addAll(Arrays.asList(values));
     }
@@ -669,6 +696,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withFootnotes(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getFootnotes().addAll(values);
     }
@@ -768,6 +796,7 @@ public class Allocation {
    * @since 3.1.0
    */
   public Allocation withChannelPlan(Collection<ChannelPlan> values) {
+    ChangeTracker.touch(owningDataset);
     getChannelPlan().addAll(values);
     return this;
   }
@@ -804,9 +833,10 @@ public class Allocation {
     if (channelPlanRef == null || channelPlanRef.isEmpty()) {
       return;
     }
-    for (ChannelPlan instance : root.getChannelPlan()) {
-      if (channelPlanRef.contains(instance.getSerial())) {
-        getChannelPlan().add(instance);
+    for (Serial ref : channelPlanRef) {
+      ChannelPlan channelPlan = root.findBySerial(ref, ChannelPlan.class);
+      if (channelPlan != null) {
+        getChannelPlan().add(channelPlan);
       }
     }
   }//</editor-fold>
@@ -17,6 +17,9 @@ package us.gov.dod.standard.ssrf._3_1.toa;
 
 import java.math.BigInteger;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.TOA;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.MEMO;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S255;
@@ -67,6 +70,11 @@ import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCTA;
 })
 public class Footnote {
 
+  /**
+   * -1. The idx field value when the index is not set.
+   */
+  private static final int NO_IDX = -1;
+
   /**
    * FootnoteType - Footnote Type (Required)
    * <p>
@@ -111,10 +119,22 @@ public class Footnote {
    * <p>
    * Format is UN(6)
    * <p>
+   * Developer note: The index is stored as a primitive int and is bound to XML
+   * through the {@link #getIdx()} and {@link #setIdx(BigInteger)} methods.
+   * <p>
    * @since 3.1.0
    */
-  @XmlAttribute(name = "idx", required = true)
-  private BigInteger idx;
+  @XmlTransient
+  private int idx = NO_IDX;
+
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
 
   /**
    * Get the type or source of the Footnote..
@@ -133,6 +153,7 @@ public class Footnote {
    * @since 3.1.0
    */
   public void setFootnoteType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.footnoteType = value;
   }
 
@@ -166,6 +187,7 @@ public class Footnote {
    * @since 3.1.0
    */
   public void setIdentifier(S255 value) {
+    ChangeTracker.touch(owningDataset);
     this.identifier = value;
   }
 
@@ -197,6 +219,7 @@ public class Footnote {
    * @since 3.1.0
    */
   public void setText(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.text = value;
   }
 
@@ -218,7 +241,18 @@ public class Footnote {
    * @return a {@link BigInteger} instance
    * @since 3.1.0
    */
+  @XmlAttribute(name = "idx", required = true)
   public BigInteger getIdx() {
+    return idx != NO_IDX ? BigInteger.valueOf(idx) : null;
+  }
+
+  /**
+   * Get the index as a primitive int.
+   * <p>
+   * @return the index, -1 if not set
+   * @since 3.1.0
+   */
+  public int getIdxAsInt() {
     return idx;
   }
 
@@ -232,6 +266,24 @@ public class Footnote {
    * @since 3.1.0
    */
   public void setIdx(BigInteger value) {
+    if (value != null && (value.signum() < 0 || value.bitLength() > 31)) {
+      throw new IllegalArgumentException("Index value violation. Index must be an unsigned int for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
+    this.idx = value != null ? value.intValue() : NO_IDX;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @since 3.1.0
+   */
+  public void setIdx(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Index value violation. Index must be unsigned for \"" + value + "\"");
+    }
+    ChangeTracker.touch(owningDataset);
     this.idx = value;
   }
 
@@ -241,7 +293,7 @@ public class Footnote {
    * @return TRUE if the field is set, FALSE if the field is null
    */
   public boolean isSetIdx() {
-    return (this.idx != null);
+    return (this.idx != NO_IDX);
   }
 
   /**
@@ -293,6 +345,19 @@ public class Footnote {
    * @since 3.1.0
    */
   public Footnote withIdx(BigInteger value) {
+    setIdx(value);
+    return this;
+  }
+
+  /**
+   * Set the index as a primitive int.
+   * <p>
+   * @param value an unsigned index value (e.g. from {@link SSRF#nextIdx()})
+   * @return The current Footnote object instance.
+   * @since 3.1.0
+   */
+  public Footnote withIdx(int value) {
+    setIdx(value);
     return this;
   }
 
@@ -306,7 +371,7 @@ public class Footnote {
     return "\n  Footnote {"
            + (footnoteType != null ? " footnoteType [" + footnoteType + "]" : "")
            + (identifier != null ? " identifier [" + identifier + "]" : "")
-           + (idx != null ? " idx [" + idx + "]" : "")
+           + (idx != NO_IDX ? " idx [" + idx + "]" : "")
            + (text != null ? " text [" + text + "]" : "")
            + "}";
   }
@@ -326,4 +391,14 @@ public class Footnote {
     return isSetFootnoteType() && isSetIdentifier() && isSetText() && isSetIdx();
   }
 
+  /**
+   * Reserve the index of this Footnote in the SSRF root instance after loading
+   * from XML so that it is not allocated to a new item.
+   * <p>
+   * @param root the SSRF root instance.
+   * @since 3.1.0
+   */
+  public void postLoad(SSRF root) {
+    root.reserveIdx(idx);
+  }
 }
@@ -21,6 +21,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.TOA;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S40;
@@ -117,6 +119,15 @@ public class FreqBand {
   @XmlAttribute(name = "footnotes")
   private Set<BigInteger> footnotes;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the nominal frequency or minimum value of the frequency range..
    * <p>
@@ -134,6 +145,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -167,6 +179,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -198,6 +211,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public void setUseIndicator(S40 value) {
+    ChangeTracker.touch(owningDataset);
     this.useIndicator = value;
   }
 
@@ -239,6 +253,7 @@ public class FreqBand {
    * Clear the Allocation field. This sets the field to null.
    */
   public void unsetAllocation() {
+    ChangeTracker.touch(owningDataset);
     this.allocation = null;
   }
 
@@ -270,6 +285,7 @@ public class FreqBand {
    * Clear the Footnotes field. This sets the field to null.
    */
   public void unsetFootnotes() {
+    ChangeTracker.touch(owningDataset);
     this.footnotes = null;
   }
 
@@ -323,6 +339,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public FreqBand withAllocation(Allocation... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAllocation().addAll(Arrays.asList(values));
     }
@@ -340,6 +357,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public FreqBand withAllocation(Collection<Allocation> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAllocation().addAll(values);
     }
@@ -356,6 +374,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public FreqBand withFootnotes(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getFootnotes().addAll(Arrays.asList(values));
     }
@@ -372,6 +391,7 @@ public class FreqBand {
    * @since 3.1.0
    */
   public FreqBand withFootnotes(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getFootnotes().addAll(values);
     }
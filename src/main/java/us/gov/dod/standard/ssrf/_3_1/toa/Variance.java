@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCAV;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCPS;
@@ -103,6 +106,15 @@ public class Variance {
   @XmlElement(name = "Administration", nillable = true)
   private Set<Administration> administration;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the type of variance..
    * <p>
@@ -120,6 +132,7 @@ public class Variance {
    * @since 3.1.0
    */
   public void setType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.type = value;
   }
 
@@ -153,6 +166,7 @@ public class Variance {
    * @since 3.1.0
    */
   public void setAllocatedService(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.allocatedService = value;
   }
 
@@ -186,6 +200,7 @@ public class Variance {
    * @since 3.1.0
    */
   public void setPriority(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.priority = value;
   }
 
@@ -229,6 +244,7 @@ public class Variance {
    * Clear the Administration field. This sets the field to null.
    */
   public void unsetAdministration() {
+    ChangeTracker.touch(owningDataset);
     this.administration = null;
   }
 
@@ -281,6 +297,7 @@ public class Variance {
    * @since 3.1.0
    */
   public Variance withAdministration(Administration... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAdministration().addAll(Arrays.asList(values));
     }
@@ -298,6 +315,7 @@ public class Variance {
    * @since 3.1.0
    */
   public Variance withAdministration(Collection<Administration> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getAdministration().addAll(values);
     }
@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCMO;
@@ -428,6 +431,15 @@ public class ObservedMOPAnalysis {
   @XmlElement(name = "ObservedMOPSweep")
   private Set<ObservedMOPSweep> observedMOPSweep;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the condition which controls, or can be associated with, the signal MOP
    * variations..
@@ -447,6 +459,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPAdaptiveDriverDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopAdaptiveDriverDesc = value;
   }
 
@@ -476,6 +489,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPAdaptiveDriverRuleDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopAdaptiveDriverRuleDesc = value;
   }
 
@@ -507,6 +521,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPAMPercentModulation(US_Percent2 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopamPercentModulation = value;
   }
 
@@ -540,6 +555,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPChangeRateAM(US_MOPChgAm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopChangeRateAM = value;
   }
 
@@ -573,6 +589,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPChangeRateCW(US_MOPChgFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopChangeRateCW = value;
   }
 
@@ -606,6 +623,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPChangeRateFM(US_MOPChgFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopChangeRateFM = value;
   }
 
@@ -639,6 +657,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPChangeRatePM(US_PhaseAngleRate value) {
+    ChangeTracker.touch(owningDataset);
     this.mopChangeRatePM = value;
   }
 
@@ -670,6 +689,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPContinuous(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.mopContinuous = value;
   }
 
@@ -703,6 +723,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPID(S10 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopid = value;
   }
 
@@ -738,6 +759,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPMeanValueAM(Signed_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopMeanValueAM = value;
   }
 
@@ -773,6 +795,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPMeanValueCW(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopMeanValueCW = value;
   }
 
@@ -808,6 +831,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPMeanValueFM(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopMeanValueFM = value;
   }
 
@@ -843,6 +867,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPMeanValuePM(US_PhaseAngle value) {
+    ChangeTracker.touch(owningDataset);
     this.mopMeanValuePM = value;
   }
 
@@ -876,6 +901,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPNumElements(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopNumElements = value;
   }
 
@@ -907,6 +933,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPOffTime(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.mopOffTime = value;
   }
 
@@ -938,6 +965,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPOnTime(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.mopOnTime = value;
   }
 
@@ -969,6 +997,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPPatternName(S50 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopPatternName = value;
   }
 
@@ -1002,6 +1031,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPPatternPeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.mopPatternPeriod = value;
   }
 
@@ -1033,6 +1063,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPPatternType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.mopPatternType = value;
   }
 
@@ -1068,6 +1099,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPPulseDurationLink(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.mopPulseDurationLink = value;
   }
 
@@ -1099,6 +1131,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPTimeBWProduct(US_UN16_9 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopTimeBWProduct = value;
   }
 
@@ -1132,6 +1165,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.mopType = value;
   }
 
@@ -1167,6 +1201,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPValueMaxAM(Signed_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueMaxAM = value;
   }
 
@@ -1200,6 +1235,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPValueMaxCW(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueMaxCW = value;
   }
 
@@ -1233,6 +1269,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPValueMaxFM(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueMaxFM = value;
   }
 
@@ -1266,6 +1303,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPValueMaxPM(US_PhaseAngle value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueMaxPM = value;
   }
 
@@ -1299,6 +1337,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPValueMinAM(Signed_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueMinAM = value;
   }
 
@@ -1332,6 +1371,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPValueMinCW(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueMinCW = value;
   }
 
@@ -1365,6 +1405,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPValueMinFM(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueMinFM = value;
   }
 
@@ -1398,6 +1439,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setMOPValueMinPM(US_PhaseAngle value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueMinPM = value;
   }
 
@@ -1429,6 +1471,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public void setSignalType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.signalType = value;
   }
 
@@ -1473,6 +1516,7 @@ public class ObservedMOPAnalysis {
    * Clear the ObservedMOPSweep field. This sets the field to null.
    */
   public void unsetObservedMOPSweep() {
+    ChangeTracker.touch(owningDataset);
     this.observedMOPSweep = null;
   }
 
@@ -1913,6 +1957,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public ObservedMOPAnalysis withObservedMOPSweep(ObservedMOPSweep... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedMOPSweep().addAll(Arrays.asList(values));
     }
@@ -1930,6 +1975,7 @@ public class ObservedMOPAnalysis {
    * @since 3.1.0
    */
   public ObservedMOPAnalysis withObservedMOPSweep(Collection<ObservedMOPSweep> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedMOPSweep().addAll(values);
     }
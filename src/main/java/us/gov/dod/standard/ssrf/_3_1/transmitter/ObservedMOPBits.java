@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 
 /**
@@ -150,6 +153,15 @@ public class ObservedMOPBits {
   @XmlElement(name = "ObservedMOPValues")
   private Set<ObservedMOPValues> observedMOPValues;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item US:MOPDutyCycle (US), enter as a percentage, the minimum
    * or nominal ratio of the pulse duration to the pulse period..
@@ -169,6 +181,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public void setMOPDutyCycle(Percent value) {
+    ChangeTracker.touch(owningDataset);
     this.mopDutyCycle = value;
   }
 
@@ -202,6 +215,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public void setMOPNumElements(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopNumElements = value;
   }
 
@@ -235,6 +249,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public void setMOPStepAM(Unsigned_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepAM = value;
   }
 
@@ -270,6 +285,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public void setMOPStepCW(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepCW = value;
   }
 
@@ -303,6 +319,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public void setMOPStepFM(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepFM = value;
   }
 
@@ -336,6 +353,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public void setMOPStepPM(US_PhaseAngle value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepPM = value;
   }
 
@@ -367,6 +385,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public void setMOPRepetionInterval(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.mopRepetionInterval = value;
   }
 
@@ -400,6 +419,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public void setBitRate(BitRate value) {
+    ChangeTracker.touch(owningDataset);
     this.bitRate = value;
   }
 
@@ -433,6 +453,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public void setBitDuration(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.bitDuration = value;
   }
 
@@ -471,6 +492,7 @@ public class ObservedMOPBits {
    * Clear the ObservedMOPValues field. This sets the field to null.
    */
   public void unsetObservedMOPValues() {
+    ChangeTracker.touch(owningDataset);
     this.observedMOPValues = null;
   }
 
@@ -607,6 +629,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public ObservedMOPBits withObservedMOPValues(ObservedMOPValues... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedMOPValues().addAll(Arrays.asList(values));
     }
@@ -621,6 +644,7 @@ public class ObservedMOPBits {
    * @since 3.1.0
    */
   public ObservedMOPBits withObservedMOPValues(Collection<ObservedMOPValues> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedMOPValues().addAll(values);
     }
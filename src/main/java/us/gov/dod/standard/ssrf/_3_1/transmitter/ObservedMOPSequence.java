@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 
 /**
@@ -139,6 +142,15 @@ public class ObservedMOPSequence {
   @XmlElement(name = "ObservedMOPBits")
   private Set<ObservedMOPBits> observedMOPBits;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item US:MOPDutyCycle (US), enter as a percentage, the minimum
    * or nominal ratio of the pulse duration to the pulse period..
@@ -158,6 +170,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public void setMOPDutyCycle(Percent value) {
+    ChangeTracker.touch(owningDataset);
     this.mopDutyCycle = value;
   }
 
@@ -191,6 +204,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public void setMOPNumElements(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopNumElements = value;
   }
 
@@ -224,6 +238,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public void setMOPStepAM(Unsigned_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepAM = value;
   }
 
@@ -259,6 +274,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public void setMOPStepCW(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepCW = value;
   }
 
@@ -292,6 +308,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public void setMOPStepFM(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepFM = value;
   }
 
@@ -325,6 +342,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public void setMOPStepPM(US_PhaseAngle value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepPM = value;
   }
 
@@ -356,6 +374,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public void setSequenceBitLength(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.sequenceBitLength = value;
   }
 
@@ -387,6 +406,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public void setMOPSequenceDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopSequenceDesc = value;
   }
 
@@ -418,6 +438,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public void setMOPRepetionInterval(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.mopRepetionInterval = value;
   }
 
@@ -456,6 +477,7 @@ public class ObservedMOPSequence {
    * Clear the ObservedMOPBits field. This sets the field to null.
    */
   public void unsetObservedMOPBits() {
+    ChangeTracker.touch(owningDataset);
     this.observedMOPBits = null;
   }
 
@@ -590,6 +612,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public ObservedMOPSequence withObservedMOPBits(ObservedMOPBits... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedMOPBits().addAll(Arrays.asList(values));
     }
@@ -604,6 +627,7 @@ public class ObservedMOPSequence {
    * @since 3.1.0
    */
   public ObservedMOPSequence withObservedMOPBits(Collection<ObservedMOPBits> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedMOPBits().addAll(values);
     }
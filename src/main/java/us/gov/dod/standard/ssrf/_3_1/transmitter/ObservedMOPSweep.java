@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 
 /**
@@ -149,6 +152,15 @@ public class ObservedMOPSweep {
   @XmlElement(name = "ObservedMOPSequence")
   private Set<ObservedMOPSequence> observedMOPSequence;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item US:MOPDutyCycle (US), enter as a percentage, the minimum
    * or nominal ratio of the pulse duration to the pulse period..
@@ -168,6 +180,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public void setMOPDutyCycle(Percent value) {
+    ChangeTracker.touch(owningDataset);
     this.mopDutyCycle = value;
   }
 
@@ -201,6 +214,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public void setMOPNumElements(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopNumElements = value;
   }
 
@@ -234,6 +248,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public void setMOPStepAM(Unsigned_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepAM = value;
   }
 
@@ -269,6 +284,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public void setMOPStepCW(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepCW = value;
   }
 
@@ -302,6 +318,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public void setMOPStepFM(US_MOPFm value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepFM = value;
   }
 
@@ -335,6 +352,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public void setMOPStepPM(US_PhaseAngle value) {
+    ChangeTracker.touch(owningDataset);
     this.mopStepPM = value;
   }
 
@@ -370,6 +388,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public void setMOPFlyBackInterval(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.mopFlyBackInterval = value;
   }
 
@@ -403,6 +422,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public void setMOPSweepPeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.mopSweepPeriod = value;
   }
 
@@ -434,6 +454,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public void setMOPRepetionInterval(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.mopRepetionInterval = value;
   }
 
@@ -475,6 +496,7 @@ public class ObservedMOPSweep {
    * Clear the ObservedMOPSequence field. This sets the field to null.
    */
   public void unsetObservedMOPSequence() {
+    ChangeTracker.touch(owningDataset);
     this.observedMOPSequence = null;
   }
 
@@ -615,6 +637,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public ObservedMOPSweep withObservedMOPSequence(ObservedMOPSequence... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedMOPSequence().addAll(Arrays.asList(values));
     }
@@ -632,6 +655,7 @@ public class ObservedMOPSweep {
    * @since 3.1.0
    */
   public ObservedMOPSweep withObservedMOPSequence(Collection<ObservedMOPSequence> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedMOPSequence().addAll(values);
     }
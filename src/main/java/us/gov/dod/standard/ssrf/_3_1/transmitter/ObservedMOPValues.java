@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.Signed_DB_5_2;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US_Degrees;
@@ -95,6 +98,15 @@ public class ObservedMOPValues {
   @XmlElement(name = "StatisticalIndicator", required = false)
   private US_Percent3 statisticalIndicator;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get In Data Item US:MOPValueAM (US), enter specific data that describes the
    * Amplitude (AM) features of a signal impressed on a Pulse. Use of this
@@ -118,6 +130,7 @@ public class ObservedMOPValues {
    * @since 3.1.0
    */
   public void setMOPValueAM(Signed_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueAM = value;
   }
 
@@ -153,6 +166,7 @@ public class ObservedMOPValues {
    * @since 3.1.0
    */
   public void setMOPValueCW(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueCW = value;
   }
 
@@ -188,6 +202,7 @@ public class ObservedMOPValues {
    * @since 3.1.0
    */
   public void setMOPValueFM(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValueFM = value;
   }
 
@@ -221,6 +236,7 @@ public class ObservedMOPValues {
    * @since 3.1.0
    */
   public void setMOPValuePM(US_Degrees value) {
+    ChangeTracker.touch(owningDataset);
     this.mopValuePM = value;
   }
 
@@ -254,6 +270,7 @@ public class ObservedMOPValues {
    * @since 3.1.0
    */
   public void setStatisticalIndicator(US_Percent3 value) {
+    ChangeTracker.touch(owningDataset);
     this.statisticalIndicator = value;
   }
 
@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListUS7;
@@ -923,6 +926,15 @@ public class ObservedPulseAnalysis {
   @XmlElement(name = "ObservedPulseValues")
   private Set<ObservedPulseValues> observedPulseValues;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the time required for a pulse to fall from 90% to 10 percent of the
    * mean peak amplitude of its voltage waveform/envelope..
@@ -942,6 +954,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setFallTime(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.fallTime = value;
   }
 
@@ -973,6 +986,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setNumPDPositions(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numPDPositions = value;
   }
 
@@ -1004,6 +1018,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setNumPDValues(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numPDValues = value;
   }
 
@@ -1035,6 +1050,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setNumPRIElements(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numPRIElements = value;
   }
 
@@ -1068,6 +1084,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setNumPRIPositions(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numPRIPositions = value;
   }
 
@@ -1097,6 +1114,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDAdaptiveRuleDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.pdAdaptiveRuleDesc = value;
   }
 
@@ -1132,6 +1150,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDContinuous(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.pdContinuous = value;
   }
 
@@ -1171,6 +1190,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDDwellMax(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdDwellMax = value;
   }
 
@@ -1202,6 +1222,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDDwellMin(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdDwellMin = value;
   }
 
@@ -1237,6 +1258,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDExtremeMax(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdExtremeMax = value;
   }
 
@@ -1266,6 +1288,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDExtremeMin(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdExtremeMin = value;
   }
 
@@ -1301,6 +1324,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDMax(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdMax = value;
   }
 
@@ -1332,6 +1356,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDMean(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdMean = value;
   }
 
@@ -1363,6 +1388,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDMedian(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdMedian = value;
   }
 
@@ -1394,6 +1420,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDMin(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdMin = value;
   }
 
@@ -1427,6 +1454,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDPatternPeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdPatternPeriod = value;
   }
 
@@ -1458,6 +1486,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDPatternType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.pdPatternType = value;
   }
 
@@ -1489,6 +1518,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDSequenceDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.pdSequenceDesc = value;
   }
 
@@ -1518,6 +1548,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDStdDev(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdStdDev = value;
   }
 
@@ -1549,6 +1580,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDStep(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdStep = value;
   }
 
@@ -1586,6 +1618,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDTypicalMax(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdTypicalMax = value;
   }
 
@@ -1617,6 +1650,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPDTypicalMin(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdTypicalMin = value;
   }
 
@@ -1648,6 +1682,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRFChangeRate(US_PRIChgRate value) {
+    ChangeTracker.touch(owningDataset);
     this.prfChangeRate = value;
   }
 
@@ -1683,6 +1718,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRFExtremeMax(US_PPS value) {
+    ChangeTracker.touch(owningDataset);
     this.prfExtremeMax = value;
   }
 
@@ -1712,6 +1748,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRFExtremeMin(US_PPS value) {
+    ChangeTracker.touch(owningDataset);
     this.prfExtremeMin = value;
   }
 
@@ -1749,6 +1786,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRFMax(US_PPS value) {
+    ChangeTracker.touch(owningDataset);
     this.prfMax = value;
   }
 
@@ -1782,6 +1820,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRFMin(US_PPS value) {
+    ChangeTracker.touch(owningDataset);
     this.prfMin = value;
   }
 
@@ -1819,6 +1858,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRFTypicalMax(US_PPS value) {
+    ChangeTracker.touch(owningDataset);
     this.prfTypicalMax = value;
   }
 
@@ -1850,6 +1890,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRFTypicalMin(US_PPS value) {
+    ChangeTracker.touch(owningDataset);
     this.prfTypicalMin = value;
   }
 
@@ -1881,6 +1922,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIAdaptiveDriverDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.priAdaptiveDriverDesc = value;
   }
 
@@ -1912,6 +1954,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIAdaptiveRuleDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.priAdaptiveRuleDesc = value;
   }
 
@@ -1949,6 +1992,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIAnomalousValues(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.priAnomalousValues = value;
   }
 
@@ -1980,6 +2024,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIBasicClockPeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priBasicClockPeriod = value;
   }
 
@@ -2011,6 +2056,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIChangeRate(US_PRIChgRate value) {
+    ChangeTracker.touch(owningDataset);
     this.priChangeRate = value;
   }
 
@@ -2046,6 +2092,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIContinuous(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.priContinuous = value;
   }
 
@@ -2079,6 +2126,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRICountdown(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.priCountdown = value;
   }
 
@@ -2110,6 +2158,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRICountdownKey(UN9 value) {
+    ChangeTracker.touch(owningDataset);
     this.priCountdownKey = value;
   }
 
@@ -2147,6 +2196,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIExtremeMax(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priExtremeMax = value;
   }
 
@@ -2178,6 +2228,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIExtremeMin(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priExtremeMin = value;
   }
 
@@ -2213,6 +2264,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIFramePeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priFramePeriod = value;
   }
 
@@ -2246,6 +2298,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIFrameRate(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.priFrameRate = value;
   }
 
@@ -2281,6 +2334,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIGroupPulseSpacing(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priGroupPulseSpacing = value;
   }
 
@@ -2312,6 +2366,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIGroupSpacing(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priGroupSpacing = value;
   }
 
@@ -2343,6 +2398,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIMean(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priMean = value;
   }
 
@@ -2374,6 +2430,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIMedian(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priMedian = value;
   }
 
@@ -2405,6 +2462,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIMedianCountdowns(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.priMedianCountdowns = value;
   }
 
@@ -2434,6 +2492,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIPatternPeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priPatternPeriod = value;
   }
 
@@ -2465,6 +2524,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIPatternType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.priPatternType = value;
   }
 
@@ -2496,6 +2556,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIPulsesPerGroup(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.priPulsesPerGroup = value;
   }
 
@@ -2525,6 +2586,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRISequenceDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.priSequenceDesc = value;
   }
 
@@ -2556,6 +2618,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIStability(US_PPM value) {
+    ChangeTracker.touch(owningDataset);
     this.priStability = value;
   }
 
@@ -2585,6 +2648,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIStabilitySamplePeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priStabilitySamplePeriod = value;
   }
 
@@ -2616,6 +2680,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIStdDev(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priStdDev = value;
   }
 
@@ -2647,6 +2712,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRIStep(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priStep = value;
   }
 
@@ -2682,6 +2748,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRISubframePeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priSubframePeriod = value;
   }
 
@@ -2711,6 +2778,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRISubframeRate(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.priSubframeRate = value;
   }
 
@@ -2742,6 +2810,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRITimingShift(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priTimingShift = value;
   }
 
@@ -2779,6 +2848,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRITypicalMax(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priTypicalMax = value;
   }
 
@@ -2810,6 +2880,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setPRITypicalMin(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.priTypicalMin = value;
   }
 
@@ -2841,6 +2912,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public void setRiseTime(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.riseTime = value;
   }
 
@@ -2882,6 +2954,7 @@ public class ObservedPulseAnalysis {
    * Clear the ObservedPulseValues field. This sets the field to null.
    */
   public void unsetObservedPulseValues() {
+    ChangeTracker.touch(owningDataset);
     this.observedPulseValues = null;
   }
 
@@ -3707,6 +3780,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public ObservedPulseAnalysis withObservedPulseValues(ObservedPulseValues... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedPulseValues().addAll(Arrays.asList(values));
     }
@@ -3724,6 +3798,7 @@ public class ObservedPulseAnalysis {
    * @since 3.1.0
    */
   public ObservedPulseAnalysis withObservedPulseValues(Collection<ObservedPulseValues> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedPulseValues().addAll(values);
     }
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US_PPS;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US_Percent3;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.microsecs;
@@ -86,6 +89,15 @@ public class ObservedPulseValues {
   @XmlElement(name = "StatisticalIndicator", required = false)
   private US_Percent3 statisticalIndicator;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the observed PD data believed to be valid..
    * <p>
@@ -103,6 +115,7 @@ public class ObservedPulseValues {
    * @since 3.1.0
    */
   public void setObservedPDValue(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.observedPDValue = value;
   }
 
@@ -132,6 +145,7 @@ public class ObservedPulseValues {
    * @since 3.1.0
    */
   public void setObservedPRFValue(US_PPS value) {
+    ChangeTracker.touch(owningDataset);
     this.observedPRFValue = value;
   }
 
@@ -161,6 +175,7 @@ public class ObservedPulseValues {
    * @since 3.1.0
    */
   public void setObservedPRIValue(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.observedPRIValue = value;
   }
 
@@ -194,6 +209,7 @@ public class ObservedPulseValues {
    * @since 3.1.0
    */
   public void setStatisticalIndicator(US_Percent3 value) {
+    ChangeTracker.touch(owningDataset);
     this.statisticalIndicator = value;
   }
 
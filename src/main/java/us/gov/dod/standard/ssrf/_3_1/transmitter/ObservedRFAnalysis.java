@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCFO;
@@ -567,6 +570,15 @@ public class ObservedRFAnalysis {
   @XmlElement(name = "ObservedRFValues")
   private Set<ObservedRFValues> observedRFValues;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the chip rate. Pertains mostly to spread spectrum..
    * <p>
@@ -584,6 +596,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setChipRate(MChips value) {
+    ChangeTracker.touch(owningDataset);
     this.chipRate = value;
   }
 
@@ -615,6 +628,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setDwellTime(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.dwellTime = value;
   }
 
@@ -652,6 +666,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -683,6 +698,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -714,6 +730,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setGuardBand(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.guardBand = value;
   }
 
@@ -745,6 +762,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setInstantRFBW03(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.instantRFBW03 = value;
   }
 
@@ -776,6 +794,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setInstantRFBW06(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.instantRFBW06 = value;
   }
 
@@ -807,6 +826,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setInstantRFBW10(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.instantRFBW10 = value;
   }
 
@@ -838,6 +858,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setInstantRFBW20(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.instantRFBW20 = value;
   }
 
@@ -869,6 +890,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setNumRFChannels(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numRFChannels = value;
   }
 
@@ -898,6 +920,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setNumRFElements(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numRFElements = value;
   }
 
@@ -927,6 +950,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setNumRFPositions(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numRFPositions = value;
   }
 
@@ -956,6 +980,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setNumRFSimultaneous(UN6 value) {
+    ChangeTracker.touch(owningDataset);
     this.numRFSimultaneous = value;
   }
 
@@ -993,6 +1018,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setOperationalRFBW(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.operationalRFBW = value;
   }
 
@@ -1024,6 +1050,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFAdaptiveDriver(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.rfAdaptiveDriver = value;
   }
 
@@ -1055,6 +1082,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFAdaptiveRule(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.rfAdaptiveRule = value;
   }
 
@@ -1086,6 +1114,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFBasicClockPeriod(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfBasicClockPeriod = value;
   }
 
@@ -1117,6 +1146,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFChangeRate(RFChgRate value) {
+    ChangeTracker.touch(owningDataset);
     this.rfChangeRate = value;
   }
 
@@ -1152,6 +1182,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFChannelFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfChannelFreqMax = value;
   }
 
@@ -1181,6 +1212,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFChannelFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfChannelFreqMin = value;
   }
 
@@ -1212,6 +1244,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFCoherent(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.rfCoherent = value;
   }
 
@@ -1249,6 +1282,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFContinuous(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.rfContinuous = value;
   }
 
@@ -1286,6 +1320,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfFreqMax = value;
   }
 
@@ -1315,6 +1350,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfFreqMin = value;
   }
 
@@ -1344,6 +1380,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFMean(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfMean = value;
   }
 
@@ -1373,6 +1410,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFMedian(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfMedian = value;
   }
 
@@ -1402,6 +1440,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFPatternPeriod(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.rfPatternPeriod = value;
   }
 
@@ -1433,6 +1472,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFPatternType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.rfPatternType = value;
   }
 
@@ -1466,6 +1506,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFRestFreq(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfRestFreq = value;
   }
 
@@ -1495,6 +1536,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFSequenceDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.rfSequenceDesc = value;
   }
 
@@ -1526,6 +1568,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFSlotDuration(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.rfSlotDuration = value;
   }
 
@@ -1559,6 +1602,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFFreqTolerance(UN18_6 value) {
+    ChangeTracker.touch(owningDataset);
     this.rfFreqTolerance = value;
   }
 
@@ -1588,6 +1632,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFFreqToleranceUnit(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.rfFreqToleranceUnit = value;
   }
 
@@ -1621,6 +1666,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFFreqToleranceInterval(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.rfFreqToleranceInterval = value;
   }
 
@@ -1650,6 +1696,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFStandardDeviation(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfStandardDeviation = value;
   }
 
@@ -1681,6 +1728,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setRFTuningStep(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfTuningStep = value;
   }
 
@@ -1712,6 +1760,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public void setTuningStep(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.tuningStep = value;
   }
 
@@ -1753,6 +1802,7 @@ public class ObservedRFAnalysis {
    * Clear the ObservedRFValues field. This sets the field to null.
    */
   public void unsetObservedRFValues() {
+    ChangeTracker.touch(owningDataset);
     this.observedRFValues = null;
   }
 
@@ -2248,6 +2298,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public ObservedRFAnalysis withObservedRFValues(ObservedRFValues... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedRFValues().addAll(Arrays.asList(values));
     }
@@ -2265,6 +2316,7 @@ public class ObservedRFAnalysis {
    * @since 3.1.0
    */
   public ObservedRFAnalysis withObservedRFValues(Collection<ObservedRFValues> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedRFValues().addAll(values);
     }
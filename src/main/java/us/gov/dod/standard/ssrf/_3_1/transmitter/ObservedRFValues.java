@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.US_Percent3;
 
@@ -60,6 +63,15 @@ public class ObservedRFValues {
   @XmlElement(name = "StatisticalIndicator", required = false)
   private US_Percent3 statisticalIndicator;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the observed signals values.
    * <p>
@@ -77,6 +89,7 @@ public class ObservedRFValues {
    * @since 3.1.0
    */
   public void setRFValue(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.rfValue = value;
   }
 
@@ -110,6 +123,7 @@ public class ObservedRFValues {
    * @since 3.1.0
    */
   public void setStatisticalIndicator(US_Percent3 value) {
+    ChangeTracker.touch(owningDataset);
     this.statisticalIndicator = value;
   }
 
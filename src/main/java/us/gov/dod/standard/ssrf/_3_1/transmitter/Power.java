@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.TString;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.dBW;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCBO;
@@ -102,6 +105,15 @@ public class Power {
   @XmlElement(name = "Calculated", required = false)
   private TString calculated;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the nominal transmitter power, or the minimum power in case of a range
    * of values..
@@ -121,6 +133,7 @@ public class Power {
    * @since 3.1.0
    */
   public void setPowerMin(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.powerMin = value;
   }
 
@@ -154,6 +167,7 @@ public class Power {
    * @since 3.1.0
    */
   public void setPowerMax(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.powerMax = value;
   }
 
@@ -187,6 +201,7 @@ public class Power {
    * @since 3.1.0
    */
   public void setPowerType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.powerType = value;
   }
 
@@ -220,6 +235,7 @@ public class Power {
    * @since 3.1.0
    */
   public void setCalculated(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.calculated = value;
   }
 
@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 
 /**
@@ -285,6 +288,15 @@ public class Pulse {
   @XmlElement(name = "NumSubpulses", required = false)
   private UN10 numSubpulses;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the numeric value for the pulse repetition rate (PRR) of the equipment.
    * For equipment having a capability for continuously variable PRR over a wide
@@ -308,6 +320,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setPRRMin(PulseRate value) {
+    ChangeTracker.touch(owningDataset);
     this.prrMin = value;
   }
 
@@ -343,6 +356,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setPRRMax(PulseRate value) {
+    ChangeTracker.touch(owningDataset);
     this.prrMax = value;
   }
 
@@ -378,6 +392,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setPDMin(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdMin = value;
   }
 
@@ -413,6 +428,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setPDMax(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.pdMax = value;
   }
 
@@ -444,6 +460,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setDutyCycleMin(Percent value) {
+    ChangeTracker.touch(owningDataset);
     this.dutyCycleMin = value;
   }
 
@@ -481,6 +498,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setDutyCycleMax(Percent value) {
+    ChangeTracker.touch(owningDataset);
     this.dutyCycleMax = value;
   }
 
@@ -510,6 +528,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setAvgPowerMin(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.avgPowerMin = value;
   }
 
@@ -545,6 +564,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setAvgPowerMax(dBW value) {
+    ChangeTracker.touch(owningDataset);
     this.avgPowerMax = value;
   }
 
@@ -576,6 +596,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setCompRatio(UN8_4 value) {
+    ChangeTracker.touch(owningDataset);
     this.compRatio = value;
   }
 
@@ -605,6 +626,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setCompMethod(S40 value) {
+    ChangeTracker.touch(owningDataset);
     this.compMethod = value;
   }
 
@@ -642,6 +664,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setRiseTime(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.riseTime = value;
   }
 
@@ -671,6 +694,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setFallTime(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.fallTime = value;
   }
 
@@ -708,6 +732,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setJustifyShortRiseTime(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.justifyShortRiseTime = value;
   }
 
@@ -741,6 +766,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setRadarProcessingGainMax(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.radarProcessingGainMax = value;
   }
 
@@ -772,6 +798,7 @@ public class Pulse {
    * @since 3.1.0
    */
   public void setNumSubpulses(UN10 value) {
+    ChangeTracker.touch(owningDataset);
     this.numSubpulses = value;
   }
 
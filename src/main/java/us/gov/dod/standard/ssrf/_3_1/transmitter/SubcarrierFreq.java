@@ -22,7 +22,10 @@ import java.util.Set;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 
 /**
@@ -80,6 +83,15 @@ public class SubcarrierFreq {
   @XmlElement(name = "SubcarrierTone")
   private Set<SubcarrierTone> subcarrierTone;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the subcarrier frequency..
    * <p>
@@ -97,6 +109,7 @@ public class SubcarrierFreq {
    * @since 3.1.0
    */
   public void setFreq(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freq = value;
   }
 
@@ -126,6 +139,7 @@ public class SubcarrierFreq {
    * @since 3.1.0
    */
   public void setFreqOffset(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqOffset = value;
   }
 
@@ -157,6 +171,7 @@ public class SubcarrierFreq {
    * @since 3.1.0
    */
   public void setFreqRest(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqRest = value;
   }
 
@@ -198,6 +213,7 @@ public class SubcarrierFreq {
    * Clear the SubcarrierTone field. This sets the field to null.
    */
   public void unsetSubcarrierTone() {
+    ChangeTracker.touch(owningDataset);
     this.subcarrierTone = null;
   }
 
@@ -249,6 +265,7 @@ public class SubcarrierFreq {
    * @since 3.1.0
    */
   public SubcarrierFreq withSubcarrierTone(SubcarrierTone... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getSubcarrierTone().addAll(Arrays.asList(values));
     }
@@ -266,6 +283,7 @@ public class SubcarrierFreq {
    * @since 3.1.0
    */
   public SubcarrierFreq withSubcarrierTone(Collection<SubcarrierTone> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getSubcarrierTone().addAll(values);
     }
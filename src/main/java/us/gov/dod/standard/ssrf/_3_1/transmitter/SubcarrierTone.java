@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.S10;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.microsecs;
@@ -94,6 +97,15 @@ public class SubcarrierTone {
   @XmlElement(name = "Name", required = false)
   private S10 name;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the nominal frequency or minimum value of the frequency range..
    * <p>
@@ -111,6 +123,7 @@ public class SubcarrierTone {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -144,6 +157,7 @@ public class SubcarrierTone {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -175,6 +189,7 @@ public class SubcarrierTone {
    * @since 3.1.0
    */
   public void setDuration(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.duration = value;
   }
 
@@ -206,6 +221,7 @@ public class SubcarrierTone {
    * @since 3.1.0
    */
   public void setName(S10 value) {
+    ChangeTracker.touch(owningDataset);
     this.name = value;
   }
 
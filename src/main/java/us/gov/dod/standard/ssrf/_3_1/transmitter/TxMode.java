@@ -21,6 +21,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import javax.xml.bind.annotation.*;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.Transmitter;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.*;
@@ -626,6 +628,15 @@ public class TxMode {
   @XmlAttribute(name = "curves")
   private Set<BigInteger> curves;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the unique identifier of a TxMode of the transmitter in this
    * configuration. This mode is from the transmitter specified in the Serial
@@ -647,6 +658,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setModeID(S20 value) {
+    ChangeTracker.touch(owningDataset);
     this.modeID = value;
   }
 
@@ -678,6 +690,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setDescription(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.description = value;
   }
 
@@ -713,6 +726,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setNecessaryBw(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.necessaryBw = value;
   }
 
@@ -742,6 +756,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setTunability(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.tunability = value;
   }
 
@@ -775,6 +790,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setTuningMethod(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.tuningMethod = value;
   }
 
@@ -806,6 +822,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setIntermodPct(Percent value) {
+    ChangeTracker.touch(owningDataset);
     this.intermodPct = value;
   }
 
@@ -835,6 +852,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setIntermodEffect(MEMO value) {
+    ChangeTracker.touch(owningDataset);
     this.intermodEffect = value;
   }
 
@@ -864,6 +882,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setBurstRate(BurstRate value) {
+    ChangeTracker.touch(owningDataset);
     this.burstRate = value;
   }
 
@@ -893,6 +912,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setBurstDuration(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.burstDuration = value;
   }
 
@@ -922,6 +942,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setBurstNumPulses(UN8 value) {
+    ChangeTracker.touch(owningDataset);
     this.burstNumPulses = value;
   }
 
@@ -953,6 +974,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setBurstOffTime(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.burstOffTime = value;
   }
 
@@ -984,6 +1006,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setOccBw(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.occBw = value;
   }
 
@@ -1015,6 +1038,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setOccBwCalculated(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.occBwCalculated = value;
   }
 
@@ -1050,6 +1074,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setSecondHarmonicLevel(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.secondHarmonicLevel = value;
   }
 
@@ -1083,6 +1108,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setThirdHarmonicLevel(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.thirdHarmonicLevel = value;
   }
 
@@ -1118,6 +1144,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setOtherHarmonicLevel(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.otherHarmonicLevel = value;
   }
 
@@ -1153,6 +1180,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setSpuriousLevel(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.spuriousLevel = value;
   }
 
@@ -1186,6 +1214,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setFreqTolerance(UN18_6 value) {
+    ChangeTracker.touch(owningDataset);
     this.freqTolerance = value;
   }
 
@@ -1215,6 +1244,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setFreqToleranceUnit(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.freqToleranceUnit = value;
   }
 
@@ -1246,6 +1276,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setRadarType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.radarType = value;
   }
 
@@ -1277,6 +1308,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setChannelDwell(microsecs value) {
+    ChangeTracker.touch(owningDataset);
     this.channelDwell = value;
   }
 
@@ -1308,6 +1340,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setNumSubCarriers(UN5 value) {
+    ChangeTracker.touch(owningDataset);
     this.numSubCarriers = value;
   }
 
@@ -1339,6 +1372,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setNumSideTones(UN5 value) {
+    ChangeTracker.touch(owningDataset);
     this.numSideTones = value;
   }
 
@@ -1370,6 +1404,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setGpsNBL1Level(US_DBW value) {
+    ChangeTracker.touch(owningDataset);
     this.gpsNBL1Level = value;
   }
 
@@ -1401,6 +1436,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setGpsNBL2Level(US_DBW value) {
+    ChangeTracker.touch(owningDataset);
     this.gpsNBL2Level = value;
   }
 
@@ -1432,6 +1468,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setGpsWBL1Level(US_DBWHz value) {
+    ChangeTracker.touch(owningDataset);
     this.gpsWBL1Level = value;
   }
 
@@ -1463,6 +1500,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setGpsWBL2Level(US_DBWHz value) {
+    ChangeTracker.touch(owningDataset);
     this.gpsWBL2Level = value;
   }
 
@@ -1492,6 +1530,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setModulationType(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.modulationType = value;
   }
 
@@ -1523,6 +1562,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setModeName(S40 value) {
+    ChangeTracker.touch(owningDataset);
     this.modeName = value;
   }
 
@@ -1554,6 +1594,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setJitterCapable(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.jitterCapable = value;
   }
 
@@ -1599,6 +1640,7 @@ public class TxMode {
    * Clear the EmsClass field. This sets the field to null.
    */
   public void unsetEmsClass() {
+    ChangeTracker.touch(owningDataset);
     this.emsClass = null;
   }
 
@@ -1628,6 +1670,7 @@ public class TxMode {
    * Clear the Power field. This sets the field to null.
    */
   public void unsetPower() {
+    ChangeTracker.touch(owningDataset);
     this.power = null;
   }
 
@@ -1661,6 +1704,7 @@ public class TxMode {
    * Clear the TxSignalTuning field. This sets the field to null.
    */
   public void unsetTxSignalTuning() {
+    ChangeTracker.touch(owningDataset);
     this.txSignalTuning = null;
   }
 
@@ -1693,6 +1737,7 @@ public class TxMode {
    * Clear the TxModulation field. This sets the field to null.
    */
   public void unsetTxModulation() {
+    ChangeTracker.touch(owningDataset);
     this.txModulation = null;
   }
 
@@ -1725,6 +1770,7 @@ public class TxMode {
    * Clear the Baseband field. This sets the field to null.
    */
   public void unsetBaseband() {
+    ChangeTracker.touch(owningDataset);
     this.baseband = null;
   }
 
@@ -1754,6 +1800,7 @@ public class TxMode {
    * Clear the Pulse field. This sets the field to null.
    */
   public void unsetPulse() {
+    ChangeTracker.touch(owningDataset);
     this.pulse = null;
   }
 
@@ -1789,6 +1836,7 @@ public class TxMode {
    * Clear the SubcarrierFreq field. This sets the field to null.
    */
   public void unsetSubcarrierFreq() {
+    ChangeTracker.touch(owningDataset);
     this.subcarrierFreq = null;
   }
 
@@ -1815,6 +1863,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public void setSpreadSpectrum(SpreadSpectrum value) {
+    ChangeTracker.touch(owningDataset);
     this.spreadSpectrum = value;
   }
 
@@ -1857,6 +1906,7 @@ public class TxMode {
    * Clear the ObservedMOPAnalysis field. This sets the field to null.
    */
   public void unsetObservedMOPAnalysis() {
+    ChangeTracker.touch(owningDataset);
     this.observedMOPAnalysis = null;
   }
 
@@ -1889,6 +1939,7 @@ public class TxMode {
    * Clear the ObservedRFAnalysis field. This sets the field to null.
    */
   public void unsetObservedRFAnalysis() {
+    ChangeTracker.touch(owningDataset);
     this.observedRFAnalysis = null;
   }
 
@@ -1922,6 +1973,7 @@ public class TxMode {
    * Clear the ObservedPulseAnalysis field. This sets the field to null.
    */
   public void unsetObservedPulseAnalysis() {
+    ChangeTracker.touch(owningDataset);
     this.observedPulseAnalysis = null;
   }
 
@@ -1951,6 +2003,7 @@ public class TxMode {
    * Clear the Curves field. This sets the field to null.
    */
   public void unsetCurves() {
+    ChangeTracker.touch(owningDataset);
     this.curves = null;
   }
 
@@ -2356,6 +2409,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withEmsClass(EmsClass... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getEmsClass().addAll(Arrays.asList(values));
     }
@@ -2375,6 +2429,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withEmsClass(Collection<EmsClass> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getEmsClass().addAll(values);
     }
@@ -2389,6 +2444,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withPower(Power... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPower().addAll(Arrays.asList(values));
     }
@@ -2403,6 +2459,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withPower(Collection<Power> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPower().addAll(values);
     }
@@ -2421,6 +2478,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withTxSignalTuning(TxSignalTuning... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTxSignalTuning().addAll(Arrays.asList(values));
     }
@@ -2439,6 +2497,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withTxSignalTuning(Collection<TxSignalTuning> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTxSignalTuning().addAll(values);
     }
@@ -2456,6 +2515,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withTxModulation(TxModulation... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTxModulation().addAll(Arrays.asList(values));
     }
@@ -2473,6 +2533,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withTxModulation(Collection<TxModulation> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getTxModulation().addAll(values);
     }
@@ -2490,6 +2551,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withBaseband(Baseband... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getBaseband().addAll(Arrays.asList(values));
     }
@@ -2507,6 +2569,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withBaseband(Collection<Baseband> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getBaseband().addAll(values);
     }
@@ -2521,6 +2584,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withPulse(Pulse... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPulse().addAll(Arrays.asList(values));
     }
@@ -2535,6 +2599,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withPulse(Collection<Pulse> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getPulse().addAll(values);
     }
@@ -2555,6 +2620,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withSubcarrierFreq(SubcarrierFreq... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getSubcarrierFreq().addAll(Arrays.asList(values));
     }
@@ -2575,6 +2641,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withSubcarrierFreq(Collection<SubcarrierFreq> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getSubcarrierFreq().addAll(values);
     }
@@ -2607,6 +2674,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withObservedMOPAnalysis(ObservedMOPAnalysis... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedMOPAnalysis().addAll(Arrays.asList(values));
     }
@@ -2625,6 +2693,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withObservedMOPAnalysis(Collection<ObservedMOPAnalysis> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedMOPAnalysis().addAll(values);
     }
@@ -2642,6 +2711,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withObservedRFAnalysis(ObservedRFAnalysis... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedRFAnalysis().addAll(Arrays.asList(values));
     }
@@ -2659,6 +2729,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withObservedRFAnalysis(Collection<ObservedRFAnalysis> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedRFAnalysis().addAll(values);
     }
@@ -2678,6 +2749,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withObservedPulseAnalysis(ObservedPulseAnalysis... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedPulseAnalysis().addAll(Arrays.asList(values));
     }
@@ -2696,6 +2768,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withObservedPulseAnalysis(Collection<ObservedPulseAnalysis> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getObservedPulseAnalysis().addAll(values);
     }
@@ -2710,6 +2783,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withCurves(BigInteger... values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getCurves().addAll(Arrays.asList(values));
     }
@@ -2724,6 +2798,7 @@ public class TxMode {
    * @since 3.1.0
    */
   public TxMode withCurves(Collection<BigInteger> values) {
+    ChangeTracker.touch(owningDataset);
     if (values != null) {
       getCurves().addAll(values);
     }
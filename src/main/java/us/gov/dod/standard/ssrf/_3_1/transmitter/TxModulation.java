@@ -19,6 +19,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.*;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCDF;
 import us.gov.dod.standard.ssrf._3_1.metadata.lists.ListCFM;
@@ -305,6 +306,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setMaxDevRatio(UN5_3 value) {
+    ChangeTracker.touch(owningDataset);
     this.maxDevRatio = value;
   }
 
@@ -340,6 +342,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setAMIdx(UN5_3 value) {
+    ChangeTracker.touch(owningDataset);
     this.amIdx = value;
   }
 
@@ -377,6 +380,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setAMRMSIdx(UN5_3 value) {
+    ChangeTracker.touch(owningDataset);
     this.amrmsIdx = value;
   }
 
@@ -406,6 +410,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setFMPeakFreqDev(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.fmPeakFreqDev = value;
   }
 
@@ -441,6 +446,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setFMRMSFreqDev(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.fmrmsFreqDev = value;
   }
 
@@ -472,6 +478,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setFMDeviationCode(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.fmDeviationCode = value;
   }
 
@@ -505,6 +512,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setFMPeakModulationIdx(UN5_3 value) {
+    ChangeTracker.touch(owningDataset);
     this.fmPeakModulationIdx = value;
   }
 
@@ -536,6 +544,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setCarrierSuppression(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.carrierSuppression = value;
   }
 
@@ -569,6 +578,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setSidebandSuppression(dB value) {
+    ChangeTracker.touch(owningDataset);
     this.sidebandSuppression = value;
   }
 
@@ -598,6 +608,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setSidebandSuppressed(TString value) {
+    ChangeTracker.touch(owningDataset);
     this.sidebandSuppressed = value;
   }
 
@@ -629,6 +640,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setKeysAngle(Az180 value) {
+    ChangeTracker.touch(owningDataset);
     this.keysAngle = value;
   }
 
@@ -660,6 +672,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setKeysDesc(S500 value) {
+    ChangeTracker.touch(owningDataset);
     this.keysDesc = value;
   }
 
@@ -691,6 +704,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setMUXLevel(Signed_DB_5_2 value) {
+    ChangeTracker.touch(owningDataset);
     this.muxLevel = value;
   }
 
@@ -722,6 +736,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setMUXScheme(S100 value) {
+    ChangeTracker.touch(owningDataset);
     this.muxScheme = value;
   }
 
@@ -755,6 +770,7 @@ public class TxModulation extends RxModulation {
    * @since 3.1.0
    */
   public void setSymbolSize(US_Bits value) {
+    ChangeTracker.touch(owningDataset);
     this.symbolSize = value;
   }
 
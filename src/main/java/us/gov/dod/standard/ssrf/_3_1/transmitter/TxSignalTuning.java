@@ -18,7 +18,10 @@ package us.gov.dod.standard.ssrf._3_1.transmitter;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
+import us.gov.dod.standard.ssrf.ChangeTracker;
+import us.gov.dod.standard.ssrf._3_1.Common;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.FreqM;
 import us.gov.dod.standard.ssrf._3_1.metadata.domains.UN8;
 
@@ -130,6 +133,15 @@ public class TxSignalTuning {
   @XmlElement(name = "MinSeparation", required = false)
   private FreqM minSeparation;
 
+  /**
+   * The data set owning this element while an IncrementalValidator tracks it.
+   * Set by the validator; not bound to XML.
+   *
+   * @since 3.1.0
+   */
+  @XmlTransient
+  private transient Common<?> owningDataset;
+
   /**
    * Get the nominal frequency or minimum value of the frequency range..
    * <p>
@@ -147,6 +159,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setFreqMin(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMin = value;
   }
 
@@ -180,6 +193,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setFreqMax(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.freqMax = value;
   }
 
@@ -209,6 +223,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setTuningStep(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.tuningStep = value;
   }
 
@@ -238,6 +253,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setNumPresetChannels(UN8 value) {
+    ChangeTracker.touch(owningDataset);
     this.numPresetChannels = value;
   }
 
@@ -269,6 +285,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setLowestUsableChannel(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.lowestUsableChannel = value;
   }
 
@@ -300,6 +317,7 @@ public class TxSignalTuning {
    * @since 3.1.0
    */
   public void setMinSeparation(FreqM value) {
+    ChangeTracker.touch(owningDataset);
     this.minSeparation = value;
   }
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that incremental evaluation reports exactly the errors of a full
+ * evaluation after each edit.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class IncrementalValidatorTest {
+
+  private static final String LONG_NAME = "A name longer than the one hundred characters permitted by the S100 data type of the Location name";
+
+  private SSRF ssrf;
+  private Role role;
+  private List<Location> locations;
+  private List<Point> points;
+
+  /**
+   * Build a message of several locations, one of which references a role.
+   */
+  @Before
+  public void setUp() {
+    ssrf = new SSRF();
+    role = new Role().withName("Boss");
+    ssrf.withRole(role);
+    locations = new ArrayList<>();
+    points = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      Point point = new Point().withIdx(ssrf.nextIdx()).withLat(38.5).withLon(-77.25);
+      Location location = new Location().withName("HQ" + i).withPoint(point);
+      if (i == 5) {
+        location.withOwnerRole(role);
+      }
+      ssrf.withLocation(location);
+      locations.add(location);
+      points.add(point);
+    }
+    SSRFUtility.prepare(ssrf);
+  }
+
+  /**
+   * Assert that an incremental evaluation equals a full evaluation.
+   *
+   * @return the number of subtrees evaluated incrementally
+   */
+  private int assertEvaluation(IncrementalValidator validator) {
+    assertEquals(SSRFUtility.evaluate(ssrf), validator.evaluate());
+    return validator.getEvaluatedCount();
+  }
+
+  @Test
+  public void testEvaluateEqualsFullEvaluationAfterEdits() {
+    try (IncrementalValidator validator = new IncrementalValidator(ssrf)) {
+      assertEvaluation(validator);
+      assertEquals(1, assertEvaluation(validator));
+      /**
+       * A component edit re-evaluates only the owning data set.
+       */
+      points.get(10).withLat(95.0);
+      assertEquals(2, assertEvaluation(validator));
+      points.get(10).setLat(null);
+      assertEquals(2, assertEvaluation(validator));
+      points.get(10).withLat(10.0);
+      assertEvaluation(validator);
+      locations.get(3).withName(LONG_NAME);
+      assertEquals(2, assertEvaluation(validator));
+      /**
+       * An edit of a referenced data set re-evaluates its referrers.
+       */
+      role.withName(LONG_NAME);
+      assertEquals(3, assertEvaluation(validator));
+      ssrf.withLocation(new Location().withName("New"));
+      assertEvaluation(validator);
+      ssrf.getLocation().remove(locations.get(3));
+      assertEvaluation(validator);
+      /**
+       * Changes to a collection returned by a getter are not tracked until the
+       * data set is marked dirty.
+       */
+      locations.get(7).getPoint().add(new Point().withLat(200.0));
+      locations.get(7).markDirty();
+      assertEvaluation(validator);
+    }
+  }
+
+  @Test
+  public void testValidatorsOfDifferentMessagesAreIndependent() {
+    SSRF other = new SSRF();
+    Point otherPoint = new Point().withIdx(1).withLat(38.5).withLon(-77.25);
+    other.withLocation(new Location().withName("Other").withPoint(otherPoint));
+    try (IncrementalValidator validator = new IncrementalValidator(ssrf);
+         IncrementalValidator otherValidator = new IncrementalValidator(other)) {
+      validator.evaluate();
+      otherValidator.evaluate();
+      otherPoint.withLat(95.0);
+      assertEquals(1, assertEvaluation(validator));
+      assertEquals(SSRFUtility.evaluate(other), otherValidator.evaluate());
+      assertEquals(2, otherValidator.getEvaluatedCount());
+    }
+  }
+
+  @Test
+  public void testCloseStopsTracking() {
+    Location location = locations.get(0);
+    long modificationCount;
+    try (IncrementalValidator validator = new IncrementalValidator(ssrf)) {
+      validator.evaluate();
+      modificationCount = location.getModificationCount();
+      points.get(0).withLat(10.0);
+      assertTrue(location.getModificationCount() != modificationCount);
+      modificationCount = location.getModificationCount();
+    }
+    points.get(0).withLat(11.0);
+    assertEquals(modificationCount, location.getModificationCount());
+  }
+
+  @Test
+  public void testDataItemEditsAreTrackedByTheirHolder() {
+    try (IncrementalValidator validator = new IncrementalValidator(ssrf)) {
+      assertEvaluation(validator);
+      /**
+       * A data item value edited in place is not tracked until its data set
+       * is marked dirty.
+       */
+      locations.get(4).getName().setValue(LONG_NAME);
+      assertFalse(SSRFUtility.evaluate(ssrf).equals(validator.evaluate()));
+      locations.get(4).markDirty();
+      assertEquals(2, assertEvaluation(validator));
+      /**
+       * Setting a new data item value on the data set is tracked.
+       */
+      locations.get(4).withName("HQ4");
+      assertEquals(2, assertEvaluation(validator));
+    }
+  }
+}
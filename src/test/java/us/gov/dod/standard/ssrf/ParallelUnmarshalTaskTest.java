@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Contact;
+import us.gov.dod.standard.ssrf._3_1.Role;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the parallel unmarshal mode reads the same message as the
+ * sequential unmarshaller.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class ParallelUnmarshalTaskTest {
+
+  /**
+   * A document larger than the 1 MB minimum batch size so that it is split
+   * into several pieces. The Contact is written before (and therefore in a
+   * different piece than) the Role it references.
+   */
+  private static byte[] xml;
+
+  @BeforeClass
+  public static void setUpClass() throws Exception {
+    SSRF ssrf = new SSRF().withProperties(SSRFProperties.getDefault());
+    Role owner = null;
+    for (int i = 0; i < 6000; i++) {
+      Role role = new Role().withName("Role " + i);
+      ssrf.withRole(role);
+      owner = role;
+    }
+    ssrf.withContact(new Contact().withFirstName("John").withLastName("Doe").withOwnerRole(owner));
+    xml = ssrf.toXML().getBytes(StandardCharsets.UTF_8);
+    assertTrue(xml.length > 1024 * 1024);
+  }
+
+  /**
+   * Map each Role SERIAL value to its name.
+   */
+  private static Map<String, String> getRoleNames(SSRF ssrf) {
+    Map<String, String> names = new TreeMap<>();
+    for (Role role : ssrf.getRole()) {
+      names.put(role.getSerial().getValue(), role.getName().getValue());
+    }
+    return names;
+  }
+
+  @Test
+  public void testParallelEqualsSequential() throws Exception {
+    SSRF sequential = SSRF.fromXml(ByteBuffer.wrap(xml));
+    SSRF parallel = SSRF.fromXml(ByteBuffer.wrap(xml), 4);
+    assertEquals(6000, parallel.getRole().size());
+    assertEquals(getRoleNames(sequential), getRoleNames(parallel));
+    /**
+     * References are resolved after the pieces are merged.
+     */
+    Contact contact = parallel.getContact().iterator().next();
+    assertNotNull(contact.getOwnerRole());
+    assertSame(parallel.findBySerial(contact.getOwner(), Role.class), contact.getOwnerRole());
+    assertEquals(sequential.getContact().iterator().next().getOwnerRole().getName(), contact.getOwnerRole().getName());
+  }
+
+  @Test
+  public void testSingleThreadFallback() throws Exception {
+    SSRF ssrf = SSRF.fromXml(ByteBuffer.wrap(xml), 1);
+    assertEquals(6000, ssrf.getRole().size());
+  }
+}
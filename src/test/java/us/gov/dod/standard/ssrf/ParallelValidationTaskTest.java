@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that parallel validation and evaluation report the same results as
+ * their sequential counterparts.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class ParallelValidationTaskTest {
+
+  private static ForkJoinPool pool;
+
+  @BeforeClass
+  public static void setUpClass() {
+    pool = new ForkJoinPool(4);
+  }
+
+  @AfterClass
+  public static void tearDownClass() {
+    pool.shutdown();
+  }
+
+  /**
+   * Build a message of many locations. Every seventh location has an invalid
+   * latitude.
+   */
+  private static SSRF buildMessage(int count) {
+    SSRF ssrf = new SSRF();
+    ssrf.withRole(new Role().withName("Boss"));
+    for (int i = 0; i < count; i++) {
+      Point point = new Point().withIdx(ssrf.nextIdx()).withLat(i % 7 == 3 ? 95.0 : 38.5).withLon(-77.25);
+      ssrf.withLocation(new Location().withName("HQ" + i).withPoint(point));
+    }
+    SSRFUtility.prepare(ssrf);
+    return ssrf;
+  }
+
+  @Test
+  public void testEvaluateParallelEqualsEvaluate() {
+    SSRF ssrf = buildMessage(500);
+    assertEquals(SSRFUtility.evaluate(ssrf), SSRFUtility.evaluateParallel(ssrf, pool));
+  }
+
+  @Test
+  public void testValidateParallelReportsSequentialError() throws Exception {
+    SSRF ssrf = buildMessage(500);
+    String expected = null;
+    try {
+      SSRFUtility.validate(ssrf);
+      fail("Expected a validation error");
+    } catch (Exception ex) {
+      expected = ex.getMessage();
+    }
+    try {
+      SSRFUtility.validateParallel(ssrf, pool);
+      fail("Expected a validation error");
+    } catch (Exception ex) {
+      assertEquals(expected, ex.getMessage());
+    }
+  }
+
+  @Test
+  public void testValidMessage() throws Exception {
+    SSRF ssrf = new SSRF();
+    for (int i = 0; i < 50; i++) {
+      ssrf.withRole(new Role().withName("Role " + i));
+    }
+    SSRFUtility.prepare(ssrf);
+    SSRFUtility.setProperties(SSRFProperties.getDefault(), ssrf);
+    assertTrue(SSRFUtility.evaluateParallel(ssrf, pool).isEmpty());
+    SSRFUtility.validateParallel(ssrf, pool);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+
+import static org.junit.Assert.*;
+
+/**
+ * Round trip and failure recovery tests for the seekable data set archive.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class SSRFArchiveTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Write data sets to an archive and return their SERIAL values.
+   */
+  private static List<String> putRoles(SSRFArchive archive, String... names) throws Exception {
+    List<String> serials = new ArrayList<>();
+    for (String name : names) {
+      Role role = new Role().withName(name);
+      archive.put(role);
+      serials.add(role.getSerial().getValue());
+    }
+    return serials;
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    Path path = folder.newFile("roundtrip.ssra").toPath();
+    String locationSerial;
+    List<String> roleSerials;
+    try (SSRFArchive archive = SSRFArchive.create(path).withProperties(SSRFProperties.getDefault())) {
+      roleSerials = putRoles(archive, "Boss", "Clerk");
+      Location location = new Location().withName("HQ").withPoint(new Point().withIdx(1).withLat(38.5).withLon(-77.25));
+      archive.put(location);
+      locationSerial = location.getSerial().getValue();
+    }
+    try (SSRFArchive archive = SSRFArchive.open(path)) {
+      assertEquals(3, archive.size());
+      assertEquals(roleSerials, archive.getSerials(EDatasetType.JA));
+      assertEquals(EDatasetType.LO, archive.getDatasetType(locationSerial));
+      assertEquals("Clerk", ((Role) archive.get(roleSerials.get(1))).getName().getValue());
+      Location location = (Location) archive.get(locationSerial);
+      assertEquals("HQ", location.getName().getValue());
+      assertEquals("38.5", location.getPoint().iterator().next().getLat().toString());
+      assertNull(archive.get("USA::JA:MISSING"));
+    }
+  }
+
+  @Test
+  public void testAppendAfterReopen() throws Exception {
+    Path path = folder.newFile("append.ssra").toPath();
+    List<String> serials = new ArrayList<>();
+    try (SSRFArchive archive = SSRFArchive.create(path).withProperties(SSRFProperties.getDefault())) {
+      serials.addAll(putRoles(archive, "A", "B"));
+    }
+    try (SSRFArchive archive = SSRFArchive.open(path).withProperties(SSRFProperties.getDefault())) {
+      serials.addAll(putRoles(archive, "C"));
+      archive.flush();
+      serials.addAll(putRoles(archive, "D"));
+    }
+    try (SSRFArchive archive = SSRFArchive.open(path)) {
+      assertEquals(serials, new ArrayList<>(archive.getSerials()));
+      List<String> names = new ArrayList<>();
+      for (String serial : archive.getSerials()) {
+        names.add(((Role) archive.get(serial)).getName().getValue());
+      }
+      assertEquals(Arrays.asList("A", "B", "C", "D"), names);
+    }
+  }
+
+  @Test
+  public void testFailureBeforeFlushKeepsFlushedContent() throws Exception {
+    Path path = folder.newFile("failure.ssra").toPath();
+    List<String> serials;
+    try (SSRFArchive archive = SSRFArchive.create(path).withProperties(SSRFProperties.getDefault())) {
+      serials = putRoles(archive, "A", "B");
+    }
+    long flushedSize = Files.size(path);
+    /**
+     * Append without flushing, then simulate a failure by abandoning the
+     * archive: the blocks are written but the index is not.
+     */
+    SSRFArchive abandoned = SSRFArchive.open(path).withProperties(SSRFProperties.getDefault());
+    putRoles(abandoned, "C", "D");
+    assertTrue(Files.size(path) > flushedSize);
+    try (SSRFArchive archive = SSRFArchive.open(path).withProperties(SSRFProperties.getDefault())) {
+      assertEquals(serials, new ArrayList<>(archive.getSerials()));
+      assertEquals("B", ((Role) archive.get(serials.get(1))).getName().getValue());
+      serials.addAll(putRoles(archive, "E"));
+    }
+    try (SSRFArchive archive = SSRFArchive.open(path)) {
+      assertEquals(serials, new ArrayList<>(archive.getSerials()));
+      assertEquals("E", ((Role) archive.get(serials.get(2))).getName().getValue());
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testRejectsOtherFile() throws Exception {
+    Path path = folder.newFile("other.ssra").toPath();
+    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.write(new byte[64]);
+    }
+    SSRFArchive.open(path).close();
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Contact;
+import us.gov.dod.standard.ssrf._3_1.Role;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the cached JAXB binding runtime.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class SSRFBindingTest {
+
+  private static SSRF buildMessage() {
+    SSRF ssrf = new SSRF().withProperties(SSRFProperties.getDefault());
+    Role role = new Role().withName("Boss");
+    ssrf.withRole(role);
+    ssrf.withContact(new Contact().withFirstName("John").withLastName("Doe").withOwnerRole(role));
+    return ssrf;
+  }
+
+  @Test
+  public void testContextIsShared() throws Exception {
+    assertSame(SSRFBinding.getContext(SSRF.class), SSRFBinding.getContext(SSRF.class));
+    /**
+     * Marshallers are pooled per thread and per profile.
+     */
+    assertSame(SSRFBinding.getMarshaller(SSRF.class, EMarshalProfile.PRETTY), SSRFBinding.getMarshaller(SSRF.class, EMarshalProfile.PRETTY));
+    assertNotSame(SSRFBinding.getMarshaller(SSRF.class, EMarshalProfile.PRETTY), SSRFBinding.getMarshaller(SSRF.class, EMarshalProfile.COMPACT));
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    String xml = buildMessage().toXML();
+    SSRF copy = SSRF.fromXml(xml);
+    assertEquals(xml, copy.toXML());
+    assertEquals("Boss", copy.getContact().iterator().next().getOwnerRole().getName().getValue());
+    /**
+     * Compact output reads back to the same document.
+     */
+    String compact = SSRFUtility.marshal(copy, EMarshalProfile.COMPACT);
+    assertFalse(compact.equals(xml));
+    assertEquals(xml, SSRFUtility.unmarshal(compact, SSRF.class).toXML());
+  }
+
+  @Test
+  public void testConcurrentMarshal() throws Exception {
+    final SSRF ssrf = buildMessage();
+    final String expected = ssrf.toXML();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String>> futures = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        futures.add(executor.submit(new Callable<String>() {
+
+          @Override
+          public String call() throws Exception {
+            return SSRFUtility.marshal(SSRFUtility.unmarshal(expected, SSRF.class));
+          }
+        }));
+      }
+      for (Future<String> future : futures) {
+        assertEquals(expected, future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
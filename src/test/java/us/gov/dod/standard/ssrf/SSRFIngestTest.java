@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.Before;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Contact;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the validating streaming ingest and its quarantine output.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class SSRFIngestTest {
+
+  /**
+   * A document with a Contact referencing a later Role and two Locations. The
+   * latitude of the "Bad" Location is corrupted.
+   */
+  private byte[] xml;
+  private String badSerial;
+
+  @Before
+  public void setUp() throws Exception {
+    SSRF ssrf = new SSRF().withProperties(SSRFProperties.getDefault());
+    Role role = new Role().withName("Boss");
+    ssrf.withRole(role);
+    ssrf.withContact(new Contact().withFirstName("John").withLastName("Doe").withOwnerRole(role));
+    Location bad = new Location().withName("Bad").withPoint(new Point().withIdx(ssrf.nextIdx()).withLat(12.25).withLon(-77.25));
+    ssrf.withLocation(bad);
+    ssrf.withLocation(new Location().withName("Good").withPoint(new Point().withIdx(ssrf.nextIdx()).withLat(38.5).withLon(-77.25)));
+    badSerial = bad.getSerial().getValue();
+    String document = ssrf.toXML();
+    assertTrue(document.contains(">121500N<"));
+    xml = document.replace(">121500N<", ">95N<").getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testQuarantine() throws Exception {
+    ValidationReport report = new ValidationReport();
+    ByteArrayOutputStream quarantine = new ByteArrayOutputStream();
+    SSRF ssrf;
+    try (SSRFIngest ingest = new SSRFIngest(new ByteArrayInputStream(xml)).withSink(report).withQuarantine(quarantine)) {
+      ssrf = ingest.readAll();
+      assertEquals(3, ingest.getCount());
+      assertEquals(1, ingest.getQuarantinedCount());
+    }
+    /**
+     * The corrupted value is reported as a PARSE issue of the Location. The
+     * value is then missing, which is reported as a REQUIRED issue.
+     */
+    assertEquals(2, report.getIssueCount());
+    assertEquals(1, report.getIssueCount(EValidationRule.PARSE));
+    assertEquals(1, report.getIssueCount(EValidationRule.REQUIRED));
+    for (ValidationIssue issue : report.getIssues()) {
+      assertEquals(badSerial, issue.getSerial().getValue());
+      if (issue.getRule() == EValidationRule.PARSE) {
+        assertTrue(issue.getMessage(), issue.getMessage().contains("LAT"));
+      } else {
+        assertEquals("Point.lat \"null\" (BigDecimal) value is required", issue.getMessage());
+      }
+    }
+    /**
+     * The clean data sets are returned.
+     */
+    assertEquals(1, ssrf.getLocation().size());
+    assertEquals("Good", ssrf.getLocation().iterator().next().getName().getValue());
+    /**
+     * The quarantine output is a SSRF document holding the original XML of the
+     * quarantined data set, which can be corrected and read again.
+     */
+    String quarantined = new String(quarantine.toByteArray(), StandardCharsets.UTF_8);
+    assertTrue(quarantined.contains(">95N<"));
+    SSRF corrected = SSRF.fromXml(quarantined.replace(">95N<", ">121500N<"));
+    assertEquals(1, corrected.getLocation().size());
+    Location location = corrected.getLocation().iterator().next();
+    assertEquals(badSerial, location.getSerial().getValue());
+    assertEquals(12.25, location.getPoint().iterator().next().getLat().getValueAsDouble(), 0);
+  }
+
+  @Test
+  public void testReadAllResolvesReferences() throws Exception {
+    SSRF ssrf;
+    try (SSRFIngest ingest = new SSRFIngest(new ByteArrayInputStream(xml))) {
+      ssrf = ingest.readAll();
+    }
+    /**
+     * The Contact precedes the Role it references in the document.
+     */
+    Contact contact = ssrf.getContact().iterator().next();
+    assertNotNull(contact.getOwnerRole());
+    assertSame(ssrf.getRole().iterator().next(), contact.getOwnerRole());
+  }
+
+  @Test
+  public void testCleanDocument() throws Exception {
+    byte[] clean = new String(xml, StandardCharsets.UTF_8).replace(">95N<", ">121500N<").getBytes(StandardCharsets.UTF_8);
+    ValidationReport report = new ValidationReport();
+    try (SSRFIngest ingest = new SSRFIngest(new ByteArrayInputStream(clean)).withSink(report)) {
+      SSRF ssrf = ingest.readAll();
+      assertEquals(2, ssrf.getLocation().size());
+      assertEquals(0, ingest.getQuarantinedCount());
+    }
+    assertTrue(report.toString(), report.isValid());
+  }
+}
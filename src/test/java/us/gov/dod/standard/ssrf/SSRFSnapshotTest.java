@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Contact;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+
+import static org.junit.Assert.*;
+
+/**
+ * Round trip tests for the binary snapshot codec.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class SSRFSnapshotTest {
+
+  /**
+   * Build a small SSRF message with a data set reference and a decimal data
+   * item. Each data set collection holds one data set so that the XML element
+   * order is fixed. The default properties (e.g. the classification) are
+   * applied when the message is first marshalled to XML.
+   */
+  private static SSRF buildMessage() {
+    SSRF ssrf = new SSRF().withProperties(SSRFProperties.getDefault());
+    Role role = new Role().withName("Spectrum Manager");
+    ssrf.withRole(role);
+    ssrf.withContact(new Contact().withFirstName("John").withLastName("Doe").withOwnerRole(role));
+    ssrf.withLocation(new Location().withName("HQ").withPoint(new Point().withIdx(ssrf.nextIdx()).withLat(38.5).withLon(-77.25)));
+    return ssrf;
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    SSRF ssrf = buildMessage();
+    String xml = ssrf.toXML();
+    SSRF copy = SSRFSnapshot.fromBytes(SSRFSnapshot.toBytes(ssrf));
+    assertEquals(xml, copy.toXML());
+    /**
+     * References are resolved when the snapshot is read.
+     */
+    Contact contact = copy.getContact().iterator().next();
+    assertSame(copy.getRole().iterator().next(), contact.getOwnerRole());
+    assertEquals(38.5, copy.getLocation().iterator().next().getPoint().iterator().next().getLat().getValueAsDouble(), 0);
+  }
+
+  @Test
+  public void testStreamRoundTrip() throws Exception {
+    SSRF ssrf = buildMessage();
+    String xml = ssrf.toXML();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    SSRFSnapshot.write(ssrf, outputStream);
+    SSRF copy = SSRFSnapshot.read(new ByteArrayInputStream(outputStream.toByteArray()));
+    assertEquals(xml, copy.toXML());
+  }
+
+  @Test(expected = IOException.class)
+  public void testRejectsOtherFormatVersion() throws Exception {
+    byte[] snapshot = SSRFSnapshot.toBytes(buildMessage());
+    /**
+     * The format version follows the four byte magic number.
+     */
+    snapshot[4] = 1;
+    SSRFSnapshot.fromBytes(snapshot);
+  }
+
+  @Test(expected = IOException.class)
+  public void testRejectsTruncatedSnapshot() throws Exception {
+    byte[] snapshot = SSRFSnapshot.toBytes(buildMessage());
+    SSRFSnapshot.fromBytes(Arrays.copyOf(snapshot, snapshot.length / 2));
+  }
+}
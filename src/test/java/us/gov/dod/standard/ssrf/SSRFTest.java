@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import org.junit.Before;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Common;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Serial;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that data set lookups through the SERIAL index find the same data set
+ * as the data set scan.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class SSRFTest {
+
+  private SSRF ssrf;
+  private Role role;
+  private Location location;
+  private Location other;
+
+  /**
+   * Build a message with a Role and a Location sharing the serial number
+   * component "ABC1". The Role precedes the Location in SchemaRoot order.
+   */
+  @Before
+  public void setUp() {
+    ssrf = new SSRF();
+    role = new Role().withName("Boss").withSerial(new Serial("USA::JA:ABC1"));
+    location = new Location().withName("HQ").withSerial(new Serial("USA:AF:LO:ABC1"));
+    ssrf.withLocation(location);
+    ssrf.withRole(role);
+    other = new Location().withName("Other").withSerial(new Serial("USA::LO:XYZ9"));
+    ssrf.withLocation(other);
+  }
+
+  /**
+   * Find a data set with and without the SERIAL index and assert that both
+   * lookups find the expected data set.
+   */
+  private <T extends Common<?>> void assertFound(Common<?> expected, String serial, Class<T> type) {
+    ssrf.clearDatasetIndex();
+    T scanned = ssrf.findBySerial(serial, type);
+    ssrf.buildDatasetIndex();
+    try {
+      T indexed = ssrf.findBySerial(serial, type);
+      assertSame(serial + " " + type.getSimpleName(), expected, scanned);
+      assertSame(serial + " " + type.getSimpleName(), scanned, indexed);
+    } finally {
+      ssrf.clearDatasetIndex();
+    }
+  }
+
+  @Test
+  public void testExactMatchWinsOverSerialComponentMatch() {
+    /**
+     * Both data sets share the serial number component. The exact SERIAL match
+     * wins even though the Role precedes the Location.
+     */
+    assertFound(location, "USA:AF:LO:ABC1", Common.class);
+    assertFound(role, "USA::JA:ABC1", Common.class);
+    /**
+     * Without an exact match the first serial number component match wins.
+     */
+    assertFound(role, "USA:N:JA:ABC1", Common.class);
+    assertFound(location, "USA:N:JA:ABC1", Location.class);
+    assertFound(role, "USA:AF:LO:ABC1", Role.class);
+  }
+
+  @Test
+  public void testLookupByCommon() {
+    assertFound(role, "USA::JA:ABC1", Common.class);
+    assertFound(other, "USA::LO:XYZ9", Common.class);
+    assertFound(other, "USA:N:JA:XYZ9", Common.class);
+  }
+
+  @Test
+  public void testUnresolvedReference() {
+    assertFound(null, "USA::JA:NONE", Common.class);
+    assertFound(null, "USA::JA:XYZ9", Role.class);
+    assertFound(null, "not a serial", Common.class);
+    assertNull(ssrf.findBySerial((String) null, Common.class));
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf;
+
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.Contact;
+import us.gov.dod.standard.ssrf._3_1.Location;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.location.Point;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.Lat;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the SSRFUtility object graph walkers on shared and circular data
+ * set references.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class SSRFUtilityTest {
+
+  /**
+   * Build a message in which every Contact is owned by the same Role and the
+   * Role lists every Contact: Contact.owner -> Role -> Role.contact ->
+   * Contact.
+   */
+  private static SSRF buildCircularMessage(int count) {
+    SSRF ssrf = new SSRF().withProperties(SSRFProperties.getDefault());
+    Role role = new Role().withName("Boss");
+    ssrf.withRole(role);
+    for (int i = 0; i < count; i++) {
+      Contact contact = new Contact().withFirstName("John").withLastName("Doe " + i).withOwnerRole(role);
+      role.withContact(contact);
+      ssrf.withContact(contact);
+    }
+    return ssrf;
+  }
+
+  @Test(timeout = 60000)
+  public void testCircularReferences() throws Exception {
+    SSRF ssrf = buildCircularMessage(200);
+    SSRFUtility.prepare(ssrf);
+    SSRFUtility.setProperties(SSRFProperties.getDefault(), ssrf);
+    assertTrue(SSRFUtility.evaluate(ssrf).isEmpty());
+    SSRFUtility.validate(ssrf);
+    SSRF copy = SSRF.fromXml(ssrf.toXML());
+    Role role = copy.getRole().iterator().next();
+    assertEquals(200, role.getContact().size());
+    for (Contact contact : copy.getContact()) {
+      assertSame(role, contact.getOwnerRole());
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void testSharedReferenceIsInspectedOnce() {
+    SSRF ssrf = buildCircularMessage(50);
+    SSRFUtility.prepare(ssrf);
+    SSRFUtility.setProperties(SSRFProperties.getDefault(), ssrf);
+    /**
+     * An error in the shared Role is reported once, against the Role itself,
+     * however many Contacts reference it.
+     */
+    ssrf.getRole().iterator().next().withName("A name longer than the fifty characters permitted by S50");
+    int lengthErrors = 0;
+    for (String message : SSRFUtility.evaluate(ssrf)) {
+      if (message.contains("String length violation")) {
+        assertTrue(message, message.startsWith("Role.name.value (S50)"));
+        lengthErrors++;
+      }
+    }
+    assertEquals(1, lengthErrors);
+  }
+
+  @Test
+  public void testRequiredLabelUsesBoundType() {
+    SSRF ssrf = new SSRF();
+    Point point = new Point().withIdx(ssrf.nextIdx()).withLon(-77.25);
+    point.setLat(new Lat());
+    ssrf.withLocation(new Location().withName("HQ").withPoint(point));
+    SSRFUtility.prepare(ssrf);
+    /**
+     * A fixed-point value is reported by its XML type, not its storage type.
+     */
+    assertTrue(SSRFUtility.evaluate(ssrf).contains("Point.lat \"null\" (BigDecimal) value is required"));
+  }
+}
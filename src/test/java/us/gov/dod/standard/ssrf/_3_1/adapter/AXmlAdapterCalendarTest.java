@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import javax.xml.bind.DatatypeConverter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.D;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.DT;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the hand-written SSRF Date and DateTime conversions. The JVM default
+ * time zone is set to America/New_York so that the handling of values without
+ * a time zone and of calendars outside UTC is visible.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class AXmlAdapterCalendarTest {
+
+  private TimeZone defaultZone;
+
+  @Before
+  public void setUp() {
+    defaultZone = TimeZone.getDefault();
+    TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+  }
+
+  @After
+  public void tearDown() {
+    TimeZone.setDefault(defaultZone);
+  }
+
+  @Test
+  public void testParseDateTime() {
+    assertEquals(1394407800000L, AXmlAdapterCalendar.parseDateTime("2014-03-09T23:30:00Z"));
+    assertEquals(1394407800500L, AXmlAdapterCalendar.parseDateTime("2014-03-09T23:30:00.5Z"));
+    assertEquals(1394389800500L, AXmlAdapterCalendar.parseDateTime("2014-03-09T23:30:00.5+05:00"));
+    assertEquals(1394407800123L, AXmlAdapterCalendar.parseDateTime("2014-03-09T23:30:00.123456Z"));
+    /**
+     * A DateTime without a time zone is read in the JVM default time zone, as
+     * by DatatypeConverter.
+     */
+    assertEquals(1394422200000L, AXmlAdapterCalendar.parseDateTime("2014-03-09T23:30:00"));
+    assertEquals(DatatypeConverter.parseDateTime("2014-03-09T23:30:00.5").getTimeInMillis(), AXmlAdapterCalendar.parseDateTime("2014-03-09T23:30:00.5"));
+    assertEquals(1394422200000L, new XmlAdapterDATETIME().unmarshal("2014-03-09T23:30:00").getTimeInMillis());
+  }
+
+  @Test
+  public void testPrintDateTime() {
+    assertEquals("2014-03-09T23:30:00.000Z", AXmlAdapterCalendar.printDateTime(1394407800000L));
+    assertEquals("1969-12-31T23:59:59.999Z", AXmlAdapterCalendar.printDateTime(-1L));
+    assertEquals("2014-03-09", AXmlAdapterCalendar.printDate(1394407800000L));
+  }
+
+  @Test
+  public void testMarshalCalendarOutsideUtc() throws Exception {
+    Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("GMT+05:00"));
+    calendar.clear();
+    calendar.set(2014, Calendar.MARCH, 9, 23, 30, 0);
+    calendar.set(Calendar.MILLISECOND, 500);
+    /**
+     * The adapter prints a calendar in its own time zone.
+     */
+    assertEquals("2014-03-09T23:30:00.500Z", new XmlAdapterDATETIME().marshal(calendar));
+    /**
+     * A DT keeps only the instant and is written in UTC.
+     */
+    DT dt = new DT(calendar);
+    assertEquals("2014-03-09T18:30:00.500Z", dt.toString());
+    assertEquals("2014-03-09T18:30:00.500Z", new XmlAdapterDATETIME().marshal(dt.getValue()));
+    /**
+     * A D keeps the date of the calendar in its own time zone.
+     */
+    calendar.set(Calendar.HOUR_OF_DAY, 2);
+    assertEquals("2014-03-09", new XmlAdapterDATE().marshal(new D(calendar).getValue()));
+  }
+
+  @Test
+  public void testParseDate() {
+    assertEquals(1394323200000L, AXmlAdapterCalendar.parseDate("2014-03-09"));
+    assertEquals(1394323200000L, AXmlAdapterCalendar.parseDate("2014-03-09Z"));
+    assertEquals(1394323200000L, AXmlAdapterCalendar.parseDate("2014-03-09-05:00"));
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterAZ;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterDBW;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterFREQM;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterUN6;
+
+import static org.junit.Assert.*;
+
+/**
+ * Marshal and unmarshal tests of the number adapters against fixed expected
+ * values. The expected values are those printed by the DecimalFormat based
+ * implementation the hand printer replaces.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class AXmlAdapterNumberTest {
+
+  private final AXmlAdapterNumber freqm = new XmlAdapterFREQM();
+  private final AXmlAdapterNumber dbw = new XmlAdapterDBW();
+  private final AXmlAdapterNumber az = new XmlAdapterAZ();
+  private final AXmlAdapterNumber un6 = new XmlAdapterUN6();
+
+  @Test
+  public void testMarshalDecimal() throws Exception {
+    assertEquals("225.5", freqm.marshal(new BigDecimal("225.5")));
+    assertEquals("225.5", freqm.marshal(225.5));
+    assertEquals("225.123456789", freqm.marshal(new BigDecimal("225.123456789")));
+    assertEquals("225.12345679", freqm.marshal(new BigDecimal("225.1234567895")));
+    assertEquals("0", freqm.marshal(BigDecimal.ZERO));
+    assertEquals("-120.5", dbw.marshal(-120.5));
+    assertEquals("123.4567891", dbw.marshal(new BigDecimal("123.4567891")));
+    assertEquals("359.99", az.marshal(new BigDecimal("359.99")));
+    assertEquals("359.99", az.marshal(359.994));
+  }
+
+  @Test
+  public void testMarshalInteger() throws Exception {
+    assertEquals("123456", un6.marshal(new BigInteger("123456")));
+    assertEquals("0", un6.marshal(BigInteger.ZERO));
+  }
+
+  @Test
+  public void testUnmarshal() throws Exception {
+    assertEquals(new BigDecimal("225.500000000"), freqm.unmarshal("225.5"));
+    assertEquals(new BigDecimal("225.123456789"), freqm.unmarshal("225.123456789"));
+    assertEquals(new BigDecimal("1000000000.000000000"), freqm.unmarshal("1000000000"));
+    assertEquals(new BigDecimal("-3.2500000"), dbw.unmarshal("-3.25"));
+    assertEquals(new BigDecimal("12.3456789"), dbw.unmarshal("12.3456789"));
+    assertEquals(new BigDecimal("12.00"), az.unmarshal("12"));
+    assertEquals(new BigInteger("123456"), un6.unmarshal("123456"));
+  }
+
+  @Test
+  public void testCheck() {
+    assertNull(freqm.check(new BigDecimal("1000000000")));
+    assertEquals(EXmlViolation.MIN_VALUE, freqm.check(new BigDecimal("-1")));
+    assertEquals(EXmlViolation.MAX_VALUE, freqm.check(new BigDecimal("1000000000.5")));
+    assertEquals(EXmlViolation.MAX_VALUE, az.check(360.01));
+    assertEquals(EXmlViolation.MIN_VALUE, un6.check(new BigInteger("-1")));
+  }
+
+  @Test
+  public void testMarshalViolationMessages() {
+    assertMarshalError(freqm, new BigDecimal("-1"), "Minimum value violation FREQM: min 0 exceeded by -1.");
+    assertMarshalError(az, new BigDecimal("360.01"), "Maximum value violation AZ: max 360 exceeded by 360.01.");
+    assertMarshalError(dbw, new BigDecimal("12345.678"), "Maximum value violation DBW pattern #0.0#### exceeded.");
+    assertMarshalError(un6, new BigInteger("1234567"), "Maximum value violation UN6 pattern # exceeded.");
+  }
+
+  @Test(expected = Exception.class)
+  public void testUnmarshalOutOfRange() throws Exception {
+    freqm.unmarshal("1000000001");
+  }
+
+  private static void assertMarshalError(AXmlAdapterNumber adapter, Number value, String message) {
+    try {
+      adapter.marshal(value);
+      fail("Expected a violation for " + value);
+    } catch (Exception ex) {
+      assertEquals(message, ex.getMessage());
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.adapter;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf._3_1.adapter.types.XmlAdapterEMSDES;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the hand-written SERIAL, EMSDES and LAT/LON matchers agree with
+ * the regular expressions they replace.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class XmlPatternsTest {
+
+  private static final String EMSDES = "(A|B|C|D|F|G|H|J|K|L|M|N|P|Q|R|V|W|X|-)(0|1|2|3|7|8|9|X|-)(A|B|C|D|E|F|N|W|X|-)(A|B|C|D|E|F|G|H|J|K|L|M|N|W|X)?(C|F|N|T|W|X)?";
+
+  private static final String[] SERIALS = {
+    "USA::JA:1",
+    "USA:AF:LO:KBG79SJ00000005",
+    "NATO-:ABCD:CN:123456789012345",
+    "USA::JA:1234567890123456",
+    "USA::ja:1",
+    "USA:ABCDE:JA:1",
+    "ABCDEF::JA:1",
+    ":AF:JA:1",
+    "USA::JA:",
+    "USA::JA:1 2",
+    "USA::JA:1\n",
+    "USA::J:1",
+    ""
+  };
+
+  @Test
+  public void testSplitSerialMatchesPattern() {
+    Pattern pattern = Pattern.compile(XmlPatterns.SERIAL);
+    for (String value : SERIALS) {
+      Matcher m = pattern.matcher(value);
+      String[] expected = m.find() ? new String[]{m.group(1), m.group(2), m.group(3), m.group(4)} : null;
+      assertTrue(value, Arrays.equals(expected, XmlPatterns.splitSerial(value)));
+      if (XmlPatterns.isSerial(value)) {
+        assertNotNull(value, expected);
+        assertTrue(value, Arrays.equals(expected, XmlPatterns.splitWellFormedSerial(value)));
+      } else {
+        assertNull(value, XmlPatterns.splitWellFormedSerial(value));
+      }
+    }
+    assertArrayEquals(new String[]{"USA", "AF", "LO", "KBG79SJ00000005"}, XmlPatterns.splitSerial("USA:AF:LO:KBG79SJ00000005"));
+  }
+
+  @Test
+  public void testFindEMSDESMatchesPattern() {
+    Pattern pattern = Pattern.compile(EMSDES);
+    for (String value : new String[]{"16K0F3E", "3K00J3E", "A1A", "-X-", "N0N", "E1A", "A4A", "A1Z", "ab", "", "100KG7W"}) {
+      assertEquals(value, pattern.matcher(value).find(), XmlPatterns.findEMSDES(value));
+    }
+    assertNull(new XmlAdapterEMSDES().check("F3EJN"));
+    assertEquals(EXmlViolation.PATTERN, new XmlAdapterEMSDES().check("zzz"));
+  }
+
+  @Test
+  public void testLatitudeAndLongitude() throws Exception {
+    XmlAdapterLAT lat = new XmlAdapterLAT();
+    XmlAdapterLON lon = new XmlAdapterLON();
+    assertEquals(new BigDecimal("38.841666667"), lat.unmarshal("385030N"));
+    assertEquals(new BigDecimal("-38.841736111"), lat.unmarshal("385030.25S"));
+    assertEquals(new BigDecimal("-77.250000000"), lon.unmarshal("0771500W"));
+    assertEquals(new BigDecimal("122.508333333"), lon.unmarshal("1223030E"));
+    assertNull(lat.unmarshal("X"));
+    /**
+     * Values outside the common form fall back to the REGEX.
+     */
+    assertEquals(new BigDecimal("38.841666667"), lat.unmarshal(" 385030N"));
+    try {
+      lat.unmarshal("95N");
+      fail("Expected a pattern violation");
+    } catch (Exception ex) {
+      assertTrue(ex.getMessage().startsWith("String pattern violation LAT"));
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015 Key Bridge LLC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package us.gov.dod.standard.ssrf._3_1.metadata;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import org.junit.Test;
+import us.gov.dod.standard.ssrf.SSRF;
+import us.gov.dod.standard.ssrf.SSRFProperties;
+import us.gov.dod.standard.ssrf.SSRFSnapshot;
+import us.gov.dod.standard.ssrf._3_1.Role;
+import us.gov.dod.standard.ssrf._3_1.metadata.domains.S50;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the optional metadata attributes held in the side-car are written
+ * to and read from XML and snapshots.
+ *
+ * @author Key Bridge LLC <developer@keybridge.ch>
+ * @version 3.1.0, 10/18/2026
+ * @since 3.1.0
+ */
+public class AMetadataTest {
+
+  /**
+   * Build a message of two roles: the first with every optional attribute set
+   * on its name, the second with none.
+   */
+  private static SSRF buildMessage() {
+    SSRF ssrf = new SSRF().withProperties(SSRFProperties.getDefault());
+    Role role = new Role().withName("Boss");
+    role.getName()
+      .withRemarkRef(BigInteger.ONE, BigInteger.valueOf(2))
+      .withExtReferences(BigInteger.valueOf(3))
+      .withLegacyReleasability("Approved for public release")
+      .withQuality("Outlier")
+      .withRecommendedValue("Boss2");
+    role.getName().setIdref("ID1");
+    role.getName().setAvailability("Available");
+    ssrf.withRole(role);
+    ssrf.withRole(new Role().withName("Plain"));
+    return ssrf;
+  }
+
+  /**
+   * Get the name of the role with the indicated name.
+   */
+  private static S50 getName(SSRF ssrf, String name) {
+    for (Role role : ssrf.getRole()) {
+      if (role.getName().getValue().equals(name)) {
+        return role.getName();
+      }
+    }
+    throw new AssertionError("No role " + name);
+  }
+
+  private static void assertAttributes(S50 name) {
+    assertEquals(new HashSet<>(Arrays.asList(BigInteger.ONE, BigInteger.valueOf(2))), name.getRemarkRef());
+    assertEquals(new HashSet<>(Arrays.asList(BigInteger.valueOf(3))), name.getExtReferences());
+    assertEquals("ID1", name.getIdref());
+    assertEquals("Available", name.getAvailability());
+    assertEquals("Approved for public release", name.getLegacyReleasability());
+    assertEquals("Outlier", name.getQuality());
+    assertEquals("Boss2", name.getRecommendedValue());
+  }
+
+  @Test
+  public void testXmlRoundTrip() throws Exception {
+    String xml = buildMessage().toXML();
+    for (String attribute : new String[]{"remarks=\"1 2\"", "extReferences=\"3\"", "idref=\"ID1\"", "availability=\"Available\"",
+                                         "legacyReleasability=\"Approved for public release\"", "quality=\"Outlier\"", "recommendedValue=\"Boss2\""}) {
+      assertTrue(attribute, xml.contains(attribute));
+    }
+    SSRF copy = SSRF.fromXml(xml);
+    assertAttributes(getName(copy, "Boss"));
+    assertEquals(xml, copy.toXML());
+    /**
+     * The side-car is only allocated for data items with optional attributes.
+     */
+    assertNull(getName(copy, "Plain").attributes);
+    assertNotNull(getName(copy, "Boss").attributes);
+  }
+
+  @Test
+  public void testSnapshotRoundTrip() throws Exception {
+    SSRF ssrf = buildMessage();
+    String xml = ssrf.toXML();
+    SSRF copy = SSRFSnapshot.fromBytes(SSRFSnapshot.toBytes(ssrf));
+    assertAttributes(getName(copy, "Boss"));
+    assertNull(getName(copy, "Plain").attributes);
+    assertEquals(xml, copy.toXML());
+  }
+
+  @Test
+  public void testUnsetAttributes() {
+    S50 name = new S50("Boss").withQuality("Outlier");
+    name.setQuality(null);
+    assertNull(name.getQuality());
+    name.withRemarkRef(BigInteger.ONE);
+    assertTrue(name.isSetRemarkRef());
+    name.unsetRemarkRef();
+    assertFalse(name.isSetRemarkRef());
+    /**
+     * Clearing an attribute that is not set does not allocate the side-car.
+     */
+    S50 plain = new S50("Plain");
+    plain.setIdref(null);
+    plain.setQuality(null);
+    assertNull(plain.attributes);
+  }
+}